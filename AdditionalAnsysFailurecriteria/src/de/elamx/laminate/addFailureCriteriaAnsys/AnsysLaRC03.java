@@ -29,6 +29,7 @@ import de.elamx.laminate.Layer;
 import de.elamx.laminate.Material;
 import de.elamx.laminate.StressStrainState;
 import de.elamx.laminate.failure.Criterion;
+import de.elamx.laminate.failure.FracturePlaneSearch;
 import de.elamx.laminate.failure.ReserveFactor;
 import org.openide.filesystems.FileObject;
 import org.openide.util.NbBundle;
@@ -55,94 +56,85 @@ public class AnsysLaRC03 extends Criterion {
     }
     
     
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_FIBER_TENSION = 1;
+    private static final int MODE_FIBER_COMPRESSION = 2;
+    private static final int MODE_MATRIX_TENSION = 3;
+    private static final int MODE_MATRIX_COMPRESSION = 4;
+
+    private static final String[] MODE_NAMES = {"", "FiberFailureTension", "FiberFailureCompression",
+        "MatrixFailureTension", "MatrixFailureCompression"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.FIBER_FAILURE,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE};
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
         double[] stresses = sss.getStress();
         double[] strains = sss.getStrain();
+        double[] result = new double[1];
+        Parameters p = getParameters(material, Parameters::new).forLayer(l);
+        int mode = evaluate(p, new MatrixCompressionIndex(p), stresses[0], stresses[1], stresses[2], strains[0], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
-         
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
+        rf.setFailureName(mode == MODE_NONE ? "" : NbBundle.getMessage(AnsysLaRC03.class, "AnsysLaRC03." + MODE_NAMES[mode]));
+
+        return rf;
+    }
+
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new).forLayer(layer);
+        MatrixCompressionIndex matrixIndex = new MatrixCompressionIndex(p);
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(p, matrixIndex, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], strains[3 * ii], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @param p Parameter
+     * @param matrixIndex Anstrengungsmaß für Zwischenfaserbruch unter Querdruck
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(Parameters p, MatrixCompressionIndex matrixIndex, double s11, double s22, double s12, double e11, double[] rf, int index) {
+
         /** Unterscheidung von insgesamt 6 Fällen: */
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
-        
-        // Winkel der Bruchebene bei reiner Druchbelastung und Transformation in Radian + Runden auf nächsten ganzzahligen Wert
-        double alp0 = material.getAdditionalValue(ALP0);
-        double alpha0 = (int) Math.ceil(alp0);
-        double alp0Rad = Math.toRadians(alpha0);
-        double alpRad; 
-        double alpMax = 0;
-        
-        // kritische Energiefreisetzungsraten für kritischen Rissfortschritt
-        double g1c = material.getAdditionalValue(G1C);
-        double g2c = material.getAdditionalValue(G2C);
-        
-        
+
         // Reservefaktoren für Faser und Matrix
         double RF_F; double RF_M;
+        double resFac;
+        int mode;
+
+        double R_2is = p.R_2is; double R_Lis = p.R_Lis; double g = p.g;
+        double eta_L = p.eta_L;
+
+        /*Spannungen im Knickband unter Winkel phi (rad): sig2m, tau12m; phi_C Verdrehwinkel für reine Druckbeanspruchung in rad*/
+        double phi = (Math.abs(s12) + (p.G - p.rParCom) * p.phi_C) / (p.G + s11 - s22);
+        double sinPhi = Math.sin(phi);
+        double cosPhi = Math.cos(phi);
+        double sig_2m = sinPhi * sinPhi * s11  + cosPhi * cosPhi * s22;
+        sig_2m -= 2* sinPhi * cosPhi * s12;
+        double tau_12m = - sinPhi * cosPhi * s11 + sinPhi * cosPhi * s22;
+        tau_12m += (cosPhi * cosPhi - sinPhi * sinPhi) * s12;
 
-        // Festigkeiten der Bruchebene R_L und R_T bzw. entsprechende in-situ Festigkeit R_Lis und R_2is für eingebettet Schichten, g Quotion krit. Energiefreisetzungsraten
-        double R_L = material.getRShear();
-        double R_T = material.getRNorCom() * Math.cos(alp0Rad) * (Math.sin(alp0Rad) + Math.cos(alp0Rad) / Math.tan(2 * alp0Rad));
-        double R_2is; double R_Lis; double g;
-        
-        // Parameter für die Berechnung der in-situ Festigkeiten
-        double lam22 = 2 * ( 1 / material.getEnor() - (material.getNue21() * material.getNue21()) / material.getEpar());
-        double lam44 = 1 / material.getG();
-        
-        // effektiv wirkende Spannungen in der Bruchebene
-        double tau_TeffMax = 0; double tau_LeffMax = 0; double tau_TeffMax_m = 0; double tau_LeffMax_m = 0;
-        double tau_Teff; double tau_Leff; double tau_Teff_m; double tau_Leff_m;
-        double fMax = 0; double f_1; double fMax_m = 0;
-        
-        // Berechnung der inneren Reibungsparameter
-        double eta_T = -1 / Math.tan(2 * alp0Rad);
-        double eta_L = - (R_L * Math.cos(2 * alp0Rad)) / (material.getRNorCom() * Math.cos(alp0Rad) * Math.cos(alp0Rad));
-        
-        /* Unterscheidung der in-situ Festigkeiten in dünne und dicke Schichten 
-        Ab hier stehen R_Lis und R_2is stellvertretend für die Festigkeiten der Bruchebene, auch wenn die Schicht nicht eingebettet ist */
-        if (l != null && l.isEmbedded()) {
-            // Schicht ist eingebettet -> in-situ Festigkeiten benutzen
-            if (l.getThickness() >= 0.7) {
-                // dicke eingebette Schicht z.B. wenn mehrere Einzelschichten zu einer dickeren Schicht zusammengefasst werden
-                R_2is = 1.12 * Math.sqrt(2) * material.getRNorTen();
-                R_Lis = Math.sqrt(2) * R_L;
-                g = 1.12 * 1.12 * lam22 / lam44 * (material.getRNorTen() / R_L) * (material.getRNorTen() / R_L);
-            } else {
-                // dünne eingebette Schicht
-                R_2is = Math.sqrt((8 * g1c )/ (Math.PI * l.getThickness() *  lam22));
-                R_Lis = Math.sqrt((8 * g2c )/ (Math.PI * l.getThickness() *  lam44));
-                g = g1c / g2c;
-            }
-        } else {
-            // Schicht ist nicht eingebettet -> R_T und R_L werden weiter verwendet
-            R_2is = material.getRNorTen();
-            R_Lis = R_L;
-            g = 1.12 * 1.12 * lam22 / lam44 * (material.getRNorTen() / R_L) * (material.getRNorTen() / R_L);
-        }
-        
-        /*Spannungen im Knickband unter Winkel phi (rad): sig1m, sig2m, tau12m; phi_C Verdrehwinkel für reine Druckbeanspruchung in rad*/
-        //double phi_C = Math.atan((1 - Math.sqrt(1 - 4 * (R_Lis / material.getRParCom() + eta_L) * (R_Lis / material.getRParCom()))) / (2 * (R_Lis / material.getRParCom() + eta_L)));
-        double phi_C_zaehler = 1 - Math.sqrt(1 - 4 * (R_Lis / material.getRParCom() + eta_L) * (R_Lis / material.getRParCom()));
-        double phi_C_nenner = 2 * (R_Lis / material.getRParCom() + eta_L);
-        double phi_C = Math.atan(phi_C_zaehler / phi_C_nenner);
-        double phi = (Math.abs(stresses[2]) + (material.getG() - material.getRParCom()) * phi_C) / (material.getG() + stresses[0] - stresses[1]);
-        double sig_1m = Math.cos(phi) * Math.cos(phi) * stresses[0]  + Math.sin(phi) * Math.sin(phi) * stresses[1]; 
-        sig_1m += 2* Math.sin(phi) * Math.cos(phi) * stresses[2];
-        double sig_2m = Math.sin(phi) * Math.sin(phi) * stresses[0]  + Math.cos(phi) * Math.cos(phi) * stresses[1];
-        sig_2m -= 2* Math.sin(phi) * Math.cos(phi) * stresses[2];
-        double tau_12m = - Math.sin(phi) * Math.cos(phi) * stresses[0] + Math.sin(phi) * Math.cos(phi) * stresses[1];
-        tau_12m += (Math.cos(phi) * Math.cos(phi) - Math.sin(phi) * Math.sin(phi)) * stresses[2];
-        
         // Faserbruchkriterium
-        if (stresses[0] >= 0.0) {
+        if (s11 >= 0.0) {
             // Faserzugversagen LarC # 3
-            RF_F = material.getRParTen() /  (material.getEpar() * Math.abs(strains[0]));
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FiberFailureTension");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            RF_F = p.rParTen /  (p.ePar * Math.abs(e11));
+            resFac = RF_F;
+            mode = MODE_FIBER_TENSION;
         } else {
             // Faserdruckversagen
             if (sig_2m >= 0) {
@@ -156,95 +148,212 @@ public class AnsysLaRC03 extends Criterion {
                 if (f_4 > 0) {
                     RF_F  = 1 / f_4;
                 } else {
-                    f_4 = 0;
                     RF_F = 9999;
                 }
             }
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FiberFailureCompression");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = RF_F;
+            mode = MODE_FIBER_COMPRESSION;
         }
-        
-        if (stresses[1] >= 0.0) {
+
+        if (s22 >= 0.0) {
             //2. Zwischenfaserbruch durch Zug quer zur Faserrichtung ( sig_2 >=0) LaRC03 #2:
-            double Q_2 = g * (stresses[1] / R_2is) * (stresses[1] / R_2is) + (stresses[2] / R_Lis) * (stresses[2] / R_Lis);
-            double L_2 = (1 - g) * stresses[1] / R_2is;
+            double Q_2 = g * (s22 / R_2is) * (s22 / R_2is) + (s12 / R_Lis) * (s12 / R_Lis);
+            double L_2 = (1 - g) * s22 / R_2is;
             RF_M = (Math.sqrt(L_2 * L_2 + 4.0 * Q_2) - L_2) / (2.0 * Q_2);
             if (RF_M < RF_F) {
-                rf.setMinimalReserveFactor(RF_M );
-                rf.setFailureName("MatrixFailureTension");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_TENSION;
             }
         } else {
-            // Berechnung Reservefaktor für Zwischenfaserbruch Druck LaRC03 #1
-            if (stresses[0] >= -material.getRNorCom()) {
-                // Suche nach der bestimmenden Bruchebene im Intervall 0 <= alpha <= alpha0 für LaRC03#1
-                for (int alpha = 0; alpha <= alpha0; alpha++) {
-                    // Berechnung der Spannungen in der Bruchebene für das aktuelle Alpha
-                    alpRad = Math.toRadians(alpha);
-                    tau_Teff  = - stresses[1] * Math.cos(alpRad) * (Math.sin(alpRad) - eta_T * Math.cos(alpRad));
-                    if (tau_Teff <= 0) {
-                        tau_Teff = 0;
-                    }
-                    tau_Leff = Math.cos(alpRad) * (Math.abs(stresses[2]) + eta_L * stresses[1] * Math.cos(alpRad));
-                    if (tau_Leff <= 0) {
-                        tau_Leff = 0;
-                    }
-                    f_1 = (tau_Teff / R_T) * (tau_Teff / R_T) + (tau_Leff / R_Lis) * (tau_Leff / R_Lis);
-
-                    // Bestimmung maximaler Failure Index fMax
-                    if (f_1 >= fMax) {
-                        fMax = f_1;
-                        alpMax = alpha;
-                        tau_TeffMax = tau_Teff;
-                        tau_LeffMax = tau_Leff;
-                    }
-                }
-                double Q_1 = (tau_TeffMax / R_T) * (tau_TeffMax / R_T) + (tau_LeffMax / R_Lis)  *  (tau_LeffMax / R_Lis);
-                RF_M  = 1 / Math.sqrt(Q_1);
-                if (RF_M < RF_F) {
-                rf.setMinimalReserveFactor(RF_M );
-                rf.setFailureName("MatrixFailureCompression");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
-                }
+            // Berechnung Reservefaktor für Zwischenfaserbruch Druck
+            if (s11 >= -p.rNorCom) {
+                // LaRC03 #1 mit den Spannungen im Lagensystem
+                RF_M = 1 / Math.sqrt(matrixIndex.maximize(s22, s12));
             } else {
-                /* Berechnung Reservefaktor für Zwischenfaserbruch Druck LaRC03 #6 
-                Suche der entscheidenen Bruchebene in Intervall 0<= alpha <= alpha0*/
-                fMax_m = 0;
-                for (int alpha = 0; alpha <= alpha0; alpha++) {
-                    // Berechnung der Spannungen in der Bruchebene für das aktuelle Alpha
-                    alpRad = Math.toRadians(alpha);
-                    tau_Teff_m  = - sig_2m * Math.cos(alpRad) * (Math.sin(alpRad) - eta_T * Math.cos(alpRad));
-                    if (tau_Teff_m <= 0) {
-                        tau_Teff_m = 0;
-                    }
-                    tau_Leff_m = Math.cos(alpRad) * (Math.abs(tau_12m) + eta_L * sig_2m * Math.cos(alpRad));
-                    if (tau_Leff_m <= 0) {
-                        tau_Leff_m = 0;
-                    }
-                    f_1 = (tau_Teff_m / R_T) * (tau_Teff_m / R_T) + (tau_Leff_m / R_Lis) * (tau_Leff_m / R_Lis);
-                    // Bestimmung maximaler Failure Index fMax
-                    if (f_1 >= fMax_m) {
-                        fMax_m = f_1;
-                        alpMax = alpha;
-                        tau_TeffMax_m = tau_Teff_m;
-                        tau_LeffMax_m = tau_Leff_m;
-                    }
-                }
-                double Q_6 = (tau_TeffMax_m / R_T) * (tau_TeffMax_m / R_T) + (tau_LeffMax_m / R_Lis)  *  (tau_LeffMax_m / R_Lis);
-                RF_M  = 1 / Math.sqrt(Q_6);
+                // LaRC03 #6 mit den Spannungen im Knickband
+                RF_M = 1 / Math.sqrt(matrixIndex.maximize(sig_2m, tau_12m));
             }
             if (RF_M  < RF_F) {
-            rf.setMinimalReserveFactor(RF_M);
-            rf.setFailureName("MatrixFailureCompression");
-            rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_COMPRESSION;
             }
         }
-        
-        rf.setFailureName(NbBundle.getMessage(AnsysLaRC03.class, "AnsysLaRC03." + rf.getFailureName()));
-        
-        System.out.println("RF = " + rf.getMinimalReserveFactor());
-        
-        return rf;
+
+        rf[index] = resFac;
+        return mode;
+    }
+
+    /**
+     * Anstrengungsmaß für Zwischenfaserbruch unter Querdruck (LaRC03 #1 bzw.
+     * #6) in Abhängigkeit vom Winkel der Bruchebene. Ein Objekt wird je
+     * Aufruf von {@link #getReserveFactor} bzw. {@link #getReserveFactors}
+     * angelegt und für alle Punkte wiederverwendet, damit pro
+     * Spannungszustand kein Objekt erzeugt wird. Es darf daher nicht von
+     * mehreren Threads gleichzeitig benutzt werden.
+     */
+    private static final class MatrixCompressionIndex implements FracturePlaneSearch.FailureIndex {
+
+        private final int alpha0;
+        private final double R_T, R_Lis, eta_T, eta_L;
+        // Spannungen des aktuell ausgewerteten Zustandes
+        private double sig2, absTau12;
+
+        private MatrixCompressionIndex(Parameters p) {
+            alpha0 = p.alpha0;
+            R_T = p.R_T;
+            R_Lis = p.R_Lis;
+            eta_T = p.eta_T;
+            eta_L = p.eta_L;
+        }
+
+        /**
+         * Sucht die maßgebende Bruchebene im Intervall 0 &le; alpha &le;
+         * alpha0 und liefert das zugehörige Anstrengungsmaß. Der 1°-Scan wird
+         * dabei mit {@link FracturePlaneSearch} verfeinert.
+         *
+         * @param sig2 Querspannung
+         * @param tau12 Schubspannung
+         * @return maximales Anstrengungsmaß
+         */
+        private double maximize(double sig2, double tau12) {
+            this.sig2 = sig2;
+            this.absTau12 = Math.abs(tau12);
+            return FracturePlaneSearch.maximize(this, 0, alpha0);
+        }
+
+        @Override
+        public double value(double cosAlpha, double sinAlpha) {
+            // effektiv wirkende Spannungen in der Bruchebene
+            double tau_Teff = - sig2 * cosAlpha * (sinAlpha - eta_T * cosAlpha);
+            if (tau_Teff <= 0) {
+                tau_Teff = 0;
+            }
+            double tau_Leff = cosAlpha * (absTau12 + eta_L * sig2 * cosAlpha);
+            if (tau_Leff <= 0) {
+                tau_Leff = 0;
+            }
+            return (tau_Teff / R_T) * (tau_Teff / R_T) + (tau_Leff / R_Lis) * (tau_Leff / R_Lis);
+        }
+    }
+
+    /**
+     * Parameter des LaRC03-Kriteriums. Die über
+     * {@link #getParameters(Material, java.util.function.Function)}
+     * zwischengespeicherten Parameter gelten für nicht eingebettete Lagen.
+     * Die Parameter für eingebettete Lagen werden über
+     * {@link #forLayer(Layer)} bestimmt.
+     */
+    private static final class Parameters {
+
+        // Winkel der Bruchebene bei reiner Druckbelastung, gerundet auf den nächsten ganzzahligen Wert
+        private final int alpha0;
+        private final double rParTen, rParCom, rNorTen, rNorCom, ePar, G;
+        // Festigkeit der Bruchebene, g Quotient krit. Energiefreisetzungsraten
+        private final double R_L, R_T;
+        // innere Reibungsparameter
+        private final double eta_T, eta_L;
+        // kritische Energiefreisetzungsraten und Parameter für die Berechnung der in-situ Festigkeiten
+        private final double g1c, g2c, lam22, lam44;
+        // in-situ Festigkeiten (bzw. Festigkeiten der Bruchebene), g Quotient krit. Energiefreisetzungsraten
+        private final double R_2is, R_Lis, g;
+        // Verdrehwinkel für reine Druckbeanspruchung in rad
+        private final double phi_C;
+        // Parameter für dicke eingebettete Lagen
+        private final Parameters thickEmbedded;
+
+        private Parameters(Material material) {
+            double alp0 = material.getAdditionalValue(ALP0);
+            alpha0 = (int) Math.ceil(alp0);
+            double alp0Rad = Math.toRadians(alpha0);
+
+            // kritische Energiefreisetzungsraten für kritischen Rissfortschritt
+            g1c = material.getAdditionalValue(G1C);
+            g2c = material.getAdditionalValue(G2C);
+
+            rParTen = material.getRParTen();
+            rParCom = material.getRParCom();
+            rNorTen = material.getRNorTen();
+            rNorCom = material.getRNorCom();
+            ePar = material.getEpar();
+            G = material.getG();
+
+            // Festigkeiten der Bruchebene R_L und R_T
+            R_L = material.getRShear();
+            R_T = material.getRNorCom() * Math.cos(alp0Rad) * (Math.sin(alp0Rad) + Math.cos(alp0Rad) / Math.tan(2 * alp0Rad));
+
+            // Parameter für die Berechnung der in-situ Festigkeiten
+            lam22 = 2 * ( 1 / material.getEnor() - (material.getNue21() * material.getNue21()) / material.getEpar());
+            lam44 = 1 / material.getG();
+
+            // Berechnung der inneren Reibungsparameter
+            eta_T = -1 / Math.tan(2 * alp0Rad);
+            eta_L = - (R_L * Math.cos(2 * alp0Rad)) / (material.getRNorCom() * Math.cos(alp0Rad) * Math.cos(alp0Rad));
+
+            // Schicht ist nicht eingebettet -> R_T und R_L werden weiter verwendet
+            R_2is = rNorTen;
+            R_Lis = R_L;
+            g = 1.12 * 1.12 * lam22 / lam44 * (rNorTen / R_L) * (rNorTen / R_L);
+            phi_C = phiC(R_Lis, rParCom, eta_L);
+
+            // dicke eingebette Schicht z.B. wenn mehrere Einzelschichten zu einer dickeren Schicht zusammengefasst werden
+            thickEmbedded = new Parameters(this, 1.12 * Math.sqrt(2) * rNorTen, Math.sqrt(2) * R_L, g);
+        }
+
+        /**
+         * Übernimmt die Materialparameter von <CODE>base</CODE> mit
+         * abweichenden Festigkeiten der Bruchebene.
+         */
+        private Parameters(Parameters base, double R_2is, double R_Lis, double g) {
+            alpha0 = base.alpha0;
+            rParTen = base.rParTen;
+            rParCom = base.rParCom;
+            rNorTen = base.rNorTen;
+            rNorCom = base.rNorCom;
+            ePar = base.ePar;
+            G = base.G;
+            R_L = base.R_L;
+            R_T = base.R_T;
+            eta_T = base.eta_T;
+            eta_L = base.eta_L;
+            g1c = base.g1c;
+            g2c = base.g2c;
+            lam22 = base.lam22;
+            lam44 = base.lam44;
+            this.R_2is = R_2is;
+            this.R_Lis = R_Lis;
+            this.g = g;
+            phi_C = phiC(R_Lis, rParCom, eta_L);
+            thickEmbedded = null;
+        }
+
+        /**
+         * Liefert die Parameter für die übergebene Lage. Unterschieden werden
+         * die in-situ Festigkeiten für dünne und dicke eingebettete Schichten.
+         * Ab hier stehen R_Lis und R_2is stellvertretend für die Festigkeiten
+         * der Bruchebene, auch wenn die Schicht nicht eingebettet ist.
+         *
+         * @param l Lage oder <CODE>null</CODE>
+         * @return Parameter für die Lage
+         */
+        private Parameters forLayer(Layer l) {
+            if (l != null && l.isEmbedded()) {
+                // Schicht ist eingebettet -> in-situ Festigkeiten benutzen
+                if (l.getThickness() >= 0.7) {
+                    return thickEmbedded;
+                }
+                // dünne eingebette Schicht
+                return new Parameters(this,
+                        Math.sqrt((8 * g1c )/ (Math.PI * l.getThickness() *  lam22)),
+                        Math.sqrt((8 * g2c )/ (Math.PI * l.getThickness() *  lam44)),
+                        g1c / g2c);
+            }
+            return this;
+        }
+
+        private static double phiC(double R_Lis, double rParCom, double eta_L) {
+            double phi_C_zaehler = 1 - Math.sqrt(1 - 4 * (R_Lis / rParCom + eta_L) * (R_Lis / rParCom));
+            double phi_C_nenner = 2 * (R_Lis / rParCom + eta_L);
+            return Math.atan(phi_C_zaehler / phi_C_nenner);
+        }
     }
 }
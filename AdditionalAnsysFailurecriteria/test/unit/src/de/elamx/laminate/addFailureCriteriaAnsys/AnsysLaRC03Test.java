@@ -0,0 +1,311 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.addFailureCriteriaAnsys;
+
+import com.ardor3d.scenegraph.Mesh;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.Layer;
+import de.elamx.laminate.StressStrainState;
+import de.elamx.laminate.failure.FracturePlaneSearch;
+import de.elamx.laminate.failure.ReserveFactor;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.openide.filesystems.FileObject;
+import org.openide.filesystems.FileUtil;
+
+/**
+ * Vergleich der verfeinerten Bruchebenensuche mit der bisherigen Suche in
+ * 1°-Schritten.
+ *
+ * @author Andreas Hauffe
+ */
+public class AnsysLaRC03Test {
+
+    private static final int ALPHA0 = 53;
+
+    // Reservefaktoren der bisherigen Implementierung mit 1°-Scan
+    private static final double[][] STRESSES = {
+        {0.0, -100.0, 30.0},
+        {-100.0, -150.0, 0.0},
+        {50.0, -60.0, 70.0},
+        {-200.0, -180.0, 20.0},
+        {-600.0, -80.0, 20.0},
+        {-900.0, -30.0, -40.0},
+        {-400.0, -120.0, -60.0},
+        {30.0, -20.0, 50.0}};
+    private static final double[] SCAN_RESERVE_FACTORS = {
+        2.170408116799362,
+        1.4666666666666666,
+        1.7537114209910538,
+        1.222222222222222,
+        2.113133041102313,
+        4.161538634629792,
+        1.9045596983953827,
+        2.0560504963040547};
+    private static final int[] SCAN_FAILURE_TYPES = {
+        ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.FIBER_FAILURE,
+        ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE};
+
+    public AnsysLaRC03Test() {
+    }
+
+    private static DefaultMaterial createMaterial() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(AnsysLaRC03.ALP0, (double) ALPHA0);
+        mat.putAdditionalValue(AnsysLaRC03.G1C, 0.2);
+        mat.putAdditionalValue(AnsysLaRC03.G2C, 0.8);
+        return mat;
+    }
+
+    private static AnsysLaRC03 createCriterion() throws Exception {
+        FileObject obj = FileUtil.createMemoryFileSystem().getRoot().createData("AnsysLaRC03");
+        obj.setAttribute("displayName", "LaRC03");
+        obj.setAttribute("description", "LaRC03");
+        obj.setAttribute("color.r", "0.5");
+        obj.setAttribute("color.g", "0.5");
+        obj.setAttribute("color.b", "0.5");
+        return new AnsysLaRC03(obj);
+    }
+
+    /**
+     * Die Reservefaktoren des Kriteriums dürfen nur innerhalb einer kleinen
+     * Toleranz von denen des 1°-Scans abweichen und nie größer (also
+     * unkonservativer) sein.
+     */
+    @Test
+    public void compareWithScanReference() throws Exception {
+        DefaultMaterial mat = createMaterial();
+        AnsysLaRC03 criterion = createCriterion();
+
+        for (int ii = 0; ii < STRESSES.length; ii++) {
+            double[] stress = STRESSES[ii].clone();
+            double[] strain = new double[]{stress[0] / mat.getEpar(), 0.0, 0.0};
+            ReserveFactor rf = criterion.getReserveFactor(mat, null, new StressStrainState(stress, strain));
+            double expected = SCAN_RESERVE_FACTORS[ii];
+            assertEquals("Case " + ii, expected, rf.getMinimalReserveFactor(), 1.0E-3 * expected);
+            assertTrue("Case " + ii, rf.getMinimalReserveFactor() <= expected);
+            assertEquals("Case " + ii, SCAN_FAILURE_TYPES[ii], rf.getFailureType());
+        }
+    }
+
+    /**
+     * Die Auswertung vieler Punkte muss ohne Lage sowie für eine äußere und
+     * eine eingebettete Lage bitgenau die Ergebnisse der Einzelauswertung
+     * liefern.
+     */
+    @Test
+    public void bulkEqualsScalar() throws Exception {
+        DefaultMaterial mat = createMaterial();
+        AnsysLaRC03 criterion = createCriterion();
+
+        int numPoints = 2000;
+        Random random = new Random(4711);
+        double[] scale = {3000.0, 400.0, 200.0};
+        double[] stresses = new double[3 * numPoints];
+        double[] strains = new double[3 * numPoints];
+        for (int ii = 0; ii < numPoints; ii++) {
+            for (int kk = 0; kk < 3; kk++) {
+                stresses[3 * ii + kk] = scale[kk] * (random.nextDouble() - 0.5);
+            }
+            if (ii % 50 == 0) {
+                Arrays.fill(stresses, 3 * ii, 3 * ii + 3, 0.0);
+            } else if (ii % 5 == 0) {
+                stresses[3 * ii + (ii / 5) % 3] = 0.0;
+            }
+            strains[3 * ii] = stresses[3 * ii] / mat.getEpar();
+            strains[3 * ii + 1] = stresses[3 * ii + 1] / mat.getEnor();
+            strains[3 * ii + 2] = stresses[3 * ii + 2] / mat.getG();
+        }
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat", false);
+        for (int jj = 0; jj < 3; jj++) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + jj, mat, 0.0, 0.125));
+        }
+        assertTrue(lam.getLayers().get(1).isEmbedded());
+
+        for (Layer layer : new Layer[]{null, lam.getLayers().get(0), lam.getLayers().get(1)}) {
+            double[] reserveFactors = new double[numPoints];
+            int[] failureTypes = new int[numPoints];
+            criterion.getReserveFactors(mat, layer, stresses, strains, numPoints, reserveFactors, failureTypes);
+            for (int ii = 0; ii < numPoints; ii++) {
+                StressStrainState sss = new StressStrainState(Arrays.copyOfRange(stresses, 3 * ii, 3 * ii + 3), Arrays.copyOfRange(strains, 3 * ii, 3 * ii + 3));
+                ReserveFactor rf = criterion.getReserveFactor(mat, layer, sss);
+                assertEquals("Point " + ii, rf.getMinimalReserveFactor(), reserveFactors[ii], 0.0);
+                assertEquals("Point " + ii, rf.getFailureType(), failureTypes[ii]);
+            }
+        }
+    }
+
+    /**
+     * Die zwischengespeicherten Parameter des Kriteriums müssen nach einer
+     * Änderung des Materials neu bestimmt werden.
+     */
+    @Test
+    public void parametersFollowMaterialChanges() throws Exception {
+        AnsysLaRC03 criterion = createCriterion();
+        DefaultMaterial mat = createMaterial();
+
+        double[] stress = STRESSES[0].clone();
+        double[] strain = new double[3];
+        StressStrainState sss = new StressStrainState(stress, strain);
+        assertEquals(SCAN_RESERVE_FACTORS[0], criterion.getReserveFactor(mat, null, sss).getMinimalReserveFactor(), 1.0E-3 * SCAN_RESERVE_FACTORS[0]);
+
+        mat.setRShear(70.0);
+        mat.putAdditionalValue(AnsysLaRC03.ALP0, 51.0);
+
+        DefaultMaterial changed = createMaterial();
+        changed.setRShear(70.0);
+        changed.putAdditionalValue(AnsysLaRC03.ALP0, 51.0);
+        double expected = createCriterion().getReserveFactor(changed, null, sss).getMinimalReserveFactor();
+
+        assertTrue(Math.abs(expected - SCAN_RESERVE_FACTORS[0]) > 1.0E-3);
+        assertEquals(expected, criterion.getReserveFactor(mat, null, sss).getMinimalReserveFactor(), 0.0);
+    }
+
+    /**
+     * Das Netz der Versagensfläche wird je Material zwischengespeichert und
+     * nach einer Änderung des Materials neu erzeugt.
+     */
+    @Test
+    public void meshIsCachedUntilMaterialChanges() throws Exception {
+        AnsysLaRC03 criterion = createCriterion();
+        DefaultMaterial mat = createMaterial();
+
+        Mesh first = criterion.getAsMesh(mat, 1.0);
+        FloatBuffer vertices = first.getMeshData().getVertexBuffer();
+        // mindestens das Startgitter mit 60 x 30 Punkten
+        assertEquals(0, vertices.limit() % 12);
+        assertTrue(vertices.limit() / 12 >= 59 * 29);
+        for (int ii = 0; ii < vertices.limit(); ii++) {
+            assertFalse(Float.isNaN(vertices.get(ii)) || Float.isInfinite(vertices.get(ii)));
+        }
+
+        Mesh second = criterion.getAsMesh(mat, 1.0);
+        assertNotSame(vertices, second.getMeshData().getVertexBuffer());
+        assertEquals(vertices, second.getMeshData().getVertexBuffer());
+        assertEquals(first.getMeshData().getNormalBuffer(), second.getMeshData().getNormalBuffer());
+
+        mat.setRNorTen(70.0);
+        Mesh changed = criterion.getAsMesh(mat, 1.0);
+        assertFalse(vertices.equals(changed.getMeshData().getVertexBuffer()));
+        assertEquals(changed.getMeshData().getVertexBuffer(), createCriterion().getAsMesh(mat, 1.0).getMeshData().getVertexBuffer());
+    }
+
+    /**
+     * Vergleich von {@link FracturePlaneSearch#maximize} mit dem bisherigen
+     * Scan in 1°-Schritten für zufällige Spannungszustände. Ohne
+     * Verfeinerung müssen die Ergebnisse identisch sein, mit Verfeinerung
+     * nur geringfügig größer.
+     */
+    @Test
+    public void compareSearchWithBruteForceScan() {
+        final double R_T = 60.0;
+        final double R_L = 90.0;
+        final double eta_T = -1 / Math.tan(2 * Math.toRadians(ALPHA0));
+        final double eta_L = 0.2;
+
+        int numCases = 2000;
+        Random random = new Random(4711);
+        double[] sig2 = new double[numCases];
+        double[] tau12 = new double[numCases];
+        for (int ii = 0; ii < numCases; ii++) {
+            sig2[ii] = -300.0 * random.nextDouble();
+            tau12[ii] = 200.0 * (random.nextDouble() - 0.5);
+        }
+
+        double maxRelDiff = 0.0;
+        for (int ii = 0; ii < numCases; ii++) {
+            double scan = bruteForceScan(sig2[ii], tau12[ii], R_T, R_L, eta_T, eta_L);
+            FracturePlaneSearch.FailureIndex index = failureIndex(sig2[ii], tau12[ii], R_T, R_L, eta_T, eta_L);
+            assertEquals(scan, FracturePlaneSearch.maximize(index, 0, ALPHA0, 0.0), 0.0);
+            double refined = FracturePlaneSearch.maximize(index, 0, ALPHA0);
+            assertTrue(refined >= scan);
+            if (scan > 0.0) {
+                maxRelDiff = Math.max(maxRelDiff, (refined - scan) / scan);
+            }
+        }
+        assertTrue("max. relative difference " + maxRelDiff, maxRelDiff < 1.0E-3);
+    }
+
+    private static FracturePlaneSearch.FailureIndex failureIndex(double sig2, double tau12,
+            double R_T, double R_L, double eta_T, double eta_L) {
+        return (cosAlpha, sinAlpha) -> {
+            double tau_Teff = - sig2 * cosAlpha * (sinAlpha - eta_T * cosAlpha);
+            if (tau_Teff <= 0) {
+                tau_Teff = 0;
+            }
+            double tau_Leff = cosAlpha * (Math.abs(tau12) + eta_L * sig2 * cosAlpha);
+            if (tau_Leff <= 0) {
+                tau_Leff = 0;
+            }
+            return (tau_Teff / R_T) * (tau_Teff / R_T) + (tau_Leff / R_L) * (tau_Leff / R_L);
+        };
+    }
+
+    /**
+     * Bisherige Suche der Bruchebene (LaRC03 #1) in 1°-Schritten.
+     */
+    private static double bruteForceScan(double sig2, double tau12,
+            double R_T, double R_L, double eta_T, double eta_L) {
+        double fMax = 0;
+        for (int alpha = 0; alpha <= ALPHA0; alpha++) {
+            double alpRad = Math.toRadians(alpha);
+            double tau_Teff = - sig2 * Math.cos(alpRad) * (Math.sin(alpRad) - eta_T * Math.cos(alpRad));
+            if (tau_Teff <= 0) {
+                tau_Teff = 0;
+            }
+            double tau_Leff = Math.cos(alpRad) * (Math.abs(tau12) + eta_L * sig2 * Math.cos(alpRad));
+            if (tau_Leff <= 0) {
+                tau_Leff = 0;
+            }
+            double f_1 = (tau_Teff / R_T) * (tau_Teff / R_T) + (tau_Leff / R_L) * (tau_Leff / R_L);
+            if (f_1 >= fMax) {
+                fMax = f_1;
+            }
+        }
+        return fMax;
+    }
+}
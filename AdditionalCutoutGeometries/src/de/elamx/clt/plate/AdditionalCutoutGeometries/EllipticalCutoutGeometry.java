@@ -42,7 +42,7 @@ public class EllipticalCutoutGeometry extends CutoutGeometry{
     
     private static final double MAX_ASPECT_RATIO = Double.POSITIVE_INFINITY;
     
-    private static Property[] props;
+    private static volatile Property[] props;
     
     public EllipticalCutoutGeometry(){
         this(NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.description"), 2.0, 1.0);
@@ -72,20 +72,25 @@ public class EllipticalCutoutGeometry extends CutoutGeometry{
     }
     
     private void initProperties(){
-        props = new Property[3];
-        
-        props[0] = new Property(PROP_NAME, String.class, 
-                NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.name"), 
-                NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.name.shortDescription"), 
-                PropertyEditorSupport.class);
-        props[1] = new Property(PROP_A, double.class, 
-                NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.a"), 
-                NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.a.shortDescription"), 
-                ThicknessPropertyEditorSupport.class);
-        props[2] = new Property(PROP_B, double.class, 
-                NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.b"), 
-                NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.b.shortDescription"), 
-                ThicknessPropertyEditorSupport.class);
+        synchronized (EllipticalCutoutGeometry.class) {
+            if (props != null) {return;}
+            
+            Property[] p = new Property[3];
+            
+            p[0] = new Property(PROP_NAME, String.class, 
+                    NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.name"), 
+                    NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.name.shortDescription"), 
+                    PropertyEditorSupport.class);
+            p[1] = new Property(PROP_A, double.class, 
+                    NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.a"), 
+                    NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.a.shortDescription"), 
+                    ThicknessPropertyEditorSupport.class);
+            p[2] = new Property(PROP_B, double.class, 
+                    NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.b"), 
+                    NbBundle.getMessage(EllipticalCutoutGeometry.class, "EllipticalCutoutGeometry.b.shortDescription"), 
+                    ThicknessPropertyEditorSupport.class);
+            props = p;
+        }
     }
 
     @Override
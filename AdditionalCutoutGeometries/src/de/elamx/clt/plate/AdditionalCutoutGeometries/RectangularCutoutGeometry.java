@@ -76,7 +76,7 @@ public class RectangularCutoutGeometry extends CutoutGeometry{
 
     protected int terme;
     
-    private static Property[] props;
+    private static volatile Property[] props;
     
     public RectangularCutoutGeometry(){
         this(NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.description"), 10.0, 1.0, 11);
@@ -286,24 +286,29 @@ public class RectangularCutoutGeometry extends CutoutGeometry{
     
     //@Override
     private void initProperties(){
-        props = new Property[4];
-        
-        props[0] = new Property(PROP_NAME, String.class, 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.name"), 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.name.shortDescription"), 
-                PropertyEditorSupport.class);
-        props[1] = new Property(PROP_A, double.class, 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.a"), 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.a.shortDescription"), 
-                ThicknessPropertyEditorSupport.class);
-        props[2] = new Property(PROP_B, double.class, 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.b"), 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.b.shortDescription"), 
-                ThicknessPropertyEditorSupport.class);
-        props[3] = new Property(PROP_TERM, int.class, 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.terme"), 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.terme.shortDescription"),
-                CutoutTermPropertyEditorSupport.class);
+        synchronized (RectangularCutoutGeometry.class) {
+            if (props != null) {return;}
+            
+            Property[] p = new Property[4];
+            
+            p[0] = new Property(PROP_NAME, String.class, 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.name"), 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.name.shortDescription"), 
+                    PropertyEditorSupport.class);
+            p[1] = new Property(PROP_A, double.class, 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.a"), 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.a.shortDescription"), 
+                    ThicknessPropertyEditorSupport.class);
+            p[2] = new Property(PROP_B, double.class, 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.b"), 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.b.shortDescription"), 
+                    ThicknessPropertyEditorSupport.class);
+            p[3] = new Property(PROP_TERM, int.class, 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.terme"), 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "RectangularCutoutGeometry.terme.shortDescription"),
+                    CutoutTermPropertyEditorSupport.class);
+            props = p;
+        }
     }
 
     @Override
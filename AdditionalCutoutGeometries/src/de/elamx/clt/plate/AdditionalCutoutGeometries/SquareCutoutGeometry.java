@@ -39,7 +39,7 @@ import org.openide.util.lookup.ServiceProvider;
 @ServiceProvider(service=CutoutGeometry.class)
 public class SquareCutoutGeometry extends RectangularCutoutGeometry{
     
-    private static Property[] props;
+    private static volatile Property[] props;
     
     public SquareCutoutGeometry(){
         this(NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.description"), 1.0, 11);
@@ -47,25 +47,30 @@ public class SquareCutoutGeometry extends RectangularCutoutGeometry{
     
     public SquareCutoutGeometry(String name, double a, int terme) {
         super(name, a,a,terme);
-        initProperties();
+        if (props == null) initProperties();
     }
     
     //@Override
     private void initProperties(){
-        props = new Property[3];
-        
-        props[0] = new Property(PROP_NAME, String.class, 
-                NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.name"), 
-                NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.name.shortDescription"), 
-                PropertyEditorSupport.class);
-        props[1] = new Property(PROP_A, double.class, 
-                NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.a"), 
-                NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.a.shortDescription"), 
-                ThicknessPropertyEditorSupport.class);
-        props[2] = new Property(PROP_TERM, int.class, 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "SquareCutoutGeometry.terme"), 
-                NbBundle.getMessage(RectangularCutoutGeometry.class, "SquareCutoutGeometry.terme.shortDescription"),
-                CutoutTermPropertyEditorSupport.class);
+        synchronized (SquareCutoutGeometry.class) {
+            if (props != null) {return;}
+            
+            Property[] p = new Property[3];
+            
+            p[0] = new Property(PROP_NAME, String.class, 
+                    NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.name"), 
+                    NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.name.shortDescription"), 
+                    PropertyEditorSupport.class);
+            p[1] = new Property(PROP_A, double.class, 
+                    NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.a"), 
+                    NbBundle.getMessage(SquareCutoutGeometry.class, "SquareCutoutGeometry.a.shortDescription"), 
+                    ThicknessPropertyEditorSupport.class);
+            p[2] = new Property(PROP_TERM, int.class, 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "SquareCutoutGeometry.terme"), 
+                    NbBundle.getMessage(RectangularCutoutGeometry.class, "SquareCutoutGeometry.terme.shortDescription"),
+                    CutoutTermPropertyEditorSupport.class);
+            props = p;
+        }
     }
     
     @Override
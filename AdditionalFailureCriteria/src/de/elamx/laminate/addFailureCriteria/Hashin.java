@@ -55,70 +55,107 @@ public class Hashin extends Criterion {
         super(obj);
     }
 
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_UNDEFINED = 1;
+    private static final int MODE_FIBER_TENSION = 2;
+    private static final int MODE_FIBER_COMPRESSION = 3;
+    private static final int MODE_MATRIX_TENSION = 4;
+    private static final int MODE_MATRIX_COMPRESSION = 5;
+
+    private static final String[] MODE_NAMES = {"", "", "FiberFailureTension", "FiberFailureCompression",
+        "MatrixFailureTension", "MatrixFailureCompression"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.UNDAMAGED,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.FIBER_FAILURE, ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE};
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
-
-        double dTemp;
-
         double[] stresses = sss.getStress();
+        double[] result = new double[1];
+        int mode = evaluate(getParameters(material, Parameters::new), stresses[0], stresses[1], stresses[2], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
+        rf.setFailureName(mode == MODE_NONE ? "" : NbBundle.getMessage(Hashin.class, "Hashin." + MODE_NAMES[mode]));
 
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+        return rf;
+    }
+
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new);
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(p, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(Parameters p, double s11, double s22, double s12, double[] rf, int index) {
+
+        double dTemp;
+
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
         double resFac_Fiber = 0;
         double resFac_Matrix;
+        double resFac = 0.0;
+        int mode = MODE_UNDEFINED;
 
         //Faserzugversagen
-        if (stresses[0] >= 0.0) {
+        if (s11 >= 0.0) {
 
-            double F_S = stresses[0] * stresses[0] / material.getRParTen() / material.getRParTen();
-            F_S += stresses[2] * stresses[2] / material.getRShear() / material.getRShear();
+            double F_S = s11 * s11 / p.rParTen / p.rParTen;
+            F_S += s12 * s12 / p.rShear / p.rShear;
             resFac_Fiber = Math.sqrt(1 / (F_S));
 
-            rf.setMinimalReserveFactor(resFac_Fiber);
-            rf.setFailureName("FiberFailureTension");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = resFac_Fiber;
+            mode = MODE_FIBER_TENSION;
         }
 
         //Faserdruckversagen
-        if (stresses[0] < 0.0) {
+        if (s11 < 0.0) {
 
-            double F_S = Math.sqrt(stresses[0] * stresses[0]) / material.getRParCom();
+            double F_S = Math.sqrt(s11 * s11) / p.rParCom;
             resFac_Fiber = 1 / (F_S);
 
-            rf.setMinimalReserveFactor(resFac_Fiber);
-            rf.setFailureName("FiberFailureCompression");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = resFac_Fiber;
+            mode = MODE_FIBER_COMPRESSION;
         }
 
         //Matrixzugversagen
-        if (stresses[1] >= 0.0) {
+        if (s22 >= 0.0) {
 
-            double M_S = stresses[1] * stresses[1] / material.getRNorTen() / material.getRNorTen();
-            M_S += stresses[2] * stresses[2] / material.getRShear() / material.getRShear();
+            double M_S = s22 * s22 / p.rNorTen / p.rNorTen;
+            M_S += s12 * s12 / p.rShear / p.rShear;
             resFac_Matrix = Math.sqrt(1 / (M_S));
 
             if (resFac_Matrix < resFac_Fiber) {
-                rf.setMinimalReserveFactor(resFac_Matrix);
-                rf.setFailureName("MatrixFailureTension");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = resFac_Matrix;
+                mode = MODE_MATRIX_TENSION;
             }
 
         }
 
         //Matrixdruckversagen
-        if (stresses[1] < 0.0) {
+        if (s22 < 0.0) {
 
-            double Q = 0.25 * stresses[1] * stresses[1] / material.getRShear() / material.getRShear();
-            Q += stresses[2] * stresses[2] / material.getRShear() / material.getRShear();
+            double Q = 0.25 * s22 * s22 / p.rShear / p.rShear;
+            Q += s12 * s12 / p.rShear / p.rShear;
+
+            double L = p.lFactor * s22;
 
-            double L = 0.25 * material.getRNorCom() / material.getRShear() / material.getRShear();
-            L -= 1.0 / material.getRNorCom();
-            L *= stresses[1];
-            
             dTemp = L * L + 4.0 * Q;
             if (dTemp < 0.0) {
                 throw new ArithmeticException("illegal double value: " + dTemp);
@@ -127,16 +164,35 @@ public class Hashin extends Criterion {
             resFac_Matrix = (Math.sqrt(dTemp) - L) / (2.0 * Q);
 
             if (resFac_Matrix < resFac_Fiber) {
-                rf.setMinimalReserveFactor(resFac_Matrix);
-                rf.setFailureName("MatrixFailureCompression");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = resFac_Matrix;
+                mode = MODE_MATRIX_COMPRESSION;
             }
 
         }
 
-        rf.setFailureName(NbBundle.getMessage(Hashin.class, "Hashin." + rf.getFailureName()));
+        rf[index] = resFac;
+        return mode;
+    }
+
+    /**
+     * Festigkeiten des Materials und daraus abgeleitete Größen.
+     */
+    private static final class Parameters {
 
-        return rf;
+        private final double rParTen, rParCom, rNorTen, rShear;
+        // Faktor des linearen Terms beim Matrixdruckversagen
+        private final double lFactor;
+
+        private Parameters(Material material) {
+            rParTen = material.getRParTen();
+            rParCom = material.getRParCom();
+            rNorTen = material.getRNorTen();
+            rShear = material.getRShear();
+
+            double L = 0.25 * material.getRNorCom() / rShear / rShear;
+            L -= 1.0 / material.getRNorCom();
+            lFactor = L;
+        }
     }
 
     @Override
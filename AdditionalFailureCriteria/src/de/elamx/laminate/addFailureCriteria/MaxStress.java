@@ -55,58 +55,103 @@ public class MaxStress extends Criterion {
         super(obj);
     }
 
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_FIBER_TENSION = 1;
+    private static final int MODE_FIBER_COMPRESSION = 2;
+    private static final int MODE_MATRIX_TENSION = 3;
+    private static final int MODE_MATRIX_COMPRESSION = 4;
+    private static final int MODE_MATRIX_SHEAR = 5;
+
+    private static final String[] MODE_NAMES = {"", "FiberFailureTension", "FiberFailureCompression",
+        "MatrixFailureTension", "MatrixFailureCompression", "MatrixFailureShear"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.FIBER_FAILURE,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE};
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
         double[] stresses = sss.getStress();
+        double[] result = new double[1];
+        int mode = evaluate(material.getRParTen(), material.getRParCom(), material.getRNorTen(),
+                material.getRNorCom(), material.getRShear(), stresses[0], stresses[1], stresses[2], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
-        double value;
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
 
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
+        if (mode == MODE_NONE || Double.POSITIVE_INFINITY == result[0]) {
             rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+        } else {
+            rf.setFailureName(NbBundle.getMessage(MaxStress.class, "MaxStress." + MODE_NAMES[mode]));
+        }
+
+        return rf;
+    }
+
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        double rParTen = material.getRParTen();
+        double rParCom = material.getRParCom();
+        double rNorTen = material.getRNorTen();
+        double rNorCom = material.getRNorCom();
+        double rShear = material.getRShear();
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(rParTen, rParCom, rNorTen, rNorCom, rShear,
+                    stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(double rParTen, double rParCom, double rNorTen, double rNorCom, double rShear,
+            double s11, double s22, double s12, double[] rf, int index) {
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
 
-        if (stresses[0] >= 0.0) {
-            rf.setMinimalReserveFactor(material.getRParTen() / stresses[0]);
-            rf.setFailureName("FiberFailureTension");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+        double resFac;
+        double value;
+        int mode;
+
+        if (s11 >= 0.0) {
+            resFac = rParTen / s11;
+            mode = MODE_FIBER_TENSION;
         } else {
-            rf.setMinimalReserveFactor(-material.getRParCom() / stresses[0]);
-            rf.setFailureName("FiberFailureCompression");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = -rParCom / s11;
+            mode = MODE_FIBER_COMPRESSION;
         }
 
-        if (stresses[1] >= 0.0) {
-            value = material.getRNorTen() / stresses[1];
-            if (value < rf.getMinimalReserveFactor()) {
-                rf.setMinimalReserveFactor(value);
-                rf.setFailureName("MatrixFailureTension");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+        if (s22 >= 0.0) {
+            value = rNorTen / s22;
+            if (value < resFac) {
+                resFac = value;
+                mode = MODE_MATRIX_TENSION;
             }
         } else {
-            value = -material.getRNorCom() / stresses[1];
-            if (value < rf.getMinimalReserveFactor()) {
-                rf.setMinimalReserveFactor(value);
-                rf.setFailureName("MatrixFailureCompression");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+            value = -rNorCom / s22;
+            if (value < resFac) {
+                resFac = value;
+                mode = MODE_MATRIX_COMPRESSION;
             }
         }
 
-        value = material.getRShear() / Math.abs(stresses[2]);
-        if (value < rf.getMinimalReserveFactor()) {
-            rf.setMinimalReserveFactor(value);
-            rf.setFailureName("MatrixFailureShear");
-            rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+        value = rShear / Math.abs(s12);
+        if (value < resFac) {
+            resFac = value;
+            mode = MODE_MATRIX_SHEAR;
         }
 
-        if (Double.POSITIVE_INFINITY == rf.getMinimalReserveFactor()) {
-            rf.setFailureName("");
-        } else {
-            rf.setFailureName(NbBundle.getMessage(MaxStress.class, "MaxStress." + rf.getFailureName()));
-        }
-
-        return rf;
+        rf[index] = resFac;
+        return mode;
     }
 
     @Override
@@ -59,72 +59,108 @@ public class Rotem extends Criterion {
         super(obj);
     }
 
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_FIBER_TENSION = 1;
+    private static final int MODE_FIBER_COMPRESSION = 2;
+    private static final int MODE_MATRIX_TENSION = 3;
+    private static final int MODE_MATRIX_COMPRESSION = 4;
+
+    private static final String[] MODE_NAMES = {"", "FibreFailureTension", "FibreFailureCompression",
+        "MatrixFailureTension", "MatrixFailureCompression"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.FIBER_FAILURE,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE};
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
 
         double[] stresses = sss.getStress();
+        double[] result = new double[1];
+        int mode = evaluate(getParameters(material, Parameters::new), stresses[0], stresses[1], stresses[2], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
+        rf.setFailureName(mode == MODE_NONE ? "" : NbBundle.getMessage(Rotem.class, "Rotem." + MODE_NAMES[mode]));
+
+        return rf;
+    }
 
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new);
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(p, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(Parameters p, double s11, double s22, double s12, double[] rf, int index) {
+
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
 
         double RF_F = 0;
         double RF_M = 0;
+        double resFac;
+        int mode;
 
         //Faserversagen
-        if (stresses[0] > 0.0) {
+        if (s11 > 0.0) {
 
-            RF_F = material.getRParTen() / stresses[0];
+            RF_F = p.rParTen / s11;
 
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FibreFailureTension");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = RF_F;
+            mode = MODE_FIBER_TENSION;
 
         } else {
 
-            RF_F = -material.getRParTen() / stresses[0];
+            RF_F = -p.rParTen / s11;
 
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FibreFailureCompression");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = RF_F;
+            mode = MODE_FIBER_COMPRESSION;
 
         }
 
         //Matrixversagen
-        if (stresses[1] >= 0.0) {
+        if (s22 >= 0.0) {
 
-            RF_M = material.getEnor() * material.getEnor() * stresses[0] / material.getEpar() * stresses[0] / material.getEpar() * stresses[0] / material.getEpar() * stresses[0] / material.getEpar() / material.getRNorTen() / material.getRNorTen();
+            RF_M = p.enor2 * s11 / p.ePar * s11 / p.ePar * s11 / p.ePar * s11 / p.ePar / p.rNorTen / p.rNorTen;
             RF_M = 1 - RF_M;
-            RF_M = RF_M / (stresses[1] * stresses[1] / material.getRNorTen() / material.getRNorTen() + stresses[2] * stresses[2] / material.getRShear() / material.getRShear());
+            RF_M = RF_M / (s22 * s22 / p.rNorTen / p.rNorTen + s12 * s12 / p.rShear / p.rShear);
             RF_M = Math.sqrt(RF_M);
 
             if (RF_M < RF_F) {
-                rf.setMinimalReserveFactor(RF_M);
-                rf.setFailureName("MatrixFailureTension");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_TENSION;
             }
 
         } else {
 
-            RF_M = material.getEnor() * material.getEnor() * stresses[0] / material.getEpar() * stresses[0] / material.getEpar() * stresses[0] / material.getEpar() * stresses[0] / material.getEpar() / material.getRNorCom() / material.getRNorCom();
+            RF_M = p.enor2 * s11 / p.ePar * s11 / p.ePar * s11 / p.ePar * s11 / p.ePar / p.rNorCom / p.rNorCom;
             RF_M = 1 - RF_M;
-            RF_M = RF_M / (stresses[1] * stresses[1] / material.getRNorCom() / material.getRNorCom() + stresses[2] * stresses[2] / material.getRShear() / material.getRShear());
+            RF_M = RF_M / (s22 * s22 / p.rNorCom / p.rNorCom + s12 * s12 / p.rShear / p.rShear);
             RF_M = Math.sqrt(RF_M);
 
             if (RF_M < RF_F) {
-                rf.setMinimalReserveFactor(RF_M);
-                rf.setFailureName("MatrixFailureCompression");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_COMPRESSION;
             }
 
         }
 
-        rf.setFailureName(NbBundle.getMessage(Rotem.class, "Rotem." + rf.getFailureName()));
-
-        return rf;
+        rf[index] = resFac;
+        return mode;
     }
 
     @Override
@@ -730,4 +766,22 @@ public class Rotem extends Criterion {
         return mesh;
     }
 
+    /**
+     * Parameter des Rotem-Kriteriums, die nur vom Material abhängen.
+     */
+    private static final class Parameters {
+
+        private final double rParTen, rNorTen, rNorCom, rShear, ePar;
+        // Quadrat des E-Moduls quer zur Faserrichtung
+        private final double enor2;
+
+        private Parameters(Material material) {
+            rParTen = material.getRParTen();
+            rNorTen = material.getRNorTen();
+            rNorCom = material.getRNorCom();
+            rShear = material.getRShear();
+            ePar = material.getEpar();
+            enor2 = material.getEnor() * material.getEnor();
+        }
+    }
 }
@@ -61,38 +61,70 @@ public class TsaiWu extends Criterion {
 
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
-        double f12star = material.getAdditionalValue(F12_STAR);
         double[] stresses = sss.getStress();
-        ReserveFactor rf = new ReserveFactor();
+        double[] result = new double[1];
+        boolean failure = evaluate(getParameters(material, Parameters::new), stresses[0], stresses[1], stresses[2], result, 0);
 
-        double F1 = 1 / material.getRParTen() - 1 / material.getRParCom();
-        double F2 = 1 / material.getRNorTen() - 1 / material.getRNorCom();
-        double F11 = 1 / (material.getRParTen() * material.getRParCom());
-        double F22 = 1 / (material.getRNorTen() * material.getRNorCom());
-        double F12 = f12star * Math.sqrt(F11 * F22);
-        double F66 = 1 / (material.getRShear() * material.getRShear());
+        ReserveFactor rf = new ReserveFactor();
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+        rf.setFailureName(failure ? NbBundle.getMessage(TsaiWu.class, "TsaiWu.Failure") : "");
 
-        double Q = F11 * stresses[0] * stresses[0];
-        Q += 2.0 * F12 * stresses[0] * stresses[1];
-        Q += F22 * stresses[1] * stresses[1];
-        Q += F66 * stresses[2] * stresses[2];
+        return rf;
+    }
 
-        double L = F1 * stresses[0] + F2 * stresses[1];
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new);
+        for (int ii = 0; ii < numPoints; ii++) {
+            evaluate(p, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = ReserveFactor.FIBER_FAILURE;
+            }
+        }
+    }
 
-        double resFac = (Math.sqrt(L * L + 4.0 * Q) - L) / (2.0 * Q);
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @return <CODE>false</CODE>, wenn der Spannungszustand keinen Beitrag
+     * zum Kriterium liefert (Reservefaktor unendlich)
+     */
+    private static boolean evaluate(Parameters p, double s11, double s22, double s12, double[] rf, int index) {
+        double Q = p.F11 * s11 * s11;
+        Q += 2.0 * p.F12 * s11 * s22;
+        Q += p.F22 * s22 * s22;
+        Q += p.F66 * s12 * s12;
 
-        rf.setMinimalReserveFactor(resFac);
-        rf.setFailureName("Failure");
-        rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+        double L = p.F1 * s11 + p.F2 * s22;
 
         if (Q == 0.0 && L == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-        } else {
-            rf.setFailureName(NbBundle.getMessage(TsaiWu.class, "TsaiWu." + rf.getFailureName()));
+            rf[index] = Double.POSITIVE_INFINITY;
+            return false;
         }
 
-        return rf;
+        rf[index] = (Math.sqrt(L * L + 4.0 * Q) - L) / (2.0 * Q);
+        return true;
+    }
+
+    /**
+     * Festigkeitsparameter des Tsai-Wu-Kriteriums, die nur vom Material
+     * abhängen.
+     */
+    private static final class Parameters {
+
+        private final double F1, F2, F11, F22, F12, F66;
+
+        private Parameters(Material material) {
+            double f12star = material.getAdditionalValue(F12_STAR);
+            F1 = 1 / material.getRParTen() - 1 / material.getRParCom();
+            F2 = 1 / material.getRNorTen() - 1 / material.getRNorCom();
+            F11 = 1 / (material.getRParTen() * material.getRParCom());
+            F22 = 1 / (material.getRNorTen() * material.getRNorCom());
+            F12 = f12star * Math.sqrt(F11 * F22);
+            F66 = 1 / (material.getRShear() * material.getRShear());
+        }
     }
 
     @Override
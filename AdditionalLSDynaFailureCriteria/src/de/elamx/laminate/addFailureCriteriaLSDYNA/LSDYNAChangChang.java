@@ -51,79 +51,133 @@ public class LSDYNAChangChang extends Criterion {
         super(obj);
     }
 
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_UNDEFINED = 1;
+    private static final int MODE_FIBER_TENSION = 2;
+    private static final int MODE_FIBER_COMPRESSION = 3;
+    private static final int MODE_MATRIX_TENSION = 4;
+    private static final int MODE_MATRIX_COMPRESSION = 5;
+
+    private static final String[] MODE_NAMES = {"", "", "FiberFailureTension", "FiberFailureCompression",
+        "MatrixFailureTension", "MatrixFailureCompression"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.FIBER_FAILURE, ReserveFactor.FIBER_FAILURE,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE};
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
-        double dTemp;
-        double beta = material.getAdditionalValue(BETA);
         double[] stresses = sss.getStress();
+        double[] result = new double[1];
+        int mode = evaluate(getParameters(material, Parameters::new), stresses[0], stresses[1], stresses[2], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
+        rf.setFailureName(mode == MODE_NONE ? "" : NbBundle.getMessage(LSDYNAChangChang.class, "LSDYNAChangChang." + MODE_NAMES[mode]));
+        return rf;
+    }
+
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new);
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(p, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(Parameters p, double s11, double s22, double s12, double[] rf, int index) {
+        double dTemp;
         double R_F = 0; double RF_M;
+        double resFac = 0.0;
+        int mode = MODE_NONE;
         
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
         
         //Faserzugversagen
-        if (stresses[0] >= 0.0) {
-            double Q_1= stresses[0] * stresses[0] / material.getRParTen() / material.getRParTen();
-            double L_1 = beta * stresses[2] / material.getRShear();
+        if (s11 >= 0.0) {
+            double Q_1= s11 * s11 / p.rParTen / p.rParTen;
+            double L_1 = p.beta * s12 / p.rShear;
             R_F = (Math.sqrt(L_1 * L_1 + 4.0 * Q_1) - L_1) / (2.0 * Q_1);
-            rf.setMinimalReserveFactor(R_F);
-            rf.setFailureName("FiberFailureTension");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = R_F;
+            mode = MODE_FIBER_TENSION;
         }
 
         //Faserdruckversagen
-        if (stresses[0] < 0.0) {
-            double F_S = Math.sqrt(stresses[0] * stresses[0]) / material.getRParCom();
+        if (s11 < 0.0) {
+            double F_S = Math.sqrt(s11 * s11) / p.rParCom;
             R_F = 1 / (F_S);
-            rf.setMinimalReserveFactor(R_F);
-            rf.setFailureName("FiberFailureCompression");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = R_F;
+            mode = MODE_FIBER_COMPRESSION;
         }
         
         if (Double.isNaN(R_F)) {
             R_F = 99999999;
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
+            resFac = Double.POSITIVE_INFINITY;
+            mode = MODE_UNDEFINED;
         }       
 
        //Matrixzugversagen
-        if (stresses[1] >= 0.0) {
-            double M_S = stresses[1] * stresses[1] / material.getRNorTen() / material.getRNorTen();
-            M_S += stresses[2] * stresses[2] / material.getRShear() / material.getRShear();
+        if (s22 >= 0.0) {
+            double M_S = s22 * s22 / p.rNorTen / p.rNorTen;
+            M_S += s12 * s12 / p.rShear / p.rShear;
             RF_M = Math.sqrt(1 / (M_S));
             if (RF_M < R_F) {
-                rf.setMinimalReserveFactor(RF_M);
-                rf.setFailureName("MatrixFailureTension");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_TENSION;
             }
         }
 
         //Matrixdruckversagen
-        if (stresses[1] < 0.0) {
-            double Q = 0.25 * stresses[1] * stresses[1] / material.getRShear() / material.getRShear();
-            Q += stresses[2] * stresses[2] / material.getRShear() / material.getRShear();
-            double L = 0.25 * material.getRNorCom() / material.getRShear() / material.getRShear();
-            L -= 1.0 / material.getRNorCom();
-            L *= stresses[1];
+        if (s22 < 0.0) {
+            double Q = 0.25 * s22 * s22 / p.rShear / p.rShear;
+            Q += s12 * s12 / p.rShear / p.rShear;
+            double L = p.lFactor * s22;
             dTemp = L * L + 4.0 * Q;
             if (dTemp < 0.0) {
                 throw new ArithmeticException("illegal double value: " + dTemp);
             }
             RF_M = (Math.sqrt(dTemp) - L) / (2.0 * Q);
             if (RF_M < R_F) {
-                rf.setMinimalReserveFactor(RF_M);
-                rf.setFailureName("MatrixFailureCompression");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_COMPRESSION;
             }
 
         }
 
-        rf.setFailureName(NbBundle.getMessage(LSDYNAChangChang.class, "LSDYNAChangChang." + rf.getFailureName()));
-        return rf;
+        rf[index] = resFac;
+        return mode;
     }
-}
 
+    /**
+     * Parameter des Kriteriums, die nur vom Material abhängen.
+     */
+    private static final class Parameters {
+
+        private final double beta;
+        private final double rParTen, rParCom, rNorTen, rShear;
+        private final double lFactor;
+
+        private Parameters(Material material) {
+            beta = material.getAdditionalValue(BETA);
+            rParTen = material.getRParTen();
+            rParCom = material.getRParCom();
+            rNorTen = material.getRNorTen();
+            rShear = material.getRShear();
+            double L = 0.25 * material.getRNorCom() / material.getRShear() / material.getRShear();
+            L -= 1.0 / material.getRNorCom();
+            lFactor = L;
+        }
+    }
+}
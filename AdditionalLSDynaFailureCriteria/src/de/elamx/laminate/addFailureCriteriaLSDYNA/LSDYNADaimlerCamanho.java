@@ -64,53 +64,77 @@ public class LSDYNADaimlerCamanho extends Criterion {
     }
     
     
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_FIBER_TENSION = 1;
+    private static final int MODE_FIBER_COMPRESSION = 2;
+    private static final int MODE_MATRIX_TENSION = 3;
+    private static final int MODE_MATRIX_COMPRESSION = 4;
+
+    private static final String[] MODE_NAMES = {"", "FiberFailureTension", "FiberFailureCompression",
+        "MatrixFailureTension", "MatrixFailureCompression"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.FIBER_FAILURE,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE};
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
         double[] stresses = sss.getStress();
         double[] strains = sss.getStrain();
+        double[] result = new double[1];
+        int mode = evaluate(getParameters(material, Parameters::new), stresses[0], stresses[1], stresses[2], strains[0], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
+        rf.setFailureName(mode == MODE_NONE ? "" : NbBundle.getMessage(LSDYNADaimlerCamanho.class, "LSDYNADaimlerCamanho." + MODE_NAMES[mode]));
+        return rf;
+    }
+
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new);
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(p, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], strains[3 * ii], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(Parameters p, double s11, double s22, double s12, double e11, double[] rf, int index) {
         
         /** Unterscheidung von insgesamt 4 Fällen: */
         
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
-        
-        /** Berechnung der Spannungen in der Brucheben
-         g1c g2c kritische Energiefreisetzungsraten
-         alpha0 Winkel der Bruchebene bei reiner Druckbeanspruchung 53° in rad
-         */
 
-        double g1c = material.getAdditionalValue(G1C);
-        double g2c = material.getAdditionalValue(G2C);
         double RF_F; double RF_M;
-        double alpha0 = Math.toRadians(53);
+        double resFac;
+        int mode;
+        double R_L = p.R_L;
+        double eta_L = p.eta_L;
+        double sinAlpha0 = p.sinAlpha0; double cosAlpha0 = p.cosAlpha0;
+        double sinPhiC = p.sinPhiC; double cosPhiC = p.cosPhiC;
         
-        /* Berechnung der Festigkeiten der Bruchebene R_T, R_L */
-        double R_L = material.getRShear();
-        double R_T = material.getRNorCom() * Math.cos(alpha0) * (Math.sin(alpha0) + Math.cos(alpha0) / Math.tan(2 * alpha0));
+        /*Spannungen im Knickband unter Winkel phi_C (rad): sig2m, tau12m */
+        double sig_2m = sinPhiC * sinPhiC * s11  + cosPhiC * cosPhiC * s22;
+        sig_2m -= 2* sinPhiC * cosPhiC * Math.abs(s12);
+        double tau_12m = (s22 - s11) * sinPhiC * cosPhiC + Math.abs(s12) * (cosPhiC * cosPhiC - sinPhiC * sinPhiC);
         
-        /* innere Reibungsparameter */
-        double eta_T = -1 / Math.tan(2 * alpha0);
-        double eta_L = - (R_L * Math.cos(2 * alpha0)) / (material.getRNorCom() * Math.cos(alpha0) * Math.cos(alpha0));
-        
-        /*Spannungen im Knickband unter Winkel phi_C (rad): sig1m, sig2m, tau12m */
-        double phi_C_zaehler = 1 - Math.sqrt(1 - 4 * (R_L / material.getRParCom() + eta_L) * (R_L / material.getRParCom()));
-        double phi_C_nenner = 2 * (R_L / material.getRParCom() + eta_L);
-        double phi_C = Math.atan(phi_C_zaehler / phi_C_nenner);
-        double sig_2m = Math.sin(phi_C) * Math.sin(phi_C) * stresses[0]  + Math.cos(phi_C) * Math.cos(phi_C) * stresses[1];
-        sig_2m -= 2* Math.sin(phi_C) * Math.cos(phi_C) * Math.abs(stresses[2]);
-        double tau_12m = (stresses[1] - stresses[0]) * Math.sin(phi_C) * Math.cos(phi_C) + Math.abs(stresses[2]) * (Math.cos(phi_C) * Math.cos(phi_C) - Math.sin(phi_C) * Math.sin(phi_C));
         
-        
-        if (stresses[0] > 0.0) {
+        if (s11 > 0.0) {
             // Faserzugversagen mit alpha0 = 0°
-            RF_F = (material.getRParTen() / Math.abs(material.getEpar()) / strains[0]); 
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FiberFailureTension");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            RF_F = (p.rParTen / p.absEPar / e11); 
+            resFac = RF_F;
+            mode = MODE_FIBER_TENSION;
         } else {
             // Faserdruckversagen mit alpha0 = 53°
             if (Math.abs(tau_12m) + eta_L * sig_2m > 0) {
@@ -119,54 +143,51 @@ public class LSDYNADaimlerCamanho extends Criterion {
             else {
                 RF_F = 9999;
             }
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FiberFailureCompression");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = RF_F;
+            mode = MODE_FIBER_COMPRESSION;
         }
         
-        if (stresses[1] >= 0.0) {
+        if (s22 >= 0.0) {
             // Matrixzugbruch mit alpha0 = 0°
-            double g = g1c / g2c;
-            double Q_1 = g * (stresses[1] / material.getRNorTen()) * (stresses[1] / material.getRNorTen()) + (stresses[2] / R_L) * (stresses[2] / R_L);
-            double L_1 = (1 - g) * stresses[1] / material.getRNorTen();
+            double g = p.g;
+            double Q_1 = g * (s22 / p.rNorTen) * (s22 / p.rNorTen) + (s12 / R_L) * (s12 / R_L);
+            double L_1 = (1 - g) * s22 / p.rNorTen;
             RF_M = (Math.sqrt(L_1 * L_1 + 4.0 * Q_1) - L_1) / (2.0 * Q_1);
             if (RF_M < RF_F) {
-                rf.setMinimalReserveFactor(RF_M );
-                rf.setFailureName("MatrixFailureTension");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_TENSION;
             }
         } else {
             // Matrixdruckbruch Fall 1: alpha = 0°
-            if (Math.abs(stresses[2]) + eta_L * stresses[1] > 0) {
-                RF_M = R_L / (Math.abs(stresses[2]) + eta_L * stresses[1]);
+            if (Math.abs(s12) + eta_L * s22 > 0) {
+                RF_M = R_L / (Math.abs(s12) + eta_L * s22);
             }
             else {
                 RF_M = 9999;
             }
             // Matrixdruckbruch Fall 2 alpha = 53°:
-            double theta = Math.atan(- Math.abs(stresses[2]) / (stresses[1] * Math.sin(alpha0)));
-            double tau_Teff = - stresses[1] * Math.cos(alpha0) * (Math.sin(alpha0) - eta_T * Math.cos(alpha0) * Math.cos(theta));
+            double theta = Math.atan(- Math.abs(s12) / (s22 * sinAlpha0));
+            double tau_Teff = - s22 * cosAlpha0 * (sinAlpha0 - p.eta_T * cosAlpha0 * Math.cos(theta));
             if (tau_Teff <= 0) {
                 tau_Teff = 0;
             }
-            double tau_Leff = Math.cos(alpha0) * (Math.abs(stresses[2] + eta_L * stresses[1] * Math.cos(alpha0) * Math.sin(theta)));
+            double tau_Leff = cosAlpha0 * (Math.abs(s12 + eta_L * s22 * cosAlpha0 * Math.sin(theta)));
             if (tau_Leff <= 0) {
                 tau_Leff = 0;
             }
-            double Q_2 = tau_Teff / R_T * tau_Teff / R_T + tau_Leff / R_L *  tau_Leff / R_L;
+            double Q_2 = tau_Teff / p.R_T * tau_Teff / p.R_T + tau_Leff / R_L *  tau_Leff / R_L;
             double RF_M2 = 1 / Math.sqrt(Q_2);
             if (RF_M2 <= RF_M) {
                 RF_M = RF_M2;
             }
             if (RF_M  < RF_F) {
-            rf.setMinimalReserveFactor(RF_M);
-            rf.setFailureName("MatrixFailureCompression");
-            rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_COMPRESSION;
             }
         }
         
-        rf.setFailureName(NbBundle.getMessage(LSDYNADaimlerCamanho.class, "LSDYNADaimlerCamanho." + rf.getFailureName()));
-        return rf;
+        rf[index] = resFac;
+        return mode;
     }
 
     /* Die Stirnflächen fehlen noch, bis jetzt nur gerade Fläche maximales Spannungskriterium */
@@ -439,5 +460,47 @@ public class LSDYNADaimlerCamanho extends Criterion {
 
         return mesh;
     }
-}
 
+    /**
+     * Parameter des Kriteriums, die nur vom Material abhängen.
+     */
+    private static final class Parameters {
+
+        private final double rParTen, absEPar, rNorTen;
+        // g Quotient der kritischen Energiefreisetzungsraten g1c und g2c
+        private final double g;
+        // Festigkeiten der Bruchebene
+        private final double R_L, R_T;
+        // innere Reibungsparameter
+        private final double eta_T, eta_L;
+        // Winkel der Bruchebene bei reiner Druckbeanspruchung (53°) und Winkel des Knickbandes
+        private final double sinAlpha0, cosAlpha0, sinPhiC, cosPhiC;
+
+        private Parameters(Material material) {
+            double g1c = material.getAdditionalValue(G1C);
+            double g2c = material.getAdditionalValue(G2C);
+            double alpha0 = Math.toRadians(53);
+            g = g1c / g2c;
+            rParTen = material.getRParTen();
+            absEPar = Math.abs(material.getEpar());
+            rNorTen = material.getRNorTen();
+
+            /* Berechnung der Festigkeiten der Bruchebene R_T, R_L */
+            R_L = material.getRShear();
+            R_T = material.getRNorCom() * Math.cos(alpha0) * (Math.sin(alpha0) + Math.cos(alpha0) / Math.tan(2 * alpha0));
+
+            /* innere Reibungsparameter */
+            eta_T = -1 / Math.tan(2 * alpha0);
+            eta_L = - (R_L * Math.cos(2 * alpha0)) / (material.getRNorCom() * Math.cos(alpha0) * Math.cos(alpha0));
+
+            double phi_C_zaehler = 1 - Math.sqrt(1 - 4 * (R_L / material.getRParCom() + eta_L) * (R_L / material.getRParCom()));
+            double phi_C_nenner = 2 * (R_L / material.getRParCom() + eta_L);
+            double phi_C = Math.atan(phi_C_zaehler / phi_C_nenner);
+
+            sinAlpha0 = Math.sin(alpha0);
+            cosAlpha0 = Math.cos(alpha0);
+            sinPhiC = Math.sin(phi_C);
+            cosPhiC = Math.cos(phi_C);
+        }
+    }
+}
@@ -34,6 +34,7 @@ import de.elamx.laminate.Layer;
 import de.elamx.laminate.Material;
 import de.elamx.laminate.StressStrainState;
 import de.elamx.laminate.failure.Criterion;
+import de.elamx.laminate.failure.FracturePlaneSearch;
 import de.elamx.laminate.failure.ReserveFactor;
 import org.openide.filesystems.FileObject;
 import org.openide.util.NbBundle;
@@ -53,72 +54,95 @@ public class LSDYNADaimlerPinho extends Criterion {
     }
     
     
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_FIBER_TENSION = 1;
+    private static final int MODE_FIBER_COMPRESSION = 2;
+    private static final int MODE_MATRIX_TENSION = 3;
+    private static final int MODE_MATRIX_COMPRESSION = 4;
+
+    private static final String[] MODE_NAMES = {"", "FiberFailureTension", "FiberFailureCompression",
+        "MatrixFailureTension", "MatrixFailureCompression"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.FIBER_FAILURE,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE};
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer l, StressStrainState sss) {
         double[] stresses = sss.getStress();
-        double[] strains = sss.getStrain();
+        double[] result = new double[1];
+        int mode = evaluate(getParameters(material, Parameters::new), stresses[0], stresses[1], stresses[2], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
+        rf.setFailureName(mode == MODE_NONE ? "" : NbBundle.getMessage(LSDYNADaimlerPinho.class, "LSDYNADaimlerPinho." + MODE_NAMES[mode]));
+        return rf;
+    }
+
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new);
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(p, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
+        }
+    }
+
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(Parameters p, double s11, double s22, double s12, double[] rf, int index) {
         
         /** Unterscheidung von insgesamt 5 Fällen: */
         
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
         
         /** Spannungen in der Bruchebene */
         double sig_n; double tau_T; double tau_L;
-        // Definition von alpha0 bei reiner Druckbeanspruchung und Umrechnung in Rad
-        double alp0 = material.getAdditionalValue(ALP0);
         double RF_F = 9999; double RF_M = 9999;
-        double alpha0 = (int) Math.ceil(alp0);
-        double alp0Rad = Math.toRadians(alpha0);
-        double alpRad; double alpMax;
-        // Berechnung der Festigkeiten der Bruchebene
-        double R_L = material.getRShear();
-        double R_T = material.getRNorCom() * Math.cos(alp0Rad) * (Math.sin(alp0Rad) + Math.cos(alp0Rad) / Math.tan(2 * alp0Rad));
-        // Berechnung der inneren Reibungsparameter
-        double eta_T = -1 / Math.tan(2 * alp0Rad);
-        double eta_L = R_L * eta_T / R_T;
-
-        // Berechnung Verdrehwinkel (Summe von anfänglicher Fehlausrichtung + Rotation aus der Belastung)
-        double theta_C_zaehler = 1 - Math.sqrt(1 - 4 * (R_L / material.getRParCom() + eta_L) * (R_L / material.getRParCom()));
-        double theta_C_nenner = 2 * (R_L / material.getRParCom() + eta_L);
-        double theta_C = Math.atan(theta_C_zaehler / theta_C_nenner);   
-        double theta_i = theta_C - theta_C  * material.getRParCom()/ material.getG();
-        double gamma_i = (theta_i * material.getG() + Math.abs(stresses[2])) / (material.getG() + stresses[0] - stresses[1]) - theta_i;
+        double R_L = p.R_L; double R_T = p.R_T;
+        double eta_T = p.eta_T; double eta_L = p.eta_L;
+        double resFac;
+        int mode;
+
+        // Verdrehwinkel (Summe von anfänglicher Fehlausrichtung + Rotation aus der Belastung)
+        double gamma_i = (p.theta_i * p.G + Math.abs(s12)) / (p.G + s11 - s22) - p.theta_i;
         // Das tau/|tau| in der Theorie dient nur dem Vorzeichen, bei tau=0 ist signum +  bzw -0 => daraus folgt ein Ergebnis, das nicht mit LaRC übereinstimm
         // Der Fall tau = 0 muss demzufolge extra behandelt werden 
-        //double theta = (theta_i + gamma_i);
         double theta;
-        if (stresses[2] != 0) {
-            theta = Math.signum(stresses[2]) * (theta_i + gamma_i);
+        if (s12 != 0) {
+            theta = Math.signum(s12) * (p.theta_i + gamma_i);
         } else {
-            theta = (theta_i + gamma_i);
+            theta = (p.theta_i + gamma_i);
         }
 
-        // Spannungen im Knickband, um den Winkel theta verdreht        stresses[2] / Math.abs(stresses[2]) *
-        double sig_1m = (stresses[0] + stresses[1]) / 2 + (stresses[0] + stresses[1]) / 2  * Math.cos(2 * theta)  + stresses[2] * Math.sin(2 * theta);
-        double sig_2m = stresses[0] + stresses[1] - sig_1m;
-        double tau_12m = - (stresses[0] - stresses[1]) / 2 * Math.sin(2 * theta) + stresses[2] * Math.cos(2 * theta);
+        // Spannungen im Knickband, um den Winkel theta verdreht
+        double sig_1m = (s11 + s22) / 2 + (s11 + s22) / 2  * Math.cos(2 * theta)  + s12 * Math.sin(2 * theta);
+        double sig_2m = s11 + s22 - sig_1m;
+        double tau_12m = - (s11 - s22) / 2 * Math.sin(2 * theta) + s12 * Math.cos(2 * theta);
         
 
-        if (stresses[0] >= 0.0) {
+        if (s11 >= 0.0) {
             // Faserzugversagen 
-            RF_F = material.getRParTen() / stresses[0]; 
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FiberFailureTension");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            RF_F = p.rParTen / s11; 
+            resFac = RF_F;
+            mode = MODE_FIBER_TENSION;
         } else {
             // Faserdruckversagen
             for (int alpha = 0; alpha < 180; alpha++) {
-                alpRad = Math.toRadians(alpha);
-                sig_n = sig_2m / 2 + sig_2m / 2 * Math.cos(2 * alpRad);
-                tau_T = sig_2m / 2  + sig_2m / 2 * Math.sin(2 * alpRad);
-                tau_L = tau_12m * Math.cos(alpRad);
+                sig_n = sig_2m / 2 + sig_2m / 2 * FracturePlaneSearch.cosDeg(2 * alpha);
+                tau_T = sig_2m / 2  + sig_2m / 2 * FracturePlaneSearch.sinDeg(2 * alpha);
+                tau_L = tau_12m * FracturePlaneSearch.cosDeg(alpha);
                 if (sig_n > 0) {
-                    double f_1 = (sig_n / material.getRNorTen()) * (sig_n / material.getRNorTen()) + (tau_T / R_T) * (tau_T / R_T) + (tau_L / R_L) * (tau_L / R_L);
+                    double f_1 = (sig_n / p.rNorTen) * (sig_n / p.rNorTen) + (tau_T / R_T) * (tau_T / R_T) + (tau_L / R_L) * (tau_L / R_L);
                     double R_F1 = Math.sqrt(1 / f_1);
                     if(R_F1 < RF_F) {
                         RF_F = R_F1;
@@ -131,22 +155,21 @@ public class LSDYNADaimlerPinho extends Criterion {
                     }
                 }
             }
-            rf.setMinimalReserveFactor(RF_F);
-            rf.setFailureName("FiberFailureCompression");
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = RF_F;
+            mode = MODE_FIBER_COMPRESSION;
         }
        
-        /* Zwischenfaserbruchberechnung -> Suche nach der entscheidenen Bruchebene im Intervall [0,PI[; alle ganzzahligen Winkel*/
+        /* Zwischenfaserbruchberechnung -> Suche nach der entscheidenen Bruchebene im Intervall [0,PI[; alle ganzzahligen Winkel
+           (tabellierte Winkelfunktionen, siehe FracturePlaneSearch)*/
         double RF_min_f1 = 9999; double RF_min_f2 = 9999;
         for (int alpha = 0; alpha < 180; alpha++) {
             // Berechnung der Spannungen in der Bruchebene für das aktuelle Alpha
-            alpRad = Math.toRadians(alpha);
-            sig_n = stresses[1] / 2 + stresses[1] / 2 * Math.cos(2 * alpRad);
-            tau_T = -stresses[1] / 2 * Math.sin(2 * alpRad);
-            tau_L = stresses[2] * Math.cos(alpRad);
+            sig_n = s22 / 2 + s22 / 2 * FracturePlaneSearch.cosDeg(2 * alpha);
+            tau_T = -s22 / 2 * FracturePlaneSearch.sinDeg(2 * alpha);
+            tau_L = s12 * FracturePlaneSearch.cosDeg(alpha);
             if (sig_n >= 0) {
                 // Matrixzugversagen
-                double f1 = (sig_n / material.getRNorTen()) * (sig_n / material.getRNorTen()) + (tau_T / R_T) * (tau_T / R_T) + (tau_L / R_L) * (tau_L / R_L);
+                double f1 = (sig_n / p.rNorTen) * (sig_n / p.rNorTen) + (tau_T / R_T) * (tau_T / R_T) + (tau_L / R_L) * (tau_L / R_L);
                 RF_min_f1 = 1 / Math.sqrt(f1);
             } else {
                 // Matrixdruckversagen
@@ -155,19 +178,51 @@ public class LSDYNADaimlerPinho extends Criterion {
             }
             if (RF_min_f1 < RF_M & RF_min_f1 < RF_F) {
                 RF_M = RF_min_f1;
-                rf.setMinimalReserveFactor(RF_M );
-                rf.setFailureName("MatrixFailureTension");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_TENSION;
             }
             if (RF_min_f2 < RF_M & RF_min_f2 < RF_F) {
                 RF_M = RF_min_f2;
-                rf.setMinimalReserveFactor(RF_M);
-                rf.setFailureName("MatrixFailureCompression");
-                rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
+                resFac = RF_M;
+                mode = MODE_MATRIX_COMPRESSION;
             }
         } 
-        rf.setFailureName(NbBundle.getMessage(LSDYNADaimlerPinho.class, "LSDYNADaimlerPinho." + rf.getFailureName()));
-        return rf;
+        rf[index] = resFac;
+        return mode;
     }
-}
 
+    /**
+     * Parameter des Kriteriums, die nur vom Material abhängen.
+     */
+    private static final class Parameters {
+
+        private final double rParTen, rNorTen, G;
+        // Festigkeiten der Bruchebene
+        private final double R_L, R_T;
+        // innere Reibungsparameter
+        private final double eta_T, eta_L;
+        // anfängliche Fehlausrichtung der Fasern
+        private final double theta_i;
+
+        private Parameters(Material material) {
+            // Definition von alpha0 bei reiner Druckbeanspruchung und Umrechnung in Rad
+            double alp0 = material.getAdditionalValue(ALP0);
+            double alpha0 = (int) Math.ceil(alp0);
+            double alp0Rad = Math.toRadians(alpha0);
+            rParTen = material.getRParTen();
+            rNorTen = material.getRNorTen();
+            G = material.getG();
+            // Berechnung der Festigkeiten der Bruchebene
+            R_L = material.getRShear();
+            R_T = material.getRNorCom() * Math.cos(alp0Rad) * (Math.sin(alp0Rad) + Math.cos(alp0Rad) / Math.tan(2 * alp0Rad));
+            // Berechnung der inneren Reibungsparameter
+            eta_T = -1 / Math.tan(2 * alp0Rad);
+            eta_L = R_L * eta_T / R_T;
+
+            double theta_C_zaehler = 1 - Math.sqrt(1 - 4 * (R_L / material.getRParCom() + eta_L) * (R_L / material.getRParCom()));
+            double theta_C_nenner = 2 * (R_L / material.getRParCom() + eta_L);
+            double theta_C = Math.atan(theta_C_zaehler / theta_C_nenner);   
+            theta_i = theta_C - theta_C  * material.getRParCom()/ material.getG();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.addFailureCriteriaLSDYNA;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.Layer;
+import de.elamx.laminate.Material;
+import de.elamx.laminate.StressStrainState;
+import de.elamx.laminate.failure.Criterion;
+import de.elamx.laminate.failure.ReserveFactor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.openide.filesystems.FileObject;
+import org.openide.filesystems.FileUtil;
+
+/**
+ * Vergleich der Reservefaktoren von
+ * {@link Criterion#getReserveFactors(Material, Layer, double[], double[], int, double[], int[])}
+ * mit der Einzelauswertung über
+ * {@link Criterion#getReserveFactor(Material, Layer, StressStrainState)}.
+ *
+ * @author Andreas Hauffe
+ */
+public class BulkReserveFactorsTest {
+
+    private static final int NUM_POINTS = 2000;
+
+    public BulkReserveFactorsTest() {
+    }
+
+    private static DefaultMaterial createMaterial() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(LSDYNAChangChang.BETA, 0.5);
+        mat.putAdditionalValue(LSDYNATsaiWu.BETA, 0.5);
+        mat.putAdditionalValue(LSDYNADaimlerCamanho.G1C, 0.2);
+        mat.putAdditionalValue(LSDYNADaimlerCamanho.G2C, 0.8);
+        mat.putAdditionalValue(LSDYNADaimlerPinho.ALP0, 53.0);
+        return mat;
+    }
+
+    private static Criterion createCriterion(String name, Function<FileObject, Criterion> factory) throws Exception {
+        FileObject obj = FileUtil.createMemoryFileSystem().getRoot().createData(name);
+        obj.setAttribute("displayName", name);
+        obj.setAttribute("description", name);
+        obj.setAttribute("color.r", "0.5");
+        obj.setAttribute("color.g", "0.5");
+        obj.setAttribute("color.b", "0.5");
+        return factory.apply(obj);
+    }
+
+    /**
+     * Zufällige Spannungszustände im Lagensystem, darunter spannungsfreie
+     * Zustände und Zustände mit einzelnen verschwindenden Komponenten.
+     */
+    private static double[] createStresses(Random random) {
+        double[] scale = {3000.0, 400.0, 200.0};
+        double[] stresses = new double[3 * NUM_POINTS];
+        for (int ii = 0; ii < NUM_POINTS; ii++) {
+            for (int kk = 0; kk < 3; kk++) {
+                stresses[3 * ii + kk] = scale[kk] * (random.nextDouble() - 0.5);
+            }
+            if (ii % 50 == 0) {
+                Arrays.fill(stresses, 3 * ii, 3 * ii + 3, 0.0);
+            } else if (ii % 5 == 0) {
+                stresses[3 * ii + (ii / 5) % 3] = 0.0;
+            }
+        }
+        return stresses;
+    }
+
+    private static double[] createStrains(Material mat, double[] stresses) {
+        double[] strains = new double[stresses.length];
+        for (int ii = 0; ii < NUM_POINTS; ii++) {
+            strains[3 * ii] = stresses[3 * ii] / mat.getEpar();
+            strains[3 * ii + 1] = stresses[3 * ii + 1] / mat.getEnor();
+            strains[3 * ii + 2] = stresses[3 * ii + 2] / mat.getG();
+        }
+        return strains;
+    }
+
+    /**
+     * Lagen ohne Laminat sowie eine äußere und eine eingebettete Lage.
+     */
+    private static List<Layer> createLayers(DefaultMaterial mat) {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat", false);
+        for (int jj = 0; jj < 3; jj++) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + jj, mat, 0.0, 0.125));
+        }
+        List<Layer> layers = new ArrayList<>();
+        layers.add(null);
+        layers.add(lam.getLayers().get(0));
+        layers.add(lam.getLayers().get(1));
+        assertFalse(layers.get(1).isEmbedded());
+        assertTrue(layers.get(2).isEmbedded());
+        return layers;
+    }
+
+    private static void assertBulkEqualsScalar(Criterion criterion, Material mat, Layer layer, double[] stresses, double[] strains) {
+        int numPoints = stresses.length / 3;
+        double[] reserveFactors = new double[numPoints];
+        int[] failureTypes = new int[numPoints];
+        criterion.getReserveFactors(mat, layer, stresses, strains, numPoints, reserveFactors, failureTypes);
+        double[] reserveFactorsWithoutTypes = new double[numPoints];
+        criterion.getReserveFactors(mat, layer, stresses, strains, numPoints, reserveFactorsWithoutTypes, null);
+
+        for (int ii = 0; ii < numPoints; ii++) {
+            StressStrainState sss = new StressStrainState(Arrays.copyOfRange(stresses, 3 * ii, 3 * ii + 3), Arrays.copyOfRange(strains, 3 * ii, 3 * ii + 3));
+            ReserveFactor rf = criterion.getReserveFactor(mat, layer, sss);
+            String message = criterion.getClass().getSimpleName() + ", point " + ii;
+            assertEquals(message, rf.getMinimalReserveFactor(), reserveFactors[ii], 0.0);
+            assertEquals(message, rf.getFailureType(), failureTypes[ii]);
+            assertEquals(message, reserveFactors[ii], reserveFactorsWithoutTypes[ii], 0.0);
+        }
+    }
+
+    /**
+     * Die Auswertung vieler Punkte muss für alle Kriterien mit eigener
+     * Implementierung bitgenau die Ergebnisse der Einzelauswertung liefern.
+     */
+    @Test
+    public void bulkEqualsScalar() throws Exception {
+        DefaultMaterial mat = createMaterial();
+        double[] stresses = createStresses(new Random(4711));
+        double[] strains = createStrains(mat, stresses);
+        List<Layer> layers = createLayers(mat);
+        Criterion[] criteria = {
+            createCriterion("LSDYNAChangChang", LSDYNAChangChang::new),
+            createCriterion("LSDYNATsaiWu", LSDYNATsaiWu::new),
+            createCriterion("LSDYNADaimlerCamanho", LSDYNADaimlerCamanho::new),
+            createCriterion("LSDYNADaimlerPinho", LSDYNADaimlerPinho::new)
+        };
+        for (Criterion criterion : criteria) {
+            for (Layer layer : layers) {
+                assertBulkEqualsScalar(criterion, mat, layer, stresses, strains);
+            }
+        }
+    }
+}
@@ -31,19 +31,122 @@ import de.elamx.clt.optimization.additionaloptimizers.DummyBundle;
 import de.elamx.laminate.DataLayer;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
+import de.elamx.laminate.optimization.StackingDefinition;
+import de.elamx.laminate.optimization.StackingSequence;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import org.openide.util.NbBundle;
 import org.openide.util.lookup.ServiceProvider;
 
 /**
+ * Branch-and-Bound-Optimierer für die minimale Lagenanzahl. Gesucht wird der
+ * Lagenaufbau mit den wenigsten Lagen, dessen minimaler Reservefaktor
+ * mindestens 1 ist. Unter allen Aufbauten dieser Lagenanzahl wird der mit dem
+ * größten Reservefaktor geliefert, bei gleichen Reservefaktoren der
+ * lexikographisch kleinste.<br>
+ * <br>
+ * Die Lagenanzahl wird schrittweise erhöht. Ein Knoten des Suchbaums ist ein
+ * Teilaufbau, bei dem nur die äußeren Lagen festgelegt sind. Die Schranke
+ * eines Teilaufbaus ist die kleinste Schranke aller Rechner (siehe
+ * {@link MinimalReserveFactorContext#getReserveFactorBound(StackingSequence, int, int[])})
+ * und damit eine obere Grenze für den Reservefaktor aller Aufbauten des
+ * Teilbaums. Teilbäume, deren Schranke kleiner als 1 oder kleiner als der
+ * Reservefaktor des besten bereits gefundenen Aufbaus derselben Lagenanzahl
+ * ist, werden nicht weiter verzweigt. Das Ergebnis ist dadurch dasselbe wie
+ * bei der Bewertung aller Aufbauten. Liefern die Rechner keine Schranken,
+ * z.B. für unsymmetrische Entwürfe oder unter Biegung, werden alle Aufbauten
+ * bewertet.<br>
+ * <br>
+ * Die Suche erfolgt wahlweise
+ * <ul>
+ * <li>als Tiefensuche ({@link #SEARCH_DEPTH_FIRST}). Der Speicherbedarf
+ * wächst nur linear mit der Lagenanzahl. Die Teilbäume werden in mehreren
+ * Threads durchsucht, das Ergebnis hängt nicht von der Anzahl der Threads
+ * ab.</li>
+ * <li>als Bestensuche ({@link #SEARCH_BEST_FIRST}). Die offenen Knoten werden
+ * absteigend nach ihrer Schranke sortiert gespeichert. Der erste
+ * vollständige Aufbau, der entnommen wird, ist optimal. Übersteigt die
+ * Anzahl der offenen Knoten {@link #getMaxOpenNodes()}, werden die Knoten
+ * mit der kleinsten Schranke verworfen. Das Ergebnis ist dann nicht mehr
+ * sicher optimal.</li>
+ * </ul>
+ * Winkel, die sich um 180° unterscheiden, werden nur einmal verzweigt.
+ * Erlauben alle Rechner die Umkehr der Lagenreihenfolge
+ * ({@link MinimalReserveFactorCalculator#isInvariantToReversedStacking()}),
+ * wird von zwei gespiegelten unsymmetrischen Aufbauten nur einer bewertet.
  *
  * @author Andreas Hauffe
  */
 @ServiceProvider(service = Optimizer.class)
 public class BranchAndBoundOptimizer extends Optimizer{
 
+    public static final int SEARCH_DEPTH_FIRST = 0;
+    public static final int SEARCH_BEST_FIRST = 1;
+
+    public static final int DEFAULT_MAX_OPEN_NODES = 100000;
+
+    /**
+     * Relativer Abstand, um den eine Schranke unter dem besten Reservefaktor
+     * liegen muss, damit ein Teilbaum verworfen wird. Schranke und
+     * Reservefaktor werden für unterschiedliche Lagenreihenfolgen berechnet
+     * und können sich bei gleichem Wert in den letzten Stellen unterscheiden.
+     */
+    private static final double BOUND_TOLERANCE = 1.0E-10;
+
+    /**
+     * Reihenfolge der offenen Knoten der Bestensuche: absteigend nach der
+     * Schranke, dann lexikographisch nach den festgelegten Winkelindizes. Ist
+     * ein Teilaufbau der Anfang eines anderen, steht er vorne. Bei gleicher
+     * Schranke wird damit ein vollständiger Aufbau erst entnommen, wenn kein
+     * offener Knoten einen lexikographisch kleineren Aufbau enthalten kann.
+     */
+    private static final Comparator<Node> NODE_ORDER = (n1, n2) -> {
+        int bound = Double.compare(n2.bound, n1.bound);
+        if (bound != 0) {
+            return bound;
+        }
+        int numFixed = Math.min(n1.numFixed, n2.numFixed);
+        for (int ii = 0; ii < numFixed; ii++) {
+            int index = Integer.compare(n1.indices[ii] & 0xFF, n2.indices[ii] & 0xFF);
+            if (index != 0) {
+                return index;
+            }
+        }
+        return Integer.compare(n1.numFixed, n2.numFixed);
+    };
+
+    private int searchStrategy = SEARCH_DEPTH_FIRST;
+    private int numberOfThreads = Runtime.getRuntime().availableProcessors();
+    private int maxOpenNodes = DEFAULT_MAX_OPEN_NODES;
+
+    private StackingDefinition definition;
+    private int[] branchIndices;
+    private boolean skipReversed;
+    private int numberOfCalculators;
+
+    private StackingSequence bestSequence;
+    private double maxReserveFactor;
+    private long numberOfVisitedNodes;
+    private long numberOfBoundEvaluations;
+    private long numberOfPrunedNodes;
+
+    // Reservefaktor, den ein Teilbaum der aktuellen Lagenanzahl mindestens
+    // erreichen muss, als Bitmuster eines double
+    private final AtomicLong pruningLimit = new AtomicLong();
+
     public BranchAndBoundOptimizer() {
         this(null);
     }
@@ -52,6 +155,81 @@ public class BranchAndBoundOptimizer extends Optimizer{
         super(NbBundle.getMessage(DummyBundle.class, "BranchAndBoundOptimizer.name"), input);
     }
 
+    public int getSearchStrategy() {
+        return searchStrategy;
+    }
+
+    /**
+     * Setzt die Suchstrategie.
+     *
+     * @param searchStrategy {@link #SEARCH_DEPTH_FIRST} oder
+     * {@link #SEARCH_BEST_FIRST}
+     */
+    public void setSearchStrategy(int searchStrategy) {
+        this.searchStrategy = searchStrategy;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    /**
+     * Setzt die Anzahl der Threads für die Tiefensuche. Jeder Thread erhält
+     * eigene Auswertekontexte der Reservefaktorrechner. Die Bestensuche
+     * arbeitet immer sequentiell.
+     *
+     * @param numberOfThreads Anzahl der Threads
+     */
+    public void setNumberOfThreads(int numberOfThreads) {
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+    }
+
+    public int getMaxOpenNodes() {
+        return maxOpenNodes;
+    }
+
+    /**
+     * Setzt die maximale Anzahl gleichzeitig gespeicherter offener Knoten der
+     * Bestensuche.
+     *
+     * @param maxOpenNodes maximale Anzahl offener Knoten
+     */
+    public void setMaxOpenNodes(int maxOpenNodes) {
+        this.maxOpenNodes = Math.max(1, maxOpenNodes);
+    }
+
+    /**
+     * Liefert die Anzahl der bewerteten vollständigen Aufbauten des letzten
+     * Laufs.
+     *
+     * @return Anzahl der besuchten Knoten
+     */
+    public long getNumberOfVisitedNodes() {
+        return numberOfVisitedNodes;
+    }
+
+    /**
+     * Liefert die Anzahl der für Teilaufbauten berechneten endlichen
+     * Schranken des letzten Laufs.
+     *
+     * @return Anzahl der Schrankenauswertungen
+     */
+    public long getNumberOfBoundEvaluations() {
+        return numberOfBoundEvaluations;
+    }
+
+    /**
+     * Liefert die Anzahl der Knoten des letzten Laufs, die wegen ihrer
+     * Schranke, wegen Spiegelung oder wegen der Begrenzung der offenen Knoten
+     * nicht bewertet oder nicht weiter verzweigt wurden. Teilbäume
+     * gleichwertiger Winkel werden nicht mitgezählt.
+     *
+     * @return Anzahl der verworfenen Knoten
+     */
+    public long getNumberOfPrunedNodes() {
+        return numberOfPrunedNodes;
+    }
+
     @Override
     public Laminat internalOptimize() {
         double[] angles = input.getAngles();
@@ -59,7 +237,8 @@ public class BranchAndBoundOptimizer extends Optimizer{
 
         DataLayer baseLayer = new DataLayer("", NbBundle.getMessage(DummyBundle.class, "Optimized_Layer") + " " + atomicLayerCounter.incrementAndGet(), input.getMaterial(), 0.0, input.getThickness(), input.getCriterion());
 
-        Laminat laminat = new Laminat(UUID.randomUUID().toString(), NbBundle.getMessage(DummyBundle.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet(), false);
+        String laminateUid = UUID.randomUUID().toString();
+        String laminateName = NbBundle.getMessage(DummyBundle.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet();
 
         boolean isSymmetricLaminateNeeded = false;
 
@@ -70,81 +249,441 @@ public class BranchAndBoundOptimizer extends Optimizer{
             }
         }
 
-        laminat.setSymmetric(isSymmetricLaminateNeeded || input.isSymmetricLaminat());
+        // Die Entwürfe werden als kompakte Lagenaufbauten bewertet. Ein
+        // Laminat wird nur für Zwischenergebnisse und das Endergebnis erzeugt.
+        definition = new StackingDefinition(baseLayer, angles, isSymmetricLaminateNeeded || input.isSymmetricLaminat());
 
-        double maxReserveFactor = -Double.MAX_VALUE;
+        // Gleichwertige Winkel werden nur über den ersten Index verzweigt.
+        List<Integer> branches = new ArrayList<>();
+        for (int ii = 0; ii < angles.length; ii++) {
+            boolean duplicate = false;
+            for (int jj : branches) {
+                if (Math.abs(Math.IEEEremainder(definition.getAngle(ii) - definition.getAngle(jj), 180.0)) < 1.0E-10) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                branches.add(ii);
+            }
+        }
+        branchIndices = branches.stream().mapToInt(Integer::intValue).toArray();
 
-        result.setBestLaminate(laminat.getCopyWithoutListener(false));
+        skipReversed = !definition.isSymmetric();
+        for (MinimalReserveFactorCalculator calcs : calculators) {
+            skipReversed &= calcs.isInvariantToReversedStacking();
+        }
+
+        numberOfCalculators = calculators.size();
+        numberOfVisitedNodes = 0;
+        numberOfBoundEvaluations = 0;
+        numberOfPrunedNodes = 0;
+        maxReserveFactor = -Double.MAX_VALUE;
+        bestSequence = definition.createSequence(new byte[0]);
+
+        result.setBestLaminate(definition.createLaminat(bestSequence));
         result.setMinReserveFactor(maxReserveFactor);
         result.setNumberOfCheckedLaminates(0);
         result.setNumberOfContraintEvaluations(0);
 
-        int numberOfCheckedLaminates = 0;
-        int numberOfConstraintEvals = 0;
-        
-        ArrayList<Laminat> oldLaminates = new ArrayList<>();
-        oldLaminates.add(laminat);
-        ArrayList<Laminat> newLaminates;
-        Laminat bestLam = laminat;
+        boolean finished;
+        if (searchStrategy == SEARCH_BEST_FIRST) {
+            finished = searchBestFirst();
+        } else {
+            finished = searchDepthFirst();
+        }
+        if (!finished) {
+            return null;
+        }
+
+        publishResult();
+        result.setFinished(true);
         
-        while(maxReserveFactor < 1.0){
-            
-            newLaminates = new ArrayList<>(oldLaminates.size());
-            System.gc();
-            
-            for (Laminat lam : oldLaminates) {
-                newLaminates.addAll(Arrays.asList(createSubLaminates(lam, baseLayer, angles)));
+        return definition.createLaminat(laminateUid, laminateName, bestSequence);
+    }
+
+    private MinimalReserveFactorContext[] createContexts() {
+        ArrayList<MinimalReserveFactorCalculator> calculators = input.getCalculators();
+        MinimalReserveFactorContext[] contexts = new MinimalReserveFactorContext[calculators.size()];
+        for (int ii = 0; ii < contexts.length; ii++) {
+            contexts[ii] = calculators.get(ii).createContext();
+        }
+        return contexts;
+    }
+
+    private static double evaluate(MinimalReserveFactorContext[] contexts, StackingSequence sequence) {
+        double minResFac = Double.MAX_VALUE;
+        for (MinimalReserveFactorContext context : contexts) {
+            minResFac = Math.min(minResFac, context.getMinimalReserveFactor(sequence));
+        }
+        return minResFac;
+    }
+
+    /**
+     * Berechnet die Schranke eines Teilaufbaus, dessen erste
+     * <CODE>numFixed</CODE> Lagen festgelegt sind.
+     */
+    private double evaluateBound(MinimalReserveFactorContext[] contexts, byte[] indices, int numFixed) {
+        StackingSequence fixedLayers = definition.createSequence(Arrays.copyOf(indices, numFixed));
+        double bound = Double.POSITIVE_INFINITY;
+        for (MinimalReserveFactorContext context : contexts) {
+            bound = Math.min(bound, context.getReserveFactorBound(fixedLayers, indices.length, branchIndices));
+        }
+        return bound;
+    }
+
+    /**
+     * Liefert true, wenn ein Teilbaum mit der übergebenen Schranke keinen
+     * Aufbau mit mindestens dem Reservefaktor <CODE>limit</CODE> enthält.
+     */
+    private static boolean isBelow(double bound, double limit) {
+        return bound < limit - BOUND_TOLERANCE * Math.abs(limit);
+    }
+
+    private double getPruningLimit() {
+        return Double.longBitsToDouble(pruningLimit.get());
+    }
+
+    private void raisePruningLimit(double reserveFactor) {
+        long current = pruningLimit.get();
+        while (reserveFactor > Double.longBitsToDouble(current)
+                && !pruningLimit.compareAndSet(current, Double.doubleToLongBits(reserveFactor))) {
+            current = pruningLimit.get();
+        }
+    }
+
+    /**
+     * Vergleicht zwei Aufbauten zuerst nach der Lagenanzahl und dann
+     * lexikographisch nach den Winkelindizes.
+     */
+    private static int compare(StackingSequence s1, StackingSequence s2) {
+        int numLayers = Integer.compare(s1.getNumberOfLayers(), s2.getNumberOfLayers());
+        if (numLayers != 0) {
+            return numLayers;
+        }
+        for (int ii = 0; ii < s1.getNumberOfLayers(); ii++) {
+            int index = Integer.compare(s1.getAngleIndex(ii), s2.getAngleIndex(ii));
+            if (index != 0) {
+                return index;
             }
-            
-            for (Laminat lam : newLaminates) {
+        }
+        return 0;
+    }
+
+    /**
+     * Liefert, ob ein Aufbau besser als der bisher beste ist. Bei gleichem
+     * Reservefaktor gewinnt der Aufbau mit weniger Lagen bzw. der
+     * lexikographisch kleinere.
+     */
+    private static boolean isBetter(double reserveFactor, StackingSequence sequence, double bestReserveFactor, StackingSequence best) {
+        return reserveFactor > bestReserveFactor
+                || (reserveFactor == bestReserveFactor && best != null && compare(sequence, best) < 0);
+    }
 
-                double minResFac = Double.MAX_VALUE;
-                for (MinimalReserveFactorCalculator calcs : calculators) {
-                    minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(lam));
-                    numberOfConstraintEvals++;
+    /**
+     * Liefert true, wenn der in umgekehrter Reihenfolge gelesene Aufbau
+     * lexikographisch kleiner ist. Dieser wird dann stattdessen bewertet.
+     */
+    private static boolean isReversedSmaller(byte[] indices, int numLayers) {
+        for (int ii = 0; ii < numLayers / 2; ii++) {
+            int front = indices[ii] & 0xFF;
+            int back = indices[numLayers - 1 - ii] & 0xFF;
+            if (front != back) {
+                return back < front;
+            }
+        }
+        return false;
+    }
+
+    private void update(StackingSequence sequence, double reserveFactor) {
+        if (sequence != null && isBetter(reserveFactor, sequence, maxReserveFactor, bestSequence)) {
+            maxReserveFactor = reserveFactor;
+            bestSequence = sequence;
+        }
+    }
+
+    private void publishResult() {
+        result.setBestLaminate(definition.createLaminat(bestSequence));
+        result.setMinReserveFactor(maxReserveFactor);
+        result.setNumberOfCheckedLaminates((int) Math.min(Integer.MAX_VALUE, numberOfVisitedNodes));
+        result.setNumberOfContraintEvaluations((int) Math.min(Integer.MAX_VALUE, (numberOfVisitedNodes + numberOfBoundEvaluations) * numberOfCalculators));
+    }
+
+    /**
+     * Tiefensuche je Lagenanzahl. Da alle Aufbauten mit weniger Lagen
+     * unzulässig sind, beginnt jeder Durchlauf mit der Schranke 1.
+     *
+     * @return false, falls der Thread unterbrochen wurde
+     */
+    private boolean searchDepthFirst() {
+        int numTasksMin = numberOfThreads > 1 ? 4 * numberOfThreads : 2;
+
+        BlockingQueue<MinimalReserveFactorContext[]> contextPool = new ArrayBlockingQueue<>(numberOfThreads);
+        for (int ii = 0; ii < numberOfThreads; ii++) {
+            contextPool.add(createContexts());
+        }
+
+        ExecutorService executor = null;
+        if (numberOfThreads > 1) {
+            executor = Executors.newFixedThreadPool(numberOfThreads, r -> {
+                Thread t = new Thread(r, "BranchAndBoundOptimizer");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        try {
+            for (int numLayers = 1; maxReserveFactor < 1.0; numLayers++) {
+
+                pruningLimit.set(Double.doubleToLongBits(1.0));
+
+                // Aufteilung in Teilbäume mit gemeinsamen äußeren Lagen
+                List<byte[]> prefixes = new ArrayList<>();
+                prefixes.add(new byte[numLayers]);
+                int prefixLength = 0;
+                while (prefixLength < numLayers && prefixes.size() < numTasksMin) {
+                    List<byte[]> newPrefixes = new ArrayList<>(prefixes.size() * branchIndices.length);
+                    for (byte[] prefix : prefixes) {
+                        for (int index : branchIndices) {
+                            byte[] newPrefix = prefix.clone();
+                            newPrefix[prefixLength] = (byte) index;
+                            newPrefixes.add(newPrefix);
+                        }
+                    }
+                    prefixes = newPrefixes;
+                    prefixLength++;
                 }
 
-                if (minResFac > maxReserveFactor) {
-                    maxReserveFactor = minResFac;
-                    bestLam          = lam;
+                List<SubtreeSearch> searches = new ArrayList<>(prefixes.size());
+                for (byte[] prefix : prefixes) {
+                    searches.add(new SubtreeSearch(prefix, prefixLength, contextPool));
                 }
-                numberOfCheckedLaminates++;
-                
-                if (numberOfCheckedLaminates % 100 == 0){
-                    result.setBestLaminate(bestLam.getCopyWithoutListener(false));
-                    result.setMinReserveFactor(maxReserveFactor);
-                    result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
-                    result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
+
+                if (executor == null) {
+                    for (SubtreeSearch search : searches) {
+                        search.call();
+                        if (Thread.interrupted()) {
+                            return false;
+                        }
+                        merge(search);
+                    }
+                } else {
+                    List<Future<SubtreeSearch>> futures = new ArrayList<>(searches.size());
+                    for (SubtreeSearch search : searches) {
+                        futures.add(executor.submit(search));
+                    }
+                    try {
+                        // Zusammenführen in der Reihenfolge der Teilbäume
+                        for (Future<SubtreeSearch> f : futures) {
+                            merge(f.get());
+                        }
+                    } catch (InterruptedException ex) {
+                        for (Future<SubtreeSearch> f : futures) {
+                            f.cancel(true);
+                        }
+                        return false;
+                    } catch (ExecutionException ex) {
+                        throw new IllegalStateException(ex.getCause());
+                    }
                 }
-                
             }
-            
-            result.setBestLaminate(bestLam.getCopyWithoutListener(false));
-            result.setMinReserveFactor(maxReserveFactor);
-            result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
-            result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
-            
-            oldLaminates = newLaminates;
+        } catch (InterruptedException ex) {
+            return false;
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
+        return true;
+    }
 
-        result.setFinished(true);
-        
-        return bestLam;
+    private void merge(SubtreeSearch search) {
+        numberOfVisitedNodes += search.visited;
+        numberOfBoundEvaluations += search.boundEvaluations;
+        numberOfPrunedNodes += search.pruned;
+        update(search.best, search.bestReserveFactor);
+        publishResult();
     }
-    
-    private Laminat[] createSubLaminates(Laminat laminate, DataLayer baseLayer, double[] angles){
-        Laminat[] newLaminates = new Laminat[angles.length];
-        for(int ii = 0; ii < angles.length; ii++){
-            newLaminates[ii] = laminate.getCopyWithoutListener(false);
-            DataLayer newLayer = baseLayer.getCopyWithoutListeners(angles[ii]);
-            newLaminates[ii].addLayer(newLayer);
+
+    /**
+     * Bestensuche je Lagenanzahl mit begrenzter Anzahl offener Knoten. Die
+     * Schranke eines vollständigen Aufbaus ist sein Reservefaktor. Hat der
+     * entnommene Knoten eine kleinere Schranke als der beste bewertete
+     * Aufbau, kann keiner der offenen Knoten einen besseren Aufbau enthalten.
+     * Leert sich die Menge der offenen Knoten, ohne dass ein Aufbau mit einem
+     * Reservefaktor von mindestens 1 gefunden wurde, gibt es mit dieser
+     * Lagenanzahl keinen zulässigen Aufbau.
+     *
+     * @return false, falls der Thread unterbrochen wurde
+     */
+    private boolean searchBestFirst() {
+        MinimalReserveFactorContext[] contexts = createContexts();
+
+        for (int numLayers = 1; maxReserveFactor < 1.0; numLayers++) {
+            double limit = 1.0;
+
+            TreeSet<Node> open = new TreeSet<>(NODE_ORDER);
+            byte[] root = new byte[numLayers];
+            open.add(new Node(root, 0, evaluateBound(contexts, root, 0)));
+
+            while (!open.isEmpty()) {
+                if (Thread.interrupted()) {
+                    return false;
+                }
+
+                Node node = open.pollFirst();
+
+                // Alle verbleibenden Knoten haben keine größere Schranke.
+                if (isBelow(node.bound, limit)) {
+                    numberOfPrunedNodes += open.size() + 1;
+                    open.clear();
+                    break;
+                }
+
+                if (node.numFixed == numLayers) {
+                    update(definition.createSequence(node.indices), node.bound);
+                    continue;
+                }
+
+                int numFixed = node.numFixed + 1;
+                for (int index : branchIndices) {
+                    byte[] child = node.indices.clone();
+                    child[node.numFixed] = (byte) index;
+
+                    double value;
+                    if (numFixed == numLayers) {
+                        if (skipReversed && isReversedSmaller(child, numLayers)) {
+                            numberOfPrunedNodes++;
+                            continue;
+                        }
+                        value = evaluate(contexts, definition.createSequence(child));
+                        numberOfVisitedNodes++;
+                    } else {
+                        value = evaluateBound(contexts, child, numFixed);
+                        if (value != Double.POSITIVE_INFINITY) {
+                            numberOfBoundEvaluations++;
+                        }
+                    }
+
+                    if (isBelow(value, limit)) {
+                        numberOfPrunedNodes++;
+                        continue;
+                    }
+                    if (numFixed == numLayers) {
+                        limit = Math.max(limit, value);
+                    }
+
+                    open.add(new Node(child, numFixed, value));
+                    if (open.size() > maxOpenNodes) {
+                        open.pollLast();
+                        numberOfPrunedNodes++;
+                    }
+
+                    if ((numberOfVisitedNodes + numberOfBoundEvaluations) % 100 == 0) {
+                        publishResult();
+                    }
+                }
+            }
+            publishResult();
+        }
+        return true;
+    }
+
+    /**
+     * Tiefensuche in einem Teilbaum mit festen äußeren Lagen. Die Aufbauten
+     * werden in lexikographischer Reihenfolge bewertet. Teilbäume, deren
+     * Schranke kleiner als die gemeinsame Schranke aller Threads ist, werden
+     * übersprungen.
+     */
+    private final class SubtreeSearch implements Callable<SubtreeSearch> {
+
+        private final byte[] indices;
+        private final int prefixLength;
+        private final BlockingQueue<MinimalReserveFactorContext[]> contextPool;
+
+        private StackingSequence best;
+        private double bestReserveFactor = -Double.MAX_VALUE;
+        private long visited;
+        private long boundEvaluations;
+        private long pruned;
+
+        private SubtreeSearch(byte[] indices, int prefixLength, BlockingQueue<MinimalReserveFactorContext[]> contextPool) {
+            this.indices = indices;
+            this.prefixLength = prefixLength;
+            this.contextPool = contextPool;
+        }
+
+        @Override
+        public SubtreeSearch call() throws InterruptedException {
+            MinimalReserveFactorContext[] contexts = contextPool.take();
+            try {
+                search(contexts, prefixLength);
+            } finally {
+                contextPool.put(contexts);
+            }
+            return this;
+        }
+
+        private void search(MinimalReserveFactorContext[] contexts, int position) {
+            if (position == indices.length) {
+                if (skipReversed && isReversedSmaller(indices, indices.length)) {
+                    pruned++;
+                    return;
+                }
+                StackingSequence sequence = definition.createSequence(indices);
+                double minResFac = evaluate(contexts, sequence);
+                visited++;
+                if (isBetter(minResFac, sequence, bestReserveFactor, best)) {
+                    bestReserveFactor = minResFac;
+                    best = sequence;
+                }
+                raisePruningLimit(minResFac);
+                return;
+            }
+
+            // Bei nur einer freien Lage sind die Aufbauten selbst kaum
+            // teurer als ihre Schranke.
+            if (position < indices.length - 1) {
+                double bound = evaluateBound(contexts, indices, position);
+                if (bound != Double.POSITIVE_INFINITY) {
+                    boundEvaluations++;
+                }
+                if (isBelow(bound, getPruningLimit())) {
+                    pruned++;
+                    return;
+                }
+            }
+
+            for (int index : branchIndices) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                indices[position] = (byte) index;
+                search(contexts, position + 1);
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private final byte[] indices;
+        private final int numFixed;
+        private final double bound;
+
+        private Node(byte[] indices, int numFixed, double bound) {
+            this.indices = indices;
+            this.numFixed = numFixed;
+            this.bound = bound;
         }
-        return newLaminates;
     }
 
     @Override
     public Optimizer getInstance(OptimizationInput input) {
-        return new BranchAndBoundOptimizer(input);
+        BranchAndBoundOptimizer optimizer = new BranchAndBoundOptimizer(input);
+        optimizer.searchStrategy = searchStrategy;
+        optimizer.numberOfThreads = numberOfThreads;
+        optimizer.maxOpenNodes = maxOpenNodes;
+        return optimizer;
     }
 
     @Override
@@ -35,6 +35,9 @@ import de.elamx.laminate.Laminat;
 import de.elamx.laminate.addFailureCriteria.MaxStress;
 import de.elamx.laminate.failure.Criterion;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
+import de.elamx.laminate.optimization.StackingDefinition;
+import de.elamx.laminate.optimization.StackingSequence;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.UUID;
@@ -70,7 +73,8 @@ public class TodorokiOptimizer extends Optimizer{
         
         DataLayer superLayer = getSuperlayer();
         
-        Laminat laminat = new Laminat(UUID.randomUUID().toString(), NbBundle.getMessage(DummyBundle.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet(), false);
+        String laminateUid = UUID.randomUUID().toString();
+        String laminateName = NbBundle.getMessage(DummyBundle.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet();
 
         boolean isSymmetricLaminateNeeded = false;
 
@@ -81,13 +85,30 @@ public class TodorokiOptimizer extends Optimizer{
             }
         }
 
-        laminat.setSymmetric(isSymmetricLaminateNeeded || input.isSymmetricLaminat());
+        // Die Entwürfe werden als kompakte Lagenaufbauten bewertet. Die
+        // Superlage erhält den Winkelindex hinter allen möglichen Winkeln.
+        DataLayer[] plyLayers = new DataLayer[angles.length + 1];
+        for (int ii = 0; ii < angles.length; ii++) {
+            plyLayers[ii] = baseLayer.getCopyWithoutListeners(angles[ii]);
+        }
+        int superLayerIndex = angles.length;
+        plyLayers[superLayerIndex] = superLayer;
+        
+        StackingDefinition definition = new StackingDefinition(plyLayers, isSymmetricLaminateNeeded || input.isSymmetricLaminat());
+
+        MinimalReserveFactorContext[] contexts = new MinimalReserveFactorContext[calculators.size()];
+        for (int ii = 0; ii < contexts.length; ii++) {
+            contexts[ii] = calculators.get(ii).createContext();
+        }
         
         // Bestimmung der maximalen Lagenanzahl durch Sequential Decision Approach
         
         SequentialDecisionApproach sda = new SequentialDecisionApproach(input);
         
         Laminat sdaLam = sda.internalOptimize();
+        if (sdaLam == null) {
+            return null;
+        }
 
         int numberOfCheckedLaminates = sda.getResult().getNumberOfCheckedLaminates();
         int numberOfConstraintEvals = sda.getResult().getNumberOfContraintEvaluations();
@@ -104,14 +125,16 @@ public class TodorokiOptimizer extends Optimizer{
         
         // Bestimmung der minimalen Lagenanzahl mittels Superlagen
         
+        StackingSequence sequence = definition.createSequence(new byte[0]);
+        
         double minResFac = 0.0;
         while(minResFac < 1.0){
         
-            laminat.addLayer(superLayer.getCopyWithoutListeners(superLayer.getAngle()));
+            sequence = sequence.withAddedLayer(superLayerIndex);
             
             minResFac = Double.MAX_VALUE;
-            for (MinimalReserveFactorCalculator calcs : calculators) {
-                minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(laminat));
+            for (MinimalReserveFactorContext context : contexts) {
+                minResFac = Math.min(minResFac, context.getMinimalReserveFactor(sequence));
                 numberOfConstraintEvals++;
             }            
             
@@ -122,19 +145,19 @@ public class TodorokiOptimizer extends Optimizer{
         result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
         result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
         
-        //int minLayerNum = laminat.getNumberofLayers();
+        //int minLayerNum = sequence.getNumberOfLayers();
         //System.out.println("minimale Lagenanzahl : " + minLayerNum);
         
         ArrayList<Individuum> allIndivs = new ArrayList<>();
         
         
-        allIndivs.add(new Individuum(laminat.getCopyWithoutListener(false),0));
+        allIndivs.add(new Individuum(sequence,0));
         ArrayList<Individuum> allIndivsOld;
         
         while(true){
             
             //System.out.println("Anzahl an Individuen vorher: " + allIndivs.size());
-            //System.out.println("Lagenanzahl : " + allIndivs.get(0).laminat.getNumberofLayers());
+            //System.out.println("Lagenanzahl : " + allIndivs.get(0).sequence.getNumberOfLayers());
         
             allIndivsOld = allIndivs;
             allIndivs = new ArrayList<>();
@@ -142,23 +165,15 @@ public class TodorokiOptimizer extends Optimizer{
             for (Individuum individuum : allIndivsOld) {
 
                 // Ändern der äußersten Superlage
-                Individuum[] indivs = createSubLaminates(individuum, baseLayer, angles);
+                Individuum[] indivs = createSubSequences(individuum, angles.length);
 
                 for (Individuum indiv : indivs) {
                     minResFac = Double.MAX_VALUE;
-                    for (MinimalReserveFactorCalculator calcs : calculators) {
-                        minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(indiv.getLaminat()));
+                    for (MinimalReserveFactorContext context : contexts) {
+                        minResFac = Math.min(minResFac, context.getMinimalReserveFactor(indiv.getSequence()));
                         numberOfConstraintEvals++;
                     }
                     numberOfCheckedLaminates++;
-                    /*String angleStr = "[";
-                    String separator = "";
-                    for (Layer l : indivs[ii].getLaminat().getLayers()){
-                    angleStr += separator + (l.getName().equals("Superlayer") ? "SL" : ("" + l.getAngle()));
-                    separator = "/";
-                    }
-                    angleStr += "]_S";
-                    System.out.println("minimaler Reserverfaktor für Entwurf : " + minResFac + " - " +  angleStr);*/
                     indiv.setMinReserverFactor(minResFac);
                     if (minResFac >= 1.0) {
                         allIndivs.add(indiv);
@@ -172,18 +187,18 @@ public class TodorokiOptimizer extends Optimizer{
             /*System.out.println("Anzahl an Individuen nachher: " + allIndivs.size());
             
             if (!allIndivs.isEmpty()) {
-                System.out.println("" + allIndivs.get(0).outestSuperLayerPosition + " ==  "  + allIndivs.get(0).laminat.getNumberofLayers());
+                System.out.println("" + allIndivs.get(0).outestSuperLayerPosition + " ==  "  + allIndivs.get(0).sequence.getNumberOfLayers());
             }*/
             
-            if (!allIndivs.isEmpty() && allIndivs.get(0).outestSuperLayerPosition == (allIndivs.get(0).laminat.isSymmetric() ? allIndivs.get(0).laminat.getNumberofLayers()/2 : allIndivs.get(0).laminat.getNumberofLayers())){
+            if (!allIndivs.isEmpty() && allIndivs.get(0).outestSuperLayerPosition == allIndivs.get(0).sequence.getNumberOfLayers()){
                 //System.out.println("Bestes gefunden");
                 break;
             }
 
             if (allIndivs.isEmpty()){
-                laminat.addLayer(superLayer.getCopyWithoutListeners(superLayer.getAngle()));
-                allIndivs.add(new Individuum(laminat.getCopyWithoutListener(false),0));
-                //System.out.println("mehr Lagen (" + laminat.getNumberofLayers() + ")");
+                sequence = sequence.withAddedLayer(superLayerIndex);
+                allIndivs.add(new Individuum(sequence,0));
+                //System.out.println("mehr Lagen (" + sequence.getNumberOfLayers() + ")");
             }
         
         }
@@ -196,22 +211,21 @@ public class TodorokiOptimizer extends Optimizer{
             }
         }
         
-        result.setBestLaminate(bestIndiv.laminat.getCopyWithoutListener(false));
+        Laminat bestLaminat = definition.createLaminat(laminateUid, laminateName, bestIndiv.sequence);
+        
+        result.setBestLaminate(bestLaminat.getCopyWithoutListener(false));
         result.setMinReserveFactor(bestIndiv.minReserverFactor);
         result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
         result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
         
-        return bestIndiv.laminat;
+        return bestLaminat;
     }
     
-    private Individuum[] createSubLaminates(Individuum indiv, DataLayer baseLayer, double[] angles){
-        Individuum[] newIndivs = new Individuum[angles.length];
-        for(int ii = 0; ii < angles.length; ii++){
-            Laminat lam = indiv.getLaminat().getCopyWithoutListener(false);
-            DataLayer newLayer = baseLayer.getCopyWithoutListeners(baseLayer.getAngle());
-            newLayer.setAngle(angles[ii]);
-            lam.setLayer(indiv.getOutestSuperLayerPosition(), newLayer);
-            newIndivs[ii] = new Individuum(lam,indiv.getOutestSuperLayerPosition()+1);
+    private Individuum[] createSubSequences(Individuum indiv, int numberOfAngles){
+        Individuum[] newIndivs = new Individuum[numberOfAngles];
+        for(int ii = 0; ii < numberOfAngles; ii++){
+            StackingSequence sequence = indiv.getSequence().withAngleIndex(indiv.getOutestSuperLayerPosition(), ii);
+            newIndivs[ii] = new Individuum(sequence,indiv.getOutestSuperLayerPosition()+1);
         }
         return newIndivs;
     }
@@ -258,12 +272,12 @@ public class TodorokiOptimizer extends Optimizer{
     
     private class Individuum{
         
-        private final Laminat laminat;
+        private final StackingSequence sequence;
         private double minReserverFactor = 0.0;
         private int outestSuperLayerPosition = 0;
 
-        public Individuum(Laminat laminat, int outestSuperLayerPosition) {
-            this.laminat = laminat;
+        public Individuum(StackingSequence sequence, int outestSuperLayerPosition) {
+            this.sequence = sequence;
             this.outestSuperLayerPosition = outestSuperLayerPosition;
         }
         /**
@@ -303,12 +317,12 @@ public class TodorokiOptimizer extends Optimizer{
         }
 
         /**
-         * Get the value of laminat
+         * Get the value of sequence
          *
-         * @return the value of laminat
+         * @return the value of sequence
          */
-        public Laminat getLaminat() {
-            return laminat;
+        public StackingSequence getSequence() {
+            return sequence;
         }
 
     }
@@ -0,0 +1,166 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.additionaloptimizers.branchandbound;
+
+import de.elamx.clt.CLT_Input;
+import de.elamx.clt.optimization.MinimalReserveFactorImplementation;
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.Layer;
+import de.elamx.laminate.failure.Puck;
+import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
+import de.elamx.laminate.optimization.StackingDefinition;
+import de.elamx.laminate.optimization.StackingSequence;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class BranchAndBoundOptimizerTest {
+
+    private static final double[] ANGLES = {0.0, 45.0, -45.0, 90.0};
+
+    public BranchAndBoundOptimizerTest() {
+    }
+
+    private static OptimizationInput createInput() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        CLT_Input cltInput = new CLT_Input();
+        cltInput.getLoad().setN_x(1000.0);
+        cltInput.getLoad().setN_y(-325.0);
+        cltInput.getLoad().setN_xy(200.0);
+
+        ArrayList<MinimalReserveFactorCalculator> calculators = new ArrayList<>();
+        calculators.add(new MinimalReserveFactorImplementation(cltInput));
+
+        return new OptimizationInput(ANGLES, 0.125, mat, null, calculators, true);
+    }
+
+    private static double[] getAngles(Laminat laminat) {
+        List<Layer> layers = laminat.getLayers();
+        double[] angles = new double[layers.size()];
+        for (int ii = 0; ii < angles.length; ii++) {
+            angles[ii] = layers.get(ii).getAngle();
+        }
+        return angles;
+    }
+
+    /**
+     * Bewertet für steigende Lagenanzahl alle Aufbauten und liefert den
+     * ersten zulässigen Aufbau mit dem größten Reservefaktor. Bei gleichem
+     * Reservefaktor gewinnt der lexikographisch kleinste Aufbau.
+     */
+    private static StackingSequence enumerate(OptimizationInput input, double[] minReserveFactor, long[] numberOfLeaves) {
+        DataLayer baseLayer = new DataLayer("", "", input.getMaterial(), 0.0, input.getThickness(), input.getCriterion());
+        StackingDefinition definition = new StackingDefinition(baseLayer, input.getAngles(), input.isSymmetricLaminat());
+        MinimalReserveFactorContext context = input.getCalculators().get(0).createContext();
+
+        for (int numLayers = 1; numLayers <= 8; numLayers++) {
+            StackingSequence best = null;
+            double bestReserveFactor = -Double.MAX_VALUE;
+            byte[] indices = new byte[numLayers];
+            int numCombinations = (int) Math.pow(ANGLES.length, numLayers);
+            for (int ii = 0; ii < numCombinations; ii++) {
+                int rest = ii;
+                for (int jj = numLayers - 1; jj >= 0; jj--) {
+                    indices[jj] = (byte) (rest % ANGLES.length);
+                    rest /= ANGLES.length;
+                }
+                StackingSequence sequence = definition.createSequence(indices);
+                double resFac = context.getMinimalReserveFactor(sequence);
+                numberOfLeaves[0]++;
+                if (resFac > bestReserveFactor) {
+                    bestReserveFactor = resFac;
+                    best = sequence;
+                }
+            }
+            if (bestReserveFactor >= 1.0) {
+                minReserveFactor[0] = bestReserveFactor;
+                return best;
+            }
+        }
+        throw new IllegalStateException("No feasible stacking with up to 8 layers");
+    }
+
+    private static BranchAndBoundOptimizer optimize(int searchStrategy, int numberOfThreads) {
+        BranchAndBoundOptimizer prototype = new BranchAndBoundOptimizer();
+        prototype.setSearchStrategy(searchStrategy);
+        prototype.setNumberOfThreads(numberOfThreads);
+        BranchAndBoundOptimizer optimizer = (BranchAndBoundOptimizer) prototype.getInstance(createInput());
+        optimizer.optimize(false);
+        return optimizer;
+    }
+
+    /**
+     * Tiefensuche mit einem und mehreren Threads und Bestensuche müssen den
+     * Aufbau der vollständigen Aufzählung liefern und dabei Teilbäume über
+     * die Schranke verwerfen.
+     */
+    @Test
+    public void compareWithEnumeration() {
+        double[] minReserveFactor = new double[1];
+        long[] numberOfLeaves = new long[1];
+        StackingSequence expected = enumerate(createInput(), minReserveFactor, numberOfLeaves);
+
+        double[] expectedAngles = new double[expected.getNumberOfLayers()];
+        for (int ii = 0; ii < expectedAngles.length; ii++) {
+            expectedAngles[ii] = ANGLES[expected.getAngleIndex(ii)];
+        }
+
+        BranchAndBoundOptimizer[] optimizers = {
+            optimize(BranchAndBoundOptimizer.SEARCH_DEPTH_FIRST, 1),
+            optimize(BranchAndBoundOptimizer.SEARCH_DEPTH_FIRST, 4),
+            optimize(BranchAndBoundOptimizer.SEARCH_BEST_FIRST, 1)
+        };
+
+        for (BranchAndBoundOptimizer optimizer : optimizers) {
+            assertArrayEquals(expectedAngles, getAngles(optimizer.getResult().getBestLaminate()), 0.0);
+            assertEquals(minReserveFactor[0], optimizer.getResult().getMinReserveFactor(), 0.0);
+            assertTrue(optimizer.getNumberOfPrunedNodes() > 0);
+            assertTrue(optimizer.getNumberOfVisitedNodes() < numberOfLeaves[0]);
+        }
+    }
+}
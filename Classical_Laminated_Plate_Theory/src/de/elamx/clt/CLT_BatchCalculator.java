@@ -0,0 +1,393 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.Layer;
+import de.elamx.laminate.LayerMaterial;
+import de.elamx.laminate.failure.Criterion;
+import de.elamx.laminate.failure.ReserveFactor;
+import de.elamx.mathtools.MatrixTools;
+
+/**
+ * Berechnung vieler Lastfälle für ein Laminat nach der klassischen
+ * Laminattheorie. Im Gegensatz zum {@link CLT_Calculator} werden alle
+ * Eingangs- und Ergebnisgrößen in flachen <CODE>double[]</CODE>-Puffern
+ * übergeben, die vom Aufrufer einmalig angelegt und wiederverwendet werden
+ * können. Pro Lastfall werden keine Objekte erzeugt.<br>
+ * <br>
+ * Alle Puffer sind spaltenweise (structure of arrays) organisiert, d.h. der
+ * Lastfallindex läuft am schnellsten:
+ * <ul>
+ * <li>Lasten/Verzerrungen: <CODE>[komponente * numCases + lastfall]</CODE>,
+ * 6 Komponenten (N<sub>x</sub>, N<sub>y</sub>, N<sub>xy</sub>,
+ * M<sub>x</sub>, M<sub>y</sub>, M<sub>xy</sub> bzw. &epsilon;, &kappa;)</li>
+ * <li>Lagendehnungen und -spannungen (lokal):
+ * <CODE>[((lage * 2 + position) * 3 + komponente) * numCases + lastfall]</CODE></li>
+ * <li>Reservefaktoren und Versagensarten:
+ * <CODE>[(lage * 2 + position) * numCases + lastfall]</CODE></li>
+ * </ul>
+ * Die Position ist dabei {@link CLT_Layer#POSITION_UPPER} bzw.
+ * {@link CLT_Layer#POSITION_LOWER}.<br>
+ * <br>
+ * Die Laminateigenschaften werden beim Erzeugen bzw. beim Aufruf von
+ * {@link #refresh()} übernommen. Ein Objekt dieser Klasse besitzt internen
+ * Arbeitsspeicher und darf deshalb nicht gleichzeitig von mehreren Threads
+ * verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_BatchCalculator {
+
+    public static final int NUM_POSITIONS = 2;
+
+    private final CLT_Laminate laminate;
+    private final boolean[] useStrain;
+
+    // Lösungsmatrix des (ggf. getauschten) ABD-Gleichungssystems, zeilenweise
+    private final double[] solution = new double[36];
+    // hygrothermale Schnittlasten für deltaT = 1 bzw. deltaH = 1
+    private final double[] thermalForces = new double[6];
+    private final double[] hygroForces = new double[6];
+
+    private int numLayers;
+    private double[] zPos;         // [lage * 2 + position]
+    private double[] transEps;     // [lage * 9 + ii * 3 + jj]
+    private double[] qLocal;       // [lage * 9 + ii * 3 + jj]
+    private double[] alphaBeta;    // [lage * 4 + (alpha11, alpha22, beta11, beta22)]
+    private Layer[] layers;
+    private LayerMaterial[] materials;
+    private Criterion[] criteria;
+
+    // Arbeitsspeicher
+    private final double[] rhs = new double[6];
+    private final double[] tForce = new double[6];
+    private final double[] epskappa = new double[6];
+    // Spannungen und Dehnungen einer Lage für alle Lastfälle [3 * lc + kk]
+    private double[] rfStresses;
+    private double[] rfStrains;
+    private double[] rfValues;
+    private int[] rfTypes;
+
+    /**
+     * Erzeugt einen neuen Batch-Rechner für das übergebene Laminat. Über den
+     * Boolean-Vektor <CODE>useStrain</CODE> wird für jede der 6 Komponenten
+     * festgelegt, ob die Kraft (false) oder die Verzerrung (true) vorgegeben
+     * ist (siehe {@link CLT_Calculator#determineValues}).
+     *
+     * @param laminate Laminat
+     * @param useStrain Boolean-Vektor der Länge 6
+     */
+    public CLT_BatchCalculator(CLT_Laminate laminate, boolean[] useStrain) {
+        this.laminate = laminate;
+        this.useStrain = useStrain.clone();
+        refresh();
+    }
+
+    /**
+     * Übernimmt die aktuellen Eigenschaften des Laminats. Muss nach jeder
+     * Änderung des Laminats aufgerufen werden.
+     */
+    public final void refresh() {
+        CLT_Layer[] cltLayers = laminate.getCLTLayers();
+        if (layers == null || cltLayers.length != numLayers) {
+            numLayers = cltLayers.length;
+
+            zPos = new double[NUM_POSITIONS * numLayers];
+            transEps = new double[9 * numLayers];
+            qLocal = new double[9 * numLayers];
+            alphaBeta = new double[4 * numLayers];
+            layers = new Layer[numLayers];
+            materials = new LayerMaterial[numLayers];
+            criteria = new Criterion[numLayers];
+        }
+
+        for (int ii = 0; ii < numLayers; ii++) {
+            setLayerData(ii, cltLayers[ii]);
+        }
+
+        calcSolution();
+    }
+
+    /**
+     * Übernimmt die Eigenschaften einer einzelnen Lage, z.B. nach einer
+     * Degradation und dem Aufruf von {@link CLT_Laminate#updateLayer(int)}.
+     * Die Lösungsmatrix und die hygrothermalen Schnittlasten werden aus der
+     * aktuellen ABD-Matrix des Laminats neu bestimmt, alle anderen Lagen
+     * werden nicht neu gelesen. Hat sich die Anzahl der Lagen geändert, wird
+     * {@link #refresh()} aufgerufen.
+     *
+     * @param index Index der Lage in {@link CLT_Laminate#getCLTLayers()}
+     */
+    public void updateLayer(int index) {
+        CLT_Layer[] cltLayers = laminate.getCLTLayers();
+        if (cltLayers.length != numLayers) {
+            refresh();
+            return;
+        }
+        setLayerData(index, cltLayers[index]);
+        calcSolution();
+    }
+
+    private void setLayerData(int ii, CLT_Layer cl) {
+        Layer l = cl.getLayer();
+        LayerMaterial mat = l.getMaterial();
+        layers[ii] = l;
+        materials[ii] = mat;
+        criteria[ii] = l.getCriterion();
+
+        zPos[ii * NUM_POSITIONS + CLT_Layer.POSITION_UPPER] = cl.getZm() + l.getThickness() / 2.0;
+        zPos[ii * NUM_POSITIONS + CLT_Layer.POSITION_LOWER] = cl.getZm() - l.getThickness() / 2.0;
+
+        int off = 9 * ii;
+        double[][] t = cl.getTransMat_eps_glo_to_loc();
+        for (int jj = 0; jj < 3; jj++) {
+            System.arraycopy(t[jj], 0, transEps, off + 3 * jj, 3);
+        }
+
+        double[][] q = cl.getQMatLocal();
+        for (int jj = 0; jj < 3; jj++) {
+            System.arraycopy(q[jj], 0, qLocal, off + 3 * jj, 3);
+        }
+
+        alphaBeta[4 * ii] = mat.getAlphaTPar();
+        alphaBeta[4 * ii + 1] = mat.getAlphaTNor();
+        alphaBeta[4 * ii + 2] = mat.getBetaPar();
+        alphaBeta[4 * ii + 3] = mat.getBetaNor();
+    }
+
+    private void calcSolution() {
+        // Das Gleichungssystem ist linear, daher wird die Lösungsmatrix
+        // einmalig über die Einheitsvektoren bestimmt.
+        // Werden keine Verzerrungen vorgegeben, entspricht sie der vom Laminat
+        // bereits bestimmten inversen ABD-Matrix.
+        boolean exchange = false;
+        for (boolean b : useStrain) {
+            exchange |= b;
+        }
+        if (!exchange) {
+            double[][] abdInv = laminate.getInvABDMatrix();
+            for (int ii = 0; ii < 6; ii++) {
+                System.arraycopy(abdInv[ii], 0, solution, 6 * ii, 6);
+            }
+        } else {
+            double[][] abd = laminate.getABDMatrix();
+            for (int jj = 0; jj < 6; jj++) {
+                double[] unit = new double[6];
+                unit[jj] = 1.0;
+                double[] col = MatrixTools.solveAbWithExchange(abd, unit, useStrain);
+                for (int ii = 0; ii < 6; ii++) {
+                    solution[6 * ii + jj] = col[ii];
+                }
+            }
+        }
+
+        Loads unitLoads = new Loads();
+        unitLoads.setDeltaT(1.0);
+        System.arraycopy(CLT_Calculator.getHygroThermalForces(laminate, unitLoads), 0, thermalForces, 0, 6);
+        unitLoads.setDeltaT(0.0);
+        unitLoads.setDeltaH(1.0);
+        System.arraycopy(CLT_Calculator.getHygroThermalForces(laminate, unitLoads), 0, hygroForces, 0, 6);
+    }
+
+    /**
+     * Liefert die Anzahl der Lagen, für die Ergebnisse geschrieben werden.
+     *
+     * @return Anzahl der Lagen
+     */
+    public int getNumberOfLayers() {
+        return numLayers;
+    }
+
+    /**
+     * Liefert die notwendige Länge der Puffer für Lagendehnungen und
+     * -spannungen.
+     *
+     * @param numCases Anzahl der Lastfälle
+     * @return Länge des Puffers
+     */
+    public int getPlyBufferLength(int numCases) {
+        return numLayers * NUM_POSITIONS * 3 * numCases;
+    }
+
+    /**
+     * Liefert die notwendige Länge der Puffer für Reservefaktoren und
+     * Versagensarten.
+     *
+     * @param numCases Anzahl der Lastfälle
+     * @return Länge des Puffers
+     */
+    public int getReserveFactorBufferLength(int numCases) {
+        return numLayers * NUM_POSITIONS * numCases;
+    }
+
+    /**
+     * Berechnet <CODE>numCases</CODE> Lastfälle. Die Komponenten von
+     * <CODE>values</CODE> sind je nach <CODE>useStrain</CODE> Kräfte bzw.
+     * Momente oder Verzerrungen. Alle Ergebnispuffer außer
+     * <CODE>epsKappa</CODE> dürfen <CODE>null</CODE> sein, dann werden die
+     * entsprechenden Größen nicht gespeichert. Reservefaktoren werden nur
+     * berechnet, wenn <CODE>reserveFactors</CODE> oder
+     * <CODE>failureTypes</CODE> übergeben werden.
+     *
+     * @param values vorgegebene Kräfte/Verzerrungen (6 * numCases)
+     * @param deltaT Temperaturänderung je Lastfall oder <CODE>null</CODE>
+     * @param deltaH Feuchteänderung je Lastfall oder <CODE>null</CODE>
+     * @param numCases Anzahl der Lastfälle
+     * @param forces Ergebnis: Kräfte und Momente (6 * numCases) oder <CODE>null</CODE>
+     * @param epsKappa Ergebnis: Dehnungen und Krümmungen (6 * numCases)
+     * @param plyStrains Ergebnis: lokale Lagendehnungen oder <CODE>null</CODE>
+     * @param plyStresses Ergebnis: lokale Lagenspannungen oder <CODE>null</CODE>
+     * @param reserveFactors Ergebnis: Reservefaktoren oder <CODE>null</CODE>
+     * @param failureTypes Ergebnis: Versagensarten (siehe {@link ReserveFactor}) oder <CODE>null</CODE>
+     */
+    public void calculate(double[] values, double[] deltaT, double[] deltaH, int numCases,
+            double[] forces, double[] epsKappa, double[] plyStrains, double[] plyStresses,
+            double[] reserveFactors, int[] failureTypes) {
+
+        boolean calcPly = plyStrains != null || plyStresses != null || reserveFactors != null || failureTypes != null;
+        boolean calcRf = reserveFactors != null || failureTypes != null;
+
+        for (int lc = 0; lc < numCases; lc++) {
+            double dT = deltaT == null ? 0.0 : deltaT[lc];
+            double dH = deltaH == null ? 0.0 : deltaH[lc];
+
+            for (int ii = 0; ii < 6; ii++) {
+                tForce[ii] = dT * thermalForces[ii] + dH * hygroForces[ii];
+                double v = values[ii * numCases + lc];
+                rhs[ii] = useStrain[ii] ? v : v + tForce[ii];
+            }
+
+            for (int ii = 0; ii < 6; ii++) {
+                double res = 0.0;
+                for (int jj = 0; jj < 6; jj++) {
+                    res += solution[6 * ii + jj] * rhs[jj];
+                }
+                double v = values[ii * numCases + lc];
+                if (useStrain[ii]) {
+                    epskappa[ii] = v;
+                    if (forces != null) {
+                        forces[ii * numCases + lc] = res - tForce[ii];
+                    }
+                } else {
+                    epskappa[ii] = res;
+                    if (forces != null) {
+                        forces[ii * numCases + lc] = v;
+                    }
+                }
+                epsKappa[ii * numCases + lc] = epskappa[ii];
+            }
+
+        }
+
+        if (!calcPly) {
+            return;
+        }
+
+        if (calcRf) {
+            ensureRfBuffers(numCases);
+        }
+
+        // Die Lagenergebnisse werden lagenweise für alle Lastfälle berechnet,
+        // damit die Reservefaktoren einer Lage gemeinsam über
+        // Criterion.getReserveFactors bestimmt werden können.
+        for (int l = 0; l < numLayers; l++) {
+            int off = 9 * l;
+
+            for (int pos = 0; pos < NUM_POSITIONS; pos++) {
+                int lp = l * NUM_POSITIONS + pos;
+                double z = zPos[lp];
+
+                for (int lc = 0; lc < numCases; lc++) {
+                    double dT = deltaT == null ? 0.0 : deltaT[lc];
+                    double dH = deltaH == null ? 0.0 : deltaH[lc];
+                    double a1 = alphaBeta[4 * l] * dT + alphaBeta[4 * l + 2] * dH;
+                    double a2 = alphaBeta[4 * l + 1] * dT + alphaBeta[4 * l + 3] * dH;
+
+                    double eg0 = epsKappa[lc] + z * epsKappa[3 * numCases + lc];
+                    double eg1 = epsKappa[numCases + lc] + z * epsKappa[4 * numCases + lc];
+                    double eg2 = epsKappa[2 * numCases + lc] + z * epsKappa[5 * numCases + lc];
+
+                    // Transformation der globalen Dehnungen in die lokalen Dehnungen
+                    double el0 = transEps[off] * eg0 + transEps[off + 1] * eg1 + transEps[off + 2] * eg2;
+                    double el1 = transEps[off + 3] * eg0 + transEps[off + 4] * eg1 + transEps[off + 5] * eg2;
+                    double el2 = transEps[off + 6] * eg0 + transEps[off + 7] * eg1 + transEps[off + 8] * eg2;
+
+                    // Berechnen der lokalen Spannungen
+                    double m0 = el0 - a1;
+                    double m1 = el1 - a2;
+                    double s0 = qLocal[off] * m0 + qLocal[off + 1] * m1 + qLocal[off + 2] * el2;
+                    double s1 = qLocal[off + 3] * m0 + qLocal[off + 4] * m1 + qLocal[off + 5] * el2;
+                    double s2 = qLocal[off + 6] * m0 + qLocal[off + 7] * m1 + qLocal[off + 8] * el2;
+
+                    int base = lp * 3 * numCases + lc;
+                    if (plyStrains != null) {
+                        plyStrains[base] = el0;
+                        plyStrains[base + numCases] = el1;
+                        plyStrains[base + 2 * numCases] = el2;
+                    }
+                    if (plyStresses != null) {
+                        plyStresses[base] = s0;
+                        plyStresses[base + numCases] = s1;
+                        plyStresses[base + 2 * numCases] = s2;
+                    }
+
+                    if (calcRf) {
+                        rfStresses[3 * lc] = s0;
+                        rfStresses[3 * lc + 1] = s1;
+                        rfStresses[3 * lc + 2] = s2;
+                        rfStrains[3 * lc] = el0;
+                        rfStrains[3 * lc + 1] = el1;
+                        rfStrains[3 * lc + 2] = el2;
+                    }
+                }
+
+                if (calcRf) {
+                    criteria[l].getReserveFactors(materials[l], layers[l], rfStresses, rfStrains, numCases,
+                            rfValues, failureTypes != null ? rfTypes : null);
+                    if (reserveFactors != null) {
+                        System.arraycopy(rfValues, 0, reserveFactors, lp * numCases, numCases);
+                    }
+                    if (failureTypes != null) {
+                        System.arraycopy(rfTypes, 0, failureTypes, lp * numCases, numCases);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stellt sicher, dass die Arbeitspuffer für die Reservefaktorberechnung
+     * mindestens <CODE>numCases</CODE> Lastfälle aufnehmen können.
+     */
+    private void ensureRfBuffers(int numCases) {
+        if (rfValues == null || rfValues.length < numCases) {
+            rfStresses = new double[3 * numCases];
+            rfStrains = new double[3 * numCases];
+            rfValues = new double[numCases];
+            rfTypes = new int[numCases];
+        }
+    }
+}
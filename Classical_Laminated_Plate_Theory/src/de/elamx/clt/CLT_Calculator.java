@@ -30,7 +30,6 @@ import de.elamx.laminate.DefaultMaterial;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.Layer;
 import de.elamx.laminate.LayerMaterial;
-import de.elamx.laminate.Material;
 import de.elamx.laminate.StressStrainState;
 import de.elamx.laminate.failure.ReserveFactor;
 import de.elamx.mathtools.MatrixTools;
@@ -190,106 +189,36 @@ public class CLT_Calculator {
             return forces;
         }
 
-        double[] nt = new double[]{0.0, 0.0, 0.0};
-        double[] mt = new double[]{0.0, 0.0, 0.0};
-        for (CLT_Layer layer : lam.getCLTLayers()) {
-
-            // Winkel
-            double angle = layer.getLayer().getAngle() * Math.PI / 180.0;
-            // globale Q-Matrix
-            double[][] qMatrix = layer.getQMatGlobal();
-            //
-            Material mat = layer.getLayer().getMaterial();
+        double deltaT = loads.getDeltaT();
+        double deltaH = loads.getDeltaH();
 
-            // calculate alpha_i and beta_i values
-            double[] alpha_i = calc_angle_i(mat.getAlphaTPar(), mat.getAlphaTNor(), angle);
-            double[] beta_i = calc_angle_i(mat.getBetaPar(), mat.getBetaNor(), angle);
-
-            double[] hygroCoeff = calcHygroCoeff(alpha_i, beta_i, loads.getDeltaT(), loads.getDeltaH());
+        for (CLT_Layer layer : lam.getCLTLayers()) {
 
-            double[] qalpha = MatrixTools.MatVecMult(qMatrix, hygroCoeff);
+            // Q-Matrix multipliziert mit den globalen Wärme- und Quellausdehnungskoeffizienten
+            double[] qalpha = layer.getQAlphaGlobal();
+            double[] qbeta = layer.getQBetaGlobal();
 
-            double[] qalpha_t = MatrixTools.multiply(qalpha, layer.getLayer().getThickness());
-            nt = MatrixTools.add(nt, qalpha_t);
+            double t = layer.getLayer().getThickness();
+            double tz = t * layer.getZm();
 
-            double[] qalpha_tz = MatrixTools.multiply(qalpha_t, layer.getZm());
-            mt = MatrixTools.add(mt, qalpha_tz);
+            for (int i = 0; i < 3; i++) {
+                double q = qalpha[i] * deltaT + qbeta[i] * deltaH;
+                forces[i] += q * t;
+                forces[i + 3] += q * tz;
+            }
         }
 
-        forces[0] = nt[0];
-        forces[1] = nt[1];
-        forces[2] = nt[2];
-        forces[3] = mt[0];
-        forces[4] = mt[1];
-        forces[5] = mt[2];
-
         return forces;
     }
 
-    /**
-     * interne hilfsmethode zur berechnung von winkel alpha i
-     *
-     * @param angleTparallel als {@link double} value
-     * @param angleTvertical als {@link double} value
-     * @param angle als {@link double} value
-     * @return double array with alphaX on position 0, alphaY o position 1,
-     * alphaXY on position 2
-     */
-    private static double[] calc_angle_i(double angleTparallel, double angleTvertical, double angle) {
-
-        double[] rs = new double[3];
-
-        double c = Math.cos(angle);
-        double c2 = c * c;
-
-        double s = Math.sin(angle);
-        double s2 = s * s;
-
-        rs[0] = angleTparallel * c2 + angleTvertical * s2;
-        rs[1] = angleTparallel * s2 + angleTvertical * c2;
-        rs[2] = 2.0 * (angleTparallel - angleTvertical) * s * c;
-
-        return rs;
-    }
-
-    /**
-     * interne hilfsmethode zur Berechnung des Hygro Koffizienten
-     *
-     * @param alpha_i {@link double} array mit Werten von alpha i
-     * @param beta_i {@link double} array mit Werten von beta i
-     * @param deltaT Wert fuer delta t
-     * @param deltaC Wert fuer delta c
-     * @return {@link double} array mit Werten fuer hygro koeffizienten
-     */
-    private static double[] calcHygroCoeff(double[] alpha_i, double[] beta_i, double deltaT, double deltaC) {
-        double[] rs = new double[3];
-
-        for (int i = 0; i < 3; i++) {
-            rs[i] = alpha_i[i] * deltaT + beta_i[i] * deltaC;
-        }
-
-        return rs;
-    }
-
     public static CLT_LastPlyFailureResult determineValuesLastPlyFailure(CLT_Laminate lam, Loads loads, Strains strains, boolean[] useStrain,
             double matReductionFactor, double epsilon_crit, double j_A, boolean degradeAllOnFibreFailure) {
 
         int numLayers = lam.getCLTLayers().length;   // Anzahl der Lagen
 
-        // Kopieren des Laminats
-        Laminat tempLam = new Laminat("", "", false);
-        for (Layer lay : lam.getLaminat().getAllLayers()) {
-            DataLayer layer = new DataLayer(
-                    "",
-                    "",
-                    getAsDefaultMaterial(lay.getMaterial()),
-                    lay.getAngle(),
-                    lay.getThickness(),
-                    lay.getCriterion()
-            );
-            tempLam.addLayer(layer);
-        }
-        CLT_Laminate clt_lam = new CLT_Laminate(tempLam);
+        // Das CLT-Laminat wird nach jeder Degradation nur für die betroffene
+        // Lage inkrementell aktualisiert.
+        CLT_Laminate clt_lam = createDegradableCopy(lam);
 
         boolean[] zfw_fail = new boolean[numLayers];
         boolean[] fb_fail = new boolean[numLayers];
@@ -422,8 +351,7 @@ public class CLT_Calculator {
                 }
             }
 
-            clt_lam.getCLTLayers()[minLayerIndex].refresh();
-            clt_lam.refresh();
+            clt_lam.updateLayer(minLayerIndex);
         }
 
         CLT_LastPlyFailureResult lpfResult = new CLT_LastPlyFailureResult(
@@ -448,6 +376,31 @@ public class CLT_Calculator {
         return lpfResult;
     }
 
+    /**
+     * Kopiert das Laminat für eine Last-Ply-Failure-Analyse. Alle Lagen
+     * erhalten eigene Materialien vom Typ <CODE>DefaultMaterial</CODE>, deren
+     * Steifigkeiten degradiert werden können, ohne das Ausgangslaminat zu
+     * verändern. Das CLT-Laminat ist nicht registriert.
+     *
+     * @param lam Ausgangslaminat
+     * @return Kopie des Laminats
+     */
+    static CLT_Laminate createDegradableCopy(CLT_Laminate lam) {
+        Laminat tempLam = new Laminat("", "", false);
+        for (Layer lay : lam.getLaminat().getAllLayers()) {
+            DataLayer layer = new DataLayer(
+                    "",
+                    "",
+                    getAsDefaultMaterial(lay.getMaterial()),
+                    lay.getAngle(),
+                    lay.getThickness(),
+                    lay.getCriterion()
+            );
+            tempLam.addLayer(layer);
+        }
+        return CLT_Laminate.createDetached(tempLam);
+    }
+
     private static DefaultMaterial getAsDefaultMaterial(LayerMaterial material) {
         DefaultMaterial mat = new DefaultMaterial("1", "",
                 material.getEpar(),
@@ -462,8 +415,8 @@ public class CLT_Calculator {
         mat.setRParCom(material.getRParCom());
         mat.setRParTen(material.getRParTen());
         mat.setRShear(material.getRShear());
-        for (String key : mat.getAdditionalValueKeySet()) {
-            mat.putAdditionalValue(key, mat.getAdditionalValue(key));
+        for (String key : material.getAdditionalValueKeySet()) {
+            mat.putAdditionalValue(key, material.getAdditionalValue(key));
         }
         return mat;
     }
@@ -0,0 +1,331 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.failure.ReserveFactor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Berechnung von First-Ply-Failure- und Last-Ply-Failure-Einhüllenden eines
+ * Laminats für viele Lastrichtungen, z.B. in der N<sub>x</sub>-N<sub>y</sub>-
+ * oder N<sub>x</sub>-N<sub>xy</sub>-Ebene. Für jede Lastrichtung wird die
+ * Degradation wie in
+ * {@link CLT_Calculator#determineValuesLastPlyFailure(CLT_Laminate, Loads, Strains, boolean[], double, double, double, boolean)}
+ * durchgeführt. Der First-Ply-Failure-Faktor entspricht dem Reservefaktor
+ * der ersten Iteration (<CODE>getRf_min()[0]</CODE>), der
+ * Last-Ply-Failure-Faktor dem Überschreitungsfaktor
+ * (<CODE>getExceedance_factor()</CODE>). Es werden nur mechanische Lasten
+ * ohne Temperatur- und Feuchteänderung betrachtet.<br>
+ * <br>
+ * Jeder Thread besitzt eine eigene degradierbare Kopie des Laminats mit
+ * vorab angelegten Puffern. Nach einer Degradation wird nur die betroffene
+ * Lage aktualisiert (siehe {@link CLT_Laminate#updateLayer(int)} und
+ * {@link CLT_BatchCalculator#updateLayer(int)}). Nach jeder Lastrichtung
+ * wird der gespeicherte ungeschädigte Zustand wiederhergestellt (siehe
+ * {@link CLT_Laminate#restoreStiffnessState(CLT_Laminate.StiffnessState)}).
+ * Die Ergebnisse sind unabhängig von der Anzahl der Threads. Die
+ * Laminateigenschaften werden bei jeder Berechnung neu übernommen.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_FailureEnvelope {
+
+    public static final int NX = 0;
+    public static final int NY = 1;
+    public static final int NXY = 2;
+    public static final int MX = 3;
+    public static final int MY = 4;
+    public static final int MXY = 5;
+
+    private final CLT_Laminate laminate;
+    private final double matReductionFactor;
+    private final double j_A;
+    private final boolean degradeAllOnFibreFailure;
+
+    /**
+     * @param laminate Laminat
+     * @param matReductionFactor Abminderungsfaktor der Steifigkeiten
+     * versagter Lagen
+     * @param j_A Faktor für den Reservefaktor bei Zwischenfaserbruch
+     * @param degradeAllOnFibreFailure bei Faserbruch auch die
+     * Steifigkeiten quer zur Faser und die Schubsteifigkeit abmindern
+     */
+    public CLT_FailureEnvelope(CLT_Laminate laminate, double matReductionFactor, double j_A, boolean degradeAllOnFibreFailure) {
+        this.laminate = laminate;
+        this.matReductionFactor = matReductionFactor;
+        this.j_A = j_A;
+        this.degradeAllOnFibreFailure = degradeAllOnFibreFailure;
+    }
+
+    /**
+     * Berechnet die Einhüllenden in der Ebene zweier Lastkomponenten. Die
+     * Lastrichtungen sind gleichmäßig über den Vollkreis verteilt, die
+     * Richtung i lautet cos(2&pi;i/numberOfPoints)*e<sub>component1</sub> +
+     * sin(2&pi;i/numberOfPoints)*e<sub>component2</sub> mit der Einheitslast
+     * 1 N/mm bzw. 1 N.
+     *
+     * @param component1 erste Lastkomponente ({@link #NX} bis {@link #MXY})
+     * @param component2 zweite Lastkomponente
+     * @param numberOfPoints Anzahl der Lastrichtungen
+     * @param numberOfThreads Anzahl der Threads
+     * @return Einhüllende
+     * @throws IllegalArgumentException falls die Komponenten ungültig oder
+     * gleich sind
+     */
+    public CLT_FailureEnvelopeResult getEnvelope(int component1, int component2, int numberOfPoints, int numberOfThreads) {
+        if (component1 < NX || component1 > MXY || component2 < NX || component2 > MXY || component1 == component2) {
+            throw new IllegalArgumentException("Invalid envelope components " + component1 + " and " + component2);
+        }
+        double[][] directions = new double[numberOfPoints][6];
+        for (int ii = 0; ii < numberOfPoints; ii++) {
+            double phi = 2.0 * Math.PI * ii / numberOfPoints;
+            directions[ii][component1] += Math.cos(phi);
+            directions[ii][component2] += Math.sin(phi);
+        }
+        return getEnvelope(directions, numberOfThreads);
+    }
+
+    /**
+     * Berechnet die First-Ply-Failure- und Last-Ply-Failure-Faktoren für
+     * beliebige Lastrichtungen.
+     *
+     * @param directions Lastrichtungen, directions[i] = {N<sub>x</sub>,
+     * N<sub>y</sub>, N<sub>xy</sub>, M<sub>x</sub>, M<sub>y</sub>,
+     * M<sub>xy</sub>}
+     * @param numberOfThreads Anzahl der Threads
+     * @return Einhüllende
+     */
+    public CLT_FailureEnvelopeResult getEnvelope(final double[][] directions, int numberOfThreads) {
+        final CLT_FailureEnvelopeResult result = new CLT_FailureEnvelopeResult(directions);
+        int numTasks = Math.max(1, Math.min(numberOfThreads, directions.length));
+
+        // Die Kopien werden im aufrufenden Thread erzeugt, da dabei auf das
+        // Laminat zugegriffen wird.
+        final List<Worker> workers = new ArrayList<>(numTasks);
+        for (int ii = 0; ii < numTasks; ii++) {
+            workers.add(new Worker());
+        }
+
+        if (numTasks == 1) {
+            Worker worker = workers.get(0);
+            for (int ii = 0; ii < directions.length; ii++) {
+                worker.calculate(ii, result);
+            }
+            return result;
+        }
+
+        final AtomicInteger nextDirection = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(numTasks, r -> {
+            Thread t = new Thread(r, "eLamX failure envelope");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(numTasks);
+            for (final Worker worker : workers) {
+                tasks.add(() -> {
+                    // Die Degradation ist je nach Richtung unterschiedlich
+                    // aufwendig, daher werden die Richtungen einzeln verteilt.
+                    int ii;
+                    while ((ii = nextDirection.getAndIncrement()) < directions.length) {
+                        worker.calculate(ii, result);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    /**
+     * Degradierbare Laminatkopie und Arbeitsspeicher eines Threads.
+     */
+    private class Worker {
+
+        private final int numLayers;
+        private final CLT_Laminate cltLam;
+        private final CLT_BatchCalculator calculator;
+        private final CLT_Laminate.StiffnessState undamaged;
+        private final DefaultMaterial[] materials;
+        private final int[] layerNumbers;
+        // ungeschädigte Steifigkeiten je Lage
+        private final double[] epar;
+        private final double[] enor;
+        private final double[] g;
+
+        private final boolean[] zfw_fail;
+        private final boolean[] fb_fail;
+        private final double[] values = new double[6];
+        private final double[] epsKappa = new double[6];
+        private final double[] reserveFactors;
+        private final int[] failureTypes;
+
+        private Worker() {
+            cltLam = CLT_Calculator.createDegradableCopy(laminate);
+            CLT_Layer[] layers = cltLam.getCLTLayers();
+            numLayers = layers.length;
+            materials = new DefaultMaterial[numLayers];
+            layerNumbers = new int[numLayers];
+            epar = new double[numLayers];
+            enor = new double[numLayers];
+            g = new double[numLayers];
+            for (int ii = 0; ii < numLayers; ii++) {
+                materials[ii] = (DefaultMaterial) layers[ii].getLayer().getMaterial();
+                layerNumbers[ii] = layers[ii].getLayer().getNumber();
+                epar[ii] = materials[ii].getEpar();
+                enor[ii] = materials[ii].getEnor();
+                g[ii] = materials[ii].getG();
+            }
+            undamaged = cltLam.saveStiffnessState();
+            calculator = new CLT_BatchCalculator(cltLam, new boolean[6]);
+            zfw_fail = new boolean[numLayers];
+            fb_fail = new boolean[numLayers];
+            reserveFactors = new double[calculator.getReserveFactorBufferLength(1)];
+            failureTypes = new int[calculator.getReserveFactorBufferLength(1)];
+        }
+
+        private void calculate(int index, CLT_FailureEnvelopeResult result) {
+            System.arraycopy(result.getDirections()[index], 0, values, 0, 6);
+
+            Double exceedance_factor = null;
+            boolean lastIteration = false;
+            for (int iter = 0; iter < 2 * numLayers; iter++) {
+                calculator.calculate(values, null, null, 1, null, epsKappa, null, null, reserveFactors, failureTypes);
+
+                // Gleiche Reihenfolge wie in determineValuesLastPlyFailure,
+                // damit bei gleichen Reservefaktoren dieselbe Lage versagt.
+                double rf_min = Double.NaN;
+                int type = ReserveFactor.UNDAMAGED;
+                int minLayerIndex = -1;
+                for (int ii = 0; ii < numLayers; ii++) {
+                    int lower = ii * CLT_BatchCalculator.NUM_POSITIONS + CLT_Layer.POSITION_LOWER;
+                    int upper = ii * CLT_BatchCalculator.NUM_POSITIONS + CLT_Layer.POSITION_UPPER;
+                    if (minLayerIndex < 0 || rf_min > reserveFactors[lower]) {
+                        rf_min = reserveFactors[lower];
+                        type = failureTypes[lower];
+                        minLayerIndex = ii;
+                    }
+                    if (rf_min > reserveFactors[upper]) {
+                        rf_min = reserveFactors[upper];
+                        type = failureTypes[upper];
+                        minLayerIndex = ii;
+                    }
+                }
+
+                double j_A_set = 1.0;
+
+                DefaultMaterial mat = materials[minLayerIndex];
+                if (type == ReserveFactor.MATRIX_FAILURE) {
+                    if (!zfw_fail[minLayerIndex]) {
+                        mat.setEnor(matReductionFactor * mat.getEnor());
+                        mat.setG(matReductionFactor * mat.getG());
+                        zfw_fail[minLayerIndex] = true;
+                        j_A_set = j_A;
+                    } else {
+                        lastIteration = true;
+                    }
+                }
+
+                if (type == ReserveFactor.FIBER_FAILURE) {
+                    if (!fb_fail[minLayerIndex]) {
+                        mat.setEpar(matReductionFactor * mat.getEpar());
+                        fb_fail[minLayerIndex] = true;
+                        if (degradeAllOnFibreFailure) {
+                            mat.setEnor(matReductionFactor * mat.getEnor());
+                            mat.setG(matReductionFactor * mat.getG());
+                            zfw_fail[minLayerIndex] = true;
+                        }
+                    } else {
+                        lastIteration = true;
+                    }
+                }
+
+                if (type == ReserveFactor.GENERAL_MATERIAL_FAILURE) {
+                    if (!fb_fail[minLayerIndex] && !zfw_fail[minLayerIndex]) {
+                        mat.setEpar(matReductionFactor * mat.getEpar());
+                        mat.setEnor(matReductionFactor * mat.getEnor());
+                        mat.setG(matReductionFactor * mat.getG());
+                        zfw_fail[minLayerIndex] = true;
+                        fb_fail[minLayerIndex] = true;
+                    } else {
+                        lastIteration = true;
+                    }
+                }
+
+                if (lastIteration) {
+                    break;
+                }
+
+                if ((exceedance_factor == null) || (rf_min > exceedance_factor)) {
+                    exceedance_factor = rf_min;
+                    result.setLastPlyFailure(index, rf_min, iter);
+                }
+
+                if (iter == 0) {
+                    result.setFirstPlyFailure(index, rf_min * j_A_set, layerNumbers[minLayerIndex], type);
+                }
+
+                cltLam.updateLayer(minLayerIndex);
+                calculator.updateLayer(minLayerIndex);
+            }
+
+            // Zurücksetzen auf den ungeschädigten Zustand
+            boolean degraded = false;
+            for (int ii = 0; ii < numLayers; ii++) {
+                if (zfw_fail[ii] || fb_fail[ii]) {
+                    materials[ii].setEpar(epar[ii]);
+                    materials[ii].setEnor(enor[ii]);
+                    materials[ii].setG(g[ii]);
+                    zfw_fail[ii] = false;
+                    fb_fail[ii] = false;
+                    degraded = true;
+                }
+            }
+            if (degraded) {
+                cltLam.restoreStiffnessState(undamaged);
+                calculator.refresh();
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import java.util.Arrays;
+
+/**
+ * Ergebnis einer Berechnung mit {@link CLT_FailureEnvelope}. Für jede
+ * Lastrichtung werden der First-Ply-Failure- und der
+ * Last-Ply-Failure-Faktor gespeichert. Die Einhüllenden ergeben sich als
+ * Produkt aus Faktor und Lastrichtung.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_FailureEnvelopeResult {
+
+    private final double[][] directions;
+    private final double[] rf_first;
+    private final int[] layerNumber_first;
+    private final int[] failureType_first;
+    private final double[] exceedance_factor;
+    private final int[] iter_exceedance_factor;
+
+    CLT_FailureEnvelopeResult(double[][] directions) {
+        int num = directions.length;
+        this.directions = directions;
+        rf_first = new double[num];
+        layerNumber_first = new int[num];
+        failureType_first = new int[num];
+        exceedance_factor = new double[num];
+        iter_exceedance_factor = new int[num];
+        Arrays.fill(rf_first, Double.NaN);
+        Arrays.fill(exceedance_factor, Double.NaN);
+        Arrays.fill(layerNumber_first, -1);
+        Arrays.fill(iter_exceedance_factor, -1);
+    }
+
+    void setFirstPlyFailure(int index, double rf, int layerNumber, int failureType) {
+        rf_first[index] = rf;
+        layerNumber_first[index] = layerNumber;
+        failureType_first[index] = failureType;
+    }
+
+    void setLastPlyFailure(int index, double rf, int iteration) {
+        exceedance_factor[index] = rf;
+        iter_exceedance_factor[index] = iteration;
+    }
+
+    public int getNumberOfDirections() {
+        return directions.length;
+    }
+
+    /**
+     * @return Lastrichtungen [Anzahl der Richtungen][6]
+     */
+    public double[][] getDirections() {
+        return directions;
+    }
+
+    /**
+     * @return Reservefaktoren der ersten Iteration je Richtung
+     */
+    public double[] getRf_first() {
+        return rf_first;
+    }
+
+    /**
+     * @return Nummern der zuerst versagenden Lagen je Richtung
+     */
+    public int[] getLayerNumber_first() {
+        return layerNumber_first;
+    }
+
+    /**
+     * @return Versagensarten der ersten Iteration je Richtung (siehe
+     * {@link de.elamx.laminate.failure.ReserveFactor})
+     */
+    public int[] getFailureType_first() {
+        return failureType_first;
+    }
+
+    /**
+     * @return Überschreitungsfaktoren (Last-Ply-Failure) je Richtung
+     */
+    public double[] getExceedance_factor() {
+        return exceedance_factor;
+    }
+
+    /**
+     * @return Iterationen, in denen der Überschreitungsfaktor erreicht wird
+     */
+    public int[] getIter_exceedance_factor() {
+        return iter_exceedance_factor;
+    }
+
+    /**
+     * Liefert die First-Ply-Failure-Einhüllende. Ist der Faktor einer
+     * Richtung nicht positiv oder nicht endlich, sind die Werte der Richtung
+     * <CODE>NaN</CODE>.
+     *
+     * @return Schnittlasten [Anzahl der Richtungen][6]
+     */
+    public double[][] getFirstPlyFailureEnvelope() {
+        return scale(rf_first);
+    }
+
+    /**
+     * Liefert die Last-Ply-Failure-Einhüllende. Ist der Faktor einer Richtung
+     * nicht positiv oder nicht endlich, sind die Werte der Richtung
+     * <CODE>NaN</CODE>.
+     *
+     * @return Schnittlasten [Anzahl der Richtungen][6]
+     */
+    public double[][] getLastPlyFailureEnvelope() {
+        return scale(exceedance_factor);
+    }
+
+    private double[][] scale(double[] factors) {
+        double[][] envelope = new double[directions.length][6];
+        for (int ii = 0; ii < directions.length; ii++) {
+            double fac = factors[ii] > 0.0 && !Double.isInfinite(factors[ii]) ? factors[ii] : Double.NaN;
+            for (int kk = 0; kk < 6; kk++) {
+                envelope[ii][kk] = fac * directions[ii][kk];
+            }
+        }
+        return envelope;
+    }
+}
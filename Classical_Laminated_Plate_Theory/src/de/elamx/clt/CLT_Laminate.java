@@ -29,6 +29,7 @@ import de.elamx.laminate.Laminat;
 import de.elamx.laminate.Layer;
 import de.elamx.mathtools.MatrixTools;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Diese Klasse repräsentiert ein gesamten Laminat bestehend aus 
@@ -63,6 +64,13 @@ public class CLT_Laminate extends CLT_Object{
     
     private CLT_Layer[] layers;
     
+    // Beim letzten Aufsummieren verwendete globale Q-Matrizen und Dicken der
+    // Lagen, Grundlage der inkrementellen Aktualisierung
+    private double[][][] layerQ;
+    private double[] layerT;
+    
+    private final boolean attached;
+    
     /** 
      * Konstruktor eines neues Laminats. Übergeben wird dazu der Lagenaufbau als
      * <CODE>ArrayList&lt;Layer&gt;</CODE>, der die einzelnen <CODE>Layer</CODE>-Objekte enthält.
@@ -73,9 +81,33 @@ public class CLT_Laminate extends CLT_Object{
      */
     @SuppressWarnings("this-escape")
     public CLT_Laminate(Laminat laminat) {
+        this(laminat, true);
+    }
+    
+    @SuppressWarnings("this-escape")
+    private CLT_Laminate(Laminat laminat, boolean attached) {
         this.laminat = laminat;
+        this.attached = attached;
         refresh();
-        this.laminat.getLookup().add(this);
+        if (attached) {
+            this.laminat.getLookup().add(this);
+        }
+    }
+    
+    /**
+     * Erzeugt ein CLT-Laminat, das weder sich selbst noch seine Lagen in den
+     * Lookups des Laminats bzw. der Lagen registriert. Es werden immer neue
+     * CLT-Lagen erzeugt, vorhandene CLT-Objekte in den Lookups werden weder
+     * verwendet noch verändert. Das Laminat reagiert nicht auf Änderungen des
+     * Lagenaufbaus und muss gegebenenfalls mit {@link #refresh()} manuell
+     * aktualisiert werden. Damit ist die Berechnung unabhängiger Laminate in
+     * mehreren Threads möglich, z.B. innerhalb von Optimierungen.
+     * 
+     * @param laminat Laminat
+     * @return nicht registriertes CLT-Laminat
+     */
+    public static CLT_Laminate createDetached(Laminat laminat) {
+        return new CLT_Laminate(laminat, false);
     }
     
     protected Laminat getLaminat(){
@@ -97,6 +129,217 @@ public class CLT_Laminate extends CLT_Object{
         return layers;
     }
     
+    /**
+     * Aktualisiert die ABD-Matrix und deren Inverse nach der Änderung des
+     * Winkels oder des Materials einer einzelnen Lage, ohne die CLT-Lagen neu
+     * aufzubauen. Da sich die z-Koordinaten nicht ändern, ergibt sich die
+     * Änderung der ABD-Matrix direkt aus der Änderung &Delta;Q der globalen
+     * Q-Matrix der Lage. Die Inverse wird über Rang-1-Aktualisierungen nach
+     * Sherman-Morrison für die Eigenwerte von &Delta;Q angepasst. Ist eine
+     * Aktualisierung numerisch nicht sinnvoll möglich, wird die Inverse
+     * vollständig neu berechnet. Bei einer Änderung der Dicke wird
+     * {@link #refresh()} aufgerufen.<br>
+     * Bei symmetrischen Laminaten gehören zu einer Lage zwei CLT-Lagen. Die
+     * Methode ist dann für beide Indizes aufzurufen.
+     * 
+     * @param index Index der Lage in {@link #getCLTLayers()}
+     */
+    public void updateLayer(int index){
+        CLT_Layer layer = layers[index];
+        layer.refresh();
+        
+        double t = layer.getLayer().getThickness();
+        if (t != layerT[index]) {
+            refresh();
+            return;
+        }
+        
+        double[][] Qnew = layer.getQMatGlobal();
+        double[][] dQ = new double[3][3];
+        for (int m = 0; m < 3; m++){
+            for (int n = 0; n < 3; n++){
+                dQ[m][n] = Qnew[m][n] - layerQ[index][m][n];
+                layerQ[index][m][n] = Qnew[m][n];
+            }
+        }
+        
+        double zm = layer.getZm();
+        double fA = t;
+        double fB = t * zm;
+        double fD = t * (t*t/12.0 + zm*zm);
+        for (int m = 0; m < 3; m++){
+            for (int n = 0; n < 3; n++){
+                A[m][n] += fA * dQ[m][n];
+                B[m][n] += fB * dQ[m][n];
+                D[m][n] += fD * dQ[m][n];
+            }
+        }
+        for (int m = 0; m < 3; m++){
+            for (int n = 0; n < 3; n++){
+                ABD[m][n] = A[m][n];
+                ABD[m+3][n] = B[m][n];
+                ABD[m][n+3] = B[n][m];
+                ABD[m+3][n+3] = D[m][n];
+            }
+        }
+        checkSymmetry();
+        
+        /*
+         * Delta(ABD) = [fA fB; fB fD] (x) dQ. Die 2x2-Matrix wird als
+         * v1 v1^T + v2 v2^T mit v1 = (sqrt(t), sqrt(t) zm) und
+         * v2 = (0, sqrt(t^3/12)) geschrieben, dQ über die Eigenzerlegung
+         * als Summe von lambda_i q_i q_i^T.
+         */
+        double[][] q = new double[3][3];
+        double[] lambda = MatrixTools.getEigenSymmetricJacobi(dQ, q);
+        double lambdaMax = 0.0;
+        for (double l : lambda) {
+            lambdaMax = Math.max(lambdaMax, Math.abs(l));
+        }
+        double st = Math.sqrt(t);
+        double[][] v = {{st, st * zm}, {0.0, Math.sqrt(t*t*t/12.0)}};
+        double[] w = new double[6];
+        double[] y = new double[6];
+        for (int ii = 0; ii < 3; ii++) {
+            if (Math.abs(lambda[ii]) <= EPS * lambdaMax) {
+                continue;
+            }
+            for (double[] vj : v) {
+                for (int m = 0; m < 3; m++) {
+                    w[m] = vj[0] * q[m][ii];
+                    w[m+3] = vj[1] * q[m][ii];
+                }
+                if (!shermanMorrisonUpdate(lambda[ii], w, y)) {
+                    ABDInv = MatrixTools.getInverse(ABD);
+                    calculateNonDimensionalParameters();
+                    return;
+                }
+            }
+        }
+        calculateNonDimensionalParameters();
+    }
+    
+    /**
+     * Rang-1-Aktualisierung der Inversen für ABD + lambda w w^T.
+     * 
+     * @return false, falls die Aktualisierung numerisch instabil ist
+     */
+    private boolean shermanMorrisonUpdate(double lambda, double[] w, double[] y) {
+        double wy = 0.0;
+        for (int ii = 0; ii < 6; ii++) {
+            y[ii] = 0.0;
+            for (int jj = 0; jj < 6; jj++) {
+                y[ii] += ABDInv[ii][jj] * w[jj];
+            }
+            wy += w[ii] * y[ii];
+        }
+        double denom = 1.0 + lambda * wy;
+        if (Math.abs(denom) < 1.0E-8) {
+            return false;
+        }
+        double fac = lambda / denom;
+        for (int ii = 0; ii < 6; ii++) {
+            for (int jj = 0; jj < 6; jj++) {
+                ABDInv[ii][jj] -= fac * y[ii] * y[jj];
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Fügt eine Lage an der übergebenen Position ein, ohne die übrigen
+     * CLT-Lagen neu aufzubauen. Die z-Koordinaten aller Lagen und die
+     * ABD-Matrix werden aus den vorhandenen, bereits gedrehten Lagendaten neu
+     * bestimmt. Das zugrunde liegende Laminat wird nicht verändert, d.h. nach
+     * einem {@link #refresh()} entspricht dieses Objekt wieder dem Laminat.
+     * 
+     * @param index Position in {@link #getCLTLayers()}, an der die Lage
+     * eingefügt wird (0 bei t<sub>ges</sub>/2)
+     * @param layer einzufügende Lage
+     */
+    public void insertLayer(int index, Layer layer){
+        CLT_Layer cltLayer;
+        if (!attached){
+            cltLayer = new CLT_Layer(layer, false);
+        }else if ((cltLayer = layer.getLookup().lookup(CLT_Layer.class)) == null){
+            cltLayer = new CLT_Layer(layer);
+        }
+        CLT_Layer[] newLayers = new CLT_Layer[layers.length + 1];
+        System.arraycopy(layers, 0, newLayers, 0, index);
+        newLayers[index] = cltLayer;
+        System.arraycopy(layers, index, newLayers, index + 1, layers.length - index);
+        layers = newLayers;
+        calcABD();
+        calculateNonDimensionalParameters();
+    }
+    
+    /**
+     * Entfernt die Lage an der übergebenen Position, ohne die übrigen
+     * CLT-Lagen neu aufzubauen. Das zugrunde liegende Laminat wird nicht
+     * verändert (siehe {@link #insertLayer(int, Layer)}).
+     * 
+     * @param index Position in {@link #getCLTLayers()}
+     */
+    public void removeLayer(int index){
+        CLT_Layer[] newLayers = new CLT_Layer[layers.length - 1];
+        System.arraycopy(layers, 0, newLayers, 0, index);
+        System.arraycopy(layers, index + 1, newLayers, index, layers.length - index - 1);
+        layers = newLayers;
+        calcABD();
+        calculateNonDimensionalParameters();
+    }
+    
+    /**
+     * Speichert den aktuellen Steifigkeitszustand (ABD-Matrix, deren Inverse
+     * und die globalen Q-Matrizen der Lagen). Zusammen mit
+     * {@link #restoreStiffnessState(StiffnessState)} können so mehrere
+     * Änderungen über {@link #updateLayer(int)}, z.B. bei der Degradation im
+     * Rahmen einer Final-Failure-Analyse, ohne Neuaufbau und ohne
+     * Akkumulation von Rundungsfehlern zurückgenommen werden.
+     * 
+     * @return gespeicherter Steifigkeitszustand
+     */
+    public StiffnessState saveStiffnessState(){
+        return new StiffnessState(this);
+    }
+    
+    /**
+     * Stellt einen mit {@link #saveStiffnessState()} gespeicherten Zustand
+     * wieder her. Die Materialien bzw. Winkel der Lagen müssen vorher auf die
+     * Werte zum Zeitpunkt des Speicherns zurückgesetzt worden sein. Es werden
+     * nur die CLT-Lagen aktualisiert, deren Q-Matrix sich seitdem geändert hat.
+     * Die Lagenanzahl und die Dicken dürfen sich nicht geändert haben.
+     * 
+     * @param state gespeicherter Steifigkeitszustand
+     */
+    public void restoreStiffnessState(StiffnessState state){
+        if (state.layerQ.length != layers.length){
+            throw new IllegalArgumentException("The stiffness state does not match the number of layers.");
+        }
+        for (int i = 0; i < layers.length; i++){
+            if (!Arrays.deepEquals(state.layerQ[i], layerQ[i])){
+                layers[i].refresh();
+            }
+            for (int m = 0; m < 3; m++){
+                System.arraycopy(state.layerQ[i][m], 0, layerQ[i][m], 0, 3);
+            }
+        }
+        for (int m = 0; m < 3; m++){
+            System.arraycopy(state.A[m], 0, A[m], 0, 3);
+            System.arraycopy(state.B[m], 0, B[m], 0, 3);
+            System.arraycopy(state.D[m], 0, D[m], 0, 3);
+        }
+        for (int m = 0; m < 6; m++){
+            System.arraycopy(state.ABD[m], 0, ABD[m], 0, 6);
+            System.arraycopy(state.ABDInv[m], 0, ABDInv[m], 0, 6);
+        }
+        isSym   = state.isSym;
+        beta_D  = state.beta_D;
+        nu_D    = state.nu_D;
+        gamma_D = state.gamma_D;
+        delta_D = state.delta_D;
+    }
+    
     private void calcABD(){
         
         int numLayers = layers.length;
@@ -106,6 +349,9 @@ public class CLT_Laminate extends CLT_Object{
         double t;
         CLT_Layer layer;
         
+        layerQ = new double[numLayers][3][3];
+        layerT = new double[numLayers];
+        
         tges = 0.0;
         for (CLT_Layer l : layers) {
             tges += l.getLayer().getThickness();
@@ -131,8 +377,10 @@ public class CLT_Laminate extends CLT_Object{
             layer = layers[i];
             Qglo  = layer.getQMatGlobal();
             t     = layer.getLayer().getThickness();
+            layerT[i] = t;
 
             for (int m = 0; m < 3; m++){
+                System.arraycopy(Qglo[m], 0, layerQ[i][m], 0, 3);
                 for (int n = 0; n < 3; n++){
                     temp = Qglo[m][n] * t;
                     A[m][n] += temp;
@@ -142,22 +390,7 @@ public class CLT_Laminate extends CLT_Object{
             }
         }
 
-        double Amax = 0.0, Bmax = 0.0;
-        for (int m = 0; m < 3; m++){
-            for (int n = 0; n <= m; n++){
-                //if (!(B[m][n] < eps && B[m][n] > -eps)) isSym = false;
-                if (Math.abs(A[m][n]) > Amax) {
-                    Amax = Math.abs(A[m][n]);
-                }
-                if (Math.abs(B[m][n]) > Bmax) {
-                    Bmax = Math.abs(B[m][n]);
-                }
-            }
-        }
-        isSym = false;
-        if (Bmax < EPS*Amax) {
-            isSym = true;
-        }
+        checkSymmetry();
 
         for(int ii = 0; ii < 3; ii++){
             for(int jj = 0; jj <= ii; jj++){
@@ -183,6 +416,25 @@ public class CLT_Laminate extends CLT_Object{
 
         ABDInv = MatrixTools.getInverse(ABD);
     }
+    
+    private void checkSymmetry(){
+        double Amax = 0.0, Bmax = 0.0;
+        for (int m = 0; m < 3; m++){
+            for (int n = 0; n <= m; n++){
+                //if (!(B[m][n] < eps && B[m][n] > -eps)) isSym = false;
+                if (Math.abs(A[m][n]) > Amax) {
+                    Amax = Math.abs(A[m][n]);
+                }
+                if (Math.abs(B[m][n]) > Bmax) {
+                    Bmax = Math.abs(B[m][n]);
+                }
+            }
+        }
+        isSym = false;
+        if (Bmax < EPS*Amax) {
+            isSym = true;
+        }
+    }
       
     private void calculateNonDimensionalParameters() {
         //Seydel's orthotropy parameter
@@ -202,7 +454,9 @@ public class CLT_Laminate extends CLT_Object{
         CLT_Layer tempLayer;
         int ind = 0;
         for (Layer l : orig_layers) {
-            if ((tempLayer = l.getLookup().lookup(CLT_Layer.class)) == null){
+            if (!attached){
+                layers[ind++] = new CLT_Layer(l, false);
+            }else if ((tempLayer = l.getLookup().lookup(CLT_Layer.class)) == null){
                 layers[ind++] = new CLT_Layer(l);
             }else{
                 layers[ind++] = tempLayer;
@@ -700,4 +954,45 @@ public class CLT_Laminate extends CLT_Object{
     public double getAreaWeight(){
         return laminat.getAreaWeight();
     }
+    
+    /**
+     * Gespeicherter Steifigkeitszustand eines CLT-Laminats, siehe
+     * {@link CLT_Laminate#saveStiffnessState()}.
+     */
+    public static final class StiffnessState{
+        
+        private final double[][] A;
+        private final double[][] B;
+        private final double[][] D;
+        private final double[][] ABD;
+        private final double[][] ABDInv;
+        private final double[][][] layerQ;
+        private final boolean isSym;
+        private final double beta_D, nu_D, gamma_D, delta_D;
+        
+        private StiffnessState(CLT_Laminate lam){
+            A      = copy(lam.A);
+            B      = copy(lam.B);
+            D      = copy(lam.D);
+            ABD    = copy(lam.ABD);
+            ABDInv = copy(lam.ABDInv);
+            layerQ = new double[lam.layerQ.length][][];
+            for (int i = 0; i < layerQ.length; i++){
+                layerQ[i] = copy(lam.layerQ[i]);
+            }
+            isSym   = lam.isSym;
+            beta_D  = lam.beta_D;
+            nu_D    = lam.nu_D;
+            gamma_D = lam.gamma_D;
+            delta_D = lam.delta_D;
+        }
+        
+        private static double[][] copy(double[][] mat){
+            double[][] c = new double[mat.length][];
+            for (int i = 0; i < mat.length; i++){
+                c[i] = mat[i].clone();
+            }
+            return c;
+        }
+    }
 }
@@ -29,12 +29,15 @@ import de.elamx.laminate.Layer;
 import de.elamx.laminate.Material;
 import de.elamx.laminate.StressStrainState;
 import de.elamx.mathtools.MatrixTools;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
 
 /**
  *
  * @author Andreas Hauffe
  */
-public class CLT_Layer extends CLT_Object {
+public class CLT_Layer extends CLT_Object implements PropertyChangeListener {
 
     public static final int POSITION_UPPER = 0;
     public static final int POSITION_LOWER = 1;
@@ -44,22 +47,76 @@ public class CLT_Layer extends CLT_Object {
 
     private double[][] Qlok_ = null;                // Lokale reduzierte Steifigkeitsmatrix
 
+    /*
+     * Zwischenspeicher der winkelabhängigen Größen. Dieser wird nur bei einer
+     * tatsächlichen Änderung von Winkel, Material oder Dicke der Lage
+     * verworfen und beim nächsten Zugriff neu berechnet.
+     */
+    private volatile RotatedData rotatedData_ = null;
+
     private double zm = 0.0;
 
     @SuppressWarnings("this-escape")
     public CLT_Layer(Layer layer) {
+        this(layer, true);
+    }
+
+    /**
+     * Konstruktor einer CLT-Lage.
+     *
+     * @param layer zugrundeliegende Lage
+     * @param attach Flag, ob die CLT-Lage im Lookup der Lage registriert
+     * werden und auf Änderungen der Lage reagieren soll. Nicht registrierte
+     * Lagen verändern die Lage nicht und können damit in beliebigen Threads
+     * erzeugt werden.
+     */
+    @SuppressWarnings("this-escape")
+    CLT_Layer(Layer layer, boolean attach) {
         this.layer = layer;
         refresh();
-        this.layer.getLookup().add(this);
+        if (attach) {
+            this.layer.getLookup().add(this);
+            this.layer.addPropertyChangeListener(this);
+        }
     }
 
     /**
-     * Alle notwendigen Daten der Schicht werden neu berechnet. Bisher wird nur
-     * die lokale Q-Matrix neu bestimmt.
+     * Alle notwendigen Daten der Schicht werden neu berechnet. Dazu wird die
+     * lokale Q-Matrix neu bestimmt. Die zwischengespeicherten gedrehten
+     * Matrizen werden nur verworfen, wenn sich Winkel oder Materialdaten
+     * tatsächlich geändert haben.
      */
     @Override
     public void refresh() {
         calcQlocal();
+        RotatedData data = rotatedData_;
+        if (data != null && !data.isValidFor(layer.getAngle(), Qlok_, layer.getMaterial())) {
+            rotatedData_ = null;
+        }
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        switch (evt.getPropertyName()) {
+            case Layer.PROP_MATERIAL:
+                refresh();
+                break;
+            case Layer.PROP_ANGLE:
+            case Layer.PROP_THICKNESS:
+                rotatedData_ = null;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private RotatedData getRotatedData() {
+        RotatedData data = rotatedData_;
+        if (data == null) {
+            data = new RotatedData(layer.getAngle(), Qlok_, layer.getMaterial());
+            rotatedData_ = data;
+        }
+        return data;
     }
 
     public double getZm() {
@@ -104,12 +161,60 @@ public class CLT_Layer extends CLT_Object {
 
     /**
      * Gibt die Q-Matrix im globalen Koordinatensystem, also gedreht um den
-     * Schichtwinkel, zurück.
+     * Schichtwinkel, zurück. Die Matrix wird zwischengespeichert und darf
+     * nicht verändert werden.
      *
      * @return Q-Matrix im globalen System
      */
     public double[][] getQMatGlobal() {
-        return getQMatGlobal(layer.getAngle());
+        return getRotatedData().Qglo;
+    }
+
+    /**
+     * Gibt die Wärmeausdehnungskoeffizienten der Lage im globalen System
+     * (&alpha;<sub>x</sub>, &alpha;<sub>y</sub>, &alpha;<sub>xy</sub>)
+     * zurück. Der Vektor wird zwischengespeichert und darf nicht verändert
+     * werden.
+     *
+     * @return Wärmeausdehnungskoeffizienten im globalen System
+     */
+    public double[] getAlphaGlobal() {
+        return getRotatedData().alphaGlo;
+    }
+
+    /**
+     * Gibt die Quellausdehnungskoeffizienten der Lage im globalen System
+     * (&beta;<sub>x</sub>, &beta;<sub>y</sub>, &beta;<sub>xy</sub>)
+     * zurück. Der Vektor wird zwischengespeichert und darf nicht verändert
+     * werden.
+     *
+     * @return Quellausdehnungskoeffizienten im globalen System
+     */
+    public double[] getBetaGlobal() {
+        return getRotatedData().betaGlo;
+    }
+
+    /**
+     * Gibt das Produkt aus globaler Q-Matrix und globalen
+     * Wärmeausdehnungskoeffizienten zurück. Dies entspricht den thermischen
+     * Spannungen für eine Temperaturänderung von 1. Der Vektor wird
+     * zwischengespeichert und darf nicht verändert werden.
+     *
+     * @return Q<sub>glo</sub> &middot; &alpha;<sub>glo</sub>
+     */
+    public double[] getQAlphaGlobal() {
+        return getRotatedData().qAlphaGlo;
+    }
+
+    /**
+     * Gibt das Produkt aus globaler Q-Matrix und globalen
+     * Quellausdehnungskoeffizienten zurück. Der Vektor wird
+     * zwischengespeichert und darf nicht verändert werden.
+     *
+     * @return Q<sub>glo</sub> &middot; &beta;<sub>glo</sub>
+     */
+    public double[] getQBetaGlobal() {
+        return getRotatedData().qBetaGlo;
     }
 
     /**
@@ -121,6 +226,10 @@ public class CLT_Layer extends CLT_Object {
      * @return Q-Matrix im globalen System
      */
     private double[][] getQMatGlobal(double angle) {
+        return calcQMatGlobal(angle, Qlok_);
+    }
+
+    private static double[][] calcQMatGlobal(double angle, double[][] Qlok_) {
         double c = Math.cos(angle * Math.PI / 180.0);
         double c2 = c * c;
         double c3 = c2 * c;
@@ -242,7 +351,7 @@ public class CLT_Layer extends CLT_Object {
 
         Material material = layer.getMaterial();
 
-        double[][] transeps = getTransMat_eps_glo_to_loc();
+        double[][] transeps = getRotatedData().transEps;
 
         double[] alpha = new double[]{material.getAlphaTPar(), material.getAlphaTNor(), 0.0};
         double[] beta = new double[]{material.getBetaPar(), material.getBetaNor(), 0.0};
@@ -283,13 +392,21 @@ public class CLT_Layer extends CLT_Object {
         return new StressStrainState[]{new StressStrainState(stress_loc, strain_loc)};
     }
 
-    private double[][] getTransMat_eps_glo_to_loc() {
+    /**
+     * Gibt die Transformationsmatrix der Dehnungen vom globalen in das lokale
+     * System zurück. Die Matrix wird zwischengespeichert und darf nicht
+     * verändert werden.
+     *
+     * @return Transformationsmatrix der Dehnungen
+     */
+    double[][] getTransMat_eps_glo_to_loc() {
+        return getRotatedData().transEps;
+    }
+
+    private static double[][] calcTransMat_eps_glo_to_loc(double c, double s) {
         double[][] transMat_eps_glo_to_loc_ = new double[3][3];
 
-        double c = Math.cos(layer.getRadAngle());
         double c2 = c * c;
-
-        double s = Math.sin(layer.getRadAngle());
         double s2 = s * s;
 
         transMat_eps_glo_to_loc_[0][0] = c2;
@@ -304,4 +421,58 @@ public class CLT_Layer extends CLT_Object {
 
         return transMat_eps_glo_to_loc_;
     }
+
+    /**
+     * Unveränderlicher Satz aller vom Lagenwinkel abhängigen Größen. Wird
+     * als Ganzes ersetzt, damit parallele Leser immer einen konsistenten
+     * Stand sehen.
+     */
+    private static final class RotatedData {
+
+        private final double angle;
+        private final double[] input;
+
+        private final double[][] Qglo;
+        private final double[][] transEps;
+        private final double[] alphaGlo;
+        private final double[] betaGlo;
+        private final double[] qAlphaGlo;
+        private final double[] qBetaGlo;
+
+        private RotatedData(double angle, double[][] Qlok, Material material) {
+            this.angle = angle;
+            this.input = getInput(Qlok, material);
+
+            double rad = Math.toRadians(angle);
+            double c = Math.cos(rad);
+            double s = Math.sin(rad);
+
+            Qglo = calcQMatGlobal(angle, Qlok);
+            transEps = calcTransMat_eps_glo_to_loc(c, s);
+            alphaGlo = calcGlobalCoefficients(material.getAlphaTPar(), material.getAlphaTNor(), c, s);
+            betaGlo = calcGlobalCoefficients(material.getBetaPar(), material.getBetaNor(), c, s);
+            qAlphaGlo = MatrixTools.MatVecMult(Qglo, alphaGlo);
+            qBetaGlo = MatrixTools.MatVecMult(Qglo, betaGlo);
+        }
+
+        private boolean isValidFor(double angle, double[][] Qlok, Material material) {
+            return this.angle == angle && Arrays.equals(input, getInput(Qlok, material));
+        }
+
+        private static double[] getInput(double[][] Qlok, Material material) {
+            return new double[]{
+                Qlok[0][0], Qlok[0][1], Qlok[1][1], Qlok[2][2],
+                material.getAlphaTPar(), material.getAlphaTNor(),
+                material.getBetaPar(), material.getBetaNor()};
+        }
+
+        private static double[] calcGlobalCoefficients(double par, double nor, double c, double s) {
+            double c2 = c * c;
+            double s2 = s * s;
+            return new double[]{
+                par * c2 + nor * s2,
+                par * s2 + nor * c2,
+                2.0 * (par - nor) * s * c};
+        }
+    }
 }
@@ -0,0 +1,248 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Untersucht sehr viele Lastfälle, z.B. die Schnittlasten aller Elemente
+ * einer FE-Rechnung, für ein Laminat und ermittelt je Lage und Position die
+ * kritischsten Lastfälle. Die Lastfälle werden aus einer
+ * {@link LoadCaseSource} in Abschnitten fester Größe gelesen und mit dem
+ * {@link CLT_BatchCalculator} berechnet. Der Speicherbedarf hängt nur von
+ * der Abschnittsgröße, der Anzahl der Threads und der Anzahl der
+ * gespeicherten kritischen Lastfälle ab, nicht aber von der Anzahl der
+ * Lastfälle in der Quelle.<br>
+ * <br>
+ * Bei mehreren Threads liest der aufrufende Thread die Abschnitte, während
+ * die Berechnung auf einen Pool von Threads verteilt wird. Jeder Thread
+ * besitzt einen eigenen {@link CLT_BatchCalculator} und ein eigenes
+ * Zwischenergebnis, die am Ende zusammengeführt werden. Es sind höchstens
+ * 2*numberOfThreads Abschnitte gleichzeitig im Speicher. Ein Objekt dieser
+ * Klasse darf nicht gleichzeitig von mehreren Threads verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_LoadCaseScreening {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final CLT_Laminate laminate;
+    private final int numberOfCritical;
+    private final int chunkSize;
+    private final int numberOfThreads;
+
+    // Datensatznummer des nächsten gelesenen Lastfalls, wird nur vom
+    // lesenden Thread verwendet
+    private long recordCounter;
+
+    /**
+     * Erzeugt eine neue Untersuchung mit der Standardabschnittsgröße und
+     * einem Thread je verfügbarem Prozessor.
+     *
+     * @param laminate Laminat
+     * @param numberOfCritical Anzahl der zu speichernden kritischen
+     * Lastfälle je Lage und Position, mindestens 1
+     * @throws IllegalArgumentException bei weniger als einem kritischen
+     * Lastfall
+     */
+    public CLT_LoadCaseScreening(CLT_Laminate laminate, int numberOfCritical) {
+        this(laminate, numberOfCritical, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param laminate Laminat
+     * @param numberOfCritical Anzahl der zu speichernden kritischen
+     * Lastfälle je Lage und Position, mindestens 1
+     * @param chunkSize Anzahl der Lastfälle je Abschnitt
+     * @param numberOfThreads Anzahl der Threads, bei 1 erfolgt die
+     * Berechnung im aufrufenden Thread
+     * @throws IllegalArgumentException bei weniger als einem kritischen
+     * Lastfall
+     */
+    public CLT_LoadCaseScreening(CLT_Laminate laminate, int numberOfCritical, int chunkSize, int numberOfThreads) {
+        // Der minimale Reservefaktor wird aus den kritischen Lastfällen
+        // bestimmt, daher muss mindestens einer gespeichert werden.
+        if (numberOfCritical < 1) {
+            throw new IllegalArgumentException("numberOfCritical must be at least 1: " + numberOfCritical);
+        }
+        this.laminate = laminate;
+        this.numberOfCritical = numberOfCritical;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+    }
+
+    /**
+     * Liest alle Lastfälle der Quelle und bestimmt die kritischen Lastfälle.
+     * Die Quelle wird dabei nicht geschlossen.
+     *
+     * @param source Quelle der Lastfälle
+     * @return Ergebnis
+     * @throws IOException bei Fehlern beim Lesen der Quelle
+     */
+    public CLT_ScreeningResult screen(LoadCaseSource source) throws IOException {
+        recordCounter = 0;
+
+        // Die Rechner werden im aufrufenden Thread erzeugt, da dabei auf das
+        // Laminat zugegriffen wird.
+        List<Worker> workers = new ArrayList<>(numberOfThreads);
+        for (int ii = 0; ii < numberOfThreads; ii++) {
+            workers.add(new Worker());
+        }
+
+        if (numberOfThreads == 1) {
+            Worker worker = workers.get(0);
+            Chunk chunk = new Chunk();
+            while (chunk.read(source)) {
+                worker.process(chunk);
+            }
+            worker.result.sort();
+            return worker.result;
+        }
+
+        BlockingQueue<Worker> freeWorkers = new ArrayBlockingQueue<>(numberOfThreads, false, workers);
+        BlockingQueue<Chunk> freeChunks = new ArrayBlockingQueue<>(2 * numberOfThreads);
+        for (int ii = 0; ii < 2 * numberOfThreads; ii++) {
+            freeChunks.add(new Chunk());
+        }
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, r -> {
+            Thread t = new Thread(r, "eLamX load case screening");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            while (error.get() == null) {
+                final Chunk chunk = freeChunks.take();
+                if (!chunk.read(source)) {
+                    break;
+                }
+                executor.execute(() -> {
+                    // Es laufen nie mehr Aufgaben als Threads, daher ist
+                    // immer ein freier Rechner vorhanden.
+                    Worker worker = freeWorkers.poll();
+                    try {
+                        worker.process(chunk);
+                    } catch (RuntimeException ex) {
+                        error.compareAndSet(null, ex);
+                    } finally {
+                        freeWorkers.add(worker);
+                        freeChunks.add(chunk);
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (error.get() != null) {
+            throw new IllegalStateException(error.get());
+        }
+
+        CLT_ScreeningResult result = workers.get(0).result;
+        for (int ii = 1; ii < workers.size(); ii++) {
+            result.merge(workers.get(ii).result);
+        }
+        result.sort();
+        return result;
+    }
+
+    /**
+     * Puffer für einen Abschnitt von Lastfällen. Die Puffer sind spaltenweise
+     * mit dem Abstand <CODE>numCases</CODE> organisiert, damit auch ein
+     * unvollständiger letzter Abschnitt direkt an den
+     * {@link CLT_BatchCalculator} übergeben werden kann.
+     */
+    private class Chunk {
+
+        private final double[] values = new double[6 * chunkSize];
+        private final double[] deltaT = new double[chunkSize];
+        private final double[] deltaH = new double[chunkSize];
+        private final long[] ids = new long[chunkSize];
+        private int numCases;
+        private long firstRecord;
+
+        private boolean read(LoadCaseSource source) throws IOException {
+            numCases = source.read(values, deltaT, deltaH, ids, chunkSize);
+            firstRecord = recordCounter;
+            recordCounter += numCases;
+            // Die Quelle schreibt mit dem Abstand chunkSize, bei weniger
+            // Lastfällen werden die Komponenten zusammengeschoben.
+            if (numCases > 0 && numCases < chunkSize) {
+                for (int ii = 1; ii < 6; ii++) {
+                    System.arraycopy(values, ii * chunkSize, values, ii * numCases, numCases);
+                }
+            }
+            return numCases > 0;
+        }
+    }
+
+    /**
+     * Rechner und Zwischenergebnis eines Threads.
+     */
+    private class Worker {
+
+        private final CLT_BatchCalculator calculator = new CLT_BatchCalculator(laminate, new boolean[6]);
+        private final CLT_ScreeningResult result = new CLT_ScreeningResult(calculator.getNumberOfLayers(), numberOfCritical);
+        private final double[] epsKappa = new double[6 * chunkSize];
+        private final double[] reserveFactors = new double[calculator.getReserveFactorBufferLength(chunkSize)];
+        private final int[] failureTypes = new int[reserveFactors.length];
+
+        private void process(Chunk chunk) {
+            int numLp = CLT_BatchCalculator.NUM_POSITIONS * calculator.getNumberOfLayers();
+            int numCases = chunk.numCases;
+            calculator.calculate(chunk.values, chunk.deltaT, chunk.deltaH, numCases, null, epsKappa, null, null, reserveFactors, failureTypes);
+            long failed = 0;
+            for (int lc = 0; lc < numCases; lc++) {
+                long record = chunk.firstRecord + lc;
+                boolean caseFailed = false;
+                for (int lp = 0; lp < numLp; lp++) {
+                    double rf = reserveFactors[lp * numCases + lc];
+                    caseFailed |= rf < 1.0;
+                    result.add(lp, rf, failureTypes[lp * numCases + lc], record, chunk.ids[lc],
+                            chunk.values, chunk.deltaT, chunk.deltaH, numCases, lc);
+                }
+                if (caseFailed) {
+                    failed++;
+                }
+            }
+            result.addCases(numCases, failed);
+        }
+    }
+}
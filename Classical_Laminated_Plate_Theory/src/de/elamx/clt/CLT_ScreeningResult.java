@@ -0,0 +1,395 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import java.util.Arrays;
+
+/**
+ * Ergebnis eines {@link CLT_LoadCaseScreening}. Für jede Lage und Position
+ * (oben/unten) werden die <CODE>k</CODE> Lastfälle mit den kleinsten
+ * Reservefaktoren inklusive ihrer Lasten gespeichert. Der Speicherbedarf ist
+ * damit unabhängig von der Anzahl der untersuchten Lastfälle.<br>
+ * <br>
+ * Bei gleichen Reservefaktoren wird der Lastfall mit der kleineren
+ * Datensatznummer bevorzugt, sodass das Ergebnis nicht von der Reihenfolge
+ * der Berechnung und damit nicht von der Anzahl der Threads abhängt.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_ScreeningResult {
+
+    /**
+     * Anzahl der gespeicherten Lastgrößen je Lastfall (N<sub>x</sub>,
+     * N<sub>y</sub>, N<sub>xy</sub>, M<sub>x</sub>, M<sub>y</sub>,
+     * M<sub>xy</sub>, deltaT, deltaH)
+     */
+    public static final int NUM_LOAD_VALUES = 8;
+
+    private final int numLayers;
+    private final int numberOfCritical;
+
+    private long numberOfCases = 0;
+    private long numberOfFailedCases = 0;
+
+    // je Lage und Position [lage * 2 + position] ein Max-Heap der kritischen
+    // Lastfälle, die Wurzel ist der am wenigsten kritische Lastfall
+    private final int[] sizes;
+    private final double[][] reserveFactors;
+    private final int[][] failureTypes;
+    private final long[][] recordNumbers;
+    private final long[][] ids;
+    private final double[][] loads;
+
+    private boolean sorted = false;
+
+    CLT_ScreeningResult(int numLayers, int numberOfCritical) {
+        this.numLayers = numLayers;
+        this.numberOfCritical = numberOfCritical;
+        int num = numLayers * CLT_BatchCalculator.NUM_POSITIONS;
+        sizes = new int[num];
+        reserveFactors = new double[num][numberOfCritical];
+        failureTypes = new int[num][numberOfCritical];
+        recordNumbers = new long[num][numberOfCritical];
+        ids = new long[num][numberOfCritical];
+        loads = new double[num][numberOfCritical * NUM_LOAD_VALUES];
+    }
+
+    /**
+     * Zählt berechnete Lastfälle.
+     *
+     * @param cases Anzahl der Lastfälle
+     * @param failedCases Anzahl der Lastfälle mit einem Reservefaktor kleiner
+     * 1 in mindestens einer Lage
+     */
+    void addCases(long cases, long failedCases) {
+        numberOfCases += cases;
+        numberOfFailedCases += failedCases;
+    }
+
+    /**
+     * Übernimmt einen Lastfall für die Lage und Position <CODE>lp</CODE>,
+     * falls er zu den <CODE>k</CODE> kritischsten gehört. Die Lasten werden
+     * nur in diesem Fall aus den spaltenweise organisierten Puffern kopiert.
+     */
+    void add(int lp, double rf, int failureType, long recordNumber, long id,
+            double[] values, double[] deltaT, double[] deltaH, int stride, int lc) {
+        if (Double.isNaN(rf)) {
+            return;
+        }
+        double[] rfs = reserveFactors[lp];
+        long[] records = recordNumbers[lp];
+        int size = sizes[lp];
+        int pos;
+        if (size < numberOfCritical) {
+            pos = size;
+            sizes[lp] = size + 1;
+        } else if (isBefore(rf, recordNumber, rfs[0], records[0])) {
+            pos = 0;
+        } else {
+            return;
+        }
+        set(lp, pos, rf, failureType, recordNumber, id);
+        double[] l = loads[lp];
+        int off = pos * NUM_LOAD_VALUES;
+        for (int ii = 0; ii < 6; ii++) {
+            l[off + ii] = values[ii * stride + lc];
+        }
+        l[off + 6] = deltaT[lc];
+        l[off + 7] = deltaH[lc];
+        if (pos == 0 && size == numberOfCritical) {
+            siftDown(lp, 0, size);
+        } else {
+            siftUp(lp, pos);
+        }
+        sorted = false;
+    }
+
+    /**
+     * Übernimmt die kritischen Lastfälle eines anderen Ergebnisses für
+     * dasselbe Laminat.
+     *
+     * @param other Ergebnis z.B. eines anderen Threads
+     */
+    void merge(CLT_ScreeningResult other) {
+        numberOfCases += other.numberOfCases;
+        numberOfFailedCases += other.numberOfFailedCases;
+        double[] deltaT = new double[1];
+        double[] deltaH = new double[1];
+        for (int lp = 0; lp < sizes.length; lp++) {
+            for (int ii = 0; ii < other.sizes[lp]; ii++) {
+                int off = ii * NUM_LOAD_VALUES;
+                deltaT[0] = other.loads[lp][off + 6];
+                deltaH[0] = other.loads[lp][off + 7];
+                add(lp, other.reserveFactors[lp][ii], other.failureTypes[lp][ii], other.recordNumbers[lp][ii],
+                        other.ids[lp][ii], Arrays.copyOfRange(other.loads[lp], off, off + 6), deltaT, deltaH, 1, 0);
+            }
+        }
+    }
+
+    /**
+     * Sortiert alle Lagen aufsteigend nach dem Reservefaktor (Heapsort).
+     */
+    void sort() {
+        if (sorted) {
+            return;
+        }
+        for (int lp = 0; lp < sizes.length; lp++) {
+            for (int end = sizes[lp] - 1; end > 0; end--) {
+                swap(lp, 0, end);
+                siftDown(lp, 0, end);
+            }
+        }
+        sorted = true;
+    }
+
+    private static boolean isBefore(double rf1, long record1, double rf2, long record2) {
+        return rf1 < rf2 || (rf1 == rf2 && record1 < record2);
+    }
+
+    private void siftUp(int lp, int pos) {
+        double[] rfs = reserveFactors[lp];
+        long[] records = recordNumbers[lp];
+        while (pos > 0) {
+            int parent = (pos - 1) / 2;
+            if (!isBefore(rfs[parent], records[parent], rfs[pos], records[pos])) {
+                return;
+            }
+            swap(lp, pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int lp, int pos, int size) {
+        double[] rfs = reserveFactors[lp];
+        long[] records = recordNumbers[lp];
+        while (true) {
+            int largest = pos;
+            for (int child = 2 * pos + 1; child <= 2 * pos + 2 && child < size; child++) {
+                if (isBefore(rfs[largest], records[largest], rfs[child], records[child])) {
+                    largest = child;
+                }
+            }
+            if (largest == pos) {
+                return;
+            }
+            swap(lp, pos, largest);
+            pos = largest;
+        }
+    }
+
+    private void set(int lp, int pos, double rf, int failureType, long recordNumber, long id) {
+        reserveFactors[lp][pos] = rf;
+        failureTypes[lp][pos] = failureType;
+        recordNumbers[lp][pos] = recordNumber;
+        ids[lp][pos] = id;
+    }
+
+    private void swap(int lp, int i, int j) {
+        double rf = reserveFactors[lp][i];
+        int type = failureTypes[lp][i];
+        long record = recordNumbers[lp][i];
+        long id = ids[lp][i];
+        set(lp, i, reserveFactors[lp][j], failureTypes[lp][j], recordNumbers[lp][j], ids[lp][j]);
+        set(lp, j, rf, type, record, id);
+        double[] l = loads[lp];
+        for (int ii = 0; ii < NUM_LOAD_VALUES; ii++) {
+            double temp = l[i * NUM_LOAD_VALUES + ii];
+            l[i * NUM_LOAD_VALUES + ii] = l[j * NUM_LOAD_VALUES + ii];
+            l[j * NUM_LOAD_VALUES + ii] = temp;
+        }
+    }
+
+    private int index(int layer, int position) {
+        return layer * CLT_BatchCalculator.NUM_POSITIONS + position;
+    }
+
+    public int getNumberOfLayers() {
+        return numLayers;
+    }
+
+    /**
+     * Liefert die maximale Anzahl der gespeicherten kritischen Lastfälle je
+     * Lage und Position.
+     *
+     * @return k
+     */
+    public int getNumberOfCritical() {
+        return numberOfCritical;
+    }
+
+    /**
+     * Liefert die Anzahl aller untersuchten Lastfälle.
+     *
+     * @return Anzahl der Lastfälle
+     */
+    public long getNumberOfCases() {
+        return numberOfCases;
+    }
+
+    /**
+     * Liefert die Anzahl der Lastfälle, bei denen in mindestens einer Lage ein
+     * Reservefaktor kleiner 1 auftritt.
+     *
+     * @return Anzahl der versagenden Lastfälle
+     */
+    public long getNumberOfFailedCases() {
+        return numberOfFailedCases;
+    }
+
+    /**
+     * Liefert die aufsteigend sortierten Reservefaktoren der kritischen
+     * Lastfälle.
+     *
+     * @param layer Lagenindex
+     * @param position {@link CLT_Layer#POSITION_UPPER} bzw.
+     * {@link CLT_Layer#POSITION_LOWER}
+     * @return Reservefaktoren
+     */
+    public double[] getReserveFactors(int layer, int position) {
+        int lp = index(layer, position);
+        return Arrays.copyOf(reserveFactors[lp], sizes[lp]);
+    }
+
+    /**
+     * Liefert die Versagensarten (siehe
+     * {@link de.elamx.laminate.failure.ReserveFactor}) der kritischen
+     * Lastfälle.
+     *
+     * @param layer Lagenindex
+     * @param position Position
+     * @return Versagensarten
+     */
+    public int[] getFailureTypes(int layer, int position) {
+        int lp = index(layer, position);
+        return Arrays.copyOf(failureTypes[lp], sizes[lp]);
+    }
+
+    /**
+     * Liefert die Datensatznummern (beginnend bei 0) der kritischen Lastfälle
+     * in der Quelle.
+     *
+     * @param layer Lagenindex
+     * @param position Position
+     * @return Datensatznummern
+     */
+    public long[] getRecordNumbers(int layer, int position) {
+        int lp = index(layer, position);
+        return Arrays.copyOf(recordNumbers[lp], sizes[lp]);
+    }
+
+    /**
+     * Liefert die Kennungen der kritischen Lastfälle aus der Quelle.
+     *
+     * @param layer Lagenindex
+     * @param position Position
+     * @return Kennungen
+     */
+    public long[] getIds(int layer, int position) {
+        int lp = index(layer, position);
+        return Arrays.copyOf(ids[lp], sizes[lp]);
+    }
+
+    /**
+     * Liefert die Lasten der kritischen Lastfälle. Je Lastfall sind dies
+     * {@link #NUM_LOAD_VALUES} Werte (N<sub>x</sub>, N<sub>y</sub>,
+     * N<sub>xy</sub>, M<sub>x</sub>, M<sub>y</sub>, M<sub>xy</sub>, deltaT,
+     * deltaH).
+     *
+     * @param layer Lagenindex
+     * @param position Position
+     * @return Lasten [lastfall][wert]
+     */
+    public double[][] getLoads(int layer, int position) {
+        int lp = index(layer, position);
+        double[][] result = new double[sizes[lp]][];
+        for (int ii = 0; ii < result.length; ii++) {
+            result[ii] = Arrays.copyOfRange(loads[lp], ii * NUM_LOAD_VALUES, (ii + 1) * NUM_LOAD_VALUES);
+        }
+        return result;
+    }
+
+    /**
+     * Liefert den minimalen Reservefaktor aller Lastfälle für eine Lage und
+     * Position (Einhüllende).
+     *
+     * @param layer Lagenindex
+     * @param position Position
+     * @return minimaler Reservefaktor oder <CODE>Double.NaN</CODE>, falls
+     * keine Lastfälle vorhanden sind
+     */
+    public double getMinimalReserveFactor(int layer, int position) {
+        int lp = index(layer, position);
+        return sizes[lp] > 0 ? reserveFactors[lp][0] : Double.NaN;
+    }
+
+    /**
+     * Liefert den Index <CODE>lage * 2 + position</CODE> der Lage und
+     * Position mit dem minimalen Reservefaktor aller Lastfälle.
+     *
+     * @return Index oder -1, falls keine Lastfälle vorhanden sind
+     */
+    private int getGoverningIndex() {
+        int governing = -1;
+        for (int lp = 0; lp < sizes.length; lp++) {
+            if (sizes[lp] > 0 && (governing < 0
+                    || isBefore(reserveFactors[lp][0], recordNumbers[lp][0], reserveFactors[governing][0], recordNumbers[governing][0]))) {
+                governing = lp;
+            }
+        }
+        return governing;
+    }
+
+    /**
+     * Liefert den minimalen Reservefaktor über alle Lagen und Lastfälle.
+     *
+     * @return minimaler Reservefaktor oder <CODE>Double.NaN</CODE>, falls
+     * keine Lastfälle vorhanden sind
+     */
+    public double getMinimalReserveFactor() {
+        int lp = getGoverningIndex();
+        return lp < 0 ? Double.NaN : reserveFactors[lp][0];
+    }
+
+    /**
+     * Liefert den Index der Lage mit dem minimalen Reservefaktor.
+     *
+     * @return Lagenindex oder -1, falls keine Lastfälle vorhanden sind
+     */
+    public int getGoverningLayer() {
+        int lp = getGoverningIndex();
+        return lp < 0 ? -1 : lp / CLT_BatchCalculator.NUM_POSITIONS;
+    }
+
+    /**
+     * Liefert die Position in der Lage mit dem minimalen Reservefaktor.
+     *
+     * @return Position oder -1, falls keine Lastfälle vorhanden sind
+     */
+    public int getGoverningPosition() {
+        int lp = getGoverningIndex();
+        return lp < 0 ? -1 : lp % CLT_BatchCalculator.NUM_POSITIONS;
+    }
+}
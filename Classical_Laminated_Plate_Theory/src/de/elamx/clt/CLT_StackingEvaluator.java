@@ -0,0 +1,263 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.LayerMaterial;
+import de.elamx.laminate.StressStrainState;
+import de.elamx.laminate.optimization.StackingDefinition;
+import de.elamx.laminate.optimization.StackingSequence;
+import de.elamx.mathtools.MatrixTools;
+
+/**
+ * Direkte Berechnung der ABD-Matrix und des minimalen Reservefaktors für
+ * kompakte Lagenaufbauten ({@link StackingSequence}) nach der klassischen
+ * Laminattheorie. Alle Größen der möglichen Lagen werden beim Erzeugen
+ * einmalig je Winkelindex der {@link StackingDefinition} bestimmt. Für die
+ * Bewertung eines Aufbaus werden damit weder <CODE>Laminat</CODE>- noch
+ * <CODE>CLT_Laminate</CODE>-Objekte benötigt. Die Ergebnisse entsprechen
+ * denen von {@link CLT_Calculator#determineValues} und
+ * {@link CLT_Calculator#getLayerResults} für das mit
+ * {@link StackingDefinition#createLaminat(StackingSequence)} erzeugte
+ * Laminat.<br>
+ * <br>
+ * Ein Objekt dieser Klasse besitzt internen Arbeitsspeicher und darf deshalb
+ * nicht gleichzeitig von mehreren Threads verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_StackingEvaluator {
+
+    private final StackingDefinition definition;
+
+    private final double[] thickness;  // [winkel]
+    private final double[] qGlobal;    // [winkel * 9 + ii * 3 + jj]
+    private final double[] qLocal;     // [winkel * 9 + ii * 3 + jj]
+    private final double[] transEps;   // [winkel * 9 + ii * 3 + jj]
+    private final double[] qAlpha;     // [winkel * 3 + ii]
+    private final double[] qBeta;      // [winkel * 3 + ii]
+    private final double[] alphaBeta;  // [winkel * 4 + (alpha11, alpha22, beta11, beta22)]
+
+    // Arbeitsspeicher
+    private final double[][] abd = new double[6][6];
+    private final double[] tForce = new double[6];
+    private final double[] rhs = new double[6];
+    private final double[] epskappa = new double[6];
+    private final StressStrainState sss = new StressStrainState(new double[3], new double[3]);
+    private double[] zm = new double[0];
+
+    /**
+     * Erzeugt einen neuen Rechner für alle Aufbauten der übergebenen
+     * Definition.
+     *
+     * @param definition Entwurfsraum
+     */
+    public CLT_StackingEvaluator(StackingDefinition definition) {
+        this.definition = definition;
+
+        int numAngles = definition.getNumberOfAngles();
+        thickness = new double[numAngles];
+        qGlobal = new double[9 * numAngles];
+        qLocal = new double[9 * numAngles];
+        transEps = new double[9 * numAngles];
+        qAlpha = new double[3 * numAngles];
+        qBeta = new double[3 * numAngles];
+        alphaBeta = new double[4 * numAngles];
+
+        for (int a = 0; a < numAngles; a++) {
+            DataLayer layer = definition.getLayer(a, false);
+            LayerMaterial mat = layer.getMaterial();
+            CLT_Layer cl = new CLT_Layer(layer, false);
+
+            thickness[a] = layer.getThickness();
+
+            double[][] q = cl.getQMatGlobal();
+            double[][] ql = cl.getQMatLocal();
+            double[][] t = cl.getTransMat_eps_glo_to_loc();
+            for (int ii = 0; ii < 3; ii++) {
+                System.arraycopy(q[ii], 0, qGlobal, 9 * a + 3 * ii, 3);
+                System.arraycopy(ql[ii], 0, qLocal, 9 * a + 3 * ii, 3);
+                System.arraycopy(t[ii], 0, transEps, 9 * a + 3 * ii, 3);
+            }
+            System.arraycopy(cl.getQAlphaGlobal(), 0, qAlpha, 3 * a, 3);
+            System.arraycopy(cl.getQBetaGlobal(), 0, qBeta, 3 * a, 3);
+
+            alphaBeta[4 * a] = mat.getAlphaTPar();
+            alphaBeta[4 * a + 1] = mat.getAlphaTNor();
+            alphaBeta[4 * a + 2] = mat.getBetaPar();
+            alphaBeta[4 * a + 3] = mat.getBetaNor();
+        }
+    }
+
+    public StackingDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Bestimmt die z-Koordinaten der Lagenmittelebenen aller Lagen wie in
+     * <CODE>CLT_Laminate</CODE>. Die Lage mit dem Index 0 liegt bei
+     * t<sub>ges</sub>/2.
+     */
+    private void calcZm(StackingSequence sequence, int numLayers) {
+        if (zm.length < numLayers) {
+            zm = new double[numLayers];
+        }
+        double tges = 0.0;
+        for (int l = 0; l < numLayers; l++) {
+            tges += thickness[sequence.getAngleIndexOfAllLayers(l)];
+        }
+        double zold = tges / 2.0;
+        for (int l = 0; l < numLayers; l++) {
+            double t = thickness[sequence.getAngleIndexOfAllLayers(l)];
+            zm[l] = zold - t / 2.0;
+            zold -= t;
+        }
+    }
+
+    /**
+     * Berechnet die ABD-Matrix des übergebenen Aufbaus. Zurückgegeben wird
+     * der interne Arbeitsspeicher, der beim nächsten Aufruf überschrieben wird.
+     *
+     * @param sequence Lagenaufbau
+     * @return ABD-Matrix (6x6)
+     */
+    public double[][] getABDMatrix(StackingSequence sequence) {
+        int numLayers = sequence.getNumberOfAllLayers();
+        calcZm(sequence, numLayers);
+
+        double[] a = new double[9];
+        double[] b = new double[9];
+        double[] d = new double[9];
+        for (int l = 0; l < numLayers; l++) {
+            int angleIndex = sequence.getAngleIndexOfAllLayers(l);
+            int off = 9 * angleIndex;
+            double t = thickness[angleIndex];
+            double dFac = t * t / 12.0 + zm[l] * zm[l];
+            for (int ii = 0; ii < 9; ii++) {
+                double temp = qGlobal[off + ii] * t;
+                a[ii] += temp;
+                b[ii] += temp * zm[l];
+                d[ii] += temp * dFac;
+            }
+        }
+
+        for (int ii = 0; ii < 3; ii++) {
+            for (int jj = 0; jj < 3; jj++) {
+                abd[ii][jj] = a[3 * ii + jj];
+                abd[ii + 3][jj] = b[3 * ii + jj];
+                abd[ii][jj + 3] = b[3 * jj + ii];
+                abd[ii + 3][jj + 3] = d[3 * ii + jj];
+            }
+        }
+        return abd;
+    }
+
+    /**
+     * Berechnet den minimalen Reservefaktor aller Lagen (Ober- und Unterseite)
+     * des übergebenen Aufbaus. Die vorgegebenen Lasten und Verzerrungen werden
+     * nicht verändert.
+     *
+     * @param sequence Lagenaufbau
+     * @param loads Lasten inklusive hygrothermaler Lasten
+     * @param strains Verzerrungen
+     * @param useStrain Boolean-Vektor der Länge 6, true für vorgegebene
+     * Verzerrungen (siehe {@link CLT_Calculator#determineValues})
+     * @return minimaler Reservefaktor
+     */
+    public double getMinimalReserveFactor(StackingSequence sequence, Loads loads, Strains strains, boolean[] useStrain) {
+        double[][] abdMat = getABDMatrix(sequence);
+
+        int numLayers = sequence.getNumberOfAllLayers();
+        double dT = loads.getDeltaT();
+        double dH = loads.getDeltaH();
+
+        // Hygrothermale Schnittlasten
+        for (int ii = 0; ii < 6; ii++) {
+            tForce[ii] = 0.0;
+        }
+        if (dT != 0.0 || dH != 0.0) {
+            for (int l = 0; l < numLayers; l++) {
+                int angleIndex = sequence.getAngleIndexOfAllLayers(l);
+                int off = 3 * angleIndex;
+                double t = thickness[angleIndex];
+                for (int ii = 0; ii < 3; ii++) {
+                    double q = qAlpha[off + ii] * dT + qBeta[off + ii] * dH;
+                    tForce[ii] += q * t;
+                    tForce[ii + 3] += q * t * zm[l];
+                }
+            }
+        }
+
+        double[] formom = loads.getForceMomentAsVector();
+        double[] prescribed = strains.getEpsilonKappaAsVector();
+        for (int ii = 0; ii < 6; ii++) {
+            rhs[ii] = useStrain[ii] ? prescribed[ii] : formom[ii] + tForce[ii];
+        }
+
+        double[] results = MatrixTools.solveAbWithExchange(abdMat, rhs, useStrain);
+        for (int ii = 0; ii < 6; ii++) {
+            epskappa[ii] = useStrain[ii] ? prescribed[ii] : results[ii];
+        }
+
+        double[] stress = sss.getStress();
+        double[] strain = sss.getStrain();
+
+        double minimalReserveFactor = Double.MAX_VALUE;
+        for (int l = 0; l < numLayers; l++) {
+            int angleIndex = sequence.getAngleIndexOfAllLayers(l);
+            int off = 9 * angleIndex;
+            double t = thickness[angleIndex];
+            double a1 = alphaBeta[4 * angleIndex] * dT + alphaBeta[4 * angleIndex + 2] * dH;
+            double a2 = alphaBeta[4 * angleIndex + 1] * dT + alphaBeta[4 * angleIndex + 3] * dH;
+            DataLayer layer = sequence.getLayerOfAllLayers(l);
+
+            for (int pos = 0; pos < 2; pos++) {
+                double z = pos == CLT_Layer.POSITION_UPPER ? zm[l] + t / 2.0 : zm[l] - t / 2.0;
+
+                double eg0 = epskappa[0] + z * epskappa[3];
+                double eg1 = epskappa[1] + z * epskappa[4];
+                double eg2 = epskappa[2] + z * epskappa[5];
+
+                // Transformation der globalen Dehnungen in die lokalen Dehnungen
+                strain[0] = transEps[off] * eg0 + transEps[off + 1] * eg1 + transEps[off + 2] * eg2;
+                strain[1] = transEps[off + 3] * eg0 + transEps[off + 4] * eg1 + transEps[off + 5] * eg2;
+                strain[2] = transEps[off + 6] * eg0 + transEps[off + 7] * eg1 + transEps[off + 8] * eg2;
+
+                // Berechnen der lokalen Spannungen
+                double m0 = strain[0] - a1;
+                double m1 = strain[1] - a2;
+                stress[0] = qLocal[off] * m0 + qLocal[off + 1] * m1 + qLocal[off + 2] * strain[2];
+                stress[1] = qLocal[off + 3] * m0 + qLocal[off + 4] * m1 + qLocal[off + 5] * strain[2];
+                stress[2] = qLocal[off + 6] * m0 + qLocal[off + 7] * m1 + qLocal[off + 8] * strain[2];
+
+                minimalReserveFactor = Math.min(minimalReserveFactor,
+                        layer.getCriterion().getReserveFactor(layer.getMaterial(), layer, sss).getMinimalReserveFactor());
+            }
+        }
+
+        return minimalReserveFactor;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.Pattern;
+
+/**
+ * Liest Lastfälle zeilenweise aus einer Textdatei. Jede Zeile enthält einen
+ * Lastfall mit den Spalten
+ * <pre>
+ * id, N_x, N_y, N_xy, M_x, M_y, M_xy [, deltaT [, deltaH]]
+ * </pre>
+ * Die Spalten können durch Kommata, Semikolons oder Leerzeichen getrennt
+ * sein. Leere Zeilen und Zeilen, die mit <CODE>#</CODE> beginnen, werden
+ * übersprungen. Ist die erste Zeile keine gültige Datenzeile, wird sie als
+ * Kopfzeile betrachtet und ebenfalls übersprungen.
+ *
+ * @author Andreas Hauffe
+ */
+public class CSVLoadCaseSource implements LoadCaseSource {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[,;\\s]+");
+
+    private final BufferedReader reader;
+    private int lineNumber = 0;
+    private boolean firstLine = true;
+
+    /**
+     * @param reader Reader der Lastfälle
+     */
+    public CSVLoadCaseSource(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * @param file Datei mit den Lastfällen
+     * @throws IOException wenn die Datei nicht geöffnet werden kann
+     */
+    public CSVLoadCaseSource(File file) throws IOException {
+        this(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int read(double[] values, double[] deltaT, double[] deltaH, long[] ids, int maxCases) throws IOException {
+        int num = 0;
+        String line;
+        while (num < maxCases && (line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            boolean header = firstLine;
+            firstLine = false;
+
+            String[] tokens = SEPARATOR.split(line);
+            if (tokens.length < 7 || tokens.length > 9) {
+                if (header) {
+                    continue;
+                }
+                throw new IOException("line " + lineNumber + ": expected 7 to 9 columns, found " + tokens.length);
+            }
+            try {
+                ids[num] = Long.parseLong(tokens[0]);
+                for (int ii = 0; ii < 6; ii++) {
+                    values[ii * maxCases + num] = Double.parseDouble(tokens[ii + 1]);
+                }
+                deltaT[num] = tokens.length > 7 ? Double.parseDouble(tokens[7]) : 0.0;
+                deltaH[num] = tokens.length > 8 ? Double.parseDouble(tokens[8]) : 0.0;
+            } catch (NumberFormatException ex) {
+                if (header) {
+                    continue;
+                }
+                throw new IOException("line " + lineNumber + ": " + ex.getMessage(), ex);
+            }
+            num++;
+        }
+        return num;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
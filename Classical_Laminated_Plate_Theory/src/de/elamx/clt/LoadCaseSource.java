@@ -0,0 +1,60 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Quelle für Lastfälle, die abschnittsweise gelesen werden, z.B. aus einer
+ * Datei mit Schnittlasten einer FE-Rechnung. Es wird immer nur ein Abschnitt
+ * fester Größe im Speicher gehalten, sodass beliebig große Quellen verarbeitet
+ * werden können (siehe {@link CLT_LoadCaseScreening}).<br>
+ * <br>
+ * Die Puffer sind wie beim {@link CLT_BatchCalculator} spaltenweise
+ * organisiert, d.h. die Komponente <CODE>ii</CODE> des Lastfalls
+ * <CODE>lc</CODE> steht an der Stelle <CODE>ii * maxCases + lc</CODE>.
+ *
+ * @author Andreas Hauffe
+ */
+public interface LoadCaseSource extends Closeable {
+
+    /**
+     * Liest die nächsten Lastfälle. Es werden maximal <CODE>maxCases</CODE>
+     * Lastfälle gelesen.
+     *
+     * @param values Kräfte und Momente N<sub>x</sub>, N<sub>y</sub>,
+     * N<sub>xy</sub>, M<sub>x</sub>, M<sub>y</sub>, M<sub>xy</sub>
+     * (6 * maxCases)
+     * @param deltaT Temperaturänderungen (maxCases)
+     * @param deltaH Feuchteänderungen (maxCases)
+     * @param ids Kennungen der Lastfälle, z.B. Elementnummern (maxCases)
+     * @param maxCases maximale Anzahl der zu lesenden Lastfälle
+     * @return Anzahl der gelesenen Lastfälle, 0 am Ende der Quelle
+     * @throws IOException bei Fehlern beim Lesen
+     */
+    public int read(double[] values, double[] deltaT, double[] deltaH, long[] ids, int maxCases) throws IOException;
+}
@@ -29,10 +29,17 @@ import de.elamx.clt.CLT_Calculator;
 import de.elamx.clt.CLT_Input;
 import de.elamx.clt.CLT_Laminate;
 import de.elamx.clt.CLT_LayerResult;
+import de.elamx.clt.CLT_StackingEvaluator;
+import de.elamx.clt.Loads;
+import de.elamx.clt.Strains;
 import de.elamx.core.ELamXDecimalFormat;
 import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
+import de.elamx.laminate.optimization.StackingDefinition;
+import de.elamx.laminate.optimization.StackingSequence;
+import java.util.Arrays;
 import org.openide.util.*;
 
 /**
@@ -80,11 +87,34 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
         return input;
     }
 
+    @Override
+    public MinimalReserveFactorContext createContext() {
+        return new Context(input);
+    }
+
     @Override
     public boolean isSymmetricLaminateNeeded() {
         return false;
     }
 
+    /**
+     * Ohne Momente und vorgegebene Krümmungen ändert die Umkehr der
+     * Lagenreihenfolge nur das Vorzeichen der Koppelmatrix und der Krümmungen.
+     * Jede Lage erfährt dann den Zustand ihrer gespiegelten Lage, sodass sich
+     * der minimale Reservefaktor nicht ändert.
+     */
+    @Override
+    public boolean isInvariantToReversedStacking() {
+        double[] moments = {input.getLoad().getM_x(), input.getLoad().getM_y(), input.getLoad().getM_xy()};
+        double[] curvatures = {input.getStrains().getKappa_x(), input.getStrains().getKappa_y(), input.getStrains().getKappa_xy()};
+        for (int ii = 0; ii < 3; ii++) {
+            if ((input.isUseStrains(ii + 3) ? curvatures[ii] : moments[ii]) != 0.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public MinimalReserveFactorCalculator getCopy() {
         return new MinimalReserveFactorImplementation(input.copy());
@@ -186,4 +216,137 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
         return string.toString();
     }
 
+    /**
+     * Auswertekontext mit eigenen Lasten und Verzerrungen. Die vorgegebenen
+     * Werte werden bei der Erzeugung aus der Eingabe kopiert. Das Laminat
+     * wird ohne Registrierung im Lookup berechnet. Kompakte Lagenaufbauten
+     * werden direkt mit einem {@link CLT_StackingEvaluator} bewertet.
+     */
+    private static final class Context implements MinimalReserveFactorContext {
+
+        /**
+         * Maximale Anzahl an Winkelkombinationen der freien Lagen, für die
+         * eine Schranke berechnet wird.
+         */
+        private static final long MAX_BOUND_COMBINATIONS = 2000;
+
+        private final Loads load = new Loads();
+        private final Strains strains = new Strains();
+        private final boolean[] useStrains;
+        private CLT_StackingEvaluator evaluator;
+
+        private Context(CLT_Input input) {
+            Loads inLoad = input.getLoad();
+            load.setN_x(inLoad.getN_x());
+            load.setN_y(inLoad.getN_y());
+            load.setN_xy(inLoad.getN_xy());
+            load.setM_x(inLoad.getM_x());
+            load.setM_y(inLoad.getM_y());
+            load.setM_xy(inLoad.getM_xy());
+            load.setDeltaT(inLoad.getDeltaT());
+            load.setDeltaH(inLoad.getDeltaH());
+
+            Strains inStrains = input.getStrains();
+            strains.setEpsilon_x(inStrains.getEpsilon_x());
+            strains.setEpsilon_y(inStrains.getEpsilon_y());
+            strains.setGamma_xy(inStrains.getGamma_xy());
+            strains.setKappa_x(inStrains.getKappa_x());
+            strains.setKappa_y(inStrains.getKappa_y());
+            strains.setKappa_xy(inStrains.getKappa_xy());
+
+            useStrains = input.isUseStrains().clone();
+        }
+
+        @Override
+        public double getMinimalReserveFactor(Laminat laminat) {
+            // determineValues überschreibt nur die jeweils nicht vorgegebenen
+            // Komponenten, sodass die Vorgaben für weitere Aufrufe erhalten bleiben.
+            CLT_Laminate clt_lam = CLT_Laminate.createDetached(laminat);
+
+            CLT_Calculator.determineValues(clt_lam, load, strains, useStrains);
+
+            CLT_LayerResult[] results = CLT_Calculator.getLayerResults(clt_lam, load, strains);
+
+            double minimalReserveFactor = Double.MAX_VALUE;
+
+            for (CLT_LayerResult r : results) {
+                minimalReserveFactor = Math.min(minimalReserveFactor, r.getRr_lower().getMinimalReserveFactor());
+                minimalReserveFactor = Math.min(minimalReserveFactor, r.getRr_upper().getMinimalReserveFactor());
+            }
+
+            return minimalReserveFactor;
+        }
+
+        @Override
+        public double getMinimalReserveFactor(StackingSequence sequence) {
+            if (evaluator == null || evaluator.getDefinition() != sequence.getDefinition()) {
+                evaluator = new CLT_StackingEvaluator(sequence.getDefinition());
+            }
+            return evaluator.getMinimalReserveFactor(sequence, load, strains, useStrains);
+        }
+
+        /**
+         * Bei symmetrischen Aufbauten ohne Momente und vorgegebene Krümmungen
+         * sind die Verzerrungen in allen Lagen gleich. Liegt die äußere Lage
+         * fest, sind alle freien Lagen eingebettet und der Reservefaktor hängt
+         * nur von der Anzahl der freien Lagen je Winkel ab, nicht von ihrer
+         * Reihenfolge. Als Schranke wird deshalb der größte Reservefaktor
+         * aller Winkelkombinationen der freien Lagen berechnet. Sie entspricht
+         * dem besten Aufbau des Teilbaums. In allen anderen Fällen und bei zu
+         * vielen Kombinationen wird keine Schranke geliefert.
+         */
+        @Override
+        public double getReserveFactorBound(StackingSequence fixedLayers, int numberOfLayers, int[] angleIndices) {
+            int numFixed = fixedLayers.getNumberOfLayers();
+            if (!fixedLayers.getDefinition().isSymmetric() || numFixed == 0 || hasBending()
+                    || getNumberOfCombinations(numberOfLayers - numFixed, angleIndices.length) > MAX_BOUND_COMBINATIONS) {
+                return Double.POSITIVE_INFINITY;
+            }
+            byte[] indices = Arrays.copyOf(fixedLayers.getAngleIndices(), numberOfLayers);
+            return getMaxReserveFactor(fixedLayers.getDefinition(), indices, numFixed, 0, angleIndices);
+        }
+
+        /**
+         * Liefert, ob Momente oder Krümmungen vorgegeben sind.
+         */
+        private boolean hasBending() {
+            double[] moments = {load.getM_x(), load.getM_y(), load.getM_xy()};
+            double[] curvatures = {strains.getKappa_x(), strains.getKappa_y(), strains.getKappa_xy()};
+            for (int ii = 0; ii < 3; ii++) {
+                if ((useStrains[ii + 3] ? curvatures[ii] : moments[ii]) != 0.0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Liefert die Anzahl der Kombinationen mit Wiederholung von
+         * <CODE>numFree</CODE> Lagen aus <CODE>numAngles</CODE> Winkeln. Ab
+         * {@link #MAX_BOUND_COMBINATIONS} wird nicht weiter gezählt.
+         */
+        private static long getNumberOfCombinations(int numFree, int numAngles) {
+            long number = 1;
+            for (int ii = 1; ii <= numFree && number <= MAX_BOUND_COMBINATIONS; ii++) {
+                number = number * (numAngles - 1 + ii) / ii;
+            }
+            return number;
+        }
+
+        /**
+         * Bewertet alle Kombinationen der Lagen ab <CODE>position</CODE> mit
+         * nicht fallenden Positionen in <CODE>angleIndices</CODE>.
+         */
+        private double getMaxReserveFactor(StackingDefinition definition, byte[] indices, int position, int first, int[] angleIndices) {
+            if (position == indices.length) {
+                return getMinimalReserveFactor(definition.createSequence(indices));
+            }
+            double maxReserveFactor = -Double.MAX_VALUE;
+            for (int ii = first; ii < angleIndices.length; ii++) {
+                indices[position] = (byte) angleIndices[ii];
+                maxReserveFactor = Math.max(maxReserveFactor, getMaxReserveFactor(definition, indices, position + 1, ii, angleIndices));
+            }
+            return maxReserveFactor;
+        }
+    }
 }
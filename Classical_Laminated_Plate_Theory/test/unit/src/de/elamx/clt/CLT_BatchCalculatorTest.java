@@ -0,0 +1,155 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.StressStrainState;
+import de.elamx.laminate.failure.Puck;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_BatchCalculatorTest {
+
+    private static final int NUM_CASES = 50;
+
+    public CLT_BatchCalculatorTest() {
+    }
+
+    private static CLT_Laminate createLaminate() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.setAlphaTPar(-0.5E-6);
+        mat.setAlphaTNor(35.0E-6);
+        mat.setBetaPar(0.0);
+        mat.setBetaNor(0.004);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        List<DataLayer> layers = new ArrayList<>();
+
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 70.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat, 90.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat, 10.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer4", mat, 0.0, 0.125));
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+
+        lam.addLayers(layers);
+
+        return new CLT_Laminate(lam);
+    }
+
+    /**
+     * Vergleich der Batch-Berechnung mit der Einzelberechnung über
+     * {@link CLT_Calculator} für zufällige Lastfälle inklusive
+     * hygrothermaler Lasten und teilweise vorgegebener Verzerrungen.
+     */
+    @Test
+    public void compareWithCLT_Calculator() {
+        CLT_Laminate clt_lam = createLaminate();
+
+        boolean[] useStrains = new boolean[]{false, false, true, false, false, false};
+
+        Random random = new Random(4711);
+        double[] values = new double[6 * NUM_CASES];
+        double[] deltaT = new double[NUM_CASES];
+        double[] deltaH = new double[NUM_CASES];
+        for (int lc = 0; lc < NUM_CASES; lc++) {
+            for (int ii = 0; ii < 6; ii++) {
+                values[ii * NUM_CASES + lc] = useStrains[ii] ? 0.001 * (random.nextDouble() - 0.5) : 200.0 * (random.nextDouble() - 0.5);
+            }
+            deltaT[lc] = -100.0 * random.nextDouble();
+            deltaH[lc] = 0.5 * random.nextDouble();
+        }
+
+        CLT_BatchCalculator calc = new CLT_BatchCalculator(clt_lam, useStrains);
+        int numLayers = calc.getNumberOfLayers();
+
+        double[] forces = new double[6 * NUM_CASES];
+        double[] epsKappa = new double[6 * NUM_CASES];
+        double[] plyStrains = new double[calc.getPlyBufferLength(NUM_CASES)];
+        double[] plyStresses = new double[calc.getPlyBufferLength(NUM_CASES)];
+        double[] reserveFactors = new double[calc.getReserveFactorBufferLength(NUM_CASES)];
+        int[] failureTypes = new int[calc.getReserveFactorBufferLength(NUM_CASES)];
+
+        calc.calculate(values, deltaT, deltaH, NUM_CASES, forces, epsKappa, plyStrains, plyStresses, reserveFactors, failureTypes);
+
+        for (int lc = 0; lc < NUM_CASES; lc++) {
+            Loads loads = new Loads();
+            loads.setN_x(values[lc]);
+            loads.setN_y(values[NUM_CASES + lc]);
+            loads.setM_x(values[3 * NUM_CASES + lc]);
+            loads.setM_y(values[4 * NUM_CASES + lc]);
+            loads.setM_xy(values[5 * NUM_CASES + lc]);
+            loads.setDeltaT(deltaT[lc]);
+            loads.setDeltaH(deltaH[lc]);
+
+            Strains strains = new Strains();
+            strains.setGamma_xy(values[2 * NUM_CASES + lc]);
+
+            CLT_Calculator.determineValues(clt_lam, loads, strains, useStrains);
+
+            double[] expEpsKappa = strains.getEpsilonKappaAsVector();
+            double[] expForces = loads.getForceMomentAsVector();
+            for (int ii = 0; ii < 6; ii++) {
+                assertEquals(expEpsKappa[ii], epsKappa[ii * NUM_CASES + lc], 1.0E-12);
+                assertEquals(expForces[ii], forces[ii * NUM_CASES + lc], 1.0E-8);
+            }
+
+            CLT_LayerResult[] layerResults = CLT_Calculator.getLayerResults(clt_lam, loads, strains);
+            for (int l = 0; l < numLayers; l++) {
+                for (int pos = 0; pos < CLT_BatchCalculator.NUM_POSITIONS; pos++) {
+                    StressStrainState sss = pos == CLT_Layer.POSITION_UPPER ? layerResults[l].getSss_upper() : layerResults[l].getSss_lower();
+                    int lp = l * CLT_BatchCalculator.NUM_POSITIONS + pos;
+                    for (int ii = 0; ii < 3; ii++) {
+                        assertEquals(sss.getStrain()[ii], plyStrains[(lp * 3 + ii) * NUM_CASES + lc], 1.0E-12);
+                        assertEquals(sss.getStress()[ii], plyStresses[(lp * 3 + ii) * NUM_CASES + lc], 1.0E-8);
+                    }
+                    double expRf = pos == CLT_Layer.POSITION_UPPER ? layerResults[l].getRr_upper().getMinimalReserveFactor() : layerResults[l].getRr_lower().getMinimalReserveFactor();
+                    int expType = pos == CLT_Layer.POSITION_UPPER ? layerResults[l].getRr_upper().getFailureType() : layerResults[l].getRr_lower().getFailureType();
+                    assertEquals(expRf, reserveFactors[lp * NUM_CASES + lc], 1.0E-8 * Math.abs(expRf));
+                    assertEquals(expType, failureTypes[lp * NUM_CASES + lc]);
+                }
+            }
+        }
+    }
+}
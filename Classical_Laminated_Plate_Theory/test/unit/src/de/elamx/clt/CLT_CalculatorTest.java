@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 /**
@@ -1818,4 +1819,58 @@ public class CLT_CalculatorTest {
         assertEquals(-123.4, stress[1], 0.05);
         assertEquals(-184.3, stress[2], 0.05);
     }
+
+    /**
+     * Die Last-Ply-Failure-Analyse arbeitet auf einer Kopie der Materialien.
+     * Die zusätzlichen Materialwerte (hier die Puck-Parameter) müssen dabei
+     * übernommen werden, d.h. der Reservefaktor der ersten Iteration muss dem
+     * Ergebnis am Ausgangslaminat entsprechen.
+     */
+    @Test
+    public void lastPlyFailure_usesAdditionalMaterialValues() {
+        double[] rfFirst = new double[2];
+        double[][] puckParameters = new double[][]{{0.3, 0.35}, {0.2, 0.25}};
+        for (int ii = 0; ii < puckParameters.length; ii++) {
+            DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+            mat.setRParTen(1800.0);
+            mat.setRParCom(1200.0);
+            mat.setRNorTen(60.0);
+            mat.setRNorCom(220.0);
+            mat.setRShear(90.0);
+            mat.putAdditionalValue(Puck.PSPD, puckParameters[ii][0]);
+            mat.putAdditionalValue(Puck.PSPZ, puckParameters[ii][1]);
+            mat.putAdditionalValue(Puck.A0, 0.5);
+            mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+            Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 0.0, 0.25));
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat, 90.0, 0.25));
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat, 45.0, 0.25));
+            CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+            // Schub und Querdruck in der 90°-Lage, damit die Puck-Parameter
+            // den Zwischenfaserbruch beeinflussen
+            Loads loads = new Loads();
+            loads.setN_x(-100.0);
+            loads.setN_xy(40.0);
+            boolean[] useStrain = new boolean[6];
+
+            CLT_LastPlyFailureResult lpfResult = CLT_Calculator.determineValuesLastPlyFailure(clt_lam, loads, new Strains(), useStrain, 0.000001, 0.003, 1.0, true);
+
+            Loads refLoads = new Loads();
+            refLoads.setN_x(-100.0);
+            refLoads.setN_xy(40.0);
+            Strains refStrains = new Strains();
+            CLT_Calculator.determineValues(clt_lam, refLoads, refStrains, useStrain);
+            double rfMin = Double.MAX_VALUE;
+            for (CLT_LayerResult r : CLT_Calculator.getLayerResults(clt_lam, refLoads, refStrains)) {
+                rfMin = Math.min(rfMin, Math.min(r.getRr_lower().getMinimalReserveFactor(), r.getRr_upper().getMinimalReserveFactor()));
+            }
+
+            assertEquals(rfMin, lpfResult.getRf_min()[0], 1e-10 * rfMin);
+            rfFirst[ii] = lpfResult.getRf_min()[0];
+        }
+        // Die Parameter wirken sich tatsächlich auf das Ergebnis aus
+        assertTrue(Math.abs(rfFirst[0] - rfFirst[1]) > 1e-3 * rfFirst[0]);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.failure.Puck;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_FailureEnvelopeTest {
+
+    private static final double DEGRADATION_FACTOR = 0.000001;
+    private static final double J_A = 0.9;
+
+    public CLT_FailureEnvelopeTest() {
+    }
+
+    private static CLT_Laminate createLaminate() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        List<DataLayer> layers = new ArrayList<>();
+
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 70.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat, 90.0, 0.15));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat, 10.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer4", mat, 0.0, 0.2));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer5", mat, -40.0, 0.125));
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+
+        lam.addLayers(layers);
+
+        return new CLT_Laminate(lam);
+    }
+
+    /**
+     * Vergleich der Einhüllenden mit der Einzelberechnung über
+     * {@link CLT_Calculator#determineValuesLastPlyFailure} je Lastrichtung.
+     */
+    @Test
+    public void compareWithDetermineValuesLastPlyFailure() {
+        CLT_Laminate clt_lam = createLaminate();
+        CLT_FailureEnvelope envelope = new CLT_FailureEnvelope(clt_lam, DEGRADATION_FACTOR, J_A, true);
+
+        int[][] planes = {{CLT_FailureEnvelope.NX, CLT_FailureEnvelope.NY}, {CLT_FailureEnvelope.NX, CLT_FailureEnvelope.NXY}};
+        for (int[] plane : planes) {
+            CLT_FailureEnvelopeResult result = envelope.getEnvelope(plane[0], plane[1], 36, 1);
+            double[][] fpf = result.getFirstPlyFailureEnvelope();
+            double[][] lpf = result.getLastPlyFailureEnvelope();
+
+            for (int ii = 0; ii < result.getNumberOfDirections(); ii++) {
+                double[] dir = result.getDirections()[ii];
+                Loads loads = new Loads();
+                loads.setN_x(dir[0]);
+                loads.setN_y(dir[1]);
+                loads.setN_xy(dir[2]);
+
+                CLT_LastPlyFailureResult expected = CLT_Calculator.determineValuesLastPlyFailure(clt_lam, loads, new Strains(), new boolean[6],
+                        DEGRADATION_FACTOR, 0.003, J_A, true);
+
+                double rfFirst = expected.getRf_min()[0];
+                double rfLast = expected.getExceedance_factor();
+                assertEquals(rfFirst, result.getRf_first()[ii], 1.0E-9 * rfFirst);
+                assertEquals(rfLast, result.getExceedance_factor()[ii], 1.0E-9 * rfLast);
+                assertEquals((int) expected.getLayerNumber()[0], result.getLayerNumber_first()[ii]);
+                assertEquals((int) expected.getFailureType()[0], result.getFailureType_first()[ii]);
+                assertEquals((int) expected.getIter_exceedance_factor(), result.getIter_exceedance_factor()[ii]);
+                for (int kk = 0; kk < 6; kk++) {
+                    assertEquals(rfFirst * dir[kk], fpf[ii][kk], 1.0E-9 * rfFirst);
+                    assertEquals(rfLast * dir[kk], lpf[ii][kk], 1.0E-9 * rfLast);
+                }
+            }
+        }
+    }
+
+    /**
+     * Die Ergebnisse dürfen nicht von der Anzahl der Threads abhängen.
+     */
+    @Test
+    public void independentOfNumberOfThreads() {
+        CLT_FailureEnvelope envelope = new CLT_FailureEnvelope(createLaminate(), DEGRADATION_FACTOR, J_A, false);
+
+        CLT_FailureEnvelopeResult single = envelope.getEnvelope(CLT_FailureEnvelope.NX, CLT_FailureEnvelope.NY, 40, 1);
+        CLT_FailureEnvelopeResult multi = envelope.getEnvelope(CLT_FailureEnvelope.NX, CLT_FailureEnvelope.NY, 40, 3);
+
+        for (int ii = 0; ii < single.getNumberOfDirections(); ii++) {
+            assertEquals(single.getRf_first()[ii], multi.getRf_first()[ii], 0.0);
+            assertEquals(single.getExceedance_factor()[ii], multi.getExceedance_factor()[ii], 0.0);
+        }
+    }
+}
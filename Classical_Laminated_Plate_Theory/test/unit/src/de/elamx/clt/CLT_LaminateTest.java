@@ -0,0 +1,209 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.Layer;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_LaminateTest {
+
+    private static final double[] ANGLES = {0.0, 45.0, -45.0, 90.0, 30.0};
+
+    public CLT_LaminateTest() {
+    }
+
+    private static DefaultMaterial createMaterial() {
+        return new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+    }
+
+    private static Laminat createLaminat(boolean symmetric) {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+        for (int ii = 0; ii < ANGLES.length; ii++) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + ii, createMaterial(), ANGLES[ii], 0.125 + 0.01 * ii));
+        }
+        lam.setSymmetric(symmetric);
+        return lam;
+    }
+
+    private static void assertMatrixEquals(double[][] expected, double[][] actual) {
+        double max = 0.0;
+        for (double[] row : expected) {
+            for (double v : row) {
+                max = Math.max(max, Math.abs(v));
+            }
+        }
+        for (int ii = 0; ii < expected.length; ii++) {
+            for (int jj = 0; jj < expected[ii].length; jj++) {
+                assertEquals(expected[ii][jj], actual[ii][jj], 1.0E-10 * max);
+            }
+        }
+    }
+
+    private static void assertSameStiffness(CLT_Laminate expected, CLT_Laminate actual) {
+        assertMatrixEquals(expected.getABDMatrix(), actual.getABDMatrix());
+        assertMatrixEquals(expected.getInvABDMatrix(), actual.getInvABDMatrix());
+        assertEquals(expected.isSymmetric(), actual.isSymmetric());
+        assertEquals(expected.getTges(), actual.getTges(), 1.0E-12);
+    }
+
+    /**
+     * Änderung der Winkel einzelner Lagen eines unsymmetrischen Laminats.
+     */
+    @Test
+    public void updateLayerAngle() {
+        Laminat lam = createLaminat(false);
+        CLT_Laminate incremental = CLT_Laminate.createDetached(lam);
+
+        double[] newAngles = {90.0, -30.0, 15.0, 0.0, -60.0};
+        for (int ii = 0; ii < newAngles.length; ii++) {
+            ((DataLayer) incremental.getCLTLayers()[ii].getLayer()).setAngle(newAngles[ii]);
+            incremental.updateLayer(ii);
+
+            assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+        }
+    }
+
+    /**
+     * Änderung eines Winkels in einem symmetrischen Laminat. Die Lage und die
+     * gespiegelte Lage werden aktualisiert.
+     */
+    @Test
+    public void updateLayerAngleSymmetric() {
+        Laminat lam = createLaminat(true);
+        CLT_Laminate incremental = CLT_Laminate.createDetached(lam);
+        int numLayers = incremental.getCLTLayers().length;
+
+        ((DataLayer) lam.getLayers().get(1)).setAngle(60.0);
+        incremental.updateLayer(1);
+        incremental.updateLayer(numLayers - 2);
+
+        CLT_Laminate full = CLT_Laminate.createDetached(lam);
+        assertSameStiffness(full, incremental);
+        assertEquals(true, incremental.isSymmetric());
+    }
+
+    /**
+     * Degradation der Steifigkeiten einer Lage wie bei der
+     * Last-Ply-Failure-Analyse.
+     */
+    @Test
+    public void updateLayerDegradation() {
+        Laminat lam = createLaminat(false);
+        CLT_Laminate incremental = CLT_Laminate.createDetached(lam);
+
+        for (int ii : new int[]{2, 0, 4, 2}) {
+            DefaultMaterial mat = (DefaultMaterial) incremental.getCLTLayers()[ii].getLayer().getMaterial();
+            mat.setEnor(0.01 * mat.getEnor());
+            mat.setG(0.01 * mat.getG());
+            incremental.updateLayer(ii);
+
+            assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+
+            mat.setEpar(0.01 * mat.getEpar());
+            incremental.updateLayer(ii);
+
+            assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+        }
+    }
+
+    /**
+     * Einfügen und Entfernen von Lagen im Vergleich zu einem neu aufgebauten
+     * Laminat.
+     */
+    @Test
+    public void insertAndRemoveLayer() {
+        Laminat lam = createLaminat(false);
+        CLT_Laminate incremental = CLT_Laminate.createDetached(lam);
+
+        DataLayer newLayer = new DataLayer(UUID.randomUUID().toString(), "New", createMaterial(), -45.0, 0.2);
+        incremental.insertLayer(2, newLayer);
+        lam.addLayer(2, newLayer);
+
+        assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+
+        Layer removed = lam.getLayers().get(0);
+        incremental.removeLayer(0);
+        lam.removeLayer(removed);
+
+        assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+
+        incremental.refresh();
+        assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+    }
+
+    /**
+     * Zurücksetzen nach mehreren Degradationen auf den gespeicherten
+     * Ausgangszustand.
+     */
+    @Test
+    public void restoreStiffnessState() {
+        Laminat lam = createLaminat(false);
+        CLT_Laminate incremental = CLT_Laminate.createDetached(lam);
+        CLT_Laminate.StiffnessState undamaged = incremental.saveStiffnessState();
+        double[][] ABDInv = incremental.getInvABDMatrix();
+        double[][] expectedInv = new double[6][];
+        for (int ii = 0; ii < 6; ii++) {
+            expectedInv[ii] = ABDInv[ii].clone();
+        }
+
+        for (int ii : new int[]{1, 3}) {
+            DefaultMaterial mat = (DefaultMaterial) incremental.getCLTLayers()[ii].getLayer().getMaterial();
+            mat.setEnor(0.0);
+            mat.setNue12(0.0);
+            mat.setG(0.0);
+            incremental.updateLayer(ii);
+        }
+        for (int ii : new int[]{1, 3}) {
+            DefaultMaterial mat = (DefaultMaterial) incremental.getCLTLayers()[ii].getLayer().getMaterial();
+            mat.setEnor(9300.0);
+            mat.setNue12(0.28);
+            mat.setG(4600.0);
+        }
+        incremental.restoreStiffnessState(undamaged);
+
+        assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+        for (int ii = 0; ii < 6; ii++) {
+            for (int jj = 0; jj < 6; jj++) {
+                assertEquals(expectedInv[ii][jj], incremental.getInvABDMatrix()[ii][jj], 0.0);
+            }
+        }
+
+        // Die CLT-Lagen müssen wieder die ungeschädigten Steifigkeiten liefern
+        DefaultMaterial mat = (DefaultMaterial) incremental.getCLTLayers()[1].getLayer().getMaterial();
+        mat.setG(0.5 * mat.getG());
+        incremental.updateLayer(1);
+        assertSameStiffness(CLT_Laminate.createDetached(lam), incremental);
+    }
+}
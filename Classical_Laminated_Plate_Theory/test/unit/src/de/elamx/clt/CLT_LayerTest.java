@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 /**
@@ -608,4 +609,36 @@ public class CLT_LayerTest {
         assertEquals(-367.15, InvABDMat[5][4]*100000.0, 0.005);
         assertEquals(1557.74, InvABDMat[5][5]*100000.0, 0.005);
     }
-}
\ No newline at end of file
+
+    /**
+     * Prüfung, dass die zwischengespeicherte globale Steifigkeitsmatrix bei
+     * Änderung von Winkel und Material der Lage verworfen wird.
+     */
+    @Test
+    public void cachedGlobalStiffnessInvalidation() {
+
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+
+        DataLayer layer = new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 0.0, 0.125);
+
+        CLT_Layer clt_lay = new CLT_Layer(layer);
+
+        double[][] QMat = clt_lay.getQMatGlobal();
+        assertTrue(QMat == clt_lay.getQMatGlobal());
+        assertEquals(133433.0, QMat[0][0], 0.5);
+
+        layer.setAngle(90.0);
+        QMat = clt_lay.getQMatGlobal();
+        assertEquals(  9351.0, QMat[0][0], 0.5);
+        assertEquals(133433.0, QMat[1][1], 0.5);
+
+        layer.setName("Layer2");
+        assertTrue(QMat == clt_lay.getQMatGlobal());
+
+        mat.setEpar(2.0 * 132700.0);
+        QMat = clt_lay.getQMatGlobal();
+        assertEquals(clt_lay.getQMatLocal()[1][1], QMat[0][0], 1.0E-6);
+        assertEquals(clt_lay.getQMatLocal()[0][0], QMat[1][1], 1.0E-6);
+        assertEquals(266131.1, QMat[1][1], 0.5);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.failure.Puck;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class CLT_LoadCaseScreeningTest {
+
+    private static final int NUM_CASES = 2000;
+    private static final int NUM_CRITICAL = 5;
+
+    public CLT_LoadCaseScreeningTest() {
+    }
+
+    private static CLT_Laminate createLaminate() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.setAlphaTPar(-0.5E-6);
+        mat.setAlphaTNor(35.0E-6);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        List<DataLayer> layers = new ArrayList<>();
+
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer1", mat, 45.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer2", mat, -45.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer3", mat, 0.0, 0.125));
+        layers.add(new DataLayer(UUID.randomUUID().toString(), "Layer4", mat, 90.0, 0.125));
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+
+        lam.addLayers(layers);
+
+        return new CLT_Laminate(lam);
+    }
+
+    /**
+     * Vergleich der kritischen Lastfälle aus einer CSV-Quelle für einen und
+     * mehrere Threads mit einer Berechnung aller Lastfälle auf einmal.
+     */
+    @Test
+    public void compareWithBatchCalculator() throws IOException {
+        CLT_Laminate clt_lam = createLaminate();
+
+        Random random = new Random(4711);
+        double[] values = new double[6 * NUM_CASES];
+        double[] deltaT = new double[NUM_CASES];
+        double[] deltaH = new double[NUM_CASES];
+        StringBuilder csv = new StringBuilder("id;Nx;Ny;Nxy;Mx;My;Mxy;deltaT\n");
+        for (int lc = 0; lc < NUM_CASES; lc++) {
+            csv.append(1000 + lc);
+            for (int ii = 0; ii < 6; ii++) {
+                // gerundete Werte, damit gleiche Reservefaktoren auftreten
+                values[ii * NUM_CASES + lc] = Math.round(10.0 * (random.nextDouble() - 0.5)) * 20.0;
+                csv.append(';').append(values[ii * NUM_CASES + lc]);
+            }
+            deltaT[lc] = -Math.round(4.0 * random.nextDouble()) * 25.0;
+            csv.append(';').append(String.format(Locale.ENGLISH, "%f", deltaT[lc])).append('\n');
+        }
+
+        CLT_BatchCalculator calc = new CLT_BatchCalculator(clt_lam, new boolean[6]);
+        int numLayers = calc.getNumberOfLayers();
+        double[] epsKappa = new double[6 * NUM_CASES];
+        double[] reserveFactors = new double[calc.getReserveFactorBufferLength(NUM_CASES)];
+        int[] failureTypes = new int[reserveFactors.length];
+        calc.calculate(values, deltaT, deltaH, NUM_CASES, null, epsKappa, null, null, reserveFactors, failureTypes);
+
+        long expFailed = 0;
+        for (int lc = 0; lc < NUM_CASES; lc++) {
+            for (int lp = 0; lp < numLayers * CLT_BatchCalculator.NUM_POSITIONS; lp++) {
+                if (reserveFactors[lp * NUM_CASES + lc] < 1.0) {
+                    expFailed++;
+                    break;
+                }
+            }
+        }
+
+        int[][] settings = new int[][]{{1, 64}, {4, 37}, {3, NUM_CASES + 10}};
+        for (int[] setting : settings) {
+            CLT_LoadCaseScreening screening = new CLT_LoadCaseScreening(clt_lam, NUM_CRITICAL, setting[1], setting[0]);
+            CLT_ScreeningResult result;
+            try (LoadCaseSource source = new CSVLoadCaseSource(new StringReader(csv.toString()))) {
+                result = screening.screen(source);
+            }
+
+            assertEquals(NUM_CASES, result.getNumberOfCases());
+            assertEquals(expFailed, result.getNumberOfFailedCases());
+
+            double minRf = Double.POSITIVE_INFINITY;
+            for (int l = 0; l < numLayers; l++) {
+                for (int pos = 0; pos < CLT_BatchCalculator.NUM_POSITIONS; pos++) {
+                    final int lp = l * CLT_BatchCalculator.NUM_POSITIONS + pos;
+                    Integer[] order = new Integer[NUM_CASES];
+                    for (int lc = 0; lc < NUM_CASES; lc++) {
+                        order[lc] = lc;
+                    }
+                    Arrays.sort(order, Comparator.comparingDouble((Integer lc) -> reserveFactors[lp * NUM_CASES + lc]).thenComparing(lc -> lc));
+
+                    double[] rfs = result.getReserveFactors(l, pos);
+                    long[] records = result.getRecordNumbers(l, pos);
+                    long[] ids = result.getIds(l, pos);
+                    int[] types = result.getFailureTypes(l, pos);
+                    double[][] loads = result.getLoads(l, pos);
+                    assertEquals(NUM_CRITICAL, rfs.length);
+                    for (int ii = 0; ii < NUM_CRITICAL; ii++) {
+                        int lc = order[ii];
+                        assertEquals(reserveFactors[lp * NUM_CASES + lc], rfs[ii], 0.0);
+                        assertEquals(lc, records[ii]);
+                        assertEquals(1000 + lc, ids[ii]);
+                        assertEquals(failureTypes[lp * NUM_CASES + lc], types[ii]);
+                        double[] expLoads = new double[CLT_ScreeningResult.NUM_LOAD_VALUES];
+                        for (int jj = 0; jj < 6; jj++) {
+                            expLoads[jj] = values[jj * NUM_CASES + lc];
+                        }
+                        expLoads[6] = deltaT[lc];
+                        assertArrayEquals(expLoads, loads[ii], 0.0);
+                    }
+                    assertEquals(rfs[0], result.getMinimalReserveFactor(l, pos), 0.0);
+                    minRf = Math.min(minRf, rfs[0]);
+                }
+            }
+            assertEquals(minRf, result.getMinimalReserveFactor(), 0.0);
+            assertEquals(minRf, result.getMinimalReserveFactor(result.getGoverningLayer(), result.getGoverningPosition()), 0.0);
+        }
+    }
+
+    /**
+     * Ohne gespeicherte kritische Lastfälle kann kein minimaler
+     * Reservefaktor bestimmt werden.
+     */
+    @Test
+    public void rejectNoCriticalCases() {
+        CLT_Laminate clt_lam = createLaminate();
+        try {
+            new CLT_LoadCaseScreening(clt_lam, 0, 64, 1);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException ex) {
+            // erwartet
+        }
+    }
+}
@@ -41,7 +41,7 @@ public class CircularCutoutGeometry extends CutoutGeometry{
     
     private static final double MAX_ASPECT_RATIO = Double.POSITIVE_INFINITY;
     
-    private static Property[] props;
+    private static volatile Property[] props;
     
     public CircularCutoutGeometry(){
         this(NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.description"), 1.0);
@@ -71,16 +71,21 @@ public class CircularCutoutGeometry extends CutoutGeometry{
     }
     
     private void initProperties(){
-        props = new Property[2];
-        
-        props[0] = new Property(PROP_NAME, String.class, 
-                NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.name"), 
-                NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.name.shortDescription"), 
-                PropertyEditorSupport.class);
-        props[1] = new Property(PROP_A, double.class, 
-                NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.a"), 
-                NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.a.shortDescription"), 
-                ThicknessPropertyEditorSupport.class);
+        synchronized (CircularCutoutGeometry.class) {
+            if (props != null) {return;}
+            
+            Property[] p = new Property[2];
+            
+            p[0] = new Property(PROP_NAME, String.class, 
+                    NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.name"), 
+                    NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.name.shortDescription"), 
+                    PropertyEditorSupport.class);
+            p[1] = new Property(PROP_A, double.class, 
+                    NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.a"), 
+                    NbBundle.getMessage(CircularCutoutGeometry.class, "CircularCutoutGeometry.a.shortDescription"), 
+                    ThicknessPropertyEditorSupport.class);
+            props = p;
+        }
     }
 
     @Override
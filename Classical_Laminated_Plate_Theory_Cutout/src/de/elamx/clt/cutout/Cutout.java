@@ -34,18 +34,27 @@ import de.elamx.mathtools.Complex;
  */
 public class Cutout {
     
-    private static int I_WERTE = 721;                                           // Anzahl Werte über Lochwinkel
+    public static final int DEFAULT_NUM_WERTE = 721;                            // Standardanzahl Werte über Lochwinkel
     
-    public static int getNumWerte(){return I_WERTE;}
+    /**
+     * Liefert die Standardanzahl der Werte über den Lochwinkel. Die Anzahl
+     * einer Berechnung wird über {@link CutoutInput#getValues()} vorgegeben.
+     * 
+     * @return Standardanzahl der Werte über den Lochwinkel
+     */
+    public static int getNumWerte(){return DEFAULT_NUM_WERTE;}
     
+    /**
+     * Berechnet die Schnittlasten am Lochrand. Die Methode verwendet keine
+     * statischen Zwischenwerte und kann gleichzeitig von mehreren Threads
+     * aufgerufen werden, solange diese nicht dasselbe Eingabeobjekt verwenden.
+     * 
+     * @param laminat Das betrachtete Laminat
+     * @param input Eingabegrößen
+     * @return Ergebnisse der Lochberechnung
+     */
     public static CutoutResult calc(CLT_Laminate laminat, CutoutInput input) {
         
-        //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-        // Anzahl Werte über 360°-Winkel
-        //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-        
-        I_WERTE = input.getValues();
-        
         //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
         // Konstanten
         //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -62,6 +71,8 @@ public class Cutout {
         
     private static CutoutResult calcSymmetric(CLT_Laminate laminat, CutoutInput input){
         
+        int numWerte = input.getValues();                                       // Anzahl Werte über 360°-Winkel
+        
         double[] loads = input.getLoads();
         
         //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -93,11 +104,11 @@ public class Cutout {
         double angle, alpha, sar, car;
         double h      = laminat.getTges();
         double vald   = h*h*h/6.0;
-        double deltaW = 360.0/(I_WERTE-1);
-        double[][] NM = new double[9][I_WERTE];
+        double deltaW = 360.0/(numWerte-1);
+        double[][] NM = new double[9][numWerte];
         Complex[] phipsiN, phipsiM;
         
-        for (int ii = 0; ii <= I_WERTE-1; ii++){
+        for (int ii = 0; ii <= numWerte-1; ii++){
             
             angle   = ii*deltaW;
             phipsiN = funcN.calc(angle);
@@ -123,6 +134,8 @@ public class Cutout {
     
     private static CutoutResult calcUnsymmetric(CLT_Laminate laminat, CutoutInput input){
         
+        int numWerte = input.getValues();                                       // Anzahl Werte über 360°-Winkel
+        
         double[] loads = input.getLoads();
         
         //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -137,15 +150,15 @@ public class Cutout {
         //~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
         
         //Stressfunctions Phi, Psi
-        UnsymPotentials pots = new UnsymPotentials(hq, input.getCutoutGeometry(), loads);
+        UnsymPotentials pots = new UnsymPotentials(hq, input.getCutoutGeometry(), loads, numWerte);
 
         //9. N, M berechnen
-        double deltaW = 360.0/(I_WERTE-1);
-        double[][] NM = new double[9][I_WERTE];
+        double deltaW = 360.0/(numWerte-1);
+        double[][] NM = new double[9][numWerte];
         double angle, alpha, sar, car;
         
         //(16)
-        for (int ii = 0; ii <= I_WERTE -1; ii++){
+        for (int ii = 0; ii <= numWerte -1; ii++){
             angle = ii*deltaW;
             
             alpha = input.getCutoutGeometry().getAlpha(angle);
@@ -181,7 +181,17 @@ public abstract class CutoutGeometry {
      * z=x+i*y=R*(zeta+sum_k(m_k/zeta^k)) (1) Ukadgaonker
      */
     public void calcScaledComplexGeometry(){
-        int numanglestoninty = (Cutout.getNumWerte()-1)/4;                      // Number of angles for 1st quadrant
+        calcScaledComplexGeometry(Cutout.getNumWerte());
+    }
+    
+    /**
+     * Berechnet die Koordinaten der Geometrie im ersten Quadranten für die
+     * übergebene Anzahl an Werten über den Lochwinkel.
+     * 
+     * @param numWerte Anzahl Werte über den Lochwinkel
+     */
+    public void calcScaledComplexGeometry(int numWerte){
+        int numanglestoninty = (numWerte-1)/4;                                  // Number of angles for 1st quadrant
         
         geometry      = new double[numanglestoninty][2];
         Complex[] zeta = new Complex[numanglestoninty];
@@ -42,6 +42,7 @@ public class UnsymPotentials {
     private final HoleQuantities q;
     private final CutoutGeometry h;
     private final double[]       l;
+    private final int            numWerte;
     
     private Complex[][] pot;
     
@@ -54,9 +55,23 @@ public class UnsymPotentials {
      * @param load
      */
     public UnsymPotentials(HoleQuantities q, CutoutGeometry hole, double[] load){
+        this(q, hole, load, Cutout.getNumWerte());
+    }
+    
+    /**
+     * Konstruktor des First Stage Potential mit vorgegebener Anzahl an Werten
+     * über den Lochwinkel.
+     * 
+     * @param q
+     * @param hole
+     * @param load
+     * @param numWerte Anzahl Werte über den Lochwinkel
+     */
+    public UnsymPotentials(HoleQuantities q, CutoutGeometry hole, double[] load, int numWerte){
         this.q = q;
         this.h = hole;
         this.l = load;
+        this.numWerte = numWerte;
         calc();
     }
     
@@ -152,12 +167,12 @@ public class UnsymPotentials {
         }
         
         //8. Potential
-        double deltaW = 360.0/(double)Cutout.getNumWerte();
-        pot = new Complex[4][Cutout.getNumWerte()];
+        double deltaW = 360.0/(double)numWerte;
+        pot = new Complex[4][numWerte];
         Complex[] ssptmp;
         
         //(60)
-        for (int j = 0; j <= Cutout.getNumWerte() - 1; j++){
+        for (int j = 0; j <= numWerte - 1; j++){
             ssptmp = get2ndStagePotential(Math.toRadians(j*deltaW));
             for (int i = 0; i < 4; i++){
                 pot[i][j] = fsp[i].subtract(ssptmp[i]);
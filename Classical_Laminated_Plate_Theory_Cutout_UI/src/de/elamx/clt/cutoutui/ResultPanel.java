@@ -895,7 +895,7 @@ public class ResultPanel extends javax.swing.JPanel implements PropertyChangeLis
     private void drawCutoutGeometry() {
 
         CutoutGeometry cg = data.getResult().getInput().getCutoutGeometry();
-        cg.calcScaledComplexGeometry();
+        cg.calcScaledComplexGeometry(data.getResult().getInput().getValues());
         double[][] geo = cg.getScaledComplexGeometry();
         XYSeries geoseries = new XYSeries(GEO_KEY, false);
         for (double[] geo1 : geo) {
@@ -45,11 +45,18 @@ public class LastPlyFailureInput {
     public static final String PROP_EPSILON_CRIT = "epsilon_crit";
     public static final String PROP_DEGRADATIONFACTOR = "degradationFactor";
     public static final String PROP_DEGRADEALLONFIBREFAILURE = "degradeAllOnFibreFailure";
+    public static final String PROP_ENVELOPEPOINTS = "envelopePoints";
+    public static final String PROP_ENVELOPECOMPONENT1 = "envelopeComponent1";
+    public static final String PROP_ENVELOPECOMPONENT2 = "envelopeComponent2";
     
     private double j_a = 1.0;
     private double epsilon_crit = 0.003;
     private double degradationFactor = 0.000001;
     private boolean degradeAllOnFibreFailure = true;
+    // Anzahl der Lastrichtungen der Versagenseinhüllenden (0 = keine Berechnung)
+    private int envelopePoints = 0;
+    private int envelopeComponent1 = CLT_FailureEnvelope.NX;
+    private int envelopeComponent2 = CLT_FailureEnvelope.NY;
     
     private final Loads load = new Loads(){
 
@@ -170,6 +177,49 @@ public class LastPlyFailureInput {
         firePropertyChange(PROP_DEGRADEALLONFIBREFAILURE, oldDegradeAllOnFibreFailure, degradeAllOnFibreFailure);
     }
 
+    public int getEnvelopePoints() {
+        return envelopePoints;
+    }
+
+    public void setEnvelopePoints(int envelopePoints) {
+        int oldEnvelopePoints = this.envelopePoints;
+        this.envelopePoints = envelopePoints;
+        firePropertyChange(PROP_ENVELOPEPOINTS, oldEnvelopePoints, envelopePoints);
+    }
+
+    public int getEnvelopeComponent1() {
+        return envelopeComponent1;
+    }
+
+    public void setEnvelopeComponent1(int envelopeComponent1) {
+        int oldEnvelopeComponent1 = this.envelopeComponent1;
+        this.envelopeComponent1 = envelopeComponent1;
+        firePropertyChange(PROP_ENVELOPECOMPONENT1, oldEnvelopeComponent1, envelopeComponent1);
+    }
+
+    public int getEnvelopeComponent2() {
+        return envelopeComponent2;
+    }
+
+    public void setEnvelopeComponent2(int envelopeComponent2) {
+        int oldEnvelopeComponent2 = this.envelopeComponent2;
+        this.envelopeComponent2 = envelopeComponent2;
+        firePropertyChange(PROP_ENVELOPECOMPONENT2, oldEnvelopeComponent2, envelopeComponent2);
+    }
+
+    /**
+     * Prüft, ob eine Versagenseinhüllende berechnet werden soll und die
+     * Eingaben dafür gültig sind.
+     *
+     * @return <CODE>true</CODE>, falls die Einhüllende berechnet werden kann
+     */
+    public boolean isEnvelopeDefined() {
+        return envelopePoints > 0
+                && envelopeComponent1 >= CLT_FailureEnvelope.NX && envelopeComponent1 <= CLT_FailureEnvelope.MXY
+                && envelopeComponent2 >= CLT_FailureEnvelope.NX && envelopeComponent2 <= CLT_FailureEnvelope.MXY
+                && envelopeComponent1 != envelopeComponent2;
+    }
+
     public boolean isNotify() {
         return notify;
     }
@@ -220,6 +270,10 @@ public class LastPlyFailureInput {
         ld.setN_xy(load.getN_xy());
         ld.setN_y(load.getN_y());
         
+        dataHolder.setEnvelopePoints(envelopePoints);
+        dataHolder.setEnvelopeComponent1(envelopeComponent1);
+        dataHolder.setEnvelopeComponent2(envelopeComponent2);
+        
         return dataHolder;
     }
 }
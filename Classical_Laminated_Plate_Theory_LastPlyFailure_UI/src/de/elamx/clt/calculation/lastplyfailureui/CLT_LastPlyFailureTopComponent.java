@@ -28,6 +28,7 @@ package de.elamx.clt.calculation.lastplyfailureui;
 import de.elamx.clt.*;
 import de.elamx.clt.calculation.LayerResultContainer;
 import de.elamx.clt.calculation.calc.ResultTableModel;
+import de.elamx.clt.calculation.lastplyfailure.LastPlyFailureInput;
 import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.Layer;
@@ -60,6 +61,7 @@ import javax.swing.Action;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPopupMenu;
+import javax.swing.JTabbedPane;
 import javax.swing.JTable;
 import javax.swing.SwingUtilities;
 import javax.swing.table.DefaultTableCellRenderer;
@@ -73,10 +75,12 @@ import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.eLamXChartPanel;
 import org.jfree.eLamXNumberTickUnitSource;
+import org.netbeans.api.progress.ProgressHandle;
 import org.openide.util.Lookup;
 import org.openide.util.LookupEvent;
 import org.openide.util.LookupListener;
 import org.openide.util.NbBundle;
+import org.openide.util.RequestProcessor;
 import org.openide.util.Utilities;
 import org.openide.util.lookup.AbstractLookup;
 import org.openide.util.lookup.InstanceContent;
@@ -100,6 +104,8 @@ public final class CLT_LastPlyFailureTopComponent extends TopComponent implement
     private final Lookup.Result<LastPlyFailureModuleData> result;
     public final static Set<LastPlyFailureModuleData> uniqueLastPlyFailureData = new HashSet<>();
     private CLT_LastPlyFailureResult lpfResult = null;
+    private CLT_FailureEnvelopeResult envelopeResult = null;
+    private int envelopeCalculationId = 0;
     private CLT_LayerResult[] actLayerResults;
     private int actualIterationNumber = 0;
     private int maxIterationNumber = -1;
@@ -118,6 +124,8 @@ public final class CLT_LastPlyFailureTopComponent extends TopComponent implement
     private XYSeriesCollection actRFminDataset = null;
     private JFreeChart chart = null;
     private ChartPanel chartPanel;
+    private XYSeriesCollection envelopeDataset = null;
+    private JFreeChart envelopeChart = null;
 
     private final int chartIterOffset = 0;
 
@@ -690,6 +698,8 @@ public final class CLT_LastPlyFailureTopComponent extends TopComponent implement
                 actRFminDataset.getSeries(0).add(chartIterOffset, lpfResult.getRf_min()[0]);
             }
         });
+
+        calculateEnvelope();
     }//GEN-LAST:event_calculationButtonActionPerformed
 
     private void previousButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_previousButtonActionPerformed
@@ -907,10 +917,104 @@ public final class CLT_LastPlyFailureTopComponent extends TopComponent implement
         chartPanel.setPreferredSize(new Dimension(10, 10));
         chartPanel.setMinimumSize(new Dimension(10, 10));
 
-        chartHolderPanel.add(chartPanel, BorderLayout.CENTER);
+        envelopeDataset = new XYSeriesCollection();
+
+        envelopeChart = ChartFactory.createXYLineChart(
+                "", // chart title
+                NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureEnvelopeChart.component.0"), // x axis label
+                NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureEnvelopeChart.component.1"), // y axis label
+                envelopeDataset, // data
+                PlotOrientation.VERTICAL,
+                true, // include legend
+                true, // tooltips
+                true // urls
+        );
+
+        envelopeChart.getXYPlot().getDomainAxis().setStandardTickUnits(new eLamXNumberTickUnitSource());
+        envelopeChart.getXYPlot().getRangeAxis().setStandardTickUnits(new eLamXNumberTickUnitSource());
+        envelopeChart.getXYPlot().getRenderer().setSeriesPaint(0, Color.BLUE);
+        envelopeChart.getXYPlot().getRenderer().setSeriesPaint(1, Color.RED);
+
+        ChartPanel envelopeChartPanel = new eLamXChartPanel(envelopeChart);
+        envelopeChartPanel.setPreferredSize(new Dimension(10, 10));
+        envelopeChartPanel.setMinimumSize(new Dimension(10, 10));
+
+        JTabbedPane chartTabs = new JTabbedPane();
+        chartTabs.addTab(NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureChart.title"), chartPanel);
+        chartTabs.addTab(NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureEnvelopeChart.title"), envelopeChartPanel);
+
+        chartHolderPanel.add(chartTabs, BorderLayout.CENTER);
+    }
+
+    private void calculateEnvelope() {
+        LastPlyFailureInput input = data.getLastPlyFailureInput();
+        if (!input.isEnvelopeDefined()) {
+            return;
+        }
+
+        final CLT_FailureEnvelope envelope = new CLT_FailureEnvelope(
+                clt_lam,
+                input.getDegradationFactor(),
+                input.getJ_a(),
+                input.isDegradeAllOnFibreFailure()
+        );
+        final int c1 = input.getEnvelopeComponent1();
+        final int c2 = input.getEnvelopeComponent2();
+        final int numberOfPoints = input.getEnvelopePoints();
+        // Ändert sich die Eingabe während der Berechnung, wird das Ergebnis
+        // verworfen (siehe resetResultView)
+        final int calculationId = ++envelopeCalculationId;
+
+        calculationButton.setEnabled(false);
+        final ProgressHandle ph = ProgressHandle.createSystemHandle(NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "Task.envelopecalc"), null);
+        RequestProcessor.getDefault().post(new Runnable() {
+            @Override
+            public void run() {
+                ph.start();
+                CLT_FailureEnvelopeResult result = null;
+                try {
+                    result = envelope.getEnvelope(c1, c2, numberOfPoints, Runtime.getRuntime().availableProcessors());
+                } finally {
+                    final CLT_FailureEnvelopeResult res = result;
+                    EventQueue.invokeLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (res != null && calculationId == envelopeCalculationId) {
+                                envelopeResult = res;
+                                envelopeDataset.removeAllSeries();
+                                envelopeDataset.addSeries(createEnvelopeSeries(NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureEnvelopeChart.fpf"), res.getFirstPlyFailureEnvelope(), c1, c2));
+                                envelopeDataset.addSeries(createEnvelopeSeries(NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureEnvelopeChart.lpf"), res.getLastPlyFailureEnvelope(), c1, c2));
+                                envelopeChart.getXYPlot().getDomainAxis().setLabel(NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureEnvelopeChart.component." + c1));
+                                envelopeChart.getXYPlot().getRangeAxis().setLabel(NbBundle.getMessage(CLT_LastPlyFailureTopComponent.class, "LastPlyFailureEnvelopeChart.component." + c2));
+                            }
+                            calculationButton.setEnabled(true);
+                            ph.finish();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private XYSeries createEnvelopeSeries(String name, double[][] envelope, int c1, int c2) {
+        // Der Polygonzug wird geschlossen, Richtungen ohne Versagen (NaN)
+        // unterbrechen ihn.
+        XYSeries series = new XYSeries(name, false, true);
+        for (double[] point : envelope) {
+            series.add(point[c1], point[c2]);
+        }
+        if (envelope.length > 0) {
+            series.add(envelope[0][c1], envelope[0][c2]);
+        }
+        return series;
     }
 
     private void resetResultView() {
+        envelopeCalculationId++;
+        if (envelopeResult != null) {
+            envelopeResult = null;
+            envelopeDataset.removeAllSeries();
+        }
         if (lpfResult != null) {            
             lpfResult = null;
   
@@ -25,12 +25,15 @@
  */
 package de.elamx.clt.calculation.lastplyfailureui;
 
+import de.elamx.clt.CLT_FailureEnvelope;
+import de.elamx.clt.calculation.lastplyfailure.LastPlyFailureInput;
 import de.elamx.laminate.modules.eLamXModuleData;
 import de.elamx.laminate.modules.eLamXModuleDataFlavor;
 import java.awt.Image;
 import java.awt.datatransfer.Transferable;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.beans.PropertyEditorSupport;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -100,6 +103,35 @@ public class LastPlyFailureDataNode extends AbstractNode implements PropertyChan
 
         sheet.put(generalProp);
 
+        Sheet.Set envelopeProp = new Sheet.Set();
+        envelopeProp.setName("EnvelopeProperties");
+        envelopeProp.setDisplayName(NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureDataNode.EnvelopeProperties"));
+
+        try {
+            LastPlyFailureInput input = data.getLastPlyFailureInput();
+            PropertySupport.Reflection<Integer> pointsProp = new PropertySupport.Reflection<>(input, int.class, LastPlyFailureInput.PROP_ENVELOPEPOINTS);
+            pointsProp.setDisplayName(NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureDataNode.EnvelopePoints"));
+            pointsProp.setShortDescription(NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureDataNode.EnvelopePoints.description"));
+
+            PropertySupport.Reflection<Integer> component1Prop = new PropertySupport.Reflection<>(input, int.class, LastPlyFailureInput.PROP_ENVELOPECOMPONENT1);
+            component1Prop.setDisplayName(NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureDataNode.EnvelopeComponent1"));
+            component1Prop.setShortDescription(NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureDataNode.EnvelopeComponent.description"));
+            component1Prop.setPropertyEditorClass(EnvelopeComponentPropertyEditor.class);
+
+            PropertySupport.Reflection<Integer> component2Prop = new PropertySupport.Reflection<>(input, int.class, LastPlyFailureInput.PROP_ENVELOPECOMPONENT2);
+            component2Prop.setDisplayName(NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureDataNode.EnvelopeComponent2"));
+            component2Prop.setShortDescription(NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureDataNode.EnvelopeComponent.description"));
+            component2Prop.setPropertyEditorClass(EnvelopeComponentPropertyEditor.class);
+
+            envelopeProp.put(pointsProp);
+            envelopeProp.put(component1Prop);
+            envelopeProp.put(component2Prop);
+        } catch (NoSuchMethodException ex) {
+            ex.printStackTrace();
+        }
+
+        sheet.put(envelopeProp);
+
         return sheet;
     }
 
@@ -153,4 +185,43 @@ public class LastPlyFailureDataNode extends AbstractNode implements PropertyChan
         });
         return added;
     }
+
+    /**
+     * Auswahl der Lastkomponente der Einhüllenden über eine Liste.
+     */
+    public static class EnvelopeComponentPropertyEditor extends PropertyEditorSupport {
+
+        private final String[] tags = new String[CLT_FailureEnvelope.MXY + 1];
+
+        public EnvelopeComponentPropertyEditor() {
+            for (int ii = 0; ii < tags.length; ii++) {
+                tags[ii] = NbBundle.getMessage(LastPlyFailureDataNode.class, "LastPlyFailureEnvelopeChart.component." + ii);
+            }
+        }
+
+        @Override
+        public String[] getTags() {
+            return tags.clone();
+        }
+
+        @Override
+        public String getAsText() {
+            Object value = getValue();
+            if (value instanceof Integer && (Integer) value >= 0 && (Integer) value < tags.length) {
+                return tags[(Integer) value];
+            }
+            return String.valueOf(value);
+        }
+
+        @Override
+        public void setAsText(String text) throws IllegalArgumentException {
+            for (int ii = 0; ii < tags.length; ii++) {
+                if (tags[ii].equals(text)) {
+                    setValue(ii);
+                    return;
+                }
+            }
+            throw new IllegalArgumentException(text);
+        }
+    }
 }
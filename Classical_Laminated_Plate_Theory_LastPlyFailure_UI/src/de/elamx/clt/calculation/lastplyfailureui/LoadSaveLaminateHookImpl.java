@@ -80,6 +80,20 @@ public class LoadSaveLaminateHookImpl implements LoadSaveLaminateHook {
         input.setEpsilon_crit(Double.parseDouble(getTagValue(LastPlyFailureInput.PROP_EPSILON_CRIT, LastPlyFailureElement)));
         input.setJ_a(Double.parseDouble(getTagValue(LastPlyFailureInput.PROP_J_A, LastPlyFailureElement)));
 
+        // Die Einhüllende ist in älteren Dateien nicht enthalten
+        String value = getTagValue(LastPlyFailureInput.PROP_ENVELOPEPOINTS, LastPlyFailureElement);
+        if (value != null) {
+            input.setEnvelopePoints(Integer.parseInt(value));
+        }
+        value = getTagValue(LastPlyFailureInput.PROP_ENVELOPECOMPONENT1, LastPlyFailureElement);
+        if (value != null) {
+            input.setEnvelopeComponent1(Integer.parseInt(value));
+        }
+        value = getTagValue(LastPlyFailureInput.PROP_ENVELOPECOMPONENT2, LastPlyFailureElement);
+        if (value != null) {
+            input.setEnvelopeComponent2(Integer.parseInt(value));
+        }
+
         return input;
     }
     
@@ -136,6 +150,9 @@ public class LoadSaveLaminateHookImpl implements LoadSaveLaminateHook {
         addValue(doc, LastPlyFailureInput.PROP_DEGRADEALLONFIBREFAILURE, Boolean.toString(input.isDegradeAllOnFibreFailure()), dataElement);
         addValue(doc, LastPlyFailureInput.PROP_EPSILON_CRIT, Double.toString(input.getEpsilon_crit()), dataElement);
         addValue(doc, LastPlyFailureInput.PROP_J_A, Double.toString(input.getJ_a()), dataElement);
+        addValue(doc, LastPlyFailureInput.PROP_ENVELOPEPOINTS, Integer.toString(input.getEnvelopePoints()), dataElement);
+        addValue(doc, LastPlyFailureInput.PROP_ENVELOPECOMPONENT1, Integer.toString(input.getEnvelopeComponent1()), dataElement);
+        addValue(doc, LastPlyFailureInput.PROP_ENVELOPECOMPONENT2, Integer.toString(input.getEnvelopeComponent2()), dataElement);
     }
 
     private static void addValue(Document doc, String eName, String value, Element eElement) {
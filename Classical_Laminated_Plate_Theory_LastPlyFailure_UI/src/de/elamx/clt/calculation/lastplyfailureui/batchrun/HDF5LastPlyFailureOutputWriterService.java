@@ -26,6 +26,7 @@
 package de.elamx.clt.calculation.lastplyfailureui.batchrun;
 
 import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import de.elamx.clt.CLT_FailureEnvelopeResult;
 import de.elamx.clt.CLT_LastPlyFailureResult;
 import de.elamx.clt.calculation.lastplyfailureui.LastPlyFailureModuleData;
 
@@ -35,4 +36,17 @@ import de.elamx.clt.calculation.lastplyfailureui.LastPlyFailureModuleData;
  */
 public interface HDF5LastPlyFailureOutputWriterService {
     public void writeResults(IHDF5Writer hdf5writer, LastPlyFailureModuleData data, CLT_LastPlyFailureResult results);
+
+    /**
+     * Schreibt die Einhüllende für Erst- und Letztlagenversagen in die
+     * Gruppe der Berechnung. Wird nur nach
+     * {@link #writeResults(IHDF5Writer, LastPlyFailureModuleData, CLT_LastPlyFailureResult)}
+     * und nur dann aufgerufen, wenn eine Einhüllende berechnet wurde.
+     *
+     * @param hdf5writer hdf5-Datei
+     * @param data Eingabedaten
+     * @param envelope Einhüllende
+     */
+    public default void writeEnvelope(IHDF5Writer hdf5writer, LastPlyFailureModuleData data, CLT_FailureEnvelopeResult envelope) {
+    }
 }
@@ -28,6 +28,7 @@ package de.elamx.clt.calculation.lastplyfailureui.batchrun;
 import ch.systemsx.cisd.hdf5.CompoundElement;
 import ch.systemsx.cisd.hdf5.HDF5CompoundType;
 import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import de.elamx.clt.CLT_FailureEnvelopeResult;
 import de.elamx.clt.CLT_LastPlyFailureResult;
 import de.elamx.clt.CLT_LayerResult;
 import de.elamx.clt.calculation.lastplyfailureui.LastPlyFailureModuleData;
@@ -45,9 +46,19 @@ public class HDF5LastPlyFailureOutputWriterServiceImpl implements HDF5LastPlyFai
     private static HDF5CompoundType<List<?>> HDF5iterationResultType = null;
     private static HDF5CompoundType<List<?>> HDF5loadsType = null;
     private static HDF5CompoundType<List<?>> HDF5rfType = null;
+    // hdf5-Datei, zu der die Datentypen gehören
+    private static IHDF5Writer HDF5typesWriter = null;
 
     @Override
     public void writeResults(IHDF5Writer hdf5writer, LastPlyFailureModuleData data, CLT_LastPlyFailureResult results) {
+        // Die Datentypen müssen für jede hdf5-Datei neu erzeugt werden
+        if (hdf5writer != HDF5typesWriter) {
+            HDF5iterationResultType = null;
+            HDF5loadsType = null;
+            HDF5rfType = null;
+            HDF5typesWriter = hdf5writer;
+        }
+
         String lastPlyFailureGroup = "laminates/".concat(data.getLaminat().getName().concat("/last ply failure/"));
         if (!hdf5writer.object().exists(lastPlyFailureGroup)) {
             hdf5writer.object().createGroup(lastPlyFailureGroup);
@@ -222,6 +233,36 @@ public class HDF5LastPlyFailureOutputWriterServiceImpl implements HDF5LastPlyFai
         }
     }
 
+    @Override
+    public void writeEnvelope(IHDF5Writer hdf5writer, LastPlyFailureModuleData data, CLT_FailureEnvelopeResult envelope) {
+        String envelopeGroupName = "laminates/".concat(data.getLaminat().getName().concat("/last ply failure/")).concat(data.getName()).concat("/envelope");
+        hdf5writer.object().createGroup(envelopeGroupName);
+        hdf5writer.int32().setAttr(envelopeGroupName, "component 1", data.getLastPlyFailureInput().getEnvelopeComponent1());
+        hdf5writer.int32().setAttr(envelopeGroupName, "component 2", data.getLastPlyFailureInput().getEnvelopeComponent2());
+
+        int numberOfDirections = envelope.getNumberOfDirections();
+
+        hdf5writer.float64().createMatrix(envelopeGroupName.concat("/directions"), numberOfDirections, 6);
+        hdf5writer.float64().writeMatrix(envelopeGroupName.concat("/directions"), envelope.getDirections());
+
+        hdf5writer.float64().createArray(envelopeGroupName.concat("/RF first ply failure"), numberOfDirections);
+        hdf5writer.float64().writeArray(envelopeGroupName.concat("/RF first ply failure"), envelope.getRf_first());
+        hdf5writer.int32().createArray(envelopeGroupName.concat("/layer of first ply failure"), numberOfDirections);
+        hdf5writer.int32().writeArray(envelopeGroupName.concat("/layer of first ply failure"), envelope.getLayerNumber_first());
+        hdf5writer.int32().createArray(envelopeGroupName.concat("/failure type of first ply failure"), numberOfDirections);
+        hdf5writer.int32().writeArray(envelopeGroupName.concat("/failure type of first ply failure"), envelope.getFailureType_first());
+
+        hdf5writer.float64().createArray(envelopeGroupName.concat("/exceedance factor"), numberOfDirections);
+        hdf5writer.float64().writeArray(envelopeGroupName.concat("/exceedance factor"), envelope.getExceedance_factor());
+        hdf5writer.int32().createArray(envelopeGroupName.concat("/iteration of exceedance factor"), numberOfDirections);
+        hdf5writer.int32().writeArray(envelopeGroupName.concat("/iteration of exceedance factor"), envelope.getIter_exceedance_factor());
+
+        hdf5writer.float64().createMatrix(envelopeGroupName.concat("/first ply failure envelope"), numberOfDirections, 6);
+        hdf5writer.float64().writeMatrix(envelopeGroupName.concat("/first ply failure envelope"), envelope.getFirstPlyFailureEnvelope());
+        hdf5writer.float64().createMatrix(envelopeGroupName.concat("/last ply failure envelope"), numberOfDirections, 6);
+        hdf5writer.float64().writeMatrix(envelopeGroupName.concat("/last ply failure envelope"), envelope.getLastPlyFailureEnvelope());
+    }
+
     /**
      * A HDF5 Data Transfer Object for local layer results of last ply failure.
      */
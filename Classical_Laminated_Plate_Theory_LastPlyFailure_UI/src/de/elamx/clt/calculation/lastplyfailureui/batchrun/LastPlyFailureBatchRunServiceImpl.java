@@ -27,9 +27,13 @@ package de.elamx.clt.calculation.lastplyfailureui.batchrun;
 
 import ch.systemsx.cisd.hdf5.IHDF5Writer;
 import de.elamx.clt.CLT_Calculator;
+import de.elamx.clt.CLT_FailureEnvelope;
+import de.elamx.clt.CLT_FailureEnvelopeResult;
 import de.elamx.clt.CLT_Laminate;
 import de.elamx.clt.CLT_LastPlyFailureResult;
+import de.elamx.clt.calculation.lastplyfailure.LastPlyFailureInput;
 import de.elamx.clt.calculation.lastplyfailureui.LastPlyFailureModuleData;
+import de.elamx.core.BatchRunOutput;
 import de.elamx.core.BatchRunService;
 import de.elamx.laminate.Laminat;
 import java.io.PrintStream;
@@ -48,25 +52,34 @@ public class LastPlyFailureBatchRunServiceImpl implements BatchRunService {
 
     @Override
     public void performBatchTasksAndOutput(Laminat laminate, PrintStream ps, IHDF5Writer hdf5writer, int outputType) {
+        performBatchTasks(laminate, outputType).write(ps, hdf5writer);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType) {
+        return performBatchTasks(laminate, outputType, 1);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int numberOfThreads) {
+        return performBatchTasks(laminate, outputType, 0, numberOfThreads);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int hdf5OutputType, int numberOfThreads) {
         Collection<? extends LastPlyFailureModuleData> col = laminate.getLookup().lookupAll(LastPlyFailureModuleData.class);
         if (col.isEmpty()) {
-            return;
+            return (ps, hdf5writer) -> {};
         }
         CLT_Laminate clt_lam = laminate.getLookup().lookup(CLT_Laminate.class);
         if (clt_lam == null) {
             clt_lam = new CLT_Laminate(laminate);
         }
 
-        List<LastPlyFailureOutputWriterService> writerServices = new ArrayList<>(Lookup.getDefault().lookupAll(LastPlyFailureOutputWriterService.class));
-        LastPlyFailureOutputWriterService outputWriter = writerServices.get(Math.min(Math.max(outputType, 0),writerServices.size()-1));
-
-        HDF5LastPlyFailureOutputWriterService hdf5OutputWriter = null;
-        if (hdf5writer != null) {
-            List<HDF5LastPlyFailureOutputWriterService> hdf5WriterServices = new ArrayList<>(Lookup.getDefault().lookupAll(HDF5LastPlyFailureOutputWriterService.class));
-            hdf5OutputWriter = hdf5WriterServices.get(Math.min(Math.max(outputType, 0), hdf5WriterServices.size() - 1));
-        }
-
-        for (LastPlyFailureModuleData data : col) {
+        List<LastPlyFailureModuleData> datas = new ArrayList<>(col);
+        List<CLT_LastPlyFailureResult> results = new ArrayList<>(datas.size());
+        List<CLT_FailureEnvelopeResult> envelopes = new ArrayList<>(datas.size());
+        for (LastPlyFailureModuleData data : datas) {
 
             CLT_LastPlyFailureResult lpfResult = CLT_Calculator.determineValuesLastPlyFailure(
                     clt_lam,
@@ -78,10 +91,44 @@ public class LastPlyFailureBatchRunServiceImpl implements BatchRunService {
                     data.getLastPlyFailureInput().getJ_a(),
                     data.getLastPlyFailureInput().isDegradeAllOnFibreFailure()
             );
+            results.add(lpfResult);
+
+            LastPlyFailureInput input = data.getLastPlyFailureInput();
+            CLT_FailureEnvelopeResult envelope = null;
+            if (input.isEnvelopeDefined()) {
+                envelope = new CLT_FailureEnvelope(
+                        clt_lam,
+                        input.getDegradationFactor(),
+                        input.getJ_a(),
+                        input.isDegradeAllOnFibreFailure()
+                ).getEnvelope(input.getEnvelopeComponent1(), input.getEnvelopeComponent2(), input.getEnvelopePoints(), numberOfThreads);
+            }
+            envelopes.add(envelope);
+        }
 
-            outputWriter.writeResults(ps, data, lpfResult);
+        return (ps, hdf5writer) -> writeResults(datas, results, envelopes, ps, hdf5writer, outputType, hdf5OutputType);
+    }
+
+    private void writeResults(List<LastPlyFailureModuleData> datas, List<CLT_LastPlyFailureResult> results, List<CLT_FailureEnvelopeResult> envelopes, PrintStream ps, IHDF5Writer hdf5writer, int outputType, int hdf5OutputType) {
+        List<LastPlyFailureOutputWriterService> writerServices = new ArrayList<>(Lookup.getDefault().lookupAll(LastPlyFailureOutputWriterService.class));
+        LastPlyFailureOutputWriterService outputWriter = writerServices.get(Math.min(Math.max(outputType, 0),writerServices.size()-1));
+
+        HDF5LastPlyFailureOutputWriterService hdf5OutputWriter = null;
+        if (hdf5writer != null) {
+            List<HDF5LastPlyFailureOutputWriterService> hdf5WriterServices = new ArrayList<>(Lookup.getDefault().lookupAll(HDF5LastPlyFailureOutputWriterService.class));
+            hdf5OutputWriter = hdf5WriterServices.get(Math.min(Math.max(hdf5OutputType, 0), hdf5WriterServices.size() - 1));
+        }
+
+        for (int ii = 0; ii < datas.size(); ii++) {
+            outputWriter.writeResults(ps, datas.get(ii), results.get(ii));
+            if (envelopes.get(ii) != null) {
+                outputWriter.writeEnvelope(ps, datas.get(ii), envelopes.get(ii));
+            }
             if (hdf5OutputWriter != null) {
-                hdf5OutputWriter.writeResults(hdf5writer, data, lpfResult);
+                hdf5OutputWriter.writeResults(hdf5writer, datas.get(ii), results.get(ii));
+                if (envelopes.get(ii) != null) {
+                    hdf5OutputWriter.writeEnvelope(hdf5writer, datas.get(ii), envelopes.get(ii));
+                }
             }
         }
     }
@@ -25,6 +25,7 @@
  */
 package de.elamx.clt.calculation.lastplyfailureui.batchrun;
 
+import de.elamx.clt.CLT_FailureEnvelopeResult;
 import de.elamx.clt.CLT_LastPlyFailureResult;
 import de.elamx.clt.calculation.lastplyfailureui.LastPlyFailureModuleData;
 import java.io.PrintStream;
@@ -35,4 +36,15 @@ import java.io.PrintStream;
  */
 public interface LastPlyFailureOutputWriterService {
     public void writeResults(PrintStream out, LastPlyFailureModuleData data, CLT_LastPlyFailureResult result);
+
+    /**
+     * Schreibt die Einhüllende für Erst- und Letztlagenversagen. Wird nur
+     * aufgerufen, wenn eine Einhüllende berechnet wurde.
+     *
+     * @param out Ausgabestrom
+     * @param data Eingabedaten
+     * @param envelope Einhüllende
+     */
+    public default void writeEnvelope(PrintStream out, LastPlyFailureModuleData data, CLT_FailureEnvelopeResult envelope) {
+    }
 }
@@ -25,6 +25,7 @@
  */
 package de.elamx.clt.calculation.lastplyfailureui.batchrun;
 
+import de.elamx.clt.CLT_FailureEnvelopeResult;
 import de.elamx.clt.CLT_LastPlyFailureResult;
 import de.elamx.clt.CLT_LayerResult;
 import de.elamx.clt.calculation.lastplyfailureui.LastPlyFailureModuleData;
@@ -133,4 +134,33 @@ public class LastPlyFailureOutputWriterServiceImpl implements LastPlyFailureOutp
         out.println();
     }
 
+    @Override
+    public void writeEnvelope(PrintStream out, LastPlyFailureModuleData data, CLT_FailureEnvelopeResult envelope) {
+
+        out.println("********************************************************************************");
+        out.println(Utilities.centeredText("FIRST/LAST PLY FAILURE ENVELOPE", 80));
+        out.println(Utilities.centeredText(data.getName(), 80));
+        out.println("********************************************************************************");
+
+        Locale lo = Locale.ENGLISH;
+
+        out.println();
+        out.println("Load components :  " + data.getLastPlyFailureInput().getEnvelopeComponent1() + "  " + data.getLastPlyFailureInput().getEnvelopeComponent2() + "  (0 = nxx, 1 = nyy, 2 = nxy, 3 = mxx, 4 = myy, 5 = mxy)");
+        out.println("Load directions :  " + envelope.getNumberOfDirections());
+        out.println();
+        out.println("  No.      nxx          nyy          nxy          mxx          myy          mxy        RF_FPF    Layer Type      EF_LPF     Iter.");
+
+        double[][] directions = envelope.getDirections();
+        for (int ii = 0; ii < directions.length; ii++) {
+            double[] d = directions[ii];
+            out.printf(lo, "  %3d %12.5E %12.5E %12.5E %12.5E %12.5E %12.5E %12.5E %5d %4s %12.5E %5d%n", (ii + 1), d[0], d[1], d[2], d[3], d[4], d[5],
+                    envelope.getRf_first()[ii], envelope.getLayerNumber_first()[ii], FailureTypeShortNameHandler.getInstance().getShortNameForFailureType(envelope.getFailureType_first()[ii]),
+                    envelope.getExceedance_factor()[ii], envelope.getIter_exceedance_factor()[ii]);
+        }
+
+        out.println();
+        out.println("_______________________________________________________________________________");
+        out.println();
+    }
+
 }
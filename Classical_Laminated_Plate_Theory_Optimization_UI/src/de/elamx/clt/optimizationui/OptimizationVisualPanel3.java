@@ -46,7 +46,7 @@ public final class OptimizationVisualPanel3 extends JPanel {
         ArrayList<Optimizer> optimizer = new ArrayList<>();
         for (Optimizer optiAlgo : Lookup.getDefault().lookupAll(Optimizer.class)) {
             optimizer.add(optiAlgo);
-            if (optiAlgo.getClass().getName().contains("HauffeOptimizer")){
+            if (optiAlgo.getClass().getSimpleName().equals("HauffeOptimizer")){
                 selectedItem = optiAlgo;
             }
         }
@@ -26,8 +26,10 @@
 package de.elamx.clt.optimization.hauffe;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 /**
  *
@@ -35,19 +37,57 @@ import java.util.Map;
  */
 public class GEP {
     
-    private static Individuum getRandomIndividuum(Individuum[] indivs){
-        return indivs[(int)(indivs.length*Math.random())];
+    /**
+     * Sortiert Individuen absteigend nach ihrer Güte. Zulässige Individuen
+     * (minimaler Reservefaktor &ge; 1) stehen vor unzulässigen, unter den
+     * zulässigen werden weniger Lagen bevorzugt, bei gleicher Lagenanzahl
+     * bzw. unter den unzulässigen entscheidet der größere Reservefaktor.
+     */
+    public static final Comparator<Individuum> QUALITY_ORDER = new Comparator<Individuum>() {
+        @Override
+        public int compare(Individuum o1, Individuum o2) {
+            if (isBetter(o1, o2)) {
+                return -1;
+            }
+            if (isBetter(o2, o1)) {
+                return 1;
+            }
+            return 0;
+        }
+    };
+    
+    private static Individuum getRandomIndividuum(Random random, Individuum[] indivs){
+        return indivs[random.nextInt(indivs.length)];
     }
     
-    public static int getRandomInteger(int upperBound){
-        return (int)(upperBound*Math.random());
+    public static int getRandomInteger(Random random, int upperBound){
+        return upperBound > 0 ? random.nextInt(upperBound) : 0;
     }
     
-    public static int getRandomInteger(int lowerBound, int upperBound){
-        return lowerBound + (int)((upperBound-lowerBound)*Math.random());
+    public static int getRandomInteger(Random random, int lowerBound, int upperBound){
+        return lowerBound + getRandomInteger(random, upperBound-lowerBound);
+    }
+    
+    /**
+     * Prüft, ob <code>indiv1</code> besser als <code>indiv2</code> ist.
+     * 
+     * @param indiv1 erstes Individuum
+     * @param indiv2 zweites Individuum
+     * @return true, wenn <code>indiv1</code> besser ist
+     */
+    public static boolean isBetter(Individuum indiv1, Individuum indiv2){
+        boolean feasible1 = indiv1.getMinReserveFactor() >= 1.0;
+        boolean feasible2 = indiv2.getMinReserveFactor() >= 1.0;
+        if (feasible1 != feasible2){
+            return feasible1;
+        }
+        if (feasible1 && indiv1.getNumLayers() != indiv2.getNumLayers()){
+            return indiv1.getNumLayers() < indiv2.getNumLayers();
+        }
+        return indiv1.getMinReserveFactor() > indiv2.getMinReserveFactor();
     }
     
-    public static void onePointCrossover(Individuum[] eltern, Individuum[] kinder, int start, int ende){
+    public static void onePointCrossover(Random random, Individuum[] eltern, Individuum[] kinder, int start, int ende){
         
         if ((ende-start+1)%2 != 0){
             System.err.println("Ungerade Anzahl von Kindern für onePointCrossover");
@@ -55,10 +95,10 @@ public class GEP {
         }
         
         for (int ii = start; ii <= ende; ii+=2){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
-            kinder[ii+1] = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
+            kinder[ii+1] = getRandomIndividuum(random, eltern).copy();
             
-            int crosspoint = getRandomInteger(kinder[ii].getMaxLayerNum());
+            int crosspoint = getRandomInteger(random, kinder[ii].getMaxLayerNum());
             
             double[] anglesK1 = kinder[ii].getAngles();
             double[] anglesK2 = kinder[ii+1].getAngles();
@@ -72,7 +112,7 @@ public class GEP {
         }
     }
     
-    public static void twoPointCrossover(Individuum[] eltern, Individuum[] kinder, int start, int ende){
+    public static void twoPointCrossover(Random random, Individuum[] eltern, Individuum[] kinder, int start, int ende){
         
         if ((ende-start+1)%2 != 0){
             System.err.println("Ungerade Anzahl von Kindern für onePointCrossover");
@@ -80,11 +120,11 @@ public class GEP {
         }
         
         for (int ii = start; ii <= ende; ii+=2){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
-            kinder[ii+1] = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
+            kinder[ii+1] = getRandomIndividuum(random, eltern).copy();
             
-            int crosspoint1 = getRandomInteger(kinder[ii].getMaxLayerNum());
-            int crosspoint2 = crosspoint1+getRandomInteger(kinder[ii].getMaxLayerNum()-crosspoint1);
+            int crosspoint1 = getRandomInteger(random, kinder[ii].getMaxLayerNum());
+            int crosspoint2 = crosspoint1+getRandomInteger(random, kinder[ii].getMaxLayerNum()-crosspoint1);
             
             double[] anglesK1 = kinder[ii].getAngles();
             double[] anglesK2 = kinder[ii+1].getAngles();
@@ -98,28 +138,28 @@ public class GEP {
         }
     }
     
-    public static void mutation(OptimizationParameter params, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
+    public static void mutation(OptimizationParameter params, Random random, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
         
         for (int ii = start; ii <= ende; ii++){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
             
-            if (Math.random() <= params.getMutationswahrscheinlichkeit()){
-                kinder[ii].setNumLayers(getRandomInteger(params.getMinLayerNum(), params.getMaxLayerNum()));
+            if (random.nextDouble() <= params.getMutationswahrscheinlichkeit()){
+                kinder[ii].setNumLayers(getRandomInteger(random, params.getMinLayerNum(), params.getMaxLayerNum()));
             }
             
             double[] angles = kinder[ii].getAngles();
             
             for (int jj = 0; jj < angles.length; jj++){
-                if (Math.random() <= params.getMutationswahrscheinlichkeit()){
-                    angles[jj] = possibleAngles[getRandomInteger(possibleAngles.length)];
+                if (random.nextDouble() <= params.getMutationswahrscheinlichkeit()){
+                    angles[jj] = possibleAngles[getRandomInteger(random, possibleAngles.length)];
                 }
             }
         }
     }
     
-    public static void permutation(Individuum[] eltern, Individuum[] kinder, int start, int ende){
+    public static void permutation(Random random, Individuum[] eltern, Individuum[] kinder, int start, int ende){
         for (int ii = start; ii <= ende; ii++){
-            kinder[ii] = getRandomIndividuum(eltern).copy();
+            kinder[ii] = getRandomIndividuum(random, eltern).copy();
             
             ArrayList<Double> anglesVec = new ArrayList<>();
             
@@ -130,12 +170,12 @@ public class GEP {
             double[] angles = kinder[ii].getAngles();
             
             for (int jj = 0; jj < angles.length; jj++){
-                angles[jj] = anglesVec.remove(getRandomInteger(anglesVec.size()));
+                angles[jj] = anglesVec.remove(getRandomInteger(random, anglesVec.size()));
             }
         }
     }
     
-    public static void angleShifts(OptimizationParameter params, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
+    public static void angleShifts(OptimizationParameter params, Random random, Individuum[] eltern, Individuum[] kinder, int start, int ende, double[] possibleAngles){
         double[] sortedAngle = new double[possibleAngles.length];
         System.arraycopy(possibleAngles, 0, sortedAngle, 0, possibleAngles.length);
         Map<Double, Integer> angleIndexMap = new HashMap<>();
@@ -145,17 +185,17 @@ public class GEP {
         }
         
         for (int ii = start; ii <= ende; ii++){
-            kinder[ii]   = getRandomIndividuum(eltern).copy();
+            kinder[ii]   = getRandomIndividuum(random, eltern).copy();
             
-            if (Math.random() <= params.getMutationswahrscheinlichkeit()){
-                kinder[ii].setNumLayers(getRandomInteger(params.getMinLayerNum(), params.getMaxLayerNum()));
+            if (random.nextDouble() <= params.getMutationswahrscheinlichkeit()){
+                kinder[ii].setNumLayers(getRandomInteger(random, params.getMinLayerNum(), params.getMaxLayerNum()));
             }
             
             double[] angles = kinder[ii].getAngles();
             
             for (int jj = 0; jj < angles.length; jj++){
-                if (Math.random() <= params.getShiftwahrscheinlichkeit()){
-                    int newIndex = angleIndexMap.get(angles[jj]) + (int)Math.signum(Math.random()-0.5);
+                if (random.nextDouble() <= params.getShiftwahrscheinlichkeit()){
+                    int newIndex = angleIndexMap.get(angles[jj]) + (random.nextBoolean() ? 1 : -1);
                     if (newIndex == sortedAngle.length){
                         newIndex = 0;
                     }
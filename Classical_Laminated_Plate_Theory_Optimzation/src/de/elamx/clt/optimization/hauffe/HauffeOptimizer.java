@@ -35,9 +35,18 @@ import de.elamx.laminate.Layer;
 import de.elamx.laminate.addFailureCriteria.MaxStress;
 import de.elamx.laminate.failure.Criterion;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
+import de.elamx.laminate.optimization.StackingDefinition;
+import de.elamx.laminate.optimization.StackingSequence;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.openide.util.Lookup;
 import org.openide.util.NbBundle;
 import org.openide.util.lookup.Lookups;
@@ -50,14 +59,103 @@ import org.openide.util.lookup.ServiceProvider;
 @ServiceProvider(service = Optimizer.class)
 public class HauffeOptimizer extends Optimizer {
 
-    private static final OptimizationParameter params = new OptimizationParameter();
+    private OptimizationParameter params = new OptimizationParameter();
+
+    private long seed = System.nanoTime();
+    private int numberOfIslands = 1;
+    private int numberOfThreads = 1;
+    private int migrationInterval = 50;
+    private int numberOfMigrants = 2;
+
+    private ExecutorService executor;
+    private MinimalReserveFactorContext[][] evaluationContexts;
+    private StackingDefinition stackingDefinition;
 
     public HauffeOptimizer() {
         this(null);
     }
 
     public HauffeOptimizer(OptimizationInput input) {
-        super(NbBundle.getMessage(Optimizer.class, "HauffeOptimizer.name"), input);
+        this(NbBundle.getMessage(Optimizer.class, "HauffeOptimizer.name"), input);
+    }
+
+    protected HauffeOptimizer(String name, OptimizationInput input) {
+        super(name, input);
+    }
+
+    /**
+     * Liefert die Parameter des genetischen Algorithmus dieser Instanz.
+     * Änderungen wirken sich nur auf diesen Optimierer aus.
+     *
+     * @return Parameter des genetischen Algorithmus
+     */
+    public OptimizationParameter getParameter() {
+        return params;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Setzt den Startwert der Zufallszahlengeneratoren. Bei gleichem
+     * Startwert, gleicher Eingabe und gleicher Anzahl an Inseln liefert die
+     * Optimierung unabhängig von der Anzahl der Threads dasselbe Ergebnis.
+     *
+     * @param seed Startwert
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getNumberOfIslands() {
+        return numberOfIslands;
+    }
+
+    public void setNumberOfIslands(int numberOfIslands) {
+        this.numberOfIslands = Math.max(1, numberOfIslands);
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    /**
+     * Setzt die Anzahl der Threads, in denen die Individuen einer Generation
+     * bewertet werden. Jeder Thread erhält eigene Auswertekontexte der
+     * Reservefaktorrechner.
+     *
+     * @param numberOfThreads Anzahl der Threads
+     */
+    public void setNumberOfThreads(int numberOfThreads) {
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+    }
+
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    /**
+     * Setzt die Anzahl der Generationen zwischen zwei Migrationen.
+     *
+     * @param migrationInterval Anzahl der Generationen
+     */
+    public void setMigrationInterval(int migrationInterval) {
+        this.migrationInterval = Math.max(1, migrationInterval);
+    }
+
+    public int getNumberOfMigrants() {
+        return numberOfMigrants;
+    }
+
+    /**
+     * Setzt die Anzahl der besten Individuen, die bei einer Migration von
+     * jeder Insel zur nächsten Insel (Ring) kopiert werden.
+     *
+     * @param numberOfMigrants Anzahl der Auswanderer je Insel
+     */
+    public void setNumberOfMigrants(int numberOfMigrants) {
+        this.numberOfMigrants = Math.max(0, numberOfMigrants);
     }
 
     @Override
@@ -76,10 +174,18 @@ public class HauffeOptimizer extends Optimizer {
             }
         }
 
+        // Die Individuen werden als kompakte Lagenaufbauten bewertet. Ein
+        // Laminat wird nur für Zwischenergebnisse und das Endergebnis erzeugt.
+        stackingDefinition = new StackingDefinition(baseLayer, angles, isSymmetricLaminateNeeded || input.isSymmetricLaminat());
+
         // Bestimmung der maximalen Lagenanzahl durch Sequential Decision Approach
         SequentialDecisionApproach sda = new SequentialDecisionApproach(input);
+        sda.setNumberOfThreads(numberOfThreads);
 
         Laminat sdaLam = sda.internalOptimize();
+        if (sdaLam == null) {
+            return null;
+        }
 
         int numberOfCheckedLaminates = sda.getResult().getNumberOfCheckedLaminates();
         int numberOfConstraintEvals = sda.getResult().getNumberOfContraintEvaluations();
@@ -114,8 +220,7 @@ public class HauffeOptimizer extends Optimizer {
                              numberOfCheckedLaminates,
                              sda.getResult().getMinReserveFactor());
 
-        Individuum[] eltern = new Individuum[params.getAnzEltern()];
-        Individuum[] kinder = new Individuum[params.getAnzKinder()];
+        Random random = new Random(seed);
 
         double[] tmpAngles = new double[params.getMaxLayerNum()];
 
@@ -125,85 +230,97 @@ public class HauffeOptimizer extends Optimizer {
         }
 
         while (ind < params.getMaxLayerNum()) {
-            tmpAngles[ind++] = angles[GEP.getRandomInteger(angles.length)];
+            tmpAngles[ind++] = angles[GEP.getRandomInteger(random, angles.length)];
         }
 
-        eltern[0] = new Individuum(sdaLam.getLayers().size(), tmpAngles);
-        evalObjectiv(input, eltern[0], baseLayer, isSymmetricLaminateNeeded);
-        numberOfConstraintEvals += calculators.size();
-        numberOfCheckedLaminates++;
-        
-        eltern[0] = permuteIndividuum(eltern[0], baseLayer, isSymmetricLaminateNeeded);
-
-        for (int ii = 1; ii < eltern.length; ii++) {
-            eltern[ii] = getNewIndividuum(angles);
-            evalObjectiv(input, eltern[ii], baseLayer, isSymmetricLaminateNeeded);
+        startEvaluation();
+        try {
+            Individuum startIndiv = new Individuum(sdaLam.getLayers().size(), tmpAngles);
+            evalObjectiv(evaluationContexts[0], startIndiv);
             numberOfConstraintEvals += calculators.size();
             numberOfCheckedLaminates++;
-        }
 
-        Individuum bestIndiv = null;
-        int stopGenCounter = 0;
-        int generationOfLastChange = 0;
-        int generationOhneAenderung = 0;
-        Individuum oldBestIndiv = eltern[0];
-        for (int ii = 0; ii < params.getMaxGenerations(); ii++) {
-            
-            if (Thread.interrupted ()) return null;
-            
-            GEP.mutation(params, eltern, kinder, 0, 19, angles);
-            GEP.onePointCrossover(eltern, kinder, 20, 29);
-            GEP.twoPointCrossover(eltern, kinder, 30, 39);
-            GEP.permutation(eltern, kinder, 40, 49);
-            GEP.angleShifts(params, eltern, kinder, 50, 59, angles);
-
-            for (Individuum indiv : kinder) {
-                evalObjectiv(input, indiv, baseLayer, isSymmetricLaminateNeeded);
-                numberOfConstraintEvals += calculators.size();
-                numberOfCheckedLaminates++;
+            startIndiv = permuteIndividuum(startIndiv);
+
+            // Jede Insel erhält eigene Parameter und einen eigenen, aus dem
+            // Startwert abgeleiteten Zufallszahlengenerator.
+            Island[] islands = new Island[numberOfIslands];
+            List<Individuum> unevaluated = new ArrayList<>();
+            for (int ii = 0; ii < islands.length; ii++) {
+                islands[ii] = new Island(params.copy(), new Random(random.nextLong()), angles, startIndiv);
+                unevaluated.addAll(Arrays.asList(islands[ii].getUnevaluatedEltern()));
             }
 
-            oldBestIndiv = bestIndiv;
-            bestIndiv = GEP.selection(eltern, kinder);
-        
-            if (oldBestIndiv == bestIndiv) {
-                stopGenCounter++;
-                generationOhneAenderung++;
-            } else {
-                generationOfLastChange = ii + 1;
-                stopGenCounter = 0;
+            if (!evalObjectiv(unevaluated)) {
+                return null;
             }
-            
-            result.setNewResults(IndividuumToLaminat(bestIndiv, baseLayer, isSymmetricLaminateNeeded),
-                             numberOfConstraintEvals,
-                             numberOfCheckedLaminates,
-                             bestIndiv.getMinReserveFactor(),
-                             generationOfLastChange);
-
-            kinder = new Individuum[params.getAnzKinder()];
-
-            if (params.getMaxLayerNum() > bestIndiv.getNumLayers() + params.getDeltaMaxLayerNum()
-                    || generationOhneAenderung > params.getMaxGenerationOhneAenderung()) {
-                generationOhneAenderung = 0;
-                params.setMaxLayerNum(bestIndiv.getNumLayers() + params.getDeltaMaxLayerNum());
-                params.setMinLayerNum(bestIndiv.getNumLayers() - 1);
-                eltern[0] = bestIndiv;
-                eltern[0].setMaxLayerNum(params.getMaxLayerNum());
-
-                for (int jj = 1; jj < eltern.length; jj++) {
-                    eltern[jj] = getNewIndividuum(angles);
-                    evalObjectiv(input, eltern[jj], baseLayer, isSymmetricLaminateNeeded);
-                    numberOfConstraintEvals += calculators.size();
-                    numberOfCheckedLaminates++;
+            numberOfConstraintEvals += unevaluated.size() * calculators.size();
+            numberOfCheckedLaminates += unevaluated.size();
+
+            Individuum bestIndiv = null;
+            int generationOfLastChange = 0;
+            for (int ii = 0; ii < params.getMaxGenerations(); ii++) {
+
+                if (Thread.interrupted ()) return null;
+
+                unevaluated.clear();
+                for (Island island : islands) {
+                    unevaluated.addAll(Arrays.asList(island.breed()));
                 }
-            }
 
-            if (stopGenCounter == params.getStopGens()) {
-                break;
+                if (!evalObjectiv(unevaluated)) {
+                    return null;
+                }
+                numberOfConstraintEvals += unevaluated.size() * calculators.size();
+                numberOfCheckedLaminates += unevaluated.size();
+
+                Individuum oldBestIndiv = bestIndiv;
+                bestIndiv = null;
+                for (Island island : islands) {
+                    Individuum islandBest = island.select();
+                    if (bestIndiv == null || GEP.isBetter(islandBest, bestIndiv)) {
+                        bestIndiv = islandBest;
+                    }
+                }
+
+                if (oldBestIndiv != bestIndiv) {
+                    generationOfLastChange = ii + 1;
+                }
+
+                result.setNewResults(IndividuumToLaminat(bestIndiv),
+                                 numberOfConstraintEvals,
+                                 numberOfCheckedLaminates,
+                                 bestIndiv.getMinReserveFactor(),
+                                 generationOfLastChange);
+
+                unevaluated.clear();
+                for (Island island : islands) {
+                    unevaluated.addAll(Arrays.asList(island.restartIfNeeded()));
+                }
+
+                if (!evalObjectiv(unevaluated)) {
+                    return null;
+                }
+                numberOfConstraintEvals += unevaluated.size() * calculators.size();
+                numberOfCheckedLaminates += unevaluated.size();
+
+                if (islands.length > 1 && (ii + 1) % migrationInterval == 0) {
+                    migrate(islands);
+                }
+
+                boolean stopped = true;
+                for (Island island : islands) {
+                    stopped &= island.isStopped();
+                }
+                if (stopped) {
+                    break;
+                }
             }
-        }
 
-        laminat = IndividuumToLaminat(bestIndiv, baseLayer, isSymmetricLaminateNeeded).getCopy(false);
+            laminat = IndividuumToLaminat(bestIndiv).getCopy(false);
+        } finally {
+            stopEvaluation();
+        }
 
         laminat.setName(NbBundle.getMessage(Optimizer.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet());
 
@@ -218,61 +335,135 @@ public class HauffeOptimizer extends Optimizer {
 
     @Override
     public Optimizer getInstance(OptimizationInput input) {
+        HauffeOptimizer optimizer = createInstance(input);
+        optimizer.numberOfIslands = numberOfIslands;
+        optimizer.numberOfThreads = numberOfThreads;
+        optimizer.migrationInterval = migrationInterval;
+        optimizer.numberOfMigrants = numberOfMigrants;
+        optimizer.seed = seed;
+        optimizer.params = params.copy();
+        return optimizer;
+    }
+
+    protected HauffeOptimizer createInstance(OptimizationInput input) {
         return new HauffeOptimizer(input);
     }
 
-    private Individuum getNewIndividuum(double[] possibleAngles) {
+    /**
+     * Ringmigration: Die besten Individuen jeder Insel ersetzen die
+     * schlechtesten der nächsten Insel. Alle Auswanderer werden vor der
+     * ersten Einwanderung bestimmt, damit das Ergebnis nicht von der
+     * Reihenfolge abhängt.
+     */
+    private void migrate(Island[] islands) {
+        Individuum[][] emigrants = new Individuum[islands.length][];
+        for (int ii = 0; ii < islands.length; ii++) {
+            emigrants[ii] = islands[ii].getEmigrants(numberOfMigrants);
+        }
+        for (int ii = 0; ii < islands.length; ii++) {
+            islands[(ii + 1) % islands.length].immigrate(emigrants[ii]);
+        }
+    }
+
+    private void startEvaluation() {
+        ArrayList<MinimalReserveFactorCalculator> calculators = input.getCalculators();
+        evaluationContexts = new MinimalReserveFactorContext[numberOfThreads][calculators.size()];
+        for (int ii = 0; ii < numberOfThreads; ii++) {
+            for (int jj = 0; jj < calculators.size(); jj++) {
+                evaluationContexts[ii][jj] = calculators.get(jj).createContext();
+            }
+        }
+        if (numberOfThreads > 1) {
+            executor = Executors.newFixedThreadPool(numberOfThreads, r -> {
+                Thread t = new Thread(r, "HauffeOptimizer");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
 
-        int numLayer = params.getMinLayerNum() + (int) ((params.getMaxLayerNum() - params.getMinLayerNum()) * Math.random());
+    private void stopEvaluation() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        evaluationContexts = null;
+    }
 
-        double[] angles = new double[params.getMaxLayerNum()];
+    /**
+     * Bewertet alle übergebenen Individuen. Bei mehreren Threads wird die
+     * Liste in zusammenhängende Blöcke aufgeteilt, wobei jeder Block mit
+     * eigenen Auswertekontexten bewertet wird. Die Bewertung eines Individuums
+     * hängt nicht vom Thread ab, sodass das Ergebnis deterministisch bleibt.
+     *
+     * @return false, falls der Thread während der Bewertung unterbrochen wurde
+     */
+    private boolean evalObjectiv(List<Individuum> indivs) {
+        if (executor == null || indivs.size() < 2) {
+            for (Individuum indiv : indivs) {
+                evalObjectiv(evaluationContexts[0], indiv);
+            }
+            return true;
+        }
 
-        for (int ii = 0; ii < angles.length; ii++) {
-            angles[ii] = possibleAngles[(int) (possibleAngles.length * Math.random())];
+        int numTasks = Math.min(evaluationContexts.length, indivs.size());
+        List<Future<?>> futures = new ArrayList<>(numTasks);
+        for (int ii = 0; ii < numTasks; ii++) {
+            final MinimalReserveFactorContext[] taskContexts = evaluationContexts[ii];
+            final List<Individuum> block = indivs.subList(ii * indivs.size() / numTasks, (ii + 1) * indivs.size() / numTasks);
+            futures.add(executor.submit(() -> {
+                for (Individuum indiv : block) {
+                    evalObjectiv(taskContexts, indiv);
+                }
+            }));
         }
 
-        return new Individuum(numLayer, angles);
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+            return false;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+        return true;
     }
 
-    private void evalObjectiv(OptimizationInput input, Individuum indiv, DataLayer baseLayer, boolean isSymmetryNeeded) {
+    private void evalObjectiv(MinimalReserveFactorContext[] contexts, Individuum indiv) {
 
-        Laminat laminat = IndividuumToLaminat(indiv, baseLayer, isSymmetryNeeded);
+        StackingSequence sequence = stackingDefinition.createSequence(indiv.getAngles(), indiv.getNumLayers());
 
         double minResFac = Double.MAX_VALUE;
-        for (MinimalReserveFactorCalculator calcs : input.getCalculators()) {
-            minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(laminat));
+        for (MinimalReserveFactorContext context : contexts) {
+            minResFac = Math.min(minResFac, context.getMinimalReserveFactor(sequence));
         }
 
+        setObjective(indiv, minResFac);
+    }
+
+    private static void setObjective(Individuum indiv, double minResFac) {
         double objective = (double) indiv.getNumLayers() + 100.0 * ((1.0 - Math.min(1.0, minResFac)) > 0.0 ? 1.0 : 0.0);
 
         indiv.setObjective(objective);
         indiv.setMinReserveFactor(minResFac);
     }
 
-    private Laminat IndividuumToLaminat(Individuum indiv, DataLayer baseLayer, boolean isSymmetryNeeded) {
-        Laminat laminat = new Laminat("", "", false);
-        laminat.setSymmetric(isSymmetryNeeded || input.isSymmetricLaminat());
-
-        double[] angles = indiv.getAngles();
-        DataLayer[] layers = new DataLayer[indiv.getNumLayers()];
-
-        for (int ii = 0; ii < indiv.getNumLayers(); ii++) {
-            layers[ii] = baseLayer.getCopyWithoutListeners(angles[ii]);
-        }
-
-        laminat.addLayers(Arrays.asList(layers));
-
-        return laminat;
+    private Laminat IndividuumToLaminat(Individuum indiv) {
+        return stackingDefinition.createSequence(indiv.getAngles(), indiv.getNumLayers()).toLaminat();
     }
 
-    private Individuum permuteIndividuum(Individuum indiv, DataLayer baseLayer, boolean isSymmetryNeeded) {
+    private Individuum permuteIndividuum(Individuum indiv) {
         double[] angles = input.getAngles();
         Individuum bestIndiv = indiv;
         for (int layNum = 0; layNum < indiv.getNumLayers(); layNum++) {
             Individuum checkIndiv = bestIndiv.copy();
             for (int angleNum = 0; angleNum < angles.length; angleNum++) {
                 checkIndiv.getAngles()[layNum] = angles[angleNum];
-                evalObjectiv(input, checkIndiv, baseLayer, isSymmetryNeeded);
+                evalObjectiv(evaluationContexts[0], checkIndiv);
                 if (checkIndiv.getMinReserveFactor() > bestIndiv.getMinReserveFactor()) {
                     bestIndiv = checkIndiv.copy();
                     bestIndiv.setMinReserveFactor(checkIndiv.getMinReserveFactor());
@@ -0,0 +1,222 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.hauffe;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Eine Population des genetischen Algorithmus mit eigenen Parametern und
+ * eigenem Zufallszahlengenerator. Die Insel erzeugt nur neue Individuen und
+ * führt die Selektion durch. Die Bewertung der Individuen erfolgt außerhalb,
+ * damit die Kinder mehrerer Inseln gemeinsam und parallel bewertet werden
+ * können. Alle Methoden sind nur aus einem Thread heraus aufzurufen.
+ *
+ * @author Andreas Hauffe
+ */
+class Island {
+
+    private final OptimizationParameter params;
+    private final Random random;
+    private final double[] angles;
+    private final Individuum[] eltern;
+    private Individuum[] kinder;
+
+    private Individuum bestIndiv = null;
+    private int stopGenCounter = 0;
+    private int generationOhneAenderung = 0;
+
+    /**
+     * Erzeugt eine neue Insel. Das erste Elternteil ist eine Kopie des
+     * bereits bewerteten Startindividuums, alle anderen werden zufällig
+     * erzeugt und müssen noch bewertet werden (siehe
+     * {@link #getUnevaluatedEltern()}).
+     *
+     * @param params Parameter der Insel, werden während der Optimierung
+     * verändert
+     * @param random Zufallszahlengenerator der Insel
+     * @param angles mögliche Lagenwinkel
+     * @param startIndiv bewertetes Startindividuum
+     */
+    Island(OptimizationParameter params, Random random, double[] angles, Individuum startIndiv) {
+        this.params = params;
+        this.random = random;
+        this.angles = angles;
+        this.eltern = new Individuum[params.getAnzEltern()];
+
+        eltern[0] = copyWithResults(startIndiv);
+        for (int ii = 1; ii < eltern.length; ii++) {
+            eltern[ii] = getNewIndividuum();
+        }
+    }
+
+    OptimizationParameter getParameter() {
+        return params;
+    }
+
+    Individuum getBestIndividuum() {
+        return bestIndiv;
+    }
+
+    boolean isStopped() {
+        return stopGenCounter >= params.getStopGens();
+    }
+
+    Individuum[] getUnevaluatedEltern() {
+        return Arrays.copyOfRange(eltern, 1, eltern.length);
+    }
+
+    /**
+     * Erzeugt die Kinder der nächsten Generation.
+     *
+     * @return neue, noch nicht bewertete Kinder
+     */
+    Individuum[] breed() {
+        kinder = new Individuum[params.getAnzKinder()];
+
+        GEP.mutation(params, random, eltern, kinder, 0, 19, angles);
+        GEP.onePointCrossover(random, eltern, kinder, 20, 29);
+        GEP.twoPointCrossover(random, eltern, kinder, 30, 39);
+        GEP.permutation(random, eltern, kinder, 40, 49);
+        GEP.angleShifts(params, random, eltern, kinder, 50, 59, angles);
+
+        return kinder;
+    }
+
+    /**
+     * Selektion mit den zuvor bewerteten Kindern.
+     *
+     * @return bestes Individuum der Insel
+     */
+    Individuum select() {
+        Individuum oldBestIndiv = bestIndiv;
+        bestIndiv = GEP.selection(eltern, kinder);
+        kinder = null;
+
+        if (oldBestIndiv == bestIndiv) {
+            stopGenCounter++;
+            generationOhneAenderung++;
+        } else {
+            stopGenCounter = 0;
+        }
+        return bestIndiv;
+    }
+
+    /**
+     * Verkleinert den Suchraum auf die Lagenanzahl des besten Individuums und
+     * ersetzt alle anderen Eltern durch zufällige Individuen, falls die
+     * Population zu lange stagniert oder die maximale Lagenanzahl zu groß
+     * ist.
+     *
+     * @return neue, noch nicht bewertete Eltern (leer, falls kein Neustart)
+     */
+    Individuum[] restartIfNeeded() {
+        if (params.getMaxLayerNum() > bestIndiv.getNumLayers() + params.getDeltaMaxLayerNum()
+                || generationOhneAenderung > params.getMaxGenerationOhneAenderung()) {
+            generationOhneAenderung = 0;
+            params.setMaxLayerNum(bestIndiv.getNumLayers() + params.getDeltaMaxLayerNum());
+            params.setMinLayerNum(bestIndiv.getNumLayers() - 1);
+            eltern[0] = bestIndiv;
+            eltern[0].setMaxLayerNum(params.getMaxLayerNum());
+
+            for (int jj = 1; jj < eltern.length; jj++) {
+                eltern[jj] = getNewIndividuum();
+            }
+            return getUnevaluatedEltern();
+        }
+        return new Individuum[0];
+    }
+
+    /**
+     * Liefert Kopien der besten Individuen dieser Insel.
+     *
+     * @param number Anzahl der Auswanderer
+     * @return Kopien inklusive Bewertung
+     */
+    Individuum[] getEmigrants(int number) {
+        Individuum[] sorted = Arrays.copyOf(eltern, eltern.length);
+        Arrays.sort(sorted, GEP.QUALITY_ORDER);
+        Individuum[] emigrants = new Individuum[Math.min(number, sorted.length)];
+        for (int ii = 0; ii < emigrants.length; ii++) {
+            emigrants[ii] = copyWithResults(sorted[ii]);
+        }
+        return emigrants;
+    }
+
+    /**
+     * Ersetzt die schlechtesten Eltern durch die übergebenen Einwanderer.
+     * Einwanderer mit mehr Lagen als aktuell auf dieser Insel zulässig werden
+     * verworfen. Die Winkelvektoren werden auf die maximale Lagenanzahl der
+     * Insel angepasst, wobei nur ungenutzte Gene verändert werden, sodass
+     * die Bewertung gültig bleibt.
+     *
+     * @param immigrants bewertete Einwanderer
+     */
+    void immigrate(Individuum[] immigrants) {
+        Integer[] order = new Integer[eltern.length];
+        for (int ii = 0; ii < order.length; ii++) {
+            order[ii] = ii;
+        }
+        Arrays.sort(order, (i1, i2) -> GEP.QUALITY_ORDER.compare(eltern[i2], eltern[i1]));
+
+        int maxLayerNum = params.getMaxLayerNum();
+        int index = 0;
+        for (Individuum immigrant : immigrants) {
+            if (immigrant.getNumLayers() > maxLayerNum || index >= order.length - 1) {
+                continue;
+            }
+            double[] oldAngles = immigrant.getAngles();
+            double[] newAngles = new double[maxLayerNum];
+            int num = Math.min(oldAngles.length, maxLayerNum);
+            System.arraycopy(oldAngles, 0, newAngles, 0, num);
+            for (int ii = num; ii < maxLayerNum; ii++) {
+                newAngles[ii] = angles[GEP.getRandomInteger(random, angles.length)];
+            }
+            immigrant.setAngles(newAngles);
+            eltern[order[index++]] = immigrant;
+        }
+    }
+
+    private Individuum getNewIndividuum() {
+
+        int numLayer = GEP.getRandomInteger(random, params.getMinLayerNum(), params.getMaxLayerNum());
+
+        double[] newAngles = new double[params.getMaxLayerNum()];
+
+        for (int ii = 0; ii < newAngles.length; ii++) {
+            newAngles[ii] = angles[GEP.getRandomInteger(random, angles.length)];
+        }
+
+        return new Individuum(numLayer, newAngles);
+    }
+
+    private static Individuum copyWithResults(Individuum indiv) {
+        Individuum copy = indiv.copy();
+        copy.setObjective(indiv.getObjective());
+        copy.setMinReserveFactor(indiv.getMinReserveFactor());
+        return copy;
+    }
+}
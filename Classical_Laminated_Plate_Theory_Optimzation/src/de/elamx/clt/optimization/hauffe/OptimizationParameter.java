@@ -130,4 +130,19 @@ public class OptimizationParameter {
         this.maxGenerationOhneAenderung = maxGenerationOhneAenderung;
     }
     
+    public OptimizationParameter copy() {
+        OptimizationParameter copy = new OptimizationParameter();
+        copy.mutationswahrscheinlichkeit = mutationswahrscheinlichkeit;
+        copy.deltaMaxLayerNum = deltaMaxLayerNum;
+        copy.maxLayerNum = maxLayerNum;
+        copy.minLayerNum = minLayerNum;
+        copy.maxGenerations = maxGenerations;
+        copy.anzEltern = anzEltern;
+        copy.anzKinder = anzKinder;
+        copy.stopGens = stopGens;
+        copy.shiftwahrscheinlichkeit = shiftwahrscheinlichkeit;
+        copy.maxGenerationOhneAenderung = maxGenerationOhneAenderung;
+        return copy;
+    }
+    
 }
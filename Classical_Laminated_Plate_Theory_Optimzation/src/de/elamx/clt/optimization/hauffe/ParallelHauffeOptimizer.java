@@ -0,0 +1,62 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.hauffe;
+
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.clt.optimization.Optimizer;
+import org.openide.util.NbBundle;
+import org.openide.util.lookup.ServiceProvider;
+
+/**
+ * Inselmodell-Variante des {@link HauffeOptimizer}. Es werden mehrere
+ * Populationen mit eigenen Zufallszahlengeneratoren gleichzeitig entwickelt,
+ * deren Kinder in jeder Generation parallel bewertet werden. In regelmäßigen
+ * Abständen wandern die besten Individuen jeder Insel zur nächsten Insel.
+ * Das Ergebnis hängt nur vom Startwert und der Anzahl der Inseln ab, nicht
+ * von der Anzahl der Threads.
+ *
+ * @author Andreas Hauffe
+ */
+@ServiceProvider(service = Optimizer.class)
+public class ParallelHauffeOptimizer extends HauffeOptimizer {
+
+    public static final int DEFAULT_NUMBER_OF_ISLANDS = 4;
+
+    public ParallelHauffeOptimizer() {
+        this(null);
+    }
+
+    public ParallelHauffeOptimizer(OptimizationInput input) {
+        super(NbBundle.getMessage(Optimizer.class, "ParallelHauffeOptimizer.name"), input);
+        setNumberOfIslands(DEFAULT_NUMBER_OF_ISLANDS);
+        setNumberOfThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    protected HauffeOptimizer createInstance(OptimizationInput input) {
+        return new ParallelHauffeOptimizer(input);
+    }
+}
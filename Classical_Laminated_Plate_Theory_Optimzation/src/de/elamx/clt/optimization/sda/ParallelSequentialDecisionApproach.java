@@ -0,0 +1,56 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.sda;
+
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.clt.optimization.Optimizer;
+import org.openide.util.NbBundle;
+import org.openide.util.lookup.ServiceProvider;
+
+/**
+ * Parallele Variante des {@link SequentialDecisionApproach}. Alle möglichen
+ * Winkel der neuen Lage werden gleichzeitig mit eigenen Auswertekontexten je
+ * Thread bewertet. Das Ergebnis entspricht dem der sequentiellen Variante.
+ *
+ * @author Andreas Hauffe
+ */
+@ServiceProvider(service = Optimizer.class)
+public class ParallelSequentialDecisionApproach extends SequentialDecisionApproach {
+
+    public ParallelSequentialDecisionApproach() {
+        this(null);
+    }
+
+    public ParallelSequentialDecisionApproach(OptimizationInput input) {
+        super(NbBundle.getMessage(Optimizer.class, "ParallelSequentialDecisionApproach.name"), input);
+        setNumberOfThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    protected SequentialDecisionApproach createInstance(OptimizationInput input) {
+        return new ParallelSequentialDecisionApproach(input);
+    }
+}
@@ -30,8 +30,16 @@ import de.elamx.clt.optimization.Optimizer;
 import de.elamx.laminate.DataLayer;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
+import de.elamx.laminate.optimization.StackingDefinition;
+import de.elamx.laminate.optimization.StackingSequence;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.openide.util.NbBundle;
 import org.openide.util.lookup.ServiceProvider;
 
@@ -45,12 +53,34 @@ import org.openide.util.lookup.ServiceProvider;
 @ServiceProvider(service = Optimizer.class)
 public class SequentialDecisionApproach extends Optimizer{
 
+    private int numberOfThreads = 1;
+
     public SequentialDecisionApproach() {
         this(null);
     }
 
     public SequentialDecisionApproach(OptimizationInput input) {
-        super(NbBundle.getMessage(Optimizer.class, "SequentialDecisionApproach.name"), input);
+        this(NbBundle.getMessage(Optimizer.class, "SequentialDecisionApproach.name"), input);
+    }
+
+    protected SequentialDecisionApproach(String name, OptimizationInput input) {
+        super(name, input);
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    /**
+     * Setzt die Anzahl der Threads, in denen die möglichen Winkel der neuen
+     * Lage bewertet werden. Jeder Thread erhält eigene Auswertekontexte der
+     * Reservefaktorrechner. Das Ergebnis hängt nicht von der Anzahl der
+     * Threads ab.
+     *
+     * @param numberOfThreads Anzahl der Threads
+     */
+    public void setNumberOfThreads(int numberOfThreads) {
+        this.numberOfThreads = Math.max(1, numberOfThreads);
     }
 
     @Override
@@ -60,7 +90,8 @@ public class SequentialDecisionApproach extends Optimizer{
 
         DataLayer baseLayer = new DataLayer("", NbBundle.getMessage(Optimizer.class, "Optimized_Layer") + " " + atomicLayerCounter.incrementAndGet(), input.getMaterial(), 0.0, input.getThickness(), input.getCriterion());
 
-        Laminat laminat = new Laminat(UUID.randomUUID().toString(), NbBundle.getMessage(Optimizer.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet(), false);
+        String laminateUid = UUID.randomUUID().toString();
+        String laminateName = NbBundle.getMessage(Optimizer.class, "Optimized_Laminate") + " " + atomicLaminateCounter.incrementAndGet();
 
         boolean isSymmetricLaminateNeeded = false;
 
@@ -71,11 +102,25 @@ public class SequentialDecisionApproach extends Optimizer{
             }
         }
 
-        laminat.setSymmetric(isSymmetricLaminateNeeded || input.isSymmetricLaminat());
+        // Die Entwürfe werden als kompakte Lagenaufbauten bewertet, sodass
+        // alle Winkel der neuen Lage unabhängig voneinander geprüft werden
+        // können.
+        StackingDefinition definition = new StackingDefinition(baseLayer, angles, isSymmetricLaminateNeeded || input.isSymmetricLaminat());
+        int numberOfAngles = definition.getNumberOfAngles();
+
+        int numTasks = Math.min(numberOfThreads, numberOfAngles);
+        MinimalReserveFactorContext[][] contexts = new MinimalReserveFactorContext[numTasks][calculators.size()];
+        for (int ii = 0; ii < numTasks; ii++) {
+            for (int jj = 0; jj < calculators.size(); jj++) {
+                contexts[ii][jj] = calculators.get(jj).createContext();
+            }
+        }
 
         double minReserveFactor = -Double.MAX_VALUE;
 
-        result.setBestLaminate(laminat.getCopyWithoutListener(false));
+        StackingSequence sequence = definition.createSequence(new byte[0]);
+
+        result.setBestLaminate(definition.createLaminat(sequence));
         result.setMinReserveFactor(minReserveFactor);
         result.setNumberOfCheckedLaminates(0);
         result.setNumberOfContraintEvaluations(0);
@@ -83,52 +128,119 @@ public class SequentialDecisionApproach extends Optimizer{
         int numberOfCheckedLaminates = 0;
         int numberOfConstraintEvals = 0;
 
-        while (minReserveFactor < 1.0) {
-            DataLayer actLayer = baseLayer.getCopyWithoutListeners(baseLayer.getAngle());
-
-            laminat.addLayer(laminat.getNumberofLayers()/2,actLayer);
+        ExecutorService executor = null;
+        if (numTasks > 1) {
+            executor = Executors.newFixedThreadPool(numTasks, r -> {
+                Thread t = new Thread(r, "SequentialDecisionApproach");
+                t.setDaemon(true);
+                return t;
+            });
+        }
 
-            double actResFac = -Double.MAX_VALUE;
-            double bestAngle = 0.0;
-            for (int ii = 0; ii < angles.length; ii++) {
+        double[] reserveFactors = new double[numberOfAngles];
+        StackingSequence[] candidates = new StackingSequence[numberOfAngles];
 
-                actLayer.setAngle(angles[ii]);
+        try {
+            while (minReserveFactor < 1.0) {
+                // Die neue Lage wird wie bisher in der Mitte des Laminats
+                // eingefügt.
+                int position = definition.isSymmetric() ? sequence.getNumberOfLayers() : sequence.getNumberOfLayers() / 2;
+                for (int ii = 0; ii < numberOfAngles; ii++) {
+                    candidates[ii] = sequence.withInsertedLayer(position, ii);
+                }
 
-                double minResFac = Double.MAX_VALUE;
-                for (MinimalReserveFactorCalculator calcs : calculators) {
-                    minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(laminat));
+                if (!evaluate(executor, contexts, candidates, reserveFactors)) {
+                    return null;
                 }
 
-                if (minResFac > actResFac) {
-                    actResFac = minResFac;
-                    bestAngle = angles[ii];
+                // Bei gleichen Reservefaktoren gewinnt unabhängig von der
+                // Anzahl der Threads immer der zuerst angegebene Winkel.
+                int bestIndex = 0;
+                for (int ii = 1; ii < numberOfAngles; ii++) {
+                    if (reserveFactors[ii] > reserveFactors[bestIndex]) {
+                        bestIndex = ii;
+                    }
                 }
+
+                sequence = candidates[bestIndex];
+                minReserveFactor = reserveFactors[bestIndex];
+                numberOfConstraintEvals += calculators.size();
+                numberOfCheckedLaminates++;
+
+                result.setBestLaminate(definition.createLaminat(sequence));
+                result.setMinReserveFactor(minReserveFactor);
+                result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
+                result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
             }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
 
-            actLayer.setAngle(bestAngle);
+        result.setFinished(true);
+        
+        return definition.createLaminat(laminateUid, laminateName, sequence);
+    }
 
-            double minResFac = Double.MAX_VALUE;
-            for (MinimalReserveFactorCalculator calcs : calculators) {
-                minResFac = Math.min(minResFac, calcs.getMinimalReserveFactor(laminat));
-                numberOfConstraintEvals++;
+    /**
+     * Bewertet alle Kandidaten. Bei mehreren Threads werden die Kandidaten in
+     * zusammenhängende Blöcke aufgeteilt, wobei jeder Block mit eigenen
+     * Auswertekontexten bewertet wird.
+     *
+     * @return false, falls der Thread während der Bewertung unterbrochen wurde
+     */
+    private boolean evaluate(ExecutorService executor, MinimalReserveFactorContext[][] contexts, StackingSequence[] candidates, double[] reserveFactors) {
+        if (executor == null) {
+            if (Thread.interrupted()) {
+                return false;
             }
+            evaluate(contexts[0], candidates, reserveFactors, 0, candidates.length);
+            return true;
+        }
 
-            minReserveFactor = minResFac;
-            numberOfCheckedLaminates++;
+        int numTasks = contexts.length;
+        List<Future<?>> futures = new ArrayList<>(numTasks);
+        for (int ii = 0; ii < numTasks; ii++) {
+            final MinimalReserveFactorContext[] taskContexts = contexts[ii];
+            final int from = ii * candidates.length / numTasks;
+            final int to = (ii + 1) * candidates.length / numTasks;
+            futures.add(executor.submit(() -> evaluate(taskContexts, candidates, reserveFactors, from, to)));
+        }
 
-            result.setBestLaminate(laminat.getCopyWithoutListener(false));
-            result.setMinReserveFactor(minReserveFactor);
-            result.setNumberOfCheckedLaminates(numberOfCheckedLaminates);
-            result.setNumberOfContraintEvaluations(numberOfConstraintEvals);
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+            return false;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
         }
+        return true;
+    }
 
-        result.setFinished(true);
-        
-        return laminat;
+    private static void evaluate(MinimalReserveFactorContext[] contexts, StackingSequence[] candidates, double[] reserveFactors, int from, int to) {
+        for (int ii = from; ii < to; ii++) {
+            double minResFac = Double.MAX_VALUE;
+            for (MinimalReserveFactorContext context : contexts) {
+                minResFac = Math.min(minResFac, context.getMinimalReserveFactor(candidates[ii]));
+            }
+            reserveFactors[ii] = minResFac;
+        }
     }
 
     @Override
     public Optimizer getInstance(OptimizationInput input) {
+        SequentialDecisionApproach optimizer = createInstance(input);
+        optimizer.numberOfThreads = numberOfThreads;
+        return optimizer;
+    }
+
+    protected SequentialDecisionApproach createInstance(OptimizationInput input) {
         return new SequentialDecisionApproach(input);
     }
 
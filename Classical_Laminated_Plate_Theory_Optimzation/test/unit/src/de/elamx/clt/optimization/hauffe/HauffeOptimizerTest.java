@@ -0,0 +1,126 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.hauffe;
+
+import de.elamx.clt.CLT_Input;
+import de.elamx.clt.optimization.MinimalReserveFactorImplementation;
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.Layer;
+import de.elamx.laminate.failure.Puck;
+import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class HauffeOptimizerTest {
+
+    private static final long SEED = 4711L;
+
+    public HauffeOptimizerTest() {
+    }
+
+    private static OptimizationInput createInput() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        CLT_Input cltInput = new CLT_Input();
+        cltInput.getLoad().setN_x(1000.0);
+        cltInput.getLoad().setN_y(-400.0);
+        cltInput.getLoad().setN_xy(300.0);
+
+        ArrayList<MinimalReserveFactorCalculator> calculators = new ArrayList<>();
+        calculators.add(new MinimalReserveFactorImplementation(cltInput));
+
+        return new OptimizationInput(new double[]{0.0, 45.0, -45.0, 90.0}, 0.125, mat, null, calculators, false);
+    }
+
+    private static HauffeOptimizer createPrototype(int numberOfThreads) {
+        HauffeOptimizer prototype = new HauffeOptimizer();
+        prototype.setSeed(SEED);
+        prototype.setNumberOfIslands(2);
+        prototype.setNumberOfThreads(numberOfThreads);
+        prototype.setMigrationInterval(5);
+        prototype.getParameter().setMaxGenerations(40);
+        prototype.getParameter().setMutationswahrscheinlichkeit(0.25);
+        return prototype;
+    }
+
+    private static double[] getAngles(Laminat laminat) {
+        List<Layer> layers = laminat.getLayers();
+        double[] angles = new double[layers.size()];
+        for (int ii = 0; ii < angles.length; ii++) {
+            angles[ii] = layers.get(ii).getAngle();
+        }
+        return angles;
+    }
+
+    /**
+     * Eine über getInstance erzeugte Instanz muss den Startwert und die
+     * Parameter des Prototyps übernehmen, ohne die Parameter mit ihm zu
+     * teilen.
+     */
+    @Test
+    public void getInstanceCopiesSeedAndParameters() {
+        HauffeOptimizer prototype = createPrototype(1);
+        HauffeOptimizer optimizer = (HauffeOptimizer) prototype.getInstance(createInput());
+
+        assertEquals(SEED, optimizer.getSeed());
+        assertEquals(40, optimizer.getParameter().getMaxGenerations());
+        assertEquals(0.25, optimizer.getParameter().getMutationswahrscheinlichkeit(), 0.0);
+
+        optimizer.getParameter().setMaxGenerations(10);
+        assertEquals(40, prototype.getParameter().getMaxGenerations());
+    }
+
+    /**
+     * Zwei über getInstance erzeugte Optimierungen mit gleichem Startwert
+     * müssen für einen und mehrere Threads denselben Lagenaufbau liefern.
+     */
+    @Test
+    public void sameSeedGivesSameLaminateForAnyThreadCount() {
+        Laminat serial = createPrototype(1).getInstance(createInput()).internalOptimize();
+        Laminat parallel = createPrototype(4).getInstance(createInput()).internalOptimize();
+
+        assertArrayEquals(getAngles(serial), getAngles(parallel), 0.0);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.optimization.sda;
+
+import de.elamx.clt.CLT_Input;
+import de.elamx.clt.optimization.MinimalReserveFactorImplementation;
+import de.elamx.clt.optimization.OptimizationInput;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.Layer;
+import de.elamx.laminate.failure.Puck;
+import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Andreas Hauffe
+ */
+public class SequentialDecisionApproachTest {
+
+    public SequentialDecisionApproachTest() {
+    }
+
+    private static OptimizationInput createInput() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 0.0, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        CLT_Input cltInput = new CLT_Input();
+        cltInput.getLoad().setN_x(3000.0);
+        cltInput.getLoad().setN_y(-1200.0);
+        cltInput.getLoad().setN_xy(800.0);
+
+        ArrayList<MinimalReserveFactorCalculator> calculators = new ArrayList<>();
+        calculators.add(new MinimalReserveFactorImplementation(cltInput));
+
+        return new OptimizationInput(new double[]{0.0, 15.0, 30.0, 45.0, 60.0, 75.0, 90.0, -15.0, -30.0, -45.0, -60.0, -75.0}, 0.125, mat, null, calculators, false);
+    }
+
+    private static double[] getAngles(Laminat laminat) {
+        List<Layer> layers = laminat.getLayers();
+        double[] angles = new double[layers.size()];
+        for (int ii = 0; ii < angles.length; ii++) {
+            angles[ii] = layers.get(ii).getAngle();
+        }
+        return angles;
+    }
+
+    /**
+     * Die parallele Bewertung der Kandidatenwinkel muss für einen und mehrere
+     * Threads denselben Lagenaufbau mit demselben Reservefaktor und derselben
+     * Anzahl geprüfter Laminate liefern.
+     */
+    @Test
+    public void sameResultForAnyThreadCount() {
+        SequentialDecisionApproach serial = new SequentialDecisionApproach(createInput());
+        serial.setNumberOfThreads(1);
+        Laminat serialLaminat = serial.internalOptimize();
+
+        SequentialDecisionApproach parallel = new SequentialDecisionApproach(createInput());
+        parallel.setNumberOfThreads(4);
+        Laminat parallelLaminat = parallel.internalOptimize();
+
+        assertArrayEquals(getAngles(serialLaminat), getAngles(parallelLaminat), 0.0);
+        assertEquals(serial.getResult().getMinReserveFactor(), parallel.getResult().getMinReserveFactor(), 0.0);
+        assertEquals(serial.getResult().getNumberOfCheckedLaminates(), parallel.getResult().getNumberOfCheckedLaminates());
+    }
+}
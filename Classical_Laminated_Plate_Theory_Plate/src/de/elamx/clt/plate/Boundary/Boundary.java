@@ -43,7 +43,11 @@ package de.elamx.clt.plate.Boundary;
  */
 public abstract class Boundary {
 
-    protected double a_ = 0.0; // Länge in die entsprechende Richtung
+    protected final double a_; // Länge in die entsprechende Richtung
+
+    // Die folgenden Felder verweisen bei den Randbedingungen dieses Pakets auf
+    // die gemeinsam genutzten Tabellen (siehe BoundaryTables) und dürfen nicht
+    // verändert werden. Sie sind nur wegen initArrays() nicht final.
 
     // Konstanten des Verschiebungsansatzes
     protected double[] c1_, c2_, c3_, c4_, c5_;
@@ -56,28 +60,66 @@ public abstract class Boundary {
     // Integrale des Verschiebungsansatzes
     protected double[][] IXX_, IXdX_, IXdX2_, IdXdX_, IdXdX2_, IdX2dX2_;
 
-    // Zwei temporäre double Variablen, um sie nicht bei jedem Methodenaufruf neu anlegen zu müssen.
-    private double temp;
-    private double cva;
-
     /**
-     * Dieser Konstruktor muss beim Generieren einen neues Boundary-Objekts aufgerufen werden.
-     * Er speichert die Länge und die Anzahl der Halbwellen und ruft die Initialisierung
-     * der Felder auf. Diese werden dann mit Werten der entsprechenden Randbedingung
-     * gefüllt.
-     * 
+     * Konstruktor für Randbedingungen außerhalb dieses Pakets, die ihre Felder
+     * in {@link #initArrays()} selbst füllen. Er speichert die Länge und ruft
+     * die Initialisierung der Felder auf. Ob solche Objekte von mehreren
+     * Threads verwendet werden können, hängt von der Implementierung von
+     * {@link #initArrays()} ab.
+     *
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
+     * @deprecated Die Randbedingungen dieses Pakets teilen sich unveränderliche
+     * Tabellen und verwenden diesen Konstruktor nicht mehr.
      */
+    @Deprecated
     @SuppressWarnings("this-escape")
     public Boundary (double length, int m){
         a_ = length;
         initArrays();
     }
 
+    /**
+     * Dieser Konstruktor muss beim Generieren einen neues Boundary-Objekts aufgerufen werden.
+     * Er speichert die Länge und verweist auf die dimensionslosen Tabellen der
+     * entsprechenden Randbedingung. Die Tabellen werden dabei nicht kopiert,
+     * sodass das Anlegen eines Boundary-Objekts kaum Aufwand verursacht. Da
+     * ein Boundary-Objekt keinen veränderlichen Zustand besitzt, kann es
+     * gleichzeitig von mehreren Threads verwendet werden.
+     * 
+     * @param length Länge
+     * @param tables Tabellen der Randbedingung
+     */
+    Boundary (double length, BoundaryTables tables){
+        a_ = length;
+        c1_ = tables.c1;
+        c2_ = tables.c2;
+        c3_ = tables.c3;
+        c4_ = tables.c4;
+        c5_ = tables.c5;
+        cv_ = tables.cv;
+        IX_ = tables.IX;
+        IXX_ = tables.IXX;
+        IXdX_ = tables.IXdX;
+        IXdX2_ = tables.IXdX2;
+        IdXdX_ = tables.IdXdX;
+        IdXdX2_ = tables.IdXdX2;
+        IdX2dX2_ = tables.IdX2dX2;
+    }
+
     public double getA(){return a_;}
 
-    protected abstract void initArrays();
+    /**
+     * Füllt die Konstanten und Integrale der Randbedingung. Wird nur vom
+     * Konstruktor {@link #Boundary(double, int)} aufgerufen. Die
+     * Randbedingungen dieses Pakets überschreiben diese Methode nicht.
+     *
+     * @deprecated Nur für Randbedingungen außerhalb dieses Pakets, die den
+     * Konstruktor {@link #Boundary(double, int)} verwenden.
+     */
+    @Deprecated
+    protected void initArrays(){
+    }
 
     /**
      * Grundansatzfunktion
@@ -87,7 +129,7 @@ public abstract class Boundary {
      * @return Verschiebung an der Stelle x
      */
     public double wx(int i,double x){
-        temp = cv_[i]*x/a_;
+        double temp = cv_[i]*x/a_;
         return   c1_[i]* Math.sin(temp)
                + c3_[i]*Math.sinh(temp)
                + c2_[i]* Math.cos(temp)
@@ -102,8 +144,8 @@ public abstract class Boundary {
      * @return erste Ableitung der Verschiebung an der Stelle x
      */
     public double wdx(int i,double x){
-        cva = cv_[i]/a_;
-        temp = cva*x;
+        double cva = cv_[i]/a_;
+        double temp = cva*x;
         return  (c1_[i]* Math.cos(temp)
                + c3_[i]*Math.cosh(temp)
                - c2_[i]* Math.sin(temp)
@@ -117,8 +159,8 @@ public abstract class Boundary {
      * @return zweite Ableitung der Verschiebung an der Stelle x
      */
     public double wdx2(int i,double x){
-        cva = cv_[i]/a_;
-        temp = cva*x;
+        double cva = cv_[i]/a_;
+        double temp = cva*x;
         return (- c1_[i]* Math.sin(temp)
                 + c3_[i]*Math.sinh(temp)
                 - c2_[i]* Math.cos(temp)
@@ -132,8 +174,8 @@ public abstract class Boundary {
      * @return zweite Ableitung der Verschiebung an der Stelle x
      */
     public double wdx3(int i,double x){
-        cva = cv_[i]/a_;
-        temp = cva*x;
+        double cva = cv_[i]/a_;
+        double temp = cva*x;
         return (- c1_[i]* Math.cos(temp)
                 + c3_[i]*Math.cosh(temp)
                 + c2_[i]* Math.sin(temp)
@@ -0,0 +1,68 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate.Boundary;
+
+/**
+ * Dimensionslose Konstanten, Nullstellen und Integrale des
+ * Verschiebungsansatzes einer Randbedingung (siehe {@link Boundary}). Die
+ * Tabellen werden je Randbedingung einmalig angelegt und von allen
+ * <CODE>Boundary</CODE>-Objekten dieser Randbedingung gemeinsam genutzt. Sie
+ * dürfen deshalb nicht verändert werden.
+ *
+ * @author Andreas Hauffe
+ */
+final class BoundaryTables {
+
+    // Konstanten des Verschiebungsansatzes
+    final double[] c1, c2, c3, c4, c5;
+
+    // Nullstellen der charakteristischen Gleichung
+    final double[] cv;
+
+    final double[] IX;
+
+    // Integrale des Verschiebungsansatzes
+    final double[][] IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2;
+
+    BoundaryTables(double[] c1, double[] c2, double[] c3, double[] c4, double[] c5,
+            double[] cv, double[] IX,
+            double[][] IXX, double[][] IXdX, double[][] IXdX2,
+            double[][] IdXdX, double[][] IdXdX2, double[][] IdX2dX2) {
+        this.c1 = c1;
+        this.c2 = c2;
+        this.c3 = c3;
+        this.c4 = c4;
+        this.c5 = c5;
+        this.cv = cv;
+        this.IX = IX;
+        this.IXX = IXX;
+        this.IXdX = IXdX;
+        this.IXdX2 = IXdX2;
+        this.IdXdX = IdXdX;
+        this.IdXdX2 = IdXdX2;
+        this.IdX2dX2 = IdX2dX2;
+    }
+}
@@ -37,28 +37,30 @@ package de.elamx.clt.plate.Boundary;
  */
 public class Boundary_CC_200 extends Boundary{
 
+    // gemeinsam genutzte, unveränderliche Konstanten und Integrale
+    private static final BoundaryTables TABLES = createTables();
+
     /**
      * @see Boundary
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
      */
     public Boundary_CC_200 (double length, int m){
-        super(length, m);
+        super(length, TABLES);
     }
 
-    @Override
-    protected void initArrays() {
-        c1_ = new double[]{-6.1878232899490017e-1,-6.6321834970696019e-1,-6.6178128320776205e-1,-6.6120199683796105e-1,-6.6126396957788217e-1,-6.6126412767871943e-1,-6.6385010869322005e-1,-6.6575151919972743e-1,-6.6591475771082471e-1,-6.6186764253600814e-1,-6.6374840425316533e-1,-6.6385010901083831e-1,-6.6697138057993834e-1,-6.6127681274251698e-1,-6.701552493360118e-1,-6.7151495321114281e-1,-6.6232337768062367e-1,-6.6238141404102029e-1,-6.7188103353225574e-1,-6.9166981453688079e-1,-6.7741034798667521e-1,-6.6697138057993835e-1,-6.6182666413360099e-1,-6.618676425359838e-1,-6.6717408191320761e-1,-6.7802679317569223e-1,-6.9493936451089207e-1,-7.0730710128699976e-1,-7.0712903354419646e-1,-6.9669266604408597e-1,-6.8470113008548866e-1,-6.7529258549765671e-1,-6.6833787749214765e-1,-6.6374840425316624e-1,-6.6147357855472264e-1,-6.6149968688665693e-1,-6.6385010901083774e-1,-6.6858695265486354e-1,-6.758142592245991e-1,-6.8568305894101976e-1};
-        c2_ = new double[]{6.2980247760742859e-1,6.6270322260104682e-1,6.6180348663174259e-1,6.6120103816412534e-1,6.6126401100978656e-1,6.6126412588828401e-1,6.6385010877089435e-1,6.6575151919636121e-1,6.6591475771097022e-1,6.6186764253600189e-1,6.637484042531656e-1,6.638501090108383e-1,6.6697138057993835e-1,6.6127681274251698e-1,6.701552493360118e-1,6.7151495321114281e-1,6.6232337768062367e-1,6.6238141404102029e-1,6.7188103353225574e-1,6.9166981453688079e-1,6.7741034798667521e-1,6.6697138057993835e-1,6.6182666413360099e-1,6.618676425359838e-1,6.6717408191320761e-1,6.7802679317569223e-1,6.9493936451089207e-1,7.0730710128699976e-1,7.0712903354419646e-1,6.9669266604408597e-1,6.8470113008548866e-1,6.7529258549765671e-1,6.6833787749214765e-1,6.6374840425316624e-1,6.6147357855472264e-1,6.6149968688665693e-1,6.6385010901083774e-1,6.6858695265486354e-1,6.758142592245991e-1,6.8568305894101976e-1};
-        c3_ = new double[]{6.1878232899490017e-1,6.6321834970696019e-1,6.6178128320776205e-1,6.6120199683796105e-1,6.6126396957788217e-1,6.6126412767871943e-1,6.6385010869322005e-1,6.6575151919972743e-1,6.6591475771082471e-1,6.6186764253600814e-1,6.6374840425316533e-1,6.6385010901083831e-1,6.6697138057993834e-1,6.6127681274251698e-1,6.701552493360118e-1,6.7151495321114281e-1,6.6232337768062367e-1,6.6238141404102029e-1,6.7188103353225574e-1,6.9166981453688079e-1,6.7741034798667521e-1,6.6697138057993835e-1,6.6182666413360099e-1,6.618676425359838e-1,6.6717408191320761e-1,6.7802679317569223e-1,6.9493936451089207e-1,7.0730710128699976e-1,7.0712903354419646e-1,6.9669266604408597e-1,6.8470113008548866e-1,6.7529258549765671e-1,6.6833787749214765e-1,6.6374840425316624e-1,6.6147357855472264e-1,6.6149968688665693e-1,6.6385010901083774e-1,6.6858695265486354e-1,6.758142592245991e-1,6.8568305894101976e-1};
-        c4_ = new double[]{-6.2980247760742859e-1,-6.6270322260104682e-1,-6.6180348663174259e-1,-6.6120103816412534e-1,-6.6126401100978656e-1,-6.6126412588828401e-1,-6.6385010877089435e-1,-6.6575151919636121e-1,-6.6591475771097022e-1,-6.6186764253600189e-1,-6.637484042531656e-1,-6.638501090108383e-1,-6.6697138057993835e-1,-6.6127681274251698e-1,-6.701552493360118e-1,-6.7151495321114281e-1,-6.6232337768062367e-1,-6.6238141404102029e-1,-6.7188103353225574e-1,-6.9166981453688079e-1,-6.7741034798667521e-1,-6.6697138057993835e-1,-6.6182666413360099e-1,-6.618676425359838e-1,-6.6717408191320761e-1,-6.7802679317569223e-1,-6.9493936451089207e-1,-7.0730710128699976e-1,-7.0712903354419646e-1,-6.9669266604408597e-1,-6.8470113008548866e-1,-6.7529258549765671e-1,-6.6833787749214765e-1,-6.6374840425316624e-1,-6.6147357855472264e-1,-6.6149968688665693e-1,-6.6385010901083774e-1,-6.6858695265486354e-1,-6.758142592245991e-1,-6.8568305894101976e-1};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+    private static BoundaryTables createTables() {
+        double[] c1 = new double[]{-6.1878232899490017e-1,-6.6321834970696019e-1,-6.6178128320776205e-1,-6.6120199683796105e-1,-6.6126396957788217e-1,-6.6126412767871943e-1,-6.6385010869322005e-1,-6.6575151919972743e-1,-6.6591475771082471e-1,-6.6186764253600814e-1,-6.6374840425316533e-1,-6.6385010901083831e-1,-6.6697138057993834e-1,-6.6127681274251698e-1,-6.701552493360118e-1,-6.7151495321114281e-1,-6.6232337768062367e-1,-6.6238141404102029e-1,-6.7188103353225574e-1,-6.9166981453688079e-1,-6.7741034798667521e-1,-6.6697138057993835e-1,-6.6182666413360099e-1,-6.618676425359838e-1,-6.6717408191320761e-1,-6.7802679317569223e-1,-6.9493936451089207e-1,-7.0730710128699976e-1,-7.0712903354419646e-1,-6.9669266604408597e-1,-6.8470113008548866e-1,-6.7529258549765671e-1,-6.6833787749214765e-1,-6.6374840425316624e-1,-6.6147357855472264e-1,-6.6149968688665693e-1,-6.6385010901083774e-1,-6.6858695265486354e-1,-6.758142592245991e-1,-6.8568305894101976e-1};
+        double[] c2 = new double[]{6.2980247760742859e-1,6.6270322260104682e-1,6.6180348663174259e-1,6.6120103816412534e-1,6.6126401100978656e-1,6.6126412588828401e-1,6.6385010877089435e-1,6.6575151919636121e-1,6.6591475771097022e-1,6.6186764253600189e-1,6.637484042531656e-1,6.638501090108383e-1,6.6697138057993835e-1,6.6127681274251698e-1,6.701552493360118e-1,6.7151495321114281e-1,6.6232337768062367e-1,6.6238141404102029e-1,6.7188103353225574e-1,6.9166981453688079e-1,6.7741034798667521e-1,6.6697138057993835e-1,6.6182666413360099e-1,6.618676425359838e-1,6.6717408191320761e-1,6.7802679317569223e-1,6.9493936451089207e-1,7.0730710128699976e-1,7.0712903354419646e-1,6.9669266604408597e-1,6.8470113008548866e-1,6.7529258549765671e-1,6.6833787749214765e-1,6.6374840425316624e-1,6.6147357855472264e-1,6.6149968688665693e-1,6.6385010901083774e-1,6.6858695265486354e-1,6.758142592245991e-1,6.8568305894101976e-1};
+        double[] c3 = new double[]{6.1878232899490017e-1,6.6321834970696019e-1,6.6178128320776205e-1,6.6120199683796105e-1,6.6126396957788217e-1,6.6126412767871943e-1,6.6385010869322005e-1,6.6575151919972743e-1,6.6591475771082471e-1,6.6186764253600814e-1,6.6374840425316533e-1,6.6385010901083831e-1,6.6697138057993834e-1,6.6127681274251698e-1,6.701552493360118e-1,6.7151495321114281e-1,6.6232337768062367e-1,6.6238141404102029e-1,6.7188103353225574e-1,6.9166981453688079e-1,6.7741034798667521e-1,6.6697138057993835e-1,6.6182666413360099e-1,6.618676425359838e-1,6.6717408191320761e-1,6.7802679317569223e-1,6.9493936451089207e-1,7.0730710128699976e-1,7.0712903354419646e-1,6.9669266604408597e-1,6.8470113008548866e-1,6.7529258549765671e-1,6.6833787749214765e-1,6.6374840425316624e-1,6.6147357855472264e-1,6.6149968688665693e-1,6.6385010901083774e-1,6.6858695265486354e-1,6.758142592245991e-1,6.8568305894101976e-1};
+        double[] c4 = new double[]{-6.2980247760742859e-1,-6.6270322260104682e-1,-6.6180348663174259e-1,-6.6120103816412534e-1,-6.6126401100978656e-1,-6.6126412588828401e-1,-6.6385010877089435e-1,-6.6575151919636121e-1,-6.6591475771097022e-1,-6.6186764253600189e-1,-6.637484042531656e-1,-6.638501090108383e-1,-6.6697138057993835e-1,-6.6127681274251698e-1,-6.701552493360118e-1,-6.7151495321114281e-1,-6.6232337768062367e-1,-6.6238141404102029e-1,-6.7188103353225574e-1,-6.9166981453688079e-1,-6.7741034798667521e-1,-6.6697138057993835e-1,-6.6182666413360099e-1,-6.618676425359838e-1,-6.6717408191320761e-1,-6.7802679317569223e-1,-6.9493936451089207e-1,-7.0730710128699976e-1,-7.0712903354419646e-1,-6.9669266604408597e-1,-6.8470113008548866e-1,-6.7529258549765671e-1,-6.6833787749214765e-1,-6.6374840425316624e-1,-6.6147357855472264e-1,-6.6149968688665693e-1,-6.6385010901083774e-1,-6.6858695265486354e-1,-6.758142592245991e-1,-6.8568305894101976e-1};
+        double[] c5 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
 
-        cv_ = new double[]{4.730040744862704,7.8532046240958375,1.099560783800167e1,1.4137165491257464e1,1.7278759657399481e1,2.0420352245626061e1,2.3561944902040455e1,2.6703537555508186e1,2.9845130209103254e1,3.2986722862692819e1,3.6128315516282622e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2,1.2409290981679683e2,1.2723450247038662e2};
+        double[] cv = new double[]{4.730040744862704,7.8532046240958375,1.099560783800167e1,1.4137165491257464e1,1.7278759657399481e1,2.0420352245626061e1,2.3561944902040455e1,2.6703537555508186e1,2.9845130209103254e1,3.2986722862692819e1,3.6128315516282622e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2,1.2409290981679683e2,1.2723450247038662e2};
 
-        IX_ = new double[]{-5.2327864589070146e-1,0,-2.4074386535343494e-1,0,-1.5308135136764901e-1,0,-1.1269869468809952e-1,-1e-189,-8.9249368730542149e-2,0,-7.3487888352173125e-2,0,-6.2904765700813602e-2,0,-5.5049559004287942e-2,0,-4.8188360906601857e-2,0,-4.3870025705169224e-2,0,-4.0116541538113603e-2,0,-3.5858037469576917e-2,0,-3.3312644090755788e-2,0,-3.2175428366850599e-2,0,-3.052015758436706e-2,0,-2.7675827147609491e-2,0,-2.5401618354249761e-2,0,-2.372434698629166e-2,0,-2.2539738948515924e-2,0,-2.1784137714953412e-2,0};
+        double[] IX = new double[]{-5.2327864589070146e-1,0,-2.4074386535343494e-1,0,-1.5308135136764901e-1,0,-1.1269869468809952e-1,-1e-189,-8.9249368730542149e-2,0,-7.3487888352173125e-2,0,-6.2904765700813602e-2,0,-5.5049559004287942e-2,0,-4.8188360906601857e-2,0,-4.3870025705169224e-2,0,-4.0116541538113603e-2,0,-3.5858037469576917e-2,0,-3.3312644090755788e-2,0,-3.2175428366850599e-2,0,-3.052015758436706e-2,0,-2.7675827147609491e-2,0,-2.5401618354249761e-2,0,-2.372434698629166e-2,0,-2.2539738948515924e-2,0,-2.1784137714953412e-2,0};
 
-        IXX_ =   new double[][] {{3.9665116080045559e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IXX = new double[][] {{3.9665116080045559e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,4.3917556124581262e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,4.3798385491793109e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,0,4.3718681286931714e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -99,7 +101,7 @@ public class Boundary_CC_200 extends Boundary{
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.5672491297129363e-1,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.7016125731871398e-1}};
 
-        IXdX_ =  new double[][] {{0,-1.394864360716068,0,-3.7766766032624265e-1,0,-1.7927703265104099e-1,0,-1.053480320723407e-1,0,-6.8596280339230835e-2,0,-4.8536202818147937e-2,0,-3.5927098884675124e-2,0,-2.8173595851079502e-2,0,-2.2105895072932476e-2,0,-1.8798712563729837e-2,0,-1.5047877278678735e-2,0,-1.2594169824415418e-2,0,-1.1027676146144079e-2,0,-9.9459449487995864e-3,0,-8.553985486984365e-3,0,-7.3021647927295068e-3,0,-6.3692932551374057e-3,0,-5.67112919876672e-3,0,-5.1518335608099927e-3,0,-4.7746173585541179e-3},
+        double[][] IXdX = new double[][] {{0,-1.394864360716068,0,-3.7766766032624265e-1,0,-1.7927703265104099e-1,0,-1.053480320723407e-1,0,-6.8596280339230835e-2,0,-4.8536202818147937e-2,0,-3.5927098884675124e-2,0,-2.8173595851079502e-2,0,-2.2105895072932476e-2,0,-1.8798712563729837e-2,0,-1.5047877278678735e-2,0,-1.2594169824415418e-2,0,-1.1027676146144079e-2,0,-9.9459449487995864e-3,0,-8.553985486984365e-3,0,-7.3021647927295068e-3,0,-6.3692932551374057e-3,0,-5.67112919876672e-3,0,-5.1518335608099927e-3,0,-4.7746173585541179e-3},
                                  {1.394864360716068,0,-2.4192476608739638,0,-7.5646988825802227e-1,0,-3.9586174910505286e-1,0,-2.4561878238818263e-1,0,-1.666409062885935e-1,0,-1.2138182491769488e-1,0,-9.2471749463114005e-2,0,-7.1676697185074444e-2,0,-5.8552252741835013e-2,0,-4.8557624061720976e-2,0,-3.9707019949735908e-2,0,-3.3993983966419863e-2,0,-3.0444884349755301e-2,0,-2.6920317678555367e-2,0,-2.286126788235847e-2,0,-1.9729817914262871e-2,0,-1.7388800477539768e-2,0,-1.5639368838366386e-2,0,-1.434971504629858e-2,0},
                                  {0,2.4192476608739638,0,-3.3399982131061184,0,-1.1082613361309227,0,-6.1531852734856576e-1,0,-3.94226148079309e-1,0,-2.7725888299597613e-1,0,-2.0468305409502256e-1,0,-1.6029712946259612e-1,0,-1.2568376991656963e-1,0,-1.068361062731272e-1,0,-8.5497675131377153e-2,0,-7.1544734840849994e-2,0,-6.2639034992380412e-2,0,-5.6490428557373544e-2,0,-4.8581917840053422e-2,0,-4.1470708558331979e-2,0,-3.6171713475754415e-2,0,-3.2206120342285556e-2,0,-2.9256601700927713e-2,0,-2.7114111298160593e-2},
                                  {3.7766766032624265e-1,0,3.3399982131061184,0,-4.2428452040719269,0,-1.4523692567194865,0,-8.3225032801050126e-1,0,-5.5050307895376401e-1,0,-3.9690186889150359e-1,0,-3.0092402538740743e-1,0,-2.3267269193058144e-1,0,-1.8980385762050138e-1,0,-1.5727424581582322e-1,0,-1.2854089325699645e-1,0,-1.1000910919842068e-1,0,-9.8501190202815578e-2,0,-8.7083986864499338e-2,0,-7.3945084167156869e-2,0,-6.3811115705599888e-2,0,-5.6236255066841712e-2,0,-5.0576178621676899e-2,0,-4.6403931103791789e-2,0},
@@ -140,7 +142,7 @@ public class Boundary_CC_200 extends Boundary{
                                  {0,1.434971504629858e-2,0,4.6403931103791789e-2,0,9.6882066785187865e-2,0,1.6703420927748828e-1,0,2.5412465075815264e-1,0,3.6307025519646732e-1,0,4.906831320032215e-1,0,6.5339417604101872e-1,0,8.2526071175965245e-1,0,1.0860213822557831,0,1.3076988559114232,0,1.6158064741395296,0,2.0690655855134104,0,2.7308726535468028,0,3.4843787068878195,0,4.5626689259890598,0,6.5484699038558801,0,1.1272459570297418e1,0,3.5226191822055808e1,0,-3.7054177413419382e1},
                                  {4.7746173585541179e-3,0,2.7114111298160593e-2,0,6.6919296416383097e-2,0,1.2502790937353156e-1,0,2.0159789886176085e-1,0,2.9548472718614545e-1,0,4.1159787881595047e-1,0,5.5025107495964812e-1,0,7.0284473695671429e-1,0,9.0293327379698312e-1,0,1.1375510730405924,0,1.3785894177197163,0,1.7213829213466415,0,2.2320609784909046,0,2.8642782361172836,0,3.5834571815848168,0,4.7160358270737119,0,6.8051263698450492,0,1.1782541537422522e1,0,3.7054177413419382e1,0}};
 
-        IXdX2_ = new double[][] {{-4.8798479576847673,0,4.0558474760465271,0,3.1715677329474325,0,2.5537392020236339,0,2.1248753207733357,0,1.8051316045973125,0,1.5787443452291917,0,1.4034451599477677,0,1.2432951102475882,0,1.1425760766359282,0,1.0527843534059322,0,9.4693841345596913e-1,0,8.8435057141828188e-1,0,8.5798379249234099e-1,0,8.1697960326288532e-1,0,7.4332311981058897e-1,0,6.842481842865398e-1,0,6.4072994861242629e-1,0,6.1014819613498742e-1,0,5.9092005208641506e-1,0},
+        double[][] IXdX2 = new double[][] {{-4.8798479576847673,0,4.0558474760465271,0,3.1715677329474325,0,2.5537392020236339,0,2.1248753207733357,0,1.8051316045973125,0,1.5787443452291917,0,1.4034451599477677,0,1.2432951102475882,0,1.1425760766359282,0,1.0527843534059322,0,9.4693841345596913e-1,0,8.8435057141828188e-1,0,8.5798379249234099e-1,0,8.1697960326288532e-1,0,7.4332311981058897e-1,0,6.842481842865398e-1,0,6.4072994861242629e-1,0,6.1014819613498742e-1,0,5.9092005208641506e-1,0},
                                  {0,-2.0224087359463326e1,0,7.5055515542461244,0,6.6585927834794799,0,5.7958434156353356,0,5.0134983142610433,0,4.4281724860414978,0,3.9310084134159251,0,3.5953825146236427,0,3.2235651594676912,0,3.0836973191031125,0,2.7425498492410392,0,2.5248075364976513,0,2.4116988425324397,0,2.3563622061756724,0,2.1824580733884921,0,1.9961362840355279,0,1.8571939382881438,0,1.7569675826390971,0,1.6899708897342299,0,1.653243850687741},
                                  {4.0558474760465271,0,-4.3318706188149019e1,0,1.0656157231016384e1,0,1.0097847412317499e1,0,9.189970302847751,0,8.2518923696389753,0,7.4906329797467361,0,6.8380986724683291,0,6.1791454726926081,0,5.7663986023701081,0,5.3785195271552603,0,4.8860988012757358,0,4.6009276677686217,0,4.4948615304753687,0,4.3054988806747386,0,3.9374356835462339,0,3.6407315753016665,0,3.4225981285030099,0,3.2706071583421486,0,3.1773961869061935,0},
                                  {0,7.5055515542461244,0,-7.5014985950322929e1,0,1.3674955833912584e1,0,1.3460543132269507e1,0,1.2544283400933276e1,0,1.1633072067635054e1,0,1.068299016234886e1,0,1.0015589489412221e1,0,9.1498480963766096,0,8.8821639141201888,0,7.9929716735868403,0,7.4295366230989266,0,7.1538077311515341,0,7.0371656065759087,0,6.5556985547101386,0,6.0261671807064727,0,5.6313240145596247,0,5.3480133659008882,0,5.1617226749888024,0,5.0650101972870267},
@@ -181,7 +183,7 @@ public class Boundary_CC_200 extends Boundary{
                                  {5.9092005208641506e-1,0,3.1773961869061935,0,7.4065419661734211,0,1.30250797914338e1,0,1.9693170606903312e1,0,2.6950183031393036e1,0,3.4880883876912681e1,0,4.3086816459410087e1,0,5.0524815188770866e1,0,5.9136735598993821e1,0,6.726231071386006e1,0,7.2778670808852345e1,0,8.0016039842672665e1,0,8.9735976885072355e1,0,9.7243232424181336e1,0,9.9348074556078048e1,0,1.0150431394553552e2,0,1.0443431973215246e2,0,1.0830758951319138e2,0,-6.9197772460717938e3,0},
                                  {0,1.653243850687741,0,5.0650101972870267,0,9.9867015274957353,0,1.6203046675044294e1,0,2.3104191862137791e1,0,3.0793587757457131e1,0,3.8613649125885299e1,0,4.7404612681097801e1,0,5.478475361105754e1,0,6.5369839215180417e1,0,7.0578775376029577e1,0,7.7111355828177438e1,0,8.5754620085947643e1,0,9.5965019806065145e1,0,1.0037794175804094e2,0,1.0242565365943862e2,0,1.051939064372664e2,0,1.0883688641610764e2,0,1.1355941419487069e2,0,-7.4916198167973745e3}};
 
-        IdXdX_ = new double[][] {{4.8798479576847673,0,-4.0558474760465271,0,-3.1715677329474325,0,-2.5537392020236339,0,-2.1248753207733357,0,-1.8051316045973125,0,-1.5787443452291917,0,-1.4034451599477677,0,-1.2432951102475882,0,-1.1425760766359282,0,-1.0527843534059322,0,-9.4693841345596913e-1,0,-8.8435057141828188e-1,0,-8.5798379249234099e-1,0,-8.1697960326288532e-1,0,-7.4332311981058897e-1,0,-6.842481842865398e-1,0,-6.4072994861242629e-1,0,-6.1014819613498742e-1,0,-5.9092005208641506e-1,0},
+        double[][] IdXdX = new double[][] {{4.8798479576847673,0,-4.0558474760465271,0,-3.1715677329474325,0,-2.5537392020236339,0,-2.1248753207733357,0,-1.8051316045973125,0,-1.5787443452291917,0,-1.4034451599477677,0,-1.2432951102475882,0,-1.1425760766359282,0,-1.0527843534059322,0,-9.4693841345596913e-1,0,-8.8435057141828188e-1,0,-8.5798379249234099e-1,0,-8.1697960326288532e-1,0,-7.4332311981058897e-1,0,-6.842481842865398e-1,0,-6.4072994861242629e-1,0,-6.1014819613498742e-1,0,-5.9092005208641506e-1,0},
                                  {0,2.0224087359463326e1,0,-7.5055515542461244,0,-6.6585927834794799,0,-5.7958434156353356,0,-5.0134983142610433,0,-4.4281724860414978,0,-3.9310084134159251,0,-3.5953825146236427,0,-3.2235651594676912,0,-3.0836973191031125,0,-2.7425498492410392,0,-2.5248075364976513,0,-2.4116988425324397,0,-2.3563622061756724,0,-2.1824580733884921,0,-1.9961362840355279,0,-1.8571939382881438,0,-1.7569675826390971,0,-1.6899708897342299,0,-1.653243850687741},
                                  {-4.0558474760465271,0,4.3318706188149019e1,0,-1.0656157231016384e1,0,-1.0097847412317499e1,0,-9.189970302847751,0,-8.2518923696389753,0,-7.4906329797467361,0,-6.8380986724683291,0,-6.1791454726926081,0,-5.7663986023701081,0,-5.3785195271552603,0,-4.8860988012757358,0,-4.6009276677686217,0,-4.4948615304753687,0,-4.3054988806747386,0,-3.9374356835462339,0,-3.6407315753016665,0,-3.4225981285030099,0,-3.2706071583421486,0,-3.1773961869061935,0},
                                  {0,-7.5055515542461244,0,7.5014985950322929e1,0,-1.3674955833912584e1,0,-1.3460543132269507e1,0,-1.2544283400933276e1,0,-1.1633072067635054e1,0,-1.068299016234886e1,0,-1.0015589489412221e1,0,-9.1498480963766096,0,-8.8821639141201888,0,-7.9929716735868403,0,-7.4295366230989266,0,-7.1538077311515341,0,-7.0371656065759087,0,-6.5556985547101386,0,-6.0261671807064727,0,-5.6313240145596247,0,-5.3480133659008882,0,-5.1617226749888024,0,-5.0650101972870267},
@@ -222,7 +224,7 @@ public class Boundary_CC_200 extends Boundary{
                                  {-5.9092005208641506e-1,0,-3.1773961869061935,0,-7.4065419661734211,0,-1.30250797914338e1,0,-1.9693170606903312e1,0,-2.6950183031393036e1,0,-3.4880883876912681e1,0,-4.3086816459410087e1,0,-5.0524815188770866e1,0,-5.9136735598993821e1,0,-6.726231071386006e1,0,-7.2778670808852345e1,0,-8.0016039842672665e1,0,-8.9735976885072355e1,0,-9.7243232424181336e1,0,-9.9348074556078048e1,0,-1.0150431394553552e2,0,-1.0443431973215246e2,0,-1.0830758951319138e2,0,6.9197772460717938e3,0},
                                  {0,-1.653243850687741,0,-5.0650101972870267,0,-9.9867015274957353,0,-1.6203046675044294e1,0,-2.3104191862137791e1,0,-3.0793587757457131e1,0,-3.8613649125885299e1,0,-4.7404612681097801e1,0,-5.478475361105754e1,0,-6.5369839215180417e1,0,-7.0578775376029577e1,0,-7.7111355828177438e1,0,-8.5754620085947643e1,0,-9.5965019806065145e1,0,-1.0037794175804094e2,0,-1.0242565365943862e2,0,-1.051939064372664e2,0,-1.0883688641610764e2,0,-1.1355941419487069e2,0,7.4916198167973745e3}};
 
-        IdXdX2_ = new double[][]{{0,-5.0946547980054986e1,0,-2.481253799595915e1,0,-1.7013211675440083e1,0,-1.3073553409393361e1,0,-1.0515699281903628e1,0,-8.857763941028582,0,-7.6056869168481167,0,-6.7869479264177792,0,-5.9707395214319026,0,-5.6263955507642349,0,-4.9431757454433254,0,-4.5048872109238019,0,-4.2665630698733097,0,-4.1384642081292183,0,-3.8090497136228773,0,-3.4648407872069621,0,-3.2081793025495999,0,-3.0221129950583066,0,-2.8958152166454133,0,-2.8232015792176571},
+        double[][] IdXdX2 = new double[][]{{0,-5.0946547980054986e1,0,-2.481253799595915e1,0,-1.7013211675440083e1,0,-1.3073553409393361e1,0,-1.0515699281903628e1,0,-8.857763941028582,0,-7.6056869168481167,0,-6.7869479264177792,0,-5.9707395214319026,0,-5.6263955507642349,0,-4.9431757454433254,0,-4.5048872109238019,0,-4.2665630698733097,0,-4.1384642081292183,0,-3.8090497136228773,0,-3.4648407872069621,0,-3.2081793025495999,0,-3.0221129950583066,0,-2.8958152166454133,0,-2.8232015792176571},
                                  {5.0946547980054986e1,0,-2.090592393949481e2,0,-1.0272793227948857e2,0,-7.3305918561389191e1,0,-5.7612857608442298e1,0,-4.7316618135933337e1,0,-4.0459607800077941e1,0,-3.5389547503248218e1,0,-3.0970646505975955e1,0,-2.8191128269616554e1,0,-2.5776866708022007e1,0,-2.3039306045591176e1,0,-2.1403090267878525e1,0,-2.067194114994797e1,0,-1.96081415770922e1,0,-1.7780546444300823e1,0,-1.6319322376553328e1,0,-1.5241658082989544e1,0,-1.448053899040671e1,0,-1.3995055017678688e1,0},
                                  {0,2.090592393949481e2,0,-5.1917512662391074e2,0,-2.4883420814150493e2,0,-1.8066476554695216e2,0,-1.4298460165563081e2,0,-1.1971540149217749e2,0,-1.0251901736177789e2,0,-9.1361712943770729e1,0,-8.0316628865989554e1,0,-7.5653052619113872e1,0,-6.6449446488134404e1,0,-6.054779152466743e1,0,-5.7338387651965396e1,0,-5.5612737516890245e1,0,-5.118338903118922e1,0,-4.6556396772955335e1,0,-4.310649594611873e1,0,-4.0605589512625726e1,0,-3.890802201075114e1,0,-3.7931930114139454e1},
                                  {2.481253799595915e1,0,5.1917512662391074e2,0,-1.0364126267741734e3,0,-4.8378361453934928e2,0,-3.5114818224569083e2,0,-2.8117094269363253e2,0,-2.379741348759746e2,0,-2.071578548149929e2,0,-1.8084075331629112e2,0,-1.6438133021915865e2,0,-1.5017889879647977e2,0,-1.3415968199255859e2,0,-1.2458956592202698e2,0,-1.2030592490942053e2,0,-1.1409672110463184e2,0,-1.0345052659581875e2,0,-9.494104102979517e1,0,-8.8666096546797492e1,0,-8.4234523667867001e1,0,-8.140755536437711e1,0},
@@ -263,7 +265,7 @@ public class Boundary_CC_200 extends Boundary{
                                  {0,1.3995055017678688e1,0,8.140755536437711e1,0,2.455011856055225e2,0,5.5350454612884612e2,0,1.0402385277495257e3,0,1.7692838956171471e3,0,2.7737414206184923e3,0,4.2029676216375118e3,0,5.9519563771299396e3,0,8.6793874949774519e3,0,1.1470625553427079e4,0,1.5433067983772823e4,0,2.1375533958242962e4,0,3.0341926329862808e4,0,4.1430677141922156e4,0,5.7809492775121218e4,0,8.8075632761860814e4,0,1.6040148763802303e5,0,5.28716989751062e5,0,-5.850446884470482e5},
                                  {2.8232015792176571,0,3.7931930114139454e1,0,1.4711901165169067e2,0,3.7482021135890277e2,0,7.6553380841708914e2,0,1.3582748122322651e3,0,2.221067028164739e3,0,3.4091598606392797e3,0,4.9164566521104027e3,0,7.0379315296825755e3,0,9.7760661812501669e3,0,1.294963630652338e4,0,1.7545770273432684e4,0,2.4535421176776205e4,0,3.3774737913456209e4,0,4.5119839060945954e4,0,6.3150482242378858e4,0,9.6564904657868373e4,0,1.7661395491715333e5,0,5.850446884470482e5,0}};
 
-        IdX2dX2_ =new double[][]{{1.9854925268014778e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IdX2dX2 = new double[][]{{1.9854925268014778e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,1.67042053204691e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,6.4022859945934662e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,0,1.746290218119865e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -303,5 +305,7 @@ public class Boundary_CC_200 extends Boundary{
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,9.5666129432103554e7,0,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.0830352075438615e8,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,1.2321580613713889e8}};
+
+        return new BoundaryTables(c1, c2, c3, c4, c5, cv, IX, IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2);
     }
 }
\ No newline at end of file
@@ -37,28 +37,30 @@ package de.elamx.clt.plate.Boundary;
  */
 public class Boundary_CF_200 extends Boundary{
 
+    // gemeinsam genutzte, unveränderliche Konstanten und Integrale
+    private static final BoundaryTables TABLES = createTables();
+
     /**
      * @see Boundary
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
      */
     public Boundary_CF_200 (double length, int m){
-        super(length, m);
+        super(length, TABLES);
     }
 
-    @Override
-    protected void initArrays() {
-        c1_ = new double[]{3.6704775687945637e-1,5.092336593796097e-1,4.9961224825871414e-1,5.0001677662585669e-1,4.9999927505432504e-1,5.0000003132781422e-1,4.9999999864620252e-1,5.0000000005850289e-1,4.9999999999747186e-1,5.0000000000010925e-1,4.9999999999999527e-1,5.000000000000002e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1};
-        c2_ = new double[]{-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1};
-        c3_ = new double[]{-3.6704775687945637e-1,-5.092336593796097e-1,-4.9961224825871414e-1,-5.0001677662585669e-1,-4.9999927505432504e-1,-5.0000003132781422e-1,-4.9999999864620252e-1,-5.0000000005850289e-1,-4.9999999999747186e-1,-5.0000000000010925e-1,-4.9999999999999527e-1,-5.000000000000002e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
-        c4_ = new double[]{4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+    private static BoundaryTables createTables() {
+        double[] c1 = new double[]{3.6704775687945637e-1,5.092336593796097e-1,4.9961224825871414e-1,5.0001677662585669e-1,4.9999927505432504e-1,5.0000003132781422e-1,4.9999999864620252e-1,5.0000000005850289e-1,4.9999999999747186e-1,5.0000000000010925e-1,4.9999999999999527e-1,5.000000000000002e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1};
+        double[] c2 = new double[]{-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-4.9999999999999999e-1,-4.9999999999999999e-1};
+        double[] c3 = new double[]{-3.6704775687945637e-1,-5.092336593796097e-1,-4.9961224825871414e-1,-5.0001677662585669e-1,-4.9999927505432504e-1,-5.0000003132781422e-1,-4.9999999864620252e-1,-5.0000000005850289e-1,-4.9999999999747186e-1,-5.0000000000010925e-1,-4.9999999999999527e-1,-5.000000000000002e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
+        double[] c4 = new double[]{4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,5e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
+        double[] c5 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
 
-        cv_ = new double[]{1.8751040687119611,4.6940911329741745,7.8547574382376125,1.0995540734875466e1,1.413716839104647e1,1.7278759532088236e1,2.042035225104125e1,2.3561944901806443e1,2.6703537555518298e1,2.9845130209102817e1,3.2986722862692838e1,3.6128315516282621e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2,1.2409290981679683e2};
+        double[] cv = new double[]{1.8751040687119611,4.6940911329741745,7.8547574382376125,1.0995540734875466e1,1.413716839104647e1,1.7278759532088236e1,2.042035225104125e1,2.3561944901806443e1,2.6703537555518298e1,2.9845130209102817e1,3.2986722862692838e1,3.6128315516282621e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2,1.2409290981679683e2};
 
-        IX_ = new double[]{3.9149587801981286e-1,2.1696794755535963e-1,1.2721264843305285e-1,9.0949010818524292e-2,7.0735420449683668e-2,5.7874528596716499e-2,4.8970751581497043e-2,4.2441318163015394e-2,3.7448221903778933e-2,3.3506303808827637e-2,3.0315227255598816e-2,2.7679120537720939e-2,2.5464790894703253e-2,2.3578510087688197e-2,2.1952405943709701e-2,2.0536121689276817e-2,1.9291508253563071e-2,1.8189136353359466e-2,1.7205939793718414e-2,1.632358390686106e-2,1.552731152116052e-2,1.4805110985292589e-2,1.4147106052612918e-2,1.3545101539735773e-2,1.2992240252399619e-2,1.2482740634658457e-2,1.2011693818256251e-2,1.1574904952137842e-2,1.1168767936273356e-2,1.0790165633348836e-2,1.0436389710943956e-2,1.010507575186637e-2,9.794150344116636e-3,9.5017876472773334e-3,9.2263735125736426e-3,8.966475667149033e-3,8.7208187995559088e-3,8.4882636315677512e-3,8.2677892515270304e-3,8.0584781312352068e-3};
+        double[] IX = new double[]{3.9149587801981286e-1,2.1696794755535963e-1,1.2721264843305285e-1,9.0949010818524292e-2,7.0735420449683668e-2,5.7874528596716499e-2,4.8970751581497043e-2,4.2441318163015394e-2,3.7448221903778933e-2,3.3506303808827637e-2,3.0315227255598816e-2,2.7679120537720939e-2,2.5464790894703253e-2,2.3578510087688197e-2,2.1952405943709701e-2,2.0536121689276817e-2,1.9291508253563071e-2,1.8189136353359466e-2,1.7205939793718414e-2,1.632358390686106e-2,1.552731152116052e-2,1.4805110985292589e-2,1.4147106052612918e-2,1.3545101539735773e-2,1.2992240252399619e-2,1.2482740634658457e-2,1.2011693818256251e-2,1.1574904952137842e-2,1.1168767936273356e-2,1.0790165633348836e-2,1.0436389710943956e-2,1.010507575186637e-2,9.794150344116636e-3,9.5017876472773334e-3,9.2263735125736426e-3,8.966475667149033e-3,8.7208187995559088e-3,8.4882636315677512e-3,8.2677892515270304e-3,8.0584781312352068e-3};
 
-        IXX_ =   new double[][] {{2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IXX = new double[][] {{2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,0,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -99,7 +101,7 @@ public class Boundary_CF_200 extends Boundary{
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.5e-1}};
 
-        IXdX_ =  new double[][] {{5e-1,-1.1898652573931245,9.4608432544067085e-1,-1.0299526199059948,9.8271171068360794e-1,-1.0119170995117971,9.9163862449448987e-1,-1.0063736430012273,9.9509344107058332e-1,-1.003962976471014,9.9677914368380412e-1,-1.0027010136579122,9.9772520677863751e-1,-1.0019585435040943,9.9830846979102803e-1,-1.0014850191970384,9.9869318171225616e-1,-1.0011646096888728,9.9896018583430243e-1,-1.0009377538475825,9.9915301583988587e-1,-1.0007712744029617,9.9929679740244217e-1,-1.0006454989328324,9.994068546063415e-1,-1.000548161644839,9.9949296376125756e-1,-1.0004712921984265,9.9956159969222577e-1,-1.0004095291262987,9.99617188440414e-1,-1.0003591582541678,9.9966283861203905e-1,-1.0003175406117575,9.9970078535228765e-1,-1.0002827594214291,9.9973266909895045e-1,-1.0002533952710902,9.9975971581836311e-1,-1.0002283789059252},
+        double[][] IXdX = new double[][] {{5e-1,-1.1898652573931245,9.4608432544067085e-1,-1.0299526199059948,9.8271171068360794e-1,-1.0119170995117971,9.9163862449448987e-1,-1.0063736430012273,9.9509344107058332e-1,-1.003962976471014,9.9677914368380412e-1,-1.0027010136579122,9.9772520677863751e-1,-1.0019585435040943,9.9830846979102803e-1,-1.0014850191970384,9.9869318171225616e-1,-1.0011646096888728,9.9896018583430243e-1,-1.0009377538475825,9.9915301583988587e-1,-1.0007712744029617,9.9929679740244217e-1,-1.0006454989328324,9.994068546063415e-1,-1.000548161644839,9.9949296376125756e-1,-1.0004712921984265,9.9956159969222577e-1,-1.0004095291262987,9.99617188440414e-1,-1.0003591582541678,9.9966283861203905e-1,-1.0003175406117575,9.9970078535228765e-1,-1.0002827594214291,9.9973266909895045e-1,-1.0002533952710902,9.9975971581836311e-1,-1.0002283789059252},
                                  {1.8986525739312456e-1,4.9999999999999999e-1,-1.5555466186378499,8.4584409296396532e-1,-1.123911074301308,9.3126894158897256e-1,-1.055789695902964,9.6182518793538574e-1,-1.0318857814670459,9.7585965669861762e-1,-1.0206685215102969,9.8339888269848604e-1,-1.0144955063361453,9.8789825576457899e-1,-1.0107325653777557,9.9079290172772076e-1,-1.0082682095372246,9.9276276506281804e-1,-1.0065660184116456,9.9416297370050991e-1,-1.0053408316418132,9.9519344544904778e-1,-1.0044295307910048,9.9597361409671069e-1,-1.0037332703359786,9.9657835948340568e-1,-1.0031892930678028,9.9705654304822301e-1,-1.0027561885191029,9.9744113995318334e-1,-1.0024057314786375,9.9775505287436225e-1,-1.0021181440488425,9.9801458835896241e-1,-1.0018792323181124,9.9823161060939008e-1,-1.0016785951074261,9.9841491770755435e-1,-1.0015084692295552,9.9857114516196953e-1},
                                  {5.3915674559329144e-2,5.5554661863784993e-1,5e-1,-2.0420999127738333,7.6411537571194459e-1,-1.2604815203921115,8.7111184246742817e-1,-1.1250277835033915,9.2036768837596121e-1,-1.0744205557822525,9.4634190098511267e-1,-1.0496134607469141,9.6153115513353175e-1,-1.0355186286927722,9.7112610097662036e-1,-1.0267148195686173,9.7755401409085746e-1,-1.0208375350727788,9.8206251752436344e-1,-1.0167145867135047,9.8534298547841894e-1,-1.0137088853496388,9.8780249808694563e-1,-1.0114491738629342,9.8969295619989683e-1,-1.0097069049345072,9.9117681877625415e-1,-1.0083349934450634,9.9236258355382214e-1,-1.0072352357937799,9.9332490491247932e-1,-1.0063400026576057,9.9411649173938066e-1,-1.0056014710649341,9.947754046464452e-1,-1.0049850406278335,9.9532967573781268e-1,-1.0044651716466952,9.9580031601875681e-1,-1.0040226768075832},
                                  {2.9952619905994849e-2,1.5415590703603467e-1,1.0420999127738333,4.9999999999999999e-1,-2.5312255503762455,7.1176595644866278e-1,-1.4083298235781372,8.2116877943447149e-1,-1.2041651662576336,8.8048844708444858e-1,-1.1249991417754193,9.1522538701123113e-1,-1.085068881105663,9.3701835502512069e-1,-1.061868285927849,9.5148543023349828e-1,-1.047115083525683,9.6153868723877362e-1,-1.0371209771631712,9.6878999344627762e-1,-1.0300243210647041,9.7418350438543306e-1,-1.0247974157594488,9.7829950954580064e-1,-1.0208332035400272,9.8150954472239962e-1,-1.0177535129156182,9.8405995259500413e-1,-1.0153124051178452,9.8611906370901052e-1,-1.0133441440538401,9.8780495156718802e-1,-1.0117336440247392,9.8920235694465556e-1,-1.0103989172000112,9.9037333912868799e-1,-1.0092802458676107,9.9136416927411412e-1,-1.0083332820517292,9.9220990408811372e-1},
@@ -140,7 +142,7 @@ public class Boundary_CF_200 extends Boundary{
                                  {2.4028418163688331e-4,1.5084692295552057e-3,4.1996839812431898e-3,8.3332820517292915e-3,1.3477540164828741e-2,2.0833333179095429e-2,2.7714004598815083e-2,3.9446002804641866e-2,4.6477967192039941e-2,6.4834770114941517e-2,6.9230769230769267e-2,9.796296296296296e-2,9.5361611229783338e-2,1.4019230769230769e-1,1.242245199409158e-1,1.9343800322061191e-1,1.5517241379310344e-1,2.6041666666666666e-1,1.8758563990134283e-1,3.4505444646098003e-1,2.2089356110381077e-1,4.5318627450980392e-1,2.5458888609504651e-1,5.9381720430107526e-1,2.8823529411764705e-1,7.8155048076923076e-1,3.2146944380865186e-1,1.0416666666666666,3.539986925256047e-1,1.4219771241830065,3.8559585492227979e-1,2.0249999999999999,4.1609218042150876e-1,3.1173611111111111,4.4536950420954162e-1,5.6768018018018018,4.7335228282110499e-1,1.850328947368421e1,4.9999999999999999e-1,-2.0003205128205128e1},
                                  {2.2837890592529868e-4,1.4288548380304663e-3,4.0226768075832029e-3,7.7900959118862791e-3,1.3149353381982861e-2,1.9019176224325385e-2,2.7832674579391268e-2,3.4797401793665807e-2,4.8555107526901e-2,5.4680399878823841e-2,7.6034482758620736e-2,7.813884785819793e-2,1.1128917378917378e-1,1.0459110473457675e-1,1.5574074074074074e-1,1.3343515690086087e-1,2.1137422360248447e-1,1.6407714974551299e-1,2.8099343185550082e-1,1.9595465086317959e-1,3.6864035087719298e-1,2.2855377008652657e-1,4.8031309297912713e-1,2.6142011834319526e-1,6.2526041666666666e-1,2.9416421624066953e-1,8.1847319347319347e-1,3.2646233541981437e-1,1.0858957219251336,3.5805389837481999e-1,1.4765873015873015,3.8873653281096963e-1,2.0957341269841269,4.1835973904939422e-1,3.2168918918918918,4.4681794008154582e-1,5.8432017543859649,4.7404348558907803e-1,1.9003205128205128e1,4.9999999999999999e-1}};
 
-        IXdX2_ = new double[][] {{2.1456090500287491e-1,-2.9358095927961391,6.8632871747078522,-9.3475625664632224,1.2989153208471687e1,-1.5717158014666909e1,1.9205787561011313e1,-2.2045817154156675e1,2.5452532193569826e1,-2.835669141265357e1,3.1712689441906718e1,-3.4658449255540106e1,3.7979996305925411e1,-4.0954940098569749e1,4.4251567686332647e1,-4.7248120321195542e1,5.0525887853518726e1,-5.3539086345891053e1,5.6802083697114559e1,-5.9828499417635602e1,6.3079616640591368e1,-6.6116781686382618e1,6.93581363640605e1,-7.2404215180177692e1,7.5637405133376176e1,-7.8690995428588628e1,8.1917255923230844e1,-8.4977262234258911e1,8.8197567942118534e1,-9.126311819101678e1,9.4478251667272147e1,-9.7548640282800641e1,1.0075923933993347e2,-1.0383388740091826e2,1.0704047872944805e2,-1.1011890536163262e2,1.1332192892553236e2,-1.1640373034243137e2,1.1960355742860112e2,-1.2268839128914005e2},
+        double[][] IXdX2 = new double[][] {{2.1456090500287491e-1,-2.9358095927961391,6.8632871747078522,-9.3475625664632224,1.2989153208471687e1,-1.5717158014666909e1,1.9205787561011313e1,-2.2045817154156675e1,2.5452532193569826e1,-2.835669141265357e1,3.1712689441906718e1,-3.4658449255540106e1,3.7979996305925411e1,-4.0954940098569749e1,4.4251567686332647e1,-4.7248120321195542e1,5.0525887853518726e1,-5.3539086345891053e1,5.6802083697114559e1,-5.9828499417635602e1,6.3079616640591368e1,-6.6116781686382618e1,6.93581363640605e1,-7.2404215180177692e1,7.5637405133376176e1,-7.8690995428588628e1,8.1917255923230844e1,-8.4977262234258911e1,8.8197567942118534e1,-9.126311819101678e1,9.4478251667272147e1,-9.7548640282800641e1,1.0075923933993347e2,-1.0383388740091826e2,1.0704047872944805e2,-1.1011890536163262e2,1.1332192892553236e2,-1.1640373034243137e2,1.1960355742860112e2,-1.2268839128914005e2},
                                  {4.684633327429601e-1,-3.3235713467806026,-2.2605549365177899,7.6002918235463823,-8.4272644859769218,1.3493879963496413e1,-1.4854630243063792e1,1.9557399060272737e1,-2.126564033168355e1,2.5700108632382774e1,-2.7646111136705135e1,3.1885813216378069e1,-3.4003277703809519e1,3.8097415389356459e1,-4.034391910511658e1,4.4325812275771619e1,-4.6672764714312266e1,5.0565716816947886e1,-5.2993002414353227e1,5.6813849330177677e1,-5.9306806031046977e1,6.3068067847228812e1,-6.5615691321539143e1,6.9326914316192819e1,-7.1920740688214413e1,7.5589361889860017e1,-7.8222744772487477e1,8.185466652817344e1,-8.4522293158209436e1,8.812227592597994e1,-9.0819833753635544e1,9.4391771498812965e1,-9.7115712554874183e1,1.0066283022809912e2,-1.0341020085674851e2,1.0693519886365496e2,-1.0970351425508589e2,1.1320867605393827e2,-1.1599582616702556e2,1.1948309970052912e2},
                                  {3.9112661289088375e-1,8.0733269976007921e-1,-1.147605665408454e1,-2.0838422588242899,9.0966412999952177,-7.8150879541756003,1.4754776634980048e1,-1.4141671579927113e1,2.0640756872048271e1,-2.0571559472364368e1,2.664907375042838e1,-2.700325125622013e1,3.273072998277394e1,-3.341663329187253e1,3.8859822799347672e1,-3.981017106671061e1,4.5021365262645299e1,-4.6186438785468064e1,5.1206082915852829e1,-5.2548503691194538e1,5.7407928479615478e1,-5.8899055027875295e1,6.3622790389323609e1,-6.5240269251355901e1,6.9847775615874685e1,-7.1573865058438464e1,7.6080789366163446e1,-7.7901193217326834e1,8.2320277529994664e1,-8.4223318967461276e1,8.8565062805980491e1,-9.0541088229841683e1,9.481423702452523e1,-9.6855178415860782e1,1.0106708839927842e2,-1.0316613679911746e2,1.0732305116620073e2,-1.0947440940578308e2,1.1358166996441129e2,-1.1578036283305301e2},
                                  {2.7184161988571195e-1,1.3851605627365471,1.0634013657076759,-2.4729552537805134e1,-1.9572377000574763,1.0558636256143639e1,-7.3061145487276676,1.6064506383883272e1,-1.3430498446415115e1,2.1809493885434214e1,-1.9791743951276652e1,2.7697988352564675e1,-2.6218482050826031e1,3.3679346880189575e1,-3.2654608253966649e1,3.9724245941233625e1,-3.9081874913426013e1,4.5814531856953647e1,-4.549517602719642e1,5.1938364923692941e1,-5.1894072254708288e1,5.8087694001109729e1,-5.8279708593805637e1,6.4256853406447001e1,-6.4653656026631108e1,7.0441740370758696e1,-7.101747925671185e1,7.6639310886138793e1,-7.7372588467183927e1,8.2847258875589439e1,-8.372020323670306e1,8.9063805359137536e1,-9.0061359339793e1,9.5287555997172031e1,-9.6396930021255138e1,1.0151740246588895e2,-1.0272765019411776e2,1.0775245269806253e2,-1.0905413911561292e2,1.1399198059127701e2},
@@ -181,7 +183,7 @@ public class Boundary_CF_200 extends Boundary{
                                  {2.8745750066621694e-2,1.747125859698411e-1,4.7901884769376193e-1,9.0126837657264248e-1,1.4794715304515164,2.0734511162335421,2.9496064382183444,3.5607099054249531,4.829363174941828,5.2288288538042633,7.0685834705770634,6.9481833185541976,9.6249774926157881,8.5995082775118626,1.2462638781457623e1,1.0078174517023976e1,1.5550883635269476e1,1.1296822898182475e1,1.8863334836686083e1,1.218642766390489e1,2.2377191740188315e1,1.2696024926753403e1,2.6072643948849718e1,1.2791431872290218e1,2.9932396671702752e1,1.2453302742770419e1,3.394128370743742e1,1.1674837564016123e1,3.8085949744452381e1,1.0459400238503149e1,4.2354587913071089e1,8.8182328444822414,4.6736721695129846e1,6.7683861691133527,5.1223022684044539e1,4.3309303281894661,5.5805157503266693e1,1.5294667367528636,-3.5968296222970719e3,-1.6110665366519227},
                                  {2.8013042984240373e-2,1.709682939439292e-1,4.6388093725431771e-1,8.9498044550164767e-1,1.4087976145571173,2.1118483591287114,2.7333326431326747,3.7598848246375474,4.310188144495973,5.7863007548256218,6.0128447241484615,8.1465809497500015,7.7212898382359104,1.0802929455032826e1,9.3267418161148549,1.3723047909544505e1,1.0734989248903622e1,1.6879171055471476e1,1.1868284782924174e1,2.0247298415720658e1,1.2665908579021005e1,2.3806577116752162e1,1.3083635022964993e1,2.7538802268967671e1,1.3092392897365934e1,3.1428009584565585e1,1.2676413141562262e1,3.5460140959362405e1,1.1831125378993216e1,3.9622768214297356e1,1.0561011481235553e1,4.3904863528513694e1,8.877565710865482,4.8296607609467746e1,6.7974562005730801,5.2789228555820492e1,4.340937057298187,5.7374865832605801e1,1.5305261169378705,-3.7877161117915195e3}};
 
-        IdXdX_ = new double[][] {{1.1619445796696598,-1.8449688174154948,9.8537887178165102e-1,-1.6483471045582467,1.1479946852166202,-1.5616026000328643,1.2145646347398954,-1.5161277504066515,1.2510053618134522,-1.4884387964557679,1.2740334207858081,-1.4698662607425297,1.2899118639470037,-1.456560724892459,1.3015257907193541,-1.4465658094462522,1.3103909307128617,-1.4387850919303282,1.3173803942966154,-1.4325573273653657,1.3230327579993924,-1.4274603657979364,1.327698341709847,-1.4232121791824487,1.3316148795737582,-1.4196172379510992,1.3349493968986766,-1.4165357394604025,1.337822685190573,-1.4138650898821198,1.3403242672165461,-1.4115283052778454,1.342521901734803,-1.4094664943398113,1.3444678193998143,-1.4076338408050358,1.3462029304950876,-1.4059941671858752,1.347759734605913,-1.4045185276567751},
+        double[][] IdXdX = new double[][] {{1.1619445796696598,-1.8449688174154948,9.8537887178165102e-1,-1.6483471045582467,1.1479946852166202,-1.5616026000328643,1.2145646347398954,-1.5161277504066515,1.2510053618134522,-1.4884387964557679,1.2740334207858081,-1.4698662607425297,1.2899118639470037,-1.456560724892459,1.3015257907193541,-1.4465658094462522,1.3103909307128617,-1.4387850919303282,1.3173803942966154,-1.4325573273653657,1.3230327579993924,-1.4274603657979364,1.327698341709847,-1.4232121791824487,1.3316148795737582,-1.4196172379510992,1.3349493968986766,-1.4165357394604025,1.337822685190573,-1.4138650898821198,1.3403242672165461,-1.4115283052778454,1.342521901734803,-1.4094664943398113,1.3444678193998143,-1.4076338408050358,1.3462029304950876,-1.4059941671858752,1.347759734605913,-1.4045185276567751},
                                  {-1.8449688174154948,8.1043497569922367,-5.5881111099717132,3.3956178474750868,-5.7098834077113862,3.7848806512033603,-5.5657219526874164,4.0045458442905896,-5.4378972236997278,4.1450215767265638,-5.3406117259873912,4.2425022999045674,-5.2666304660628951,4.3140854341057492,-5.2091743719354215,4.3688738548701753,-5.1635140699193215,4.412154620873495,-5.1264616770579478,4.4472074148232909,-5.0958433675437836,4.4761742049517423,-5.0701433842312041,4.500513043167322,-5.0482793247355204,4.5212507766797104,-5.0294605476420431,4.5391314455458736,-5.0130974690996706,4.5547073549189604,-4.9987421808531489,4.5683970892655219,-4.9860486867940966,4.580523667158946,-4.9747456920993523,4.5913403387826924,-4.964617600941562,4.6010484556789691,-4.9554909961814751,4.6098101162677048},
                                  {9.8537887178165102e-1,-5.5881111099717132,1.9324722700574043e1,-8.9120674121971792,5.0405065936930903,-9.4636726605241731,5.6655755607711601,-9.4202733246362136,6.0627806833350067,-9.2735707367449703,6.3376491122641466,-9.125064260062506,6.5391781870984747,-8.9948675315896786,6.6932706777043293,-8.8845150639311846,6.8149135215862894,-8.7914326523533175,6.9133811755583451,-8.71255305380643,6.9947209189752831,-8.645187024305259,7.063044316446738,-8.5871581080042391,7.1212443970752493,-8.5367476081012628,7.1714159539660744,-8.4926047563924799,7.2151130973144424,-8.4536643134376235,7.2535131285082021,-8.4190803582368039,7.28752421714305,-8.3881754793972912,7.3178581495694426,-8.3604024033201967,7.3450806898267209,-8.3353151038341636,7.3696471987957412,-8.3125469837438209},
                                  {-1.6483471045582467,3.3956178474750868,-8.9120674121971792,3.5725462208826603e1,-1.2179910193630831e1,6.7201243585561336,-1.311423764702354e1,7.4974385206800553,-1.3273039108968163e1,8.0356363236751235,-1.3194978911415874e1,8.4303271637179609,-1.3051426119046383e1,8.7321539432726337,-1.2898485223085352e1,8.9704401894081692,-1.2754403870805574e1,9.1633395808677339,-1.2624288064214754e1,9.3226918213080263,-1.2508577143882472e1,9.4565480510708254,-1.240612611196471e1,9.5705739529131392,-1.2315363986318825e1,9.6688722957810313,-1.223472606341767e1,9.7544870875805201,-1.216280216012518e1,9.8297244053094609,-1.2098372697785633e1,9.8963632289409504,-1.2040401901875279e1,9.9557978980860419,-1.1988016527592728e1,1.0009136736548704e1,-1.1940481661909688e1,1.0057271811554713e1,-1.1897178047594111e1,1.0100929225519821e1},
@@ -222,7 +224,7 @@ public class Boundary_CF_200 extends Boundary{
                                  {1.347759734605913,-4.9554909961814751,7.3696471987957412,-1.1897178047594111e1,1.2657676363236791e1,-1.9352211730933315e1,1.7470745757532864e1,-2.712265480998828e1,2.187417438044145e1,-3.5073959062913601e1,2.5918139392115463e1,-4.3076498834836834e1,2.9644930677256626e1,-5.1011009100974071e1,3.3090454695594378e1,-5.8772860647665771e1,3.6285395148962111e1,-6.6274694336003857e1,3.9256129254725091e1,-7.3447484408905858e1,4.2025457658402445e1,-8.0240266978933957e1,4.4613190756920629e1,-8.6618859231650359e1,4.7036623341247182e1,-9.2563915409310147e1,4.93109216126921e1,-9.8068635537735437e1,5.1449440882856725e1,-1.0313638351940204e2,5.3463988021417604e1,-1.0777840143256072e2,5.5365039546538433e1,-1.1201174006437142e2,5.7161923864803326e1,-1.1585746953062712e2,5.8862974352760759e1,-1.1933919124637011e2,3.7177809394602789e3,-1.2248184328014491e2},
                                  {-1.4045185276567751,4.6098101162677048,-8.3125469837438209,1.0100929225519821e1,-1.5545945508245425e1,1.5166912255571062e1,-2.3153684838883883e1,1.9802060079925779e1,-3.1013725699879251e1,2.4058829454283716e1,-3.8999567586840988e1,2.7981734566532635e1,-4.6991198008108325e1,3.1608571368429382e1,-5.4879835293166856e1,3.4971638221097289e1,-6.257126803313521e1,3.8098700382349904e1,-6.9987748874335349e1,4.1013758329280309e1,-7.7068557977611766e1,4.3737664935428391e1,-8.376946972873534e1,4.6288625090392469e1,-9.0061412910315868e1,4.8682603081974142e1,-9.5928618461691783e1,5.0933657014356909e1,-1.0136651600630232e2,5.3054215066601544e1,-1.0637958741572424e2,5.5055305059564792e1,-1.1097932695253376e2,5.6946746285790327e1,-1.1518240274942094e2,5.8737310646617167e1,-1.1900906891332564e2,6.0434858677011444e1,-1.2248184328014491e2,3.9118090216083163e3}};
 
-        IdXdX2_ = new double[][]{{9.4738367466678493e-1,-7.830226856370325,1.0221241369346696e1,-1.5589290728473677e1,1.9123433895661241e1,-2.4067748728724438e1,2.7873699176669912e1,-3.2639863687184266e1,3.6577212741928587e1,-4.1244792365221248e1,4.5260157435716393e1,-4.9865148096228972e1,5.3932279475834965e1,-5.8494002607402108e1,6.2598017164317053e1,-6.7128041146246636e1,7.1259676748088461e1,-7.5765476135002936e1,7.9918574123595807e1,-8.4405257806644742e1,8.8575514470512357e1,-9.3046728895641219e1,9.7231017942790053e1,-1.0168945677175026e2,1.0588543546451666e2,-1.1033314497932979e2,1.1453901234294908e2,-1.1897758354501191e2,1.231919252056278e2,-1.2762261957360063e2,1.3184430445504255e2,-1.362681390809896e2,1.4049624845705756e2,-1.4491405535260282e2,1.4914783280706475e2,-1.5356030124651754e2,1.5779911655670392e2,-1.6220682396485377e2,1.6645014650372917e2,-1.7085358141662971e2},
+        double[][] IdXdX2 = new double[][]{{9.4738367466678493e-1,-7.830226856370325,1.0221241369346696e1,-1.5589290728473677e1,1.9123433895661241e1,-2.4067748728724438e1,2.7873699176669912e1,-3.2639863687184266e1,3.6577212741928587e1,-4.1244792365221248e1,4.5260157435716393e1,-4.9865148096228972e1,5.3932279475834965e1,-5.8494002607402108e1,6.2598017164317053e1,-6.7128041146246636e1,7.1259676748088461e1,-7.5765476135002936e1,7.9918574123595807e1,-8.4405257806644742e1,8.8575514470512357e1,-9.3046728895641219e1,9.7231017942790053e1,-1.0168945677175026e2,1.0588543546451666e2,-1.1033314497932979e2,1.1453901234294908e2,-1.1897758354501191e2,1.231919252056278e2,-1.2762261957360063e2,1.3184430445504255e2,-1.362681390809896e2,1.4049624845705756e2,-1.4491405535260282e2,1.4914783280706475e2,-1.5356030124651754e2,1.5779911655670392e2,-1.6220682396485377e2,1.6645014650372917e2,-1.7085358141662971e2},
                                  {1.2494591537099694,1.1427921103772839e1,-5.8368360726449628e1,4.4465184514099493e1,-7.5961296106609271e1,7.6928332997452564e1,-1.0307165795002368e2,1.0834425727055665e2,-1.3173435252727741e2,1.3923853865714008e2,-1.6096168405657487e2,1.6985410142002571e2,-1.9046212607845891e2,2.0030623797180301e2,-2.2011657580705374e2,2.3065510544009784e2,-2.4986677166457477e2,2.6093480753954122e2,-2.7968068858592191e2,2.9116601525854177e2,-3.0953921007299808e2,3.2136195012069408e2,-3.3943019848202341e2,3.5153144754549341e2,-3.6934556744723649e2,3.8168062964265496e2,-3.9927971743374545e2,4.1181386926937987e2,-4.292286458212343e2,4.4193437148055102e2,-4.5918941435275476e2,4.7204453807091039e2,-4.8915981675000159e2,5.0214620387458936e2,-5.1913816376265063e2,5.3224079443797339e2,-5.4912313987128875e2,5.623294339325213e2,-5.791137052087335e2,5.9241302068519715e2},
                                  {5.8249049100920438e-1,2.084562754243151e1,3.0800779354658584e1,-1.7623980392599164e2,8.4784524867597277e1,-1.7094048091489704e2,1.3961529449403635e2,-2.0805120458066778e2,1.9289723940779263e2,-2.5167706303673274e2,2.4500959481543326e2,-2.9762743075871463e2,2.9635966622086512e2,-3.4469692407630849e2,3.472077035719621e2,-3.9239842194661144e2,3.9771358973901652e2,-4.4049441077656942e2,4.4797789770469181e2,-4.8885424311476318e2,4.9806613487027214e2,-5.373997207702252e2,5.4802246470334365e2,-5.8608100982923516e2,5.9787760623817549e2,-6.3486477317825845e2,6.4765352508177819e2,-6.8372782837217016e2,6.9736631289917569e2,-7.326535351384548e2,7.4702801162585456e2,-7.8162962891436972e2,7.966478031100583e2,-8.3064686512004083e2,8.4623280552117058e2,-8.796981398727803e2,8.9578861923201401e2,-9.2877790202759935e2,9.4531970901125739e2,-9.7788174951059847e2},
                                  {4.5336075734885732e-1,8.1038230417572575,8.9936581040779878e1,6.0455014746631737e1,-3.9348103993746951e2,1.352324646876189e2,-3.1622686895953251e2,2.1275252787284953e2,-3.5357864069079978e2,2.889537289986613e2,-4.0805859176445091e2,3.6358581807129214e2,-4.6854181731984895e2,4.3698135096862549e2,-5.3188738330209113e2,5.0946561392863385e2,-5.9684202615344609e2,5.8128062513079823e2,-6.6279951688376724e2,6.5259732904899887e2,-7.2942791016639479e2,7.235362050215438e2,-7.965289701568235e2,7.9418327035886316e2,-8.6397645650313452e2,8.6460102079243522e2,-9.3168589415556268e2,9.3483569794720456e2,-9.9959848375796128e2,1.0049221224096469e3,-1.0676719615012112e3,1.0748869465935868e3,-1.1358751264740579e3,1.1447508792139492e3,-1.2041844187305271e3,1.214530232602477e3,-1.2725817003412258e3,1.2842380172883521e3,-1.3410527712323582e3,1.3538847288989845e3},
@@ -263,7 +265,7 @@ public class Boundary_CF_200 extends Boundary{
                                  {4.000494979261024e-2,8.7225942821342938e-1,3.9867872857888023,1.108301311466492e1,2.3045335670368869e1,4.3539350829653309e1,6.8449946829250337e1,1.1241512289594958e2,1.5011584169024131e2,2.3404105950096788e2,2.7621606317125422e2,4.280753569259342e2,4.5294353810881272e2,7.1914825018516452e2,6.844406644696811e2,1.1392891819087e3,9.728792372780713e2,1.7316786367796758e3,1.3186568417061251e3,2.5567173257176108e3,1.720669230598421e3,3.702334746203474e3,2.176619090419714e3,5.3025053229530333e3,2.6833277247944078e3,7.5728209729932126e3,3.2370249562375684e3,1.0884837145472248e4,3.8336017347058864e3,1.5939514924063778e4,4.46881803355964e3,2.4237959543277767e4,5.1384648504526716e3,3.9681894234953573e4,5.8384833526474447e3,7.6575979313476518e4,6.5650466321280552e3,2.6365783755480027e5,7.3146105617573509e3,-3.0023212427225129e5},
                                  {3.9010444834637843e-2,8.4768342728448035e-1,3.9179416214212156,1.0629698260726715e1,2.3068171240289545e1,4.0780379088592947e1,7.0528579739879984e1,1.0174308976608628e2,1.6089801526228524e2,2.0251263671537929e2,3.112409526862299e2,3.503173804688437e2,5.4232518396521887e2,5.5045948531939403e2,8.8037373876459726e2,8.0630399167992896e2,1.3596677938467543e3,1.1193940465791519e3,2.0265845990631138e3,1.4896595598424811e3,2.9461413042363429e3,1.9156831993904672e3,4.213119567296736e3,2.3949900319825366e3,5.9720558571951298e3,2.9243332554654901e3,8.4556534425449777e3,3.4999562687855633e3,1.2065069366663133e4,4.1178190984626408e3,1.7557222365925538e4,4.7737838580474064e3,2.6553170707252485e4,5.4637589573695774e3,4.3266563497229673e4,6.183805142773116e3,8.314585189928392e4,6.9302083511725998e3,2.8522292337929465e5,7.6995251333998358e3}};
 
-        IdX2dX2_ =new double[][]{{3.0905908420815475,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IdX2dX2 = new double[][]{{3.0905908420815475,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,1.2137970462834275e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,9.5163656659786276e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,0,3.6543183262796951e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -303,5 +305,7 @@ public class Boundary_CF_200 extends Boundary{
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.8157570640589583e7,0,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.3503527670172188e7,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.928268727985576e7}};
+
+        return new BoundaryTables(c1, c2, c3, c4, c5, cv, IX, IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2);
     }
 }
\ No newline at end of file
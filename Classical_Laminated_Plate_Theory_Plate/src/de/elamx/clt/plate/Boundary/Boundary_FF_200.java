@@ -37,28 +37,30 @@ package de.elamx.clt.plate.Boundary;
  */
 public class Boundary_FF_200 extends Boundary{
 
+    // gemeinsam genutzte, unveränderliche Konstanten und Integrale
+    private static final BoundaryTables TABLES = createTables();
+
     /**
      * @see Boundary
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
      */
     public Boundary_FF_200 (double length, int m){
-        super(length, m);
+        super(length, TABLES);
     }
     
-    @Override
-    protected void initArrays() {
-        c1_ = new double[]{0,-5.0813733833137493e-1,-4.9155730363562483e-1,-5.0000015093612584e-1,-4.9998322618829846e-1,-5.0000000000052555e-1,-4.9999996867219559e-1,-5e-1,-4.999999999414971e-1,-5e-1,-4.9999999999989074e-1,-5e-1,-4.9999999999999979e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
-        c2_ = new double[]{0,3.2948052946113072e-1,4.9999999999999999e-1,4.9961119346239487e-1,4.9999999999999999e-1,4.999992750506462e-1,4.9999999999999999e-1,4.9999999864620251e-1,4.9999999999999999e-1,4.9999999999747186e-1,4.9999999999999999e-1,4.9999999999999527e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
-        c3_ = new double[]{0,-5.0813733833137493e-1,-4.9155730363562483e-1,-5.0000015093612584e-1,-4.9998322618829846e-1,-5.0000000000052555e-1,-4.9999996867219559e-1,-5e-1,-4.999999999414971e-1,-5e-1,-4.9999999999989074e-1,-5e-1,-4.9999999999999979e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
-        c4_ = new double[]{0,3.2948052946113072e-1,4.9999999999999999e-1,4.9961119346239487e-1,4.9999999999999999e-1,4.999992750506462e-1,4.9999999999999999e-1,4.9999999864620251e-1,4.9999999999999999e-1,4.9999999999747186e-1,4.9999999999999999e-1,4.9999999999999527e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
-        c5_ = new double[]{1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+    private static BoundaryTables createTables() {
+        double[] c1 = new double[]{0,-5.0813733833137493e-1,-4.9155730363562483e-1,-5.0000015093612584e-1,-4.9998322618829846e-1,-5.0000000000052555e-1,-4.9999996867219559e-1,-5e-1,-4.999999999414971e-1,-5e-1,-4.9999999999989074e-1,-5e-1,-4.9999999999999979e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
+        double[] c2 = new double[]{0,3.2948052946113072e-1,4.9999999999999999e-1,4.9961119346239487e-1,4.9999999999999999e-1,4.999992750506462e-1,4.9999999999999999e-1,4.9999999864620251e-1,4.9999999999999999e-1,4.9999999999747186e-1,4.9999999999999999e-1,4.9999999999999527e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
+        double[] c3 = new double[]{0,-5.0813733833137493e-1,-4.9155730363562483e-1,-5.0000015093612584e-1,-4.9998322618829846e-1,-5.0000000000052555e-1,-4.9999996867219559e-1,-5e-1,-4.999999999414971e-1,-5e-1,-4.9999999999989074e-1,-5e-1,-4.9999999999999979e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1,-4.9999999999999999e-1,-5e-1};
+        double[] c4 = new double[]{0,3.2948052946113072e-1,4.9999999999999999e-1,4.9961119346239487e-1,4.9999999999999999e-1,4.999992750506462e-1,4.9999999999999999e-1,4.9999999864620251e-1,4.9999999999999999e-1,4.9999999999747186e-1,4.9999999999999999e-1,4.9999999999999527e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1,4.9999999999999999e-1};
+        double[] c5 = new double[]{1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
 
-        cv_ = new double[]{1,1.75,4.730040744862704,7.8532046240958375,1.099560783800167e1,1.4137165491257464e1,1.7278759657399481e1,2.0420352245626061e1,2.3561944902040455e1,2.6703537555508186e1,2.9845130209103254e1,3.2986722862692819e1,3.6128315516282622e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2};
+        double[] cv = new double[]{1,1.75,4.730040744862704,7.8532046240958375,1.099560783800167e1,1.4137165491257464e1,1.7278759657399481e1,2.0420352245626061e1,2.3561944902040455e1,2.6703537555508186e1,2.9845130209103254e1,3.2986722862692819e1,3.6128315516282622e1,3.9269908169872415e1,4.2411500823462208e1,4.5553093477052001e1,4.8694686130641795e1,5.1836278784231588e1,5.4977871437821381e1,5.8119464091411174e1,6.1261056745000968e1,6.4402649398590761e1,6.7544242052180554e1,7.0685834705770347e1,7.3827427359360141e1,7.6969020012949934e1,8.0110612666539727e1,8.325220532012952e1,8.6393797973719314e1,8.9535390627309107e1,9.26769832808989e1,9.5818575934488693e1,9.8960168588078487e1,1.0210176124166828e2,1.0524335389525807e2,1.0838494654884786e2,1.1152653920243765e2,1.1466813185602745e2,1.1780972450961724e2,1.2095131716320703e2};
 
-        IX_ = new double[]{1,-2.0182675470203813e-1,-3.6663525770202122e-3,-9.8941659358166504e-5,-3.0511557223205011e-6,-1.02559215727334e-7,-3.6261639112497487e-9,-1.3259296051813818e-10,-4.9658798284673188e-12,-1.8934863976545102e-13,-7.3211812061199827e-15,-2.8624579040370877e-16,-1.1294167216823786e-17,-4.4902000144798367e-19,-1.7966586704974132e-20,-7.2286132594443768e-22,-2.9222336690540124e-23,-1.186277628662559e-24,-4.8334349941270229e-26,-1.9758130451165293e-27,-8.1004027362511387e-29,-3.3297452507735994e-30,-1.3719871868257396e-31,-5.6653878054855659e-33,-2.3440557979036463e-34,-9.7161311751989631e-36,-4.034065259570928e-37,-1.677493601186582e-38,-6.985503241078054e-40,-2.912790023687627e-41,-1.2160618627424738e-42,-5.0827820958596554e-44,-2.1267401162897926e-45,-8.907693436736697e-47,-3.7344569919555537e-48,-1.567028230009563e-49,-6.5809896613483524e-51,-2.7659883290050537e-52,-1.1634174840635444e-53,-4.8969962398992434e-55};
+        double[] IX = new double[]{1,-2.0182675470203813e-1,-3.6663525770202122e-3,-9.8941659358166504e-5,-3.0511557223205011e-6,-1.02559215727334e-7,-3.6261639112497487e-9,-1.3259296051813818e-10,-4.9658798284673188e-12,-1.8934863976545102e-13,-7.3211812061199827e-15,-2.8624579040370877e-16,-1.1294167216823786e-17,-4.4902000144798367e-19,-1.7966586704974132e-20,-7.2286132594443768e-22,-2.9222336690540124e-23,-1.186277628662559e-24,-4.8334349941270229e-26,-1.9758130451165293e-27,-8.1004027362511387e-29,-3.3297452507735994e-30,-1.3719871868257396e-31,-5.6653878054855659e-33,-2.3440557979036463e-34,-9.7161311751989631e-36,-4.034065259570928e-37,-1.677493601186582e-38,-6.985503241078054e-40,-2.912790023687627e-41,-1.2160618627424738e-42,-5.0827820958596554e-44,-2.1267401162897926e-45,-8.907693436736697e-47,-3.7344569919555537e-48,-1.567028230009563e-49,-6.5809896613483524e-51,-2.7659883290050537e-52,-1.1634174840635444e-53,-4.8969962398992434e-55};
 
-        IXX_ =   new double[][] {{1,-2.0182675470203813e-1,-3.6663525770202122e-3,-9.8941659358166504e-5,-3.0511557223205011e-6,-1.02559215727334e-7,-3.6261639112497487e-9,-1.3259296051813818e-10,-4.9658798284673188e-12,-1.8934863976545102e-13,-7.3211812061199827e-15,-2.8624579040370877e-16,-1.1294167216823786e-17,-4.4902000144798367e-19,-1.7966586704974132e-20,-7.2286132594443768e-22,-2.9222336690540124e-23,-1.186277628662559e-24,-4.8334349941270229e-26,-1.9758130451165293e-27,-8.1004027362511387e-29,-3.3297452507735994e-30,-1.3719871868257396e-31,-5.6653878054855659e-33,-2.3440557979036463e-34,-9.7161311751989631e-36,-4.034065259570928e-37,-1.677493601186582e-38,-6.985503241078054e-40,-2.912790023687627e-41,-1.2160618627424738e-42,-5.0827820958596554e-44,-2.1267401162897926e-45,-8.907693436736697e-47,-3.7344569919555537e-48,-1.567028230009563e-49,-6.5809896613483524e-51,-2.7659883290050537e-52,-1.1634174840635444e-53,-4.8969962398992434e-55},
+        double[][] IXX = new double[][] {{1,-2.0182675470203813e-1,-3.6663525770202122e-3,-9.8941659358166504e-5,-3.0511557223205011e-6,-1.02559215727334e-7,-3.6261639112497487e-9,-1.3259296051813818e-10,-4.9658798284673188e-12,-1.8934863976545102e-13,-7.3211812061199827e-15,-2.8624579040370877e-16,-1.1294167216823786e-17,-4.4902000144798367e-19,-1.7966586704974132e-20,-7.2286132594443768e-22,-2.9222336690540124e-23,-1.186277628662559e-24,-4.8334349941270229e-26,-1.9758130451165293e-27,-8.1004027362511387e-29,-3.3297452507735994e-30,-1.3719871868257396e-31,-5.6653878054855659e-33,-2.3440557979036463e-34,-9.7161311751989631e-36,-4.034065259570928e-37,-1.677493601186582e-38,-6.985503241078054e-40,-2.912790023687627e-41,-1.2160618627424738e-42,-5.0827820958596554e-44,-2.1267401162897926e-45,-8.907693436736697e-47,-3.7344569919555537e-48,-1.567028230009563e-49,-6.5809896613483524e-51,-2.7659883290050537e-52,-1.1634174840635444e-53,-4.8969962398992434e-55},
                                  {-2.0182675470203813e-1,2.7369444836072131e-1,9.7133576574272963e-3,-1.1629527058863613e-3,4.0296552864193849e-4,-1.7465031550244098e-4,9.0979023215248821e-5,-5.3133088115923896e-5,3.3642043302280508e-5,-2.2613855065192156e-5,1.5917174323283692e-5,-1.1620446426474789e-5,8.7391489792145911e-6,-6.7358456065079212e-6,5.3003213250033682e-6,-4.2450271197432596e-6,3.4520561973105083e-6,-2.844764569106922e-6,2.3718689884319199e-6,-1.9981772706821162e-6,1.6989955817406555e-6,-1.4566505274138727e-6,1.258267600863224e-6,-1.0943177847883136e-6,9.576460515388845e-7,-8.4280925780935495e-7,7.4561688399499961e-7,-6.6280731787686443e-7,5.9181629951219684e-7,-5.3060903633407095e-7,4.7755695511114656e-7,-4.3134617382020462e-7,3.9090879886628494e-7,-3.5537083968038581e-7,3.2401235313313753e-7,-2.9623668031819939e-7,2.7154650753307653e-7,-2.4952509484265805e-7,2.2982145059572292e-7,-2.1213854285704482e-7},
                                  {-3.6663525770202122e-3,9.7133576574272963e-3,2.4819748706979564e-1,3.3822009580799955e-4,-1.7936422419037251e-4,9.4944861361744015e-5,-5.6281464987302157e-5,3.5926064898991672e-5,-2.4274792678057141e-5,1.7146670104156063e-5,-1.254986563122965e-5,9.4561351139179719e-6,-7.2992993166678563e-6,5.750522424077209e-6,-4.6100808881278977e-6,3.7519704134930904e-6,-3.0940555060037546e-6,2.5812554253659449e-6,-2.1757025329887513e-6,1.8507848801118745e-6,-1.5874315064309718e-6,1.3717343186340161e-6,-1.1933893254861663e-6,1.0446530305030876e-6,-9.1963019647887011e-7,8.1377921574061539e-7,-7.2356309325958018e-7,6.4619955921963604e-7,-5.7947974061995066e-7,5.2163494381049504e-7,-4.7123765544530346e-7,4.2712718599436958e-7,-3.8835326635165774e-7,3.5413286584966209e-7,-3.2381684566704772e-7,2.9686399811489334e-7,-2.7282068163755723e-7,2.5130473066763097e-7,-2.3199265694361721e-7,2.1460940391650238e-7},
                                  {-9.8941659358166504e-5,-1.1629527058863613e-3,3.3822009580799955e-4,2.4966081549244215e-1,-1.2708655125747716e-5,8.3680505484143849e-6,-5.283564516729893e-6,3.5364771596872144e-6,-2.4700331968387542e-6,1.7879134694665591e-6,-1.3332704418765364e-6,1.0194618132865164e-6,-7.9629287762343281e-7,6.3345287202332659e-7,-5.1195803787479637e-7,4.195314387591376e-7,-3.480059440871953e-7,2.9181080115829598e-7,-2.4706070275657933e-7,2.1099137179820372e-7,-1.8160061402212884e-7,1.5741460920818973e-7,-1.3733246973383307e-7,1.2052083510269931e-7,-1.0634112318578903e-7,9.4298502648630233e-8,-8.4005566061685691e-8,7.5156112600084548e-8,-6.7505986396177737e-8,6.0858906861068072e-8,-5.5055875938978347e-8,4.9967178768355966e-8,-4.5486285447780323e-8,4.1525160809168327e-8,-3.8010627083895317e-8,3.4881521055750311e-8,-3.2086455827496116e-8,2.9582046401081797e-8,-2.7331493756238891e-8,2.5303448009026456e-8},
@@ -99,7 +101,7 @@ public class Boundary_FF_200 extends Boundary{
                                  {-1.1634174840635444e-53,2.2982145059572292e-7,-2.3199265694361721e-7,-2.7331493756238891e-8,-2.2494441751484867e-9,-1.5598768864071529e-10,-9.7670059045727285e-12,-5.7133306633098391e-13,-3.18325630080871e-14,-1.7097783210824348e-15,-8.9243664104173285e-17,-4.5522211660084731e-18,-2.2785268669969937e-19,-1.1225500036199591e-20,-5.4564413047517675e-22,-2.6216815886737268e-23,-1.2470171609702124e-24,-5.8792654295124593e-26,-2.7502790361406252e-27,-1.2776366754959296e-28,-5.8983775724326368e-30,-2.7078519831192979e-31,-1.2368593640207417e-32,-5.6237305422099367e-34,-2.5463501373348442e-35,-1.1485787286389625e-36,-5.1629057570782461e-38,-2.3133690166277704e-39,-1.0335376627251314e-40,-4.6051140449140824e-42,-2.0468181493676033e-43,-9.0766650911486488e-45,-4.016587894351854e-46,-1.7739483823401481e-47,-7.820643233608964e-49,-3.44169097e-50,-1.5157090885349062e-51,0,2.4999999999999999e-1,5.6205314596390328e-53},
                                  {-4.8969962398992434e-55,-2.1213854285704482e-7,2.1460940391650238e-7,2.5303448009026456e-8,2.0842181222114285e-9,1.4465333653387841e-10,9.0654105339837364e-12,5.3078738603046619e-13,2.9602246018395002e-14,1.5915869971892587e-15,8.3161072291985486e-17,4.2465034840110059e-18,2.1278434891157494e-19,1.0494919316784159e-20,5.1071632465571472e-22,2.4567131460186297e-23,1.1699223678276095e-24,5.5223268920498438e-26,2.5863843076450251e-27,1.2029354133827527e-28,5.560145682847504e-30,2.5556178581768775e-31,1.1687085932861284e-32,5.3201241542029806e-34,2.4116936980805923e-35,1.0890957493768772e-36,4.9011099680112761e-38,2.1985335040922477e-39,9.8331971298958904e-41,4.3861238820346274e-42,1.951565678783232e-43,8.663324794793e-45,3.8376077824e-46,1.6966015e-47,7.4869e-49,3.2e-50,9.3405608986282886e-51,6.1295489644006537e-52,5.6205314596390328e-53,2.5e-1}};
 
-        IXdX_ =  new double[][] {{0,-1.6589610589222614,-1.7038550530711705e-2,-1.9992223869247897,-3.3548186200108267e-5,-1.9999985501012924,-6.2655610775093895e-8,-1.999999997292405,-1.1700578689481071e-10,-1.9999999999949437,-2.1850160638104275e-13,-1.9999999999999905,-4.0803923670306517e-16,-1.9999999999999999,-7.619899068328156e-19,-1.9999999999999999,-1.422972513149789e-21,-1.9999999999999999,-2.6573196771018241e-24,-1.9999999999999999,-4.9623923168284212e-27,-1.9999999999999999,-9.2669834639448024e-30,-1.9999999999999999,-1.7305560914601842e-32,-1.9999999999999999,-3.2317143948103066e-35,-1.9999999999999999,-6.0350415575445888e-38,-1.9999999999999999,-1.1270094492192302e-40,-1.9999999999999999,-2.1046256045106752e-43,-1.9999999999999999,-3.9302677881099927e-46,-1.9999999999999999,-7.3395500145720397e-49,-1.9999999999999999,-1.3706189328719819e-51,-1.9999999999999999},
+        double[][] IXdX = new double[][] {{0,-1.6589610589222614,-1.7038550530711705e-2,-1.9992223869247897,-3.3548186200108267e-5,-1.9999985501012924,-6.2655610775093895e-8,-1.999999997292405,-1.1700578689481071e-10,-1.9999999999949437,-2.1850160638104275e-13,-1.9999999999999905,-4.0803923670306517e-16,-1.9999999999999999,-7.619899068328156e-19,-1.9999999999999999,-1.422972513149789e-21,-1.9999999999999999,-2.6573196771018241e-24,-1.9999999999999999,-4.9623923168284212e-27,-1.9999999999999999,-9.2669834639448024e-30,-1.9999999999999999,-1.7305560914601842e-32,-1.9999999999999999,-3.2317143948103066e-35,-1.9999999999999999,-6.0350415575445888e-38,-1.9999999999999999,-1.1270094492192302e-40,-1.9999999999999999,-2.1046256045106752e-43,-1.9999999999999999,-3.9302677881099927e-46,-1.9999999999999999,-7.3395500145720397e-49,-1.9999999999999999,-1.3706189328719819e-51,-1.9999999999999999},
                                  {0,2.8288516141202593e-1,-1.6613347722430728,3.3832767601113977e-1,-1.6585723742298465,3.4044973180108824e-1,-1.6587686002249703,3.40835025904419e-1,-1.6588668291323034,3.4094582106993131e-1,-1.6589094640732537,3.4098890539062956e-1,-1.6589300504532097,3.4100902865565456e-1,-1.6589410548118397,3.41019658637079e-1,-1.6589474321882364,3.410257937644924e-1,-1.6589513708593694,3.4102957942233557e-1,-1.658953930265924,3.4103204069724937e-1,-1.6589556636671451,3.4103370958158565e-1,-1.6589568785501988,3.4103488092327373e-1,-1.6589577548872167,3.4103572713404781e-1,-1.658958402705817,3.4103635362619576e-1,-1.6589588918150621,3.4103682732236934e-1,-1.6589592679446737,3.4103719210252875e-1,-1.6589595618948727,3.4103747755351877e-1,-1.6589597949224456,3.4103770411870863e-1,-1.6589599820174839,3.4103788623184998e-1},
                                  {0,1.941226385152307e-2,-1.6893394428617897e-2,-2.2864238133339482,-1.6232961300501356e-2,-2.0087825406907903,-1.677705244857097e-2,-1.9889025626452158,-1.6925738991919674e-2,-1.985011932577675,-1.6980227847758898e-2,-1.9838512897788433,-1.7004628675780484e-2,-1.9834092312258126,-1.701712621471565e-2,-1.9832114102986833,-1.7024171602341778e-2,-1.9831121158652828,-1.7028439441619926e-2,-1.9830577955347679,-1.7031173299153045e-2,-1.9830260195045637,-1.7033004521729221e-2,-1.9830064065030391,-1.7034276755824237e-2,-1.9829937567350758,-1.703518793367073e-2,-1.9829852931771569,-1.7035857528706399e-2,-1.9829794517321987,-1.7036360559497643e-2,-1.9829753110777311,-1.7036745746088979e-2,-1.9829723073211113,-1.7037045664616127e-2,-1.9829700837074007,-1.7037282657840165e-2,-1.9829684079018164,-1.7037472396919319e-2,-1.9829671246881143},
                                  {0,3.223681802071113e-3,3.0423997693987024e-1,7.7731073416288852e-4,-2.7019941039436946,7.1295234508662015e-4,-2.0882584164776062,7.4982116466148603e-4,-2.0241735261999059,7.6356131541369259e-4,-2.0088385074736167,7.6960080980104225e-4,-2.0036876942683143,7.7263457334351581e-4,-2.0015704649585206,7.7431584799214589e-4,-2.0005724948969674,7.7531964395045983e-4,-2.0000528009156927,7.7595482882010041e-4,-1.999760792344552,7.7637590515324149e-4,-1.9995865707243201,7.7666586472461303e-4,-1.9994774477318138,7.7687195413842587e-4,-1.9994062960994693,7.770224000970755e-4,-1.9993583081501265,7.7713476625500887e-4,-1.9993249963099258,7.7722036771178118e-4,-1.9993012896632423,7.7728671613962046e-4,-1.999284048635868,7.7733893055741734e-4,-1.9992712682336319,7.7738058076633791e-4,-1.9992616327303988,7.77414207593246e-4},
@@ -140,7 +142,7 @@ public class Boundary_FF_200 extends Boundary{
                                  {0,-1.0769047775139376e-6,-1.078133792386246e-6,3.9245805609120698e-5,-2.4733176180610351e-8,4.1480303731770819e-4,-1.6876173702364242e-10,1.8069683601235638e-3,-7.5003709559952074e-13,5.2933247612831561e-3,-2.6634887755259438e-15,1.2369147708539118e-2,-8.2319337563194288e-18,2.4999999999999999e-2,-2.3141586488965279e-20,4.5729359231255437e-2,-6.0723109252968512e-23,7.7880973658453551e-2,-1.5120448726707459e-25,1.2592432880170113e-1,-3.6134084316823682e-28,1.9613217678209413e-1,-8.3542728267923083e-31,2.9779411764705882e-1,-1.8799047979558493e-33,4.455742935954426e-1,-4.1360354333914347e-36,6.6445752918382305e-1,-8.9291244031709851e-39,1.0012984817751552,-1.8969293141322134e-41,1.5561684817303767,-3.9748222084409118e-44,2.5889231327048585,-8.230768068813709e-47,5.0520111207394569,-1.6968957550993799e-49,1.7516889424571549e1,-1.3706189328719819e-51,-2.0016445090786512e1},
                                  {0,1.054845888562495e-6,5.6752188260206293e-6,1.9886761701149776e-7,1.3663660581493371e-4,2.0449911224655356e-9,8.3333350206462357e-4,1.0838865419624474e-11,2.8844168454529609e-3,4.250100315251677e-14,7.4420833104937191e-3,1.4007823356253188e-16,1.6049057729144451e-2,4.1213451782033409e-19,3.0699967650253021e-2,1.1191088358688914e-21,5.3960499592164891e-2,2.8625687631395488e-24,8.9183789954337899e-2,6.9913961562385759e-27,1.4089337263547668e-1,1.6458856091694289e-29,2.1546449513207185e-1,3.7605741657816816e-32,3.2237458940798114e-1,8.382663252980757e-35,4.7662668241049688e-1,1.8303276268587164e-37,7.0382882882882882e-1,3.9271331511776079e-40,1.0520515131309342,8.301074447179e-43,1.624009900990099,1.7322603e-45,2.6864722648834282,3.5e-48,5.2172758218564964,0,1.8016445090786512e1,0}};
 
-        IXdX2_ = new double[][] {{0,3.4267867723093841e-1,9.215368175173059,-6.0925361488719104e-3,2.1990109003152138e1,-2.0497368817406401e-5,3.4557516066965107e1,-5.5290042503300535e-8,4.7123889795810258e1,-1.3502052316327109e-10,5.9690260418186944e1,-3.1147088158197646e-13,7.2256631032565201e1,-6.9244527851065151e-16,8.4823001646924417e1,-1.499998206853867e-18,9.738937226128359e1,-3.187527748821411e-21,1.0995574287564276e2,-6.6740437723091109e-24,1.2252211349000193e2,-1.3810788537342818e-26,1.350884841043611e2,-2.8307037812067276e-29,1.4765485471872028e2,-5.7560596197735201e-32,1.6022122533307945e2,-1.1626590206364637e-34,1.7278759594743862e2,-2.3350632233945412e-37,1.853539665617978e2,-4.6666036407195192e-40,1.9792033717615697e2,-9.2860652178777184e-43,2.1048670779051614e2,-1.8408345458663928e-45,2.2305307840487531e2,-3.6369373302279353e-48,2.3561944901923449e2,-7.163924083450608e-51},
+        double[][] IXdX2 = new double[][] {{0,3.4267867723093841e-1,9.215368175173059,-6.0925361488719104e-3,2.1990109003152138e1,-2.0497368817406401e-5,3.4557516066965107e1,-5.5290042503300535e-8,4.7123889795810258e1,-1.3502052316327109e-10,5.9690260418186944e1,-3.1147088158197646e-13,7.2256631032565201e1,-6.9244527851065151e-16,8.4823001646924417e1,-1.499998206853867e-18,9.738937226128359e1,-3.187527748821411e-21,1.0995574287564276e2,-6.6740437723091109e-24,1.2252211349000193e2,-1.3810788537342818e-26,1.350884841043611e2,-2.8307037812067276e-29,1.4765485471872028e2,-5.7560596197735201e-32,1.6022122533307945e2,-1.1626590206364637e-34,1.7278759594743862e2,-2.3350632233945412e-37,1.853539665617978e2,-4.6666036407195192e-40,1.9792033717615697e2,-9.2860652178777184e-43,2.1048670779051614e2,-1.8408345458663928e-45,2.2305307840487531e2,-3.6369373302279353e-48,2.3561944901923449e2,-7.163924083450608e-51},
                                  {0,-1.5696041745885507e-1,-1.9065917271700234,9.8455755805447771,-4.0947914850760288,2.0243500593589547e1,-6.2360633778574104,3.066394052245427e1,-8.3784743731482149,4.1086604088629912e1,-1.05211546517957e1,5.1509814023373448e1,-1.2663910859300846e1,6.1933210001121842e1,-1.4806694929167849e1,7.2356683101922851e1,-1.6949491145033308e1,8.27801927847855e1,-1.9092293335208047e1,9.3203721614389071e1,-2.1235098739472302e1,1.0362726124776142e2,-2.3377905996875704e1,1.1405080735025685e2,-2.552071438337411e1,1.2447435751732766e2,-2.766352348952074e1,1.3489791034189974e2,-2.9806333071870188e1,1.453214649631723e2,-3.1949142979477713e1,1.5574502083437502e2,-3.4091953115358958e1,1.6616857759684497e2,-3.6234763415261502e1,1.7659213500865648e2,-3.8377573835468836e1,1.8701569290259337e2,-4.0520384345533262e1,1.9743925116056089e2},
                                  {0,-3.8535402630539025e-2,-3.1212673239509786,5.3517590151384751e-2,1.3033888524046871e1,1.5786563208970633e-1,2.5189199936416713e1,2.637162162286474e-1,3.7568074854216242e1,3.7037806137643511e-1,4.99979185402006e1,4.7727159648467542e-1,6.2444035498738803e1,5.8424916669172639e-1,7.4896590398849003e1,6.9126292008811791e-1,8.7352094116792707e1,7.9829427816901936e-1,9.980910008286514e1,9.0533501993629036e-1,1.1226693570909727e2,1.0123811297453138,1.2472525952905463e2,1.1194304884743023,1.3718388568016688e2,1.2264819061375124,1.4964270710999466e2,1.3335346795014756,1.6210165920085152e2,1.4405883748523017,1.7456070137864591e2,1.5476427148242085,1.8701980729294697e2,1.6546975164218946,1.9947895932482145e2,1.7617526555967372,2.1193814539009769e2,1.868808046236628,2.2439735701296711e2,1.9758636272946732},
                                  {0,2.4218173687155316e-2,7.0591427939688433e-3,-1.1491613898922423e1,-3.179529120296779e-3,1.3871763131490424e1,-7.6703678841386668e-3,2.567391864937598e1,-1.2382346433884202e-2,3.7957734521676432e1,-1.7197873118137683e-2,5.0397184712220318e1,-2.2050542823460315e-2,6.2897368991928364e1,-2.69188467542557e-2,7.5424881761036842e1,-3.1794597206138988e-2,8.796608371398516e1,-3.6674244055348661e-2,1.0051473384948191e2,-4.155608494104618e-2,1.1306771027768669e2,-4.6439235945793899e-2,1.2562333606074493e2,-5.1323207660363205e-2,1.3818065653032526e2,-5.6207714393118063e-2,1.5073910133561988e2,-6.109258182709587e-2,1.6329831558414575e2,-6.5977699531255691e-2,1.758580706421758e2,-7.0862995252867512e-2,1.8841821472831301e2,-7.5748420375539754e-2,2.0097864440728823e2,-8.06339413740601e-2,2.1353928754743868e2,-8.5519534623088863e-2,2.261000928086314e2},
@@ -181,7 +183,7 @@ public class Boundary_FF_200 extends Boundary{
                                  {0,-1.9728823575166506e-6,5.8311297202343921e-4,-1.6886063640618963e-6,1.6212060972883013e-2,-3.1175728424689623e-8,9.3080034916868522e-2,-2.3824062613426713e-10,3.02076216688125e-1,-1.2192068752000066e-12,7.2761176114563785e-1,-4.9533805815384852e-15,1.4577318713781999,-1.7311131962766289e-17,2.576069330136973,-5.4402103706605801e-20,4.1559379659482083,-1.5797585022644095e-22,6.2566058072902235,-4.315693288108856e-25,8.9215525433360153,-1.1231361054001486e-27,1.2178354006528211e1,-2.8098897828155017e-30,1.6039761507700456e1,-6.8044446095224278e-33,2.0505545484563388e1,-1.6033798002809928e-35,2.556472767963993e1,-3.6917293585779875e-38,3.1197908135439213e1,-8.333467295509099e-41,3.7379481250273059e1,-1.8493004177971601e-43,4.4079614712836347e1,-4.04311569e-46,5.1265929085230068e1,0,-3.410877935003169e3,0},
                                  {0,8.6525333344395946e-6,4.6214055860143368e-6,4.0183335770076282e-3,2.5196875033319403e-7,3.9879198089567953e-2,2.7065280424600198e-9,1.6349081222103239e-1,1.6434138233628651e-11,4.4891796640372962e-1,7.4074211379526702e-14,9.7872694207988801e-1,2.7773787407470575e-16,1.8357067234924832,9.1864353358788327e-19,3.0963306396472263,2.7740876958442332e-21,4.826136300600872,7.8175181708527993e-24,7.0769814720261024,2.0866765664384827e-26,9.8859551419859548,5.3319111347291015e-29,1.3275610760980809e1,1.3144910046318102e-31,1.7255146316628645e1,3.1453903735957187e-34,2.1822171191163129e1,7.3393885287937365e-37,2.6964752826264063e1,1.67620429500398e-39,3.2663507072443009e1,3.7582134217e-42,3.8893568871759622e1,8.2925e-45,4.5626344433814041e1,0,5.283099739472521e1,0,-3.5968296222970719e3}};
 
-        IdXdX_ = new double[][] {{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IdXdX = new double[][] {{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,2.7647119392944668,4.0567806490863233e-1,3.1886815475675192,3.4535575258203014e-1,3.2095269373396563,3.4333493298516539e-1,3.2126287178051619,3.4293363772140684e-1,3.2135248515613463,3.4280304896464665e-1,3.2138746672949148,3.4274839270540926e-1,3.2140384401496672,3.4272159881666141e-1,3.2141250899520991,3.4270695092638939e-1,3.2141751576928911,3.4269827734539646e-1,3.2142060786927612,3.4269281785392039e-1,3.2142261959238483,3.4268921150159071e-1,3.214239844031864,3.4268673424426532e-1,3.2142494275644921,3.4268497663516371e-1,3.2142563535958531,3.4268369522888001e-1,3.2142614829267312,3.426827390806733e-1,3.2142653623274539,3.4268201120618713e-1,3.2142683504609454,3.4268144735299879e-1,3.2142706892528826,3.4268100380460208e-1,3.2142725459194329,3.4268065011329593e-1,3.2142740385553517},
                                  {0,4.0567806490863233e-1,1.2258851175953959e1,7.4300945893139781e-2,8.768883830321813,8.2991028371007863e-2,9.0739111479100261,8.421693301540417e-2,9.154353552872701,8.4611512479128889e-2,9.1838241188230906,8.4774347853593108e-2,9.1970214043127206,8.4853147997052526e-2,9.2037807482115322,8.4895764950866416e-2,9.2075912742767957,8.4920777220169699e-2,9.2098995522133318,8.493640580310344e-2,9.211378169990164,8.494666634428473e-2,9.2123685940417717,8.4953677965500904e-2,9.2130566869384912,8.4958630652495542e-2,9.2135495011196832,8.4962227638737122e-2,9.2139116542717859,8.4964902638115686e-2,9.2141837204863624,8.4966933016413668e-2,9.2143920501942742,8.4968501768932262e-2,9.2145542623287656,8.4969732944294469e-2,9.2146824410614927,8.4970712654608407e-2,9.2147850622010356,8.4971501946767875e-2},
                                  {0,3.1886815475675192,7.4300945893139781e-2,2.7198013668150638e1,-5.0015926316907995e-3,1.4391595103690615e1,-5.7647380955747847e-3,1.5150906764259586e1,-5.9397272402984316e-3,1.5428575569517429e1,-6.0100903572873738e-3,1.5550610106159264e1,-6.0433077073079232e-3,1.5611910553761268e1,-6.0608908253590831e-3,1.564588251196313e1,-6.0710274223076528e-3,1.5666165286325154e1,-6.0772676219298039e-3,1.5678999878138744e1,-6.0813137850641098e-3,1.5687508177244305e1,-6.0840498291482154e-3,1.5693367121496399e1,-6.0859651634107344e-3,1.5697531379226414e1,-6.0873454794877007e-3,1.5700571301242134e1,-6.0883650943417183e-3,1.5702841780026605e1,-6.0891344390137221e-3,1.5704571449306894e1,-6.0897257662337259e-3,1.5705912090480026e1,-6.0901876923933089e-3,1.5706967138815145e1,-6.0905537427047873e-3,1.5707808725975035e1,-6.0908475425078485e-3,1.5708488192092665e1},
@@ -222,7 +224,7 @@ public class Boundary_FF_200 extends Boundary{
                                  {0,3.4268065011329593e-1,9.2147850622010356,-6.0908475425078485e-3,2.1973896942179255e1,-2.0466193088981711e-5,3.4464436032048239e1,-5.5051801877166268e-8,4.6821813579122133e1,-1.3380131628807108e-10,5.8962648657041307e1,-3.0651750100043797e-13,7.0798899161187001e1,-6.7513414654788522e-16,8.2246932316787444e1,-1.4455961031472612e-18,9.3233434295335382e1,-3.0295518985949701e-21,1.0369913706835253e2,-6.2424744434982253e-24,1.1360056094666592e2,-1.2687652431942669e-26,1.2291013009783289e2,-2.5497148029251775e-29,1.3161509321101982e2,-5.0756151588212773e-32,1.3971567984851606e2,-1.0023210406083633e-34,1.4722286826779869e2,-1.9658902875355153e-37,1.5415605842635858e2,-3.8332569098553018e-40,1.6054085592588391e2,-7.4367634006544879e-43,1.6640709307767979e2,-1.436374421e-45,1.7178714931964525e2,-2e-48,3.6464973840224035e3,0},
                                  {0,3.2142740385553517,8.4971501946767875e-2,1.5708488192092665e1,3.6866786077861351e-4,2.8234472281823896e1,1.0799049152230066e-6,4.0677213734321132e1,2.7404497667695027e-9,5.2958157144747663e1,6.4471346819651954e-12,6.4994718783306062e1,1.4464032412556779e-14,7.6704109616252348e1,3.1398492027521967e-17,8.8009856314456777e1,6.65171122045153e-20,9.8846421267862304e1,1.3827626140604431e-22,1.0916194671079624e2,2.831346316477979e-25,1.1891934365519556e2,5.7261226283495133e-28,1.2809605865055988e2,1.1461759408725685e-30,1.3668289370927122e2,2.2744071639557213e-33,1.4468223944909591e2,4.4799627579756967e-36,1.5210602842835415e2,8.768579293261098e-39,1.5897364479653437e2,1.70691970361e-41,1.6530995361157693e2,3.30707e-44,1.7114354866388169e2,0,1.7650526631732969e2,0,3.838732256623486e3}};
 
-        IdXdX2_ = new double[][]{{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IdXdX2 = new double[][]{{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,-5.50733070414286e-1,-1.5468836505203105e1,-2.3283382940037666,-3.5723895070951693e1,-4.4858161908715742,-5.5904408044076439e1,-6.6382645705819878,-7.6096780013879433e1,-8.7911823751165324,-9.6291536421622965e1,-1.094422054469726e1,-1.1648697319323731e2,-1.309729913515808e1,-1.3668266191941768e2,-1.5250394329260398e1,-1.5687846117332372e2,-1.7403497349565242e1,-1.7707431504400316e2,-1.9556604447184328e1,-1.9727019840140683e2,-2.1709713837369156e1,-2.1746609880732203e2,-2.3862824596480902e1,-2.3766200962418513e2,-2.6015936213751211e1,-2.5785792708907016e2,-2.8169048391053432e1,-2.7805384895999087e2,-3.0322160946389594e1,-2.9824977384438857e2,-3.2475273764363435e1,-3.1844570084617165e2,-3.4628386769394769e1,-3.386416293708996e2,-3.6781499910570765e1,-3.588375590136593e2,-3.893461315274189e1,-3.7903348949215116e2,-4.1087726471109534e1},
                                  {0,6.4387754369565923e-1,-3.9154313139543112e-1,-8.3817301920063815e1,-5.6016275517010611e-1,-1.3233253450000812e2,-1.0794412134852788,-1.891204056169613e2,-1.6099099600887793,-2.4672071660263728e2,-2.1425677712643127,-3.0450844017026263e2,-2.6759229558294599,-3.6235784013230393e2,-3.2095540264318628,-4.2023228681416018e2,-3.7433114631359187,-4.781184494699397e2,-4.2771332758883979,-5.3601068228862865e2,-4.8109906421833278,-5.939063138692234e2,-5.3448689291120025,-6.5180396817843293e2,-5.8787601718797924,-7.0970288709671545e2,-6.4126597829535942,-7.6760262945868839e2,-6.9465649932626852,-8.2550292662121514e2,-7.4804740640798652,-8.8340360861188593e2,-8.014385866206448,-9.4130456430767873e2,-8.5482996446158318,-9.9920571897121773e2,-9.0822148814633246,-1.0571070210760864e3,-9.6161312135339199,-1.1150084343138456e3},
                                  {0,-3.5404061535164353e-1,1.1419294485687815e1,4.7864506998514135e-2,-2.3345973500552323e2,4.242103283268955e-2,-2.83543947368131e2,7.8240477795701637e-2,-3.7479459278199365e2,1.1567441085959563e-1,-4.7115260332941849e2,1.5358304892619709e-1,-5.6888856951925248e2,1.916767723083153e-1,-6.6712736354074099e2,2.2985377797832452e-1,-7.6558560146037448e2,2.6807250079193367e-1,-8.6415205159421537e2,3.0631392159137798e-1,-9.6277687195990276e2,3.4456852656427225e-1,-1.0614354279163325e3,3.828312053214146e-1,-1.1601145822025147e3,4.2109904855598791e-1,-1.2588068894587709e3,4.5937031815074387e-1,-1.3575079142460082e3,4.9764393258754019e-1,-1.4562149016821559e3,5.3591919511585221e-1,-1.554926079005506e3,5.741956431890147e-1,-1.6536402701632933e3,6.124729615929122e-1,-1.752356674018475e3,6.507509305096966e-1,-1.8510747319921666e3,6.8902939348272853e-1},
@@ -262,11 +264,13 @@ public class Boundary_FF_200 extends Boundary{
                                  {0,-3.5971059222442823e-1,3.9796806350298055e-1,4.7868807946761333e-2,2.1726930161550087e-1,2.8929892921826704e-4,2.044054642608336,1.1237960411167163e-6,9.6501122894880914,3.5704914998292315e-9,3.1554896574096024e1,1.0098970831841201e-11,8.2459592679164492e1,2.6464096386856611e-14,1.8549163528814932e2,6.5681562849378393e-17,3.7537712511284523e2,1.5650139021472596e-19,7.0342701360044244e2,3.6122461190573137e-22,1.2460289529163887e3,8.1274156152256215e-25,2.1200797105579002e3,1.7907907894048791e-27,3.5129435603884781e3,3.8776818005852616e-30,5.7454749704671402e3,8.2740330674700323e-33,9.4195273539970878e3,1.7435009168820457e-35,1.58188458048182e4,3.634547747056809e-38,2.8272675389529283e4,7.506363880947e-41,5.8974505703748472e4,1.538633e-43,2.1762716735205493e5,4.1e-46,-2.6365406955944584e5,0},
                                  {0,3.5973115896189979e-1,-3.9488246850214459e-1,-1.1333152540745097e-2,-4.0533711486227232e-3,6.9056796194015174e-1,-1.8655797001438226e-5,4.3470517420115751,-6.4541152133445279e-8,1.6652463055265033e1,-1.9225387439875e-10,4.8068446648122716e1,-5.2185055399030276e-13,1.1565942657526589e2,-1.3289926305835232e-15,2.454110600382385e2,-3.23012826657756e-18,4.7560491023549475e2,-7.5748994365891683e-21,8.6220867113593577e2,-1.7267364631617108e-23,1.4881055025321653e3,-3.8466653316527365e-26,2.4798741756873193e3,-8.4077369452068869e-29,4.040333595843961e3,-1.8085818930399966e-31,6.5169458734048108e3,-3.8380277500809217e-34,1.0561836270831251e4,-8.0506333454457329e-37,1.7566590094940305e4,-1.6718251543002372e-39,3.1141069957512842e4,-3.4415898261318637e-42,6.4508123104135769e4,-7.0349971837503373e-45,2.3663602751146372e5,-1.9022999979501158e-47,-2.8521915714916188e5},
                                  {0,-3.5971090371795272e-1,3.9751538276445158e-1,4.7870878587781893e-2,1.8573458363407782e-1,2.8936640563868003e-4,1.7415925251591728,1.1245224396656034e-6,8.2201504209840972,3.5752190417323148e-9,2.6864490454824377e1,1.0121981178804539e-11,7.0130648440328497e1,2.65566992730687e-14,1.5748244949984528e2,6.6007313328575827e-17,3.178104220070423e2,1.5753785533150099e-19,5.9304062903413557e2,3.6427580530916436e-22,1.0439643093735533e3,8.2118495411075319e-25,1.7602512074389877e3,1.8130099878990931e-27,2.8786518206938438e3,3.9337744259686609e-30,4.6182666707515465e3,8.4108055410688096e-33,7.3546196928866543e3,1.7758859651982815e-35,1.1792869596315836e4,3.7093349479414e-38,1.9438363594113853e4,7.6753949e-41,3.419697124605617e4,1.57e-43,7.037730386859346e4,0,2.5672067444101636e5,0}};
-        initArrays2();
+        double[][] IdX2dX2 = createIdX2dX2();
+
+        return new BoundaryTables(c1, c2, c3, c4, c5, cv, IX, IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2);
     }
     
-    protected void initArrays2() {
-        IdX2dX2_ =new double[][]{{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+    private static double[][] createIdX2dX2() {
+        double[][] IdX2dX2 = new double[][]{{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,1.5756413842329285e-1,3.5939213758077122,-4.7309113239535995,5.8516245196913095,-6.9798776437203797,8.109155961318126,-9.238872691026007,1.0368760654615423e1,-1.1498728013830134e1,1.2628735995586271e1,-1.3758766486332058e1,1.488881025226208e1,-1.6018862252816347e1,1.7148919578517469e1,-1.827898047036083e1,1.9409043822509668e1,-2.0539108916127198e1,2.1669175270232659e1,-2.279924255476185e1,2.3929310538113616e1,-2.505937905453085e1,2.6189447983264758e1,-2.7319517234943582e1,2.8449586742460987e1,-2.9579656454766242e1,3.0709726332556858e1,-3.1839796345242479e1,3.2969866468773152e1,-3.4099936684064747e1,3.5230006975843029e1,-3.6360077331785221e1,3.7490147741875651e1,-3.8620218197917241e1,3.9750288693157714e1,-4.0880359222001061e1,4.2010429779783023e1,-4.3140500362595036e1,4.4270570967145182e1,-4.5400641590647626e1},
                                  {0,3.5939213758077122,1.242398464355104e2,1.4377530090757196,-2.5965572390421157,3.7951623831469127,-5.0164390101681226,6.2468889326654059,-7.4816950685912612,8.7187653546020909,-9.9571027250542922,1.119619248013109e1,-1.2435751210879569e1,1.3675614313965994e1,-1.4915681814991746e1,1.6155890640755133e1,-1.7396199677192721e1,1.8636581352874239e1,-1.9877016712626763e1,2.1117492435469389e1,-2.2357998975167817e1,2.3598529369832593e1,-2.4839078461657662e1,2.6079642374528209e1,-2.7320218157501297e1,2.856080353721207e1,-2.9801396743168496e1,3.1041996382666739e1,-3.2282601350024711e1,3.3523210759898219e1,-3.4763823897725612e1,3.6004440182507611e1,-3.7245059138573803e1,3.8485680373967303e1,-3.972630356375265e1,4.096692843702081e1,-4.2207554766695198e1,4.3448182361477525e1,-4.4688811059441245e1,4.592944072290298e1},
                                  {0,-4.7309113239535995,1.4377530090757196,9.4959416881878097e2,-1.9849092451049796e-1,3.3243255390364265e-1,-4.7112887919467338e-1,6.1491311870391688e-1,-7.6128612825316824e-1,9.0912093223578502e-1,-1.0578209520536133,1.2070566407375489,-1.3566370808539351,1.5064469842928596,-1.6564141456244984,1.8064918690659493,-1.9566490906331753,2.1068646217617131,-2.2571236845414979,2.4074157649421406,-2.5577332475435271,2.7080705266157999,-2.8584234148920651,3.0087887426547735,-3.1591640810331184,3.3095475479177707,-3.4599376697902067,3.610333282004235,-3.7607334559039597,3.9111374449288825,-4.0615446443240028,4.2119545607140346,-4.3623667889085477,4.5127809940625159,-4.6631968978415829,4.8136142676091877,-4.9640329079133613,5.1144526537376549,-5.2648733651156303,5.4152949228068415},
@@ -306,5 +310,7 @@ public class Boundary_FF_200 extends Boundary{
                                  {0,-4.3140500362595036e1,4.3448182361477525e1,5.1144526537376549,4.2057030808622544e-1,2.9138098355468348e-2,1.8227230412329749e-3,1.0651684266909889e-4,5.9286031978715189e-6,3.1809413232300835e-7,1.6584898344702937e-8,8.4501472051418947e-10,4.2246240756649187e-11,2.0788433068774005e-12,1.0092495157263705e-13,4.843224455240675e-15,2.3008430020654526e-16,1.0834117230998319e-17,5.0617509281920122e-19,2.3484652639423362e-20,1.0828362525838768e-21,4.9649017375775428e-23,2.2649829000770084e-24,1.0285667962558675e-25,4.6515220997266134e-27,2.0956233729016219e-28,9.4086978959134513e-30,4.2108638442288545e-31,1.8791103083705477e-32,8.36325424956062e-34,3.713067227557768e-35,1.6447828518802322e-36,7.27073843487257e-38,3.207843394629e-39,1.412674909e-40,6.222136e-42,2.6155e-43,4.3222606918352193e7,0,0},
                                  {0,4.4270570967145182e1,-4.4688811059441245e1,-5.2648733651156303,-4.3331106706710408e-1,-3.0047952539110161e-2,-1.8814211071860669e-3,-1.1005605000455604e-4,-6.1319156069318935e-6,-3.2935508110910406e-7,-1.7191032233287095e-8,-8.7689564949456051e-10,-4.3891327421555598e-11,-2.162371243876891e-12,-1.0510758303192561e-13,-5.050152652147525e-15,-2.4021326807780191e-16,-1.13252456094609e-17,-5.2978702785709916e-19,-2.4611151381281306e-20,-1.136206138437176e-21,-5.2161429264531272e-23,-2.3825656878121431e-24,-1.0833008034004647e-25,-4.90504146457511e-27,-2.2125104504283764e-28,-9.9453199482880906e-30,-4.4562492734401311e-31,-1.990906520095755e-32,-8.870844197042225e-34,-3.942791584616638e-35,-1.7484405616501958e-36,-7.7371645743979451e-38,-3.4171620802247971e-39,-1.5064903254088111e-40,-6.62991832e-42,-2.9185194497284391e-43,0,4.8157570640589583e7,0},
                                  {0,-4.5400641590647626e1,4.592944072290298e1,5.4152949228068415,4.4605208788965394e-1,3.0957855175292373e-2,1.9401257733858771e-3,1.1359599038183766e-4,6.3352983557777659e-6,3.4062207577440708e-7,1.779764292982174e-8,9.0881166663306183e-10,4.5538853199080093e-11,2.2460608242471434e-12,1.093005000313027e-13,5.2577127914273409e-15,2.503798951160715e-16,1.1818558786900992e-17,5.5352273747913896e-19,2.5744515270141653e-20,1.1899496335696794e-21,5.46938283157411e-23,2.5012013023700954e-24,1.1385816395726023e-25,5.1613648202893946e-27,2.3308185824901066e-28,1.0489066911521921e-29,4.7051719268000076e-31,2.104442938902573e-32,9.3869240194894377e-34,4.176625931799932e-35,1.8540737514739e-36,8.213022169e-38,3.6309663e-39,1.6023e-40,7e-42,0,0,0,5.3503527670172188e7}};
+
+        return IdX2dX2;
     }
 }
@@ -37,28 +37,30 @@ package de.elamx.clt.plate.Boundary;
  */
 public class Boundary_SC_200 extends Boundary{
 
+    // gemeinsam genutzte, unveränderliche Konstanten und Integrale
+    private static final BoundaryTables TABLES = createTables();
+
     /**
      * @see Boundary
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
      */
     public Boundary_SC_200 (double length, int m){
-        super(length, m);
+        super(length, TABLES);
     }
 
-    @Override
-    protected void initArrays() {
-        c1_ = new double[]{-9.3756820585695864e-1,9.3508015351189237e-1,-9.3516869640802995e-1,9.3510571602641999e-1,-9.3602219657032599e-1,9.388258275459855e-1,-9.3518663706332111e-1,9.3718978458018309e-1,-9.3674877920067952e-1,9.3509680572491018e-1,-9.4323997213085688e-1,9.3602219657029572e-1,-9.4846326646359423e-1,9.3529139910895097e-1,-9.4260917124830378e-1,9.5500793298078076e-1,-9.3868199529832822e-1,9.3550182870066623e-1,-9.4552473607020736e-1,9.6970228144386236e-1};
-        c2_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c3_ = new double[]{-2.6134615784647017e-2,-1.1259454648946456e-3,-4.8661087372097918e-5,-2.102694630724461e-6,-9.0954729742590813e-8,-3.9422831617015047e-9,-1.6970112641489953e-10,-7.3491586828079045e-12,-3.1743649892620025e-13,-1.3693483549815921e-14,-5.9690224717136532e-16,-2.5597102697368688e-17,-1.1208534294512742e-18,-4.7763802753329038e-20,-2.0802103972170285e-21,-9.1076477854917856e-23,-3.8684891388862246e-24,-1.6660620844586603e-25,-7.2768442798208676e-27,-3.2250187944821747e-28};
-        c4_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+    private static BoundaryTables createTables() {
+        double[] c1 = new double[]{-9.3756820585695864e-1,9.3508015351189237e-1,-9.3516869640802995e-1,9.3510571602641999e-1,-9.3602219657032599e-1,9.388258275459855e-1,-9.3518663706332111e-1,9.3718978458018309e-1,-9.3674877920067952e-1,9.3509680572491018e-1,-9.4323997213085688e-1,9.3602219657029572e-1,-9.4846326646359423e-1,9.3529139910895097e-1,-9.4260917124830378e-1,9.5500793298078076e-1,-9.3868199529832822e-1,9.3550182870066623e-1,-9.4552473607020736e-1,9.6970228144386236e-1};
+        double[] c2 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+        double[] c3 = new double[]{-2.6134615784647017e-2,-1.1259454648946456e-3,-4.8661087372097918e-5,-2.102694630724461e-6,-9.0954729742590813e-8,-3.9422831617015047e-9,-1.6970112641489953e-10,-7.3491586828079045e-12,-3.1743649892620025e-13,-1.3693483549815921e-14,-5.9690224717136532e-16,-2.5597102697368688e-17,-1.1208534294512742e-18,-4.7763802753329038e-20,-2.0802103972170285e-21,-9.1076477854917856e-23,-3.8684891388862246e-24,-1.6660620844586603e-25,-7.2768442798208676e-27,-3.2250187944821747e-28};
+        double[] c4 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+        double[] c5 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
 
-        cv_ = new double[]{3.9266023120479187,7.068582745628732,1.021017612281303e1,1.3351768777754093e1,1.6493361431346409e1,1.9634954084936207e1,2.2776546738526e1,2.5918139392115794e1,2.9059732045705587e1,3.220132469929538e1,3.5342917352885173e1,3.8484510006474967e1,4.162610266006476e1,4.4767695313654553e1,4.7909287967244346e1,5.105088062083414e1,5.4192473274423933e1,5.7334065928013726e1,6.0475658581603519e1,6.3617251235193313e1};
+        double[] cv = new double[]{3.9266023120479187,7.068582745628732,1.021017612281303e1,1.3351768777754093e1,1.6493361431346409e1,1.9634954084936207e1,2.2776546738526e1,2.5918139392115794e1,2.9059732045705587e1,3.220132469929538e1,3.5342917352885173e1,3.8484510006474967e1,4.162610266006476e1,4.4767695313654553e1,4.7909287967244346e1,5.105088062083414e1,5.4192473274423933e1,5.7334065928013726e1,6.0475658581603519e1,6.3617251235193313e1};
 
-        IX_ = new double[]{-5.6992537355255392e-1,-5.4635831339452445e-2,-2.2111746785971078e-1,-2.9009741974022784e-2,-1.3701011768242932e-1,-1.9805209874758508e-2,-9.9125661510387733e-2,-1.4977800428119083e-2,-7.7822865115392776e-2,-1.2028380281867061e-2,-6.4431091258085953e-2,-1.0074523189627187e-2,-5.5008581995015277e-2,-8.6537933116175206e-3,-4.7499345989044762e-2,-7.7486858836495369e-3,-4.1817224180358307e-2,-6.7585917517026217e-3,-3.7745742583352777e-2,-6.313756546211444e-3};
+        double[] IX = new double[]{-5.6992537355255392e-1,-5.4635831339452445e-2,-2.2111746785971078e-1,-2.9009741974022784e-2,-1.3701011768242932e-1,-1.9805209874758508e-2,-9.9125661510387733e-2,-1.4977800428119083e-2,-7.7822865115392776e-2,-1.2028380281867061e-2,-6.4431091258085953e-2,-1.0074523189627187e-2,-5.5008581995015277e-2,-8.6537933116175206e-3,-4.7499345989044762e-2,-7.7486858836495369e-3,-4.1817224180358307e-2,-6.7585917517026217e-3,-3.7745742583352777e-2,-6.313756546211444e-3};
 
-        IXX_ =   new double[][] {{4.3917556124581262e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IXX = new double[][] {{4.3917556124581262e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,4.3718681286931714e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,4.3727024418679633e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,0,4.3721135007043115e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -79,7 +81,7 @@ public class Boundary_SC_200 extends Boundary{
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.4700851326031764e-1,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.7016125731871582e-1}};
 
-        IXdX_ =  new double[][] {{0,1.3129841215279704,-1.388409445161085e-1,4.4159749424586682e-1,-1.2723111581273867e-1,2.585646163332598e-1,-1.0773569044471613e-1,1.8021570068047177e-1,-9.2059731243004804e-2,1.3752378694792932e-1,-8.0358480772810667e-2,1.1121942406583561e-1,-7.1133296348267243e-2,9.3125074873501733e-2,-6.3058736850450519e-2,8.1777669018270369e-2,-5.6634845478920405e-2,7.024368241805934e-2,-5.1928573374127991e-2,6.4813007613945464e-2},
+        double[][] IXdX = new double[][] {{0,1.3129841215279704,-1.388409445161085e-1,4.4159749424586682e-1,-1.2723111581273867e-1,2.585646163332598e-1,-1.0773569044471613e-1,1.8021570068047177e-1,-9.2059731243004804e-2,1.3752378694792932e-1,-8.0358480772810667e-2,1.1121942406583561e-1,-7.1133296348267243e-2,9.3125074873501733e-2,-6.3058736850450519e-2,8.1777669018270369e-2,-5.6634845478920405e-2,7.024368241805934e-2,-5.1928573374127991e-2,6.4813007613945464e-2},
                                  {-1.3129841215279704,3e-200,2.2503386026510695,-1.1081989527451634e-1,7.9187538502325132e-1,-1.3132295244756799e-1,4.7004000103096418e-1,-1.2685077507951879e-1,3.302398028620899e-1,-1.1697369029402618e-1,2.5422018885275774e-1,-1.070643830894624e-1,2.0609027097266602e-1,-9.7824285836298951e-2,1.7117749143821968e-1,-9.1664774445846098e-2,1.4620927600969691e-1,-8.2786064915384295e-2,1.2881197448193014e-1,-7.9497191726138127e-2},
                                  {1.388409445161085e-1,-2.2503386026510695,0,3.164767970116105,-9.2196800183238705e-2,1.1380132935632173,-1.2437647388245483e-1,6.8743528344347777e-1,-1.3151950125155532e-1,4.8590286601788339e-1,-1.2977598788169172e-1,3.7366698460615313e-1,-1.2438223229563255e-1,3.0167729051594009e-1,-1.1657074273532335e-1,2.5763206857695296e-1,-1.0908404568474759e-1,2.1645072522152794e-1,-1.0322354166514097e-1,1.9614487874510267e-1},
                                  {-4.4159749424586682e-1,1.1081989527451634e-1,-3.164767970116105,0,4.0664525904764051,-7.7754235204031813e-2,1.4625267254893408,-1.1416916587449864e-1,8.9724979793323599e-1,-1.2801613917956472e-1,6.4567534931492847e-1,-1.314145975347594e-1,5.0155624445724765e-1,-1.2947921739863779e-1,4.0408072227316797e-1,-1.2796586328209133e-1,3.3719439786524841e-1,-1.2023733651242653e-1,2.9160738304062809e-1,-1.1904054343086162e-1},
@@ -100,7 +102,7 @@ public class Boundary_SC_200 extends Boundary{
                                  {5.1928573374127991e-2,-1.2881197448193014e-1,1.0322354166514097e-1,-2.9160738304062809e-1,1.2837831032369893e-1,-5.1142157778542163e-1,1.3207074090732399e-1,-8.0210597404792863e-1,1.2132205584711898e-1,-1.2022613897923577,1.0190673601240426e-1,-1.8039037449265098,7.7324274577243676e-2,-2.8334278988916729,5.0296608210106037e-2,-5.266885720358745,2.4170777731820481e-2,-1.6561556268971137e1,1e-199,1.8085133280327375e1},
                                  {-6.4813007613945464e-2,7.9497191726138127e-2,-1.9614487874510267e-1,1.1904054343086162e-1,-3.7484844913340144e-1,1.3553249057679036e-1,-6.0877945500300744e-1,1.3370260629310163e-1,-9.2067094909853916e-1,1.1979299330637672e-1,-1.3590495998639916,9.89480751711564e-2,-2.0166335937324293,7.4234943184888061e-2,-3.1186431347819885,4.9539370421479806e-2,-5.6166566668804833,2.3435722596116659e-2,-1.8085133280327375e1,0}};
 
-        IXdX2_ = new double[][] {{-5.0560218398658317,1.8763878885615311,1.66464819586987,1.4390974385535679,1.2533745785652609,1.1070431215103748,9.8275210335398138e-1,8.8703748113650604e-1,8.0589128986692298e-1,7.3697796775902482e-1,6.8563746231026047e-1,6.3120188412441273e-1,5.9637818006167412e-1,5.508152827179472e-1,5.2198898945991329e-1,4.9903407100888294e-1,4.6429848457203635e-1,4.3924189565977438e-1,4.224927224335579e-1,4.1331096267193607e-1},
+        double[][] IXdX2 = new double[][] {{-5.0560218398658317,1.8763878885615311,1.66464819586987,1.4390974385535679,1.2533745785652609,1.1070431215103748,9.8275210335398138e-1,8.8703748113650604e-1,8.0589128986692298e-1,7.3697796775902482e-1,6.8563746231026047e-1,6.3120188412441273e-1,5.9637818006167412e-1,5.508152827179472e-1,5.2198898945991329e-1,4.9903407100888294e-1,4.6429848457203635e-1,4.3924189565977438e-1,4.224927224335579e-1,4.1331096267193607e-1},
                                  {1.8763878885615311,-1.8753746487580732e1,3.4187389584781461,3.3422285168940214,3.1360708502333193,2.9082680169087647,2.6707475405872153,2.471003637763272,2.2874620240941528,2.1227631746408632,1.998242918396712,1.8573841557747313,1.7690329986373076,1.6449841000505952,1.5679579394915688,1.506541795176621,1.4078310036399073,1.3370033414752223,1.2904306687472019,1.2662525493217591},
                                  {1.66464819586987,3.4187389584781461,-4.1119809714824589e1,4.8827935238130971,4.9409735045234343,4.827891347746004,4.602779446625648,4.3783804325224461,4.1399661043368396,3.9062077742191649,3.7263114326085538,3.501466989173284,3.3651169899697569,3.1529936428117051,3.024868863452045,2.9226417154320641,2.7444317769457809,2.6174820730731802,2.5358348001702108,2.4966753818739387},
                                  {1.4390974385535679,3.3422285168940214,4.8827935238130971,-7.2104004256637149e1,6.3167939663325192,6.488555017691142,6.422978150899023,6.2880304405232921,6.0803241035974995,5.8399415264247295,5.6515895277594642,5.3735404646443852,5.2152031794144744,4.9270337269923267,4.7602612402024699,4.6273965326425891,4.3682277295334823,4.1854730340833714,4.0714978101150969,4.0231871868581391},
@@ -121,7 +123,7 @@ public class Boundary_SC_200 extends Boundary{
                                  {4.224927224335579e-1,1.2904306687472019,2.5358348001702108,4.0714978101150969,5.8228211581422956,7.7291664425825433,9.6510369143071953,1.1641892887905412e1,1.3573507771469806e1,1.5414585294218959e1,1.7333091490083034e1,1.8855453554216327e1,2.0653377563199027e1,2.1757952414905085e1,2.319311885769375e1,2.4642366438993844e1,2.521507885538416e1,2.5996332317393393e1,-1.607813461913684e3,2.8389853548717759e1},
                                  {4.1331096267193607e-1,1.2662525493217591,2.4966753818739387,4.0231871868581391,5.7760479655344596,7.6983969393643008,9.6534122814713446,1.1695464406321846e1,1.3696188402764414e1,1.5622846950345275e1,1.7644693844007445e1,1.9277838957044393e1,2.1205875027511825e1,2.2432459397360795e1,2.4007874891724921e1,2.5606413414859755e1,2.6298476609316675e1,2.7209221604026969e1,2.8389853548717759e1,-1.8729049541993509e3}};
 
-        IdXdX_ = new double[][] {{5.0560218398658317,-1.8763878885615311,-1.66464819586987,-1.4390974385535679,-1.2533745785652609,-1.1070431215103748,-9.8275210335398138e-1,-8.8703748113650604e-1,-8.0589128986692298e-1,-7.3697796775902482e-1,-6.8563746231026047e-1,-6.3120188412441273e-1,-5.9637818006167412e-1,-5.508152827179472e-1,-5.2198898945991329e-1,-4.9903407100888294e-1,-4.6429848457203635e-1,-4.3924189565977438e-1,-4.224927224335579e-1,-4.1331096267193607e-1},
+        double[][] IdXdX = new double[][] {{5.0560218398658317,-1.8763878885615311,-1.66464819586987,-1.4390974385535679,-1.2533745785652609,-1.1070431215103748,-9.8275210335398138e-1,-8.8703748113650604e-1,-8.0589128986692298e-1,-7.3697796775902482e-1,-6.8563746231026047e-1,-6.3120188412441273e-1,-5.9637818006167412e-1,-5.508152827179472e-1,-5.2198898945991329e-1,-4.9903407100888294e-1,-4.6429848457203635e-1,-4.3924189565977438e-1,-4.224927224335579e-1,-4.1331096267193607e-1},
                                  {-1.8763878885615311,1.8753746487580732e1,-3.4187389584781461,-3.3422285168940214,-3.1360708502333193,-2.9082680169087647,-2.6707475405872153,-2.471003637763272,-2.2874620240941528,-2.1227631746408632,-1.998242918396712,-1.8573841557747313,-1.7690329986373076,-1.6449841000505952,-1.5679579394915688,-1.506541795176621,-1.4078310036399073,-1.3370033414752223,-1.2904306687472019,-1.2662525493217591},
                                  {-1.66464819586987,-3.4187389584781461,4.1119809714824589e1,-4.8827935238130971,-4.9409735045234343,-4.827891347746004,-4.602779446625648,-4.3783804325224461,-4.1399661043368396,-3.9062077742191649,-3.7263114326085538,-3.501466989173284,-3.3651169899697569,-3.1529936428117051,-3.024868863452045,-2.9226417154320641,-2.7444317769457809,-2.6174820730731802,-2.5358348001702108,-2.4966753818739387},
                                  {-1.4390974385535679,-3.3422285168940214,-4.8827935238130971,7.2104004256637149e1,-6.3167939663325192,-6.488555017691142,-6.422978150899023,-6.2880304405232921,-6.0803241035974995,-5.8399415264247295,-5.6515895277594642,-5.3735404646443852,-5.2152031794144744,-4.9270337269923267,-4.7602612402024699,-4.6273965326425891,-4.3682277295334823,-4.1854730340833714,-4.0714978101150969,-4.0231871868581391},
@@ -142,7 +144,7 @@ public class Boundary_SC_200 extends Boundary{
                                  {-4.224927224335579e-1,-1.2904306687472019,-2.5358348001702108,-4.0714978101150969,-5.8228211581422956,-7.7291664425825433,-9.6510369143071953,-1.1641892887905412e1,-1.3573507771469806e1,-1.5414585294218959e1,-1.7333091490083034e1,-1.8855453554216327e1,-2.0653377563199027e1,-2.1757952414905085e1,-2.319311885769375e1,-2.4642366438993844e1,-2.521507885538416e1,-2.5996332317393393e1,1.607813461913684e3,-2.8389853548717759e1},
                                  {-4.1331096267193607e-1,-1.2662525493217591,-2.4966753818739387,-4.0231871868581391,-5.7760479655344596,-7.6983969393643008,-9.6534122814713446,-1.1695464406321846e1,-1.3696188402764414e1,-1.5622846950345275e1,-1.7644693844007445e1,-1.9277838957044393e1,-2.1205875027511825e1,-2.2432459397360795e1,-2.4007874891724921e1,-2.5606413414859755e1,-2.6298476609316675e1,-2.7209221604026969e1,-2.8389853548717759e1,1.8729049541993509e3}};
 
-        IdXdX2_ = new double[][]{{-7.1596221242025493,5.2292590785627714e1,-3.1473506313820153e1,5.9508773032422295e1,-5.528317472730403e1,7.7948042767057455e1,-7.8273859872965015e1,9.8069526756532383e1,-1.0116048451074935e2,1.1887022890592339e2,-1.24609958876216e2,1.4043086809365533e2,-1.4807986826123928e2,1.6197756618835752e2,-1.6974683152946205e2,1.8765221169496223e2,-1.9148806569418388e2,2.0572116595900469e2,-2.1546917126479811e2,2.3601455810073253e2},
+        double[][] IdXdX2 = new double[][]{{-7.1596221242025493,5.2292590785627714e1,-3.1473506313820153e1,5.9508773032422295e1,-5.528317472730403e1,7.7948042767057455e1,-7.8273859872965015e1,9.8069526756532383e1,-1.0116048451074935e2,1.1887022890592339e2,-1.24609958876216e2,1.4043086809365533e2,-1.4807986826123928e2,1.6197756618835752e2,-1.6974683152946205e2,1.8765221169496223e2,-1.9148806569418388e2,2.0572116595900469e2,-2.1546917126479811e2,2.3601455810073253e2},
                                  {-2.7311121489707257e1,-2.1791436662326885e1,1.9969111392427397e2,-6.4380205850651091e1,1.636902968577737e2,-1.0773283266176323e2,1.8301275346580021e2,-1.4925581847956992e2,2.1240392113243474e2,-1.8964876659579191e2,2.4692824736302751e2,-2.300490278038907e2,2.8346134530009287e2,-2.6969635133523973e2,3.1778392600541615e2,-3.1580632495922452e2,3.5309709010311752e2,-3.4878978597539938e2,3.930650699667862e2,-4.0229293608915011e2},
                                  {-4.6596450892097814,-1.3665292582714886e2,-4.5589159862948234e1,4.9898806146273726e2,-1.0657366765106442e2,3.4394445712478157e2,-1.6935833910295645e2,3.4830514260648002e2,-2.313703193476249e2,3.7805991625597228e2,-2.9380473348345497e2,4.1867005257165891e2,-3.5559783198985696e2,4.6345324037187395e2,-4.1248412449976796e2,5.2223530894303235e2,-4.690882065193984e2,5.6144487702478993e2,-5.3087628363736254e2,6.3499703399167014e2},
                                  {-1.2263475708748776e1,-1.8044321868361866e1,-3.7976937563945422e2,-7.7941198588428616e1,1.0020159046085744e3,-1.5737917938655354e2,6.124233088767829e2,-2.3966718087185355e2,5.8100617699800524e2,-3.2079702842695357e2,6.0678349748789713e2,-4.0143064844190948e2,6.5197418362238986e2,-4.8006727072006215e2,6.9942570417267248e2,-5.6973632987482927e2,7.5355558964280959e2,-6.3521377220105709e2,8.2027071045743282e2,-7.3771959947937778e2},
@@ -163,7 +165,7 @@ public class Boundary_SC_200 extends Boundary{
                                  {-9.090518486632684e-1,-1.556987236815392e1,-1.513207828775238e1,-1.0634661585989239e2,-6.1115029336763158e1,-3.489309171420495e2,-1.5130281233602397e2,-8.405508502599576e2,-2.9198990167899833e2,-1.7430253333483551e3,-4.853080937694045e2,-3.3973280805153551e3,-7.2573733710366307e2,-6.6526581147356199e3,-9.957200117482141e2,-1.4984532107418744e4,-1.2954821629837865e3,-5.5931542309007214e4,-1.6348465961446851e3,7.1387246891000236e4},
                                  {-2.5755838852149075,-4.9665858291005385,-4.5937607923371096e1,-3.2495193453838864e1,-1.972368227930957e2,-9.8905635793292254e1,-5.3568857212578375e2,-2.1330995770325283e2,-1.1754847445355604e3,-3.7885998036917168e2,-2.3212334482479461e3,-5.9535039636991621e2,-4.3770043433898503e3,-8.5547180263149717e2,-8.3084213845143609e3,-1.1781208230739553e3,-1.7920312486276708e4,-1.4829775124411328e3,-6.7859748541929974e4,-1.9028153210272501e3}};
 
-        IdX2dX2_ =new double[][]{{1.0440128325293187e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
+        double[][] IdX2dX2 = new double[][]{{1.0440128325293187e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,1.0914313863249156e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,4.7520703297384442e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {0,0,0,1.3894618876057309e4,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -183,5 +185,7 @@ public class Boundary_SC_200 extends Boundary{
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.7283569203206769e6,0,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.9791330895064842e6,0},
                                  {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,7.7009878835712108e6}};
+
+        return new BoundaryTables(c1, c2, c3, c4, c5, cv, IX, IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2);
     }
 }
\ No newline at end of file
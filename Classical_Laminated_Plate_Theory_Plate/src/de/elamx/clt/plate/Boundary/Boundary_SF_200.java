@@ -37,28 +37,30 @@ package de.elamx.clt.plate.Boundary;
  */
 public class Boundary_SF_200 extends Boundary{
 
+    // gemeinsam genutzte, unveränderliche Konstanten und Integrale
+    private static final BoundaryTables TABLES = createTables();
+
     /**
      * @see Boundary
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
      */
     public Boundary_SF_200 (double length, int m){
-        super(length, m);
+        super(length, TABLES);
     }
 
-    @Override
-    protected void initArrays() {
-        c1_ = new double[]{7.1343114531971554e-1,-7.0738165583162023e-1,7.071072938029658e-1,-7.071067821438269e-1,7.0710678118833518e-1,-7.0710678118655086e-1,7.0710678118654753e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1};
-        c2_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c3_ = new double[]{9.4783960205306911e-2,1.9718189751719591e-2,8.5143957730383965e-4,3.679398705224701e-5,1.5900123447770268e-6,6.871066350523653e-8,2.9692569965648223e-9,1.283132291536861e-10,5.54491739680807e-12,2.3961760716503273e-13,1.0354815690590412e-14,4.4747215888960048e-16,1.9337025299568904e-17,8.3562863076006674e-19,3.6110787348533445e-20,1.5604886129199853e-21,6.743482737027158e-23,2.9141231181105078e-24,1.2593067823659661e-25,5.4419580362176888e-27,2.3516832977198975e-28,1.0162544980994603e-29,4.3916338816060969e-31,1.8977970760413873e-32,8.201124772527848e-34,3.5440273559101621e-35,1.5315130848287462e-36,6.6182681267687138e-38,2.8600129787791227e-39,1.235923670982888e-40,5.3409104498115872e-42,2.3080166763228501e-43,9.9738444002038938e-45,4.3100889668599362e-46,1.8625583232347186e-47,8.0488443141773827e-49,3.4782210031068942e-50,1.5030755813159725e-51,6.4953785315260396e-53,2.806907569536273e-54};
-        c4_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
-        c5_ = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+    private static BoundaryTables createTables() {
+        double[] c1 = new double[]{7.1343114531971554e-1,-7.0738165583162023e-1,7.071072938029658e-1,-7.071067821438269e-1,7.0710678118833518e-1,-7.0710678118655086e-1,7.0710678118654753e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1,7.0710678118654752e-1,-7.0710678118654752e-1};
+        double[] c2 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+        double[] c3 = new double[]{9.4783960205306911e-2,1.9718189751719591e-2,8.5143957730383965e-4,3.679398705224701e-5,1.5900123447770268e-6,6.871066350523653e-8,2.9692569965648223e-9,1.283132291536861e-10,5.54491739680807e-12,2.3961760716503273e-13,1.0354815690590412e-14,4.4747215888960048e-16,1.9337025299568904e-17,8.3562863076006674e-19,3.6110787348533445e-20,1.5604886129199853e-21,6.743482737027158e-23,2.9141231181105078e-24,1.2593067823659661e-25,5.4419580362176888e-27,2.3516832977198975e-28,1.0162544980994603e-29,4.3916338816060969e-31,1.8977970760413873e-32,8.201124772527848e-34,3.5440273559101621e-35,1.5315130848287462e-36,6.6182681267687138e-38,2.8600129787791227e-39,1.235923670982888e-40,5.3409104498115872e-42,2.3080166763228501e-43,9.9738444002038938e-45,4.3100889668599362e-46,1.8625583232347186e-47,8.0488443141773827e-49,3.4782210031068942e-50,1.5030755813159725e-51,6.4953785315260396e-53,2.806907569536273e-54};
+        double[] c4 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
+        double[] c5 = new double[]{0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
 
-        cv_ = new double[]{2.3650203724313519,3.9266023120479187,7.068582745628732,1.021017612281303e1,1.3351768777754093e1,1.6493361431346409e1,1.9634954084936207e1,2.2776546738526e1,2.5918139392115794e1,2.9059732045705587e1,3.220132469929538e1,3.5342917352885173e1,3.8484510006474967e1,4.162610266006476e1,4.4767695313654553e1,4.7909287967244346e1,5.105088062083414e1,5.4192473274423933e1,5.7334065928013726e1,6.0475658581603519e1,6.3617251235193313e1,6.6758843888783106e1,6.9900436542372899e1,7.3042029195962692e1,7.6183621849552486e1,7.9325214503142279e1,8.2466807156732072e1,8.5608399810321865e1,8.8749992463911658e1,9.1891585117501452e1,9.5033177771091245e1,9.8174770424681038e1,1.0131636307827083e2,1.0445795573186062e2,1.0759954838545041e2,1.1074114103904021e2,1.1388273369263e2,1.1702432634621979e2,1.2016591899980959e2,1.2330751165339938e2};
+        double[] cv = new double[]{2.3650203724313519,3.9266023120479187,7.068582745628732,1.021017612281303e1,1.3351768777754093e1,1.6493361431346409e1,1.9634954084936207e1,2.2776546738526e1,2.5918139392115794e1,2.9059732045705587e1,3.220132469929538e1,3.5342917352885173e1,3.8484510006474967e1,4.162610266006476e1,4.4767695313654553e1,4.7909287967244346e1,5.105088062083414e1,5.4192473274423933e1,5.7334065928013726e1,6.0475658581603519e1,6.3617251235193313e1,6.6758843888783106e1,6.9900436542372899e1,7.3042029195962692e1,7.6183621849552486e1,7.9325214503142279e1,8.2466807156732072e1,8.5608399810321865e1,8.8749992463911658e1,9.1891585117501452e1,9.5033177771091245e1,9.8174770424681038e1,1.0131636307827083e2,1.0445795573186062e2,1.0759954838545041e2,1.1074114103904021e2,1.1388273369263e2,1.1702432634621979e2,1.2016591899980959e2,1.2330751165339938e2};
 
-        IX_ = new double[]{6.9194186014653522e-1,-1.8517277478098387e-1,9.9914774947271602e-2,-6.9258705004204403e-2,5.2959664217232863e-2,-4.2872209697249737e-2,3.6012652495061226e-2,-3.104539021794757e-2,2.7282312610607456e-2,-2.4332873409659761e-2,2.1958934540416899e-2,-2.0007029247935703e-2,1.8373802370553184e-2,-1.6987100304851057e-2,1.5795023090475545e-2,-1.4759283871427968e-2,1.3851020248570862e-2,-1.3048062553001537e-2,1.233310022133022e-2,-1.1692419690352026e-2,1.1115016248853161e-2,-1.0591956660671836e-2,1.0115913664686585e-2,-9.6808206038398502e-3,9.2816115067742893e-3,-8.9140229322485749e-3,8.574441106258153e-3,-8.2597827170376703e-3,7.9674010279389917e-3,-7.6950112492060347e-3,7.4406307120421989e-3,-7.2025305292568485e-3,6.979196249279892e-3,-6.769295610203805e-3,6.571651942752599e-3,-6.3852221004050075e-3,6.2090780424628004e-3,-6.0423913836047387e-3,5.8844203670399089e-3,-5.7344988290261533e-3};
+        double[] IX = new double[]{6.9194186014653522e-1,-1.8517277478098387e-1,9.9914774947271602e-2,-6.9258705004204403e-2,5.2959664217232863e-2,-4.2872209697249737e-2,3.6012652495061226e-2,-3.104539021794757e-2,2.7282312610607456e-2,-2.4332873409659761e-2,2.1958934540416899e-2,-2.0007029247935703e-2,1.8373802370553184e-2,-1.6987100304851057e-2,1.5795023090475545e-2,-1.4759283871427968e-2,1.3851020248570862e-2,-1.3048062553001537e-2,1.233310022133022e-2,-1.1692419690352026e-2,1.1115016248853161e-2,-1.0591956660671836e-2,1.0115913664686585e-2,-9.6808206038398502e-3,9.2816115067742893e-3,-8.9140229322485749e-3,8.574441106258153e-3,-8.2597827170376703e-3,7.9674010279389917e-3,-7.6950112492060347e-3,7.4406307120421989e-3,-7.2025305292568485e-3,6.979196249279892e-3,-6.769295610203805e-3,6.571651942752599e-3,-6.3852221004050075e-3,6.2090780424628004e-3,-6.0423913836047387e-3,5.8844203670399089e-3,-5.7344988290261533e-3};
 
-        IXX_ =   new double[][] {{5.7276975999909775e-1,-6.5220790152768659e-2,-5.4615834630229278e-3,-1.2424823322160144e-3,-4.2407595820194311e-4,-1.8201956032323717e-4,-9.0603084299496741e-5,-5.0034560861856756e-5,-2.9839115558022301e-5,-1.8880946074380616e-5,-1.2522435540693496e-5,-8.6291942988529004e-6,-6.1380930672523472e-6,-4.4844856849402698e-6,-3.3520891088965177e-6,-2.5556115008707538e-6,-1.982257952168208e-6,-1.5610499774320639e-6,-1.2460096673851624e-6,-1.0065832750281908e-6,-8.2200100584983249e-7,-6.7785464462836971e-7,-5.6396498086019477e-7,-4.7302084339322742e-7,-3.9969163691792763e-7,-3.4003720909398929e-7,-2.911083699511099e-7,-2.5067201736633721e-7,-2.1701914095154536e-7,-1.8882884579172105e-7,-1.6507080920719874e-7,-1.4493447082721349e-7,-1.2777705747294089e-7,-1.1308503719658856e-7,-1.0044525547693763e-7,-8.9523125186916415e-8,-8.0046005944770019e-8,-7.1790436471659407e-8,-6.4572252577328166e-8,-5.8238883982059013e-8},
+        double[][] IXX = new double[][] {{5.7276975999909775e-1,-6.5220790152768659e-2,-5.4615834630229278e-3,-1.2424823322160144e-3,-4.2407595820194311e-4,-1.8201956032323717e-4,-9.0603084299496741e-5,-5.0034560861856756e-5,-2.9839115558022301e-5,-1.8880946074380616e-5,-1.2522435540693496e-5,-8.6291942988529004e-6,-6.1380930672523472e-6,-4.4844856849402698e-6,-3.3520891088965177e-6,-2.5556115008707538e-6,-1.982257952168208e-6,-1.5610499774320639e-6,-1.2460096673851624e-6,-1.0065832750281908e-6,-8.2200100584983249e-7,-6.7785464462836971e-7,-5.6396498086019477e-7,-4.7302084339322742e-7,-3.9969163691792763e-7,-3.4003720909398929e-7,-2.911083699511099e-7,-2.5067201736633721e-7,-2.1701914095154536e-7,-1.8882884579172105e-7,-1.6507080920719874e-7,-1.4493447082721349e-7,-1.2777705747294089e-7,-1.1308503719658856e-7,-1.0044525547693763e-7,-8.9523125186916415e-8,-8.0046005944770019e-8,-7.1790436471659407e-8,-6.4572252577328166e-8,-5.8238883982059013e-8},
                                  {-6.5220790152768659e-2,2.5e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {-5.4615834630229278e-3,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {-1.2424823322160144e-3,0,0,2.4999999999999999e-1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -99,7 +101,7 @@ public class Boundary_SF_200 extends Boundary{
                                  {-6.4572252577328166e-8,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1,0},
                                  {-5.8238883982059013e-8,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,2.4999999999999999e-1}};
 
-        IXdX_ =  new double[][] {{4.9999999999999999e-1,1.4098848258067016,7.6406719941851075e-1,1.1284196203409537,8.915604113545942e-1,1.0806936660761114,9.2881623767490501e-1,1.0588149095315051,9.4681130738740078e-1,1.0462440096238415,9.5747802726631337e-1,1.0380892561756231,9.6455549725293395e-1,1.0323742287610755,9.6960167031492838e-1,1.0281478535432251,9.7338432849591308e-1,1.0248961364818485,9.7632663907209872e-1,1.0223171000598278,9.7868135619127203e-1,1.0202217482296632,9.8060890606895147e-1,1.0184857766404955,9.8221608339036596e-1,1.0170240894095844,9.8357676635942283e-1,1.015776477227206,9.8474370772827317e-1,1.0146991433928288,9.8575559083674876e-1,1.0137594703551572,9.8664143185128531e-1,1.012932668082497,9.8742342493862271e-1,1.0121995596790884,9.8811883762246073e-1,1.0115450782670976,9.88741307018853e-1,1.0109572222055329},
+        double[][] IXdX = new double[][] {{4.9999999999999999e-1,1.4098848258067016,7.6406719941851075e-1,1.1284196203409537,8.915604113545942e-1,1.0806936660761114,9.2881623767490501e-1,1.0588149095315051,9.4681130738740078e-1,1.0462440096238415,9.5747802726631337e-1,1.0380892561756231,9.6455549725293395e-1,1.0323742287610755,9.6960167031492838e-1,1.0281478535432251,9.7338432849591308e-1,1.0248961364818485,9.7632663907209872e-1,1.0223171000598278,9.7868135619127203e-1,1.0202217482296632,9.8060890606895147e-1,1.0184857766404955,9.8221608339036596e-1,1.0170240894095844,9.8357676635942283e-1,1.015776477227206,9.8474370772827317e-1,1.0146991433928288,9.8575559083674876e-1,1.0137594703551572,9.8664143185128531e-1,1.012932668082497,9.8742342493862271e-1,1.0121995596790884,9.8811883762246073e-1,1.0115450782670976,9.88741307018853e-1,1.0109572222055329},
                                  {-4.0988482580670162e-1,5e-1,1.5009497455097918,8.0127427126121997e-1,1.1647907175325272,8.8012711709356054e-1,1.1031168442743724,9.1434517870654186e-1,1.0760218354648997,9.3333957155643253e-1,1.0604597547749074,9.4541638561999364e-1,1.0502725128284634,9.5377572191520676e-1,1.0430580785221076,9.5990752087414681e-1,1.0376705268561858,9.645988815241775e-1,1.0334894937458058,9.6830482967073421e-1,1.0301484002172667,9.7130680795957652e-1,1.027416163910865,9.7378829030161142e-1,1.0251396605690014,9.7587402538796449e-1,1.0232133016594342,9.7765180769570667e-1,1.0215618660108927,9.7918522715643411e-1,1.0201302889026222,9.80521478355217e-1,1.0188773203596904,9.81696328046319e-1,1.0177714405190335,9.8273737885731078e-1,1.0167881457615874,9.836662743673899e-1,1.0159080965360985,9.8450022577777358e-1},
                                  {2.3593280058148924e-1,-5.0094974550979183e-1,4.9999999999999999e-1,1.9632941119703568,7.1721488649723734e-1,1.2976319339199679,8.1008961666123039e-1,1.1812442828959669,8.5808883641314224e-1,1.1329215944559352,8.868886006395942e-1,1.105885074560802,9.0598927491136808e-1,1.0883583109060266,9.1956321985870064e-1,1.0759731555401252,9.2970187081922585e-1,1.0667129443702427,9.3756266051099785e-1,1.0595071605710685,9.4383632448996152e-1,1.0537302111001367,9.4896010017815427e-1,1.0489900067311293,9.5322410626231653e-1,1.0450273750949073,9.5682838283762008e-1,1.0416636789892151,9.5991532890780615e-1,1.0387715539932226,9.6258907238264009e-1,1.0362576182152301,9.64927522833381e-1,1.0340517766827257,9.6699013922515304e-1,1.0321003475177114,9.688230900401161e-1,1.0303614991127271,9.7046277284560569e-1,1.0288021361325478},
                                  {-1.2841962034095375e-1,1.9872572873878002e-1,-9.6329411197035683e-1,5e-1,2.4404890871749336,6.7031056066714081e-1,1.4352328429693367,7.6158443992020609e-1,1.2578210166241575,8.1506665405252525e-1,1.1864596858830594,8.4942384199659631e-1,1.1476697296519541,8.7314642264699805e-1,1.1229995728116446,8.9044510076683469e-1,1.1057642275717933,9.0359648153847511e-1,1.0929596174754769,9.1392504616896137e-1,1.0830284439831572,9.2224917244244878e-1,1.0750776011716084,9.291001405112668e-1,1.0685552260295308,9.3483724494058927e-1,1.0631003146376276,9.397119227280133e-1,1.0584658974753547,9.4390529451067788e-1,1.0544768175823136,9.4755109454278639e-1,1.0510051175038295,9.5075019809570152e-1,1.0479549797374622,9.5358012243225955e-1,1.0452531328674265,9.5610141555084344e-1,1.0428425273563054,9.5836205861028077e-1},
@@ -140,7 +142,7 @@ public class Boundary_SF_200 extends Boundary{
                                  {1.1258692981146992e-2,-1.5908096536098518e-2,2.9537227154394301e-2,-4.2842527356305447e-2,5.6097684375455801e-2,-7.0300164981257847e-2,8.3227132683169873e-2,-9.9595277668799736e-2,1.109359816082599e-1,-1.3185744584318706e-1,1.3916950524503722e-1,-1.6852441613588101e-1,1.678001081781948e-1,-2.1142993363338164e-1,1.9665284074467058e-1,-2.6294451834164009e-1,2.255282516617941e-1,-3.2620949338201734e-1,2.5422138490124696e-1,-4.055325229359444e-1,2.8253638253638253e-1,-5.070754716981132e-1,3.1029668181686288e-1,-6.4010387422796181e-1,3.373512097019928e-1,-8.1939841622227816e-1,3.6357723774906089e-1,-1.070302558025709,3.8888066814169039e-1,-1.4405021834061135,4.131945097211698e-1,-2.0319968306018928,4.3647621324408319e-1,-3.1097948805294661,4.587044071022481e-1,-5.6453742203742203,4.7987543851328552e-1,-1.8381621354966016e1,5e-1,1.9881450538932123e1},
                                  {-1.0957222205532944e-2,1.5499774222226413e-2,-2.8802136132547821e-2,4.1637941389719228e-2,-5.4920036006314053e-2,6.7777119557606385e-2,-8.2332484781279992e-2,9.4453654590069813e-2,-1.1190902619276346e-1,1.2166953409729209e-1,-1.448023756826504e-1,1.493444500782086e-1,-1.8247107551174095e-1,1.7734132475919933e-1,-2.2677001935622625e-1,2.0548809473762502e-1,-2.8009816263164393e-1,2.3359672376802785e-1,-3.4564196283623863e-1,2.6147870123931344e-1,-4.2778419534899408e-1,2.8895672371118303e-1,-5.3281213314309451e-1,3.1587266502492642e-1,-6.7020132323291639e-1,3.4209224472545683e-1,-8.5509108120113333e-1,3.6750698262217273e-1,-1.113464472616485,3.9203408940758592e-1,-1.4942358813381974,4.1561491724946527e-1,-2.1020577448707746,4.3821251309250188e-1,-3.2088569256990188,4.5980871051413947e-1,-5.8115028973449519,4.8040108537189333e-1,-1.8881450538932123e1,5e-1}};
 
-        IXdX2_ = new double[][] {{-1.4485807346544339,4.5251916443677669,7.1582986810096232,1.0239653734128977e1,1.3364925596179125e1,1.6500337257697199e1,1.9639087807222131e1,2.2779194789835117e1,2.5919936433967791e1,2.9061006968192964e1,3.2202261680689346e1,3.5343626018020641e1,3.848505889967999e1,4.1626536417384914e1,4.4768044011060155e1,4.7909572467705281e1,5.1051115763712943e1,5.4192669847576841e1,5.7334231925907434e1,6.0475800030231966e1,6.361737274621522e1,6.6758949039879974e1,6.9900528143422414e1,7.3042109478581764e1,7.6183692604221053e1,7.9325277179842267e1,8.2466862939787321e1,8.5608449674728967e1,8.8750037218213743e1,9.1891625436757093e1,9.5033214222469674e1,9.8174803487509786e1,1.013163931598685e2,1.0445798318013786e2,1.0759957349901153e2,1.1074116407533634e2,1.1388275487458175e2,1.1702434586762911e2,1.2016593702980736e2,1.2330752834012028e2},
+        double[][] IXdX2 = new double[][] {{-1.4485807346544339,4.5251916443677669,7.1582986810096232,1.0239653734128977e1,1.3364925596179125e1,1.6500337257697199e1,1.9639087807222131e1,2.2779194789835117e1,2.5919936433967791e1,2.9061006968192964e1,3.2202261680689346e1,3.5343626018020641e1,3.848505889967999e1,4.1626536417384914e1,4.4768044011060155e1,4.7909572467705281e1,5.1051115763712943e1,5.4192669847576841e1,5.7334231925907434e1,6.0475800030231966e1,6.361737274621522e1,6.6758949039879974e1,6.9900528143422414e1,7.3042109478581764e1,7.6183692604221053e1,7.9325277179842267e1,8.2466862939787321e1,8.5608449674728967e1,8.8750037218213743e1,9.1891625436757093e1,9.5033214222469674e1,9.8174803487509786e1,1.013163931598685e2,1.0445798318013786e2,1.0759957349901153e2,1.1074116407533634e2,1.1388275487458175e2,1.1702434586762911e2,1.2016593702980736e2,1.2330752834012028e2},
                                  {5.9553713758758338e-1,-2.8781325089694064,3.4692921788516319,6.4209761885488469,9.4931246193573941,1.2604196772161416e1,1.5730458353029274e1,1.8863554713654351e1,2.2000074701367983e1,2.5138457458975835e1,2.8277922210446983e1,3.1418049558253285e1,3.4558600742480477e1,3.7699433119966021e1,4.0840457933079607e1,4.3981618001157253e1,4.7122875364090564e1,5.0264204153004266e1,5.3405586327968621e1,5.6547009048958101e1,5.9688463008769952e1,6.2829941349549759e1,6.5971438942875472e1,6.9112951901771962e1,7.2254477243900209e1,7.5396012655226886e1,7.85375563216804e1,8.1679106807564569e1,8.4820662966616166e1,8.7962223876170583e1,9.1103788787896448e1,9.4245357090552654e1,9.7386928281565989e1,1.0052850194514748e2,1.0367007773530299e2,1.0681165536254035e2,1.0995323458339263e2,1.1309481519210358e2,1.1623639701398619e2,1.1937797990008487e2},
                                  {8.9705686659333814e-2,3.30353691281526e-1,-1.0724103481356926e1,4.0784884344670876,6.8188293432696232,9.7538227125502388,1.2781033282497613e1,1.5855030810394338e1,1.8954409902461902e1,2.2068395318177667e1,2.5191221980524111e1,2.8319635757157928e1,3.1451712627948657e1,3.458626842123528e1,3.772254846514559e1,4.0860056940405352e1,4.3998459260406073e1,4.7137524234664524e1,5.0277088718026806e1,5.3417035394003227e1,5.6557278459598963e1,5.9697754191655237e1,6.2838414602267737e1,6.5979223092087036e1,6.9120151421683182e1,7.2261177568416734e1,7.5402284188213479e1,7.8543457496949438e1,8.1684686447066756e1,8.4825962114654118e1,8.7967277238403841e1,9.1108625869418281e1,9.4250003102782849e1,9.7391404870053766e1,1.0053282777754971e2,1.0367426897938674e2,1.0681572607708398e2,1.0995719703964773e2,1.1309868013955422e2,1.1624017390116122e2},
                                  {2.9477583670925928e-2,1.4045454487097878e-1,9.3690527835932535e-1,-2.3509380218231088e1,4.7741804541087227,7.3647550415918412,1.0168240643923454e1,1.3095172023368873e1,1.6095599878400995e1,1.9141256245071015e1,2.2215690660008078e1,2.5309019429168926e1,2.8415113050895663e1,3.1530055154589519e1,3.4651273894099281e1,3.7777037742296018e1,4.0906154317248973e1,4.4037785564374215e1,4.7171331462312859e1,5.0306355134256059e1,5.3442533585765653e1,5.6579624659991355e1,5.9717444469234961e1,6.2855851724154557e1,6.5994736684993895e1,6.9134013260840651e1,7.227361328561611e1,7.5413482320448177e1,7.8553576540449135e1,8.1693860401330551e1,8.4834304873238806e1,8.7974886091573453e1,9.1115584317414217e1,9.4256383129993143e1,9.7397268794617402e1,1.0053822976435604e2,1.0367925628450982e2,1.0682034007664481e2,1.0996147408464836e2,1.1310265226945512e2},
@@ -181,7 +183,7 @@ public class Boundary_SF_200 extends Boundary{
                                  {1.8029997775033551e-5,1.3252095678837263e-4,1.3541340949260471e-3,5.7312352968238544e-3,1.6282644850900468e-2,3.6806915881273945e-2,7.1713985144904326e-2,1.2586319211644061e-1,2.0440996617113911e-1,3.1266331493369014e-1,4.5595598106612831e-1,6.3952875928063791e-1,8.6843001940144725e-1,1.1474310034021059,1.4809569892753765,1.8730339714447036,2.3272501184381585,2.8467309486655556,3.4341269222518296,4.0916119825653033,4.8208914917313851,5.6232179825457468,6.4994131847383202,7.4498948650967686,8.4747071368513152,9.5735530327965282,1.0745828288834314e1,1.1990655441387642e1,1.3306917496509607e1,1.4693290575192917e1,1.6148275074607189e1,1.767022500635907e1,1.9257375279139562e1,2.0907866783977151e1,2.2619769216144148e1,2.4391101629463006e1,2.621985076755829e1,2.8103987253917204e1,-3.5799205425172475e3,3.2030307209092018e1},
                                  {1.6686720896620215e-5,1.2275346567151439e-4,1.2552421121314811e-3,5.3167665137926886e-3,1.5117316232769872e-2,3.4201597891567604e-2,6.6696730770780432e-2,1.1716532277171959e-1,1.9046590446533393e-1,2.9162257360905675e-1,4.2570549774235651e-1,5.9772362299284679e-1,8.1253057404514714e-1,1.0747443343292199,1.3886808953279114,1.7583016838586258,2.1871742355098255,2.6784452947657518,3.2348252958137584,3.858583015557691,4.5515490905579133,5.3151270476674069,6.1503105068058641,7.0577052649380699,8.0375550536413122,9.0897698695185338,1.021395589864579e1,1.1409446185745089e1,1.2675331329564176e1,1.40104896130192e1,1.5413616096260071e1,1.6883250310347977e1,1.8417802287091824e1,2.0015576746017467e1,2.1674795332351663e1,2.3393616860709192e1,2.5170155568653848e1,2.7002497423473011e1,2.8888714555502224e1,-3.7703587296249564e3}};
 
-        IdXdX_ = new double[][] {{1.4485807346544342,-5.955371375875831e-1,-8.9705686659333537e-2,-2.9477583670925651e-2,-1.3156818357521761e-2,-6.9758263506335255e-3,-4.1337222859238965e-3,-2.6480513091160643e-3,-1.7970418519976492e-3,-1.2749224873769124e-3,-9.3698139396533579e-4,-7.0866513546780078e-4,-5.4889320502303747e-4,-4.3375732015442809e-4,-3.4869740560175039e-4,-2.8450046093500592e-4,-2.3514287880314936e-4,-1.9657315290815491e-4,-1.6599789370808154e-4,-1.4144862844634582e-4,-1.2151102190790158e-4,-1.0515109686864559e-4,-9.1601049514512437e-5,-8.0282619072038846e-5,-7.0754668567813068e-5,-6.2676699988221215e-5,-5.5783055249081067e-5,-4.9864407102213368e-5,-4.475430208496534e-5,-4.0319255641325274e-5,-3.6451378428691087e-5,-3.3062828748281055e-5,-3.0081597671786288e-5,-2.7448277239473331e-5,-2.511356111866901e-5,-2.3036296133709883e-5,-2.11819517527138e-5,-1.9521409315346319e-5,-1.8029997774756917e-5,-1.6686720896343582e-5},
+        double[][] IdXdX = new double[][] {{1.4485807346544342,-5.955371375875831e-1,-8.9705686659333537e-2,-2.9477583670925651e-2,-1.3156818357521761e-2,-6.9758263506335255e-3,-4.1337222859238965e-3,-2.6480513091160643e-3,-1.7970418519976492e-3,-1.2749224873769124e-3,-9.3698139396533579e-4,-7.0866513546780078e-4,-5.4889320502303747e-4,-4.3375732015442809e-4,-3.4869740560175039e-4,-2.8450046093500592e-4,-2.3514287880314936e-4,-1.9657315290815491e-4,-1.6599789370808154e-4,-1.4144862844634582e-4,-1.2151102190790158e-4,-1.0515109686864559e-4,-9.1601049514512437e-5,-8.0282619072038846e-5,-7.0754668567813068e-5,-6.2676699988221215e-5,-5.5783055249081067e-5,-4.9864407102213368e-5,-4.475430208496534e-5,-4.0319255641325274e-5,-3.6451378428691087e-5,-3.3062828748281055e-5,-3.0081597671786288e-5,-2.7448277239473331e-5,-2.511356111866901e-5,-2.3036296133709883e-5,-2.11819517527138e-5,-1.9521409315346319e-5,-1.8029997774756917e-5,-1.6686720896343582e-5},
                                  {-5.955371375875831e-1,6.8077870157495902,3.5993008154986577,3.789199961909205,3.8586441584642092,3.8891646591851485,3.9044957319069337,3.9129920248716494,3.9180646907478111,3.9212745867297514,3.9234024888483969,3.9248677946318884,3.9259092639944893,3.9266695400987388,3.9272373805749462,3.9276699660870934,3.9280052567435757,3.9282691214196666,3.9284796000451049,3.9286495326454181,3.9287882264233604,3.9289025392333463,3.9289975994974268,3.9290772941907299,3.9291446056522764,3.9292018479153925,3.9292508350516719,3.9292930027572957,3.9293294972954928,3.9293612413308691,3.9293889831947967,3.9294133341283841,3.9294347967048419,3.9294537867131365,3.9294706501474268,3.9294856764998547,3.9294991092373692,3.929511154116212,3.9295219858233954,3.9295317533145122},
                                  {-8.9705686659333537e-2,3.5993008154986577,1.7792696475707216e1,6.1316877159909643,6.5329394345519801,6.7395387187963266,6.8539208024385947,6.9215159281316621,6.9637294896538915,6.99133672752792,7.0101027187712692,7.0232815957272459,7.0327973785263101,7.0398342388294803,7.045146848508963,7.0492310268389939,7.0524213604280666,7.0549490397594089,7.05697720998692,7.0586231876002927,7.0599727755943494,7.0610896971278683,7.0620219401051615,7.0628061038756565,7.0634704278693036,7.064036934725545,7.0645229685185933,7.0649423133724269,7.0653060168449028,7.0656230028473337,7.0659005326874036,7.0661445552627572,7.0663599754879823,7.0665508618068582,7.0667206079007076,7.0668720596534684,7.0670076155460171,7.0671293065720669,7.0672388602553636,7.0673377522381582},
                                  {-2.9477583670925651e-2,3.789199961909205,6.1316877159909643,3.371955636868914e1,8.5775883237128806,9.1286063897547242,9.4667134410127533,9.6813747151571271,9.8225395137147988,9.9184758006345723,9.9856340392873023,1.0033897923716247e1,1.0069396955579304e1,1.009604750547524e1,1.0116421419555272e1,1.0132250224948328e1,1.0144726303585166e1,1.0154687710049717e1,1.0162734465700866e1,1.016930344734746e1,1.0174717649427659e1,1.0179219228791751e1,1.0182992073137938e1,1.0186177471808135e1,1.018888516455859e1,1.0191201242301628e1,1.0193193871115961e1,1.0194917489873688e1,1.0196415923462523e1,1.01977247161709e1,1.0198872897852439e1,1.0199884333107585e1,1.0200778760856614e1,1.0201572601867481e1,1.0202279590833015e1,1.0202911274684165e1,1.0203477408120177e1,1.0203986269574986e1,1.0204444915161228e1,1.0204859383944259e1},
@@ -222,7 +224,7 @@ public class Boundary_SF_200 extends Boundary{
                                  {-1.8029997774756917e-5,3.9295219858233954,7.0672388602553636,1.0204444915161228e1,1.3335486132970702e1,1.6456554515465291e1,1.9563240099791303e1,2.265068354640956e1,2.5713729425944655e1,2.8747068730771897e1,3.1745368718229252e1,3.4703388593604536e1,3.7616079987073519e1,4.0478671656662654e1,4.3286738324379177e1,4.6036253995799643e1,4.8723630502395981e1,5.1345742325758377e1,5.3899939005761896e1,5.6384046599038216e1,5.8796359743461927e1,6.1135625906237359e1,6.3401023357634579e1,6.5592134330865924e1,6.770891471270117e1,6.9751661470345751e1,7.1720978867897757e1,7.3617744368934223e1,7.5443074967402051e1,7.7198294542308534e1,7.8884902696484055e1,8.0504545418321967e1,8.2058987799131269e1,8.3550088947883474e1,8.4979779169306269e1,8.6350039409577205e1,8.7662882925071714e1,8.8920339092302593e1,3.7000864615170571e3,9.1277204444307366e1},
                                  {-1.6686720896343582e-5,3.9295317533145122,7.0673377522381582,1.0204859383944259e1,1.3336651461588833e1,1.6459159833454997e1,1.9568257354165427e1,2.2659381415754281e1,2.572767348765046e1,2.876810947209653e1,3.1775619201553024e1,3.4745193729892327e1,3.767197943242982e1,4.055135832573554e1,4.3379014418326642e1,4.6150986283385721e1,4.8863706385324314e1,5.1514027979658181e1,5.4099240632199968e1,5.6617075566045828e1,5.9065702144635399e1,6.1443716841115699e1,6.3750126035567035e1,6.5984323931024622e1,6.8146066795911173e1,7.0235444633623745e1,7.2252851258086281e1,7.4198953624576776e1,7.6074661134347482e1,7.7881095504482251e1,7.9619561674831174e1,8.1291520114333061e1,8.2898560791179007e1,8.4442378985843157e1,8.5924753053098754e1,8.7347524178331019e1,8.8712578123976156e1,9.0021828922746786e1,9.1277204444307366e1,3.8936662412783557e3}};
 
-        IdXdX2_ = new double[][]{{-1.8268113569451421,7.6884806460247146,-1.0514815387827196e1,1.4407579599435134e1,-1.8497849748514298e1,2.2652785364689338e1,-2.6838887232406903e1,3.1042359794364039e1,-3.5256563375983624e1,3.9477877333579831e1,-4.3704153163009484e1,4.7934032502626397e1,-5.2166613250614391e1,5.6401272246663774e1,-6.0637564891562288e1,6.4875165304339466e1,-6.9113829085574291e1,7.3353369296154503e1,-7.7593640476033408e1,8.1834527724485827e1,-8.6075939062717259e1,9.0317799981128086e1,-9.4560049474435586e1,9.8802637111063949e1,-1.0304552083481348e2,1.0728866529365827e2,-1.1153204055373427e2,1.1577562109868204e2,-1.2001938504304482e2,1.2426331350810037e2,-1.2850739012226477e2,1.3275160061797829e2,-1.3699593250399663e2,1.4124037479712154e2,-1.454849178011519e2,1.4972955292363224e2,-1.5397427252306047e2,1.5821906978080755e2,-1.6246393859320329e2,1.6670887348018009e2},
+        double[][] IdXdX2 = new double[][]{{-1.8268113569451421,7.6884806460247146,-1.0514815387827196e1,1.4407579599435134e1,-1.8497849748514298e1,2.2652785364689338e1,-2.6838887232406903e1,3.1042359794364039e1,-3.5256563375983624e1,3.9477877333579831e1,-4.3704153163009484e1,4.7934032502626397e1,-5.2166613250614391e1,5.6401272246663774e1,-6.0637564891562288e1,6.4875165304339466e1,-6.9113829085574291e1,7.3353369296154503e1,-7.7593640476033408e1,8.1834527724485827e1,-8.6075939062717259e1,9.0317799981128086e1,-9.4560049474435586e1,9.8802637111063949e1,-1.0304552083481348e2,1.0728866529365827e2,-1.1153204055373427e2,1.1577562109868204e2,-1.2001938504304482e2,1.2426331350810037e2,-1.2850739012226477e2,1.3275160061797829e2,-1.3699593250399663e2,1.4124037479712154e2,-1.454849178011519e2,1.4972955292363224e2,-1.5397427252306047e2,1.5821906978080755e2,-1.6246393859320329e2,1.6670887348018009e2},
                                  {-2.5272327462342988,4.0756036742417971,5.0496094521557148e1,1.7973449428616362e1,8.0897026185125055e1,3.1536267391630203e1,1.1641937831958897e2,4.4689201493540179e1,1.5261661094106629e2,5.7658588310107712e1,1.890310075763931e2,7.0534695059028296e1,2.2554317704791895e2,8.3357644036437137e1,2.6210806572625596e2,9.6147609178554824e1,2.9870476869478633e2,1.0891575936065265e2,3.3532220865893735e2,1.2166875399946766e2,3.7195394592196838e2,1.3441080168629502e2,4.0859597158490717e2,1.4714468921681832e2,4.4524565493686002e2,1.5987233372561454e2,4.8190119582494616e2,1.7259509664966428e2,5.185613196822721e2,1.8531397109680462e2,5.5522509811886176e2,1.9802969831760902e2,5.9189183850248073e2,2.1074284267364738e2,6.2856101337601044e2,2.2345384136631051e2,6.6523221386026363e2,2.36163038301417e2,7.0190511802392924e2,2.4887070768975098e2},
                                  {9.4943733997508106e-1,-9.2065454579062318,1.2461169928312047e1,1.6302425668972822e2,3.6814104964232508e1,1.9212274245777556e2,6.1359999615419513e1,2.516725236350863e2,8.5158094620565811e1,3.1541440850169904e2,1.0844652070596709e2,3.8048661665490914e2,1.3141847063312191e2,4.4614217285425213e2,1.5418789264776598e2,5.1210481351526155e2,1.7682187009886998e2,5.7824932407410764e2,1.9936147919572446e2,6.445107385561695e2,2.2183298101187913e2,7.1085193973808536e2,2.4425384065206143e2,7.7725013760005204e2,2.6663608108075567e2,8.4369053712538815e2,2.8898822956185434e2,9.1016309836865972e2,3.1131649222009247e2,9.7666075820697091e2,3.3362548838180439e2,1.0431783971470674e3,3.5591872445031421e2,1.1097122100689619e3,3.78198908429176e2,1.1762593075092327e3,4.0046816397282879e2,1.2428174543597698e3,4.2272817935198107e2,1.3093848935762152e3},
                                  {-6.0826592646508963e-1,2.655574322411999,-5.4725341989956914e1,2.6064636497123e1,3.7132176927093769e2,6.0875677968769313e1,3.5367442122731318e2,9.6825185819064881e1,4.2777320321280868e2,1.320579513694256e2,5.1489541205976151e2,1.6653926246692234e2,6.062231700616057e2,2.0045580351305545e2,6.9939804050174675e2,2.33967547428931e2,7.9353913883121485e2,2.6718746024882129e2,8.8824728840093118e2,3.0019294009686297e2,9.8331652249153003e2,3.3303743248781023e2,1.0786300832173351e3,3.6575853567744215e2,1.174116883552056e3,3.9838326242444828e2,1.2697311502936671e3,4.3093142525251584e2,1.3654420537421949e3,4.6341783834045072e2,1.4612280494957724e3,4.9585377528766628e2,1.5570736126184551e3,5.2824795335824529e2,1.6529672620684649e3,5.6060721114817059e2,1.7489003171903987e3,5.9293698397432518e2,1.8448660878901079e3,6.2524164325451173e2},
@@ -263,7 +265,7 @@ public class Boundary_SF_200 extends Boundary{
                                  {4.8180485581599822e-2,-2.5982930510316186e-1,1.4627248260601374,-4.5252093094669332,9.7830729128780788,-1.9730895490622575e1,3.0678573742246645e1,-5.4533878786954286e1,6.9223314051086497e1,-1.2043530923208104e2,1.2962599610639556e2,-2.3311033529348989e2,2.1510050669812521e2,-4.1411458187169112e2,3.2782207981796513e2,-6.9327224360491344e2,4.6896185023806979e2,-1.1122913121099419e3,6.3878283542335343e2,-1.7305991670076992e3,8.3677657050327146e2,-2.6353047107745731e3,1.0618198084801201e3,-3.9591979601879639e3,1.3123337259716281e3,-5.9154802060802972e3,1.5864325789972243e3,-8.8705321980533434e3,1.8820535399382486e3,-1.351388154826001e4,2.1970636950451171e3,-2.1319735969199484e4,2.5293434721691849e3,-3.611640951290691e4,2.8768480039133344e3,-7.1933711513404877e4,3.2376492211358911e3,-2.550195106802028e5,3.6099620222671999e3,2.9834275710284688e5},
                                  {-4.6951761901561826e-2,2.5217368976122448e-1,-1.4445299854497766,4.2868204548645361,-9.9923799713128335,1.7873379823525068e1,-3.3051346922618501e1,4.6331203094044422e1,-8.0111404559400314e1,9.4271557505119225e1,-1.6385752959853993e2,1.654241127417325e2,-3.0151999783185676e2,2.625476452947387e2,-5.1664839371663595e2,3.8741781615757754e2,-8.4164687690526906e2,5.4088092691155417e2,-1.321658258839675e3,7.2295708582219745e2,-2.020865839426399e3,9.3297418746723757e2,-3.0332673168480945e3,1.1697151534981307e3,-4.5021411631567125e3,1.4315639666385782e3,-6.6575937657362056e3,1.7166400519404608e3,-9.8952065806376731e3,2.0229146131463749e3,-1.4959704721495472e4,2.3483060271924749e3,-2.3443658903446327e4,2.6907540572523571e3,-3.9483261689218187e4,3.048274424584339e3,-7.8237437179157056e4,3.4189962896276183e3,-2.7611671641673118e5,3.8011856075383062e3}};
 
-        IdX2dX2_ =new double[][]{{4.4553340807573522,-1.5504355860339106e1,-1.3634774506243351e1,-1.3502778898501214e1,-1.3477174855514607e1,-1.3469602062079394e1,-1.3466742075334281e1,-1.3465472879185544e1,-1.3464841059754377e1,-1.3464498230749836e1,-1.3464299303197211e1,-1.3464177502195559e1,-1.3464099567486051e1,-1.3464047833975849e1,-1.3464012406672823e1,-1.3463987488676627e1,-1.3463969551171039e1,-1.3463956373576834e1,-1.3463946517463909e1,-1.3463939026950838e1,-1.3463933252249535e1,-1.3463928742595472e1,-1.3463925179529568e1,-1.346392233432005e1,-1.3463920040197944e1,-1.3463918173894622e1,-1.3463916643143958e1,-1.3463915378082806e1,-1.3463914325244361e1,-1.3463913443304103e1,-1.3463912700028134e1,-1.3463912070057878e1,-1.3463911533284017e1,-1.346391107364058e1,-1.3463910678201926e1,-1.3463910336500417e1,-1.346391004000643e1,-1.3463909781728926e1,-1.3463909555906283e1,-1.3463909357765302e1},
+        double[][] IdX2dX2 = new double[][]{{4.4553340807573522,-1.5504355860339106e1,-1.3634774506243351e1,-1.3502778898501214e1,-1.3477174855514607e1,-1.3469602062079394e1,-1.3466742075334281e1,-1.3465472879185544e1,-1.3464841059754377e1,-1.3464498230749836e1,-1.3464299303197211e1,-1.3464177502195559e1,-1.3464099567486051e1,-1.3464047833975849e1,-1.3464012406672823e1,-1.3463987488676627e1,-1.3463969551171039e1,-1.3463956373576834e1,-1.3463946517463909e1,-1.3463939026950838e1,-1.3463933252249535e1,-1.3463928742595472e1,-1.3463925179529568e1,-1.346392233432005e1,-1.3463920040197944e1,-1.3463918173894622e1,-1.3463916643143958e1,-1.3463915378082806e1,-1.3463914325244361e1,-1.3463913443304103e1,-1.3463912700028134e1,-1.3463912070057878e1,-1.3463911533284017e1,-1.346391107364058e1,-1.3463910678201926e1,-1.3463910336500417e1,-1.346391004000643e1,-1.3463909781728926e1,-1.3463909555906283e1,-1.3463909357765302e1},
                                  {-1.5504355860339106e1,5.9430266882779161e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {-1.3634774506243351e1,0,6.2412185946420791e2,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
                                  {-1.3502778898501214e1,0,0,2.7168955542447222e3,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0},
@@ -303,5 +305,7 @@ public class Boundary_SF_200 extends Boundary{
                                  {-1.3463909781728926e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,4.6886153795164806e7,0,0},
                                  {-1.3463909555906283e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.2127303208845966e7,0},
                                  {-1.3463909357765302e1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5.7796048091825449e7}};
+
+        return new BoundaryTables(c1, c2, c3, c4, c5, cv, IX, IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2);
     }
 }
\ No newline at end of file
@@ -37,28 +37,30 @@ package de.elamx.clt.plate.Boundary;
  */
 public class Boundary_SS_200 extends Boundary{
 
+    // gemeinsam genutzte, unveränderliche Konstanten und Integrale
+    private static final BoundaryTables TABLES = createTables();
+
     /**
      * @see Boundary
      * @param length Länge
      * @param m maximale Anzahl der Halbwellen
      */
     public Boundary_SS_200 (double length, int m){
-        super(length, m);
+        super(length, TABLES);
     }
 
-    @Override
-    protected void initArrays() {
-        c1_ = new double[]{  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00};
-        c2_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
-        c3_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
-        c4_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
-        c5_ = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
+    private static BoundaryTables createTables() {
+        double[] c1 = new double[]{  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00,  1.00000000000000000E+00};
+        double[] c2 = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
+        double[] c3 = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
+        double[] c4 = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
+        double[] c5 = new double[]{  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00};
 
-        cv_ = new double[]{  3.14159265358979300E+00,  6.28318530717958600E+00,  9.42477796076938000E+00,  1.25663706143591720E+01,  1.57079632679489660E+01,  1.88495559215387600E+01,  2.19911485751285520E+01,  2.51327412287183450E+01,  2.82743338823081380E+01,  3.14159265358979300E+01,  3.45575191894877300E+01,  3.76991118430775200E+01,  4.08407044966673140E+01,  4.39822971502571040E+01,  4.71238898038469000E+01,  5.02654824574366900E+01,  5.34070751110264900E+01,  5.65486677646162760E+01,  5.96902604182060700E+01,  6.28318530717958600E+01,  6.59734457253856600E+01,  6.91150383789754600E+01,  7.22566310325652400E+01,  7.53982236861550300E+01,  7.85398163397448300E+01,  8.16814089933346300E+01,  8.48230016469244100E+01,  8.79645943005142100E+01,  9.11061869541040000E+01,  9.42477796076938000E+01,  9.73893722612836000E+01,  1.00530964914873380E+02,  1.03672557568463180E+02,  1.06814150222052970E+02,  1.09955742875642770E+02,  1.13097335529232550E+02,  1.16238928182822350E+02,  1.19380520836412150E+02,  1.22522113490001940E+02,  1.25663706143591720E+02};
+        double[] cv = new double[]{  3.14159265358979300E+00,  6.28318530717958600E+00,  9.42477796076938000E+00,  1.25663706143591720E+01,  1.57079632679489660E+01,  1.88495559215387600E+01,  2.19911485751285520E+01,  2.51327412287183450E+01,  2.82743338823081380E+01,  3.14159265358979300E+01,  3.45575191894877300E+01,  3.76991118430775200E+01,  4.08407044966673140E+01,  4.39822971502571040E+01,  4.71238898038469000E+01,  5.02654824574366900E+01,  5.34070751110264900E+01,  5.65486677646162760E+01,  5.96902604182060700E+01,  6.28318530717958600E+01,  6.59734457253856600E+01,  6.91150383789754600E+01,  7.22566310325652400E+01,  7.53982236861550300E+01,  7.85398163397448300E+01,  8.16814089933346300E+01,  8.48230016469244100E+01,  8.79645943005142100E+01,  9.11061869541040000E+01,  9.42477796076938000E+01,  9.73893722612836000E+01,  1.00530964914873380E+02,  1.03672557568463180E+02,  1.06814150222052970E+02,  1.09955742875642770E+02,  1.13097335529232550E+02,  1.16238928182822350E+02,  1.19380520836412150E+02,  1.22522113490001940E+02,  1.25663706143591720E+02};
 
-        IX_ = new double[]{  6.36619772367581400E-01,  0.00000000000000000E+00,  2.12206590789193770E-01,  0.00000000000000000E+00,  1.27323954473516270E-01,  0.00000000000000000E+00,  9.09456817667973300E-02,  0.00000000000000000E+00,  7.07355302630645900E-02,  0.00000000000000000E+00,  5.78745247606892200E-02,  0.00000000000000000E+00,  4.89707517205831760E-02,  0.00000000000000000E+00,  4.24413181578387550E-02,  0.00000000000000000E+00,  3.74482219039753800E-02,  0.00000000000000000E+00,  3.35063038088200700E-02,  0.00000000000000000E+00,  3.03152272555991100E-02,  0.00000000000000000E+00,  2.76791205377209250E-02,  0.00000000000000000E+00,  2.54647908947032530E-02,  0.00000000000000000E+00,  2.35785100876881970E-02,  0.00000000000000000E+00,  2.19524059437097020E-02,  0.00000000000000000E+00,  2.05361216892768170E-02,  0.00000000000000000E+00,  1.92915082535630720E-02,  0.00000000000000000E+00,  1.81891363533594650E-02,  0.00000000000000000E+00,  1.72059397937184140E-02,  0.00000000000000000E+00,  1.63235839068610600E-02,  0.00000000000000000E+00};
+        double[] IX = new double[]{  6.36619772367581400E-01,  0.00000000000000000E+00,  2.12206590789193770E-01,  0.00000000000000000E+00,  1.27323954473516270E-01,  0.00000000000000000E+00,  9.09456817667973300E-02,  0.00000000000000000E+00,  7.07355302630645900E-02,  0.00000000000000000E+00,  5.78745247606892200E-02,  0.00000000000000000E+00,  4.89707517205831760E-02,  0.00000000000000000E+00,  4.24413181578387550E-02,  0.00000000000000000E+00,  3.74482219039753800E-02,  0.00000000000000000E+00,  3.35063038088200700E-02,  0.00000000000000000E+00,  3.03152272555991100E-02,  0.00000000000000000E+00,  2.76791205377209250E-02,  0.00000000000000000E+00,  2.54647908947032530E-02,  0.00000000000000000E+00,  2.35785100876881970E-02,  0.00000000000000000E+00,  2.19524059437097020E-02,  0.00000000000000000E+00,  2.05361216892768170E-02,  0.00000000000000000E+00,  1.92915082535630720E-02,  0.00000000000000000E+00,  1.81891363533594650E-02,  0.00000000000000000E+00,  1.72059397937184140E-02,  0.00000000000000000E+00,  1.63235839068610600E-02,  0.00000000000000000E+00};
 
-        IXX_ =   new double[][] {{  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
+        double[][] IXX = new double[][] {{  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
@@ -99,7 +101,7 @@ public class Boundary_SS_200 extends Boundary{
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  5.00000000000000000E-01}};
 
-        IXdX_ =  new double[][] {{  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -3.42857142857142860E-01,  0.00000000000000000E+00, -2.53968253968253950E-01,  0.00000000000000000E+00, -2.02020202020202020E-01,  0.00000000000000000E+00, -1.67832167832167840E-01,  0.00000000000000000E+00, -1.43589743589743580E-01,  0.00000000000000000E+00, -1.25490196078431370E-01,  0.00000000000000000E+00, -1.11455108359133120E-01,  0.00000000000000000E+00, -1.00250626566416030E-01,  0.00000000000000000E+00, -9.10973084886128300E-02,  0.00000000000000000E+00, -8.34782608695652200E-02,  0.00000000000000000E+00, -7.70370370370370300E-02,  0.00000000000000000E+00, -7.15197956577266900E-02,  0.00000000000000000E+00, -6.67408231368186900E-02,  0.00000000000000000E+00, -6.25610948191593400E-02,  0.00000000000000000E+00, -5.88744588744588700E-02,  0.00000000000000000E+00, -5.55984555984556000E-02,  0.00000000000000000E+00, -5.26680526680526700E-02,  0.00000000000000000E+00, -5.00312695434646650E-02},
+        double[][] IXdX = new double[][] {{  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -3.42857142857142860E-01,  0.00000000000000000E+00, -2.53968253968253950E-01,  0.00000000000000000E+00, -2.02020202020202020E-01,  0.00000000000000000E+00, -1.67832167832167840E-01,  0.00000000000000000E+00, -1.43589743589743580E-01,  0.00000000000000000E+00, -1.25490196078431370E-01,  0.00000000000000000E+00, -1.11455108359133120E-01,  0.00000000000000000E+00, -1.00250626566416030E-01,  0.00000000000000000E+00, -9.10973084886128300E-02,  0.00000000000000000E+00, -8.34782608695652200E-02,  0.00000000000000000E+00, -7.70370370370370300E-02,  0.00000000000000000E+00, -7.15197956577266900E-02,  0.00000000000000000E+00, -6.67408231368186900E-02,  0.00000000000000000E+00, -6.25610948191593400E-02,  0.00000000000000000E+00, -5.88744588744588700E-02,  0.00000000000000000E+00, -5.55984555984556000E-02,  0.00000000000000000E+00, -5.26680526680526700E-02,  0.00000000000000000E+00, -5.00312695434646650E-02},
                                  {  1.33333333333333330E+00,  0.00000000000000000E+00, -2.40000000000000000E+00,  0.00000000000000000E+00, -9.52380952380952300E-01,  0.00000000000000000E+00, -6.22222222222222200E-01,  0.00000000000000000E+00, -4.67532467532467500E-01,  0.00000000000000000E+00, -3.76068376068376060E-01,  0.00000000000000000E+00, -3.15151515151515100E-01,  0.00000000000000000E+00, -2.71493212669683300E-01,  0.00000000000000000E+00, -2.38596491228070170E-01,  0.00000000000000000E+00, -2.12885154061624640E-01,  0.00000000000000000E+00, -1.92219679633867270E-01,  0.00000000000000000E+00, -1.75238095238095220E-01,  0.00000000000000000E+00, -1.61030595813204500E-01,  0.00000000000000000E+00, -1.48965517241379320E-01,  0.00000000000000000E+00, -1.38590203106332130E-01,  0.00000000000000000E+00, -1.29571577847439920E-01,  0.00000000000000000E+00, -1.21658986175115210E-01,  0.00000000000000000E+00, -1.14660114660114660E-01,  0.00000000000000000E+00, -1.08424908424908430E-01,  0.00000000000000000E+00, -1.02834541858932110E-01,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00, -3.42857142857142900E+00,  0.00000000000000000E+00, -1.33333333333333330E+00,  0.00000000000000000E+00, -8.72727272727272800E-01,  0.00000000000000000E+00, -6.59340659340659300E-01,  0.00000000000000000E+00, -5.33333333333333300E-01,  0.00000000000000000E+00, -4.49197860962566860E-01,  0.00000000000000000E+00, -3.88663967611336040E-01,  0.00000000000000000E+00, -3.42857142857142860E-01,  0.00000000000000000E+00, -3.06905370843989800E-01,  0.00000000000000000E+00, -2.77894736842105250E-01,  0.00000000000000000E+00, -2.53968253968253950E-01,  0.00000000000000000E+00, -2.33883058470764600E-01,  0.00000000000000000E+00, -2.16774193548387120E-01,  0.00000000000000000E+00, -2.02020202020202020E-01,  0.00000000000000000E+00, -1.89162561576354700E-01,  0.00000000000000000E+00, -1.77855274629468180E-01,  0.00000000000000000E+00, -1.67832167832167840E-01,  0.00000000000000000E+00, -1.58885017421602800E-01,  0.00000000000000000E+00, -1.50848522941546210E-01},
                                  {  5.33333333333333300E-01,  0.00000000000000000E+00,  3.42857142857142900E+00,  0.00000000000000000E+00, -4.44444444444444500E+00,  0.00000000000000000E+00, -1.69696969696969700E+00,  0.00000000000000000E+00, -1.10769230769230780E+00,  0.00000000000000000E+00, -8.38095238095238100E-01,  0.00000000000000000E+00, -6.79738562091503300E-01,  0.00000000000000000E+00, -5.74162679425837300E-01,  0.00000000000000000E+00, -4.98168498168498200E-01,  0.00000000000000000E+00, -4.40579710144927600E-01,  0.00000000000000000E+00, -3.95294117647058850E-01,  0.00000000000000000E+00, -3.58674463937621800E-01,  0.00000000000000000E+00, -3.28407224958949100E-01,  0.00000000000000000E+00, -3.02945301542777000E-01,  0.00000000000000000E+00, -2.81212121212121200E-01,  0.00000000000000000E+00, -2.62433862433862460E-01,  0.00000000000000000E+00, -2.46039142590866700E-01,  0.00000000000000000E+00, -2.31596360628618690E-01,  0.00000000000000000E+00, -2.18773096821877300E-01,  0.00000000000000000E+00, -2.07308970099667780E-01,  0.00000000000000000E+00},
@@ -140,7 +142,7 @@ public class Boundary_SS_200 extends Boundary{
                                  {  0.00000000000000000E+00,  1.02834541858932110E-01,  0.00000000000000000E+00,  2.07308970099667780E-01,  0.00000000000000000E+00,  3.15151515151515100E-01,  0.00000000000000000E+00,  4.28277282086479100E-01,  0.00000000000000000E+00,  5.48909218859957800E-01,  0.00000000000000000E+00,  6.79738562091503300E-01,  0.00000000000000000E+00,  8.24150943396226400E-01,  0.00000000000000000E+00,  9.86561264822134400E-01,  0.00000000000000000E+00,  1.17293233082706760E+00,  0.00000000000000000E+00,  1.39161462979482600E+00,  0.00000000000000000E+00,  1.65477338476374160E+00,  0.00000000000000000E+00,  1.98095238095238120E+00,  0.00000000000000000E+00,  2.40000000000000000E+00,  0.00000000000000000E+00,  2.96336499321573930E+00,  0.00000000000000000E+00,  3.76811594202898600E+00,  0.00000000000000000E+00,  5.02213279678068400E+00,  0.00000000000000000E+00,  7.26575342465753400E+00,  0.00000000000000000E+00,  1.24800000000000000E+01,  0.00000000000000000E+00,  3.84935064935064940E+01,  0.00000000000000000E+00, -3.94936708860759500E+01},
                                  {  5.00312695434646650E-02,  0.00000000000000000E+00,  1.50848522941546210E-01,  0.00000000000000000E+00,  2.53968253968253950E-01,  0.00000000000000000E+00,  3.61057382333978050E-01,  0.00000000000000000E+00,  4.73996050032916400E-01,  0.00000000000000000E+00,  5.94996619337390200E-01,  0.00000000000000000E+00,  7.26764500349406000E-01,  0.00000000000000000E+00,  8.72727272727272800E-01,  0.00000000000000000E+00,  1.03737604881769640E+00,  0.00000000000000000E+00,  1.22679580306698940E+00,  0.00000000000000000E+00,  1.44952545297670400E+00,  0.00000000000000000E+00,  1.71802054154995340E+00,  0.00000000000000000E+00,  2.05128205128205100E+00,  0.00000000000000000E+00,  2.47990815154994240E+00,  0.00000000000000000E+00,  3.05665349143610000E+00,  0.00000000000000000E+00,  3.88106416275430370E+00,  0.00000000000000000E+00,  5.16634050880626200E+00,  0.00000000000000000E+00,  7.46666666666666800E+00,  0.00000000000000000E+00,  1.28138528138528130E+01,  0.00000000000000000E+00,  3.94936708860759500E+01,  0.00000000000000000E+00}};
 
-        IXdX2_ = new double[][] {{ -4.93480220054467900E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
+        double[][] IXdX2 = new double[][] {{ -4.93480220054467900E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00, -1.97392088021787160E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00, -4.44132198049021100E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.89568352087148600E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
@@ -181,7 +183,7 @@ public class Boundary_SS_200 extends Boundary{
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.50583414702845800E+03,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00, -7.89568352087148600E+03}};
 
-        IdXdX_ = new double[][] {{  4.93480220054467900E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
+        double[][] IdXdX = new double[][] {{  4.93480220054467900E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  1.97392088021787160E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  4.44132198049021100E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.89568352087148600E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
@@ -222,7 +224,7 @@ public class Boundary_SS_200 extends Boundary{
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.50583414702845800E+03,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  7.89568352087148600E+03}};
 
-        IdXdX2_ = new double[][]{{  0.00000000000000000E+00, -5.26378901391432450E+01,  0.00000000000000000E+00, -8.42206242226292000E+01,  0.00000000000000000E+00, -1.21819117179160090E+02,  0.00000000000000000E+00, -1.60420236614531800E+02,  0.00000000000000000E+00, -1.99385947496754700E+02,  0.00000000000000000E+00, -2.38526942728425330E+02,  0.00000000000000000E+00, -2.77766097195786640E+02,  0.00000000000000000E+00, -3.17065879426368700E+02,  0.00000000000000000E+00, -3.56405776267202100E+02,  0.00000000000000000E+00, -3.95773610068746200E+02,  0.00000000000000000E+00, -4.35161688044718400E+02,  0.00000000000000000E+00, -4.74564908663162800E+02,  0.00000000000000000E+00, -5.13979753936434200E+02,  0.00000000000000000E+00, -5.53403718550992600E+02,  0.00000000000000000E+00, -5.92834969587125000E+02,  0.00000000000000000E+00, -6.32272134926483100E+02,  0.00000000000000000E+00, -6.71714166892495500E+02,  0.00000000000000000E+00, -7.11160251640502100E+02,  0.00000000000000000E+00, -7.50609747327200700E+02,  0.00000000000000000E+00, -7.90062140925226900E+02},
+        double[][] IdXdX2 = new double[][]{{  0.00000000000000000E+00, -5.26378901391432450E+01,  0.00000000000000000E+00, -8.42206242226292000E+01,  0.00000000000000000E+00, -1.21819117179160090E+02,  0.00000000000000000E+00, -1.60420236614531800E+02,  0.00000000000000000E+00, -1.99385947496754700E+02,  0.00000000000000000E+00, -2.38526942728425330E+02,  0.00000000000000000E+00, -2.77766097195786640E+02,  0.00000000000000000E+00, -3.17065879426368700E+02,  0.00000000000000000E+00, -3.56405776267202100E+02,  0.00000000000000000E+00, -3.95773610068746200E+02,  0.00000000000000000E+00, -4.35161688044718400E+02,  0.00000000000000000E+00, -4.74564908663162800E+02,  0.00000000000000000E+00, -5.13979753936434200E+02,  0.00000000000000000E+00, -5.53403718550992600E+02,  0.00000000000000000E+00, -5.92834969587125000E+02,  0.00000000000000000E+00, -6.32272134926483100E+02,  0.00000000000000000E+00, -6.71714166892495500E+02,  0.00000000000000000E+00, -7.11160251640502100E+02,  0.00000000000000000E+00, -7.50609747327200700E+02,  0.00000000000000000E+00, -7.90062140925226900E+02},
                                  {  1.31594725347858110E+01,  0.00000000000000000E+00, -2.13183455063530150E+02,  0.00000000000000000E+00, -2.34990580978318060E+02,  0.00000000000000000E+00, -3.00913271962102200E+02,  0.00000000000000000E+00, -3.73763200436059300E+02,  0.00000000000000000E+00, -4.49109178046151670E+02,  0.00000000000000000E+00, -5.25661111980444200E+02,  0.00000000000000000E+00, -6.02894386491883900E+02,  0.00000000000000000E+00, -6.80552511193712600E+02,  0.00000000000000000E+00, -7.58494303496604100E+02,  0.00000000000000000E+00, -8.36635298475867800E+02,  0.00000000000000000E+00, -9.14921727604222700E+02,  0.00000000000000000E+00, -9.93317673217528200E+02,  0.00000000000000000E+00, -1.07179819821595500E+03,  0.00000000000000000E+00, -1.15034543244047020E+03,  0.00000000000000000E+00, -1.22894622659499710E+03,  0.00000000000000000E+00, -1.30759068520533920E+03,  0.00000000000000000E+00, -1.38627121604162560E+03,  0.00000000000000000E+00, -1.46498189517473800E+03,  0.00000000000000000E+00, -1.54371803155759970E+03,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  9.47482022504578400E+01,  0.00000000000000000E+00, -5.41418298574044800E+02,  0.00000000000000000E+00, -4.73741011252289240E+02,  0.00000000000000000E+00, -5.51262267639027400E+02,  0.00000000000000000E+00, -6.50743147324573100E+02,  0.00000000000000000E+00, -7.57985618003662700E+02,  0.00000000000000000E+00, -8.68947416361150800E+02,  0.00000000000000000E+00, -9.82005658952113500E+02,  0.00000000000000000E+00, -1.09637205461244070E+03,  0.00000000000000000E+00, -1.21161383951992120E+03,  0.00000000000000000E+00, -1.32747218100378310E+03,  0.00000000000000000E+00, -1.44378212953078630E+03,  0.00000000000000000E+00, -1.56043328593894970E+03,  0.00000000000000000E+00, -1.67734881919520220E+03,  0.00000000000000000E+00, -1.79447352747079250E+03,  0.00000000000000000E+00, -1.91176668186145480E+03,  0.00000000000000000E+00, -2.02919754863338880E+03,  0.00000000000000000E+00, -2.14674248455582800E+03,  0.00000000000000000E+00, -2.26438299385327630E+03,  0.00000000000000000E+00, -2.38210439347474130E+03},
                                  {  5.26378901391432500E+00,  0.00000000000000000E+00,  3.04547792947900230E+02,  0.00000000000000000E+00, -1.09662271123215100E+03,  0.00000000000000000E+00, -8.20672559896642400E+02,  0.00000000000000000E+00, -8.85531274879279100E+02,  0.00000000000000000E+00, -1.00087188250285230E+03,  0.00000000000000000E+00, -1.13377886897742860E+03,  0.00000000000000000E+00, -1.27502066425556310E+03,  0.00000000000000000E+00, -1.42093381458027900E+03,  0.00000000000000000E+00, -1.56975342810601520E+03,  0.00000000000000000E+00, -1.72051588439507850E+03,  0.00000000000000000E+00, -1.87264681088583600E+03,  0.00000000000000000E+00, -2.02578087050274210E+03,  0.00000000000000000E+00, -2.17967375513763640E+03,  0.00000000000000000E+00, -2.33415545927920860E+03,  0.00000000000000000E+00, -2.48910378592891500E+03,  0.00000000000000000E+00, -2.64442850596047170E+03,  0.00000000000000000E+00, -2.80006146366720440E+03,  0.00000000000000000E+00, -2.95595016543018070E+03,  0.00000000000000000E+00, -3.11205349351877570E+03,  0.00000000000000000E+00},
@@ -263,7 +265,7 @@ public class Boundary_SS_200 extends Boundary{
                                  {  0.00000000000000000E+00,  4.05974498765969650E+00,  0.00000000000000000E+00,  3.27369203788957300E+01,  0.00000000000000000E+00,  1.11975148114177440E+02,  0.00000000000000000E+00,  2.70523350282707400E+02,  0.00000000000000000E+00,  5.41751684225876100E+02,  0.00000000000000000E+00,  9.66060101377217200E+02,  0.00000000000000000E+00,  1.59427258050864730E+03,  0.00000000000000000E+00,  2.49266416671560230E+03,  0.00000000000000000E+00,  3.75074650262150770E+03,  0.00000000000000000E+00,  5.49387434993734100E+03,  0.00000000000000000E+00,  7.90466800163776300E+03,  0.00000000000000000E+00,  1.12615006103401320E+04,  0.00000000000000000E+00,  1.60124461803273730E+04,  0.00000000000000000E+00,  2.29298363003957420E+04,  0.00000000000000000E+00,  3.34708323167378260E+04,  0.00000000000000000E+00,  5.07560590888569350E+04,  0.00000000000000000E+00,  8.28968894456779700E+04,  0.00000000000000000E+00,  1.59631771151571360E+05,  0.00000000000000000E+00,  5.48598243510816500E+05,  0.00000000000000000E+00, -6.23659052787823700E+05},
                                  {  4.93788838078266850E-01,  0.00000000000000000E+00,  1.33993372132954210E+01,  0.00000000000000000E+00,  6.26641549275514860E+01,  0.00000000000000000E+00,  1.74611182956732420E+02,  0.00000000000000000E+00,  3.78930433621811350E+02,  0.00000000000000000E+00,  7.10558131594317000E+02,  0.00000000000000000E+00,  1.21221640079347700E+03,  0.00000000000000000E+00,  1.93803140966845580E+03,  0.00000000000000000E+00,  2.95892396171179370E+03,  0.00000000000000000E+00,  4.37098412184483600E+03,  0.00000000000000000E+00,  6.30905307047375700E+03,  0.00000000000000000E+00,  8.96982085886492900E+03,  0.00000000000000000E+00,  1.26533389757555890E+04,  0.00000000000000000E+00,  1.78427943445824900E+04,  0.00000000000000000E+00,  2.53712549921653080E+04,  0.00000000000000000E+00,  3.68106897919064900E+04,  0.00000000000000000E+00,  5.55278236183089300E+04,  0.00000000000000000E+00,  9.02739815886306600E+04,  0.00000000000000000E+00,  1.73134223975196280E+05,  0.00000000000000000E+00,  5.92865887056425000E+05,  0.00000000000000000E+00}};
 
-        IdX2dX2_ =new double[][]{{  4.87045455170012200E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
+        double[][] IdX2dX2 = new double[][]{{  4.87045455170012200E+01,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  7.79272728272019500E+02,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  3.94506818687709850E+03,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.24683636523523130E+04,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00},
@@ -303,5 +305,7 @@ public class Boundary_SS_200 extends Boundary{
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.01555601221137850E+08,  0.00000000000000000E+00,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.12675092485396820E+08,  0.00000000000000000E+00},
                                  {  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  0.00000000000000000E+00,  1.24683636523523120E+08}};
+
+        return new BoundaryTables(c1, c2, c3, c4, c5, cv, IX, IXX, IXdX, IXdX2, IdXdX, IdXdX2, IdX2dX2);
     }
 }
\ No newline at end of file
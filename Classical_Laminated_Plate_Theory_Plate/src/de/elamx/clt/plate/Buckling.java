@@ -35,6 +35,7 @@ import de.elamx.clt.plate.Boundary.Boundary_SF_200;
 import de.elamx.clt.plate.Boundary.Boundary_SS_200;
 import de.elamx.clt.plate.Mechanical.InplaneLoad;
 import de.elamx.clt.plate.Mechanical.Plate;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 import de.elamx.clt.plate.Stiffener.Stiffener;
 import de.elamx.clt.plate.Stiffener.Stiffenerx;
@@ -56,11 +57,6 @@ import de.elamx.mathtools.MatrixTools;
  */
 public class Buckling {
 
-    private static int m_ = 10; //  number of terms used in ritz-approach in x-direction
-    private static int n_ = 10; //  number of terms used in ritz-approach in y-direction
-    private static double[][][] eigenvecs; // Eigenvektoren
-    private static double eigvalcrit;
-
     /**
      * Diese Methode berechnet für die gegebenen Daten die Eigenwerte und
      * Eigenformen Alle Ergebnisse werden im DataMemory (m, n, Eigenwerte,
@@ -73,12 +69,32 @@ public class Buckling {
      * 
      */
     public static BucklingResult calc(CLT_Laminate laminat, BucklingInput input) {
+        return calc(laminat, input, input.getM() * input.getN());
+    }
+
+    /**
+     * Berechnet wie {@link #calc(CLT_Laminate, BucklingInput)} die
+     * Beullast, bestimmt aber nur die <CODE>numberOfEigenForms</CODE>
+     * betragsmäßig kleinsten Eigenwerte und deren Eigenformen. Für wenige
+     * Eigenformen wird dazu das Lanczos-Verfahren verwendet. Der kleinste
+     * positive Eigenwert wird immer bestimmt, bei
+     * <CODE>numberOfEigenForms = 0</CODE> ausschließlich dieser. Ist kein
+     * positiver Eigenwert vorhanden, ist der gespeicherte kleinste positive
+     * Eigenwert negativ.
+     *
+     * @param laminat Das betrachtete Laminat
+     * @param input Eingabegrößen
+     * @param numberOfEigenForms Anzahl der zu berechnenden Eigenformen
+     * (0 &le; numberOfEigenForms &le; m*n)
+     * @return Ergebnisse der Beulberechnung
+     */
+    public static BucklingResult calc(CLT_Laminate laminat, BucklingInput input, int numberOfEigenForms) {
 
         BucklingResult result = new BucklingResult(laminat, input);
 
         // Speichern der Termanzahl
-        m_ = input.getM();
-        n_ = input.getN();
+        int m_ = input.getM(); //  number of terms used in ritz-approach in x-direction
+        int n_ = input.getN(); //  number of terms used in ritz-approach in y-direction
 
         double length = input.getLength();
         double width = input.getWidth();
@@ -139,15 +155,14 @@ public class Buckling {
                 by = new Boundary_SS_200(width, n_);
         }
 
-        // Initialisierung der Matrizen
-        // Achtung: An dieser Stelle wäre in anderen Programmiersprachen ein Nullsetzen
-        // der Matrixeinträge notwendig. Java macht dies intern automatrisch.
-        double[][] kmat = new double[m_ * n_][m_ * n_]; // Steifigkeitsmatrix
-        double[][] kgmat = new double[m_ * n_][m_ * n_]; // geometrische Steifigkeitsmatrix
+        // Initialisierung der symmetrischen Matrizen, es wird jeweils nur die
+        // untere Dreiecksmatrix assembliert
+        RitzMatrix kmat = new RitzMatrix(m_, n_); // Steifigkeitsmatrix
+        RitzMatrix kgmat = new RitzMatrix(m_, n_); // geometrische Steifigkeitsmatrix
 
         // Aufruf der Methoden add für Platte, Last zum Füllen von Kmat und Kgmat
-        plate_.addStiffness(laminat, kmat, m_, n_, input.getDMatrixService(), bx, by); // fill stiffness matrix from Plate.class
-        load_.add(kgmat, m_, n_, bx, by);                  // fill geometric stiffness matrix from Load.class
+        plate_.addStiffness(laminat, kmat, input.getDMatrixService(), bx, by); // fill stiffness matrix from Plate.class
+        load_.add(kgmat, bx, by);                  // fill geometric stiffness matrix from Load.class
 
         
         for (StiffenerProperties s : input.getStiffenerProperties()) {
@@ -160,22 +175,27 @@ public class Buckling {
                 default:
                     stiff = new Stiffenerx(s, s.getPosition()); break;
             }
-            stiff.addStiffness(kmat, m_, n_, bx, by);
+            stiff.addStiffness(kmat, bx, by);
         }
 
         // Initialiesierung des Eigenvektorfeldes
         // m und n werden unabhängig gespeichert, da dies für die 3D-Darstellung
         // Vorteile bringt
-        int number = m_ * n_;
-        eigenvecs = new double[number][m_][n_];
+        int number = numberOfEigenForms;
+        double[][][] eigenvecs = new double[number][m_][n_]; // Eigenvektoren
+
+        // Die Eigenwertlöser benötigen die vollbesetzten Matrizen
+        double[][] kgFull = kgmat.toArray();
+        double[][] kFull = kmat.toArray();
 
         // Eigener Eigenwertlöser
-        double[] eigenvalues = MatrixTools.getEigenValues(kgmat, kmat, number, m_, n_, eigenvecs);
+        double[] eigenvalues = number > 0 ? MatrixTools.getEigenValues(kgFull, kFull, number, m_, n_, eigenvecs) : new double[0];
 
         // kleinsten positiven eigenwert aus array suchen
         // initialisieren mit erstem eigenwert
         if ((m_ * n_) > 0) {
-            eigvalcrit = eigenvalues[0];
+            double eigvalcrit = number > 0 ? eigenvalues[0] : 0.0;
+            boolean found = false;
             //System.out.println(eigvalcrit);
             // kleinsten positiven eigenwert aus array suchen
             // Eigenwerte kommen betragsmäßig sortiert aus eigenvaluesCalc
@@ -183,9 +203,15 @@ public class Buckling {
             for (int ii = 0; ii < eigenvalues.length; ii++) {
                 if (eigenvalues[ii] >= 0) {
                     eigvalcrit = eigenvalues[ii];
+                    found = true;
                     break;
                 }
             }
+            // Nicht alle Eigenwerte berechnet, der kleinste positive
+            // Eigenwert wird separat bestimmt
+            if (!found && number < m_ * n_) {
+                eigvalcrit = MatrixTools.getSmallestPositiveEigenValue(kgFull, kFull);
+            }
             
             double[] nveccrit = new double[3];
 
@@ -40,9 +40,16 @@ public class BucklingInput extends Input{
     public static final String PROP_NX = "nx";
     public static final String PROP_NY = "ny";
     public static final String PROP_NXY = "nxy";
+    public static final String PROP_INTERACTIONPOINTS = "interactionPoints";
+    public static final String PROP_INTERACTIONCOMPONENT1 = "interactionComponent1";
+    public static final String PROP_INTERACTIONCOMPONENT2 = "interactionComponent2";
     private double nx;
     private double ny;
     private double nxy;
+    // Anzahl der Lastrichtungen der Interaktionskurve (0 = keine Berechnung)
+    private int interactionPoints = 0;
+    private int interactionComponent1 = BucklingInteraction.NX;
+    private int interactionComponent2 = BucklingInteraction.NY;
 
     public BucklingInput() {
         this(500.0, 500.0, 1.0, 0.0, 0.0, Lookup.getDefault().lookup(StandardDMatrixServiceImpl.class), 0, 0, 10, 10);
@@ -104,9 +111,56 @@ public class BucklingInput extends Input{
         firePropertyChange(PROP_NXY, oldNxy, nxy);
     }
 
+    public int getInteractionPoints() {
+        return interactionPoints;
+    }
+
+    public void setInteractionPoints(int interactionPoints) {
+        int oldInteractionPoints = this.interactionPoints;
+        this.interactionPoints = interactionPoints;
+        firePropertyChange(PROP_INTERACTIONPOINTS, oldInteractionPoints, interactionPoints);
+    }
+
+    public int getInteractionComponent1() {
+        return interactionComponent1;
+    }
+
+    public void setInteractionComponent1(int interactionComponent1) {
+        int oldInteractionComponent1 = this.interactionComponent1;
+        this.interactionComponent1 = interactionComponent1;
+        firePropertyChange(PROP_INTERACTIONCOMPONENT1, oldInteractionComponent1, interactionComponent1);
+    }
+
+    public int getInteractionComponent2() {
+        return interactionComponent2;
+    }
+
+    public void setInteractionComponent2(int interactionComponent2) {
+        int oldInteractionComponent2 = this.interactionComponent2;
+        this.interactionComponent2 = interactionComponent2;
+        firePropertyChange(PROP_INTERACTIONCOMPONENT2, oldInteractionComponent2, interactionComponent2);
+    }
+
+    /**
+     * Prüft, ob eine Beulinteraktionskurve berechnet werden soll und die
+     * Eingaben dafür gültig sind.
+     *
+     * @return <CODE>true</CODE>, falls die Interaktionskurve berechnet werden
+     * kann
+     */
+    public boolean isInteractionDefined() {
+        return interactionPoints > 0
+                && BucklingInteraction.isValidComponent(interactionComponent1)
+                && BucklingInteraction.isValidComponent(interactionComponent2)
+                && interactionComponent1 != interactionComponent2;
+    }
+
     @Override
     public Input copy() {
-        Input in = new BucklingInput(getLength(), getWidth(), nx, ny, nxy, getDMatrixService(), getBcx(), getBcy(), getM(), getN());
+        BucklingInput in = new BucklingInput(getLength(), getWidth(), nx, ny, nxy, getDMatrixService(), getBcx(), getBcy(), getM(), getN());
+        in.setInteractionPoints(interactionPoints);
+        in.setInteractionComponent1(interactionComponent1);
+        in.setInteractionComponent2(interactionComponent2);
         for (StiffenerProperties ss : getStiffenerProperties()){
             in.addStiffenerProperty(ss.getCopy());
         }
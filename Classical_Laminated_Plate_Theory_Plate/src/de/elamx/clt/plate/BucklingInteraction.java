@@ -0,0 +1,267 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Mechanical.InplaneLoad;
+import de.elamx.clt.plate.Mechanical.Plate;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
+import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import de.elamx.mathtools.MatrixTools;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Berechnung von Beulinteraktionskurven einer Rechteckplatte für beliebige
+ * Verhältnisse der Schnittlasten N<sub>x</sub>, N<sub>y</sub> und
+ * N<sub>xy</sub>. Die Steifigkeitsmatrix K hängt nicht von den Lasten ab und
+ * die geometrische Steifigkeitsmatrix ist linear in den Lasten
+ * <pre>
+ * Kg = N<sub>x</sub>*Kg<sub>x</sub> + N<sub>y</sub>*Kg<sub>y</sub> + N<sub>xy</sub>*Kg<sub>xy</sub>
+ * </pre>
+ * Beim Erzeugen werden deshalb K, deren Cholesky-Faktor L und die drei
+ * Matrizen C<sub>i</sub> = L<sup>-1</sup>*Kg<sub>i</sub>*L<sup>-T</sup> der
+ * Einheitslasten einmalig bestimmt. Für jede Lastrichtung muss danach nur
+ * noch die Linearkombination der C<sub>i</sub> gebildet und deren
+ * algebraisch kleinster Eigenwert mit dem Lanczos-Verfahren bestimmt werden
+ * (siehe {@link MatrixTools#getSmallestPositiveEigenValueReduced}).<br>
+ * <br>
+ * Die kritischen Lastfaktoren entsprechen dem kleinsten positiven Eigenwert
+ * von {@link Buckling#calc(CLT_Laminate, BucklingInput)}. Die Schnittlasten
+ * des übergebenen <CODE>BucklingInput</CODE>-Objekts werden nicht verwendet.
+ * Nach dem Erzeugen wird das Objekt nicht mehr verändert und kann von
+ * mehreren Threads gleichzeitig verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class BucklingInteraction {
+
+    public static final int NX = 0;
+    public static final int NY = 1;
+    public static final int NXY = 2;
+
+    private final int m;
+    private final int n;
+
+    // C-Matrizen der Einheitslasten [NX, NY, NXY]
+    private final double[][][] unitC = new double[3][][];
+
+    /**
+     * Erzeugt eine neue Interaktionsberechnung für das Laminat und die
+     * Geometrie, Randbedingungen, Termanzahl und Steifen der Eingabe.
+     *
+     * @param laminat Das betrachtete Laminat
+     * @param input Eingabegrößen, die Schnittlasten werden nicht verwendet
+     */
+    public BucklingInteraction(CLT_Laminate laminat, BucklingInput input) {
+        m = input.getM();
+        n = input.getN();
+
+        double length = input.getLength();
+        double width = input.getWidth();
+
+        Plate plate = new Plate(length, width);
+        Boundary bx = PlateComponents.createBoundary(input.getBcx(), length, m);
+        Boundary by = PlateComponents.createBoundary(input.getBcy(), width, n);
+
+        RitzMatrix kmat = new RitzMatrix(m, n); // Steifigkeitsmatrix
+        plate.addStiffness(laminat, kmat, input.getDMatrixService(), bx, by);
+        for (StiffenerProperties s : input.getStiffenerProperties()) {
+            PlateComponents.createStiffener(s).addStiffness(kmat, bx, by);
+        }
+        double[][] L = MatrixTools.getCholeskyFactor(kmat.toArray());
+
+        InplaneLoad[] unitLoads = new InplaneLoad[]{
+            new InplaneLoad(1.0, 0.0, 0.0),
+            new InplaneLoad(0.0, 1.0, 0.0),
+            new InplaneLoad(0.0, 0.0, 1.0)};
+        for (int ii = 0; ii < 3; ii++) {
+            RitzMatrix kgmat = new RitzMatrix(m, n); // geometrische Steifigkeitsmatrix
+            unitLoads[ii].add(kgmat, bx, by);
+            unitC[ii] = MatrixTools.getReducedMatrix(L, kgmat.toArray());
+        }
+    }
+
+    public int getM() {
+        return m;
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    /**
+     * Berechnet den kritischen Lastfaktor für die übergebene Lastrichtung.
+     * Die Beullasten sind das Produkt aus Lastfaktor und Lasten. Existiert
+     * kein positiver Lastfaktor (z.B. bei reinem Zug), ist das Ergebnis
+     * negativ (oder -&infin;).
+     *
+     * @param nx Kraftfluss [N/mm] in x-Richtung
+     * @param ny Kraftfluss [N/mm] in y-Richtung
+     * @param nxy Schubfluss [N/mm]
+     * @return kritischer Lastfaktor
+     */
+    public double getCriticalLoadFactor(double nx, double ny, double nxy) {
+        return getCriticalLoadFactor(new double[]{nx, ny, nxy}, new double[m * n][m * n]);
+    }
+
+    private double getCriticalLoadFactor(double[] load, double[][] c) {
+        int nm = m * n;
+        for (int ii = 0; ii < nm; ii++) {
+            double[] ci = c[ii];
+            for (int jj = 0; jj < nm; jj++) {
+                ci[jj] = 0.0;
+            }
+            for (int kk = 0; kk < 3; kk++) {
+                double fac = load[kk];
+                if (fac == 0.0) {
+                    continue;
+                }
+                double[] uci = unitC[kk][ii];
+                for (int jj = 0; jj < nm; jj++) {
+                    ci[jj] += fac * uci[jj];
+                }
+            }
+        }
+        return MatrixTools.getSmallestPositiveEigenValueReduced(c);
+    }
+
+    /**
+     * Berechnet die kritischen Lastfaktoren für viele Lastrichtungen. Die
+     * Lastrichtungen werden auf die übergebene Anzahl an Threads aufgeteilt.
+     * Die Ergebnisse sind unabhängig von der Anzahl der Threads.
+     *
+     * @param loads Lastrichtungen, loads[i] = {N<sub>x</sub>, N<sub>y</sub>,
+     * N<sub>xy</sub>}
+     * @param numberOfThreads Anzahl der Threads
+     * @return kritische Lastfaktoren in der Reihenfolge der Lastrichtungen
+     * (siehe {@link #getCriticalLoadFactor(double, double, double)})
+     */
+    public double[] getCriticalLoadFactors(final double[][] loads, int numberOfThreads) {
+        final double[] factors = new double[loads.length];
+        int numTasks = Math.max(1, Math.min(numberOfThreads, loads.length));
+
+        if (numTasks == 1) {
+            evaluate(loads, factors, 0, loads.length);
+            return factors;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(numTasks, r -> {
+            Thread t = new Thread(r, "BucklingInteraction");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(numTasks);
+            for (int ii = 0; ii < numTasks; ii++) {
+                final int from = ii * loads.length / numTasks;
+                final int to = (ii + 1) * loads.length / numTasks;
+                tasks.add(() -> {
+                    evaluate(loads, factors, from, to);
+                    return null;
+                });
+            }
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return factors;
+    }
+
+    private void evaluate(double[][] loads, double[] factors, int from, int to) {
+        double[][] c = new double[m * n][m * n];
+        for (int ii = from; ii < to; ii++) {
+            factors[ii] = getCriticalLoadFactor(loads[ii], c);
+        }
+    }
+
+    /**
+     * Berechnet eine Interaktionskurve in der Ebene zweier Lastkomponenten.
+     * Die Lastrichtungen sind gleichmäßig über den Vollkreis verteilt, die
+     * Richtung i lautet cos(2&pi;i/numberOfPoints)*e<sub>component1</sub> +
+     * sin(2&pi;i/numberOfPoints)*e<sub>component2</sub> mit der Einheitslast
+     * 1 N/mm. Die Werte der Kurve sind die Beullasten
+     * {N<sub>x</sub>, N<sub>y</sub>, N<sub>xy</sub>} je Richtung. Beult die
+     * Platte in einer Richtung nicht, sind die Werte <CODE>NaN</CODE>.
+     *
+     * @param component1 erste Lastkomponente ({@link #NX}, {@link #NY} oder
+     * {@link #NXY})
+     * @param component2 zweite Lastkomponente
+     * @param numberOfPoints Anzahl der Lastrichtungen
+     * @param numberOfThreads Anzahl der Threads
+     * @return Beullasten [numberOfPoints][3]
+     * @throws IllegalArgumentException falls die Lastkomponenten ungültig oder
+     * gleich sind oder numberOfPoints kleiner als 1 ist
+     */
+    public double[][] getInteractionCurve(int component1, int component2, int numberOfPoints, int numberOfThreads) {
+        if (!isValidComponent(component1) || !isValidComponent(component2) || component1 == component2) {
+            throw new IllegalArgumentException("Invalid load components " + component1 + " and " + component2);
+        }
+        if (numberOfPoints < 1) {
+            throw new IllegalArgumentException("Invalid number of points " + numberOfPoints);
+        }
+        double[][] loads = new double[numberOfPoints][3];
+        for (int ii = 0; ii < numberOfPoints; ii++) {
+            double phi = 2.0 * Math.PI * ii / numberOfPoints;
+            loads[ii][component1] += Math.cos(phi);
+            loads[ii][component2] += Math.sin(phi);
+        }
+
+        double[] factors = getCriticalLoadFactors(loads, numberOfThreads);
+
+        for (int ii = 0; ii < numberOfPoints; ii++) {
+            double fac = factors[ii] > 0.0 ? factors[ii] : Double.NaN;
+            for (int kk = 0; kk < 3; kk++) {
+                loads[ii][kk] *= fac;
+            }
+        }
+        return loads;
+    }
+
+    /**
+     * Prüft, ob der Index eine Lastkomponente der Interaktionskurve ist.
+     *
+     * @param component Index der Lastkomponente
+     * @return <CODE>true</CODE>, falls component {@link #NX}, {@link #NY}
+     * oder {@link #NXY} ist
+     */
+    public static boolean isValidComponent(int component) {
+        return component >= NX && component <= NXY;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Mechanical.Plate;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
+import de.elamx.clt.plate.Mechanical.TransverseLoad;
+import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import de.elamx.clt.plate.dmatrix.DMatrixService;
+import de.elamx.mathtools.MatrixTools;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Löser für das statische Problem einer Rechteckplatte, der die
+ * Cholesky-Faktorisierung der Steifigkeitsmatrix für beliebig viele
+ * Lastfälle wiederverwendet. Die Steifigkeitsmatrix hängt nur vom Laminat,
+ * der Geometrie, den Randbedingungen, der Termanzahl und den Steifen ab.
+ * Unterscheiden sich mehrere <CODE>DeformationInput</CODE>-Objekte nur in
+ * den Querlasten, wird die Matrix deshalb nur einmal assembliert und
+ * faktorisiert. Für jeden Lastfall ist dann nur noch eine Vorwärts- und
+ * Rückwärtssubstitution notwendig.<br>
+ * <br>
+ * Vor jeder Berechnung wird geprüft, ob sich die D-Matrix des Laminats oder
+ * die Konfiguration der Eingabe seit der letzten Faktorisierung geändert hat.
+ * In diesem Fall wird die Faktorisierung automatisch neu bestimmt.<br>
+ * <br>
+ * Ein Objekt dieser Klasse darf nicht gleichzeitig von mehreren Threads
+ * verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class DeformationSolver {
+
+    private final CLT_Laminate laminat;
+
+    // Zustand der letzten Faktorisierung
+    private DMatrixService dMatService = null;
+    private double[] signature = null;
+    private Boundary bx = null;
+    private Boundary by = null;
+    private double[][] L = null;
+    private int numberOfFactorizations = 0;
+
+    /**
+     * Erzeugt einen neuen Löser für das übergebene Laminat. Die Faktorisierung
+     * erfolgt erst bei der ersten Berechnung.
+     *
+     * @param laminat Das betrachtete Laminat
+     */
+    public DeformationSolver(CLT_Laminate laminat) {
+        this.laminat = laminat;
+    }
+
+    public CLT_Laminate getLaminate() {
+        return laminat;
+    }
+
+    /**
+     * Liefert die Anzahl der bisher durchgeführten Faktorisierungen der
+     * Steifigkeitsmatrix.
+     *
+     * @return Anzahl der Faktorisierungen
+     */
+    public int getNumberOfFactorizations() {
+        return numberOfFactorizations;
+    }
+
+    /**
+     * Verwirft die aktuelle Faktorisierung. Die nächste Berechnung führt
+     * immer zu einer neuen Faktorisierung.
+     */
+    public void invalidate() {
+        dMatService = null;
+        signature = null;
+        bx = null;
+        by = null;
+        L = null;
+    }
+
+    /**
+     * Berechnet die statische Lösung für die übergebene Eingabe. Die
+     * Ergebnisse entsprechen denen von
+     * {@link Deformation#calc(CLT_Laminate, DeformationInput)}.
+     *
+     * @param input Alle Eingabegrößen als Objekt
+     * @return DeformationResult
+     */
+    public DeformationResult calc(DeformationInput input) {
+        prepare(input);
+        double[] cvec = MatrixTools.solveCholesky(L, getLoadVector(input));
+        return new DeformationResult(laminat, input, toResultVectors(cvec, input.getM(), input.getN()));
+    }
+
+    /**
+     * Berechnet die statischen Lösungen für mehrere Eingaben. Aufeinander
+     * folgende Eingaben mit gleicher Konfiguration werden mit einer
+     * gemeinsamen Faktorisierung und einer Substitution für alle rechten
+     * Seiten gleichzeitig gelöst. Die Reihenfolge der Ergebnisse entspricht
+     * der der Eingaben.
+     *
+     * @param inputs Eingaben
+     * @return Ergebnisse
+     */
+    public DeformationResult[] calc(List<DeformationInput> inputs) {
+        DeformationResult[] results = new DeformationResult[inputs.size()];
+        int start = 0;
+        while (start < inputs.size()) {
+            prepare(inputs.get(start));
+            int end = start + 1;
+            while (end < inputs.size() && matches(inputs.get(end))) {
+                end++;
+            }
+
+            double[][] fvecs = new double[end - start][];
+            for (int ii = start; ii < end; ii++) {
+                fvecs[ii - start] = getLoadVector(inputs.get(ii));
+            }
+            double[][] cvecs = MatrixTools.solveCholesky(L, fvecs);
+            for (int ii = start; ii < end; ii++) {
+                DeformationInput input = inputs.get(ii);
+                results[ii] = new DeformationResult(laminat, input, toResultVectors(cvecs[ii - start], input.getM(), input.getN()));
+            }
+            start = end;
+        }
+        return results;
+    }
+
+    /**
+     * Stellt sicher, dass die Faktorisierung zur übergebenen Eingabe und zum
+     * aktuellen Zustand des Laminats passt.
+     */
+    private void prepare(DeformationInput input) {
+        if (matches(input)) {
+            return;
+        }
+
+        int m = input.getM();
+        int n = input.getN();
+
+        double length = input.getLength();
+        double width  = input.getWidth();
+
+        // create new object plate with geometric dimensions
+        Plate plate = new Plate(length, width);
+
+        // create new objects boundary x- and y-direction with integrals needed
+        // for calculation based on boundary condition and geometry
+        Boundary newBx = PlateComponents.createBoundary(input.getBcx(), length, m);
+        Boundary newBy = PlateComponents.createBoundary(input.getBcy(), width, n);
+
+        // Initialisierung der Matrizen, von der symmetrischen
+        // Steifigkeitsmatrix wird nur die untere Dreiecksmatrix assembliert
+        RitzMatrix kmat = new RitzMatrix(m, n); // Steifigkeitsmatrix
+
+        // Aufruf der Methoden addStiffness für Platte und Steifen
+        plate.addStiffness(laminat, kmat, input.getDMatrixService(), newBx, newBy); // fill stiffness matrix from Plate.class
+
+        for (StiffenerProperties s : input.getStiffenerProperties()) {
+            PlateComponents.createStiffener(s).addStiffness(kmat, newBx, newBy);
+        }
+
+        L = MatrixTools.getCholeskyFactor(kmat.toArray());
+        bx = newBx;
+        by = newBy;
+        dMatService = input.getDMatrixService();
+        signature = getSignature(input);
+        numberOfFactorizations++;
+    }
+
+    /**
+     * Prüft, ob die aktuelle Faktorisierung für die Eingabe und den
+     * aktuellen Zustand des Laminats gültig ist.
+     */
+    private boolean matches(DeformationInput input) {
+        return L != null
+                && dMatService == input.getDMatrixService()
+                && Arrays.equals(signature, getSignature(input));
+    }
+
+    /**
+     * Liefert alle Größen, von denen die Steifigkeitsmatrix abhängt. Das
+     * Laminat geht ausschließlich über die (gegebenenfalls angepasste)
+     * D-Matrix ein.
+     */
+    private double[] getSignature(DeformationInput input) {
+        List<StiffenerProperties> stiffProps = input.getStiffenerProperties();
+        double[] sig = new double[15 + 6 * stiffProps.size()];
+        sig[0] = input.getLength();
+        sig[1] = input.getWidth();
+        sig[2] = input.getBcx();
+        sig[3] = input.getBcy();
+        sig[4] = input.getM();
+        sig[5] = input.getN();
+        double[][] dmat = input.getDMatrixService().getDMatrix(laminat);
+        for (int ii = 0; ii < 3; ii++) {
+            for (int jj = 0; jj < 3; jj++) {
+                sig[6 + 3 * ii + jj] = dmat[ii][jj];
+            }
+        }
+        int index = 15;
+        for (StiffenerProperties s : stiffProps) {
+            sig[index++] = s.getDirection();
+            sig[index++] = s.getPosition();
+            sig[index++] = s.getE();
+            sig[index++] = s.getI();
+            sig[index++] = s.getG();
+            sig[index++] = s.getJ();
+        }
+        return sig;
+    }
+
+    private double[] getLoadVector(DeformationInput input) {
+        double[] fvec = new double[input.getM() * input.getN()]; // Kraftvektor
+        // fill Loadvector from Load.class
+        for (TransverseLoad load : input.getLoads()) {
+            load.add(fvec, input.getM(), input.getN(), bx, by);
+        }
+        return fvec;
+    }
+
+    /**
+     * m und n werden unabhängig gespeichert, da dies für die 3D-Darstellung
+     * Vorteile bringt.
+     */
+    private static double[][] toResultVectors(double[] cvec, int m, int n) {
+        double[][] resultvecs = new double[m][n];
+        for (int mm = 0; mm < m; mm++) {
+            System.arraycopy(cvec, mm * n, resultvecs[mm], 0, n);
+        }
+        return resultvecs;
+    }
+}
@@ -44,9 +44,6 @@ public class InplaneLoad {
     private double my_  = 0.0;
     private double mxy_ = 0.0;
 
-    private int k; // 1. Index der Steifigkeitsmatrix
-    private int l; // 2. Index der Steifigkeitsmatrix
-    
     /**
      * load plate contains the 3 in-plane loads - 2 of axial compression and 1 of shear load.
      * Die Lasten müssen für Druck negativ sein und für Zug positiv.
@@ -95,20 +92,29 @@ public class InplaneLoad {
      * @param by Randbedingungsobjekt in y-Richtung
      */
     public void add(double[][] Kgmat, int m, int n, Boundary bx, Boundary by){
-        k = -1;
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){
-                        l++;
-                        Kgmat[k][l] = nx_  * ( bx.IdXdX(ii,pp) * by.IXX(jj,qq) )
-                                    + nxy_ * ( bx.IXdX(ii,pp)  * by.IXdX(qq,jj) + bx.IXdX(pp,ii) * by.IXdX(jj,qq) )
-                                    + ny_  * ( bx.IXX(ii,pp)   * by.IdXdX(jj,qq) );
-                    }
-                }
+        RitzMatrix kg = new RitzMatrix(m, n);
+        add(kg, bx, by);
+        for (int k = 0; k < m*n; k++){
+            for (int l = 0; l < m*n; l++){
+                Kgmat[k][l] = kg.get(k, l);
             }
         }
     }
+
+    /**
+     * Addiert die geometrische Steifigkeitsmatrix basierend auf dem Ritz-Ansatz
+     * auf die übergebene symmetrische Matrix.
+     * @param Kgmat geometrische Steifigkeitsmatrix (m*n x m*n)
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public void add(RitzMatrix Kgmat, Boundary bx, Boundary by){
+        int m = Kgmat.getM();
+        int n = Kgmat.getN();
+
+        Kgmat.addKroneckerSum(
+                new double[]{nx_, nxy_, nxy_, ny_},
+                new double[][]{RitzMatrix.table(m, bx::IdXdX), RitzMatrix.table(m, bx::IXdX), RitzMatrix.table(m, (i, p) -> bx.IXdX(p, i)), RitzMatrix.table(m, bx::IXX)},
+                new double[][]{RitzMatrix.table(n, by::IXX), RitzMatrix.table(n, (i, p) -> by.IXdX(p, i)), RitzMatrix.table(n, by::IXdX), RitzMatrix.table(n, by::IdXdX)});
+    }
 }
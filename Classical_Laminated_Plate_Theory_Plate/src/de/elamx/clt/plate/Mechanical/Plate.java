@@ -107,30 +107,54 @@ public class Plate {
      * @param by Randbedingungsobjekt in y-Richtung
      */
     public void addStiffness(CLT_Laminate laminat, double[][] kmat, int m, int n, DMatrixService dMatServ, Boundary bx, Boundary by){
+        RitzMatrix k = new RitzMatrix(m, n);
+        addStiffness(laminat, k, dMatServ, bx, by);
+        k.addTo(kmat);
+    }
+
+    /**
+     * Fügt die Eigenschaften der Platte der symmetrischen Steifigkeitsmatix
+     * basierend auf den Randbedingungen hinzu. Die Matrix wird als Summe von
+     * Kronecker-Produkten der Integrale in x- und y-Richtung assembliert.
+     * @param laminat Laminat der Platte
+     * @param kmat Steifigkeitsmatrix (m*n x m*n)
+     * @param dMatServ Objekt, das eine eventuell angepasst D-Matrix des Laminates für die Berechnung bereitstellt
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public void addStiffness(CLT_Laminate laminat, RitzMatrix kmat, DMatrixService dMatServ, Boundary bx, Boundary by){
 
         // Hier wird die D-Matrix des Laminates gespeichert.
         // Gegebenenfalls Nutzung von D-Tilde anstelle von D Matrix
         double [][] dmat = dMatServ.getDMatrix(laminat);
 
-        int k = -1; // Laufvariable (1. Index) für die Steifigkeitsmatrix
-        int l = -1; // Laufvariable (2. Index) für die Steifigkeitsmatrix
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){                        
-                        l++;
-                        kmat[k][l] += ( dmat[0][0]*(bx.IdX2dX2(ii,pp) * by.IXX(jj,qq))
-                                    +   dmat[0][1]*(bx.IXdX2(ii,pp)   * by.IXdX2(qq,jj)   + bx.IXdX2(pp,ii)  * by.IXdX2(jj,qq))
-                                    + 2*dmat[0][2]*(bx.IdXdX2(ii,pp)  * by.IXdX(qq,jj)    + bx.IdXdX2(pp,ii) * by.IXdX(jj,qq))
-                                    +   dmat[1][1]*(bx.IXX(ii,pp)     * by.IdX2dX2(jj,qq))
-                                    + 2*dmat[1][2]*(bx.IXdX(pp,ii)    * by.IdXdX2(jj,qq)  + bx.IXdX(ii,pp)   * by.IdXdX2(qq,jj))
-                                    + 4*dmat[2][2]*(bx.IdXdX(ii,pp)   * by.IdXdX(jj,qq)));
-                    }
-                }
-            }
-        }
+        int m = kmat.getM();
+        int n = kmat.getN();
+
+        double[] xIXX     = RitzMatrix.table(m, bx::IXX);
+        double[] xIXdX    = RitzMatrix.table(m, bx::IXdX);
+        double[] xIXdXT   = RitzMatrix.table(m, (i, p) -> bx.IXdX(p, i));
+        double[] xIXdX2   = RitzMatrix.table(m, bx::IXdX2);
+        double[] xIXdX2T  = RitzMatrix.table(m, (i, p) -> bx.IXdX2(p, i));
+        double[] xIdXdX   = RitzMatrix.table(m, bx::IdXdX);
+        double[] xIdXdX2  = RitzMatrix.table(m, bx::IdXdX2);
+        double[] xIdXdX2T = RitzMatrix.table(m, (i, p) -> bx.IdXdX2(p, i));
+        double[] xIdX2dX2 = RitzMatrix.table(m, bx::IdX2dX2);
+
+        double[] yIXX     = RitzMatrix.table(n, by::IXX);
+        double[] yIXdX    = RitzMatrix.table(n, by::IXdX);
+        double[] yIXdXT   = RitzMatrix.table(n, (i, p) -> by.IXdX(p, i));
+        double[] yIXdX2   = RitzMatrix.table(n, by::IXdX2);
+        double[] yIXdX2T  = RitzMatrix.table(n, (i, p) -> by.IXdX2(p, i));
+        double[] yIdXdX   = RitzMatrix.table(n, by::IdXdX);
+        double[] yIdXdX2  = RitzMatrix.table(n, by::IdXdX2);
+        double[] yIdXdX2T = RitzMatrix.table(n, (i, p) -> by.IdXdX2(p, i));
+        double[] yIdX2dX2 = RitzMatrix.table(n, by::IdX2dX2);
+
+        kmat.addKroneckerSum(
+                new double[]{dmat[0][0], dmat[0][1], dmat[0][1], 2*dmat[0][2], 2*dmat[0][2], dmat[1][1], 2*dmat[1][2], 2*dmat[1][2], 4*dmat[2][2]},
+                new double[][]{xIdX2dX2, xIXdX2, xIXdX2T, xIdXdX2, xIdXdX2T, xIXX,     xIXdXT,  xIXdX,    xIdXdX},
+                new double[][]{yIXX,     yIXdX2T, yIXdX2, yIXdXT,  yIXdX,    yIdX2dX2, yIdXdX2, yIdXdX2T, yIdXdX});
     }
     
     /**
@@ -145,6 +169,20 @@ public class Plate {
      * @param by Randbedingungsobjekt in y-Richtung
      */
     public void addMass(CLT_Laminate laminat, double[][] mmat, int m, int n, Boundary bx, Boundary by){
+        RitzMatrix mass = new RitzMatrix(m, n);
+        addMass(laminat, mass, bx, by);
+        mass.addTo(mmat);
+    }
+
+    /**
+     * Fügt die Eigenschaften der Platte der symmetrischen Massenmatrix
+     * basierend auf den Randbedingungen hinzu.
+     * @param laminat Laminat der Platte
+     * @param mmat Massenmatrix (m*n x m*n)
+     * @param bx Randbedingungsobjekt in x-Richtung
+     * @param by Randbedingungsobjekt in y-Richtung
+     */
+    public void addMass(CLT_Laminate laminat, RitzMatrix mmat, Boundary bx, Boundary by){
         
         MassMoments mm = laminat.getMassMoments();
         
@@ -154,26 +192,25 @@ public class Plate {
         
         double I0 = mm.getI0();
         double I2 = mm.getI2();
-        
-        int k = -1; // Laufvariable (1. Index) für die Steifigkeitsmatrix
-        int l = -1; // Laufvariable (2. Index) für die Steifigkeitsmatrix
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){                        
-                        l++;
-                        mmat[k][l] -= (I0*bx.IXX(ii,pp)*by.IXX(jj,qq)
-                                    +  I2*(bx.IdXdX(ii,pp)*by.IXX(jj,qq) + bx.IXX(ii,pp)*by.IdXdX(jj,qq)));
-                    }
-                }
-            }
-        }
+
+        double[] xIXX   = RitzMatrix.table(mmat.getM(), bx::IXX);
+        double[] xIdXdX = RitzMatrix.table(mmat.getM(), bx::IdXdX);
+        double[] yIXX   = RitzMatrix.table(mmat.getN(), by::IXX);
+        double[] yIdXdX = RitzMatrix.table(mmat.getN(), by::IdXdX);
+
+        mmat.addKroneckerSum(
+                new double[]{-I0, -I2, -I2},
+                new double[][]{xIXX, xIdXdX, xIXX},
+                new double[][]{yIXX, yIXX,   yIdXdX});
     }
     
     public void addStiffnessAndMass(CLT_Laminate laminat, double[][] kmat, double[][] mmat, int m, int n, DMatrixService dMatServ, Boundary bx, Boundary by){
         addMass(laminat, mmat, m, n, bx, by);
         addStiffness(laminat, kmat, m, n, dMatServ, bx, by);
     }
+
+    public void addStiffnessAndMass(CLT_Laminate laminat, RitzMatrix kmat, RitzMatrix mmat, DMatrixService dMatServ, Boundary bx, Boundary by){
+        addMass(laminat, mmat, bx, by);
+        addStiffness(laminat, kmat, dMatServ, bx, by);
+    }
 }
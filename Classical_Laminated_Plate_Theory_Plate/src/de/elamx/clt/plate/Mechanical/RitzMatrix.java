@@ -0,0 +1,328 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate.Mechanical;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Symmetrische Matrix (m*n x m*n) des Ritz-Ansatzes einer Rechteckplatte. Es
+ * wird nur die untere Dreiecksmatrix zeilenweise in einem eindimensionalen Feld
+ * gespeichert (packed storage). Der Index k = pp*n + qq einer Zeile bzw.
+ * l = ii*n + jj einer Spalte entspricht der Nummerierung der bisherigen
+ * Steifigkeitsmatrizen.<br>
+ * <br>
+ * Alle Matrizen des Ritz-Ansatzes sind Summen von Kronecker-Produkten der
+ * Integrale in x- und y-Richtung
+ * <pre>
+ * K[(pp,qq)][(ii,jj)] = Σ f_t * X_t[ii][pp] * Y_t[jj][qq]
+ * </pre>
+ * Die Integraltabellen X_t und Y_t werden deshalb einmalig mit
+ * {@link #table(int, Integral)} ausgewertet und anschließend mit
+ * {@link #addKroneckerSum(double[], double[][], double[][])} auf die Matrix
+ * addiert. Die Aufteilung auf mehrere Threads ändert die Ergebnisse nicht, da
+ * jeder Eintrag unabhängig von der Aufteilung immer in der gleichen
+ * Reihenfolge summiert wird.
+ *
+ * @author Andreas Hauffe
+ */
+public class RitzMatrix {
+
+    /**
+     * Ab dieser Dimension (m*n) wird die Assemblierung bei automatischer
+     * Wahl der Threadanzahl parallelisiert.
+     */
+    public static final int PARALLEL_THRESHOLD = 400;
+
+    /**
+     * Integral des Verschiebungsansatzes in Abhängigkeit der Ansätze i und p,
+     * z.B. <CODE>bx::IXX</CODE>.
+     */
+    public interface Integral {
+
+        double get(int i, int p);
+    }
+
+    private final int m_; // Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+    private final int n_; // Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+    private final int dim_; // m*n
+    private final int numberOfThreads_;
+
+    // untere Dreiecksmatrix, Eintrag (k,l) mit l <= k bei k*(k+1)/2 + l
+    private final double[] values_;
+
+    /**
+     * Erzeugt eine neue, mit null belegte Matrix. Die Anzahl der Threads für
+     * die Assemblierung wird anhand der Dimension und der verfügbaren
+     * Prozessoren automatisch bestimmt.
+     *
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     */
+    public RitzMatrix(int m, int n) {
+        this(m, n, m * n < PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Erzeugt eine neue, mit null belegte Matrix.
+     *
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     * @param numberOfThreads Anzahl der Threads für die Assemblierung
+     */
+    public RitzMatrix(int m, int n, int numberOfThreads) {
+        m_ = m;
+        n_ = n;
+        dim_ = m * n;
+        numberOfThreads_ = Math.max(1, Math.min(numberOfThreads, m));
+        values_ = new double[dim_ * (dim_ + 1) / 2];
+    }
+
+    public int getM() {
+        return m_;
+    }
+
+    public int getN() {
+        return n_;
+    }
+
+    /**
+     * Liefert die Dimension m*n der Matrix.
+     *
+     * @return Dimension der Matrix
+     */
+    public int getDimension() {
+        return dim_;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads_;
+    }
+
+    /**
+     * Liefert den Eintrag (k,l). Wegen der Symmetrie sind k und l
+     * vertauschbar.
+     *
+     * @param k Zeile
+     * @param l Spalte
+     * @return Eintrag (k,l)
+     */
+    public double get(int k, int l) {
+        return k >= l ? values_[k * (k + 1) / 2 + l] : values_[l * (l + 1) / 2 + k];
+    }
+
+    /**
+     * Liefert das interne Feld der unteren Dreiecksmatrix. Der Eintrag (k,l)
+     * mit l &le; k liegt an der Stelle k*(k+1)/2 + l.
+     *
+     * @return untere Dreiecksmatrix (packed storage)
+     */
+    public double[] getPackedValues() {
+        return values_;
+    }
+
+    /**
+     * Wertet ein Integral für alle Ansatzkombinationen aus. Der Wert für i und
+     * p liegt an der Stelle i*size + p.
+     *
+     * @param size Anzahl der Terme in die entsprechende Richtung
+     * @param integral Integral
+     * @return Tabelle des Integrals (size x size)
+     */
+    public static double[] table(int size, Integral integral) {
+        double[] table = new double[size * size];
+        for (int ii = 0; ii < size; ii++) {
+            for (int pp = 0; pp < size; pp++) {
+                table[ii * size + pp] = integral.get(ii, pp);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Liefert das dyadische Produkt v*v<sup>T</sup> als Tabelle, wie es z.B.
+     * bei Steifen an einer festen Position benötigt wird.
+     *
+     * @param v Vektor
+     * @return Tabelle (v.length x v.length)
+     */
+    public static double[] outerProduct(double[] v) {
+        int size = v.length;
+        double[] table = new double[size * size];
+        for (int ii = 0; ii < size; ii++) {
+            for (int pp = 0; pp < size; pp++) {
+                table[ii * size + pp] = v[ii] * v[pp];
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Addiert die Summe der Kronecker-Produkte
+     * <pre>
+     * K[(pp,qq)][(ii,jj)] += Σ factors[t] * x[t][ii*m+pp] * y[t][jj*n+qq]
+     * </pre>
+     * auf die Matrix. Die Summe muss symmetrisch sein, da nur die untere
+     * Dreiecksmatrix berechnet wird.
+     *
+     * @param factors Faktoren der einzelnen Produkte
+     * @param x Tabellen in x-Richtung (jeweils m x m)
+     * @param y Tabellen in y-Richtung (jeweils n x n)
+     */
+    public void addKroneckerSum(double[] factors, double[][] x, double[][] y) {
+        // Transponieren der y-Tabellen, damit die innerste Schleife (jj)
+        // zusammenhängend auf den Speicher zugreift.
+        int numTerms = factors.length;
+        double[][] yT = new double[numTerms][n_ * n_];
+        for (int t = 0; t < numTerms; t++) {
+            for (int jj = 0; jj < n_; jj++) {
+                for (int qq = 0; qq < n_; qq++) {
+                    yT[t][qq * n_ + jj] = y[t][jj * n_ + qq];
+                }
+            }
+        }
+
+        if (numberOfThreads_ == 1) {
+            assemble(factors, x, yT, 0, m_);
+            return;
+        }
+
+        // Die Zeilenblöcke pp enthalten (pp+1) Teilblöcke der unteren
+        // Dreiecksmatrix. Die Grenzen werden so gewählt, dass jeder Thread
+        // ungefähr die gleiche Anzahl an Teilblöcken bearbeitet.
+        List<Callable<Void>> tasks = new ArrayList<>(numberOfThreads_);
+        int from = 0;
+        for (int t = 1; t <= numberOfThreads_; t++) {
+            int to = t == numberOfThreads_ ? m_ : (int) Math.round(m_ * Math.sqrt((double) t / numberOfThreads_));
+            if (to > from) {
+                final int start = from;
+                final int end = to;
+                tasks.add(() -> {
+                    assemble(factors, x, yT, start, end);
+                    return null;
+                });
+                from = to;
+            }
+        }
+
+        try {
+            for (Future<Void> f : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Assembliert die Zeilenblöcke pp von <CODE>ppStart</CODE> bis
+     * <CODE>ppEnd</CODE> (exklusive) der unteren Dreiecksmatrix.
+     */
+    private void assemble(double[] factors, double[][] x, double[][] yT, int ppStart, int ppEnd) {
+        int numTerms = factors.length;
+        double[] xs = new double[numTerms];
+        for (int pp = ppStart; pp < ppEnd; pp++) {
+            for (int ii = 0; ii <= pp; ii++) {
+                boolean nonZero = false;
+                for (int t = 0; t < numTerms; t++) {
+                    xs[t] = factors[t] * x[t][ii * m_ + pp];
+                    nonZero |= xs[t] != 0.0;
+                }
+                if (!nonZero) {
+                    continue;
+                }
+                for (int qq = 0; qq < n_; qq++) {
+                    int k = pp * n_ + qq;
+                    int offset = k * (k + 1) / 2 + ii * n_;
+                    // Im Diagonalblock (ii == pp) nur bis zur Diagonalen
+                    int jjEnd = ii < pp ? n_ : qq + 1;
+                    for (int t = 0; t < numTerms; t++) {
+                        double xt = xs[t];
+                        if (xt == 0.0) {
+                            continue;
+                        }
+                        double[] yRow = yT[t];
+                        int yOffset = qq * n_;
+                        for (int jj = 0; jj < jjEnd; jj++) {
+                            values_[offset + jj] += xt * yRow[yOffset + jj];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Addiert die untere Dreiecksmatrix einer symmetrischen vollbesetzten
+     * Matrix auf diese Matrix.
+     *
+     * @param mat symmetrische vollbesetzte Matrix (m*n x m*n)
+     */
+    public void add(double[][] mat) {
+        int index = 0;
+        for (int k = 0; k < dim_; k++) {
+            double[] row = mat[k];
+            for (int l = 0; l <= k; l++) {
+                values_[index++] += row[l];
+            }
+        }
+    }
+
+    /**
+     * Addiert die Matrix auf die übergebene vollbesetzte Matrix.
+     *
+     * @param mat vollbesetzte Matrix (m*n x m*n)
+     */
+    public void addTo(double[][] mat) {
+        int index = 0;
+        for (int k = 0; k < dim_; k++) {
+            for (int l = 0; l < k; l++) {
+                double val = values_[index++];
+                mat[k][l] += val;
+                mat[l][k] += val;
+            }
+            mat[k][k] += values_[index++];
+        }
+    }
+
+    /**
+     * Liefert die Matrix als neue vollbesetzte Matrix.
+     *
+     * @return vollbesetzte Matrix (m*n x m*n)
+     */
+    public double[][] toArray() {
+        double[][] mat = new double[dim_][dim_];
+        addTo(mat);
+        return mat;
+    }
+}
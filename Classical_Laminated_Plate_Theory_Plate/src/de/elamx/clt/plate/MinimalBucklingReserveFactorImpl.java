@@ -30,6 +30,7 @@ import de.elamx.core.ELamXDecimalFormat;
 import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
 import org.openide.util.NbBundle;
 
 /**
@@ -58,7 +59,12 @@ public class MinimalBucklingReserveFactorImpl implements MinimalReserveFactorCal
             clt_lam = new CLT_Laminate(laminat);
         }
         
-        BucklingResult result = Buckling.calc(clt_lam, input);
+        return getMinimalReserveFactor(clt_lam, input);
+    }
+    
+    private static double getMinimalReserveFactor(CLT_Laminate clt_lam, BucklingInput input) {
+        // Für den Reservefaktor wird nur der kleinste positive Eigenwert benötigt
+        BucklingResult result = Buckling.calc(clt_lam, input, 0);
         
         double smallestPositiveEigenvalue = result.getSmallestPositiveEigenValue();
         
@@ -69,6 +75,12 @@ public class MinimalBucklingReserveFactorImpl implements MinimalReserveFactorCal
         return input;
     }
 
+    @Override
+    public MinimalReserveFactorContext createContext() {
+        final BucklingInput contextInput = (BucklingInput) input.copy();
+        return (Laminat laminat) -> getMinimalReserveFactor(CLT_Laminate.createDetached(laminat), contextInput);
+    }
+
     @Override
     public boolean isSymmetricLaminateNeeded() {
         return true;
@@ -33,6 +33,7 @@ import de.elamx.core.ELamXDecimalFormat;
 import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
 import org.openide.util.NbBundle;
 
 /**
@@ -62,6 +63,10 @@ public class MinimalDeformationReserveFactorImpl implements MinimalReserveFactor
             clt_lam = new CLT_Laminate(laminat);
         }
 
+        return getMinimalReserveFactor(clt_lam, input);
+    }
+
+    private static double getMinimalReserveFactor(CLT_Laminate clt_lam, DeformationInput input) {
         DeformationResult result = Deformation.calc(clt_lam, input);
         DeformationPlate plate = new DeformationPlate(input, result);
 
@@ -84,6 +89,12 @@ public class MinimalDeformationReserveFactorImpl implements MinimalReserveFactor
         return input;
     }
 
+    @Override
+    public MinimalReserveFactorContext createContext() {
+        final DeformationInput contextInput = (DeformationInput) input.copy();
+        return (Laminat laminat) -> getMinimalReserveFactor(CLT_Laminate.createDetached(laminat), contextInput);
+    }
+
     @Override
     public boolean isSymmetricLaminateNeeded() {
         return true;
@@ -0,0 +1,88 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Boundary.Boundary_CC_200;
+import de.elamx.clt.plate.Boundary.Boundary_CF_200;
+import de.elamx.clt.plate.Boundary.Boundary_FF_200;
+import de.elamx.clt.plate.Boundary.Boundary_SC_200;
+import de.elamx.clt.plate.Boundary.Boundary_SF_200;
+import de.elamx.clt.plate.Boundary.Boundary_SS_200;
+import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import de.elamx.clt.plate.Stiffener.Stiffener;
+import de.elamx.clt.plate.Stiffener.Stiffenerx;
+import de.elamx.clt.plate.Stiffener.Stiffenery;
+
+/**
+ * Erzeugt die Randbedingungs- und Steifenobjekte aus den Angaben eines
+ * {@link Input}-Objekts, wie sie von den Lösern der Platte benötigt werden.
+ *
+ * @author Andreas Hauffe
+ */
+final class PlateComponents {
+
+    private PlateComponents() {
+    }
+
+    /**
+     * Erzeugt das Randbedingungsobjekt mit den Integralen für die
+     * Randbedingung und die Länge.
+     *
+     * @param bc Randbedingung (0 = SS, 1 = CC, 2 = CF, 3 = FF, 4 = SC, 5 = SF)
+     * @param length Länge in die entsprechende Richtung
+     * @param terms Anzahl der Terme für den Ritz-Ansatz
+     * @return Randbedingungsobjekt
+     */
+    static Boundary createBoundary(int bc, double length, int terms) {
+        switch (bc) {
+            case 0: return new Boundary_SS_200(length, terms);
+            case 1: return new Boundary_CC_200(length, terms);
+            case 2: return new Boundary_CF_200(length, terms);
+            case 3: return new Boundary_FF_200(length, terms);
+            case 4: return new Boundary_SC_200(length, terms);
+            case 5: return new Boundary_SF_200(length, terms);
+            default: return new Boundary_SS_200(length, terms);
+        }
+    }
+
+    /**
+     * Erzeugt die Steife zu den übergebenen Eigenschaften.
+     *
+     * @param s Eigenschaften der Steife
+     * @return Steife
+     */
+    static Stiffener createStiffener(StiffenerProperties s) {
+        switch (s.getDirection()) {
+            case StiffenerProperties.X_DIRECTION:
+                return new Stiffenerx(s, s.getPosition());
+            case StiffenerProperties.Y_DIRECTION:
+                return new Stiffenery(s, s.getPosition());
+            default:
+                return new Stiffenerx(s, s.getPosition());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.plate.Boundary.Boundary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Auswertung der Plattendurchbiegung w und der Krümmungen auf einem
+ * Rechteckgitter. Der Ritz-Ansatz ist separierbar
+ * <pre>
+ * w(x,y) = Σ c[mm][nn] * X_mm(x) * Y_nn(y)
+ * </pre>
+ * Die Ansatzfunktionen und ihre Ableitungen werden deshalb nur einmal je
+ * Gitterlinie in x- und y-Richtung tabelliert (B<sub>x</sub>, B<sub>y</sub>)
+ * und die Felder anschließend als Matrizenprodukte
+ * B<sub>x</sub>*c*B<sub>y</sub><sup>T</sup> berechnet. Der Aufwand sinkt
+ * damit von O(n<sub>x</sub>*n<sub>y</sub>*m*n) Auswertungen der
+ * Ansatzfunktionen auf O((n<sub>x</sub>+n<sub>y</sub>)*(m+n)) Auswertungen
+ * und O(n<sub>x</sub>*(m+n<sub>y</sub>)*n) Multiplikationen.<br>
+ * <br>
+ * Die Krümmungen werden wie in der 3D-Darstellung als
+ * &kappa;<sub>x</sub> = w<sub>,xx</sub>, &kappa;<sub>y</sub> = w<sub>,yy</sub>
+ * und &kappa;<sub>xy</sub> = 2*w<sub>,xy</sub> berechnet. Die Gitterzeilen
+ * werden auf mehrere Threads aufgeteilt, die Ergebnisse hängen nicht von der
+ * Anzahl der Threads ab. Die Klasse benötigt keine grafische Oberfläche und
+ * kann z.B. für den Export dichter Ergebnisfelder verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public class PlateField {
+
+    public static final int W = 0;
+    public static final int KAPPA_X = 1;
+    public static final int KAPPA_Y = 2;
+    public static final int KAPPA_XY = 3;
+
+    /**
+     * Ab dieser Anzahl an Multiplikationen wird die Auswertung bei
+     * automatischer Wahl der Threadanzahl parallelisiert.
+     */
+    public static final int PARALLEL_THRESHOLD = 1000000;
+
+    private final Boundary bx;
+    private final Boundary by;
+    private final int m;
+    private final int n;
+
+    /**
+     * Erzeugt eine neue Feldauswertung für die Ansatzfunktionen der
+     * übergebenen Randbedingungen.
+     *
+     * @param bx Randbedingungen in x-Richtung
+     * @param by Randbedingungen in y-Richtung
+     * @param m Anzahl der Terme für den Ritz-Ansatz in x-Richtung
+     * @param n Anzahl der Terme für den Ritz-Ansatz in y-Richtung
+     */
+    public PlateField(Boundary bx, Boundary by, int m, int n) {
+        this.bx = bx;
+        this.by = by;
+        this.m = m;
+        this.n = n;
+    }
+
+    /**
+     * Erzeugt eine neue Feldauswertung für die Geometrie, die Randbedingungen
+     * und die Termanzahl der Eingabe.
+     *
+     * @param input Eingabegrößen
+     */
+    public PlateField(Input input) {
+        this(PlateComponents.createBoundary(input.getBcx(), input.getLength(), input.getM()),
+                PlateComponents.createBoundary(input.getBcy(), input.getWidth(), input.getN()),
+                input.getM(), input.getN());
+    }
+
+    public Boundary getBx() {
+        return bx;
+    }
+
+    public Boundary getBy() {
+        return by;
+    }
+
+    public int getM() {
+        return m;
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    /**
+     * Liefert numberOfElements+1 äquidistante Gitterpositionen von 0 bis
+     * length.
+     *
+     * @param length Länge
+     * @param numberOfElements Anzahl der Elemente
+     * @return Gitterpositionen
+     */
+    public static double[] grid(double length, int numberOfElements) {
+        double elemsize = length / numberOfElements;
+        double[] pos = new double[numberOfElements + 1];
+        for (int ii = 0; ii <= numberOfElements; ii++) {
+            pos[ii] = ii * elemsize;
+        }
+        return pos;
+    }
+
+    /**
+     * Berechnet die Durchbiegung w an den Gitterpunkten (x[ii], y[jj]).
+     *
+     * @param c Koeffizienten des Ritz-Ansatzes [m][n], z.B. ein Eigenvektor
+     * oder der Ergebnisvektor der Deformationsberechnung
+     * @param x Gitterpositionen in x-Richtung
+     * @param y Gitterpositionen in y-Richtung
+     * @return Durchbiegung [x.length][y.length]
+     */
+    public double[][] getDeflection(double[][] c, double[] x, double[] y) {
+        return getFields(c, x, y, false)[W];
+    }
+
+    /**
+     * Berechnet die Durchbiegung und optional die Krümmungen an den
+     * Gitterpunkten (x[ii], y[jj]). Die Anzahl der Threads wird anhand der
+     * Problemgröße und der verfügbaren Prozessoren automatisch bestimmt.
+     *
+     * @param c Koeffizienten des Ritz-Ansatzes [m][n]
+     * @param x Gitterpositionen in x-Richtung
+     * @param y Gitterpositionen in y-Richtung
+     * @param curvatures <CODE>true</CODE>, wenn die Krümmungen berechnet
+     * werden sollen
+     * @return Felder [{@link #W}, {@link #KAPPA_X}, {@link #KAPPA_Y},
+     * {@link #KAPPA_XY}][x.length][y.length], ohne Krümmungen nur
+     * [{@link #W}][x.length][y.length]
+     */
+    public double[][][] getFields(double[][] c, double[] x, double[] y, boolean curvatures) {
+        long work = (long) x.length * (m + y.length) * n * (curvatures ? 4 : 1);
+        return getFields(c, x, y, curvatures, work < PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Berechnet die Durchbiegung und optional die Krümmungen an den
+     * Gitterpunkten (x[ii], y[jj]). Die Gitterzeilen werden auf die
+     * übergebene Anzahl an Threads aufgeteilt, bei 1 wird im aufrufenden
+     * Thread gerechnet.
+     *
+     * @param c Koeffizienten des Ritz-Ansatzes [m][n]
+     * @param x Gitterpositionen in x-Richtung
+     * @param y Gitterpositionen in y-Richtung
+     * @param curvatures <CODE>true</CODE>, wenn die Krümmungen berechnet
+     * werden sollen
+     * @param numberOfThreads Anzahl der Threads
+     * @return Felder (siehe {@link #getFields(double[][], double[], double[], boolean)})
+     */
+    public double[][][] getFields(final double[][] c, final double[] x, final double[] y, final boolean curvatures, int numberOfThreads) {
+        final int numDer = curvatures ? 3 : 1;
+        // Tabellen der Ansatzfunktionen und Ableitungen [Ableitung][Position][Term]
+        final double[][][] tx = table(bx, m, x, numDer);
+        final double[][][] ty = table(by, n, y, numDer);
+
+        final double[][][] fields = new double[curvatures ? 4 : 1][x.length][y.length];
+
+        int numTasks = Math.max(1, Math.min(numberOfThreads, x.length));
+        if (numTasks == 1) {
+            evaluate(c, tx, ty, fields, 0, x.length);
+            return fields;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(numTasks, r -> {
+            Thread t = new Thread(r, "PlateField");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(numTasks);
+            for (int t = 0; t < numTasks; t++) {
+                final int from = t * x.length / numTasks;
+                final int to = (t + 1) * x.length / numTasks;
+                tasks.add(() -> {
+                    evaluate(c, tx, ty, fields, from, to);
+                    return null;
+                });
+            }
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return fields;
+    }
+
+    /**
+     * Tabelliert die Ansatzfunktionen und die ersten numDer-1 Ableitungen an
+     * den übergebenen Positionen.
+     */
+    private static double[][][] table(Boundary b, int terms, double[] pos, int numDer) {
+        double[][][] t = new double[numDer][pos.length][terms];
+        for (int ii = 0; ii < pos.length; ii++) {
+            for (int mm = 0; mm < terms; mm++) {
+                t[0][ii][mm] = b.wx(mm, pos[ii]);
+                if (numDer > 1) {
+                    t[1][ii][mm] = b.wdx(mm, pos[ii]);
+                    t[2][ii][mm] = b.wdx2(mm, pos[ii]);
+                }
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Berechnet die Gitterzeilen <CODE>from</CODE> bis <CODE>to</CODE>
+     * (exklusive) aller Felder.
+     */
+    private void evaluate(double[][] c, double[][][] tx, double[][][] ty, double[][][] fields, int from, int to) {
+        int numDer = tx.length;
+        int ny = fields[0][0].length;
+        // Zeile ii von B_x^(k)*c für die Ableitungen k
+        double[][] rx = new double[numDer][n];
+        for (int ii = from; ii < to; ii++) {
+            for (int k = 0; k < numDer; k++) {
+                double[] r = rx[k];
+                double[] b = tx[k][ii];
+                for (int nn = 0; nn < n; nn++) {
+                    r[nn] = 0.0;
+                }
+                for (int mm = 0; mm < m; mm++) {
+                    double bm = b[mm];
+                    double[] cm = c[mm];
+                    for (int nn = 0; nn < n; nn++) {
+                        r[nn] += bm * cm[nn];
+                    }
+                }
+            }
+            double[] w = fields[W][ii];
+            for (int jj = 0; jj < ny; jj++) {
+                w[jj] = dot(rx[0], ty[0][jj]);
+            }
+            if (numDer > 1) {
+                double[] kx = fields[KAPPA_X][ii];
+                double[] ky = fields[KAPPA_Y][ii];
+                double[] kxy = fields[KAPPA_XY][ii];
+                for (int jj = 0; jj < ny; jj++) {
+                    kx[jj] = dot(rx[2], ty[0][jj]);
+                    ky[jj] = dot(rx[0], ty[2][jj]);
+                    kxy[jj] = 2.0 * dot(rx[1], ty[1][jj]);
+                }
+            }
+        }
+    }
+
+    private double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int nn = 0; nn < n; nn++) {
+            sum += a[nn] * b[nn];
+        }
+        return sum;
+    }
+}
@@ -26,6 +26,7 @@
 package de.elamx.clt.plate.Stiffener;
 
 import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 
 /**
@@ -67,6 +68,45 @@ public abstract class Stiffener {
         addMass(mmat, m, n, bx, by);
     }
 
+    /**
+     * Addiert die Steifigkeit der Versteifung auf die symmetrische Matrix des
+     * Ritz-Ansatzes. Die Standardimplementierung verwendet
+     * {@link #addStiffness(double[][], int, int, Boundary, Boundary)} mit einer
+     * vollbesetzten Matrix, damit Versteifungen, die nur diese Methode
+     * implementieren, weiterhin verwendet werden können. Die Versteifungen
+     * dieses Pakets überschreiben die Methode.
+     *
+     * @param kmat Steifigkeitsmatrix
+     * @param bx Randbedingung in x-Richtung
+     * @param by Randbedingung in y-Richtung
+     */
+    public void addStiffness(RitzMatrix kmat, Boundary bx, Boundary by) {
+        double[][] k = new double[kmat.getDimension()][kmat.getDimension()];
+        addStiffness(k, kmat.getM(), kmat.getN(), bx, by);
+        kmat.add(k);
+    }
+
+    /**
+     * Addiert die Masse der Versteifung auf die symmetrische Matrix des
+     * Ritz-Ansatzes. Die Standardimplementierung verwendet wie
+     * {@link #addStiffness(RitzMatrix, Boundary, Boundary)} die Methode für
+     * vollbesetzte Matrizen.
+     *
+     * @param mmat Massenmatrix
+     * @param bx Randbedingung in x-Richtung
+     * @param by Randbedingung in y-Richtung
+     */
+    public void addMass(RitzMatrix mmat, Boundary bx, Boundary by) {
+        double[][] mass = new double[mmat.getDimension()][mmat.getDimension()];
+        addMass(mass, mmat.getM(), mmat.getN(), bx, by);
+        mmat.add(mass);
+    }
+
+    public void addStiffnessAndMass(RitzMatrix kmat, RitzMatrix mmat, Boundary bx, Boundary by) {
+        addStiffness(kmat, bx, by);
+        addMass(mmat, bx, by);
+    }
+
     public abstract int getDirection();
 
     public abstract String getDirectionAsString();
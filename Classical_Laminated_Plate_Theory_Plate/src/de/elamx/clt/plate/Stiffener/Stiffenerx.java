@@ -26,6 +26,7 @@
 package de.elamx.clt.plate.Stiffener;
 
 import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 
 /**
@@ -44,7 +45,21 @@ public class Stiffenerx extends Stiffener {
 
     @Override
     public void addStiffness(double[][] kmat, int m, int n, Boundary bx, Boundary by) {
-        int k, l;
+        RitzMatrix k = new RitzMatrix(m, n);
+        addStiffness(k, bx, by);
+        k.addTo(kmat);
+    }
+
+    @Override
+    public void addMass(double[][] mmat, int m, int n, Boundary bx, Boundary by) {
+        RitzMatrix mass = new RitzMatrix(m, n);
+        addMass(mass, bx, by);
+        mass.addTo(mmat);
+    }
+
+    @Override
+    public void addStiffness(RitzMatrix kmat, Boundary bx, Boundary by) {
+        int n = kmat.getN();
         
         double tPos = position_ + by.getA()/2.0;
 
@@ -53,44 +68,37 @@ public class Stiffenerx extends Stiffener {
         double G = props_.getG();
         double J = props_.getJ();
 
-        k = -1;
-        for (int pp = 0; pp < m; pp++) {
-            for (int qq = 0; qq < n; qq++) {
-                k++;
-                l = -1;
-                for (int ii = 0; ii < m; ii++) {
-                    for (int jj = 0; jj < n; jj++) {
-                        l++;
-                        kmat[k][l] += E * I * bx.IdX2dX2(ii, pp) * by.wx(jj, tPos) * by.wx(qq, tPos)
-                                + G * J * bx.IdXdX(ii, pp) * by.wdx(jj, tPos) * by.wdx(qq, tPos);
-                    }
-                }
-            }
+        double[] w  = new double[n];
+        double[] wd = new double[n];
+        for (int jj = 0; jj < n; jj++) {
+            w[jj]  = by.wx(jj, tPos);
+            wd[jj] = by.wdx(jj, tPos);
         }
+
+        kmat.addKroneckerSum(
+                new double[]{E * I, G * J},
+                new double[][]{RitzMatrix.table(kmat.getM(), bx::IdX2dX2), RitzMatrix.table(kmat.getM(), bx::IdXdX)},
+                new double[][]{RitzMatrix.outerProduct(w), RitzMatrix.outerProduct(wd)});
     }
     
     @Override
-    public void addMass(double[][] mmat, int m, int n, Boundary bx, Boundary by){
-        int k,l;
+    public void addMass(RitzMatrix mmat, Boundary bx, Boundary by){
+        int n = mmat.getN();
         
         double tPos = position_ + bx.getA()/2.0;
         
         double rho = props_.getRho();
         double A = props_.getA();
-        
-        k=-1;
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){
-                        l++;
-                        mmat[k][l] -= rho*A*bx.IXX(ii,pp)    *by.wx(jj,tPos) *by.wx(qq,tPos);
-                    }
-                }
-            }
+
+        double[] w = new double[n];
+        for (int jj = 0; jj < n; jj++) {
+            w[jj] = by.wx(jj, tPos);
         }
+
+        mmat.addKroneckerSum(
+                new double[]{-rho*A},
+                new double[][]{RitzMatrix.table(mmat.getM(), bx::IXX)},
+                new double[][]{RitzMatrix.outerProduct(w)});
     }
 
     @Override
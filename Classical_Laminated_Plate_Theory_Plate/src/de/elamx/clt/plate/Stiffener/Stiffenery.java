@@ -26,6 +26,7 @@
 package de.elamx.clt.plate.Stiffener;
 
 import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 
 /**
@@ -40,7 +41,21 @@ public class Stiffenery extends Stiffener {
 
     @Override
     public void addStiffness(double[][] kmat, int m, int n, Boundary bx, Boundary by) {
-        int k, l;
+        RitzMatrix k = new RitzMatrix(m, n);
+        addStiffness(k, bx, by);
+        k.addTo(kmat);
+    }
+
+    @Override
+    public void addMass(double[][] mmat, int m, int n, Boundary bx, Boundary by) {
+        RitzMatrix mass = new RitzMatrix(m, n);
+        addMass(mass, bx, by);
+        mass.addTo(mmat);
+    }
+
+    @Override
+    public void addStiffness(RitzMatrix kmat, Boundary bx, Boundary by) {
+        int m = kmat.getM();
         
         double tPos = position_ + bx.getA()/2.0;
 
@@ -49,44 +64,37 @@ public class Stiffenery extends Stiffener {
         double G = props_.getG();
         double J = props_.getJ();
 
-        k = -1;
-        for (int pp = 0; pp < m; pp++) {
-            for (int qq = 0; qq < n; qq++) {
-                k++;
-                l = -1;
-                for (int ii = 0; ii < m; ii++) {
-                    for (int jj = 0; jj < n; jj++) {
-                        l++;
-                        kmat[k][l] += E * I * by.IdX2dX2(jj, qq) * bx.wx(ii, tPos)  * bx.wx(pp, tPos)
-                                    + G * J * by.IdXdX(jj, qq)   * bx.wdx(ii, tPos) * bx.wdx(pp, tPos);
-                    }
-                }
-            }
+        double[] w  = new double[m];
+        double[] wd = new double[m];
+        for (int ii = 0; ii < m; ii++) {
+            w[ii]  = bx.wx(ii, tPos);
+            wd[ii] = bx.wdx(ii, tPos);
         }
+
+        kmat.addKroneckerSum(
+                new double[]{E * I, G * J},
+                new double[][]{RitzMatrix.outerProduct(w), RitzMatrix.outerProduct(wd)},
+                new double[][]{RitzMatrix.table(kmat.getN(), by::IdX2dX2), RitzMatrix.table(kmat.getN(), by::IdXdX)});
     }
     
     @Override
-    public void addMass(double[][] mmat, int m, int n, Boundary bx, Boundary by){
-        int k,l;
+    public void addMass(RitzMatrix mmat, Boundary bx, Boundary by){
+        int m = mmat.getM();
         
         double tPos = position_ + bx.getA()/2.0;
         
         double rho = props_.getRho();
         double A = props_.getA();
-        
-        k=-1;
-        for (int pp = 0; pp < m; pp++){
-            for (int qq = 0; qq < n; qq++){
-                k++;
-                l=-1;
-                for (int ii = 0; ii < m; ii++){
-                    for (int jj = 0; jj < n; jj++){
-                        l++;
-                        mmat[k][l] -= rho*A*by.IXX(jj,qq)    *bx.wx(ii,tPos) *bx.wx(pp,tPos);
-                    }
-                }
-            }
+
+        double[] w = new double[m];
+        for (int ii = 0; ii < m; ii++) {
+            w[ii] = bx.wx(ii, tPos);
         }
+
+        mmat.addKroneckerSum(
+                new double[]{-rho*A},
+                new double[][]{RitzMatrix.outerProduct(w)},
+                new double[][]{RitzMatrix.table(mmat.getN(), by::IXX)});
     }
 
     @Override
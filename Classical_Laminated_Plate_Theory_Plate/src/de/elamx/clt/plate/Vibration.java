@@ -34,6 +34,7 @@ import de.elamx.clt.plate.Boundary.Boundary_SC_200;
 import de.elamx.clt.plate.Boundary.Boundary_SF_200;
 import de.elamx.clt.plate.Boundary.Boundary_SS_200;
 import de.elamx.clt.plate.Mechanical.Plate;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 import de.elamx.clt.plate.Stiffener.Stiffener;
 import de.elamx.clt.plate.Stiffener.Stiffenerx;
@@ -55,11 +56,6 @@ import de.elamx.mathtools.MatrixTools;
  */
 public class Vibration {
 
-    private static int m_ = 10; //  number of terms used in ritz-approach in x-direction
-    private static int n_ = 10; //  number of terms used in ritz-approach in y-direction
-
-    private static double[][][] eigenvecs; // Eigenvektoren
-
     /**
      * Diese Methode berechnet für die gegebenen Daten die Eigenwerte und Eigenformen
      * Alle Ergebnisse werden im DataMemory (m, n, Eigenwerte, Eigenvektoren,
@@ -74,8 +70,8 @@ public class Vibration {
         VibrationResult result = new VibrationResult(laminat, input);
 
         // Speichern der Termanzahl
-        m_ = input.getM();
-        n_ = input.getN();
+        int m_ = input.getM(); //  number of terms used in ritz-approach in x-direction
+        int n_ = input.getN(); //  number of terms used in ritz-approach in y-direction
 
         double length = input.getLength();
         double width  = input.getWidth();
@@ -109,14 +105,13 @@ public class Vibration {
             default: by = new Boundary_SS_200(width, n_);
         }
 
-        // Initialisierung der Matrizen
-        // Achtung: An dieser Stelle wäre in anderen Programmiersprachen ein Nullsetzen
-        // der Matrixeinträge notwendig. Java macht dies intern automatrisch.
-        double[][] kmat  = new double[m_*n_][m_*n_]; // Steifigkeitsmatrix
-        double[][] mmat  = new double[m_*n_][m_*n_]; // Massenmatrix
+        // Initialisierung der symmetrischen Matrizen, es wird jeweils nur die
+        // untere Dreiecksmatrix assembliert
+        RitzMatrix kmat  = new RitzMatrix(m_, n_); // Steifigkeitsmatrix
+        RitzMatrix mmat  = new RitzMatrix(m_, n_); // Massenmatrix
 
         // Aufruf der Methoden add für Platte, Last zum Füllen von Kmat und Kgmat
-        plate.addStiffnessAndMass(laminat, kmat, mmat, m_, n_, input.getDMatrixService(), bx, by); // fill stiffness and mass matrix from Plate.class
+        plate.addStiffnessAndMass(laminat, kmat, mmat, input.getDMatrixService(), bx, by); // fill stiffness and mass matrix from Plate.class
 
         
         for (StiffenerProperties s : input.getStiffenerProperties()) {
@@ -129,19 +124,19 @@ public class Vibration {
                 default:
                     stiff = new Stiffenerx(s, s.getPosition()); break;
             }
-            stiff.addStiffnessAndMass(kmat, mmat, m_, n_, bx, by);
+            stiff.addStiffnessAndMass(kmat, mmat, bx, by);
         }
 
         // Initialiesierung des Eigenvektorfeldes
         // m und n werden unabhängig gespeichert, da dies für die 3D-Darstellung
         // Vorteile bringt
-        eigenvecs = new double[m_*n_][m_][n_];
+        double[][][] eigenvecs = new double[m_*n_][m_][n_]; // Eigenvektoren
         
         // Eigener Eigenwertlöser
         // gelöst wird das Problem (K+lambda*M)*x=0,
         // wobei lambda=w_0^2 entspricht und in der Massenmatrix die negativen
         // Einträge stehen, sodass die Lösung (K-w_0^2*M)*x=0 entspricht.
-        double[] eigenvalues = MatrixTools.getEigenValues(mmat, kmat, m_*n_, m_, n_, eigenvecs);       // calculate eigenvalues and eigenvalues with eLamX eigenvaluesolver-method eigenvaluescalc
+        double[] eigenvalues = MatrixTools.getEigenValues(mmat.toArray(), kmat.toArray(), m_*n_, m_, n_, eigenvecs);       // calculate eigenvalues and eigenvalues with eLamX eigenvaluesolver-method eigenvaluescalc
         
         // kleinsten positiven eigenwert aus array suchen nicht nötig, sollten nur positive eigenwerte sein
         result.setEigenForms(eigenvalues, eigenvecs);
@@ -42,6 +42,7 @@ import de.elamx.clt.plate.DeformationResult;
 import de.elamx.clt.plate.Mechanical.PointLoad;
 import de.elamx.clt.plate.Mechanical.SurfaceLoad_const_full;
 import de.elamx.clt.plate.Mechanical.TransverseLoad;
+import de.elamx.clt.plate.PlateField;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 import static de.elamx.clt.plate.view3d.Plate.setPlateAppearance;
 import de.elamx.core.GlobalProperties;
@@ -118,59 +119,11 @@ public class DeformationPlate extends Plate<DeformationInput> {
     }
 
     private void init_dZ_Kappa() {
-        dZ = new double[enum_x + 1][enum_y + 1];
-        kappa = new double[3][enum_x + 1][enum_y + 1];
-        double yTemp, xTemp, zTemp;
-        double w2dx2, w2dxdy, w2dy2;
-
-        double[] eigen;
-
-        // calculation of plate deflection for all grid positions
-        double[] bx_wx = new double[m];
-        double[] by_wx = new double[n];
-        double[] bx_wdx = new double[m];
-        double[] by_wdx = new double[n];
-        double[] bx_wdx2 = new double[m];
-        double[] by_wdx2 = new double[n];
-
-        double[][] eigenvector = result.getResultvectors();
-
-        for (int jj = 0; jj <= enum_y; jj++) {
-            yTemp = jj * elemsize_y;
-            for (int nn = 0; nn < n; nn++) {
-                by_wx[nn] = by.wx(nn, yTemp);
-                by_wdx[nn] = by.wdx(nn, yTemp);
-                by_wdx2[nn] = by.wdx2(nn, yTemp);
-            }
-
-            for (int ii = 0; ii <= enum_x; ii++) {
-
-                xTemp = ii * elemsize_x;
-                for (int mm = 0; mm < m; mm++) {
-                    bx_wx[mm] = bx.wx(mm, xTemp);
-                    bx_wdx[mm] = bx.wdx(mm, xTemp);
-                    bx_wdx2[mm] = bx.wdx2(mm, xTemp);
-                }
-                zTemp = 0.0;
-                w2dx2 = 0.0;
-                w2dxdy = 0.0;
-                w2dy2 = 0.0;
-
-                for (int mm = 0; mm < m; mm++) {
-                    eigen = eigenvector[mm];
-                    for (int nn = 0; nn < n; nn++) {
-                        zTemp += eigen[nn] * bx_wx[mm] * by_wx[nn];
-                        w2dx2 += eigen[nn] * bx_wdx2[mm] * by_wx[nn];
-                        w2dxdy += eigen[nn] * bx_wdx[mm] * by_wdx[nn];
-                        w2dy2 += eigen[nn] * bx_wx[mm] * by_wdx2[nn];
-                    }
-                }
-                dZ[ii][jj] = zTemp;
-                kappa[0][ii][jj] = w2dx2;
-                kappa[1][ii][jj] = w2dy2;
-                kappa[2][ii][jj] = 2.0 * w2dxdy;
-            }
-        }
+        // calculation of plate deflection and curvatures for all grid positions
+        double[][][] fields = field.getFields(result.getResultvectors(),
+                PlateField.grid(length, enum_x), PlateField.grid(width, enum_y), true);
+        dZ = fields[PlateField.W];
+        kappa = new double[][][]{fields[PlateField.KAPPA_X], fields[PlateField.KAPPA_Y], fields[PlateField.KAPPA_XY]};
     }
     
     public double[][] getValues(int resultType){
@@ -30,13 +30,8 @@ import com.ardor3d.renderer.state.MaterialState;
 import com.ardor3d.scenegraph.Mesh;
 import com.ardor3d.scenegraph.Node;
 import de.elamx.clt.plate.Boundary.Boundary;
-import de.elamx.clt.plate.Boundary.Boundary_CC_200;
-import de.elamx.clt.plate.Boundary.Boundary_CF_200;
-import de.elamx.clt.plate.Boundary.Boundary_FF_200;
-import de.elamx.clt.plate.Boundary.Boundary_SC_200;
-import de.elamx.clt.plate.Boundary.Boundary_SF_200;
-import de.elamx.clt.plate.Boundary.Boundary_SS_200;
 import de.elamx.clt.plate.Input;
+import de.elamx.clt.plate.PlateField;
 import de.view3d.View3DProperties;
 import java.util.List;
 
@@ -57,6 +52,7 @@ public abstract class Plate <T extends Input>{
     protected int n;
     protected int m;
     protected Boundary bx, by;
+    protected PlateField field;
     protected double width;
     protected double length;
     protected final T input;
@@ -87,6 +83,10 @@ public abstract class Plate <T extends Input>{
         return by;
     }
 
+    public PlateField getField() {
+        return field;
+    }
+
     protected void init() {
         width = input.getWidth();
         length = input.getLength();
@@ -94,54 +94,10 @@ public abstract class Plate <T extends Input>{
         m = input.getM();
         n = input.getN();
 
-        // create new object boundary x-direction with integrals needed for
-        // calculation based on boundary condition and geometry
-        switch (input.getBcx()) {
-            case 0:
-                bx = new Boundary_SS_200(length, m);
-                break;
-            case 1:
-                bx = new Boundary_CC_200(length, m);
-                break;
-            case 2:
-                bx = new Boundary_CF_200(length, m);
-                break;
-            case 3:
-                bx = new Boundary_FF_200(length, m);
-                break;
-            case 4:
-                bx = new Boundary_SC_200(length, m);
-                break;
-            case 5:
-                bx = new Boundary_SF_200(length, m);
-                break;
-            default:
-                bx = new Boundary_SS_200(length, m);
-        }
-        // create new object boundary y-direction with integrals needed for
-        // calculation based on boundary condition and geometry
-        switch (input.getBcy()) {
-            case 0:
-                by = new Boundary_SS_200(width, n);
-                break;
-            case 1:
-                by = new Boundary_CC_200(width, n);
-                break;
-            case 2:
-                by = new Boundary_CF_200(width, n);
-                break;
-            case 3:
-                by = new Boundary_FF_200(width, n);
-                break;
-            case 4:
-                by = new Boundary_SC_200(width, n);
-                break;
-            case 5:
-                by = new Boundary_SF_200(width, n);
-                break;
-            default:
-                by = new Boundary_SS_200(width, n);
-        }
+        // Feldauswertung mit den Randbedingungen in x- und y-Richtung
+        field = new PlateField(input);
+        bx = field.getBx();
+        by = field.getBy();
 
         // Netzerzeugung
 
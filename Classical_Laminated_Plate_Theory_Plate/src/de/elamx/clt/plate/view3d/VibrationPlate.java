@@ -32,6 +32,7 @@ import com.ardor3d.scenegraph.Mesh;
 import com.ardor3d.scenegraph.MeshData;
 import com.ardor3d.scenegraph.Node;
 import com.ardor3d.util.geom.BufferUtils;
+import de.elamx.clt.plate.PlateField;
 import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
 import de.elamx.clt.plate.VibrationInput;
 import de.elamx.clt.plate.VibrationResult;
@@ -76,43 +77,16 @@ public class VibrationPlate extends Plate<VibrationInput> {
         Vector3[] vertices = new Vector3[numPoints];
         ColorRGBA[] colors = new ColorRGBA[numPoints];
 
-        double[][] dZ = new double[enum_x + 1][enum_y + 1];
         double yTemp, xTemp, zTemp;
 
-        double[] eigen;
-
-        // calculation of plate deflection for all grid positions
-        double[] bx_wx = new double[m];
-        double[] by_wx = new double[n];
-
         double[][] eigenvector = result.getEigenvectors_()[eigenvectorNumber];
 
-        for (int jj = 0; jj <= enum_y; jj++) {
-            yTemp = jj * elemsize_y;
-            for (int nn = 0; nn < n; nn++) {
-                by_wx[nn] = by.wx(nn, yTemp);
-            }
-
-            for (int ii = 0; ii <= enum_x; ii++) {
-
-                xTemp = ii * elemsize_x;
-                for (int mm = 0; mm < m; mm++) {
-                    bx_wx[mm] = bx.wx(mm, xTemp);
-                }
-                zTemp = 0.0;
-
-                for (int mm = 0; mm < m; mm++) {
-                    eigen = eigenvector[mm];
-                    for (int nn = 0; nn < n; nn++) {
-                        //zTemp += eigen[nn]*bx.wx(mm,xTemp)*by.wx(nn,yTemp);     // Ritz-approach w=sum(c*X(x)*Y(y))
-                        zTemp += eigen[nn] * bx_wx[mm] * by_wx[nn];
-                    }
-                }
-
-                if (Math.abs(zTemp) > maxz) {
-                    maxz = Math.abs(zTemp);
-                }
-                dZ[ii][jj] = zTemp;
+        // calculation of plate deflection for all grid positions
+        double[][] dZ = field.getDeflection(eigenvector,
+                PlateField.grid(length, enum_x), PlateField.grid(width, enum_y));
+        for (double[] row : dZ) {
+            for (double z : row) {
+                maxz = Math.max(maxz, Math.abs(z));
             }
         }
         zScale = scale / maxz;
@@ -0,0 +1,102 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.dmatrix.StandardDMatrixServiceImpl;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.mathtools.MatrixTools;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Vergleich der Eigenwertlöser an den Ritz-Matrizen der Beulberechnung. Die
+ * vollständige Lösung verwendet das QL-Verfahren, die Berechnung weniger
+ * Eigenformen das Lanczos-Verfahren.
+ *
+ * @author Andreas Hauffe
+ */
+public class BucklingEigenSolverTest {
+
+    private static final int TERMS = 8;
+    private static final int NUMBER_OF_EIGENFORMS = 5;
+
+    public BucklingEigenSolverTest() {
+    }
+
+    private static Laminat createLaminat() {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+        double[] angles = {0.0, 45.0, -45.0, 90.0};
+        for (int ii = 0; ii < angles.length; ii++) {
+            DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + ii, mat, angles[ii], 0.25));
+        }
+        lam.setSymmetric(true);
+        return lam;
+    }
+
+    @Test
+    public void lanczosMatchesTridiagonalQL() {
+        assertTrue(MatrixTools.isLanczosPreferred(NUMBER_OF_EIGENFORMS, TERMS * TERMS));
+        assertFalse(MatrixTools.isLanczosPreferred(TERMS * TERMS, TERMS * TERMS));
+
+        Laminat lam = createLaminat();
+        for (int bc = 0; bc < 6; bc++) {
+            BucklingInput input = new BucklingInput(500.0, 300.0, -100.0, 20.0, 30.0, new StandardDMatrixServiceImpl(), bc, (bc + 1) % 6, TERMS, TERMS);
+
+            BucklingResult full = Buckling.calc(CLT_Laminate.createDetached(lam), input);
+            BucklingResult few = Buckling.calc(CLT_Laminate.createDetached(lam), input, NUMBER_OF_EIGENFORMS);
+            BucklingResult critical = Buckling.calc(CLT_Laminate.createDetached(lam), input, 0);
+
+            double[] fullValues = full.getEigenvalues_();
+            double[] fewValues = few.getEigenvalues_();
+            assertEquals(NUMBER_OF_EIGENFORMS, fewValues.length);
+            for (int ii = 0; ii < NUMBER_OF_EIGENFORMS; ii++) {
+                assertEquals(fullValues[ii], fewValues[ii], 1.0E-8 * Math.abs(fullValues[ii]));
+
+                // Eigenvektoren sind bis auf das Vorzeichen eindeutig
+                double[][] fullVec = full.getEigenvectors_()[ii];
+                double[][] fewVec = few.getEigenvectors_()[ii];
+                double dot = 0.0;
+                for (int mm = 0; mm < TERMS; mm++) {
+                    for (int nn = 0; nn < TERMS; nn++) {
+                        dot += fullVec[mm][nn] * fewVec[mm][nn];
+                    }
+                }
+                assertEquals(1.0, Math.abs(dot), 1.0E-6);
+            }
+
+            double crit = full.getSmallestPositiveEigenValue();
+            assertEquals(crit, few.getSmallestPositiveEigenValue(), 1.0E-8 * Math.abs(crit));
+            assertEquals(crit, critical.getSmallestPositiveEigenValue(), 1.0E-8 * Math.abs(crit));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.dmatrix.StandardDMatrixServiceImpl;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.UUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Vergleich der Achsenabschnitte der Beulinteraktionskurve mit den kritischen
+ * Lasten von {@link Buckling#calc(CLT_Laminate, BucklingInput)} für die
+ * einzelnen Einheitslasten.
+ *
+ * @author Andreas Hauffe
+ */
+public class BucklingInteractionTest {
+
+    private static final int TERMS = 6;
+    // Vielfaches von 4, damit die Achsenrichtungen Punkte der Kurve sind
+    private static final int NUMBER_OF_POINTS = 8;
+
+    public BucklingInteractionTest() {
+    }
+
+    private static Laminat createLaminat() {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+        double[] angles = {0.0, 45.0, -45.0, 90.0};
+        for (int ii = 0; ii < angles.length; ii++) {
+            DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + ii, mat, angles[ii], 0.25));
+        }
+        lam.setSymmetric(true);
+        return lam;
+    }
+
+    @Test
+    public void axisInterceptsMatchBucklingCalc() {
+        Laminat lam = createLaminat();
+        StandardDMatrixServiceImpl dMatService = new StandardDMatrixServiceImpl();
+        int[][] componentPairs = {
+            {BucklingInteraction.NX, BucklingInteraction.NY},
+            {BucklingInteraction.NX, BucklingInteraction.NXY},
+            {BucklingInteraction.NXY, BucklingInteraction.NY}};
+
+        for (int bc = 0; bc < 3; bc++) {
+            BucklingInput input = new BucklingInput(500.0, 300.0, 0.0, 0.0, 0.0, dMatService, bc, (bc + 1) % 3, TERMS, TERMS);
+            BucklingInteraction interaction = new BucklingInteraction(CLT_Laminate.createDetached(lam), input);
+
+            for (int[] pair : componentPairs) {
+                double[][] curve = interaction.getInteractionCurve(pair[0], pair[1], NUMBER_OF_POINTS, 2);
+                assertEquals(NUMBER_OF_POINTS, curve.length);
+
+                // Richtungen +e1, +e2, -e1, -e2
+                for (int quadrant = 0; quadrant < 4; quadrant++) {
+                    int component = pair[quadrant % 2];
+                    double sign = quadrant < 2 ? 1.0 : -1.0;
+                    double[] unitLoad = new double[3];
+                    unitLoad[component] = sign;
+
+                    BucklingInput unitInput = new BucklingInput(500.0, 300.0, unitLoad[0], unitLoad[1], unitLoad[2], dMatService, bc, (bc + 1) % 3, TERMS, TERMS);
+                    BucklingResult result = Buckling.calc(CLT_Laminate.createDetached(lam), unitInput);
+
+                    double[] point = curve[quadrant * NUMBER_OF_POINTS / 4];
+                    if (result.getSmallestPositiveEigenValue() < 0.0) {
+                        // Keine Beullast in dieser Richtung
+                        for (int kk = 0; kk < 3; kk++) {
+                            assertTrue(Double.isNaN(point[kk]));
+                        }
+                        continue;
+                    }
+                    double[] ncrit = result.getN_crit();
+                    double tol = 1.0E-8 * result.getSmallestPositiveEigenValue();
+                    for (int kk = 0; kk < 3; kk++) {
+                        assertEquals(ncrit[kk], point[kk], tol);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void invalidComponentsAreRejected() {
+        BucklingInput input = new BucklingInput(500.0, 300.0, 0.0, 0.0, 0.0, new StandardDMatrixServiceImpl(), 0, 0, 3, 3);
+        BucklingInteraction interaction = new BucklingInteraction(CLT_Laminate.createDetached(createLaminat()), input);
+        int[][] invalid = {{-1, 0}, {0, 3}, {1, 1}};
+        for (int[] pair : invalid) {
+            try {
+                interaction.getInteractionCurve(pair[0], pair[1], NUMBER_OF_POINTS, 1);
+                fail("Components " + pair[0] + ", " + pair[1] + " accepted");
+            } catch (IllegalArgumentException ex) {
+            }
+        }
+        try {
+            interaction.getInteractionCurve(BucklingInteraction.NX, BucklingInteraction.NY, 0, 1);
+            fail("Zero points accepted");
+        } catch (IllegalArgumentException ex) {
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.cutout.CircularCutoutGeometry;
+import de.elamx.clt.cutout.Cutout;
+import de.elamx.clt.cutout.CutoutInput;
+import de.elamx.clt.cutout.CutoutResult;
+import de.elamx.clt.plate.dmatrix.StandardDMatrixServiceImpl;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Gleichzeitige Ausführung von Beul-, Schwingungs- und Lochberechnungen.
+ *
+ * @author Andreas Hauffe
+ */
+public class ConcurrentCalculationTest {
+
+    private static final int NUMBER_OF_JOBS = 300;
+    private static final int NUMBER_OF_THREADS = 8;
+
+    public ConcurrentCalculationTest() {
+    }
+
+    private static Laminat createLaminat(boolean symmetric) {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+        double[] angles = {0.0, 45.0, -45.0, 90.0};
+        for (int ii = 0; ii < angles.length; ii++) {
+            DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + ii, mat, angles[ii], 0.25));
+        }
+        lam.setSymmetric(symmetric);
+        return lam;
+    }
+
+    private static double[] flatten(double[] values, double[][][] vectors) {
+        List<Double> list = new ArrayList<>();
+        for (double v : values) {
+            list.add(v);
+        }
+        for (double[][] mat : vectors) {
+            for (double[] row : mat) {
+                for (double v : row) {
+                    list.add(v);
+                }
+            }
+        }
+        double[] result = new double[list.size()];
+        for (int ii = 0; ii < result.length; ii++) {
+            result[ii] = list.get(ii);
+        }
+        return result;
+    }
+
+    /**
+     * Erzeugt die Berechnungen. Jede Berechnung verwendet eigene Eingabe- und
+     * CLT_Laminate-Objekte, die Laminate werden gemeinsam genutzt.
+     */
+    private static List<Callable<double[]>> createJobs(final Laminat symLam, final Laminat unsymLam) {
+        List<Callable<double[]>> jobs = new ArrayList<>();
+        for (int bc = 0; bc < 6; bc++) {
+            final int bcx = bc;
+            final int bcy = (bc + 1) % 6;
+            final int terms = 5 + bc % 4;
+            jobs.add(() -> {
+                BucklingInput input = new BucklingInput(500.0, 300.0 + 20.0 * bcx, -100.0, 10.0 * bcx, 30.0, new StandardDMatrixServiceImpl(), bcx, bcy, terms, terms);
+                BucklingResult result = Buckling.calc(CLT_Laminate.createDetached(symLam), input);
+                double[] values = flatten(result.getEigenvalues_(), result.getEigenvectors_());
+                double[] withCrit = new double[values.length + 1];
+                withCrit[0] = result.getSmallestPositiveEigenValue();
+                System.arraycopy(values, 0, withCrit, 1, values.length);
+                return withCrit;
+            });
+            jobs.add(() -> {
+                BucklingInput input = new BucklingInput(400.0, 400.0, -50.0, -50.0, 10.0 * bcx, new StandardDMatrixServiceImpl(), bcx, bcy, 8, 8);
+                BucklingResult result = Buckling.calc(CLT_Laminate.createDetached(symLam), input, 0);
+                return new double[]{result.getSmallestPositiveEigenValue()};
+            });
+            jobs.add(() -> {
+                VibrationInput input = new VibrationInput(500.0, 300.0 + 20.0 * bcx, new StandardDMatrixServiceImpl(), bcx, bcy, terms, terms);
+                VibrationResult result = Vibration.calc(CLT_Laminate.createDetached(symLam), input);
+                return flatten(result.getEigenvalues_(), result.getEigenvectors_());
+            });
+        }
+        for (final int values : new int[]{361, 721, 1441}) {
+            for (final boolean symmetric : new boolean[]{true, false}) {
+                jobs.add(() -> {
+                    CutoutInput input = new CutoutInput(new CircularCutoutGeometry("Circle", 10.0), 100.0, -20.0, 15.0, 1.0, 0.0, 0.5, values);
+                    CutoutResult result = Cutout.calc(CLT_Laminate.createDetached(symmetric ? symLam : unsymLam), input);
+                    return flatten(result.getAlpha(), new double[][][]{{result.getNxx(), result.getNyy(), result.getNxy(),
+                        result.getMxx(), result.getMyy(), result.getMxy(), result.getNAlpha(), result.getMAlpha()}});
+                });
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Mehrere hundert gemischte Berechnungen auf einem Thread-Pool müssen
+     * dieselben Ergebnisse wie die serielle Berechnung liefern.
+     */
+    @Test
+    public void concurrentResultsEqualSerialResults() throws Exception {
+        Laminat symLam = createLaminat(true);
+        Laminat unsymLam = createLaminat(false);
+        List<Callable<double[]>> jobs = createJobs(symLam, unsymLam);
+
+        List<double[]> expected = new ArrayList<>();
+        for (Callable<double[]> job : jobs) {
+            expected.add(job.call());
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int ii = 0; ii < NUMBER_OF_JOBS; ii++) {
+            order.add(ii % jobs.size());
+        }
+        Collections.shuffle(order, new Random(4711L));
+
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (Integer index : order) {
+                futures.add(executor.submit(jobs.get(index)));
+            }
+            for (int ii = 0; ii < futures.size(); ii++) {
+                double[] actual = futures.get(ii).get();
+                double[] exp = expected.get(order.get(ii));
+                assertEquals(exp.length, actual.length);
+                assertArrayEquals(exp, actual, 0.0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
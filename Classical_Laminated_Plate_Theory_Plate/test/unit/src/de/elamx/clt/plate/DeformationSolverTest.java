@@ -0,0 +1,152 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.plate.Mechanical.PointLoad;
+import de.elamx.clt.plate.Mechanical.SurfaceLoad_const_full;
+import de.elamx.clt.plate.Stiffener.Properties.DefaultStiffenerProperties;
+import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import de.elamx.clt.plate.dmatrix.DMatrixService;
+import de.elamx.clt.plate.dmatrix.StandardDMatrixServiceImpl;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Wiederholte Berechnungen mit der wiederverwendeten Faktorisierung der
+ * Steifigkeitsmatrix müssen dieselben Ergebnisse liefern wie Berechnungen
+ * mit einer neuen Faktorisierung.
+ *
+ * @author Andreas Hauffe
+ */
+public class DeformationSolverTest {
+
+    private static final int TERMS = 8;
+
+    // Die Faktorisierung gilt nur für dieselbe Instanz des D-Matrix-Dienstes.
+    private static final DMatrixService D_MATRIX_SERVICE = new StandardDMatrixServiceImpl();
+
+    public DeformationSolverTest() {
+    }
+
+    private static Laminat createLaminat() {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat1", false);
+        double[] angles = {0.0, 45.0, -45.0, 90.0};
+        for (int ii = 0; ii < angles.length; ii++) {
+            DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + ii, mat, angles[ii], 0.25));
+        }
+        lam.setSymmetric(true);
+        return lam;
+    }
+
+    private static DeformationInput createInput(int bcx, int bcy, int loadCase) {
+        DeformationInput input = new DeformationInput(500.0, 300.0, D_MATRIX_SERVICE, bcx, bcy, TERMS, TERMS);
+        input.addLoad(new SurfaceLoad_const_full("p", 0.01 * (loadCase + 1)));
+        input.addLoad(new PointLoad("F", 50.0 + 40.0 * loadCase, 30.0 + 25.0 * loadCase, 100.0 - 15.0 * loadCase));
+        return input;
+    }
+
+    private static void assertResultEquals(DeformationResult expected, DeformationResult actual) {
+        double[][] exp = expected.getResultvectors();
+        double[][] act = actual.getResultvectors();
+        assertEquals(exp.length, act.length);
+        for (int ii = 0; ii < exp.length; ii++) {
+            assertArrayEquals(exp[ii], act[ii], 0.0);
+        }
+    }
+
+    private static DeformationResult calcFresh(Laminat lam, DeformationInput input) {
+        return new DeformationSolver(CLT_Laminate.createDetached(lam)).calc(input);
+    }
+
+    @Test
+    public void repeatedSolvesMatchFreshFactorization() {
+        Laminat lam = createLaminat();
+        DeformationSolver solver = new DeformationSolver(CLT_Laminate.createDetached(lam));
+
+        List<DeformationInput> inputs = new ArrayList<>();
+        for (int loadCase = 0; loadCase < 6; loadCase++) {
+            inputs.add(createInput(1, 0, loadCase));
+        }
+
+        // Einzelne Lösungen mit derselben Faktorisierung, zweimal hintereinander
+        for (int pass = 0; pass < 2; pass++) {
+            for (DeformationInput input : inputs) {
+                assertResultEquals(calcFresh(lam, input), solver.calc(input));
+            }
+        }
+        assertEquals(1, solver.getNumberOfFactorizations());
+
+        // Alle Lastfälle in einer Substitution
+        DeformationResult[] results = solver.calc(inputs);
+        for (int ii = 0; ii < inputs.size(); ii++) {
+            assertResultEquals(calcFresh(lam, inputs.get(ii)), results[ii]);
+        }
+        assertEquals(1, solver.getNumberOfFactorizations());
+
+        // Gleiche Ergebnisse wie Deformation.calc
+        assertResultEquals(Deformation.calc(CLT_Laminate.createDetached(lam), inputs.get(2)), solver.calc(inputs.get(2)));
+    }
+
+    @Test
+    public void changedConfigurationRefactorizes() {
+        Laminat lam = createLaminat();
+        DeformationSolver solver = new DeformationSolver(CLT_Laminate.createDetached(lam));
+
+        DeformationInput input = createInput(1, 0, 0);
+        assertResultEquals(calcFresh(lam, input), solver.calc(input));
+
+        // andere Randbedingungen
+        DeformationInput otherBc = createInput(0, 4, 1);
+        assertResultEquals(calcFresh(lam, otherBc), solver.calc(otherBc));
+        assertEquals(2, solver.getNumberOfFactorizations());
+
+        // zusätzliche Steife in einer bestehenden Eingabe
+        StiffenerProperties stiffener = new DefaultStiffenerProperties("Stringer", StiffenerProperties.X_DIRECTION, 20.0, 70000.0, 2.0E4, 27000.0, 800.0, 0.0, 120.0, 2.7E-9);
+        otherBc.addStiffenerProperty(stiffener);
+        assertResultEquals(calcFresh(lam, otherBc), solver.calc(otherBc));
+        assertEquals(3, solver.getNumberOfFactorizations());
+
+        // Gemischte Liste: die Faktorisierung wechselt mit der Konfiguration
+        List<DeformationInput> inputs = new ArrayList<>();
+        inputs.add(createInput(1, 0, 2));
+        inputs.add(createInput(1, 0, 3));
+        inputs.add(otherBc);
+        inputs.add(createInput(1, 0, 4));
+        DeformationResult[] results = solver.calc(inputs);
+        for (int ii = 0; ii < inputs.size(); ii++) {
+            assertResultEquals(calcFresh(lam, inputs.get(ii)), results[ii]);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate;
+
+import de.elamx.clt.plate.Boundary.Boundary;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Vergleich der separierten Feldauswertung mit der punktweisen Auswertung,
+ * die bis dahin in den 3D-Darstellungen der Platten verwendet wurde.
+ *
+ * @author Andreas Hauffe
+ */
+public class PlateFieldTest {
+
+    private static final double LENGTH = 500.0;
+    private static final double WIDTH = 300.0;
+    private static final int M = 7;
+    private static final int N = 5;
+    private static final int ENUM_X = 23;
+    private static final int ENUM_Y = 17;
+
+    public PlateFieldTest() {
+    }
+
+    /**
+     * Punktweise Auswertung von w, w,xx, w,yy und 2*w,xy wie im früheren
+     * <CODE>DeformationPlate.init_dZ_Kappa</CODE>.
+     */
+    private static double[][][] pointwise(Boundary bx, Boundary by, double[][] c) {
+        double elemsize_x = LENGTH / ENUM_X;
+        double elemsize_y = WIDTH / ENUM_Y;
+        double[][][] fields = new double[4][ENUM_X + 1][ENUM_Y + 1];
+        for (int jj = 0; jj <= ENUM_Y; jj++) {
+            double yTemp = jj * elemsize_y;
+            for (int ii = 0; ii <= ENUM_X; ii++) {
+                double xTemp = ii * elemsize_x;
+                double zTemp = 0.0;
+                double w2dx2 = 0.0;
+                double w2dxdy = 0.0;
+                double w2dy2 = 0.0;
+                for (int mm = 0; mm < M; mm++) {
+                    for (int nn = 0; nn < N; nn++) {
+                        zTemp += c[mm][nn] * bx.wx(mm, xTemp) * by.wx(nn, yTemp);
+                        w2dx2 += c[mm][nn] * bx.wdx2(mm, xTemp) * by.wx(nn, yTemp);
+                        w2dxdy += c[mm][nn] * bx.wdx(mm, xTemp) * by.wdx(nn, yTemp);
+                        w2dy2 += c[mm][nn] * bx.wx(mm, xTemp) * by.wdx2(nn, yTemp);
+                    }
+                }
+                fields[PlateField.W][ii][jj] = zTemp;
+                fields[PlateField.KAPPA_X][ii][jj] = w2dx2;
+                fields[PlateField.KAPPA_Y][ii][jj] = w2dy2;
+                fields[PlateField.KAPPA_XY][ii][jj] = 2.0 * w2dxdy;
+            }
+        }
+        return fields;
+    }
+
+    @Test
+    public void fieldsMatchPointwiseEvaluation() {
+        Random random = new Random(4711);
+        double[] x = PlateField.grid(LENGTH, ENUM_X);
+        double[] y = PlateField.grid(WIDTH, ENUM_Y);
+
+        for (int bcx = 0; bcx < 6; bcx++) {
+            for (int bcy = 0; bcy < 6; bcy++) {
+                double[][] c = new double[M][N];
+                for (int mm = 0; mm < M; mm++) {
+                    for (int nn = 0; nn < N; nn++) {
+                        c[mm][nn] = random.nextDouble() - 0.5;
+                    }
+                }
+                PlateField field = new PlateField(PlateComponents.createBoundary(bcx, LENGTH, M), PlateComponents.createBoundary(bcy, WIDTH, N), M, N);
+                double[][][] expected = pointwise(field.getBx(), field.getBy(), c);
+                double[][][] serial = field.getFields(c, x, y, true, 1);
+                double[][][] parallel = field.getFields(c, x, y, true, 3);
+
+                for (int f = 0; f < 4; f++) {
+                    double max = 0.0;
+                    for (double[] row : expected[f]) {
+                        for (double v : row) {
+                            max = Math.max(max, Math.abs(v));
+                        }
+                    }
+                    for (int ii = 0; ii <= ENUM_X; ii++) {
+                        // Nur die Summationsreihenfolge unterscheidet sich
+                        assertArrayEquals(expected[f][ii], serial[f][ii], 1.0E-12 * max);
+                        // Ergebnisse unabhängig von der Anzahl der Threads
+                        assertArrayEquals(serial[f][ii], parallel[f][ii], 0.0);
+                    }
+                }
+
+                double[][] deflection = field.getDeflection(c, x, y);
+                for (int ii = 0; ii <= ENUM_X; ii++) {
+                    assertArrayEquals(serial[PlateField.W][ii], deflection[ii], 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void inputConstructorUsesBoundaryConditions() {
+        BucklingInput input = new BucklingInput(LENGTH, WIDTH, 1.0, 0.0, 0.0, null, 1, 4, M, N);
+        PlateField field = new PlateField(input);
+        assertEquals(PlateComponents.createBoundary(1, LENGTH, M).getClass(), field.getBx().getClass());
+        assertEquals(PlateComponents.createBoundary(4, WIDTH, N).getClass(), field.getBy().getClass());
+        assertEquals(M, field.getM());
+        assertEquals(N, field.getN());
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plate.Stiffener;
+
+import de.elamx.clt.plate.Boundary.Boundary;
+import de.elamx.clt.plate.Boundary.Boundary_CC_200;
+import de.elamx.clt.plate.Boundary.Boundary_CF_200;
+import de.elamx.clt.plate.Boundary.Boundary_FF_200;
+import de.elamx.clt.plate.Boundary.Boundary_SC_200;
+import de.elamx.clt.plate.Boundary.Boundary_SF_200;
+import de.elamx.clt.plate.Boundary.Boundary_SS_200;
+import de.elamx.clt.plate.Mechanical.RitzMatrix;
+import de.elamx.clt.plate.Stiffener.Properties.DefaultStiffenerProperties;
+import de.elamx.clt.plate.Stiffener.Properties.StiffenerProperties;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Vergleich der Assemblierung der Versteifungen als symmetrische Matrix des
+ * Ritz-Ansatzes mit der bisherigen vollbesetzten Assemblierung.
+ *
+ * @author Andreas Hauffe
+ */
+public class StiffenerTest {
+
+    private static final int M = 5;
+    private static final int N = 4;
+    private static final double LENGTH = 500.0;
+    private static final double WIDTH = 300.0;
+
+    public StiffenerTest() {
+    }
+
+    private static Boundary createBoundary(int bc, double length, int terms) {
+        switch (bc) {
+            case 0:
+                return new Boundary_SS_200(length, terms);
+            case 1:
+                return new Boundary_CC_200(length, terms);
+            case 2:
+                return new Boundary_CF_200(length, terms);
+            case 3:
+                return new Boundary_FF_200(length, terms);
+            case 4:
+                return new Boundary_SC_200(length, terms);
+            default:
+                return new Boundary_SF_200(length, terms);
+        }
+    }
+
+    private static StiffenerProperties createProperties(int direction, double position) {
+        return new DefaultStiffenerProperties("Stringer", direction, position, 70000.0, 2.0E4, 27000.0, 800.0, 0.0, 120.0, 2.7E-9);
+    }
+
+    /**
+     * Versteifung in x-Richtung mit der bisherigen vollbesetzten
+     * Assemblierung. Sie implementiert nur die Methoden für vollbesetzte
+     * Matrizen.
+     */
+    private static final class DenseStiffenerx extends Stiffener {
+
+        private DenseStiffenerx(StiffenerProperties properties, double position) {
+            super(properties, position);
+        }
+
+        @Override
+        public void addStiffness(double[][] kmat, int m, int n, Boundary bx, Boundary by) {
+            double tPos = position_ + by.getA() / 2.0;
+            int k = -1;
+            for (int pp = 0; pp < m; pp++) {
+                for (int qq = 0; qq < n; qq++) {
+                    k++;
+                    int l = -1;
+                    for (int ii = 0; ii < m; ii++) {
+                        for (int jj = 0; jj < n; jj++) {
+                            l++;
+                            kmat[k][l] += props_.getE() * props_.getI() * bx.IdX2dX2(ii, pp) * by.wx(jj, tPos) * by.wx(qq, tPos)
+                                    + props_.getG() * props_.getJ() * bx.IdXdX(ii, pp) * by.wdx(jj, tPos) * by.wdx(qq, tPos);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void addMass(double[][] mmat, int m, int n, Boundary bx, Boundary by) {
+            double tPos = position_ + bx.getA() / 2.0;
+            int k = -1;
+            for (int pp = 0; pp < m; pp++) {
+                for (int qq = 0; qq < n; qq++) {
+                    k++;
+                    int l = -1;
+                    for (int ii = 0; ii < m; ii++) {
+                        for (int jj = 0; jj < n; jj++) {
+                            l++;
+                            mmat[k][l] -= props_.getRho() * props_.getA() * bx.IXX(ii, pp) * by.wx(jj, tPos) * by.wx(qq, tPos);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public int getDirection() {
+            return Stiffener.X_DIRECTION;
+        }
+
+        @Override
+        public String getDirectionAsString() {
+            return Stiffener.X_DIRECTION_STRING;
+        }
+
+        @Override
+        public Stiffener getCopy() {
+            return new DenseStiffenerx(props_.getCopy(), position_);
+        }
+    }
+
+    /**
+     * Versteifung in y-Richtung mit der bisherigen vollbesetzten
+     * Assemblierung.
+     */
+    private static final class DenseStiffenery extends Stiffener {
+
+        private DenseStiffenery(StiffenerProperties properties, double position) {
+            super(properties, position);
+        }
+
+        @Override
+        public void addStiffness(double[][] kmat, int m, int n, Boundary bx, Boundary by) {
+            double tPos = position_ + bx.getA() / 2.0;
+            int k = -1;
+            for (int pp = 0; pp < m; pp++) {
+                for (int qq = 0; qq < n; qq++) {
+                    k++;
+                    int l = -1;
+                    for (int ii = 0; ii < m; ii++) {
+                        for (int jj = 0; jj < n; jj++) {
+                            l++;
+                            kmat[k][l] += props_.getE() * props_.getI() * by.IdX2dX2(jj, qq) * bx.wx(ii, tPos) * bx.wx(pp, tPos)
+                                    + props_.getG() * props_.getJ() * by.IdXdX(jj, qq) * bx.wdx(ii, tPos) * bx.wdx(pp, tPos);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void addMass(double[][] mmat, int m, int n, Boundary bx, Boundary by) {
+            double tPos = position_ + bx.getA() / 2.0;
+            int k = -1;
+            for (int pp = 0; pp < m; pp++) {
+                for (int qq = 0; qq < n; qq++) {
+                    k++;
+                    int l = -1;
+                    for (int ii = 0; ii < m; ii++) {
+                        for (int jj = 0; jj < n; jj++) {
+                            l++;
+                            mmat[k][l] -= props_.getRho() * props_.getA() * by.IXX(jj, qq) * bx.wx(ii, tPos) * bx.wx(pp, tPos);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public int getDirection() {
+            return Stiffener.Y_DIRECTION;
+        }
+
+        @Override
+        public String getDirectionAsString() {
+            return Stiffener.Y_DIRECTION_STRING;
+        }
+
+        @Override
+        public Stiffener getCopy() {
+            return new DenseStiffenery(props_.getCopy(), position_);
+        }
+    }
+
+    private static void assertMatrixEquals(double[][] expected, double[][] actual) {
+        double max = 0.0;
+        for (double[] row : expected) {
+            for (double v : row) {
+                max = Math.max(max, Math.abs(v));
+            }
+        }
+        for (int k = 0; k < expected.length; k++) {
+            for (int l = 0; l < expected.length; l++) {
+                assertEquals(expected[k][l], actual[k][l], 1.0E-13 * max);
+            }
+        }
+    }
+
+    /**
+     * Vergleicht Steifigkeits- und Massenmatrix einer Versteifung mit der
+     * vollbesetzten Assemblierung, sowohl über die symmetrische Matrix als
+     * auch über die Methoden für vollbesetzte Matrizen.
+     */
+    private static void compare(Stiffener stiffener, Stiffener dense, Boundary bx, Boundary by) {
+        double[][] kExpected = new double[M * N][M * N];
+        double[][] mExpected = new double[M * N][M * N];
+        dense.addStiffnessAndMass(kExpected, mExpected, M, N, bx, by);
+
+        RitzMatrix k = new RitzMatrix(M, N);
+        RitzMatrix mass = new RitzMatrix(M, N);
+        stiffener.addStiffnessAndMass(k, mass, bx, by);
+        assertMatrixEquals(kExpected, k.toArray());
+        assertMatrixEquals(mExpected, mass.toArray());
+
+        double[][] kDense = new double[M * N][M * N];
+        double[][] mDense = new double[M * N][M * N];
+        stiffener.addStiffnessAndMass(kDense, mDense, M, N, bx, by);
+        assertMatrixEquals(kExpected, kDense);
+        assertMatrixEquals(mExpected, mDense);
+
+        // Versteifungen ohne eigene Implementierung für symmetrische Matrizen
+        RitzMatrix kBridge = new RitzMatrix(M, N);
+        RitzMatrix mBridge = new RitzMatrix(M, N);
+        dense.addStiffnessAndMass(kBridge, mBridge, bx, by);
+        assertMatrixEquals(kExpected, kBridge.toArray());
+        assertMatrixEquals(mExpected, mBridge.toArray());
+    }
+
+    @Test
+    public void packedAssemblyEqualsDenseAssembly() {
+        for (int bcx = 0; bcx < 6; bcx++) {
+            for (int bcy = 0; bcy < 6; bcy++) {
+                Boundary bx = createBoundary(bcx, LENGTH, M);
+                Boundary by = createBoundary(bcy, WIDTH, N);
+
+                compare(new Stiffenerx(createProperties(Stiffener.X_DIRECTION, 40.0), 40.0),
+                        new DenseStiffenerx(createProperties(Stiffener.X_DIRECTION, 40.0), 40.0), bx, by);
+                compare(new Stiffenery(createProperties(Stiffener.Y_DIRECTION, -70.0), -70.0),
+                        new DenseStiffenery(createProperties(Stiffener.Y_DIRECTION, -70.0), -70.0), bx, by);
+            }
+        }
+    }
+}
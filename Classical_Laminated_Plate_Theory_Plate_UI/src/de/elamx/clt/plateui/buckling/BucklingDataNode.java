@@ -25,12 +25,15 @@
  */
 package de.elamx.clt.plateui.buckling;
 
+import de.elamx.clt.plate.BucklingInput;
+import de.elamx.clt.plate.BucklingInteraction;
 import de.elamx.laminate.modules.eLamXModuleData;
 import de.elamx.laminate.modules.eLamXModuleDataFlavor;
 import java.awt.Image;
 import java.awt.datatransfer.Transferable;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.beans.PropertyEditorSupport;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -100,6 +103,35 @@ public class BucklingDataNode extends AbstractNode implements PropertyChangeList
 
         sheet.put(generalProp);
 
+        Sheet.Set interactionProp = new Sheet.Set();
+        interactionProp.setName("InteractionProperties");
+        interactionProp.setDisplayName(NbBundle.getMessage(BucklingDataNode.class, "BucklingDataNode.InteractionProperties"));
+
+        try {
+            BucklingInput input = data.getBucklingInput();
+            PropertySupport.Reflection<Integer> pointsProp = new PropertySupport.Reflection<>(input, int.class, BucklingInput.PROP_INTERACTIONPOINTS);
+            pointsProp.setDisplayName(NbBundle.getMessage(BucklingDataNode.class, "BucklingDataNode.InteractionPoints"));
+            pointsProp.setShortDescription(NbBundle.getMessage(BucklingDataNode.class, "BucklingDataNode.InteractionPoints.description"));
+
+            PropertySupport.Reflection<Integer> component1Prop = new PropertySupport.Reflection<>(input, int.class, BucklingInput.PROP_INTERACTIONCOMPONENT1);
+            component1Prop.setDisplayName(NbBundle.getMessage(BucklingDataNode.class, "BucklingDataNode.InteractionComponent1"));
+            component1Prop.setShortDescription(NbBundle.getMessage(BucklingDataNode.class, "BucklingDataNode.InteractionComponent.description"));
+            component1Prop.setPropertyEditorClass(InteractionComponentPropertyEditor.class);
+
+            PropertySupport.Reflection<Integer> component2Prop = new PropertySupport.Reflection<>(input, int.class, BucklingInput.PROP_INTERACTIONCOMPONENT2);
+            component2Prop.setDisplayName(NbBundle.getMessage(BucklingDataNode.class, "BucklingDataNode.InteractionComponent2"));
+            component2Prop.setShortDescription(NbBundle.getMessage(BucklingDataNode.class, "BucklingDataNode.InteractionComponent.description"));
+            component2Prop.setPropertyEditorClass(InteractionComponentPropertyEditor.class);
+
+            interactionProp.put(pointsProp);
+            interactionProp.put(component1Prop);
+            interactionProp.put(component2Prop);
+        } catch (NoSuchMethodException ex) {
+            ex.printStackTrace();
+        }
+
+        sheet.put(interactionProp);
+
         return sheet;
     }
 
@@ -153,4 +185,43 @@ public class BucklingDataNode extends AbstractNode implements PropertyChangeList
         });
         return added;
     }
+
+    /**
+     * Auswahl der Lastkomponente der Interaktionskurve über eine Liste.
+     */
+    public static class InteractionComponentPropertyEditor extends PropertyEditorSupport {
+
+        private final String[] tags = new String[BucklingInteraction.NXY + 1];
+
+        public InteractionComponentPropertyEditor() {
+            for (int ii = 0; ii < tags.length; ii++) {
+                tags[ii] = NbBundle.getMessage(BucklingDataNode.class, "BucklingInteractionChart.component." + ii);
+            }
+        }
+
+        @Override
+        public String[] getTags() {
+            return tags.clone();
+        }
+
+        @Override
+        public String getAsText() {
+            Object value = getValue();
+            if (value instanceof Integer && (Integer) value >= 0 && (Integer) value < tags.length) {
+                return tags[(Integer) value];
+            }
+            return String.valueOf(value);
+        }
+
+        @Override
+        public void setAsText(String text) throws IllegalArgumentException {
+            for (int ii = 0; ii < tags.length; ii++) {
+                if (tags[ii].equals(text)) {
+                    setValue(ii);
+                    return;
+                }
+            }
+            throw new IllegalArgumentException(text);
+        }
+    }
 }
@@ -46,6 +46,11 @@ public class BucklingModuleData extends eLamXModuleData implements PropertyChang
     private BucklingResult result = null;
     public static final String PROP_RESULT = "PROP_RESULT";
     
+    private double[][] interactionCurve = null;
+    private int interactionComponent1 = -1;
+    private int interactionComponent2 = -1;
+    public static final String PROP_INTERACTIONCURVE = "PROP_INTERACTIONCURVE";
+    
     public BucklingModuleData(Laminat laminat){
         this(laminat, new BucklingInput());
     }
@@ -97,6 +102,47 @@ public class BucklingModuleData extends eLamXModuleData implements PropertyChang
         firePropertyChange(PROP_RESULT, oldResult, result);
     }
 
+    /**
+     * Liefert die zuletzt berechnete Beulinteraktionskurve (siehe
+     * {@link de.elamx.clt.plate.BucklingInteraction#getInteractionCurve}).
+     *
+     * @return Beullasten [Anzahl der Lastrichtungen][3] oder <CODE>null</CODE>,
+     * falls keine Interaktionskurve berechnet wurde
+     */
+    public double[][] getInteractionCurve() {
+        return interactionCurve;
+    }
+
+    /**
+     * @return erste Lastkomponente der Interaktionskurve
+     */
+    public int getInteractionComponent1() {
+        return interactionComponent1;
+    }
+
+    /**
+     * @return zweite Lastkomponente der Interaktionskurve
+     */
+    public int getInteractionComponent2() {
+        return interactionComponent2;
+    }
+
+    /**
+     * Setzt die Beulinteraktionskurve und die Lastkomponenten, mit denen sie
+     * berechnet wurde.
+     *
+     * @param interactionCurve Beullasten oder <CODE>null</CODE>
+     * @param component1 erste Lastkomponente
+     * @param component2 zweite Lastkomponente
+     */
+    public void setInteractionCurve(double[][] interactionCurve, int component1, int component2) {
+        double[][] oldInteractionCurve = this.interactionCurve;
+        this.interactionCurve = interactionCurve;
+        this.interactionComponent1 = component1;
+        this.interactionComponent2 = component2;
+        firePropertyChange(PROP_INTERACTIONCURVE, oldInteractionCurve, interactionCurve);
+    }
+
     @Override
     public eLamXModuleData copy(Laminat laminate) {
         return new BucklingModuleData(laminate, (BucklingInput)input.copy());
@@ -62,6 +62,7 @@ public final class CLT_BucklingTopComponent extends TopComponent implements Look
     private final BucklingModuleData data;
     private final CLT_Laminate clt_lam;
     private final Lookup.Result<BucklingModuleData> result;
+    private final InteractionCurvePanel interactionCurvePanel;
 
     public CLT_BucklingTopComponent(BucklingModuleData data) {
         this.data = data;
@@ -76,6 +77,8 @@ public final class CLT_BucklingTopComponent extends TopComponent implements Look
         }
         clt_lam.addCLTRefreshListener(this);
         initComponents();
+        interactionCurvePanel = new InteractionCurvePanel(data);
+        add(interactionCurvePanel, java.awt.BorderLayout.SOUTH);
         view3D.setShape3D(new ArrayList<Mesh>(), 1.0);
         result = data.getLaminat().getLookup().lookupResult(BucklingModuleData.class);
         result.addLookupListener(this);
@@ -133,6 +136,7 @@ public final class CLT_BucklingTopComponent extends TopComponent implements Look
         data.getBucklingInput().removePropertyChangeListener(this);
         data.removePropertyChangeListener(this);
         controlPanel.cleanup();
+        interactionCurvePanel.cleanup();
         uniqueBucklingData.remove(data);
     }
 
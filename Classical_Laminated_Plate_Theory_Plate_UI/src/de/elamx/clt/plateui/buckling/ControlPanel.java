@@ -28,6 +28,7 @@ package de.elamx.clt.plateui.buckling;
 import de.elamx.clt.CLT_Laminate;
 import de.elamx.clt.plate.Buckling;
 import de.elamx.clt.plate.BucklingInput;
+import de.elamx.clt.plate.BucklingInteraction;
 import de.elamx.clt.plate.BucklingResult;
 import de.elamx.clt.plateui.stiffenerui.StiffenerPanel;
 import de.view3d.View3D;
@@ -123,11 +124,21 @@ public class ControlPanel extends javax.swing.JPanel {
                 @Override
                 public void run() {
                     ph.start();
-                    final BucklingResult result = Buckling.calc(laminat, data.getBucklingInput());
+                    BucklingInput input = data.getBucklingInput();
+                    final BucklingResult result = Buckling.calc(laminat, input);
+                    final int c1 = input.getInteractionComponent1();
+                    final int c2 = input.getInteractionComponent2();
+                    double[][] curve = null;
+                    if (input.isInteractionDefined()) {
+                        curve = new BucklingInteraction(laminat, input).getInteractionCurve(
+                                c1, c2, input.getInteractionPoints(), Runtime.getRuntime().availableProcessors());
+                    }
+                    final double[][] interactionCurve = curve;
                     EventQueue.invokeLater(new Runnable() {
                         @Override
                         public void run() {
                             data.setResult(result);
+                            data.setInteractionCurve(interactionCurve, c1, c2);
                             jButton1.setEnabled(true);
                             ph.finish();
                         }
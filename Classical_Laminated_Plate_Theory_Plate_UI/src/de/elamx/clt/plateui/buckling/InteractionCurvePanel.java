@@ -0,0 +1,117 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.plateui.buckling;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import javax.swing.JPanel;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.eLamXChartPanel;
+import org.jfree.eLamXNumberTickUnitSource;
+import org.openide.util.NbBundle;
+
+/**
+ * Darstellung der Beulinteraktionskurve eines Beulmoduls. Das Panel ist nur
+ * sichtbar, wenn eine Interaktionskurve berechnet wurde.
+ *
+ * @author Andreas Hauffe
+ */
+public class InteractionCurvePanel extends JPanel implements PropertyChangeListener {
+
+    private final BucklingModuleData data;
+    private final XYSeriesCollection dataset = new XYSeriesCollection();
+    private final JFreeChart chart;
+
+    @SuppressWarnings("this-escape")
+    public InteractionCurvePanel(BucklingModuleData data) {
+        super(new BorderLayout());
+        this.data = data;
+
+        chart = ChartFactory.createXYLineChart(
+                NbBundle.getMessage(InteractionCurvePanel.class, "BucklingInteractionChart.title"), // chart title
+                NbBundle.getMessage(InteractionCurvePanel.class, "BucklingInteractionChart.component.0"), // x axis label
+                NbBundle.getMessage(InteractionCurvePanel.class, "BucklingInteractionChart.component.1"), // y axis label
+                dataset, // data
+                PlotOrientation.VERTICAL,
+                false, // include legend
+                true, // tooltips
+                false // urls
+        );
+        chart.getXYPlot().getDomainAxis().setStandardTickUnits(new eLamXNumberTickUnitSource());
+        chart.getXYPlot().getRangeAxis().setStandardTickUnits(new eLamXNumberTickUnitSource());
+        chart.getXYPlot().getRenderer().setSeriesPaint(0, Color.BLUE);
+
+        ChartPanel chartPanel = new eLamXChartPanel(chart);
+        chartPanel.setPreferredSize(new Dimension(10, 250));
+        chartPanel.setMinimumSize(new Dimension(10, 10));
+        add(chartPanel, BorderLayout.CENTER);
+
+        data.addPropertyChangeListener(BucklingModuleData.PROP_INTERACTIONCURVE, this);
+        update();
+    }
+
+    public void cleanup() {
+        data.removePropertyChangeListener(BucklingModuleData.PROP_INTERACTIONCURVE, this);
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        update();
+    }
+
+    private void update() {
+        double[][] curve = data.getInteractionCurve();
+        dataset.removeAllSeries();
+        setVisible(curve != null);
+        if (curve == null) {
+            return;
+        }
+        int c1 = data.getInteractionComponent1();
+        int c2 = data.getInteractionComponent2();
+
+        // Der Polygonzug wird geschlossen, Richtungen ohne Beulen (NaN)
+        // unterbrechen ihn.
+        XYSeries series = new XYSeries(NbBundle.getMessage(InteractionCurvePanel.class, "BucklingInteractionChart.title"), false, true);
+        for (double[] point : curve) {
+            series.add(point[c1], point[c2]);
+        }
+        if (curve.length > 0) {
+            series.add(curve[0][c1], curve[0][c2]);
+        }
+        dataset.addSeries(series);
+        chart.getXYPlot().getDomainAxis().setLabel(NbBundle.getMessage(InteractionCurvePanel.class, "BucklingInteractionChart.component." + c1));
+        chart.getXYPlot().getRangeAxis().setLabel(NbBundle.getMessage(InteractionCurvePanel.class, "BucklingInteractionChart.component." + c2));
+        revalidate();
+    }
+}
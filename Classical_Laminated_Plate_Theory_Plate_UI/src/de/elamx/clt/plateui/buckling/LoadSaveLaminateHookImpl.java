@@ -115,6 +115,20 @@ public class LoadSaveLaminateHookImpl implements LoadSaveLaminateHook {
             }
         }
 
+        // Die Interaktionskurve ist in älteren Dateien nicht enthalten
+        value = getTagValue(BucklingInput.PROP_INTERACTIONPOINTS, BucklingElement);
+        if (value != null) {
+            input.setInteractionPoints(Integer.parseInt(value));
+        }
+        value = getTagValue(BucklingInput.PROP_INTERACTIONCOMPONENT1, BucklingElement);
+        if (value != null) {
+            input.setInteractionComponent1(Integer.parseInt(value));
+        }
+        value = getTagValue(BucklingInput.PROP_INTERACTIONCOMPONENT2, BucklingElement);
+        if (value != null) {
+            input.setInteractionComponent2(Integer.parseInt(value));
+        }
+
         LoadSaveStiffeners.loadStiffeners(BucklingElement, input);
 
         return input;
@@ -181,6 +195,10 @@ public class LoadSaveLaminateHookImpl implements LoadSaveLaminateHook {
         addValue(doc, "n", Integer.toString(input.getN()), dataElement);
 
         addValue(doc, "dmatrixservice", input.getDMatrixService().getClass().getName(), dataElement);
+
+        addValue(doc, BucklingInput.PROP_INTERACTIONPOINTS, Integer.toString(input.getInteractionPoints()), dataElement);
+        addValue(doc, BucklingInput.PROP_INTERACTIONCOMPONENT1, Integer.toString(input.getInteractionComponent1()), dataElement);
+        addValue(doc, BucklingInput.PROP_INTERACTIONCOMPONENT2, Integer.toString(input.getInteractionComponent2()), dataElement);
     }
 
     private static void addValue(Document doc, String eName, String value, Element eElement) {
@@ -29,8 +29,11 @@ import ch.systemsx.cisd.hdf5.HDF5CompoundType;
 import ch.systemsx.cisd.hdf5.IHDF5Writer;
 import de.elamx.clt.CLT_Laminate;
 import de.elamx.clt.plate.Buckling;
+import de.elamx.clt.plate.BucklingInput;
+import de.elamx.clt.plate.BucklingInteraction;
 import de.elamx.clt.plate.BucklingResult;
 import de.elamx.clt.plateui.buckling.BucklingModuleData;
+import de.elamx.core.BatchRunOutput;
 import de.elamx.core.BatchRunService;
 import de.elamx.laminate.Laminat;
 import java.io.PrintStream;
@@ -48,35 +51,85 @@ import org.openide.util.lookup.ServiceProvider;
 public class BucklingBatchRunServiceImpl implements BatchRunService{
     
     private static HDF5CompoundType<List<?>> HDF5minEVType = null;
+    // hdf5-Datei, zu der die Datentypen gehören
+    private static IHDF5Writer HDF5typesWriter = null;
 
     @Override
     public void performBatchTasksAndOutput(Laminat laminate, PrintStream ps, IHDF5Writer hdf5writer, int outputType) {
+        performBatchTasks(laminate, outputType).write(ps, hdf5writer);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType) {
+        return performBatchTasks(laminate, outputType, 1);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int numberOfThreads) {
+        return performBatchTasks(laminate, outputType, 0, numberOfThreads);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int hdf5OutputType, int numberOfThreads) {
         Collection<? extends BucklingModuleData> col = laminate.getLookup().lookupAll(BucklingModuleData.class);
         if (col.isEmpty()){
-            return;
+            return (ps, hdf5writer) -> {};
         }
         CLT_Laminate clt_lam = laminate.getLookup().lookup(CLT_Laminate.class);
         if (clt_lam == null) {
             clt_lam = new CLT_Laminate(laminate);
         }
-        
+
+        List<BucklingModuleData> datas = new ArrayList<>(col);
+        List<BucklingResult> results = new ArrayList<>(datas.size());
+        List<double[][]> curves = new ArrayList<>(datas.size());
+        for (BucklingModuleData data : datas){
+            BucklingInput input = data.getBucklingInput();
+            results.add(Buckling.calc(clt_lam, input));
+
+            double[][] curve = null;
+            if (input.isInteractionDefined()) {
+                curve = new BucklingInteraction(clt_lam, input).getInteractionCurve(
+                        input.getInteractionComponent1(), input.getInteractionComponent2(), input.getInteractionPoints(), numberOfThreads);
+            }
+            curves.add(curve);
+        }
+
+        return (ps, hdf5writer) -> writeResults(laminate, datas, results, curves, ps, hdf5writer, outputType, hdf5OutputType);
+    }
+
+    private void writeResults(Laminat laminate, List<BucklingModuleData> datas, List<BucklingResult> results, List<double[][]> curves, PrintStream ps, IHDF5Writer hdf5writer, int outputType, int hdf5OutputType) {
+        // Die Datentypen müssen für jede hdf5-Datei neu erzeugt werden
+        if (hdf5writer != HDF5typesWriter) {
+            HDF5minEVType = null;
+            HDF5typesWriter = hdf5writer;
+        }
+
         List<BucklingOutputWriterService> writerServices = new ArrayList<>(Lookup.getDefault().lookupAll(BucklingOutputWriterService.class));
         BucklingOutputWriterService outputWriter = writerServices.get(Math.min(Math.max(outputType, 0),writerServices.size()-1));
 
         HDF5BucklingOutputWriterService hdf5OutputWriter = null;
         if (hdf5writer != null) {
             List<HDF5BucklingOutputWriterService> hdf5WriterServices = new ArrayList<>(Lookup.getDefault().lookupAll(HDF5BucklingOutputWriterService.class));
-            hdf5OutputWriter = hdf5WriterServices.get(Math.min(Math.max(outputType, 0), hdf5WriterServices.size() - 1));
+            hdf5OutputWriter = hdf5WriterServices.get(Math.min(Math.max(hdf5OutputType, 0), hdf5WriterServices.size() - 1));
         }
 
         double minEV = Double.MAX_VALUE;
         String minEV_calculation = "";
-        for (BucklingModuleData data : col){
-            BucklingResult result = Buckling.calc(clt_lam, data.getBucklingInput());
+        for (int ii = 0; ii < datas.size(); ii++){
+            BucklingModuleData data = datas.get(ii);
+            BucklingResult result = results.get(ii);
+            double[][] curve = curves.get(ii);
             outputWriter.writeResults(ps, data, data.getLaminat(), result);
+            if (curve != null) {
+                outputWriter.writeInteractionCurve(ps, data, curve);
+            }
 
             if (hdf5OutputWriter != null) {
                 hdf5OutputWriter.writeResults(hdf5writer, data, data.getLaminat(), result);
+                if (curve != null) {
+                    hdf5OutputWriter.writeInteractionCurve(hdf5writer, data, curve);
+                }
                 for (double ev: result.getEigenvalues_()) {
                     if ((ev >= 0.) && (ev < minEV)) {
                         minEV = ev;
@@ -36,4 +36,16 @@ import java.io.PrintStream;
  */
 public interface BucklingOutputWriterService {
     public void writeResults(PrintStream out, BucklingModuleData data, Laminat laminate, BucklingResult result);
+
+    /**
+     * Schreibt die Beulinteraktionskurve. Wird nur aufgerufen, wenn eine
+     * Interaktionskurve berechnet wurde.
+     *
+     * @param out Ausgabestrom
+     * @param data Eingabedaten
+     * @param curve Beullasten je Lastrichtung (siehe
+     * {@link de.elamx.clt.plate.BucklingInteraction#getInteractionCurve})
+     */
+    public default void writeInteractionCurve(PrintStream out, BucklingModuleData data, double[][] curve) {
+    }
 }
@@ -93,4 +93,23 @@ public class BucklingOutputWriterServiceImpl implements BucklingOutputWriterServ
         out.println();
         out.println();
     }  
+
+    @Override
+    public void writeInteractionCurve(PrintStream out, BucklingModuleData data, double[][] curve) {
+        Locale lo = Locale.ENGLISH;
+        out.println("********************************************************************************");
+        out.println(Utilities.centeredText("BUCKLING INTERACTION CURVE", 80));
+        out.println(Utilities.centeredText(data.getName(), 80));
+        out.println("********************************************************************************");
+        out.println();
+        out.println("Load components :  " + data.getBucklingInput().getInteractionComponent1() + "  " + data.getBucklingInput().getInteractionComponent2() + "  (0 = nx, 1 = ny, 2 = nxy)");
+        out.println("Load directions :  " + curve.length);
+        out.println();
+        out.println("  No.    nx_crit           ny_crit           nxy_crit");
+        for (int ii = 0; ii < curve.length; ii++) {
+            out.printf(lo,"  %3d %17.10E %17.10E %17.10E%n", (ii + 1), curve[ii][0], curve[ii][1], curve[ii][2]);
+        }
+        out.println();
+        out.println();
+    }
 }
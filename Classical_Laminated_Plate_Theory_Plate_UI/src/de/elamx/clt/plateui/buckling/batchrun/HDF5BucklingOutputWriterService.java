@@ -36,4 +36,17 @@ import de.elamx.laminate.Laminat;
  */
 public interface HDF5BucklingOutputWriterService {
     public void writeResults(IHDF5Writer hdf5writer, BucklingModuleData data, Laminat laminate, BucklingResult result);
+
+    /**
+     * Schreibt die Beulinteraktionskurve in die Gruppe der Berechnung. Wird
+     * nur nach
+     * {@link #writeResults(IHDF5Writer, BucklingModuleData, Laminat, BucklingResult)}
+     * und nur dann aufgerufen, wenn eine Interaktionskurve berechnet wurde.
+     *
+     * @param hdf5writer hdf5-Datei
+     * @param data Eingabedaten
+     * @param curve Beullasten je Lastrichtung
+     */
+    public default void writeInteractionCurve(IHDF5Writer hdf5writer, BucklingModuleData data, double[][] curve) {
+    }
 }
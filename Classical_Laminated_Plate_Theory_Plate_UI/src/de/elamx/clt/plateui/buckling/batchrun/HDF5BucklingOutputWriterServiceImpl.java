@@ -46,9 +46,19 @@ public class HDF5BucklingOutputWriterServiceImpl implements HDF5BucklingOutputWr
     private static HDF5CompoundType<List<?>> HDF5criticalLoadsType = null;
     private static HDF5CompoundType<List<?>> HDF5plateGeometryType = null;
     private static HDF5CompoundType<List<?>> HDF5termNumberType = null;
+    // hdf5-Datei, zu der die Datentypen gehören
+    private static IHDF5Writer HDF5typesWriter = null;
 
     @Override
     public void writeResults(IHDF5Writer hdf5writer, BucklingModuleData data, Laminat laminate, BucklingResult result) {
+        // Die Datentypen müssen für jede hdf5-Datei neu erzeugt werden
+        if (hdf5writer != HDF5typesWriter) {
+            HDF5criticalLoadsType = null;
+            HDF5plateGeometryType = null;
+            HDF5termNumberType = null;
+            HDF5typesWriter = hdf5writer;
+        }
+
         String bucklingGroup = "laminates/".concat(data.getLaminat().getName().concat("/buckling/"));
         if (!hdf5writer.object().exists(bucklingGroup)) {
             hdf5writer.object().createGroup(bucklingGroup);
@@ -129,4 +139,13 @@ public class HDF5BucklingOutputWriterServiceImpl implements HDF5BucklingOutputWr
         hdf5writer.float64().writeArray(groupName.concat("/eigenvalues"), eigenvalues);
         hdf5writer.int32().setAttr(groupName.concat("/eigenvalues"), "number of eigenvalues", numberOfEigenvalues);
     }
+
+    @Override
+    public void writeInteractionCurve(IHDF5Writer hdf5writer, BucklingModuleData data, double[][] curve) {
+        String curveName = "laminates/".concat(data.getLaminat().getName().concat("/buckling/")).concat(data.getName()).concat("/interaction curve");
+        hdf5writer.float64().createMatrix(curveName, curve.length, 3);
+        hdf5writer.float64().writeMatrix(curveName, curve);
+        hdf5writer.int32().setAttr(curveName, "component 1", data.getBucklingInput().getInteractionComponent1());
+        hdf5writer.int32().setAttr(curveName, "component 2", data.getBucklingInput().getInteractionComponent2());
+    }
 }
@@ -34,6 +34,7 @@ import de.elamx.core.ELamXDecimalFormat;
 import de.elamx.core.GlobalProperties;
 import de.elamx.laminate.Laminat;
 import de.elamx.laminate.optimization.MinimalReserveFactorCalculator;
+import de.elamx.laminate.optimization.MinimalReserveFactorContext;
 import org.openide.util.NbBundle;
 
 /**
@@ -61,6 +62,14 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
             clt_lam = new CLT_Laminate(laminat);
         }
         
+        double minimalReserveFactor = getMinimalReserveFactor(clt_lam, input);
+
+        input.setNotify(oldNotify);
+
+        return minimalReserveFactor;
+    }
+
+    private static double getMinimalReserveFactor(CLT_Laminate clt_lam, PressureVesselInput input) {
         Loads loads = input.getLoad(clt_lam.getTges());
 
         CLT_Calculator.determineValues(clt_lam, loads, input.getStrains(), input.isUseStrains());
@@ -74,8 +83,6 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
             minimalReserveFactor = Math.min(minimalReserveFactor, r.getRr_upper().getMinimalReserveFactor());
         }
 
-        input.setNotify(oldNotify);
-
         return minimalReserveFactor;
     }
 
@@ -83,6 +90,11 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
         return input;
     }
 
+    @Override
+    public MinimalReserveFactorContext createContext() {
+        return new Context(input.copy());
+    }
+
     @Override
     public boolean isSymmetricLaminateNeeded() {
         return false;
@@ -131,4 +143,22 @@ public class MinimalReserveFactorImplementation implements MinimalReserveFactorC
         return string.toString();
     }
 
+    /**
+     * Auswertekontext mit einer eigenen Kopie der Eingabe. Das Laminat wird
+     * ohne Registrierung im Lookup berechnet.
+     */
+    private static final class Context implements MinimalReserveFactorContext {
+
+        private final PressureVesselInput input;
+
+        private Context(PressureVesselInput input) {
+            this.input = input;
+            this.input.setNotify(false);
+        }
+
+        @Override
+        public double getMinimalReserveFactor(Laminat laminat) {
+            return MinimalReserveFactorImplementation.getMinimalReserveFactor(CLT_Laminate.createDetached(laminat), input);
+        }
+    }
 }
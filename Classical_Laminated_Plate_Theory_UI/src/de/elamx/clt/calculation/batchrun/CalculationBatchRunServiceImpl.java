@@ -31,6 +31,7 @@ import de.elamx.clt.CLT_Calculator;
 import de.elamx.clt.CLT_Laminate;
 import de.elamx.clt.CLT_LayerResult;
 import de.elamx.clt.calculation.CalculationModuleData;
+import de.elamx.core.BatchRunOutput;
 import de.elamx.core.BatchRunService;
 import de.elamx.laminate.Laminat;
 import java.io.PrintStream;
@@ -48,26 +49,54 @@ import org.openide.util.lookup.ServiceProvider;
 public class CalculationBatchRunServiceImpl implements BatchRunService {
 
     private static HDF5CompoundType<List<?>> HDF5minRFType = null;
+    // hdf5-Datei, zu der die Datentypen gehören
+    private static IHDF5Writer HDF5typesWriter = null;
 
     @Override
     public void performBatchTasksAndOutput(Laminat laminate, PrintStream ps, IHDF5Writer hdf5writer, int outputType) {
+        performBatchTasks(laminate, outputType).write(ps, hdf5writer);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType) {
+        return performBatchTasks(laminate, outputType, 0, 1);
+    }
+
+    @Override
+    public BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int hdf5OutputType, int numberOfThreads) {
         Collection<? extends CalculationModuleData> col = laminate.getLookup().lookupAll(CalculationModuleData.class);
         if (col.isEmpty()) {
-            return;
+            return (ps, hdf5writer) -> {};
         }
         CLT_Laminate clt_lam = laminate.getLookup().lookup(CLT_Laminate.class);
         if (clt_lam == null) {
             clt_lam = new CLT_Laminate(laminate);
         }
 
+        List<CalculationModuleData> datas = new ArrayList<>(col);
+        List<CLT_LayerResult[]> results = new ArrayList<>(datas.size());
+        for (CalculationModuleData data : datas) {
+            CLT_Calculator.determineValues(clt_lam, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), data.getDataHolder().isUseStrains());
+            results.add(CLT_Calculator.getLayerResults(data.getLaminat().getLookup().lookup(CLT_Laminate.class), data.getDataHolder().getLoad(), data.getDataHolder().getStrains()));
+        }
+
+        return (ps, hdf5writer) -> writeResults(laminate, datas, results, ps, hdf5writer, outputType, hdf5OutputType);
+    }
+
+    private void writeResults(Laminat laminate, List<CalculationModuleData> datas, List<CLT_LayerResult[]> results, PrintStream ps, IHDF5Writer hdf5writer, int outputType, int hdf5OutputType) {
+        // Die Datentypen müssen für jede hdf5-Datei neu erzeugt werden
+        if (hdf5writer != HDF5typesWriter) {
+            HDF5minRFType = null;
+            HDF5typesWriter = hdf5writer;
+        }
+
         List<CalculationOutputWriterService> writerServices = new ArrayList<>(Lookup.getDefault().lookupAll(CalculationOutputWriterService.class));
         CalculationOutputWriterService outputWriter = writerServices.get(Math.min(Math.max(outputType, 0), writerServices.size() - 1));
 
         HDF5CalculationOutputWriterService hdf5OutputWriter = null;
         if (hdf5writer != null) {
             List<HDF5CalculationOutputWriterService> hdf5WriterServices = new ArrayList<>(Lookup.getDefault().lookupAll(HDF5CalculationOutputWriterService.class));
-            hdf5OutputWriter = hdf5WriterServices.get(Math.min(Math.max(outputType, 0), hdf5WriterServices.size() - 1));
-
+            hdf5OutputWriter = hdf5WriterServices.get(Math.min(Math.max(hdf5OutputType, 0), hdf5WriterServices.size() - 1));
         }
 
         double minRF = Double.MAX_VALUE;
@@ -75,14 +104,12 @@ public class CalculationBatchRunServiceImpl implements BatchRunService {
         double minRF_temp;
         int minRF_layer = -1;
         String minRF_position = "";
-        for (CalculationModuleData data : col) {
-            CLT_Calculator.determineValues(clt_lam, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), data.getDataHolder().isUseStrains());
-            CLT_LayerResult[] layerResults = CLT_Calculator.getLayerResults(data.getLaminat().getLookup().lookup(CLT_Laminate.class), data.getDataHolder().getLoad(), data.getDataHolder().getStrains());
+        for (int ii = 0; ii < datas.size(); ii++) {
+            CalculationModuleData data = datas.get(ii);
+            CLT_LayerResult[] layerResults = results.get(ii);
             outputWriter.writeResults(ps, data, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), layerResults);
 
             if (hdf5OutputWriter != null) {
-                hdf5OutputWriter.writeResults(hdf5writer, data, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), layerResults);
-
                 minRF_temp = Double.MAX_VALUE;
                 for (int lay = 0; lay < layerResults.length; lay++) {
                     if (layerResults[lay].getRr_lower().getMinimalReserveFactor() < minRF_temp) {
@@ -104,6 +131,10 @@ public class CalculationBatchRunServiceImpl implements BatchRunService {
             }
         }
 
+        if (hdf5OutputWriter != null) {
+            hdf5OutputWriter.writeResults(hdf5writer, datas, results);
+        }
+
         if ((hdf5writer != null) && (minRF != Double.MAX_VALUE)) {
             ArrayList<Object> minRFValuesArrayList = new ArrayList<>();
             ArrayList<String> minRFNamesArrayList = new ArrayList<>();
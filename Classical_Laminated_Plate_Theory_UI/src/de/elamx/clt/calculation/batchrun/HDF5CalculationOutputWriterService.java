@@ -30,6 +30,7 @@ import de.elamx.clt.CLT_LayerResult;
 import de.elamx.clt.Loads;
 import de.elamx.clt.Strains;
 import de.elamx.clt.calculation.CalculationModuleData;
+import java.util.List;
 
 /**
  *
@@ -37,4 +38,21 @@ import de.elamx.clt.calculation.CalculationModuleData;
  */
 public interface HDF5CalculationOutputWriterService {
     public void writeResults(IHDF5Writer hdf5writer, CalculationModuleData data, Loads loads, Strains strain, CLT_LayerResult[] results);
+
+    /**
+     * Schreibt die Ergebnisse aller Berechnungen eines Laminats. Die
+     * Standardimplementierung ruft
+     * {@link #writeResults(IHDF5Writer, CalculationModuleData, Loads, Strains, CLT_LayerResult[])}
+     * für jede Berechnung auf.
+     *
+     * @param hdf5writer hdf5-Writer
+     * @param datas Berechnungen eines Laminats
+     * @param results Lagenergebnisse in der Reihenfolge der Berechnungen
+     */
+    public default void writeResults(IHDF5Writer hdf5writer, List<CalculationModuleData> datas, List<CLT_LayerResult[]> results) {
+        for (int ii = 0; ii < datas.size(); ii++) {
+            CalculationModuleData data = datas.get(ii);
+            writeResults(hdf5writer, data, data.getDataHolder().getLoad(), data.getDataHolder().getStrains(), results.get(ii));
+        }
+    }
 }
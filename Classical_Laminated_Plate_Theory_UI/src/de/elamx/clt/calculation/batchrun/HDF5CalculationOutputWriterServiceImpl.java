@@ -46,9 +46,19 @@ public class HDF5CalculationOutputWriterServiceImpl implements HDF5CalculationOu
     private static HDF5CompoundType<List<?>> HDF5mechanicalLoadsType = null;
     private static HDF5CompoundType<List<?>> HDF5hygrothermalLoadsType = null;
     private static HDF5CompoundType<List<?>> HDF5globalStrainsType = null;
+    // hdf5-Datei, zu der die Datentypen gehören
+    private static IHDF5Writer HDF5typesWriter = null;
 
     @Override
     public void writeResults(IHDF5Writer hdf5writer, CalculationModuleData data, Loads loads, Strains strain, CLT_LayerResult[] results) {
+        // Die Datentypen müssen für jede hdf5-Datei neu erzeugt werden
+        if (hdf5writer != HDF5typesWriter) {
+            HDF5mechanicalLoadsType = null;
+            HDF5hygrothermalLoadsType = null;
+            HDF5globalStrainsType = null;
+            HDF5typesWriter = hdf5writer;
+        }
+
         String calculationGroup = "laminates/".concat(data.getLaminat().getName().concat("/calculation/"));
         if (!hdf5writer.object().exists(calculationGroup)) {
             hdf5writer.object().createGroup(calculationGroup);
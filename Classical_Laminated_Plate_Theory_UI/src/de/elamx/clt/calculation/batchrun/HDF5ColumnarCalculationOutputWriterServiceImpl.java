@@ -0,0 +1,188 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.calculation.batchrun;
+
+import ch.systemsx.cisd.hdf5.HDF5FloatStorageFeatures;
+import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import de.elamx.clt.CLT_LayerResult;
+import de.elamx.clt.Loads;
+import de.elamx.clt.Strains;
+import de.elamx.clt.calculation.CalculationModuleData;
+import de.elamx.laminate.StressStrainState;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.openide.util.lookup.ServiceProvider;
+
+/**
+ * Spaltenweise hdf5-Ausgabe der Berechnungsergebnisse. Statt vieler kleiner
+ * Gruppen und Compound-Datensätze je Berechnung wird für jede Größe ein
+ * einziger Datensatz je Laminat geschrieben. Die Zeilen sind die
+ * Lastfälle (Berechnungen), die Spalten der Lagenergebnisse sind nach Lage
+ * und Position geordnet (Spalte 2*Lage + Position mit 0 = unten,
+ * 1 = oben). Die Datensätze sind in Blöcken von {@link #CHUNK_SIZE}
+ * Lastfällen gespeichert und mit deflate komprimiert. Die Werte werden
+ * blockweise gepuffert und je Block mit einem Schreibzugriff geschrieben.
+ * <pre>
+ * laminates/&lt;Laminat&gt;/calculation/load cases          [Lastfälle]
+ * laminates/&lt;Laminat&gt;/calculation/mechanical loads     [Lastfälle][6]
+ * laminates/&lt;Laminat&gt;/calculation/hygrothermal loads   [Lastfälle][8]
+ * laminates/&lt;Laminat&gt;/calculation/global strains       [Lastfälle][6]
+ * laminates/&lt;Laminat&gt;/calculation/s11 ... RF           [Lastfälle][2*Lagen]
+ * </pre>
+ * Die Anzahl der Lagen steht als Attribut "number of layers" an der Gruppe
+ * und an den Lagendatensätzen. Bei einem Laminat ohne Lagen werden keine
+ * Lagendatensätze geschrieben.<br>
+ * Die Ausgabe wird über den hdf5-Ausgabetyp 1 (Option "--hdf5outputtype 1")
+ * gewählt, unabhängig vom Typ der Textausgabe. Der spaltenweise Aufbau gilt
+ * nur für die Ergebnisse der Laminatberechnung, da nur diese je Laminat
+ * viele Lastfälle haben. Die allgemeinen Laminatinformationen, das Beulen und
+ * das Letztlagenversagen werden auch bei diesem Ausgabetyp im bisherigen
+ * Aufbau geschrieben.
+ *
+ * @author Andreas Hauffe
+ */
+@ServiceProvider(service = HDF5CalculationOutputWriterService.class, position = 1000)
+public class HDF5ColumnarCalculationOutputWriterServiceImpl implements HDF5CalculationOutputWriterService {
+
+    /**
+     * Anzahl der Lastfälle je Block der Datensätze.
+     */
+    public static final int CHUNK_SIZE = 256;
+
+    private static final String[] LAYER_QUANTITIES = {"s11", "s22", "s12", "e11", "e22", "e12", "RF"};
+
+    /**
+     * Schreibt eine einzelne Berechnung in eine eigene Gruppe mit dem Namen
+     * der Berechnung und demselben Aufbau wie bei
+     * {@link #writeResults(IHDF5Writer, List, List)} mit einem Lastfall.
+     */
+    @Override
+    public void writeResults(IHDF5Writer hdf5writer, CalculationModuleData data, Loads loads, Strains strain, CLT_LayerResult[] results) {
+        String groupName = "laminates/".concat(data.getLaminat().getName().concat("/calculation/")).concat(data.getName());
+        write(hdf5writer, groupName, Collections.singletonList(data), new Loads[]{loads}, new Strains[]{strain}, Collections.singletonList(results));
+    }
+
+    @Override
+    public void writeResults(IHDF5Writer hdf5writer, List<CalculationModuleData> datas, List<CLT_LayerResult[]> results) {
+        if (datas.isEmpty()) {
+            return;
+        }
+        Loads[] loads = new Loads[datas.size()];
+        Strains[] strains = new Strains[datas.size()];
+        for (int ii = 0; ii < datas.size(); ii++) {
+            loads[ii] = datas.get(ii).getDataHolder().getLoad();
+            strains[ii] = datas.get(ii).getDataHolder().getStrains();
+        }
+        String groupName = "laminates/".concat(datas.get(0).getLaminat().getName().concat("/calculation"));
+        write(hdf5writer, groupName, datas, loads, strains, results);
+    }
+
+    private void write(IHDF5Writer hdf5writer, String groupName, List<CalculationModuleData> datas, Loads[] loads, Strains[] strains, List<CLT_LayerResult[]> results) {
+        if (!hdf5writer.object().exists(groupName)) {
+            hdf5writer.object().createGroup(groupName);
+        }
+        String prefix = groupName.concat("/");
+
+        int numCases = datas.size();
+        int numLayers = results.get(0).length;
+        int numColumns = 2 * numLayers;
+        int chunk = Math.min(CHUNK_SIZE, numCases);
+
+        String[] names = new String[numCases];
+        for (int ii = 0; ii < numCases; ii++) {
+            names[ii] = datas.get(ii).getName();
+        }
+        hdf5writer.string().writeArray(prefix.concat("load cases"), names);
+        hdf5writer.int32().setAttr(groupName, "number of layers", numLayers);
+
+        String mechanical = prefix.concat("mechanical loads");
+        String hygrothermal = prefix.concat("hygrothermal loads");
+        String global = prefix.concat("global strains");
+        createDataSet(hdf5writer, mechanical, numCases, 6, chunk, "nxx, nyy, nxy, mxx, myy, mxy");
+        createDataSet(hdf5writer, hygrothermal, numCases, 8, chunk, "nxx, nyy, nxy, mxx, myy, mxy, deltaT, deltac");
+        createDataSet(hdf5writer, global, numCases, 6, chunk, "exx, eyy, gxy, kxx, kyy, kxy");
+        // Datensätze ohne Spalten können nicht in Blöcken gespeichert werden
+        String[] layerQuantities = numLayers > 0 ? LAYER_QUANTITIES : new String[0];
+        for (String quantity : layerQuantities) {
+            String path = prefix.concat(quantity);
+            createDataSet(hdf5writer, path, numCases, numColumns, chunk, "2*(layer-1) + position, position: 0 = lower, 1 = upper");
+            hdf5writer.int32().setAttr(path, "number of layers", numLayers);
+        }
+
+        // Puffer für einen Block von Lastfällen
+        double[][] mechanicalBuffer = new double[chunk][];
+        double[][] hygrothermalBuffer = new double[chunk][];
+        double[][] globalBuffer = new double[chunk][];
+        double[][][] layerBuffer = new double[LAYER_QUANTITIES.length][chunk][numColumns];
+
+        for (int start = 0; start < numCases; start += chunk) {
+            int rows = Math.min(chunk, numCases - start);
+            for (int row = 0; row < rows; row++) {
+                int ii = start + row;
+                Loads l = loads[ii];
+                mechanicalBuffer[row] = l.getForceMomentAsVector();
+                hygrothermalBuffer[row] = new double[]{l.getnT_x(), l.getnT_y(), l.getnT_xy(),
+                    l.getmT_x(), l.getmT_y(), l.getmT_xy(), l.getDeltaT(), l.getDeltaH()};
+                globalBuffer[row] = strains[ii].getEpsilonKappaAsVector();
+
+                CLT_LayerResult[] layerResults = results.get(ii);
+                for (int lay = 0; lay < numLayers; lay++) {
+                    fillLayerValues(layerBuffer, row, 2 * lay, layerResults[lay].getSss_lower(), layerResults[lay].getRr_lower().getMinimalReserveFactor());
+                    fillLayerValues(layerBuffer, row, 2 * lay + 1, layerResults[lay].getSss_upper(), layerResults[lay].getRr_upper().getMinimalReserveFactor());
+                }
+            }
+            writeBlock(hdf5writer, mechanical, mechanicalBuffer, rows, start);
+            writeBlock(hdf5writer, hygrothermal, hygrothermalBuffer, rows, start);
+            writeBlock(hdf5writer, global, globalBuffer, rows, start);
+            for (int q = 0; q < layerQuantities.length; q++) {
+                writeBlock(hdf5writer, prefix.concat(layerQuantities[q]), layerBuffer[q], rows, start);
+            }
+        }
+    }
+
+    private static void fillLayerValues(double[][][] layerBuffer, int row, int column, StressStrainState sss, double rf) {
+        double[] stress = sss.getStress();
+        double[] strain = sss.getStrain();
+        layerBuffer[0][row][column] = stress[0];
+        layerBuffer[1][row][column] = stress[1];
+        layerBuffer[2][row][column] = stress[2];
+        layerBuffer[3][row][column] = strain[0];
+        layerBuffer[4][row][column] = strain[1];
+        layerBuffer[5][row][column] = strain[2];
+        layerBuffer[6][row][column] = rf;
+    }
+
+    private static void createDataSet(IHDF5Writer hdf5writer, String path, int rows, int columns, int chunk, String columnDescription) {
+        hdf5writer.float64().createMatrix(path, rows, columns, chunk, columns, HDF5FloatStorageFeatures.FLOAT_DEFLATE);
+        hdf5writer.string().setAttr(path, "columns", columnDescription);
+    }
+
+    private static void writeBlock(IHDF5Writer hdf5writer, String path, double[][] buffer, int rows, int start) {
+        double[][] block = rows == buffer.length ? buffer : Arrays.copyOf(buffer, rows);
+        hdf5writer.float64().writeMatrixBlockWithOffset(path, block, start, 0);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.clt.calculation.batchrun;
+
+import ch.systemsx.cisd.hdf5.HDF5Factory;
+import ch.systemsx.cisd.hdf5.IHDF5Reader;
+import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import de.elamx.clt.CLT_Calculator;
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.CLT_LayerResult;
+import de.elamx.clt.Loads;
+import de.elamx.clt.calculation.CalculationModuleData;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.StressStrainState;
+import de.elamx.laminate.failure.Puck;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+/**
+ * Schreiben und Zurücklesen der spaltenweisen hdf5-Ausgabe der
+ * Berechnungsergebnisse.
+ *
+ * @author Andreas Hauffe
+ */
+public class HDF5ColumnarCalculationOutputWriterServiceImplTest {
+
+    private static final String[] LAYER_QUANTITIES = {"s11", "s22", "s12", "e11", "e22", "e12", "RF"};
+
+    public HDF5ColumnarCalculationOutputWriterServiceImplTest() {
+    }
+
+    private static File write(Laminat lam, List<CalculationModuleData> datas, List<CLT_LayerResult[]> results) throws IOException {
+        File file = File.createTempFile("calculation_columnar", ".h5");
+        file.deleteOnExit();
+        IHDF5Writer hdf5writer = HDF5Factory.configure(file).overwrite().writer();
+        try {
+            hdf5writer.object().createGroup("laminates");
+            hdf5writer.object().createGroup("laminates/".concat(lam.getName()));
+            new HDF5ColumnarCalculationOutputWriterServiceImpl().writeResults(hdf5writer, datas, results);
+        } finally {
+            hdf5writer.close();
+        }
+        return file;
+    }
+
+    /**
+     * Mehr Lastfälle als ein Block, damit auch der unvollständige letzte
+     * Block geschrieben wird.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat", false);
+        double[] angles = {0.0, 45.0, -45.0, 90.0};
+        for (int jj = 0; jj < angles.length; jj++) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + jj, mat, angles[jj], 0.125));
+        }
+        CLT_Laminate clt_lam = new CLT_Laminate(lam);
+
+        int numCases = HDF5ColumnarCalculationOutputWriterServiceImpl.CHUNK_SIZE + 44;
+        List<CalculationModuleData> datas = new ArrayList<>(numCases);
+        List<CLT_LayerResult[]> results = new ArrayList<>(numCases);
+        for (int ii = 0; ii < numCases; ii++) {
+            CalculationModuleData data = new CalculationModuleData(lam);
+            data.setName("Calculation" + ii);
+            Loads load = data.getDataHolder().getLoad();
+            load.setN_x(10.0 * ii);
+            load.setN_y(-5.0 * ii);
+            load.setN_xy(1.0 + ii);
+            load.setM_x(0.1 * ii);
+            load.setDeltaT(-0.5 * ii);
+            CLT_Calculator.determineValues(clt_lam, load, data.getDataHolder().getStrains(), data.getDataHolder().isUseStrains());
+            datas.add(data);
+            results.add(CLT_Calculator.getLayerResults(clt_lam, load, data.getDataHolder().getStrains()));
+        }
+
+        File file = write(lam, datas, results);
+
+        String group = "laminates/Laminat/calculation/";
+        IHDF5Reader reader = HDF5Factory.openForReading(file);
+        try {
+            assertEquals(angles.length, reader.int32().getAttr("laminates/Laminat/calculation", "number of layers"));
+
+            String[] names = reader.string().readArray(group.concat("load cases"));
+            double[][] mechanical = reader.float64().readMatrix(group.concat("mechanical loads"));
+            double[][] hygrothermal = reader.float64().readMatrix(group.concat("hygrothermal loads"));
+            double[][] global = reader.float64().readMatrix(group.concat("global strains"));
+            double[][][] layerValues = new double[LAYER_QUANTITIES.length][][];
+            for (int q = 0; q < LAYER_QUANTITIES.length; q++) {
+                layerValues[q] = reader.float64().readMatrix(group.concat(LAYER_QUANTITIES[q]));
+                assertEquals(numCases, layerValues[q].length);
+                assertEquals(angles.length, reader.int32().getAttr(group.concat(LAYER_QUANTITIES[q]), "number of layers"));
+            }
+            assertEquals(numCases, names.length);
+            assertEquals(numCases, mechanical.length);
+            assertEquals(numCases, hygrothermal.length);
+            assertEquals(numCases, global.length);
+
+            for (int ii = 0; ii < numCases; ii++) {
+                CalculationModuleData data = datas.get(ii);
+                Loads l = data.getDataHolder().getLoad();
+                assertEquals(data.getName(), names[ii]);
+                assertArrayEquals(l.getForceMomentAsVector(), mechanical[ii], 0.0);
+                assertArrayEquals(new double[]{l.getnT_x(), l.getnT_y(), l.getnT_xy(),
+                    l.getmT_x(), l.getmT_y(), l.getmT_xy(), l.getDeltaT(), l.getDeltaH()}, hygrothermal[ii], 0.0);
+                assertArrayEquals(data.getDataHolder().getStrains().getEpsilonKappaAsVector(), global[ii], 0.0);
+
+                CLT_LayerResult[] layerResults = results.get(ii);
+                for (int lay = 0; lay < angles.length; lay++) {
+                    assertLayerValues(layerValues, ii, 2 * lay, layerResults[lay].getSss_lower(), layerResults[lay].getRr_lower().getMinimalReserveFactor());
+                    assertLayerValues(layerValues, ii, 2 * lay + 1, layerResults[lay].getSss_upper(), layerResults[lay].getRr_upper().getMinimalReserveFactor());
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void assertLayerValues(double[][][] layerValues, int row, int column, StressStrainState sss, double rf) {
+        double[] expected = {sss.getStress()[0], sss.getStress()[1], sss.getStress()[2],
+            sss.getStrain()[0], sss.getStrain()[1], sss.getStrain()[2], rf};
+        for (int q = 0; q < expected.length; q++) {
+            assertEquals(expected[q], layerValues[q][row][column], 0.0);
+        }
+    }
+
+    @Test
+    public void testLaminateWithoutLayers() throws IOException {
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat", false);
+
+        int numCases = 3;
+        List<CalculationModuleData> datas = new ArrayList<>(numCases);
+        List<CLT_LayerResult[]> results = new ArrayList<>(numCases);
+        for (int ii = 0; ii < numCases; ii++) {
+            CalculationModuleData data = new CalculationModuleData(lam);
+            data.setName("Calculation" + ii);
+            data.getDataHolder().getLoad().setN_x(10.0 * ii);
+            datas.add(data);
+            results.add(new CLT_LayerResult[0]);
+        }
+
+        File file = write(lam, datas, results);
+
+        String group = "laminates/Laminat/calculation/";
+        IHDF5Reader reader = HDF5Factory.openForReading(file);
+        try {
+            assertEquals(0, reader.int32().getAttr("laminates/Laminat/calculation", "number of layers"));
+            double[][] mechanical = reader.float64().readMatrix(group.concat("mechanical loads"));
+            assertEquals(numCases, mechanical.length);
+            for (int ii = 0; ii < numCases; ii++) {
+                assertArrayEquals(datas.get(ii).getDataHolder().getLoad().getForceMomentAsVector(), mechanical[ii], 0.0);
+            }
+            for (String quantity : LAYER_QUANTITIES) {
+                assertFalse(reader.object().exists(group.concat(quantity)));
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}
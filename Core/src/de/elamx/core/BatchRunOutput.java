@@ -0,0 +1,49 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.core;
+
+import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import java.io.PrintStream;
+
+/**
+ * Ausgabe bereits berechneter Ergebnisse eines {@link BatchRunService}. Die
+ * Berechnung und das Schreiben der Ergebnisse sind getrennt, damit die
+ * Berechnungen mehrerer Laminate parallel erfolgen können, während die
+ * Ausgaben weiterhin nacheinander in fester Reihenfolge geschrieben werden.
+ *
+ * @author Andreas Hauffe
+ */
+public interface BatchRunOutput {
+
+    /**
+     * Schreibt die Ergebnisse.
+     *
+     * @param ps Stream für die Textausgabe
+     * @param hdf5writer hdf5-Writer oder <CODE>null</CODE>, wenn keine
+     * hdf5-Ausgabe erfolgen soll
+     */
+    public void write(PrintStream ps, IHDF5Writer hdf5writer);
+}
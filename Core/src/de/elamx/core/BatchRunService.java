@@ -35,4 +35,53 @@ import java.io.PrintStream;
  */
 public interface BatchRunService {
     public void performBatchTasksAndOutput(Laminat laminate, PrintStream ps, IHDF5Writer hdf5writer, int outputType);
+
+    /**
+     * Führt die Berechnungen für das Laminat durch, ohne Ausgaben zu
+     * schreiben. Die Ergebnisse werden erst beim Aufruf von
+     * {@link BatchRunOutput#write(PrintStream, IHDF5Writer)} ausgegeben. Die
+     * Methode kann für verschiedene Laminate gleichzeitig aus mehreren Threads
+     * aufgerufen werden, die Ausgaben erfolgen immer nacheinander.<br>
+     * Die Standardimplementierung führt die Berechnungen erst beim Schreiben
+     * über {@link #performBatchTasksAndOutput} aus.
+     *
+     * @param laminate Laminat
+     * @param outputType Ausgabetyp
+     * @return Ausgabe der Ergebnisse
+     */
+    public default BatchRunOutput performBatchTasks(Laminat laminate, int outputType) {
+        return (ps, hdf5writer) -> performBatchTasksAndOutput(laminate, ps, hdf5writer, outputType);
+    }
+
+    /**
+     * Wie {@link #performBatchTasks(Laminat, int)}, zusätzlich wird die Anzahl
+     * der Threads übergeben, die der Service für die Berechnungen dieses
+     * Laminats selbst verwenden darf. Werden mehrere Laminate gleichzeitig
+     * berechnet, ist die Anzahl 1.<br>
+     * Die Standardimplementierung ignoriert die Anzahl der Threads.
+     *
+     * @param laminate Laminat
+     * @param outputType Ausgabetyp
+     * @param numberOfThreads Anzahl der Threads für dieses Laminat
+     * @return Ausgabe der Ergebnisse
+     */
+    public default BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int numberOfThreads) {
+        return performBatchTasks(laminate, outputType);
+    }
+
+    /**
+     * Wie {@link #performBatchTasks(Laminat, int, int)}, zusätzlich wird der
+     * Typ der hdf5-Ausgabe unabhängig vom Typ der Textausgabe übergeben. Er
+     * wählt unter den registrierten hdf5-Ausgaben des Moduls aus.<br>
+     * Die Standardimplementierung ignoriert den Typ der hdf5-Ausgabe.
+     *
+     * @param laminate Laminat
+     * @param outputType Ausgabetyp der Textausgabe
+     * @param hdf5OutputType Ausgabetyp der hdf5-Ausgabe
+     * @param numberOfThreads Anzahl der Threads für dieses Laminat
+     * @return Ausgabe der Ergebnisse
+     */
+    public default BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int hdf5OutputType, int numberOfThreads) {
+        return performBatchTasks(laminate, outputType, numberOfThreads);
+    }
 }
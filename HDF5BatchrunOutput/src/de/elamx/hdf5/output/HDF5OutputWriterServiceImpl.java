@@ -53,6 +53,8 @@ public class HDF5OutputWriterServiceImpl implements HDF5OutputWriterService {
     private static HDF5CompoundType<List<?>> HDF5effectiveStiffnessWithPoissonType = null;
     private static HDF5CompoundType<List<?>> HDF5effectiveStiffnessWithoutPoissonType = null;
     private static HDF5CompoundType<List<?>> HDF5nonDimensionalParametersType = null;
+    // hdf5-Datei, zu der die Datentypen gehören
+    private static IHDF5Writer HDF5typesWriter = null;
 
     @Override
     public void writeHeader(IHDF5Writer hdf5writer, File inputFile, String inputFileMD5, Date date) {
@@ -76,6 +78,13 @@ public class HDF5OutputWriterServiceImpl implements HDF5OutputWriterService {
 
     @Override
     public void writeLaminateInformation(IHDF5Writer hdf5writer, Laminat laminate) {
+        // Die Datentypen müssen für jede hdf5-Datei neu erzeugt werden
+        if (hdf5writer != HDF5typesWriter) {
+            HDF5effectiveStiffnessWithPoissonType = null;
+            HDF5effectiveStiffnessWithoutPoissonType = null;
+            HDF5nonDimensionalParametersType = null;
+            HDF5typesWriter = hdf5writer;
+        }
 
         CLT_Laminate clt_laminate = laminate.getLookup().lookup(CLT_Laminate.class);
         if (clt_laminate == null) {
@@ -236,6 +236,21 @@ public class DataLayer extends Layer {
         return dataLayerCopy;
     }
 
+    /**
+     * Liefert eine Kopie dieser Lage ohne Listener mit dem übergebenen Winkel
+     * und der übergebenen Einbettung. Wird für Lagen benötigt, die außerhalb
+     * eines Laminats für die Bewertung mit Versagenskriterien genutzt werden.
+     *
+     * @param angle Winkel der Kopie im Gradmaß
+     * @param embedded true, wenn die Lage von weiteren Lagen umgeben ist
+     * @return Kopie dieser Lage
+     */
+    public DataLayer getCopyWithoutListeners(double angle, boolean embedded) {
+        DataLayer dataLayerCopy = getCopyWithoutListeners(angle);
+        dataLayerCopy.embedded = embedded;
+        return dataLayerCopy;
+    }
+
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
         this.firePropertyChange(PROP_MATERIAL, null, material);
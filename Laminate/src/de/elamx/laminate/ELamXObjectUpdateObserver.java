@@ -35,7 +35,12 @@ import java.util.Comparator;
  */
 public class ELamXObjectUpdateObserver implements Comparator<ELamXObject>{
     
-    private static ELamXObjectUpdateObserver instance = null;
+    /*
+     * Der aktuelle Observer wird pro Thread gehalten, damit z.B. Optimierer
+     * Laminate in mehreren Threads gleichzeitig aufbauen und ändern können,
+     * ohne sich gegenseitig die Aktualisierungsreihenfolge zu überschreiben.
+     */
+    private static final ThreadLocal<ELamXObjectUpdateObserver> instance = new ThreadLocal<>();
     
     private ELamXObject source = null;
     
@@ -50,11 +55,15 @@ public class ELamXObjectUpdateObserver implements Comparator<ELamXObject>{
     }
     
     public static void setActual(ELamXObjectUpdateObserver inst){
-        instance = inst;
+        if (inst == null) {
+            instance.remove();
+        } else {
+            instance.set(inst);
+        }
     }
     
     public static ELamXObjectUpdateObserver getActual(){
-        return instance;
+        return instance.get();
     }
     
     public void addELamXObject(ELamXObject eObject){
@@ -68,7 +77,7 @@ public class ELamXObjectUpdateObserver implements Comparator<ELamXObject>{
         }
         objects.clear();
         source = null;
-        instance = null;
+        instance.remove();
     }
 
     @Override
@@ -27,6 +27,7 @@ package de.elamx.laminate;
 
 import java.util.HashMap;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  *
@@ -38,6 +39,10 @@ public abstract class Material extends ELamXObject{
     private static final HashMap<String, AdditionalValue> defaultAddValues = new HashMap<String, AdditionalValue>();
     private final HashMap<String, Double> additionalValues = new HashMap<>();
     
+    // Wird bei jeder Eigenschaftsänderung erhöht, siehe getModificationCount.
+    // Atomar, da Änderungen nicht zwingend aus einem einzigen Thread erfolgen.
+    private final AtomicInteger modificationCount = new AtomicInteger();
+
     public Material(String uid, String name, boolean addToLookup){
         super(uid, name, addToLookup);
         for (String key : defaultAddValues.keySet()){
@@ -188,6 +193,37 @@ public abstract class Material extends ELamXObject{
     public Double getAdditionalValue(String name){
         return additionalValues.get(name);
     }
+
+    /**
+     * Liefert einen Zähler, der bei jeder Änderung einer Eigenschaft des
+     * Materials (inklusive der zusätzlichen Werte) erhöht wird. Damit können
+     * aus dem Material abgeleitete Größen, z.B. die Parameter der
+     * Versagenskriterien, zwischengespeichert und bei Änderungen verworfen
+     * werden.
+     *
+     * @return Änderungszähler
+     */
+    public int getModificationCount(){
+        return modificationCount.get();
+    }
+
+    @Override
+    public void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
+        modificationCount.incrementAndGet();
+        super.firePropertyChange(propertyName, oldValue, newValue);
+    }
+
+    @Override
+    public void firePropertyChange(String propertyName, int oldValue, int newValue) {
+        modificationCount.incrementAndGet();
+        super.firePropertyChange(propertyName, oldValue, newValue);
+    }
+
+    @Override
+    public void firePropertyChange(String propertyName, boolean oldValue, boolean newValue) {
+        modificationCount.incrementAndGet();
+        super.firePropertyChange(propertyName, oldValue, newValue);
+    }
     
     public String getAdditionalValueDisplayName(String key){
         return defaultAddValues.get(key).displayName;
@@ -25,16 +25,17 @@
  */
 package de.elamx.laminate.failure;
 
-import com.ardor3d.math.Vector3;
 import com.ardor3d.renderer.IndexMode;
 import com.ardor3d.scenegraph.Mesh;
 import com.ardor3d.scenegraph.MeshData;
-import com.ardor3d.util.geom.BufferUtils;
 import de.elamx.laminate.Layer;
 import de.elamx.laminate.Material;
 import de.elamx.laminate.StressStrainState;
-import de.elamx.mathtools.MatrixTools;
 import java.awt.Color;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 import org.openide.filesystems.FileObject;
 
 /**
@@ -48,6 +49,13 @@ public abstract class Criterion {
     private String description;
     private Color color;
 
+    // Zwischengespeicherte Parameter je Material, siehe getParameters
+    private final Map<Material, CachedParameters> parameterCache = new WeakHashMap<>();
+    private volatile CachedParameters lastParameters;
+
+    // Zwischengespeicherte Netze je Material, siehe getAsMesh
+    private final Map<Material, CachedMesh> meshCache = new WeakHashMap<>();
+
     public Criterion(FileObject obj) {
         setDisplayName((String) obj.getAttribute("displayName"));
         setDescription((String) obj.getAttribute("description"));
@@ -61,6 +69,85 @@ public abstract class Criterion {
 
     public abstract ReserveFactor getReserveFactor(Material material, Layer layer, StressStrainState stressStateState);
 
+    /**
+     * Berechnet die Reservefaktoren für viele Spannungs-/Verzerrungszustände
+     * einer Lage auf einmal. Spannungen und Dehnungen müssen im Lagensystem
+     * in flachen Feldern übergeben werden, wobei die Komponente
+     * <CODE>kk</CODE> (11, 22, 12) des Punktes <CODE>ii</CODE> an der Stelle
+     * <CODE>3 * ii + kk</CODE> steht.<br>
+     * <br>
+     * Die Standardimplementierung ruft für jeden Punkt
+     * {@link #getReserveFactor(Material, Layer, StressStrainState)} auf.
+     * Kriterien können diese Methode überschreiben, um die Materialparameter
+     * nur einmal zu lesen und pro Punkt keine Objekte zu erzeugen. Die
+     * Ergebnisse müssen dabei mit denen der Einzelauswertung übereinstimmen.
+     *
+     * @param material Material
+     * @param layer Lage oder <CODE>null</CODE>
+     * @param stresses Spannungen im Lagensystem (3 * numPoints)
+     * @param strains Dehnungen im Lagensystem (3 * numPoints)
+     * @param numPoints Anzahl der Punkte
+     * @param reserveFactors Ergebnis: Reservefaktoren (numPoints)
+     * @param failureTypes Ergebnis: Versagensarten (siehe
+     * {@link ReserveFactor}) oder <CODE>null</CODE>
+     */
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        double[] stress = new double[3];
+        double[] strain = new double[3];
+        StressStrainState sss = new StressStrainState(stress, strain);
+        for (int ii = 0; ii < numPoints; ii++) {
+            System.arraycopy(stresses, 3 * ii, stress, 0, 3);
+            System.arraycopy(strains, 3 * ii, strain, 0, 3);
+            ReserveFactor rf = getReserveFactor(material, layer, sss);
+            reserveFactors[ii] = rf.getMinimalReserveFactor();
+            if (failureTypes != null) {
+                failureTypes[ii] = rf.getFailureType();
+            }
+        }
+    }
+
+    /**
+     * Liefert die aus dem Material abgeleiteten Parameter des Kriteriums.
+     * Die Parameter werden beim ersten Aufruf für ein Material mit
+     * <CODE>factory</CODE> erzeugt und anschließend zwischengespeichert, bis
+     * sich eine Eigenschaft des Materials ändert (siehe
+     * {@link Material#getModificationCount()}). Damit entfallen bei der
+     * Auswertung die Zugriffe auf die zusätzlichen Werte über
+     * {@link Material#getAdditionalValue(String)} und die wiederholte
+     * Berechnung abgeleiteter Konstanten.<br>
+     * <br>
+     * Ein Kriterium sollte immer die gleiche <CODE>factory</CODE> verwenden.
+     * Die erzeugten Parameter dürfen keine Referenz auf das Material halten
+     * und müssen unveränderlich sein, da sie von mehreren Threads gleichzeitig
+     * verwendet werden können.
+     *
+     * @param <T> Typ der Parameter
+     * @param material Material
+     * @param factory erzeugt die Parameter für ein Material
+     * @return Parameter für das Material
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T> T getParameters(Material material, Function<Material, T> factory) {
+        int modCount = material.getModificationCount();
+        CachedParameters last = lastParameters;
+        if (last != null && last.material.get() == material && last.modificationCount == modCount) {
+            return (T) last.parameters;
+        }
+        CachedParameters cached;
+        synchronized (parameterCache) {
+            cached = parameterCache.get(material);
+        }
+        if (cached == null || cached.modificationCount != modCount) {
+            cached = new CachedParameters(material, modCount, factory.apply(material));
+            synchronized (parameterCache) {
+                parameterCache.put(material, cached);
+            }
+        }
+        lastParameters = cached;
+        return (T) cached.parameters;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -90,113 +177,38 @@ public abstract class Criterion {
         return getDisplayName();
     }
 
+    /**
+     * Liefert die Versagensfläche des Kriteriums als Netz im
+     * (&sigma;<sub>||</sub>, &sigma;<sub>&perp;</sub>, &tau;<sub>&perp;||</sub>)-Raum.<br>
+     * <br>
+     * Die Standardimplementierung tastet die Fläche über ein adaptiv
+     * verfeinertes Kugelgitter ab (siehe <CODE>FailureSurfaceMesher</CODE>). Das
+     * Ergebnis wird je Material und Qualität zwischengespeichert, bis sich das
+     * Material ändert. Jeder Aufruf liefert ein neues {@link Mesh} mit eigenen
+     * Puffern.
+     *
+     * @param material Material
+     * @param quality Netzqualität
+     * @return Netz der Versagensfläche
+     */
     public Mesh getAsMesh(Material material, double quality) {
-
-        int numPoints_phi = (int) (quality * 30);         // Anzahl der Punkte in phi-Richtung
-        int numPoints_theta = 2 * numPoints_phi;           // Anzahl der Punkte in theta-Richtung
-
-        double detlaTheta = Math.PI / (numPoints_theta - 1);
-        double deltaPhi = 2.0 * Math.PI / (numPoints_phi - 1);
-        
-        double scaleX = (material.getRParTen() + material.getRParCom()) / 2.0;
-        double scaleYZ = (material.getRNorTen() + material.getRNorCom() + material.getRShear()) / 3.0;
-        double transX = (material.getRParTen() - material.getRParCom()) / 2.0;
-        
-        double nu21 = material.getNue21();
-
-        double temp = 1.0 / (1.0 - material.getNue12() * nu21);
-        
-        double[][] Qlok = new double[3][3];
-
-        Qlok[0][0] = temp * material.getEpar();
-        Qlok[0][1] = temp * material.getEpar() * nu21;
-        Qlok[0][2] = 0.0;
-        Qlok[1][0] = Qlok[0][1];
-        Qlok[1][1] = temp * material.getEnor();
-        Qlok[1][2] = 0.0;
-        Qlok[2][0] = 0.0;
-        Qlok[2][1] = 0.0;
-        Qlok[2][2] = material.getG();
-        
-        double[][] Slok = MatrixTools.getInverse(Qlok);
-
-        double x, y, z;
-        
-        double[][][] punkte = new double[numPoints_theta][numPoints_phi][3];
-
-        for (int iTheta = 0; iTheta < numPoints_theta; iTheta++) {
-            
-            x = Math.cos(iTheta * detlaTheta);
-            temp = Math.sin(iTheta * detlaTheta);
-            
-            x *= scaleX; x += transX;
-            
-            for (int iPhi = 0; iPhi < numPoints_phi; iPhi++) {
-                y = temp * Math.cos(iPhi * deltaPhi);
-                z = temp * Math.sin(iPhi * deltaPhi);
-                
-                y *= scaleYZ;
-                z *= scaleYZ;
-                
-                double[] stress = new double[]{x,y,z};
-                double[] strain = new double[]{0.0,0.0,0.0};
-                
-                for (int ii = 0; ii < 3; ii++){
-                    for (int jj = 0; jj < 3; jj++){
-                        strain[ii] += Slok[ii][jj] * stress[jj];
-                    }
-                }
-                
-                ReserveFactor rf = getReserveFactor(material, null, new StressStrainState(stress, strain));
-                double dRF = rf.getMinimalReserveFactor();
-                
-                punkte[iTheta][iPhi][0] = x*dRF;
-                punkte[iTheta][iPhi][1] = y*dRF;
-                punkte[iTheta][iPhi][2] = z*dRF;
-            }
+        int modCount = material.getModificationCount();
+        CachedMesh cached;
+        synchronized (meshCache) {
+            cached = meshCache.get(material);
         }
-
-        Vector3[] vertices = new Vector3[numPoints_phi * numPoints_theta * 4];
-        Vector3[] normals = new Vector3[numPoints_phi * numPoints_theta * 4];
-        
-        double[] p1,p2,p3,p4;
-        Vector3 normal;
-
-        for (int i = 0 ; i < numPoints_theta-1; i++){
-            for (int j = 0 ; j < numPoints_phi-1; j++){
-                // 1. Punkt des Quads
-                p1 = punkte[i][j];
-                p2 = punkte[i][j+1];
-                p3 = punkte[i+1][j+1];
-                p4 = punkte[i+1][j];
-
-                vertices[4*(j+i*numPoints_phi)+3] = new Vector3((float)(p1[0]),(float)(p1[1]),(float)(p1[2]));
-                normal = getNormal(p1,p2,p4);
-                normal.normalizeLocal();
-                normals[4*(j+i*numPoints_phi)+3] = normal;
-                // 2. Punkt des Quads
-                vertices[4*(j+i*numPoints_phi)+2] = new Vector3((float)(p2[0]),(float)(p2[1]),(float)(p2[2]));
-                normal = getNormal(p2,p3,p1);
-                normal.normalizeLocal();
-                normals[4*(j+i*numPoints_phi)+2] = normal;
-                // 3. Punkt des Quads
-                vertices[4*(j+i*numPoints_phi)+1] = new Vector3((float)(p3[0]),(float)(p3[1]),(float)(p3[2]));
-                normal = getNormal(p3,p4,p2);
-                normal.normalizeLocal();
-                normals[4*(j+i*numPoints_phi)+1] = normal;
-                // 4. Punkt des Quads
-                vertices[4*(j+i*numPoints_phi)+0] = new Vector3((float)(p4[0]),(float)(p4[1]),(float)(p4[2]));
-                normal = getNormal(p4,p1,p3);
-                normal.normalizeLocal();
-                normals[4*(j+i*numPoints_phi)+0] = normal;
+        if (cached == null || cached.modificationCount != modCount || cached.quality != quality) {
+            cached = new CachedMesh(modCount, quality, new FailureSurfaceMesher(this, material).createMesh(quality));
+            synchronized (meshCache) {
+                meshCache.put(material, cached);
             }
         }
 
         final Mesh mesh = new Mesh();
         final MeshData meshData = mesh.getMeshData();
 
-        meshData.setVertexBuffer(BufferUtils.createFloatBuffer(vertices));
-        meshData.setNormalBuffer(BufferUtils.createFloatBuffer(normals));
+        meshData.setVertexBuffer(cached.buffers.getVertices());
+        meshData.setNormalBuffer(cached.buffers.getNormals());
         meshData.setIndexMode(IndexMode.Quads);
 
         mesh.updateModelBound();
@@ -204,18 +216,31 @@ public abstract class Criterion {
         return mesh;
     }
 
-    private Vector3 getNormal(double[] p1, double[] p2, double[] p3){
-        double[] xvec = new double[3];
-        double[] yvec = new double[3];
-        double[] zvec = new double[3];
+    private static final class CachedMesh {
 
-        for (int i = 0; i < xvec.length; i++) xvec[i] = p2[i]-p1[i];
-        for (int i = 0; i < yvec.length; i++) yvec[i] = p3[i]-p1[i];
+        private final int modificationCount;
+        private final double quality;
+        private final FailureSurfaceMesher.MeshBuffers buffers;
 
-        zvec[0] = xvec[1]*yvec[2] - xvec[2]*yvec[1];
-        zvec[1] = xvec[2]*yvec[0] - xvec[0]*yvec[2];
-        zvec[2] = xvec[0]*yvec[1] - xvec[1]*yvec[0];
+        private CachedMesh(int modificationCount, double quality, FailureSurfaceMesher.MeshBuffers buffers) {
+            this.modificationCount = modificationCount;
+            this.quality = quality;
+            this.buffers = buffers;
+        }
+    }
+
+    private static final class CachedParameters {
 
-        return new Vector3((float)(-zvec[0]),(float)(-zvec[1]),(float)(-zvec[2]));
+        // schwach referenziert, damit das Material als Schlüssel der
+        // WeakHashMap freigegeben werden kann
+        private final WeakReference<Material> material;
+        private final int modificationCount;
+        private final Object parameters;
+
+        private CachedParameters(Material material, int modificationCount, Object parameters) {
+            this.material = new WeakReference<>(material);
+            this.modificationCount = modificationCount;
+            this.parameters = parameters;
+        }
     }
 }
@@ -0,0 +1,520 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.failure;
+
+import com.ardor3d.util.geom.BufferUtils;
+import de.elamx.laminate.Material;
+import de.elamx.mathtools.MatrixTools;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Erzeugt das Netz der Versagensfläche eines Kriteriums im
+ * (&sigma;<sub>||</sub>, &sigma;<sub>&perp;</sub>, &tau;<sub>&perp;||</sub>)-Raum.
+ * Dazu wird ein Strahl für jeden Punkt eines &theta;-&phi;-Kugelgitters bis
+ * zur Versagensfläche skaliert (Reservefaktor).<br>
+ * <br>
+ * Das Startgitter entspricht dem bisherigen Netz. Jedes Viereck des
+ * Startgitters wird bis zu {@link #MAX_REFINEMENT_LEVELS} mal geviertelt,
+ * wenn die Fläche an seinen Punkten deutlich stärker abknickt als eine Kugel
+ * bei gleicher Schrittweite, also an Kanten und stark gekrümmten Bereichen.
+ * Grenzt ein feineres an ein gröberes Viereck, werden die zusätzlichen Punkte
+ * auf der gemeinsamen Kante auf die Kante des gröberen Vierecks gelegt, damit
+ * das Netz geschlossen bleibt.<br>
+ * <br>
+ * Die Reservefaktoren werden gebündelt über
+ * {@link Criterion#getReserveFactors(Material, de.elamx.laminate.Layer, double[], double[], int, double[], int[])}
+ * und bei genügend Punkten parallel berechnet. Da jeder Punkt unabhängig
+ * ausgewertet wird, hängt das Netz nicht von der Threadanzahl ab.
+ *
+ * @author Andreas Hauffe
+ */
+final class FailureSurfaceMesher {
+
+    /**
+     * Maximale Anzahl der Verfeinerungsstufen.
+     */
+    static final int MAX_REFINEMENT_LEVELS = 2;
+
+    /**
+     * Ein Punkt gilt als Knick, wenn die Fläche dort um mehr als diesen
+     * Faktor mal der Winkelschrittweite abknickt. Für eine Kugel ist der
+     * Knickwinkel gerade gleich der Schrittweite.
+     */
+    static final double REFINEMENT_FACTOR = 3.0;
+
+    /**
+     * Ab dieser Anzahl auszuwertender Punkte wird parallel gerechnet.
+     */
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    // Anzahl der feinsten Intervalle je Viereck des Startgitters und Richtung
+    private static final int FINE = 1 << MAX_REFINEMENT_LEVELS;
+
+    private final Criterion criterion;
+    private final Material material;
+
+    private final double scaleX;
+    private final double scaleYZ;
+    private final double transX;
+    private final double[][] Slok;
+
+    // Startgitter
+    private int numPoints_theta;
+    private int numPoints_phi;
+    private double deltaTheta;
+    private double deltaPhi;
+
+    // feinstes Gitter, Punkt (I,J) liegt bei theta = I * deltaTheta / FINE
+    private int numFine_theta;
+    private int numFine_phi;
+    // Komponente kk des Punktes (I,J) bei 3 * (I * numFine_phi + J) + kk
+    private double[] points;
+    private boolean[] evaluated;
+
+    // Verfeinerungsstufe je Viereck (i,j) des Startgitters bei i * (numPoints_phi - 1) + j
+    private int[] level;
+
+    FailureSurfaceMesher(Criterion criterion, Material material) {
+        this.criterion = criterion;
+        this.material = material;
+
+        scaleX = (material.getRParTen() + material.getRParCom()) / 2.0;
+        scaleYZ = (material.getRNorTen() + material.getRNorCom() + material.getRShear()) / 3.0;
+        transX = (material.getRParTen() - material.getRParCom()) / 2.0;
+
+        double nu21 = material.getNue21();
+        double temp = 1.0 / (1.0 - material.getNue12() * nu21);
+
+        double[][] Qlok = new double[3][3];
+        Qlok[0][0] = temp * material.getEpar();
+        Qlok[0][1] = temp * material.getEpar() * nu21;
+        Qlok[1][0] = Qlok[0][1];
+        Qlok[1][1] = temp * material.getEnor();
+        Qlok[2][2] = material.getG();
+
+        Slok = MatrixTools.getInverse(Qlok);
+    }
+
+    /**
+     * Erzeugt das Netz. Die Auflösung des Startgitters entspricht der
+     * bisherigen Standardimplementierung von {@link Criterion#getAsMesh}.
+     *
+     * @param quality Netzqualität
+     * @return Eckpunkte und Normalen des Viereck-Netzes
+     */
+    MeshBuffers createMesh(double quality) {
+        numPoints_phi = Math.max(3, (int) (quality * 30));
+        numPoints_theta = 2 * numPoints_phi;
+        deltaTheta = Math.PI / (numPoints_theta - 1);
+        deltaPhi = 2.0 * Math.PI / (numPoints_phi - 1);
+
+        numFine_theta = (numPoints_theta - 1) * FINE + 1;
+        numFine_phi = (numPoints_phi - 1) * FINE + 1;
+        points = new double[3 * numFine_theta * numFine_phi];
+        evaluated = new boolean[numFine_theta * numFine_phi];
+        level = new int[(numPoints_theta - 1) * (numPoints_phi - 1)];
+
+        int[] indices = new int[numPoints_theta * numPoints_phi];
+        int num = 0;
+        for (int i = 0; i < numPoints_theta; i++) {
+            for (int j = 0; j < numPoints_phi; j++) {
+                indices[num++] = (i * numFine_phi + j) * FINE;
+            }
+        }
+        evaluate(indices, num);
+
+        for (int l = 0; l < MAX_REFINEMENT_LEVELS; l++) {
+            if (!refine(l)) {
+                break;
+            }
+        }
+
+        return assemble();
+    }
+
+    /**
+     * Viertelt alle Vierecke der Stufe <CODE>l</CODE>, an deren Punkten die
+     * Fläche abknickt, und berechnet die neuen Punkte.
+     *
+     * @return <CODE>true</CODE>, falls Vierecke verfeinert wurden
+     */
+    private boolean refine(int l) {
+        int numQuads_phi = numPoints_phi - 1;
+        boolean[] mark = new boolean[level.length];
+        boolean any = false;
+
+        if (l == 0) {
+            // Knicke an den Punkten des Startgitters markieren alle
+            // angrenzenden Vierecke.
+            for (int i = 0; i < numPoints_theta; i++) {
+                for (int j = 0; j < numQuads_phi; j++) {
+                    if (isKink(i * FINE, j * FINE, FINE)) {
+                        any = true;
+                        for (int ii = Math.max(0, i - 1); ii <= Math.min(numPoints_theta - 2, i); ii++) {
+                            mark[ii * numQuads_phi + j] = true;
+                            mark[ii * numQuads_phi + (j == 0 ? numQuads_phi - 1 : j - 1)] = true;
+                        }
+                    }
+                }
+            }
+        } else {
+            // Knicke an den inneren Punkten der bereits verfeinerten Vierecke
+            int stride = FINE >> l;
+            int n = 1 << l;
+            for (int q = 0; q < level.length; q++) {
+                if (level[q] != l) {
+                    continue;
+                }
+                int I0 = (q / numQuads_phi) * FINE;
+                int J0 = (q % numQuads_phi) * FINE;
+                for (int a = 0; a <= n && !mark[q]; a++) {
+                    for (int b = 0; b <= n && !mark[q]; b++) {
+                        if ((a > 0 && a < n && isKinkTheta(I0 + a * stride, J0 + b * stride, stride))
+                                || (b > 0 && b < n && isKinkPhi(I0 + a * stride, J0 + b * stride, stride))) {
+                            mark[q] = true;
+                            any = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!any) {
+            return false;
+        }
+
+        int stride = FINE >> (l + 1);
+        int n = 1 << (l + 1);
+        int[] indices = new int[64];
+        int num = 0;
+        for (int q = 0; q < level.length; q++) {
+            if (!mark[q] || level[q] != l) {
+                continue;
+            }
+            level[q] = l + 1;
+            int I0 = (q / numQuads_phi) * FINE;
+            int J0 = (q % numQuads_phi) * FINE;
+            for (int a = 0; a <= n; a++) {
+                for (int b = 0; b <= n; b++) {
+                    int k = (I0 + a * stride) * numFine_phi + J0 + b * stride;
+                    if (!evaluated[k]) {
+                        // Punkte auf gemeinsamen Kanten nur einmal berechnen
+                        evaluated[k] = true;
+                        if (num == indices.length) {
+                            int[] tmp = new int[2 * num];
+                            System.arraycopy(indices, 0, tmp, 0, num);
+                            indices = tmp;
+                        }
+                        indices[num++] = k;
+                    }
+                }
+            }
+        }
+        evaluate(indices, num);
+
+        return true;
+    }
+
+    private boolean isKink(int I, int J, int stride) {
+        return (I > 0 && I < numFine_theta - 1 && isKinkTheta(I, J, stride)) || isKinkPhi(I, J, stride);
+    }
+
+    private boolean isKinkTheta(int I, int J, int stride) {
+        double limit = REFINEMENT_FACTOR * deltaTheta * stride / FINE;
+        return kinkAngle(index(I - stride, J), index(I, J), index(I + stride, J)) > limit;
+    }
+
+    private boolean isKinkPhi(int I, int J, int stride) {
+        // Die letzte Spalte (2 pi) fällt mit der ersten zusammen.
+        int JPrev = J == 0 ? numFine_phi - 1 - stride : J - stride;
+        double limit = REFINEMENT_FACTOR * deltaPhi * stride / FINE;
+        return kinkAngle(index(I, JPrev), index(I, J), index(I, J + stride)) > limit;
+    }
+
+    private int index(int I, int J) {
+        return 3 * (I * numFine_phi + J);
+    }
+
+    /**
+     * Winkel zwischen den Segmenten a-b und b-c. Die Koordinaten werden
+     * dabei wie das Kugelgitter skaliert, damit der Winkel mit der
+     * Schrittweite vergleichbar ist. Bei entarteten Segmenten (z.B. an den
+     * Polen) wird 0 geliefert.
+     */
+    private double kinkAngle(int a, int b, int c) {
+        double d1x = (points[b] - points[a]) / scaleX;
+        double d1y = (points[b + 1] - points[a + 1]) / scaleYZ;
+        double d1z = (points[b + 2] - points[a + 2]) / scaleYZ;
+        double d2x = (points[c] - points[b]) / scaleX;
+        double d2y = (points[c + 1] - points[b + 1]) / scaleYZ;
+        double d2z = (points[c + 2] - points[b + 2]) / scaleYZ;
+        double l = Math.sqrt((d1x * d1x + d1y * d1y + d1z * d1z) * (d2x * d2x + d2y * d2y + d2z * d2z));
+        if (!(l > 0.0)) {
+            return 0.0;
+        }
+        double cos = (d1x * d2x + d1y * d2y + d1z * d2z) / l;
+        return Math.acos(Math.max(-1.0, Math.min(1.0, cos)));
+    }
+
+    /**
+     * Berechnet die Flächenpunkte für die übergebenen Indizes
+     * (I * numFine_phi + J) des feinsten Gitters.
+     */
+    private void evaluate(int[] indices, int num) {
+        if (num == 0) {
+            return;
+        }
+        int numberOfThreads = num < PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors();
+        if (numberOfThreads <= 1) {
+            evaluate(indices, 0, num);
+            return;
+        }
+
+        int numChunks = 4 * numberOfThreads;
+        List<Callable<Void>> tasks = new ArrayList<>(numChunks);
+        for (int t = 0; t < numChunks; t++) {
+            final int start = (int) ((long) num * t / numChunks);
+            final int end = (int) ((long) num * (t + 1) / numChunks);
+            if (end > start) {
+                tasks.add(() -> {
+                    evaluate(indices, start, end);
+                    return null;
+                });
+            }
+        }
+
+        try {
+            for (Future<Void> f : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void evaluate(int[] indices, int start, int end) {
+        int num = end - start;
+        double[] stresses = new double[3 * num];
+        double[] strains = new double[3 * num];
+        double[] rf = new double[num];
+
+        for (int n = 0; n < num; n++) {
+            int k = indices[start + n];
+            int I = k / numFine_phi;
+            int J = k - I * numFine_phi;
+            // Punkte des Startgitters genau wie im bisherigen Netz
+            double theta = I % FINE == 0 ? (I / FINE) * deltaTheta : I * (deltaTheta / FINE);
+            double phi = J % FINE == 0 ? (J / FINE) * deltaPhi : J * (deltaPhi / FINE);
+            double sinTheta = Math.sin(theta);
+            double x = Math.cos(theta) * scaleX + transX;
+            double y = sinTheta * Math.cos(phi) * scaleYZ;
+            double z = sinTheta * Math.sin(phi) * scaleYZ;
+            stresses[3 * n] = x;
+            stresses[3 * n + 1] = y;
+            stresses[3 * n + 2] = z;
+            for (int ii = 0; ii < 3; ii++) {
+                strains[3 * n + ii] = Slok[ii][0] * x + Slok[ii][1] * y + Slok[ii][2] * z;
+            }
+        }
+
+        criterion.getReserveFactors(material, null, stresses, strains, num, rf, null);
+
+        for (int n = 0; n < num; n++) {
+            int k = indices[start + n];
+            evaluated[k] = true;
+            points[3 * k] = stresses[3 * n] * rf[n];
+            points[3 * k + 1] = stresses[3 * n + 1] * rf[n];
+            points[3 * k + 2] = stresses[3 * n + 2] * rf[n];
+        }
+    }
+
+    /**
+     * Schreibt die Vierecke direkt in die Puffer. Reihenfolge der Eckpunkte
+     * und Normalen je Viereck wie in der bisherigen Standardimplementierung.
+     */
+    private MeshBuffers assemble() {
+        int numQuads_phi = numPoints_phi - 1;
+        int numQuads = 0;
+        for (int l : level) {
+            numQuads += 1 << (2 * l);
+        }
+
+        FloatBuffer vertices = BufferUtils.createFloatBuffer(numQuads * 4 * 3);
+        FloatBuffer normals = BufferUtils.createFloatBuffer(numQuads * 4 * 3);
+
+        double[] p1 = new double[3];
+        double[] p2 = new double[3];
+        double[] p3 = new double[3];
+        double[] p4 = new double[3];
+
+        int pos = 0;
+        for (int q = 0; q < level.length; q++) {
+            int i = q / numQuads_phi;
+            int j = q % numQuads_phi;
+            int stride = FINE >> level[q];
+            int n = 1 << level[q];
+            for (int a = 0; a < n; a++) {
+                for (int b = 0; b < n; b++) {
+                    int I = i * FINE + a * stride;
+                    int J = j * FINE + b * stride;
+                    getPoint(i, j, I, J, p1);
+                    getPoint(i, j, I, J + stride, p2);
+                    getPoint(i, j, I + stride, J + stride, p3);
+                    getPoint(i, j, I + stride, J, p4);
+                    putCorner(vertices, normals, pos, p4, p1, p3);
+                    putCorner(vertices, normals, pos + 3, p3, p4, p2);
+                    putCorner(vertices, normals, pos + 6, p2, p3, p1);
+                    putCorner(vertices, normals, pos + 9, p1, p2, p4);
+                    pos += 12;
+                }
+            }
+        }
+
+        return new MeshBuffers(vertices, normals);
+    }
+
+    /**
+     * Liefert den Punkt (I,J) des Vierecks (i,j) des Startgitters. Liegt der
+     * Punkt auf einer Kante zu einem gröberen Nachbarviereck, wird er auf
+     * dessen Kante interpoliert.
+     */
+    private void getPoint(int i, int j, int I, int J, double[] p) {
+        int numQuads_phi = numPoints_phi - 1;
+        int edgeLevel = level[i * numQuads_phi + j];
+        int along;
+        boolean alongPhi;
+        if (I % FINE == 0 && J % FINE != 0) {
+            // Kante mit konstantem theta
+            int iNeighbour = I == i * FINE ? i - 1 : i + 1;
+            if (iNeighbour >= 0 && iNeighbour < numPoints_theta - 1) {
+                edgeLevel = Math.min(edgeLevel, level[iNeighbour * numQuads_phi + j]);
+            }
+            along = J;
+            alongPhi = true;
+        } else if (J % FINE == 0 && I % FINE != 0) {
+            // Kante mit konstantem phi, Nachbar auch über 0 = 2 pi hinweg
+            int jNeighbour = J == j * FINE ? j - 1 : j + 1;
+            jNeighbour = (jNeighbour + numQuads_phi) % numQuads_phi;
+            edgeLevel = Math.min(edgeLevel, level[i * numQuads_phi + jNeighbour]);
+            along = I;
+            alongPhi = false;
+        } else {
+            System.arraycopy(points, index(I, J), p, 0, 3);
+            return;
+        }
+
+        int edgeStride = FINE >> edgeLevel;
+        int offset = along % edgeStride;
+        if (offset == 0) {
+            System.arraycopy(points, index(I, J), p, 0, 3);
+            return;
+        }
+        int a = along - offset;
+        int b = a + edgeStride;
+        int ka = alongPhi ? index(I, a) : index(a, J);
+        int kb = alongPhi ? index(I, b) : index(b, J);
+        double t = (double) offset / edgeStride;
+        for (int kk = 0; kk < 3; kk++) {
+            p[kk] = (1.0 - t) * points[ka + kk] + t * points[kb + kk];
+        }
+    }
+
+    /**
+     * Schreibt den Eckpunkt p mit der (nach außen zeigenden) Normalen der
+     * Ebene durch p, a und b.
+     */
+    private static void putCorner(FloatBuffer vertices, FloatBuffer normals, int pos, double[] p, double[] a, double[] b) {
+        double xx = a[0] - p[0];
+        double xy = a[1] - p[1];
+        double xz = a[2] - p[2];
+        double yx = b[0] - p[0];
+        double yy = b[1] - p[1];
+        double yz = b[2] - p[2];
+
+        double nx = -(xy * yz - xz * yy);
+        double ny = -(xz * yx - xx * yz);
+        double nz = -(xx * yy - xy * yx);
+        double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+        if (length > 0.0) {
+            nx /= length;
+            ny /= length;
+            nz /= length;
+        }
+
+        vertices.put(pos, (float) p[0]);
+        vertices.put(pos + 1, (float) p[1]);
+        vertices.put(pos + 2, (float) p[2]);
+        normals.put(pos, (float) nx);
+        normals.put(pos + 1, (float) ny);
+        normals.put(pos + 2, (float) nz);
+    }
+
+    /**
+     * Eckpunkte und Normalen eines Viereck-Netzes.
+     */
+    static final class MeshBuffers {
+
+        private final FloatBuffer vertices;
+        private final FloatBuffer normals;
+
+        MeshBuffers(FloatBuffer vertices, FloatBuffer normals) {
+            this.vertices = vertices;
+            this.normals = normals;
+        }
+
+        /**
+         * @return Kopie der Eckpunkte
+         */
+        FloatBuffer getVertices() {
+            return copy(vertices);
+        }
+
+        /**
+         * @return Kopie der Normalen
+         */
+        FloatBuffer getNormals() {
+            return copy(normals);
+        }
+
+        private static FloatBuffer copy(FloatBuffer source) {
+            FloatBuffer buffer = BufferUtils.createFloatBuffer(source.capacity());
+            FloatBuffer view = source.duplicate();
+            view.clear();
+            buffer.put(view);
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
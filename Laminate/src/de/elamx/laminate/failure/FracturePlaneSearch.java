@@ -0,0 +1,186 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.failure;
+
+/**
+ * Hilfsklasse für Versagenskriterien, die die maßgebende Bruchebene durch
+ * Variation des Bruchwinkels alpha suchen (z.B. LaRC03).<br>
+ * <br>
+ * Die Suche erfolgt zunächst wie bisher in 1°-Schritten. Die Winkelfunktionen
+ * der ganzzahligen Winkel werden dabei einmalig tabelliert, sodass der Scan
+ * ohne Aufrufe von <CODE>Math.sin</CODE> und <CODE>Math.cos</CODE> auskommt
+ * und exakt die gleichen Werte liefert wie
+ * <CODE>Math.cos(Math.toRadians(alpha))</CODE>. Anschließend kann das
+ * Maximum des Anstrengungsmaßes im Intervall &plusmn;1° um den besten
+ * Scanwinkel mit einem Goldenen Schnitt verfeinert werden. Da der
+ * Scanwert dabei nicht unterschritten wird, ist das Ergebnis der
+ * verfeinerten Suche nie unkonservativer als das des 1°-Scans.
+ *
+ * @author Andreas Hauffe
+ */
+public final class FracturePlaneSearch {
+
+    /**
+     * Anstrengungsmaß in Abhängigkeit des Bruchwinkels alpha.
+     */
+    public interface FailureIndex {
+
+        /**
+         * Liefert das Anstrengungsmaß für den Bruchwinkel alpha.
+         *
+         * @param cosAlpha cos(alpha)
+         * @param sinAlpha sin(alpha)
+         * @return Anstrengungsmaß
+         */
+        double value(double cosAlpha, double sinAlpha);
+    }
+
+    /**
+     * Standardtoleranz der Verfeinerung in rad (ca. 0.0006°).
+     */
+    public static final double DEFAULT_TOLERANCE = 1.0e-5;
+
+    private static final double INV_PHI = (Math.sqrt(5.0) - 1.0) / 2.0;
+
+    // Tabellen für 0° bis 360°
+    private static final int TABLE_SIZE = 361;
+    private static final double[] COS = new double[TABLE_SIZE];
+    private static final double[] SIN = new double[TABLE_SIZE];
+
+    static {
+        for (int ii = 0; ii < TABLE_SIZE; ii++) {
+            double rad = Math.toRadians(ii);
+            COS[ii] = Math.cos(rad);
+            SIN[ii] = Math.sin(rad);
+        }
+    }
+
+    private FracturePlaneSearch() {
+    }
+
+    /**
+     * Liefert cos(deg°). Das Ergebnis ist identisch zu
+     * <CODE>Math.cos(Math.toRadians(deg))</CODE>.
+     *
+     * @param deg Winkel in Grad
+     * @return cos(deg°)
+     */
+    public static double cosDeg(int deg) {
+        return deg >= 0 && deg < TABLE_SIZE ? COS[deg] : Math.cos(Math.toRadians(deg));
+    }
+
+    /**
+     * Liefert sin(deg°). Das Ergebnis ist identisch zu
+     * <CODE>Math.sin(Math.toRadians(deg))</CODE>.
+     *
+     * @param deg Winkel in Grad
+     * @return sin(deg°)
+     */
+    public static double sinDeg(int deg) {
+        return deg >= 0 && deg < TABLE_SIZE ? SIN[deg] : Math.sin(Math.toRadians(deg));
+    }
+
+    /**
+     * Sucht den ganzzahligen Winkel im Intervall [fromDeg, toDeg] mit dem
+     * größten Anstrengungsmaß. Bei gleichen Werten wird der größere Winkel
+     * geliefert.
+     *
+     * @param index Anstrengungsmaß
+     * @param fromDeg kleinster Winkel in Grad
+     * @param toDeg größter Winkel in Grad
+     * @return Winkel in Grad mit dem größten Anstrengungsmaß
+     */
+    public static int scan(FailureIndex index, int fromDeg, int toDeg) {
+        int best = fromDeg;
+        double fMax = Double.NEGATIVE_INFINITY;
+        for (int alpha = fromDeg; alpha <= toDeg; alpha++) {
+            double f = index.value(cosDeg(alpha), sinDeg(alpha));
+            if (f >= fMax) {
+                fMax = f;
+                best = alpha;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Liefert das größte Anstrengungsmaß im Intervall [fromDeg, toDeg]. Das
+     * Ergebnis des 1°-Scans wird mit der Toleranz
+     * {@link #DEFAULT_TOLERANCE} verfeinert.
+     *
+     * @param index Anstrengungsmaß
+     * @param fromDeg kleinster Winkel in Grad
+     * @param toDeg größter Winkel in Grad
+     * @return größtes Anstrengungsmaß
+     */
+    public static double maximize(FailureIndex index, int fromDeg, int toDeg) {
+        return maximize(index, fromDeg, toDeg, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Liefert das größte Anstrengungsmaß im Intervall [fromDeg, toDeg]. Nach
+     * dem 1°-Scan wird das Maximum im Intervall &plusmn;1° um den besten
+     * Winkel mit einem Goldenen Schnitt bis zur Intervallbreite
+     * <CODE>tolerance</CODE> verfeinert. Bei <CODE>tolerance &lt;= 0</CODE>
+     * wird nur der Scan durchgeführt.
+     *
+     * @param index Anstrengungsmaß
+     * @param fromDeg kleinster Winkel in Grad
+     * @param toDeg größter Winkel in Grad
+     * @param tolerance Intervallbreite in rad, bis zu der verfeinert wird
+     * @return größtes Anstrengungsmaß, mindestens das Ergebnis des 1°-Scans
+     */
+    public static double maximize(FailureIndex index, int fromDeg, int toDeg, double tolerance) {
+        int best = scan(index, fromDeg, toDeg);
+        double fMax = index.value(cosDeg(best), sinDeg(best));
+        if (tolerance <= 0.0 || fromDeg >= toDeg) {
+            return fMax;
+        }
+
+        double a = Math.toRadians(Math.max(fromDeg, best - 1));
+        double b = Math.toRadians(Math.min(toDeg, best + 1));
+        double c = b - INV_PHI * (b - a);
+        double d = a + INV_PHI * (b - a);
+        double fc = index.value(Math.cos(c), Math.sin(c));
+        double fd = index.value(Math.cos(d), Math.sin(d));
+        while (b - a > tolerance) {
+            if (fc >= fd) {
+                b = d;
+                d = c;
+                fd = fc;
+                c = b - INV_PHI * (b - a);
+                fc = index.value(Math.cos(c), Math.sin(c));
+            } else {
+                a = c;
+                c = d;
+                fc = fd;
+                d = a + INV_PHI * (b - a);
+                fd = index.value(Math.cos(d), Math.sin(d));
+            }
+        }
+        return Math.max(fMax, Math.max(fc, fd));
+    }
+}
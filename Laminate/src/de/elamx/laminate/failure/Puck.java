@@ -68,136 +68,220 @@ public class Puck extends Criterion {
         
     }
 
+    // Versagensarten, siehe evaluate
+    private static final int MODE_NONE = 0;
+    private static final int MODE_MATRIX = 1;
+    private static final int MODE_MATRIX_A = 2;
+    private static final int MODE_MATRIX_B = 3;
+    private static final int MODE_MATRIX_C = 4;
+    private static final int MODE_FIBER_TENSION = 5;
+    private static final int MODE_FIBER_COMPRESSION = 6;
+
+    private static final String[] MODE_NAMES = {null, null, "MatrixFailureModusA", "MatrixFailureModusB",
+        "MatrixFailureModusC", "FiberFailureTension", "FiberFailureCompression"};
+    private static final int[] MODE_TYPES = {ReserveFactor.UNDAMAGED, ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE, ReserveFactor.MATRIX_FAILURE,
+        ReserveFactor.FIBER_FAILURE, ReserveFactor.FIBER_FAILURE};
+
+    private static final String MESSAGE = "Error in Puck-Criteria! Check if the value is zero: ";
+
     @Override
     public ReserveFactor getReserveFactor(Material material, Layer layer, StressStrainState sss) {
-
-        double dTemp;
-        String message = "Error in Puck-Criteria! Check if the value is zero: ";
-
-        double Pspd = material.getAdditionalValue(PSPD);
-        double Pspz = material.getAdditionalValue(PSPZ);
-        double a0 = material.getAdditionalValue(A0);
-        double lambdamin = material.getAdditionalValue(LAMBDA_MIN);
-
         double[] stresses = sss.getStress();
+        double[] result = new double[1];
+        int mode = evaluate(getParameters(material, Parameters::new), stresses[0], stresses[1], stresses[2], result, 0);
+
         ReserveFactor rf = new ReserveFactor();
+        rf.setMinimalReserveFactor(result[0]);
+        rf.setFailureType(MODE_TYPES[mode]);
+        rf.setFailureName(MODE_NAMES[mode] == null ? "" : failureNameMap.get(MODE_NAMES[mode]));
+        return rf;
+    }
 
-        if (stresses[0] == 0.0 && stresses[1] == 0.0 && stresses[2] == 0.0) {
-            rf.setFailureName("");
-            rf.setMinimalReserveFactor(Double.POSITIVE_INFINITY);
-            return rf;
+    @Override
+    public void getReserveFactors(Material material, Layer layer, double[] stresses, double[] strains,
+            int numPoints, double[] reserveFactors, int[] failureTypes) {
+        Parameters p = getParameters(material, Parameters::new);
+        for (int ii = 0; ii < numPoints; ii++) {
+            int mode = evaluate(p, stresses[3 * ii], stresses[3 * ii + 1], stresses[3 * ii + 2], reserveFactors, ii);
+            if (failureTypes != null) {
+                failureTypes[ii] = MODE_TYPES[mode];
+            }
         }
+    }
 
-        double Afb;
+    /**
+     * Berechnet den Reservefaktor eines Spannungszustandes.
+     *
+     * @param p Parameter des Materials
+     * @param s11 Spannung in Faserrichtung
+     * @param s22 Spannung quer zur Faserrichtung
+     * @param s12 Schubspannung
+     * @param rf Ergebnisfeld für den Reservefaktor
+     * @param index Index des Reservefaktors im Ergebnisfeld
+     * @return Versagensart (MODE_*)
+     */
+    private static int evaluate(Parameters p, double s11, double s22, double s12, double[] rf, int index) {
 
-        if (stresses[0] >= 0.0) {
-            Afb = stresses[0] / material.getRParTen();
-        } else {
-            Afb = -stresses[0] / material.getRParCom();
+        double dTemp;
+
+        if (s11 == 0.0 && s22 == 0.0 && s12 == 0.0) {
+            rf[index] = Double.POSITIVE_INFINITY;
+            return MODE_NONE;
         }
 
-        double Rass = 0.5 * material.getRShear() / Pspd;
+        double Afb;
 
-        dTemp = 1.0 + 2.0 * Pspd * material.getRNorCom() / material.getRShear();
-        if (dTemp < 0.0) {
-            throw new ArithmeticException("illegal double value: " + dTemp);
+        if (s11 >= 0.0) {
+            Afb = s11 / p.rParTen;
+        } else {
+            Afb = -s11 / p.rParCom;
         }
-        Rass = Rass * (Math.sqrt(dTemp) - 1.0);
-
-        double Pssd = Pspd * Rass / material.getRShear();
 
-        dTemp = 1.0 + 2.0 * Pssd;
-        if (dTemp < 0.0) {
-            throw new ArithmeticException("illegal double value: " + dTemp);
+        if (p.error != null) {
+            throw new ArithmeticException(p.error);
         }
-        double tauxyc = material.getRShear() * Math.sqrt(dTemp);
 
         double Azfb;
+        double resFac = 0.0;
+        int mode = MODE_MATRIX;
 
-        if (stresses[1] == 0.0 && stresses[2] == 0.0) {
+        if (s22 == 0.0 && s12 == 0.0) {
             Azfb = 0.0;
         } else {
-            if (stresses[1] > 0.0) {
+            if (s22 > 0.0) {
                 // Modus A
-                double a = (1.0 - Pspz * material.getRNorTen() / material.getRShear()) / material.getRNorTen();
-                a *= a;
-                double b = 1.0 / material.getRShear() / material.getRShear();
-                double c = Pspz / material.getRShear();
-
-                dTemp = a * stresses[1] * stresses[1] + b * stresses[2] * stresses[2];
+                dTemp = p.aA * s22 * s22 + p.b * s12 * s12;
                 if (dTemp < 0.0) {
-                    throw new ArithmeticException(message + dTemp);
+                    throw new ArithmeticException(MESSAGE + dTemp);
                 }
-                Azfb = Math.sqrt(dTemp) + c * stresses[1];
-                rf.setMinimalReserveFactor(1.0 / Azfb);
-                rf.setFailureName(failureNameMap.get("MatrixFailureModusA"));
+                Azfb = Math.sqrt(dTemp) + p.cA * s22;
+                resFac = 1.0 / Azfb;
+                mode = MODE_MATRIX_A;
 
-            } else if (0 <= Math.abs(stresses[2] / stresses[1])
-                    && Math.abs(stresses[1] / stresses[2]) <= Rass / Math.abs(tauxyc)) {
+            } else if (0 <= Math.abs(s12 / s22)
+                    && Math.abs(s22 / s12) <= p.rass / Math.abs(p.tauxyc)) {
                 //Modus B
-                double a = Pspd / material.getRShear();
-                a *= a;
-                double b = 1.0 / material.getRShear() / material.getRShear();
-                double c = Pspd / material.getRShear();
-
-                dTemp = a * stresses[1] * stresses[1] + b * stresses[2] * stresses[2];
+                dTemp = p.aB * s22 * s22 + p.b * s12 * s12;
                 if (dTemp < 0.0) {
-                    throw new ArithmeticException(message + dTemp);
+                    throw new ArithmeticException(MESSAGE + dTemp);
                 }
-                Azfb = Math.sqrt(dTemp) + c * stresses[1];
+                Azfb = Math.sqrt(dTemp) + p.cB * s22;
 
-                rf.setMinimalReserveFactor(1.0 / Azfb);
-                rf.setFailureName(failureNameMap.get("MatrixFailureModusB"));
+                resFac = 1.0 / Azfb;
+                mode = MODE_MATRIX_B;
             } else {
                 //Modus C
-                double a = 1 / material.getRNorCom() / material.getRNorCom();
-                double b = 0.5 / ((1 + Pssd) * material.getRShear());
-                b *= b;
-                double c = -material.getRNorCom();
+                Azfb = (p.aC * s22 * s22 + p.bC * s12 * s12) * p.cC / s22;
 
-                Azfb = (a * stresses[1] * stresses[1] + b * stresses[2] * stresses[2]) * c / stresses[1];
-
-                rf.setMinimalReserveFactor(1.0 / Azfb);
-                rf.setFailureName(failureNameMap.get("MatrixFailureModusC"));
+                resFac = 1.0 / Azfb;
+                mode = MODE_MATRIX_C;
             }
         }
 
         double rfTempMin = Afb > Azfb ? 1 / Afb : 1 / Azfb;
 
-        if (Azfb != 0 && (rfTempMin * stresses[0] > a0 * material.getRParTen() || rfTempMin * stresses[0] < -a0 * material.getRParCom())) {
+        if (Azfb != 0 && (rfTempMin * s11 > p.a0 * p.rParTen || rfTempMin * s11 < -p.a0 * p.rParCom)) {
             // Abschwächung
 
-            dTemp = 1 - lambdamin * lambdamin;
-            if (dTemp < 0.0) {
-                throw new ArithmeticException(message + dTemp);
+            if (p.lambdaError != null) {
+                throw new ArithmeticException(p.lambdaError);
             }
-            double a = (1 - a0) / (Math.sqrt(dTemp));
+            double a = p.aWeakening;
 
             double delta = Azfb / Afb;
 
-            dTemp = 1.0 + delta * delta * (a * a - a0 * a0);
+            dTemp = 1.0 + delta * delta * (a * a - p.a0 * p.a0);
             if (dTemp < 0.0) {
-                throw new ArithmeticException(message + dTemp);
+                throw new ArithmeticException(MESSAGE + dTemp);
             }
-            double lambda = (a0 + a * Math.sqrt(dTemp)) / (1.0 + a * a * delta * delta) * delta;
+            double lambda = (p.a0 + a * Math.sqrt(dTemp)) / (1.0 + a * a * delta * delta) * delta;
 
             Azfb = Azfb / lambda;
-            rf.setMinimalReserveFactor(1.0 / Azfb);
+            resFac = 1.0 / Azfb;
         }
 
-        rf.setFailureType(ReserveFactor.MATRIX_FAILURE);
-
         if (Afb > Azfb) {
-            rf.setMinimalReserveFactor(1.0 / Afb);
-            if (stresses[0] >= 0.0) {
-                rf.setFailureName(failureNameMap.get("FiberFailureTension"));
-            } else {
-                rf.setFailureName(failureNameMap.get("FiberFailureCompression"));
-            }
-            rf.setFailureType(ReserveFactor.FIBER_FAILURE);
+            resFac = 1.0 / Afb;
+            mode = s11 >= 0.0 ? MODE_FIBER_TENSION : MODE_FIBER_COMPRESSION;
         }
 
-        return rf;
+        rf[index] = resFac;
+        return mode;
+    }
+
+    /**
+     * Parameter des Puck-Kriteriums, die nur vom Material abhängen. Fehler
+     * bei der Berechnung werden gespeichert und erst bei der Auswertung eines
+     * Spannungszustandes geworfen, damit sich das Kriterium für einen
+     * spannungsfreien Zustand wie bisher verhält.
+     */
+    private static final class Parameters {
+
+        private final double rParTen;
+        private final double rParCom;
+        private final double a0;
+        private final double rass;
+        private final double tauxyc;
+        // Hilfsgrößen sqrt(a * sigma_y^2 + b * tau_xy^2) + c * sigma_y der Modi
+        private final double aA, cA, aB, cB, b;
+        // Hilfsgrößen (a * sigma_y^2 + b * tau_xy^2) * c / sigma_y für Modus C
+        private final double aC, bC, cC;
+        private final double aWeakening;
+        private final String error;
+        private final String lambdaError;
+
+        private Parameters(Material material) {
+            double Pspd = material.getAdditionalValue(PSPD);
+            double Pspz = material.getAdditionalValue(PSPZ);
+            double lambdamin = material.getAdditionalValue(LAMBDA_MIN);
+            double rShear = material.getRShear();
+            double rNorTen = material.getRNorTen();
+            double rNorCom = material.getRNorCom();
+
+            rParTen = material.getRParTen();
+            rParCom = material.getRParCom();
+            a0 = material.getAdditionalValue(A0);
+
+            String err = null;
+            double dTemp;
+
+            double Rass = 0.5 * rShear / Pspd;
+
+            dTemp = 1.0 + 2.0 * Pspd * rNorCom / rShear;
+            if (dTemp < 0.0) {
+                err = "illegal double value: " + dTemp;
+            }
+            Rass = Rass * (Math.sqrt(dTemp) - 1.0);
+            rass = Rass;
+
+            double Pssd = Pspd * Rass / rShear;
+
+            dTemp = 1.0 + 2.0 * Pssd;
+            if (dTemp < 0.0 && err == null) {
+                err = "illegal double value: " + dTemp;
+            }
+            tauxyc = rShear * Math.sqrt(dTemp);
+            error = err;
+
+            double a = (1.0 - Pspz * rNorTen / rShear) / rNorTen;
+            aA = a * a;
+            b = 1.0 / rShear / rShear;
+            cA = Pspz / rShear;
+
+            a = Pspd / rShear;
+            aB = a * a;
+            cB = Pspd / rShear;
+
+            aC = 1 / rNorCom / rNorCom;
+            double bTemp = 0.5 / ((1 + Pssd) * rShear);
+            bC = bTemp * bTemp;
+            cC = -rNorCom;
+
+            dTemp = 1 - lambdamin * lambdamin;
+            lambdaError = dTemp < 0.0 ? MESSAGE + dTemp : null;
+            aWeakening = (1 - a0) / (Math.sqrt(dTemp));
+        }
     }
 
     @Override
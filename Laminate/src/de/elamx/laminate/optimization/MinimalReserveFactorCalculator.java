@@ -39,5 +39,31 @@ public interface MinimalReserveFactorCalculator {
     
     public MinimalReserveFactorCalculator getCopy();
     
+    /**
+     * Erzeugt einen neuen Auswertekontext für die Verwendung in einem
+     * einzelnen Thread. Die Standardimplementierung arbeitet auf einer Kopie
+     * dieses Rechners und ist damit unabhängig von späteren Änderungen der
+     * Eingabe. Implementierungen sollten diese Methode überschreiben, wenn die
+     * Auswertung Lookups oder gemeinsam genutzte Objekte verändert.
+     *
+     * @return neuer Auswertekontext
+     */
+    public default MinimalReserveFactorContext createContext() {
+        final MinimalReserveFactorCalculator copy = getCopy();
+        return copy::getMinimalReserveFactor;
+    }
+    
+    /**
+     * Liefert, ob der minimale Reservefaktor eines Laminats mit dem des in
+     * Dickenrichtung gespiegelten Laminats (umgekehrte Lagenreihenfolge)
+     * übereinstimmt. Optimierer können gespiegelte Entwürfe dann
+     * überspringen. Die Standardimplementierung liefert false.
+     *
+     * @return true, wenn die Lagenreihenfolge umgekehrt werden darf
+     */
+    public default boolean isInvariantToReversedStacking() {
+        return false;
+    }
+    
     public String getHtmlString();
 }
@@ -0,0 +1,74 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.optimization;
+
+import de.elamx.laminate.Laminat;
+
+/**
+ * Auswertekontext eines {@link MinimalReserveFactorCalculator}. Ein Kontext
+ * hält eine eigene, unveränderliche Kopie der Eingabedaten sowie eigene
+ * Arbeitsobjekte. Er verändert weder die Eingabe des Rechners noch die Lookups
+ * des übergebenen Laminats. Ein Kontext darf immer nur von einem Thread
+ * gleichzeitig verwendet werden, mehrere Kontexte desselben Rechners können
+ * aber parallel verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public interface MinimalReserveFactorContext {
+    
+    public double getMinimalReserveFactor(Laminat laminat);
+    
+    /**
+     * Liefert den minimalen Reservefaktor für einen kompakten Lagenaufbau.
+     * Die Standardimplementierung erzeugt dafür ein <CODE>Laminat</CODE>.
+     * Implementierungen, die den Aufbau direkt bewerten können, sollten diese
+     * Methode überschreiben.
+     *
+     * @param sequence Lagenaufbau
+     * @return minimaler Reservefaktor
+     */
+    public default double getMinimalReserveFactor(StackingSequence sequence) {
+        return getMinimalReserveFactor(sequence.toLaminat());
+    }
+
+    /**
+     * Liefert eine obere Schranke für den minimalen Reservefaktor aller
+     * Aufbauten mit <CODE>numberOfLayers</CODE> Lagen, deren äußere Lagen
+     * <CODE>fixedLayers</CODE> entsprechen und deren übrige Lagen beliebige
+     * Winkel aus <CODE>angleIndices</CODE> besitzen. Die Lagenanzahlen
+     * beziehen sich wie bei {@link StackingSequence#getNumberOfLayers()} bei
+     * symmetrischen Definitionen auf die obere Laminathälfte. Die
+     * Standardimplementierung kennt keine Schranke und liefert unendlich.
+     *
+     * @param fixedLayers festgelegte äußere Lagen
+     * @param numberOfLayers Anzahl der Lagen der vollständigen Aufbauten
+     * @param angleIndices mögliche Winkelindizes der übrigen Lagen
+     * @return obere Schranke des minimalen Reservefaktors
+     */
+    public default double getReserveFactorBound(StackingSequence fixedLayers, int numberOfLayers, int[] angleIndices) {
+        return Double.POSITIVE_INFINITY;
+    }
+}
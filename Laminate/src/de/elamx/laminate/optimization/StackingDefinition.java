@@ -0,0 +1,231 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.optimization;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.Laminat;
+import java.util.ArrayList;
+
+/**
+ * Entwurfsraum einer Lagenaufbauoptimierung. Jede Lage eines Entwurfs wird
+ * aus einer festen Liste möglicher Lagen gewählt. Im Normalfall besitzen alle
+ * diese Lagen dasselbe Material, dieselbe Dicke und dasselbe
+ * Versagenskriterium und unterscheiden sich nur im Winkel. Für Verfahren mit
+ * Hilfslagen (z.B. Superlagen) können aber auch beliebige Lagen vorgegeben
+ * werden. Der Index einer Lage in dieser Liste wird als Winkelindex
+ * bezeichnet. Die Entwürfe selbst werden als {@link StackingSequence}
+ * mit Winkelindizes gespeichert, sodass während der Optimierung keine
+ * <CODE>Laminat</CODE>- und <CODE>DataLayer</CODE>-Objekte erzeugt werden
+ * müssen. Ein <CODE>Laminat</CODE> wird nur bei Bedarf mit
+ * {@link #createLaminat(StackingSequence)} erzeugt.<br>
+ * <br>
+ * Objekte dieser Klasse sind unveränderlich und können von mehreren Threads
+ * gleichzeitig verwendet werden.
+ *
+ * @author Andreas Hauffe
+ */
+public final class StackingDefinition {
+
+    /**
+     * Maximale Anzahl möglicher Winkel, die noch mit einem <CODE>byte</CODE>
+     * indiziert werden können.
+     */
+    public static final int MAX_NUMBER_OF_ANGLES = 256;
+
+    private final double[] angles;
+    private final boolean symmetric;
+    // Lagen je Winkel, [0] am Rand des Laminats, [1] eingebettet
+    private final DataLayer[][] layers;
+
+    /**
+     * Erzeugt einen neuen Entwurfsraum.
+     *
+     * @param baseLayer Lage, deren Material, Dicke und Versagenskriterium für
+     * alle Lagen verwendet wird
+     * @param angles mögliche Winkel im Gradmaß
+     * @param symmetric true, wenn die Entwürfe nur eine Laminathälfte
+     * beschreiben und symmetrisch ergänzt werden
+     */
+    public StackingDefinition(DataLayer baseLayer, double[] angles, boolean symmetric) {
+        this(createPlyLayers(baseLayer, angles), angles, symmetric);
+    }
+
+    /**
+     * Erzeugt einen neuen Entwurfsraum mit beliebigen möglichen Lagen. Die
+     * Winkel werden den Lagen entnommen.
+     *
+     * @param plyLayers mögliche Lagen, werden nicht verändert
+     * @param symmetric true, wenn die Entwürfe nur eine Laminathälfte
+     * beschreiben und symmetrisch ergänzt werden
+     */
+    public StackingDefinition(DataLayer[] plyLayers, boolean symmetric) {
+        this(plyLayers, getAngles(plyLayers), symmetric);
+    }
+
+    private StackingDefinition(DataLayer[] plyLayers, double[] angles, boolean symmetric) {
+        if (plyLayers.length == 0 || plyLayers.length > MAX_NUMBER_OF_ANGLES) {
+            throw new IllegalArgumentException("Number of angles must be between 1 and " + MAX_NUMBER_OF_ANGLES);
+        }
+        this.angles = angles.clone();
+        this.symmetric = symmetric;
+        this.layers = new DataLayer[2][plyLayers.length];
+        for (int ii = 0; ii < plyLayers.length; ii++) {
+            layers[0][ii] = plyLayers[ii].getCopyWithoutListeners(plyLayers[ii].getAngle(), false);
+            layers[1][ii] = plyLayers[ii].getCopyWithoutListeners(plyLayers[ii].getAngle(), true);
+        }
+    }
+
+    private static DataLayer[] createPlyLayers(DataLayer baseLayer, double[] angles) {
+        DataLayer[] plyLayers = new DataLayer[angles.length];
+        for (int ii = 0; ii < angles.length; ii++) {
+            plyLayers[ii] = baseLayer.getCopyWithoutListeners(angles[ii]);
+        }
+        return plyLayers;
+    }
+
+    private static double[] getAngles(DataLayer[] plyLayers) {
+        double[] angles = new double[plyLayers.length];
+        for (int ii = 0; ii < plyLayers.length; ii++) {
+            angles[ii] = plyLayers[ii].getAngle();
+        }
+        return angles;
+    }
+
+    public int getNumberOfAngles() {
+        return angles.length;
+    }
+
+    public double getAngle(int angleIndex) {
+        return angles[angleIndex];
+    }
+
+    public double[] getAngles() {
+        return angles.clone();
+    }
+
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * Liefert den Index des übergebenen Winkels. Neben den übergebenen
+     * Winkeln werden auch die von <CODE>DataLayer</CODE> auf -90° bis 90°
+     * reduzierten Winkel erkannt.
+     *
+     * @param angle Winkel im Gradmaß
+     * @return Index des Winkels oder -1, falls der Winkel nicht enthalten ist
+     */
+    public int getAngleIndex(double angle) {
+        for (int ii = 0; ii < angles.length; ii++) {
+            if (angles[ii] == angle || layers[0][ii].getAngle() == angle) {
+                return ii;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Liefert die gemeinsam genutzte Lage für den übergebenen Winkelindex.
+     * Die Lage gehört zu keinem Laminat und darf nicht verändert werden.
+     *
+     * @param angleIndex Winkelindex
+     * @param embedded true, wenn die Lage von weiteren Lagen umgeben ist
+     * @return Lage
+     */
+    public DataLayer getLayer(int angleIndex, boolean embedded) {
+        return layers[embedded ? 1 : 0][angleIndex];
+    }
+
+    /**
+     * Erzeugt einen Entwurf aus den übergebenen Winkelindizes.
+     *
+     * @param angleIndices Winkelindizes, werden kopiert
+     * @return neuer Entwurf
+     */
+    public StackingSequence createSequence(byte[] angleIndices) {
+        for (byte index : angleIndices) {
+            if ((index & 0xFF) >= angles.length) {
+                throw new IllegalArgumentException("Angle index out of range: " + (index & 0xFF));
+            }
+        }
+        return new StackingSequence(this, angleIndices.clone());
+    }
+
+    /**
+     * Erzeugt einen Entwurf aus den ersten <CODE>numLayers</CODE> Winkeln.
+     * Alle Winkel müssen in der Liste der möglichen Winkel enthalten sein.
+     *
+     * @param plyAngles Winkel im Gradmaß
+     * @param numLayers Anzahl der Lagen
+     * @return neuer Entwurf
+     */
+    public StackingSequence createSequence(double[] plyAngles, int numLayers) {
+        byte[] indices = new byte[numLayers];
+        for (int ii = 0; ii < numLayers; ii++) {
+            int index = getAngleIndex(plyAngles[ii]);
+            if (index < 0) {
+                throw new IllegalArgumentException("Angle " + plyAngles[ii] + " is not part of the stacking definition");
+            }
+            indices[ii] = (byte) index;
+        }
+        return new StackingSequence(this, indices);
+    }
+
+    /**
+     * Erzeugt ein neues, nicht beobachtetes Laminat für den übergebenen
+     * Entwurf. Die Lagen werden als Kopien der möglichen Lagen ohne
+     * Listener erzeugt.
+     *
+     * @param sequence Entwurf
+     * @return neues Laminat
+     */
+    public Laminat createLaminat(StackingSequence sequence) {
+        return createLaminat("", "", sequence);
+    }
+
+    /**
+     * Erzeugt ein neues, nicht beobachtetes Laminat mit der übergebenen ID
+     * und dem übergebenen Namen für den Entwurf.
+     *
+     * @param uid ID des Laminats
+     * @param name Name des Laminats
+     * @param sequence Entwurf
+     * @return neues Laminat
+     */
+    public Laminat createLaminat(String uid, String name, StackingSequence sequence) {
+        Laminat laminat = new Laminat(uid, name, false);
+        laminat.setSymmetric(symmetric);
+
+        ArrayList<DataLayer> newLayers = new ArrayList<>(sequence.getNumberOfLayers());
+        for (int ii = 0; ii < sequence.getNumberOfLayers(); ii++) {
+            DataLayer plyLayer = layers[0][sequence.getAngleIndex(ii)];
+            newLayers.add(plyLayer.getCopyWithoutListeners(plyLayer.getAngle()));
+        }
+        laminat.addLayers(newLayers);
+
+        return laminat;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminate.optimization;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.Laminat;
+import java.util.Arrays;
+
+/**
+ * Kompakter, unveränderlicher Lagenaufbau innerhalb einer
+ * {@link StackingDefinition}. Je Lage wird nur der Index des Winkels als
+ * <CODE>byte</CODE> gespeichert. Die Lage mit dem Index 0 liegt wie im
+ * <CODE>Laminat</CODE> bei t<sub>ges</sub>/2. Bei symmetrischen
+ * Definitionen beschreibt der Aufbau nur die obere Laminathälfte.
+ *
+ * @author Andreas Hauffe
+ */
+public final class StackingSequence {
+
+    private final StackingDefinition definition;
+    private final byte[] angleIndices;
+
+    StackingSequence(StackingDefinition definition, byte[] angleIndices) {
+        this.definition = definition;
+        this.angleIndices = angleIndices;
+    }
+
+    public StackingDefinition getDefinition() {
+        return definition;
+    }
+
+    public int getNumberOfLayers() {
+        return angleIndices.length;
+    }
+
+    /**
+     * Liefert die Anzahl aller Lagen inklusive der symmetrischen Lagen.
+     *
+     * @return Anzahl aller Lagen
+     */
+    public int getNumberOfAllLayers() {
+        return definition.isSymmetric() ? 2 * angleIndices.length : angleIndices.length;
+    }
+
+    public int getAngleIndex(int layer) {
+        return angleIndices[layer] & 0xFF;
+    }
+
+    public double getAngle(int layer) {
+        return definition.getAngle(angleIndices[layer] & 0xFF);
+    }
+
+    public byte[] getAngleIndices() {
+        return angleIndices.clone();
+    }
+
+    /**
+     * Liefert den Winkelindex einer Lage bezogen auf alle Lagen inklusive der
+     * symmetrischen Lagen (siehe <CODE>Laminat.getAllLayers()</CODE>).
+     *
+     * @param layer Index bezogen auf alle Lagen
+     * @return Winkelindex
+     */
+    public int getAngleIndexOfAllLayers(int layer) {
+        if (layer >= angleIndices.length) {
+            layer = 2 * angleIndices.length - 1 - layer;
+        }
+        return angleIndices[layer] & 0xFF;
+    }
+
+    /**
+     * Liefert, ob eine Lage bezogen auf alle Lagen inklusive der symmetrischen
+     * Lagen von weiteren Lagen umgeben ist. Die Bestimmung entspricht der des
+     * <CODE>Laminat</CODE>.
+     *
+     * @param layer Index bezogen auf alle Lagen
+     * @return true, wenn die Lage eingebettet ist
+     */
+    public boolean isEmbedded(int layer) {
+        if (definition.isSymmetric()) {
+            if (layer >= angleIndices.length) {
+                layer = 2 * angleIndices.length - 1 - layer;
+            }
+            return layer != 0;
+        }
+        return layer != 0 && layer != angleIndices.length - 1;
+    }
+
+    /**
+     * Liefert die gemeinsam genutzte Lage der Definition für eine Lage bezogen
+     * auf alle Lagen. Die Lage darf nicht verändert werden.
+     *
+     * @param layer Index bezogen auf alle Lagen
+     * @return Lage
+     */
+    public DataLayer getLayerOfAllLayers(int layer) {
+        return definition.getLayer(getAngleIndexOfAllLayers(layer), isEmbedded(layer));
+    }
+
+    /**
+     * Liefert einen neuen Aufbau mit einer zusätzlichen Lage an der innersten
+     * Position (höchster Index).
+     *
+     * @param angleIndex Winkelindex der neuen Lage
+     * @return neuer Aufbau
+     */
+    public StackingSequence withAddedLayer(int angleIndex) {
+        byte[] newIndices = Arrays.copyOf(angleIndices, angleIndices.length + 1);
+        newIndices[angleIndices.length] = (byte) angleIndex;
+        return new StackingSequence(definition, newIndices);
+    }
+
+    /**
+     * Liefert einen neuen Aufbau mit einer zusätzlichen Lage an der
+     * übergebenen Position (siehe <CODE>Laminat.addLayer(int, DataLayer)</CODE>).
+     *
+     * @param layer Index der neuen Lage
+     * @param angleIndex Winkelindex der neuen Lage
+     * @return neuer Aufbau
+     */
+    public StackingSequence withInsertedLayer(int layer, int angleIndex) {
+        byte[] newIndices = new byte[angleIndices.length + 1];
+        System.arraycopy(angleIndices, 0, newIndices, 0, layer);
+        newIndices[layer] = (byte) angleIndex;
+        System.arraycopy(angleIndices, layer, newIndices, layer + 1, angleIndices.length - layer);
+        return new StackingSequence(definition, newIndices);
+    }
+
+    /**
+     * Liefert einen neuen Aufbau, bei dem der Winkelindex einer Lage ersetzt
+     * wurde.
+     *
+     * @param layer Index der Lage
+     * @param angleIndex neuer Winkelindex
+     * @return neuer Aufbau
+     */
+    public StackingSequence withAngleIndex(int layer, int angleIndex) {
+        byte[] newIndices = angleIndices.clone();
+        newIndices[layer] = (byte) angleIndex;
+        return new StackingSequence(definition, newIndices);
+    }
+
+    /**
+     * Erzeugt ein neues Laminat mit diesem Lagenaufbau.
+     *
+     * @return neues Laminat
+     * @see StackingDefinition#createLaminat(StackingSequence)
+     */
+    public Laminat toLaminat() {
+        return definition.createLaminat(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof StackingSequence)) {
+            return false;
+        }
+        StackingSequence other = (StackingSequence) obj;
+        return definition == other.definition && Arrays.equals(angleIndices, other.angleIndices);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(definition) + Arrays.hashCode(angleIndices);
+    }
+}
@@ -55,6 +55,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.netbeans.api.progress.ProgressHandle;
 import org.openide.DialogDisplayer;
 import org.openide.NotifyDescriptor;
@@ -401,7 +402,24 @@ public final class LamFailView3DTopComponent extends TopComponent implements Pro
                         layerColor, 
                         firstPlyRButton.isSelected() ? PlyFailureCriterion.FIRST_PLY_FAILURE : PlyFailureCriterion.FINAL_FAILURE, 
                         numOfElements);
-                PlyFailureCriterion.FailureSurfaceResult result = pfc.getCriterion();
+                PlyFailureCriterion.FailureSurfaceResult result = pfc.getCriterion(new Consumer<PlyFailureCriterion.FailureSurfaceResult>() {
+                    @Override
+                    public void accept(PlyFailureCriterion.FailureSurfaceResult preview) {
+                        // Vorschau des groben Gitters anzeigen, bis der
+                        // Versagenskörper vollständig berechnet ist
+                        Mesh previewShape = preview.getFailureBody();
+                        setAppearance(previewShape);
+                        final ArrayList<Mesh> previewShapes = new ArrayList<>(1);
+                        previewShapes.add(previewShape);
+                        final double previewScalFac = preview.getScaleFactor();
+                        EventQueue.invokeLater(new Runnable() {
+                            @Override
+                            public void run() {
+                                view3D.setShape3D(previewShapes, 1.0/previewScalFac);
+                            }
+                        });
+                    }
+                });
                 Mesh shape = result.getFailureBody();
                 if (shape != null){
                     setAppearance(shape); 
@@ -40,9 +40,16 @@ import de.elamx.laminate.Layer;
 import de.elamx.laminate.LayerMaterial;
 import de.elamx.laminate.StressStrainState;
 import de.elamx.laminate.failure.ReserveFactor;
-import de.elamx.mathtools.MatrixTools;
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 
 /**
@@ -72,71 +79,133 @@ public class PlyFailureCriterion{
     private static final double EPS = 1.0E-8;
     private static final double EPS_ZERO = 1.0E-14;
     
+    // Mindestanzahl der Schritte des Vorschaugitters, siehe getPreviewStride
+    private static final int MIN_PREVIEW_STEPS = 16;
+    
+    private final int numberOfThreads_;
+    
     private double scalingFaktor = 0.0;
 
     private final double[] axisIntersections = {0.0, 0.0, 0.0, 0.0, 0.0, 0.0};
     
-    private boolean ABD_ok = true;
-    
     public PlyFailureCriterion(Laminat laminate, ArrayList<Color> layerColor, int failureType, int resolution){
+        this(laminate, layerColor, failureType, resolution, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * @param laminate Laminat
+     * @param layerColor Farben der Lagen
+     * @param failureType {@link #FIRST_PLY_FAILURE} oder {@link #FINAL_FAILURE}
+     * @param resolution Anzahl der Schritte in Alpha- und Betarichtung
+     * @param numberOfThreads maximale Anzahl an Threads für die Berechnung
+     * der Punkte
+     */
+    public PlyFailureCriterion(Laminat laminate, ArrayList<Color> layerColor, int failureType, int resolution, int numberOfThreads){
         this.laminate   = laminate;
         layerColor_     = layerColor;
         failureType_    = failureType;
         alphaSteps_     = (int)(resolution/4.0+0.76)*4;                         // Die Anzahl der Schritte muss durch vier teilbar sein, damit die Schnittpunkte mit den Achsen Teile der Punktwolke sind.
         betaSteps_      = alphaSteps_;
+        numberOfThreads_ = Math.max(1, numberOfThreads);
     }
     
     public FailureSurfaceResult getCriterion(){
+        return getCriterion(null);
+    }
+    
+    /**
+     * Berechnet den Versagenskörper. Wird ein <CODE>preview</CODE> übergeben,
+     * so wird zunächst ein gröberes Gitter berechnet und als Vorschau
+     * übergeben. Anschließend werden nur noch die fehlenden Punkte des feinen
+     * Gitters berechnet. Das Ergebnis ist in beiden Fällen identisch. Die
+     * Vorschau wird im aufrufenden Thread übergeben.
+     * 
+     * @param preview Empfänger der Vorschau, kann <CODE>null</CODE> sein
+     * @return Versagenskörper oder <CODE>null</CODE>, falls das Laminat keine
+     * Lagen besitzt
+     */
+    public FailureSurfaceResult getCriterion(Consumer<FailureSurfaceResult> preview){
         
         if (laminate.getLayers().isEmpty()){
             return null;
         }
         
-        double[][][] punkte = getPointInformation();
+        CLT_Laminate clt_lam = laminate.getLookup().lookup(CLT_Laminate.class);
+        if (clt_lam == null) {
+            clt_lam = new CLT_Laminate(laminate);
+        }
+        CLT_Layer[] origLayers = clt_lam.getCLTLayers();
+
+        double[][][] punkte = new double [alphaSteps_+1][betaSteps_+1][4];  // Punktinformationen für die Darstellung 1-3 x,y,z Koordinate, 4 Farbe
+        
+        int stride = getPreviewStride();
+        if (preview != null && stride > 1){
+            computePoints(origLayers, punkte, stride, 1);
+            preview.accept(createResult(punkte, stride));
+            computePoints(origLayers, punkte, 1, stride);
+        }else{
+            computePoints(origLayers, punkte, 1, 1);
+        }
+        
+        FailureSurfaceResult result = createResult(punkte, 1);
+        scalingFaktor = result.scaleFactor;
+        System.arraycopy(result.axisIntersections, 0, axisIntersections, 0, axisIntersections.length);
+        
+        return result;
+    }
+    
+    /**
+     * Erzeugt das Netz aus den Punkten, deren Indizes Vielfache von
+     * <CODE>stride</CODE> sind.
+     */
+    private FailureSurfaceResult createResult(double[][][] punkte, int stride){
+        
+        int aSteps = alphaSteps_/stride;
+        int bSteps = betaSteps_/stride;
 
         Vector3 normal;
         
-        Vector3[] vertices = new Vector3[alphaSteps_*betaSteps_*4];
-        Vector3[] normals  = new Vector3[alphaSteps_*betaSteps_*4];
-        ColorRGBA[] colors  = new ColorRGBA[alphaSteps_*betaSteps_*4];
+        Vector3[] vertices = new Vector3[aSteps*bSteps*4];
+        Vector3[] normals  = new Vector3[aSteps*bSteps*4];
+        ColorRGBA[] colors  = new ColorRGBA[aSteps*bSteps*4];
         
         double[] p1,p2,p3,p4;
 
-        for (int i = 0 ; i < alphaSteps_ ; i++){
-            for (int j = 0 ; j < betaSteps_ ; j++){
+        for (int i = 0 ; i < aSteps ; i++){
+            for (int j = 0 ; j < bSteps ; j++){
                 // 1. Punkt des Quads
-                p1 = punkte[i][j];
-                p2 = punkte[i+1][j];
-                p3 = punkte[i+1][j+1];
-                p4 = punkte[i][j+1];
+                p1 = punkte[i*stride][j*stride];
+                p2 = punkte[(i+1)*stride][j*stride];
+                p3 = punkte[(i+1)*stride][(j+1)*stride];
+                p4 = punkte[i*stride][(j+1)*stride];
 
-                vertices[4*(j+i*betaSteps_)+3] = new Vector3((float)(p1[0]),(float)(p1[1]),(float)(p1[2]));
+                vertices[4*(j+i*bSteps)+3] = new Vector3((float)(p1[0]),(float)(p1[1]),(float)(p1[2]));
                 normal = getNormal(p1,p2,p4);
                 normal.normalizeLocal();
-                normals[4*(j+i*betaSteps_)+3] = normal;
+                normals[4*(j+i*bSteps)+3] = normal;
                 Color c = layerColor_.get((int)p1[3]);
-                colors[4*(j+i*betaSteps_)+3] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
+                colors[4*(j+i*bSteps)+3] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
                 // 2. Punkt des Quads
-                vertices[4*(j+i*betaSteps_)+2] = new Vector3((float)(p2[0]),(float)(p2[1]),(float)(p2[2]));
+                vertices[4*(j+i*bSteps)+2] = new Vector3((float)(p2[0]),(float)(p2[1]),(float)(p2[2]));
                 normal = getNormal(p2,p3,p1);
                 normal.normalizeLocal();
-                normals[4*(j+i*betaSteps_)+2] = normal;
+                normals[4*(j+i*bSteps)+2] = normal;
                 c = layerColor_.get((int)p2[3]);
-                colors[4*(j+i*betaSteps_)+2] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
+                colors[4*(j+i*bSteps)+2] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
                 // 3. Punkt des Quads
-                vertices[4*(j+i*betaSteps_)+1] = new Vector3((float)(p3[0]),(float)(p3[1]),(float)(p3[2]));
+                vertices[4*(j+i*bSteps)+1] = new Vector3((float)(p3[0]),(float)(p3[1]),(float)(p3[2]));
                 normal = getNormal(p3,p4,p2);
                 normal.normalizeLocal();
-                normals[4*(j+i*betaSteps_)+1] = normal;
+                normals[4*(j+i*bSteps)+1] = normal;
                 c = layerColor_.get((int)p3[3]);
-                colors[4*(j+i*betaSteps_)+1] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
+                colors[4*(j+i*bSteps)+1] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
                 // 4. Punkt des Quads
-                vertices[4*(j+i*betaSteps_)+0] = new Vector3((float)(p4[0]),(float)(p4[1]),(float)(p4[2]));
+                vertices[4*(j+i*bSteps)+0] = new Vector3((float)(p4[0]),(float)(p4[1]),(float)(p4[2]));
                 normal = getNormal(p4,p1,p3);
                 normal.normalizeLocal();
-                normals[4*(j+i*betaSteps_)+0] = normal;
+                normals[4*(j+i*bSteps)+0] = normal;
                 c = layerColor_.get((int)p4[3]);
-                colors[4*(j+i*betaSteps_)+0] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
+                colors[4*(j+i*bSteps)+0] = new ColorRGBA(c.getRed()/255.f, c.getGreen()/255.f, c.getBlue()/255.f, c.getAlpha()/255.f);
             }
         }
         
@@ -149,8 +218,27 @@ public class PlyFailureCriterion{
         meshData.setIndexMode(IndexMode.Quads);
 
         mesh.updateModelBound();
-
-        return new FailureSurfaceResult(mesh, scalingFaktor, axisIntersections);
+        
+        double maxVal = 0.0;
+        for (int i = 0; i <= aSteps; i++){
+            for (int j = 0; j <= bSteps; j++){
+                for (int kk = 0; kk < 3; kk++){
+                    maxVal = Math.max(maxVal, Math.abs(punkte[i*stride][j*stride][kk]));
+                }
+            }
+        }
+        
+        // Da die Schrittanzahl des groben Gitters durch vier teilbar ist,
+        // liegen die Schnittpunkte mit den Achsen auch darauf.
+        double[] intersections = new double[6];
+        intersections[0] = punkte[alphaSteps_][0][0];
+        intersections[1] = punkte[0][0][0];
+        intersections[2] = punkte[alphaSteps_/2][betaSteps_/4][1];
+        intersections[3] = punkte[alphaSteps_/2][3*betaSteps_/4][1];
+        intersections[4] = punkte[alphaSteps_/2][0][2];
+        intersections[5] = punkte[alphaSteps_/2][betaSteps_/2][2];
+
+        return new FailureSurfaceResult(mesh, maxVal, intersections);
     }
             
     public ColorRGBA getColor() {
@@ -165,169 +253,73 @@ public class PlyFailureCriterion{
         return new ColorRGBA(r,g,b, 1.0f);
     }
 
-    private double[][][] getPointInformation(){
-        int mm,nn;                                      // Hilfvariablen als Zähler
-        int numLayers = laminate.getNumberofLayers();   // Anzahl der Lagen
-
-        boolean[] ZFB  = new boolean[numLayers];        // Vektor, das definiert welche Lagen aktiv sind
-        int numZFBLayers = 0;
-
-        double alpha, beta, cos_alpha;                  // Hilfsgrößen
-        double rfMax;                                   // maximaler Reservefaktor
-        int    layerNum;                                // Lagennummer
-        double lastLayerNum;                            // Lagennummer
-        double RF;                                      // Reservefaktor
-        double dAlpha  = (ALPHA_END-ALPHA_START)/alphaSteps_;   // Delta in Alpharichtung
-        double dBeta   = ( BETA_END- BETA_START)/betaSteps_;    // Delta in Betarichtung
-
-        double[] nVec       = new double[3];            // Lastvetkor
-        double[] VecNMax   = new double[3];             // maximaler Kraft
-        double[] eVec       = new double[6];            // Verzerrungsvektor
-        double[] rfMinLayer = new double[numLayers];    // Vektor mit den minimalen Reservefaktoren der Lagen
-        int[]    failTypLay = new int[numLayers];
-
-        double[][]   ABDmatInv;                         // Inverse ABD-Matrix
-
-        double[][][] punkte = new double [alphaSteps_+1][betaSteps_+1][4];  // Punktinformationen für die Darstellung 1-3 x,y,z Koordinate, 4 Farbe
-        
-        CLT_Laminate clt_lam = laminate.getLookup().lookup(CLT_Laminate.class);
-        if (clt_lam == null) {
-            clt_lam = new CLT_Laminate(laminate);
-        }
-        CLT_Layer[] origLayers = clt_lam.getCLTLayers();
-        
-        CLT_Layer[] layers = new CLT_Layer[origLayers.length];
-        
-        /*
-        Copy all Layers to be able to change the Stiffness for final failure
-        */
-        for (int ii = 0; ii < origLayers.length; ii++){
-            Layer oldL = origLayers[ii].getLayer();
-            Layer newL = new DataLayer("1", "noname", getAsDefaultMaterial(oldL.getMaterial()), oldL.getAngle(), oldL.getThickness(), oldL.getCriterion());
-            layers[ii] = new CLT_Layer(newL);
-            layers[ii].setZm(origLayers[ii].getZm());
-            ZFB[ii]    = false;
+    /**
+     * Liefert die Schrittweite des Vorschaugitters. Die Anzahl der Schritte
+     * des Vorschaugitters muss ebenfalls durch vier teilbar sein, damit die
+     * Schnittpunkte mit den Achsen Teil der Vorschau sind.
+     * 
+     * @return Schrittweite bezogen auf das feine Gitter oder 1, falls sich
+     * keine Vorschau lohnt
+     */
+    private int getPreviewStride(){
+        for (int stride = 4; stride > 1; stride /= 2){
+            if (alphaSteps_ % (4*stride) == 0 && alphaSteps_/stride >= MIN_PREVIEW_STEPS){
+                return stride;
+            }
         }
+        return 1;
+    }
 
-        // Generieren der inversen A-Matrix
-        ABDmatInv = getABDMatInv(layers, ZFB);
-        
-        double maxVal = 0.0;
-
-        for (int ii = 0; ii < alphaSteps_+1; ii++){
-            alpha     = dAlpha*ii+ALPHA_START;
-            nVec[0]   = Math.sin(alpha);
-            cos_alpha = Math.cos(alpha);
-            for (int jj = 0; jj < betaSteps_+1; jj++){
-                beta = dBeta*jj+BETA_START;
-                nVec[1] = Math.sin(beta) * cos_alpha;
-                nVec[2] = Math.cos(beta) * cos_alpha;
-
-                rfMax        =  0.0;
-                lastLayerNum = -1.0;
-                
-                boolean firstFB = false;
-                
-                do{
-                    // Berechnen der Dehnungen
-                    for (mm = 0; mm < 6; mm++){
-                        eVec[mm] = 0;
-                        for (nn = 0; nn < 3; nn++) eVec[mm] += ABDmatInv[mm][nn] * nVec[nn];
-                    }
-
-                    // Suchen des minimalen Reservefaktors
-                    RF = Double.MAX_VALUE;
-                    layerNum = Integer.MAX_VALUE;
-                    for (mm = 0; mm < numLayers; mm++) {
-                        CLT_Layer layer = layers[mm];
-                        StressStrainState sss_upper = layer.getStressState(eVec, 0.0, 0.0, CLT_Layer.POSITION_UPPER, false)[0];
-                        ReserveFactor rf_upper = layer.getLayer().getCriterion().getReserveFactor(layer.getLayer().getMaterial(), layer.getLayer(), sss_upper);
-                        StressStrainState sss_lower = layer.getStressState(eVec, 0.0, 0.0, CLT_Layer.POSITION_LOWER, false)[0];
-                        ReserveFactor rf_lower = layer.getLayer().getCriterion().getReserveFactor(layer.getLayer().getMaterial(), layer.getLayer(), sss_lower);
-                        if (rf_lower.getMinimalReserveFactor() < rf_upper.getMinimalReserveFactor()){
-                            rfMinLayer[mm] = rf_lower.getMinimalReserveFactor();
-                            failTypLay[mm] = rf_lower.getFailureType();
-                        }else{
-                            rfMinLayer[mm] = rf_upper.getMinimalReserveFactor();
-                            failTypLay[mm] = rf_upper.getFailureType();
-                        }
-                        if(rfMinLayer[mm] < RF){
-                            RF = rfMinLayer[mm];
-                            layerNum = mm;
-                        }
-                    }
-
-                    if(rfMax < RF){
-                        rfMax = RF;
-                        lastLayerNum = layerNum;
-                        for (mm = 0; mm < 3; mm++)
-                            VecNMax[mm] = RF*nVec[mm];
-                    }
-
-                    if (failureType_ == FIRST_PLY_FAILURE) break;
-
-                    /*
-                      Diese Schleife ist nur notwendig, da auch mehrere Lagen
-                      auf einmal versagen könnten. Hier werden alle Lagen raus-
-                      gesucht, die den kleinsten Reservefaktor haben.
-                    */
-                    for (int iii = 0; iii < numLayers; iii++) {
-                        if (RF * (1.0+EPS) > rfMinLayer[iii]){
-                            if (failTypLay[iii] == ReserveFactor.FIBER_FAILURE){
-                                firstFB = true;
-                                break;
-                            }else if (failTypLay[iii] == ReserveFactor.MATRIX_FAILURE){
-                                ZFB[iii] = true;
-                                numZFBLayers++;
-                            }
-                        }
-                    }
-                    
-                    /*
-                    wenn der erste Faserbruch eintritt oder alle Lagen 
-                    auf Zwischenfaserbuch versagt sind, letztes ist insbesondere
-                    für Laminate mit einer Lage wichtig
-                    */
-                    if (firstFB || numZFBLayers == numLayers){
-                        break;
-                    }
-
-                    // Generieren der inversen ABD-Matrix
-                    ABDmatInv = getABDMatInv(layers, ZFB);
-                    
-                } while(ABD_ok); // solange, wie die ABD-Matrix keine Fastnullelemente auf der Hauptdiagonalen hat
-                
-                // Wenn FinalFailure, dann alles rücksetzen, was erneut gebraucht wird
-                if (failureType_ == PlyFailureCriterion.FINAL_FAILURE){
-                    for (mm = 0; mm < numLayers; mm++){
-                        ZFB[mm] = false;
-                        numZFBLayers = 0;
-                        ((DataLayer) layers[mm].getLayer()).setMaterial(getAsDefaultMaterial(origLayers[mm].getLayer().getMaterial()));
-                    }
-                    ABDmatInv = getABDMatInv(layers, ZFB);
-                }
-
-                // Punkt für die Darstellung abspeichern
-                for(int kk = 0; kk < 3; kk++){
-                    punkte[ii][jj][kk] = VecNMax[kk];
-                    if (Math.abs(VecNMax[kk]) > maxVal){
-                        maxVal = Math.abs(VecNMax[kk]);
+    /**
+     * Berechnet die Punkte des Versagenskörpers für alle Richtungen, deren
+     * Indizes Vielfache von <CODE>stride</CODE> sind. Ist <CODE>skip</CODE>
+     * größer als eins, werden die Richtungen übersprungen, deren Indizes
+     * beide Vielfache von <CODE>skip</CODE> sind, da diese bereits berechnet
+     * wurden. Die Zeilen in Alpharichtung werden dynamisch auf die Threads
+     * verteilt, jeder Thread rechnet mit einer eigenen Kopie des Laminats.
+     */
+    private void computePoints(final CLT_Layer[] origLayers, final double[][][] punkte, final int stride, final int skip){
+        final int numRows = alphaSteps_/stride + 1;
+        final AtomicInteger nextRow = new AtomicInteger();
+        Callable<Void> task = () -> {
+            DirectionSolver solver = new DirectionSolver(origLayers);
+            int row;
+            while ((row = nextRow.getAndIncrement()) < numRows){
+                int ii = row*stride;
+                for (int jj = 0; jj < betaSteps_+1; jj += stride){
+                    if (skip > 1 && ii % skip == 0 && jj % skip == 0){
+                        continue;
                     }
+                    solver.solve(ii, jj, punkte[ii][jj]);
                 }
-                punkte[ii][jj][3] = lastLayerNum;
             }
-        }
-        
-        scalingFaktor = maxVal;
+            return null;
+        };
         
-        axisIntersections[0] = punkte[alphaSteps_][0][0];
-        axisIntersections[1] = punkte[0][0][0];
-        axisIntersections[2] = punkte[alphaSteps_/2][betaSteps_/4][1];
-        axisIntersections[3] = punkte[alphaSteps_/2][3*betaSteps_/4][1];
-        axisIntersections[4] = punkte[alphaSteps_/2][0][2];
-        axisIntersections[5] = punkte[alphaSteps_/2][betaSteps_/2][2];
+        int numThreads = Math.max(1, Math.min(numberOfThreads_, numRows));
+        if (numThreads == 1){
+            try {
+                task.call();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return;
+        }
         
-        return punkte;
+        List<Callable<Void>> tasks = new ArrayList<>(numThreads);
+        for (int t = 0; t < numThreads; t++){
+            tasks.add(task);
+        }
+        try {
+            for (Future<Void> f : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
     }
 
     private Vector3 getNormal(double[] p1, double[] p2, double[] p3){
@@ -345,71 +337,202 @@ public class PlyFailureCriterion{
         return new Vector3((float)(-zvec[0]),(float)(-zvec[1]),(float)(-zvec[2]));
     }
 
-    private double[][] getABDMatInv(CLT_Layer[] layers, boolean[] ZFB){
-
-        int ii, jj, m, n;
-        double thick;
-        double[][] Qmat;
-        double[][] A = new double[3][3];
-        double[][] B = new double[3][3];
-        double[][] D = new double[3][3];
-        double[][] ABD = new double[6][6];
+    /**
+     * Berechnet die Punkte des Versagenskörpers für einzelne Lastrichtungen.
+     * Jede Instanz besitzt eigene Kopien der Lagen und ein eigenes, nicht
+     * registriertes CLT-Laminat und darf daher nur von einem Thread verwendet
+     * werden. Bei der Degradation wird die ABD-Matrix über
+     * {@link CLT_Laminate#updateLayer(int)} nur für die neu versagten Lagen
+     * angepasst und nach jeder Richtung auf den gespeicherten Ausgangszustand
+     * zurückgesetzt.
+     */
+    private class DirectionSolver{
         
-        double temp, zm;
-        CLT_Layer layer;
-        for (ii = 0; ii < layers.length; ii++){
-            layer = layers[ii];
-            if (ZFB[ii]){
-                DefaultMaterial mat = (DefaultMaterial)layer.getLayer().getMaterial();
-                mat.setEnor(0.0);
-                mat.setNue12(0.0);
-                mat.setG(0.0);
-            }
-            layer.refresh();
-            Qmat  = layer.getQMatGlobal();
-            thick = layer.getLayer().getThickness();
-            zm    = layer.getZm();
-            for (m = 0; m < 3; m++){
-                for (n = 0; n < 3; n++){
-                    temp = Qmat[m][n] * thick;
-                    A[m][n] += temp;
-                    B[m][n] += temp * zm;
-                    D[m][n] += temp * (thick*thick/12.0 + zm*zm);
-                }
-            }
-        }
+        private final int numLayers;
+        private final CLT_Laminate cltLam;
+        private final CLT_Layer[] layers;
+        private final DefaultMaterial[] materials;
+        private final double[] Enor, Nue12, G;          // ungeschädigte Steifigkeiten
+        private final CLT_Laminate.StiffnessState undamaged;
         
-        for(ii = 0; ii < 3; ii++){
-            for(jj = 0; jj <= ii; jj++){
-                ABD[ii][jj] = A[ii][jj];
-            }
-        }
-
-        for(ii = 0; ii < 3; ii++){
-            System.arraycopy(B[ii], 0, ABD[ii+3], 0, 3);
-        }
-
-        for(ii = 0; ii < 3; ii++){
-            for(jj = 0; jj <= ii; jj++){
-                ABD[ii+3][jj+3] = D[ii][jj];
-            }
-        }
+        private final boolean[] ZFB;                    // Vektor, das definiert welche Lagen aktiv sind
+        private final boolean[] newZFB;                 // in der aktuellen Iteration neu versagte Lagen
+        private final double[] nVec       = new double[3];  // Lastvetkor
+        private final double[] VecNMax    = new double[3];  // maximaler Kraft
+        private final double[] eVec       = new double[6];  // Verzerrungsvektor
+        private final double[] rfMinLayer;              // Vektor mit den minimalen Reservefaktoren der Lagen
+        private final int[]    failTypLay;
         
-        for(ii = 0; ii < 6; ii++){
-            for(jj = ii+1; jj < 6; jj++){
-                ABD[ii][jj] = ABD[jj][ii];
+        DirectionSolver(CLT_Layer[] origLayers){
+            numLayers  = origLayers.length;
+            ZFB        = new boolean[numLayers];
+            newZFB     = new boolean[numLayers];
+            rfMinLayer = new double[numLayers];
+            failTypLay = new int[numLayers];
+            materials  = new DefaultMaterial[numLayers];
+            Enor       = new double[numLayers];
+            Nue12      = new double[numLayers];
+            G          = new double[numLayers];
+            
+            /*
+            Copy all Layers to be able to change the Stiffness for final failure.
+            Die Lagen werden nicht zu einem Laminat hinzugefügt, sondern direkt
+            in das CLT-Laminat eingefügt, damit sie sich für die Kriterien wie
+            bisher wie einzelne, nicht eingebettete Lagen verhalten.
+            */
+            Laminat tempLam = new Laminat("1", "noname", false);
+            tempLam.setOffset(laminate.getOffset());
+            cltLam = CLT_Laminate.createDetached(tempLam);
+            for (int ii = 0; ii < numLayers; ii++){
+                Layer oldL = origLayers[ii].getLayer();
+                materials[ii] = getAsDefaultMaterial(oldL.getMaterial());
+                Enor[ii]  = materials[ii].getEnor();
+                Nue12[ii] = materials[ii].getNue12();
+                G[ii]     = materials[ii].getG();
+                cltLam.insertLayer(ii, new DataLayer("1", "noname", materials[ii], oldL.getAngle(), oldL.getThickness(), oldL.getCriterion()));
             }
+            layers = cltLam.getCLTLayers();
+            undamaged = cltLam.saveStiffnessState();
         }
         
-        ABD_ok = true;
-        for (ii = 0; ii < 6; ii++){
-            if (Math.abs(ABD[ii][ii]) < EPS_ZERO ){
-                ABD_ok = false;
-                break;
+        /**
+         * Berechnet den Punkt des Versagenskörpers für die Richtung
+         * (<CODE>ii</CODE>, <CODE>jj</CODE>).
+         * 
+         * @param point Feld für die x,y,z Koordinate und die Lagennummer
+         */
+        void solve(int ii, int jj, double[] point){
+            int mm,nn;                                      // Hilfvariablen als Zähler
+            int numZFBLayers = 0;
+            double rfMax;                                   // maximaler Reservefaktor
+            int    layerNum;                                // Lagennummer
+            double lastLayerNum;                            // Lagennummer
+            double RF;                                      // Reservefaktor
+            double dAlpha  = (ALPHA_END-ALPHA_START)/alphaSteps_;   // Delta in Alpharichtung
+            double dBeta   = ( BETA_END- BETA_START)/betaSteps_;    // Delta in Betarichtung
+            
+            double alpha     = dAlpha*ii+ALPHA_START;
+            double cos_alpha = Math.cos(alpha);
+            double beta      = dBeta*jj+BETA_START;
+            nVec[0] = Math.sin(alpha);
+            nVec[1] = Math.sin(beta) * cos_alpha;
+            nVec[2] = Math.cos(beta) * cos_alpha;
+
+            rfMax        =  0.0;
+            lastLayerNum = -1.0;
+
+            boolean firstFB = false;
+            boolean degraded = false;
+            boolean ABD_ok;
+
+            do{
+                double[][] ABDmatInv = cltLam.getInvABDMatrix();
+                // Berechnen der Dehnungen
+                for (mm = 0; mm < 6; mm++){
+                    eVec[mm] = 0;
+                    for (nn = 0; nn < 3; nn++) eVec[mm] += ABDmatInv[mm][nn] * nVec[nn];
+                }
+
+                // Suchen des minimalen Reservefaktors
+                RF = Double.MAX_VALUE;
+                layerNum = Integer.MAX_VALUE;
+                for (mm = 0; mm < numLayers; mm++) {
+                    CLT_Layer layer = layers[mm];
+                    StressStrainState sss_upper = layer.getStressState(eVec, 0.0, 0.0, CLT_Layer.POSITION_UPPER, false)[0];
+                    ReserveFactor rf_upper = layer.getLayer().getCriterion().getReserveFactor(layer.getLayer().getMaterial(), layer.getLayer(), sss_upper);
+                    StressStrainState sss_lower = layer.getStressState(eVec, 0.0, 0.0, CLT_Layer.POSITION_LOWER, false)[0];
+                    ReserveFactor rf_lower = layer.getLayer().getCriterion().getReserveFactor(layer.getLayer().getMaterial(), layer.getLayer(), sss_lower);
+                    if (rf_lower.getMinimalReserveFactor() < rf_upper.getMinimalReserveFactor()){
+                        rfMinLayer[mm] = rf_lower.getMinimalReserveFactor();
+                        failTypLay[mm] = rf_lower.getFailureType();
+                    }else{
+                        rfMinLayer[mm] = rf_upper.getMinimalReserveFactor();
+                        failTypLay[mm] = rf_upper.getFailureType();
+                    }
+                    if(rfMinLayer[mm] < RF){
+                        RF = rfMinLayer[mm];
+                        layerNum = mm;
+                    }
+                }
+
+                if(rfMax < RF){
+                    rfMax = RF;
+                    lastLayerNum = layerNum;
+                    for (mm = 0; mm < 3; mm++)
+                        VecNMax[mm] = RF*nVec[mm];
+                }
+
+                if (failureType_ == FIRST_PLY_FAILURE) break;
+
+                /*
+                  Diese Schleife ist nur notwendig, da auch mehrere Lagen
+                  auf einmal versagen könnten. Hier werden alle Lagen raus-
+                  gesucht, die den kleinsten Reservefaktor haben.
+                */
+                Arrays.fill(newZFB, false);
+                for (int iii = 0; iii < numLayers; iii++) {
+                    if (RF * (1.0+EPS) > rfMinLayer[iii]){
+                        if (failTypLay[iii] == ReserveFactor.FIBER_FAILURE){
+                            firstFB = true;
+                            break;
+                        }else if (failTypLay[iii] == ReserveFactor.MATRIX_FAILURE){
+                            newZFB[iii] = !ZFB[iii];
+                            ZFB[iii] = true;
+                            numZFBLayers++;
+                        }
+                    }
+                }
+
+                /*
+                wenn der erste Faserbruch eintritt oder alle Lagen 
+                auf Zwischenfaserbuch versagt sind, letztes ist insbesondere
+                für Laminate mit einer Lage wichtig
+                */
+                if (firstFB || numZFBLayers == numLayers){
+                    break;
+                }
+
+                // Degradation der neu versagten Lagen und Anpassen der ABD-Matrix
+                for (mm = 0; mm < numLayers; mm++){
+                    if (newZFB[mm]){
+                        materials[mm].setEnor(0.0);
+                        materials[mm].setNue12(0.0);
+                        materials[mm].setG(0.0);
+                        cltLam.updateLayer(mm);
+                        degraded = true;
+                    }
+                }
+
+                // solange, wie die ABD-Matrix keine Fastnullelemente auf der Hauptdiagonalen hat
+                double[][] ABD = cltLam.getABDMatrix();
+                ABD_ok = true;
+                for (mm = 0; mm < 6; mm++){
+                    if (Math.abs(ABD[mm][mm]) < EPS_ZERO ){
+                        ABD_ok = false;
+                        break;
+                    }
+                }
+            } while(ABD_ok);
+
+            // Wenn FinalFailure, dann alles rücksetzen, was erneut gebraucht wird
+            if (failureType_ == PlyFailureCriterion.FINAL_FAILURE){
+                for (mm = 0; mm < numLayers; mm++){
+                    if (ZFB[mm]){
+                        materials[mm].setEnor(Enor[mm]);
+                        materials[mm].setNue12(Nue12[mm]);
+                        materials[mm].setG(G[mm]);
+                        ZFB[mm] = false;
+                    }
+                }
+                if (degraded){
+                    cltLam.restoreStiffnessState(undamaged);
+                }
             }
-        }
 
-        return MatrixTools.getInverse(ABD);
+            // Punkt für die Darstellung abspeichern
+            System.arraycopy(VecNMax, 0, point, 0, 3);
+            point[3] = lastLayerNum;
+        }
     }
     
     private DefaultMaterial getAsDefaultMaterial(LayerMaterial material){
@@ -0,0 +1,136 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.laminatfailurebody;
+
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.failure.Puck;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Test;
+import org.openide.filesystems.FileObject;
+import org.openide.filesystems.FileUtil;
+
+/**
+ * Die Punkte des Versagenskörpers dürfen weder von der Anzahl der Threads
+ * noch von einer vorab berechneten Vorschau abhängen.
+ *
+ * @author Andreas Hauffe
+ */
+public class PlyFailureCriterionTest {
+
+    private static final int RESOLUTION = 64;
+
+    public PlyFailureCriterionTest() {
+    }
+
+    private static DefaultMaterial createMaterial() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+        return mat;
+    }
+
+    private static Puck createCriterion() throws Exception {
+        FileObject obj = FileUtil.createMemoryFileSystem().getRoot().createData("Puck");
+        obj.setAttribute("displayName", "Puck");
+        obj.setAttribute("description", "Puck");
+        obj.setAttribute("color.r", "0.5");
+        obj.setAttribute("color.g", "0.5");
+        obj.setAttribute("color.b", "0.5");
+        return new Puck(obj);
+    }
+
+    /**
+     * Unsymmetrisches Laminat mit Offset, damit alle Kopplungen der
+     * ABD-Matrix besetzt sind.
+     */
+    private static Laminat createLaminate() throws Exception {
+        DefaultMaterial mat = createMaterial();
+        Puck puck = createCriterion();
+        Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat", false);
+        double[] angles = {0.0, 45.0, 90.0, -45.0, 30.0};
+        for (int ii = 0; ii < angles.length; ii++) {
+            lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + ii, mat, angles[ii], 0.125 * (1 + ii % 2), puck));
+        }
+        lam.setOffset(0.1);
+        return lam;
+    }
+
+    private static ArrayList<Color> createColors(int numLayers) {
+        ArrayList<Color> colors = new ArrayList<>(numLayers);
+        for (int ii = 0; ii < numLayers; ii++) {
+            colors.add(new Color(40 * ii, 255 - 40 * ii, 128));
+        }
+        return colors;
+    }
+
+    private static void assertSameResult(PlyFailureCriterion.FailureSurfaceResult expected, PlyFailureCriterion.FailureSurfaceResult actual) {
+        assertEquals(expected.getFailureBody().getMeshData().getVertexBuffer(), actual.getFailureBody().getMeshData().getVertexBuffer());
+        assertEquals(expected.getFailureBody().getMeshData().getColorBuffer(), actual.getFailureBody().getMeshData().getColorBuffer());
+        assertEquals(expected.getScaleFactor(), actual.getScaleFactor(), 0.0);
+        assertArrayEquals(expected.getAxisIntersections(), actual.getAxisIntersections(), 0.0);
+    }
+
+    /**
+     * Vergleich der seriellen Berechnung mit der parallelen Berechnung und
+     * der Berechnung mit Vorschau für Erstversagen und Versagen des
+     * Laminats.
+     */
+    @Test
+    public void parallelAndPreviewEqualSerial() throws Exception {
+        Laminat lam = createLaminate();
+        ArrayList<Color> colors = createColors(lam.getNumberofLayers());
+        for (int failureType : new int[]{PlyFailureCriterion.FIRST_PLY_FAILURE, PlyFailureCriterion.FINAL_FAILURE}) {
+            PlyFailureCriterion.FailureSurfaceResult serial = new PlyFailureCriterion(lam, colors, failureType, RESOLUTION, 1).getCriterion();
+            assertNotNull(serial);
+
+            PlyFailureCriterion.FailureSurfaceResult parallel = new PlyFailureCriterion(lam, colors, failureType, RESOLUTION, 4).getCriterion();
+            assertSameResult(serial, parallel);
+
+            for (int numberOfThreads : new int[]{1, 4}) {
+                ArrayList<PlyFailureCriterion.FailureSurfaceResult> previews = new ArrayList<>();
+                PlyFailureCriterion.FailureSurfaceResult refined = new PlyFailureCriterion(lam, colors, failureType, RESOLUTION, numberOfThreads).getCriterion(previews::add);
+                assertEquals(1, previews.size());
+                // die Schnittpunkte mit den Achsen sind bereits Teil der Vorschau
+                assertArrayEquals(serial.getAxisIntersections(), previews.get(0).getAxisIntersections(), 0.0);
+                assertSameResult(serial, refined);
+            }
+        }
+    }
+}
@@ -25,6 +25,9 @@
  */
 package de.elamx.mathtools;
 
+import java.util.Arrays;
+import java.util.Random;
+
 /**
  *
  * @author Andreas Hauffe
@@ -391,19 +394,771 @@ public class MatrixTools {
     }
 
     /**
-     * eigenvaluescalc computes the m*n eigenvalues and resulting eigenvectors
-     * calculations are based on the document: "Eigenwertberechnung nach dem
-     * Jacobi-Verfahren" by M.Herrich
+     * Löst das allgemeine symmetrische Eigenwertproblem (K + &lambda;*Kg)*x = 0
+     * mit symmetrisch positiv definitem K und liefert die <CODE>number</CODE>
+     * betragsmäßig kleinsten Eigenwerte &lambda; mit den zugehörigen
+     * Eigenvektoren. Nach der Cholesky-Zerlegung K = L*L<sup>T</sup> wird das
+     * spezielle Eigenwertproblem C*y = &mu;*y mit C = L<sup>-1</sup>*Kg*L<sup>-T</sup>
+     * und &lambda; = -1/&mu; gelöst. Werden nur wenige Eigenwerte benötigt
+     * (siehe {@link #isLanczosPreferred(int, int)}), wird das Lanczos-Verfahren
+     * ({@link #getEigenValuesLanczos}) verwendet, sonst die
+     * Householder-Tridiagonalisierung mit anschließendem QL-Verfahren
+     * ({@link #getEigenValuesTridiagonalQL}). Die Eingangsmatrizen werden nicht
+     * verändert.
      *
-     * @param Kg
-     * @param K
-     * @param number
-     * @param m
-     * @param n
-     * @param eigenvecs
-     * @return
+     * @param Kg symmetrische Matrix (z.B. geometrische Steifigkeitsmatrix)
+     * @param K symmetrisch positiv definite Matrix (z.B. Steifigkeitsmatrix)
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Feld [number][m][n] für die auf die Länge 1 normierten
+     * Eigenvektoren
+     * @return betragsmäßig aufsteigend sortierte Eigenwerte
      */
     public static double[] getEigenValues(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+        if (isLanczosPreferred(number, m * n)) {
+            return getEigenValuesLanczos(Kg, K, number, m, n, eigenvecs);
+        }
+        return getEigenValuesTridiagonalQL(Kg, K, number, m, n, eigenvecs);
+    }
+
+    /**
+     * Liefert, ob für die Bestimmung von <CODE>number</CODE> Eigenwerten eines
+     * Problems der Dimension <CODE>dimension</CODE> das Lanczos-Verfahren
+     * schneller ist als die vollständige Lösung. Der Aufwand der vollständigen
+     * Lösung wächst mit dimension<sup>3</sup>, der des Lanczos-Verfahrens etwa
+     * mit der Anzahl der Iterationen mal dimension<sup>2</sup>.
+     *
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param dimension Dimension des Eigenwertproblems
+     * @return true, wenn das Lanczos-Verfahren verwendet werden sollte
+     */
+    public static boolean isLanczosPreferred(int number, int dimension) {
+        return dimension >= LANCZOS_MIN_DIMENSION && LANCZOS_MAX_FRACTION * number <= dimension;
+    }
+
+    // Mindestdimension für das Lanczos-Verfahren
+    private static final int LANCZOS_MIN_DIMENSION = 36;
+    // number * LANCZOS_MAX_FRACTION <= Dimension für das Lanczos-Verfahren
+    private static final int LANCZOS_MAX_FRACTION = 8;
+    // relative Toleranz des Residuums der Ritz-Paare
+    private static final double LANCZOS_TOLERANCE = 1.0e-10;
+    // Startwert für den Zufallsgenerator des Startvektors
+    private static final long LANCZOS_SEED = 4711L;
+
+    /**
+     * Berechnet die <CODE>number</CODE> betragsmäßig kleinsten Eigenwerte
+     * &lambda; des Problems (K + &lambda;*Kg)*x = 0 (siehe
+     * {@link #getEigenValues}). Alle Eigenwerte &mu; von
+     * C = L<sup>-1</sup>*Kg*L<sup>-T</sup> werden über eine
+     * Householder-Tridiagonalisierung und das QL-Verfahren mit impliziten
+     * Shifts bestimmt.
+     *
+     * @param Kg symmetrische Matrix
+     * @param K symmetrisch positiv definite Matrix
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Feld [number][m][n] für die Eigenvektoren
+     * @return betragsmäßig aufsteigend sortierte Eigenwerte
+     */
+    public static double[] getEigenValuesTridiagonalQL(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+        int nm = m * n;
+        double[][] L = getCholeskyFactor(K);
+        double[][] c = getReducedMatrix(L, Kg);
+
+        double[] d = new double[nm];
+        double[] e = new double[nm];
+        tred2(c, d, e);
+        // z[i] ist der i-te Eigenvektor
+        double[][] z = MatTransp(c);
+        tql2(z, d, e);
+
+        Integer[] order = sortByMagnitude(d, nm);
+        double[] eigenvalues = new double[number];
+        for (int i = 0; i < number; i++) {
+            int p = order[i];
+            eigenvalues[i] = -1.0 / d[p];
+            storeEigenVector(L, z[p], m, n, eigenvecs[i]);
+        }
+        return eigenvalues;
+    }
+
+    /**
+     * Berechnet die symmetrische Matrix C = L<sup>-1</sup>*Kg*L<sup>-T</sup>
+     * des speziellen Eigenwertproblems C*y = &mu;*y mit &lambda; = -1/&mu;
+     * (siehe {@link #getEigenValues}). Da C linear von Kg abhängt, kann C für
+     * Linearkombinationen mehrerer Matrizen Kg ebenfalls linear kombiniert
+     * werden.
+     *
+     * @param L Cholesky-Faktor von K (siehe {@link #getCholeskyFactor})
+     * @param Kg symmetrische Matrix, wird nicht verändert
+     * @return symmetrische Matrix C
+     */
+    public static double[][] getReducedMatrix(double[][] L, double[][] Kg) {
+        int nm = L.length;
+
+        // C = inv(L) * Kg * inv(L^T) spaltenweise mit Vorwärtseinsetzen
+        // W = inv(L) * Kg, gespeichert als W^T (Kg ist symmetrisch)
+        double[][] c = new double[nm][];
+        for (int i = 0; i < nm; i++) {
+            c[i] = Kg[i].clone();
+            forwardSubstitution(L, c[i]);
+        }
+        // Transponieren, danach enthält c die Matrix W
+        for (int i = 0; i < nm; i++) {
+            for (int j = 0; j < i; j++) {
+                double h = c[i][j];
+                c[i][j] = c[j][i];
+                c[j][i] = h;
+            }
+        }
+        // Spalte i von C = inv(L) * (Zeile i von W); C ist symmetrisch
+        for (int i = 0; i < nm; i++) {
+            forwardSubstitution(L, c[i]);
+        }
+        // Symmetrisieren, um Rundungsfehler auszugleichen
+        for (int i = 0; i < nm; i++) {
+            for (int j = 0; j < i; j++) {
+                double h = 0.5 * (c[i][j] + c[j][i]);
+                c[i][j] = h;
+                c[j][i] = h;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Berechnet die <CODE>number</CODE> betragsmäßig kleinsten Eigenwerte
+     * &lambda; des Problems (K + &lambda;*Kg)*x = 0 (siehe
+     * {@link #getEigenValues}) mit dem Lanczos-Verfahren mit vollständiger
+     * Reorthogonalisierung. Der Operator C = L<sup>-1</sup>*Kg*L<sup>-T</sup>
+     * entspricht der Shift-Invert-Transformation des Problems mit dem Shift 0
+     * und wird nicht aufgestellt, sondern über Vorwärts- und Rückwärtseinsetzen
+     * angewendet. Die gesuchten Eigenwerte &lambda; sind die betragsmäßig
+     * größten Eigenwerte &mu; von C und konvergieren daher zuerst.
+     *
+     * @param Kg symmetrische Matrix
+     * @param K symmetrisch positiv definite Matrix
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Feld [number][m][n] für die Eigenvektoren
+     * @return betragsmäßig aufsteigend sortierte Eigenwerte
+     */
+    public static double[] getEigenValuesLanczos(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
+        double[][] L = getCholeskyFactor(K);
+
+        double[] mu = new double[number];
+        double[][] y = lanczos(L, Kg, number, false, mu);
+
+        double[] eigenvalues = new double[number];
+        for (int i = 0; i < number; i++) {
+            eigenvalues[i] = -1.0 / mu[i];
+            storeEigenVector(L, y[i], m, n, eigenvecs[i]);
+        }
+        return eigenvalues;
+    }
+
+    /**
+     * Berechnet nur den kleinsten positiven Eigenwert &lambda; des Problems
+     * (K + &lambda;*Kg)*x = 0. Dieser gehört zum algebraisch kleinsten
+     * Eigenwert &mu; von C = L<sup>-1</sup>*Kg*L<sup>-T</sup>, der mit dem
+     * Lanczos-Verfahren bestimmt wird. Existiert kein positiver Eigenwert,
+     * ist das Ergebnis negativ (oder -&infin;). Die Eingangsmatrizen werden
+     * nicht verändert.
+     *
+     * @param Kg symmetrische Matrix
+     * @param K symmetrisch positiv definite Matrix
+     * @return kleinster positiver Eigenwert
+     */
+    public static double getSmallestPositiveEigenValue(double[][] Kg, double[][] K) {
+        double[][] L = getCholeskyFactor(K);
+        double[] mu = new double[1];
+        lanczos(L, Kg, 1, true, mu);
+        return -1.0 / mu[0];
+    }
+
+    /**
+     * Berechnet wie {@link #getSmallestPositiveEigenValue(double[][], double[][])}
+     * den kleinsten positiven Eigenwert &lambda;, allerdings direkt aus der
+     * bereits aufgestellten Matrix C = L<sup>-1</sup>*Kg*L<sup>-T</sup>
+     * (siehe {@link #getReducedMatrix}). Dies ist vorteilhaft, wenn viele
+     * Probleme mit gleichem K gelöst werden müssen. Existiert kein positiver
+     * Eigenwert, ist das Ergebnis negativ (oder -&infin;).
+     *
+     * @param C symmetrische Matrix, wird nicht verändert
+     * @return kleinster positiver Eigenwert
+     */
+    public static double getSmallestPositiveEigenValueReduced(final double[][] C) {
+        final int nm = C.length;
+        double[] mu = new double[1];
+        lanczos(v -> {
+            double[] cv = new double[nm];
+            for (int i = 0; i < nm; i++) {
+                double[] ci = C[i];
+                double h = 0.0;
+                for (int k = 0; k < nm; k++) {
+                    h += ci[k] * v[k];
+                }
+                cv[i] = h;
+            }
+            return cv;
+        }, nm, 1, true, mu);
+        return -1.0 / mu[0];
+    }
+
+    /**
+     * Cholesky-Faktorisierung K = L*L<sup>T</sup>. Die Elemente von L sind
+     * unterhalb der Hauptdiagonalen gespeichert. Der Faktor kann mit
+     * {@link #solveCholesky(double[][], double[])} bzw.
+     * {@link #solveCholesky(double[][], double[][])} für beliebig viele rechte
+     * Seiten wiederverwendet werden.
+     *
+     * @param K symmetrisch positiv definite Matrix
+     * @return untere Dreiecksmatrix L
+     */
+    public static double[][] getCholeskyFactor(double[][] K) {
+        int nm = K.length;
+        double[][] L = new double[nm][nm];
+        for (int i = 0; i < nm; i++) {
+            double[] li = L[i];
+            double h = 0.0;
+            for (int j = 0; j < i; j++) {
+                h += li[j] * li[j];
+            }
+            li[i] = Math.sqrt(K[i][i] - h);
+            for (int ii = i + 1; ii < nm; ii++) {
+                double[] lii = L[ii];
+                h = 0.0;
+                for (int j = 0; j < i; j++) {
+                    h += lii[j] * li[j];
+                }
+                lii[i] = (K[ii][i] - h) / li[i];
+            }
+        }
+        return L;
+    }
+
+    /**
+     * Löst L*x = b. Der Vektor b wird mit der Lösung überschrieben.
+     */
+    private static void forwardSubstitution(double[][] L, double[] b) {
+        for (int k = 0; k < b.length; k++) {
+            double[] lk = L[k];
+            double h = b[k];
+            for (int i = 0; i < k; i++) {
+                h -= lk[i] * b[i];
+            }
+            b[k] = h / lk[k];
+        }
+    }
+
+    /**
+     * Löst L<sup>T</sup>*x = b. Der Vektor b wird mit der Lösung
+     * überschrieben.
+     */
+    private static void backSubstitution(double[][] L, double[] b) {
+        for (int k = b.length - 1; k >= 0; k--) {
+            double[] lk = L[k];
+            double h = b[k] / lk[k];
+            b[k] = h;
+            for (int i = 0; i < k; i++) {
+                b[i] -= lk[i] * h;
+            }
+        }
+    }
+
+    /**
+     * Löst das lineare Gleichungssystem L*L<sup>T</sup>*x = b mit dem
+     * Cholesky-Faktor aus {@link #getCholeskyFactor(double[][])}.
+     *
+     * @param L Cholesky-Faktor
+     * @param b rechte Seite, wird nicht verändert
+     * @return Lösungsvektor des Gleichungssystems
+     */
+    public static double[] solveCholesky(double[][] L, double[] b) {
+        double[] x = b.clone();
+        forwardSubstitution(L, x);
+        backSubstitution(L, x);
+        return x;
+    }
+
+    /**
+     * Löst das lineare Gleichungssystem L*L<sup>T</sup>*X = B für mehrere
+     * rechte Seiten gleichzeitig. Jede Zeile von L wird dabei nur einmal für
+     * alle rechten Seiten gelesen. Die Lösungen sind identisch zu denen von
+     * {@link #solveCholesky(double[][], double[])}.
+     *
+     * @param L Cholesky-Faktor
+     * @param B rechte Seiten, B[r] ist die r-te rechte Seite, wird nicht
+     * verändert
+     * @return Lösungsvektoren, X[r] gehört zur r-ten rechten Seite
+     */
+    public static double[][] solveCholesky(double[][] L, double[][] B) {
+        int numRhs = B.length;
+        double[][] X = new double[numRhs][];
+        for (int r = 0; r < numRhs; r++) {
+            X[r] = B[r].clone();
+        }
+        int nm = L.length;
+
+        // Löse L*Y = B
+        for (int k = 0; k < nm; k++) {
+            double[] lk = L[k];
+            for (int r = 0; r < numRhs; r++) {
+                double[] x = X[r];
+                double h = x[k];
+                for (int i = 0; i < k; i++) {
+                    h -= lk[i] * x[i];
+                }
+                x[k] = h / lk[k];
+            }
+        }
+
+        // Löse L'*X = Y
+        for (int k = nm - 1; k >= 0; k--) {
+            double[] lk = L[k];
+            for (int r = 0; r < numRhs; r++) {
+                double[] x = X[r];
+                double h = x[k] / lk[k];
+                x[k] = h;
+                for (int i = 0; i < k; i++) {
+                    x[i] -= lk[i] * h;
+                }
+            }
+        }
+        return X;
+    }
+
+    /**
+     * Transformiert einen Eigenvektor y von C zurück (x = L<sup>-T</sup>*y),
+     * normiert ihn auf die Länge 1 und speichert ihn als [m][n]-Feld.
+     */
+    private static void storeEigenVector(double[][] L, double[] y, int m, int n, double[][] eigenvec) {
+        double[] x = y.clone();
+        backSubstitution(L, x);
+        double norm = 0.0;
+        for (double v : x) {
+            norm += v * v;
+        }
+        norm = Math.sqrt(norm);
+        for (int mm = 0; mm < m; mm++) {
+            for (int nn = 0; nn < n; nn++) {
+                eigenvec[mm][nn] = x[mm * n + nn] / norm;
+            }
+        }
+    }
+
+    /**
+     * Liefert die Indizes der ersten <CODE>size</CODE> Werte betragsmäßig
+     * absteigend sortiert.
+     */
+    private static Integer[] sortByMagnitude(final double[] values, int size) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(Math.abs(values[b]), Math.abs(values[a])));
+        return order;
+    }
+
+    /**
+     * Lanczos-Verfahren mit vollständiger Reorthogonalisierung für den
+     * Operator C = L<sup>-1</sup>*Kg*L<sup>-T</sup>. Gesucht werden die
+     * <CODE>number</CODE> betragsmäßig größten Eigenwerte oder, falls
+     * <CODE>smallestAlgebraic</CODE> gesetzt ist, die algebraisch kleinsten
+     * Eigenwerte. Die Iteration wird beendet, wenn die Residuen aller
+     * gesuchten Ritz-Paare unterhalb der Toleranz liegen oder der Krylov-Raum
+     * den gesamten Raum aufspannt.
+     *
+     * @param L Cholesky-Faktor von K
+     * @param Kg symmetrische Matrix
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param smallestAlgebraic true für die algebraisch kleinsten Eigenwerte
+     * @param mu Feld für die sortierten Eigenwerte von C
+     * @return Eigenvektoren von C [number][dimension]
+     */
+    private static double[][] lanczos(final double[][] L, final double[][] Kg, int number, boolean smallestAlgebraic, double[] mu) {
+        final int nm = L.length;
+        return lanczos(v -> {
+            double[] w = v.clone();
+            backSubstitution(L, w);
+            double[] kgv = new double[nm];
+            for (int i = 0; i < nm; i++) {
+                double[] kgi = Kg[i];
+                double h = 0.0;
+                for (int k = 0; k < nm; k++) {
+                    h += kgi[k] * w[k];
+                }
+                kgv[i] = h;
+            }
+            forwardSubstitution(L, kgv);
+            return kgv;
+        }, nm, number, smallestAlgebraic, mu);
+    }
+
+    /**
+     * Symmetrischer Operator für das Lanczos-Verfahren.
+     */
+    private interface SymmetricOperator {
+
+        /**
+         * Liefert das Produkt C*v als neuen Vektor. v wird nicht verändert.
+         */
+        double[] apply(double[] v);
+    }
+
+    /**
+     * Lanczos-Verfahren wie {@link #lanczos(double[][], double[][], int, boolean, double[])}
+     * für einen beliebigen symmetrischen Operator C der Dimension nm.
+     */
+    private static double[][] lanczos(SymmetricOperator op, int nm, int number, boolean smallestAlgebraic, double[] mu) {
+        double[][] q = new double[nm][];
+        double[] alpha = new double[nm];
+        double[] beta = new double[nm];
+        Random random = new Random(LANCZOS_SEED);
+
+        int minSteps = Math.min(nm, Math.max(2 * number, number + 10));
+        double[] v = randomStartVector(random, q, 0);
+        double norm = 0.0;
+
+        double[] theta = null;
+        Integer[] order = null;
+        int steps = 0;
+        while (true) {
+            int j = steps;
+            q[j] = v;
+
+            // C * v, z.B. inv(L) * Kg * inv(L^T) * v
+            double[] kgv = op.apply(v);
+            alpha[j] = dot(v, kgv);
+
+            // vollständige Reorthogonalisierung (zweifach)
+            for (int pass = 0; pass < 2; pass++) {
+                for (int i = 0; i <= j; i++) {
+                    axpy(-dot(q[i], kgv), q[i], kgv);
+                }
+            }
+            double b = Math.sqrt(dot(kgv, kgv));
+            norm = Math.max(norm, Math.abs(alpha[j]) + b + (j > 0 ? beta[j - 1] : 0.0));
+            steps++;
+
+            boolean invariant = b <= 1.0e-14 * norm;
+            if (steps >= minSteps && (steps % 5 == 0 || steps == nm || invariant)) {
+                // Ritz-Werte der Tridiagonalmatrix, für die Residuen wird
+                // nur die letzte Komponente der Ritz-Vektoren benötigt
+                double[][] last = new double[steps][1];
+                last[j][0] = 1.0;
+                theta = ritzValues(alpha, beta, steps, last);
+                order = smallestAlgebraic ? sortAscending(theta) : sortByMagnitude(theta, steps);
+
+                boolean converged = true;
+                for (int i = 0; i < number && converged; i++) {
+                    converged = Math.abs(b * last[order[i]][0]) <= LANCZOS_TOLERANCE * norm;
+                }
+                if (converged || steps == nm) {
+                    break;
+                }
+            }
+
+            if (invariant) {
+                // invarianter Unterraum gefunden, Neustart orthogonal zu q
+                v = randomStartVector(random, q, steps);
+                beta[j] = 0.0;
+            } else {
+                for (int i = 0; i < nm; i++) {
+                    kgv[i] /= b;
+                }
+                v = kgv;
+                beta[j] = b;
+            }
+        }
+        // vollständige Ritz-Vektoren der Tridiagonalmatrix (gleiche Ritz-Werte
+        // und damit gleiche Reihenfolge wie bei der Konvergenzprüfung)
+        double[][] s = new double[steps][steps];
+        for (int i = 0; i < steps; i++) {
+            s[i][i] = 1.0;
+        }
+        theta = ritzValues(alpha, beta, steps, s);
+
+        double[][] y = new double[number][nm];
+        for (int i = 0; i < number; i++) {
+            int p = order[i];
+            mu[i] = theta[p];
+            for (int k = 0; k < steps; k++) {
+                axpy(s[p][k], q[k], y[i]);
+            }
+        }
+        return y;
+    }
+
+    /**
+     * Berechnet die Eigenwerte der Lanczos-Tridiagonalmatrix der Dimension
+     * <CODE>steps</CODE>. Die Vektoren in z werden dabei mit den
+     * Rotationen transformiert.
+     */
+    private static double[] ritzValues(double[] alpha, double[] beta, int steps, double[][] z) {
+        double[] theta = Arrays.copyOf(alpha, steps);
+        double[] e = new double[steps];
+        for (int i = 1; i < steps; i++) {
+            e[i] = beta[i - 1];
+        }
+        tql2(z, theta, e);
+        return theta;
+    }
+
+    /**
+     * Erzeugt einen normierten Zufallsvektor, der orthogonal zu den ersten
+     * <CODE>count</CODE> Vektoren in q ist.
+     */
+    private static double[] randomStartVector(Random random, double[][] q, int count) {
+        int nm = q.length;
+        double[] v = new double[nm];
+        double norm;
+        do {
+            for (int i = 0; i < nm; i++) {
+                v[i] = random.nextDouble() - 0.5;
+            }
+            for (int pass = 0; pass < 2; pass++) {
+                for (int i = 0; i < count; i++) {
+                    axpy(-dot(q[i], v), q[i], v);
+                }
+            }
+            norm = Math.sqrt(dot(v, v));
+        } while (norm < 1.0e-8);
+        for (int i = 0; i < nm; i++) {
+            v[i] /= norm;
+        }
+        return v;
+    }
+
+    private static Integer[] sortAscending(final double[] values) {
+        Integer[] order = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        return order;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double h = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            h += a[i] * b[i];
+        }
+        return h;
+    }
+
+    // y += a * x
+    private static void axpy(double a, double[] x, double[] y) {
+        for (int i = 0; i < x.length; i++) {
+            y[i] += a * x[i];
+        }
+    }
+
+    /**
+     * Householder-Tridiagonalisierung einer symmetrischen Matrix (nach
+     * EISPACK tred2). V enthält danach die orthogonale Transformationsmatrix,
+     * d die Hauptdiagonale und e die Nebendiagonale (e[0] = 0).
+     */
+    private static void tred2(double[][] V, double[] d, double[] e) {
+        int n = d.length;
+        for (int j = 0; j < n; j++) {
+            d[j] = V[n - 1][j];
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            double scale = 0.0;
+            double h = 0.0;
+            for (int k = 0; k < i; k++) {
+                scale += Math.abs(d[k]);
+            }
+            if (scale == 0.0) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = V[i - 1][j];
+                    V[i][j] = 0.0;
+                    V[j][i] = 0.0;
+                }
+            } else {
+                for (int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = Math.sqrt(h);
+                if (f > 0) {
+                    g = -g;
+                }
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                for (int j = 0; j < i; j++) {
+                    e[j] = 0.0;
+                }
+
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    V[j][i] = f;
+                    g = e[j] + V[j][j] * f;
+                    for (int k = j + 1; k <= i - 1; k++) {
+                        g += V[k][j] * d[k];
+                        e[k] += V[k][j] * f;
+                    }
+                    e[j] = g;
+                }
+                f = 0.0;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+                    for (int k = j; k <= i - 1; k++) {
+                        V[k][j] -= (f * e[k] + g * d[k]);
+                    }
+                    d[j] = V[i - 1][j];
+                    V[i][j] = 0.0;
+                }
+            }
+            d[i] = h;
+        }
+
+        // Akkumulation der Transformationen
+        for (int i = 0; i < n - 1; i++) {
+            V[n - 1][i] = V[i][i];
+            V[i][i] = 1.0;
+            double h = d[i + 1];
+            if (h != 0.0) {
+                for (int k = 0; k <= i; k++) {
+                    d[k] = V[k][i + 1] / h;
+                }
+                for (int j = 0; j <= i; j++) {
+                    double g = 0.0;
+                    for (int k = 0; k <= i; k++) {
+                        g += V[k][i + 1] * V[k][j];
+                    }
+                    for (int k = 0; k <= i; k++) {
+                        V[k][j] -= g * d[k];
+                    }
+                }
+            }
+            for (int k = 0; k <= i; k++) {
+                V[k][i + 1] = 0.0;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = V[n - 1][j];
+            V[n - 1][j] = 0.0;
+        }
+        V[n - 1][n - 1] = 1.0;
+        e[0] = 0.0;
+    }
+
+    /**
+     * QL-Verfahren mit impliziten Shifts für eine symmetrische
+     * Tridiagonalmatrix (nach EISPACK tql2). d enthält die Hauptdiagonale,
+     * e die Nebendiagonale mit e[i] zwischen den Zeilen i-1 und i. Danach
+     * enthält d die unsortierten Eigenwerte. Die Eigenvektoren werden auf
+     * z angewendet, wobei z[i] dem i-ten Vektor (Spalte) entspricht.
+     */
+    private static void tql2(double[][] z, double[] d, double[] e) {
+        int n = d.length;
+        for (int i = 1; i < n; i++) {
+            e[i - 1] = e[i];
+        }
+        e[n - 1] = 0.0;
+
+        double f = 0.0;
+        double tst1 = 0.0;
+        double eps = Math.ulp(1.0);
+        for (int l = 0; l < n; l++) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n - 1 && Math.abs(e[m]) > eps * tst1) {
+                m++;
+            }
+
+            if (m > l) {
+                do {
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = Math.sqrt(p * p + 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.sqrt(p * p + e[i] * e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        double[] zi = z[i];
+                        double[] zi1 = z[i + 1];
+                        for (int k = 0; k < zi.length; k++) {
+                            h = zi1[k];
+                            zi1[k] = s * zi[k] + c * h;
+                            zi[k] = c * zi[k] - s * h;
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while (Math.abs(e[l]) > eps * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.0;
+        }
+    }
+
+    /**
+     * Berechnet die <CODE>number</CODE> betragsmäßig kleinsten Eigenwerte
+     * &lambda; des Problems (K + &lambda;*Kg)*x = 0 (siehe
+     * {@link #getEigenValues}) mit dem klassischen Jacobi-Verfahren. Das
+     * Verfahren basiert auf dem Dokument "Eigenwertberechnung nach dem
+     * Jacobi-Verfahren" von M. Herrich und war bis zur Einführung von
+     * {@link #getEigenValuesTridiagonalQL} und {@link #getEigenValuesLanczos}
+     * der einzige Eigenwertlöser. Es wird als Referenz beibehalten.
+     * Achtung: K und Kg werden überschrieben.
+     *
+     * @param Kg symmetrische Matrix
+     * @param K symmetrisch positiv definite Matrix
+     * @param number Anzahl der gesuchten Eigenwerte
+     * @param m Anzahl der Ansatzfunktionen in x-Richtung
+     * @param n Anzahl der Ansatzfunktionen in y-Richtung
+     * @param eigenvecs Feld [number][m][n] für die Eigenvektoren
+     * @return betragsmäßig aufsteigend sortierte Eigenwerte
+     */
+    public static double[] getEigenValuesJacobi(double[][] Kg, double[][] K, int number, int m, int n, double[][][] eigenvecs) {
 
         //int m_ = K.length;
         //int n_ = K[0].length;
@@ -619,6 +1374,78 @@ public class MatrixTools {
         return eigenvalues;
     }
 
+    /**
+     * Berechnung aller Eigenwerte und Eigenvektoren einer kleinen symmetrischen
+     * Matrix mit dem zyklischen Jacobi-Verfahren. Die Eingangsmatrix wird
+     * nicht verändert.
+     *
+     * @param mat symmetrische Matrix (n x n)
+     * @param eigenvecs Ergebnis: Eigenvektoren spaltenweise (n x n)
+     * @return Eigenwerte (unsortiert)
+     */
+    public static double[] getEigenSymmetricJacobi(double[][] mat, double[][] eigenvecs) {
+        int n = mat.length;
+        double[][] a = new double[n][n];
+        for (int ii = 0; ii < n; ii++) {
+            System.arraycopy(mat[ii], 0, a[ii], 0, n);
+            for (int jj = 0; jj < n; jj++) {
+                eigenvecs[ii][jj] = ii == jj ? 1.0 : 0.0;
+            }
+        }
+
+        for (int sweep = 0; sweep < 50; sweep++) {
+            double off = 0.0;
+            double diag = 0.0;
+            for (int p = 0; p < n; p++) {
+                diag += a[p][p] * a[p][p];
+                for (int q = p + 1; q < n; q++) {
+                    off += a[p][q] * a[p][q];
+                }
+            }
+            if (off <= 1.0E-30 * diag || off == 0.0) {
+                break;
+            }
+            for (int p = 0; p < n - 1; p++) {
+                for (int q = p + 1; q < n; q++) {
+                    if (a[p][q] == 0.0) {
+                        continue;
+                    }
+                    double theta = (a[q][q] - a[p][p]) / (2.0 * a[p][q]);
+                    double t = Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0));
+                    if (theta == 0.0) {
+                        t = 1.0;
+                    }
+                    double c = 1.0 / Math.sqrt(t * t + 1.0);
+                    double s = t * c;
+                    for (int k = 0; k < n; k++) {
+                        double akp = a[k][p];
+                        double akq = a[k][q];
+                        a[k][p] = c * akp - s * akq;
+                        a[k][q] = s * akp + c * akq;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double apk = a[p][k];
+                        double aqk = a[q][k];
+                        a[p][k] = c * apk - s * aqk;
+                        a[q][k] = s * apk + c * aqk;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double vkp = eigenvecs[k][p];
+                        double vkq = eigenvecs[k][q];
+                        eigenvecs[k][p] = c * vkp - s * vkq;
+                        eigenvecs[k][q] = s * vkp + c * vkq;
+                    }
+                }
+            }
+        }
+
+        double[] eigenvalues = new double[n];
+        for (int ii = 0; ii < n; ii++) {
+            eigenvalues[ii] = a[ii][ii];
+        }
+        return eigenvalues;
+    }
+
     /**
      * Berechnung Matrix mal Vektor (Ab).
      *
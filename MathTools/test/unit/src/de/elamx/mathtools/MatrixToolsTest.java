@@ -0,0 +1,210 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and
+ *  numerical methods.
+ *
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ *
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.mathtools;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Eigenwertlöser für das Problem (K + &lambda;*Kg)*x = 0 mit bekanntem
+ * Spektrum. Beide Matrizen werden mit derselben zufälligen orthogonalen
+ * Matrix Q als K = Q*diag(k)*Q<sup>T</sup> und Kg = Q*diag(g)*Q<sup>T</sup>
+ * aufgestellt. Die Eigenwerte sind dann &lambda;<sub>i</sub> = -k<sub>i</sub>/g<sub>i</sub>
+ * und die Eigenvektoren die Spalten von Q.
+ *
+ * @author Andreas Hauffe
+ */
+public class MatrixToolsTest {
+
+    private static final double EPS = 1.0E-9;
+
+    public MatrixToolsTest() {
+    }
+
+    /**
+     * Erzeugt eine orthogonale Matrix als Produkt von drei
+     * Householder-Spiegelungen.
+     */
+    private static double[][] createOrthogonalMatrix(int size, Random random) {
+        double[][] q = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            q[i][i] = 1.0;
+        }
+        for (int r = 0; r < 3; r++) {
+            double[] v = new double[size];
+            double norm = 0.0;
+            for (int i = 0; i < size; i++) {
+                v[i] = random.nextDouble() - 0.5;
+                norm += v[i] * v[i];
+            }
+            // Q = Q * (I - 2*v*v^T/(v^T*v))
+            for (double[] row : q) {
+                double h = 0.0;
+                for (int i = 0; i < size; i++) {
+                    h += row[i] * v[i];
+                }
+                h *= 2.0 / norm;
+                for (int i = 0; i < size; i++) {
+                    row[i] -= h * v[i];
+                }
+            }
+        }
+        return q;
+    }
+
+    private static double[][] createMatrix(double[][] q, double[] diagonal) {
+        int size = diagonal.length;
+        double[][] mat = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double h = 0.0;
+                for (int k = 0; k < size; k++) {
+                    h += q[i][k] * diagonal[k] * q[j][k];
+                }
+                mat[i][j] = h;
+            }
+        }
+        return mat;
+    }
+
+    /**
+     * Testproblem der Dimension m*n mit den Eigenwerten
+     * &lambda;<sub>i</sub> = &plusmn;(1 + 0.7*i). Jeder dritte Eigenwert ist
+     * negativ.
+     */
+    private static final class Problem {
+
+        private final double[] lambda;
+        private final double[][] q;
+        private final double[][] K;
+        private final double[][] Kg;
+
+        private Problem(int dimension, long seed) {
+            Random random = new Random(seed);
+            lambda = new double[dimension];
+            double[] k = new double[dimension];
+            double[] g = new double[dimension];
+            for (int i = 0; i < dimension; i++) {
+                lambda[i] = (i % 3 == 1 ? -1.0 : 1.0) * (1.0 + 0.7 * i);
+                k[i] = 1.0 + 9.0 * random.nextDouble();
+                g[i] = -k[i] / lambda[i];
+            }
+            q = createOrthogonalMatrix(dimension, random);
+            K = createMatrix(q, k);
+            Kg = createMatrix(q, g);
+        }
+
+        private double[][] copy(double[][] mat) {
+            double[][] result = new double[mat.length][];
+            for (int i = 0; i < mat.length; i++) {
+                result[i] = mat[i].clone();
+            }
+            return result;
+        }
+
+        /**
+         * Prüft die Eigenwerte und die bis auf das Vorzeichen eindeutigen
+         * Eigenvektoren.
+         */
+        private void check(double[] eigenvalues, double[][][] eigenvecs, int m, int n) {
+            for (int i = 0; i < eigenvalues.length; i++) {
+                // Die Eigenwerte sind betragsmäßig aufsteigend und wie im
+                // Testproblem nach dem Index sortiert.
+                assertEquals(lambda[i], eigenvalues[i], EPS * Math.abs(lambda[i]));
+
+                double dot = 0.0;
+                for (int mm = 0; mm < m; mm++) {
+                    for (int nn = 0; nn < n; nn++) {
+                        dot += eigenvecs[i][mm][nn] * q[mm * n + nn][i];
+                    }
+                }
+                assertEquals(1.0, Math.abs(dot), EPS);
+            }
+        }
+    }
+
+    @Test
+    public void tridiagonalQLGivesKnownSpectrum() {
+        int m = 4;
+        int n = 3;
+        Problem problem = new Problem(m * n, 1L);
+        double[][] K = problem.copy(problem.K);
+        double[][] Kg = problem.copy(problem.Kg);
+
+        double[][][] eigenvecs = new double[m * n][m][n];
+        double[] eigenvalues = MatrixTools.getEigenValuesTridiagonalQL(Kg, K, m * n, m, n, eigenvecs);
+        problem.check(eigenvalues, eigenvecs, m, n);
+
+        // Die Eingangsmatrizen bleiben unverändert.
+        for (int i = 0; i < m * n; i++) {
+            assertTrue(Arrays.equals(problem.K[i], K[i]));
+            assertTrue(Arrays.equals(problem.Kg[i], Kg[i]));
+        }
+    }
+
+    @Test
+    public void lanczosGivesKnownSpectrum() {
+        int m = 8;
+        int n = 8;
+        int number = 5;
+        Problem problem = new Problem(m * n, 2L);
+        assertTrue(MatrixTools.isLanczosPreferred(number, m * n));
+        assertFalse(MatrixTools.isLanczosPreferred(m * n, m * n));
+
+        double[][][] eigenvecs = new double[number][m][n];
+        double[] eigenvalues = MatrixTools.getEigenValuesLanczos(problem.Kg, problem.K, number, m, n, eigenvecs);
+        problem.check(eigenvalues, eigenvecs, m, n);
+
+        eigenvecs = new double[number][m][n];
+        eigenvalues = MatrixTools.getEigenValues(problem.Kg, problem.K, number, m, n, eigenvecs);
+        problem.check(eigenvalues, eigenvecs, m, n);
+    }
+
+    @Test
+    public void smallestPositiveEigenValue() {
+        int dimension = 40;
+        Problem problem = new Problem(dimension, 3L);
+
+        // Der kleinste positive Eigenwert ist lambda[0] = 1.
+        assertEquals(problem.lambda[0], MatrixTools.getSmallestPositiveEigenValue(problem.Kg, problem.K), EPS);
+
+        double[][] L = MatrixTools.getCholeskyFactor(problem.K);
+        double[][] C = MatrixTools.getReducedMatrix(L, problem.Kg);
+        assertEquals(problem.lambda[0], MatrixTools.getSmallestPositiveEigenValueReduced(C), EPS);
+
+        // Ohne positive Eigenwerte ist das Ergebnis negativ.
+        double[] g = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            g[i] = 1.0 + i;
+        }
+        double[][] negKg = createMatrix(problem.q, g);
+        assertTrue(MatrixTools.getSmallestPositiveEigenValue(negKg, problem.K) < 0.0);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.batchrun;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Bestimmung der Eingabedateien eines Batch-Laufs. Die Eingabe kann eine
+ * einzelne Datei, ein Verzeichnis, ein Glob-Muster (z.B.
+ * <CODE>jobs/*.elamx</CODE>) oder eine Liste von Dateien (Manifest) sein.
+ * Verzeichnisse und Glob-Muster liefern alle *.elamx- und *.elamxb-Dateien in
+ * alphabetischer Reihenfolge.
+ *
+ * @author Andreas Hauffe
+ */
+final class BatchInputFiles {
+
+    private BatchInputFiles() {
+    }
+
+    /**
+     * Prüft, ob die Datei eine reduzierte Eingabedatei (*.elamxb) ist.
+     *
+     * @param file Datei
+     * @return <CODE>true</CODE>, wenn es sich um eine reduzierte Eingabedatei
+     * handelt
+     */
+    static boolean isReducedInput(File file) {
+        return file.getName().toLowerCase(Locale.ROOT).endsWith(".elamxb");
+    }
+
+    /**
+     * Prüft, ob die Eingabe mehr als eine Datei bezeichnen kann, also ein
+     * Verzeichnis oder ein Glob-Muster ist.
+     *
+     * @param input Eingabe
+     * @return <CODE>true</CODE> bei Verzeichnissen und Glob-Mustern
+     */
+    static boolean isMultiple(String input) {
+        return isGlob(input) || new File(input).isDirectory();
+    }
+
+    /**
+     * Liefert die Eingabedateien zu einer Datei, einem Verzeichnis oder einem
+     * Glob-Muster.
+     *
+     * @param input Eingabe
+     * @return Eingabedateien
+     * @throws IOException beim Lesen des Verzeichnisses
+     */
+    static List<File> resolve(String input) throws IOException {
+        if (isGlob(input)) {
+            // Das Muster gilt nur für den Dateinamen, das Verzeichnis muss
+            // ohne Platzhalter angegeben werden.
+            File pattern = new File(input);
+            File dir = pattern.getAbsoluteFile().getParentFile();
+            PathMatcher matcher = dir.toPath().getFileSystem().getPathMatcher("glob:" + pattern.getName());
+            return listFiles(dir, matcher);
+        }
+        File file = new File(input);
+        if (file.isDirectory()) {
+            return listFiles(file, null);
+        }
+        return Collections.singletonList(file);
+    }
+
+    /**
+     * Liest eine Liste von Eingaben (Manifest). Jede Zeile enthält eine Datei,
+     * ein Verzeichnis oder ein Glob-Muster. Leere Zeilen und Zeilen, die mit
+     * '#' beginnen, werden ignoriert. Relative Pfade beziehen sich auf das
+     * Verzeichnis des Manifests.
+     *
+     * @param manifest Manifest
+     * @return Eingabedateien in der Reihenfolge des Manifests
+     * @throws IOException beim Lesen des Manifests
+     */
+    static List<File> readManifest(File manifest) throws IOException {
+        File base = manifest.getAbsoluteFile().getParentFile();
+        List<File> files = new ArrayList<>();
+        for (String line : Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (!new File(line).isAbsolute()) {
+                line = new File(base, line).getPath();
+            }
+            files.addAll(resolve(line));
+        }
+        return files;
+    }
+
+    /**
+     * Liefert einen eindeutigen Namen für die Ausgabedatei einer
+     * Eingabedatei. Die Endung der Eingabedatei wird durch die übergebene
+     * Endung ersetzt. Bei gleichen Namen wird ein Zähler angehängt.
+     *
+     * @param input Eingabedatei
+     * @param extension Endung der Ausgabedatei, z.B. ".txt"
+     * @param usedNames bereits vergebene Namen, wird ergänzt
+     * @return Name der Ausgabedatei
+     */
+    static String outputName(File input, String extension, Set<String> usedNames) {
+        String name = input.getName();
+        int index = name.lastIndexOf('.');
+        if (index > 0) {
+            name = name.substring(0, index);
+        }
+        String result = name + extension;
+        for (int ii = 2; !usedNames.add(result); ii++) {
+            result = name + "_" + ii + extension;
+        }
+        return result;
+    }
+
+    private static boolean isGlob(String input) {
+        String name = new File(input).getName();
+        return name.indexOf('*') >= 0 || name.indexOf('?') >= 0 || name.indexOf('[') >= 0 || name.indexOf('{') >= 0;
+    }
+
+    private static List<File> listFiles(File dir, PathMatcher matcher) throws IOException {
+        List<File> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir.toPath())) {
+            for (Path p : stream) {
+                String name = p.getFileName().toString().toLowerCase(Locale.ROOT);
+                if (!Files.isRegularFile(p) || !(name.endsWith(".elamx") || name.endsWith(".elamxb"))) {
+                    continue;
+                }
+                if (matcher == null || matcher.matches(p.getFileName())) {
+                    files.add(p.toFile());
+                }
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.batchrun;
+
+import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import de.elamx.core.BatchRunOutput;
+import de.elamx.core.BatchRunService;
+import de.elamx.core.GeneralOutputWriterService;
+import de.elamx.core.HDF5OutputWriterService;
+import de.elamx.laminate.Laminat;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Führt die Batch-Berechnungen aller Module für eine Menge von Laminaten aus
+ * und schreibt die Ergebnisse. Bei mehr als einem Thread werden die
+ * Berechnungen der Laminate mit
+ * {@link BatchRunService#performBatchTasks(Laminat, int)} auf einen Pool von
+ * Threads verteilt. Die Ausgaben werden immer im Thread des Aufrufers in der
+ * Reihenfolge der Laminate und Module geschrieben, sodass die Text- und die
+ * hdf5-Ausgabe unabhängig von der Anzahl der Threads sind. Es werden maximal
+ * 2*numberOfThreads Laminate im Voraus berechnet, um den Speicherbedarf zu
+ * begrenzen.<br>
+ * Threads, die nicht für die Laminate benötigt werden (weniger Laminate als
+ * Threads), werden über
+ * {@link BatchRunService#performBatchTasks(Laminat, int, int, int)}
+ * gleichmäßig an die Module weitergegeben. Bei mindestens so vielen Laminaten wie
+ * Threads rechnen die Module jeweils mit einem Thread.
+ *
+ * @author Andreas Hauffe
+ */
+class BatchRunner {
+
+    private final GeneralOutputWriterService writerService;
+    private final HDF5OutputWriterService hdf5WriterService;
+    private final List<BatchRunService> batchRunServices;
+    private final int outputType;
+    private final int hdf5OutputType;
+    private final int numberOfThreads;
+
+    /**
+     * @param writerService Ausgabe der allgemeinen Laminatinformationen
+     * @param hdf5WriterService hdf5-Ausgabe der allgemeinen
+     * Laminatinformationen
+     * @param batchRunServices Batch-Services der Module
+     * @param outputType Ausgabetyp
+     * @param numberOfThreads Anzahl der Threads, bei 1 erfolgt die
+     * Berechnung wie bisher seriell
+     */
+    BatchRunner(GeneralOutputWriterService writerService, HDF5OutputWriterService hdf5WriterService,
+            Collection<? extends BatchRunService> batchRunServices, int outputType, int numberOfThreads) {
+        this(writerService, hdf5WriterService, batchRunServices, outputType, 0, numberOfThreads);
+    }
+
+    /**
+     * @param writerService Ausgabe der allgemeinen Laminatinformationen
+     * @param hdf5WriterService hdf5-Ausgabe der allgemeinen
+     * Laminatinformationen
+     * @param batchRunServices Batch-Services der Module
+     * @param outputType Ausgabetyp der Textausgabe
+     * @param hdf5OutputType Ausgabetyp der hdf5-Ausgabe
+     * @param numberOfThreads Anzahl der Threads, bei 1 erfolgt die
+     * Berechnung wie bisher seriell
+     */
+    BatchRunner(GeneralOutputWriterService writerService, HDF5OutputWriterService hdf5WriterService,
+            Collection<? extends BatchRunService> batchRunServices, int outputType, int hdf5OutputType, int numberOfThreads) {
+        this.writerService = writerService;
+        this.hdf5WriterService = hdf5WriterService;
+        this.batchRunServices = new ArrayList<>(batchRunServices);
+        this.outputType = outputType;
+        this.hdf5OutputType = hdf5OutputType;
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+    }
+
+    /**
+     * Berechnet alle Laminate und schreibt die Ergebnisse.
+     *
+     * @param laminates Laminate
+     * @param out Stream für die Textausgabe
+     * @param hdf5out hdf5-Writer oder <CODE>null</CODE>
+     */
+    void run(Collection<? extends Laminat> laminates, PrintStream out, IHDF5Writer hdf5out) {
+        int laminateThreads = Math.min(numberOfThreads, Math.max(1, laminates.size()));
+        final int serviceThreads = numberOfThreads / laminateThreads;
+        if (laminateThreads == 1) {
+            for (Laminat lam : laminates) {
+                writeLaminateInformation(lam, out, hdf5out);
+                for (BatchRunService tos : batchRunServices) {
+                    tos.performBatchTasks(lam, outputType, hdf5OutputType, serviceThreads).write(out, hdf5out);
+                }
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(laminateThreads, r -> {
+            Thread t = new Thread(r, "eLamX batch run");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            Iterator<? extends Laminat> it = laminates.iterator();
+            ArrayDeque<Laminat> pendingLaminates = new ArrayDeque<>();
+            ArrayDeque<Future<List<BatchRunOutput>>> pendingOutputs = new ArrayDeque<>();
+            while (it.hasNext() || !pendingLaminates.isEmpty()) {
+                while (it.hasNext() && pendingLaminates.size() < 2 * laminateThreads) {
+                    final Laminat lam = it.next();
+                    pendingLaminates.add(lam);
+                    pendingOutputs.add(executor.submit(() -> performBatchTasks(lam, serviceThreads)));
+                }
+                Laminat lam = pendingLaminates.poll();
+                List<BatchRunOutput> outputs = pendingOutputs.poll().get();
+                writeLaminateInformation(lam, out, hdf5out);
+                for (BatchRunOutput output : outputs) {
+                    output.write(out, hdf5out);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<BatchRunOutput> performBatchTasks(Laminat lam, int serviceThreads) {
+        List<BatchRunOutput> outputs = new ArrayList<>(batchRunServices.size());
+        for (BatchRunService tos : batchRunServices) {
+            outputs.add(tos.performBatchTasks(lam, outputType, hdf5OutputType, serviceThreads));
+        }
+        return outputs;
+    }
+
+    private void writeLaminateInformation(Laminat lam, PrintStream out, IHDF5Writer hdf5out) {
+        writerService.writeLaminateInformation(out, lam);
+        if (hdf5out != null) {
+            hdf5WriterService.writeLaminateInformation(hdf5out, lam);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.batchrun;
+
+import ch.systemsx.cisd.hdf5.HDF5Factory;
+import ch.systemsx.cisd.hdf5.IHDF5Reader;
+import de.elamx.clt.LoadCaseSource;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Liest Lastfälle abschnittsweise aus einer hdf5-Datei. Die Lasten stehen im
+ * Datensatz <CODE>/loads</CODE> als Matrix mit einer Zeile je Lastfall und den
+ * Spalten N<sub>x</sub>, N<sub>y</sub>, N<sub>xy</sub>, M<sub>x</sub>,
+ * M<sub>y</sub>, M<sub>xy</sub> sowie optional deltaT und deltaH. Die
+ * Kennungen der Lastfälle können im Datensatz <CODE>/ids</CODE> (int64)
+ * übergeben werden, ansonsten wird die Zeilennummer verwendet.
+ *
+ * @author Andreas Hauffe
+ */
+class HDF5LoadCaseSource implements LoadCaseSource {
+
+    static final String LOADS_PATH = "/loads";
+    static final String IDS_PATH = "/ids";
+
+    private final IHDF5Reader reader;
+    private final long numCases;
+    private final int numColumns;
+    private final boolean hasIds;
+    private long offset = 0;
+
+    HDF5LoadCaseSource(File file) throws IOException {
+        reader = HDF5Factory.openForReading(file);
+        if (!reader.object().exists(LOADS_PATH)) {
+            reader.close();
+            throw new IOException(file.getPath() + ": dataset " + LOADS_PATH + " not found");
+        }
+        long[] dims = reader.object().getDimensions(LOADS_PATH);
+        if (dims.length != 2 || dims[1] < 6 || dims[1] > 8) {
+            reader.close();
+            throw new IOException(file.getPath() + ": dataset " + LOADS_PATH + " must have 6 to 8 columns");
+        }
+        numCases = dims[0];
+        numColumns = (int) dims[1];
+        hasIds = reader.object().exists(IDS_PATH);
+    }
+
+    @Override
+    public int read(double[] values, double[] deltaT, double[] deltaH, long[] ids, int maxCases) throws IOException {
+        int num = (int) Math.min(maxCases, numCases - offset);
+        if (num <= 0) {
+            return 0;
+        }
+        double[][] block = reader.float64().readMatrixBlockWithOffset(LOADS_PATH, num, numColumns, offset, 0);
+        long[] blockIds = hasIds ? reader.int64().readArrayBlockWithOffset(IDS_PATH, num, offset) : null;
+        for (int lc = 0; lc < num; lc++) {
+            double[] row = block[lc];
+            for (int ii = 0; ii < 6; ii++) {
+                values[ii * maxCases + lc] = row[ii];
+            }
+            deltaT[lc] = numColumns > 6 ? row[6] : 0.0;
+            deltaH[lc] = numColumns > 7 ? row[7] : 0.0;
+            ids[lc] = hasIds ? blockIds[lc] : offset + lc;
+        }
+        offset += num;
+        return num;
+    }
+
+    @Override
+    public void close() {
+        reader.close();
+    }
+}
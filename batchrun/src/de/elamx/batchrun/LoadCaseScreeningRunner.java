@@ -0,0 +1,141 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.batchrun;
+
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.CLT_Layer;
+import de.elamx.clt.CLT_LoadCaseScreening;
+import de.elamx.clt.CLT_ScreeningResult;
+import de.elamx.clt.CSVLoadCaseSource;
+import de.elamx.clt.LoadCaseSource;
+import de.elamx.laminate.Laminat;
+import de.elamx.utilities.Utilities;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Untersucht alle Laminate mit den Lastfällen einer externen Datei (z.B.
+ * Schnittlasten einer FE-Rechnung) und schreibt je Lage und Position die
+ * kritischsten Lastfälle. Dateien mit der Endung <CODE>.h5</CODE> bzw.
+ * <CODE>.hdf5</CODE> werden mit {@link HDF5LoadCaseSource} gelesen, alle
+ * anderen als Textdatei mit {@link CSVLoadCaseSource}. Die Datei wird für
+ * jedes Laminat erneut gelesen, ohne sie vollständig in den Speicher zu
+ * laden.
+ *
+ * @author Andreas Hauffe
+ */
+class LoadCaseScreeningRunner {
+
+    private final File loadFile;
+    private final int numberOfCritical;
+    private final int numberOfThreads;
+
+    /**
+     * @param loadFile Datei mit den Lastfällen
+     * @param numberOfCritical Anzahl der auszugebenden kritischen Lastfälle
+     * je Lage und Position
+     * @param numberOfThreads Anzahl der Threads
+     */
+    LoadCaseScreeningRunner(File loadFile, int numberOfCritical, int numberOfThreads) {
+        this.loadFile = loadFile;
+        this.numberOfCritical = numberOfCritical;
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    /**
+     * Untersucht alle Laminate und schreibt die Ergebnisse.
+     *
+     * @param laminates Laminate
+     * @param out Stream für die Textausgabe
+     * @throws IOException bei Fehlern beim Lesen der Lastfälle
+     */
+    void run(Collection<? extends Laminat> laminates, PrintStream out) throws IOException {
+        for (Laminat laminate : laminates) {
+            CLT_Laminate clt_lam = laminate.getLookup().lookup(CLT_Laminate.class);
+            if (clt_lam == null) {
+                clt_lam = new CLT_Laminate(laminate);
+            }
+            CLT_LoadCaseScreening screening = new CLT_LoadCaseScreening(clt_lam, numberOfCritical,
+                    CLT_LoadCaseScreening.DEFAULT_CHUNK_SIZE, numberOfThreads);
+            CLT_ScreeningResult result;
+            try (LoadCaseSource source = openSource(loadFile)) {
+                result = screening.screen(source);
+            }
+            write(out, laminate, result);
+        }
+    }
+
+    static LoadCaseSource openSource(File file) throws IOException {
+        String name = file.getName().toLowerCase(Locale.ENGLISH);
+        if (name.endsWith(".h5") || name.endsWith(".hdf5")) {
+            return new HDF5LoadCaseSource(file);
+        }
+        return new CSVLoadCaseSource(file);
+    }
+
+    private void write(PrintStream out, Laminat laminate, CLT_ScreeningResult result) {
+        Locale lo = Locale.ENGLISH;
+
+        out.println("********************************************************************************");
+        out.println(Utilities.centeredText("LOAD CASE SCREENING", 80));
+        out.println(Utilities.centeredText(laminate.getName(), 80));
+        out.println("********************************************************************************");
+        out.println("Load case file       : " + loadFile.getPath());
+        out.println("Number of load cases : " + result.getNumberOfCases());
+        out.println("Failed load cases    : " + result.getNumberOfFailedCases());
+        if (result.getGoverningLayer() >= 0) {
+            out.printf(lo, "Minimal reserve factor = %-10.4f (layer %d, %s)%n", result.getMinimalReserveFactor(),
+                    result.getGoverningLayer() + 1, positionName(result.getGoverningPosition()));
+        }
+        out.println();
+
+        for (int l = 0; l < result.getNumberOfLayers(); l++) {
+            for (int pos : new int[]{CLT_Layer.POSITION_UPPER, CLT_Layer.POSITION_LOWER}) {
+                out.println("Layer " + (l + 1) + " (" + positionName(pos) + ") :");
+                out.println("  rank  record       id             RF        Nx          Ny          Nxy         Mx          My          Mxy         deltaT      deltaH");
+                double[] rfs = result.getReserveFactors(l, pos);
+                long[] records = result.getRecordNumbers(l, pos);
+                long[] ids = result.getIds(l, pos);
+                double[][] loads = result.getLoads(l, pos);
+                for (int ii = 0; ii < rfs.length; ii++) {
+                    out.printf(lo, "  %4d  %-12d %-12d %-9.4f", ii + 1, records[ii], ids[ii], rfs[ii]);
+                    for (double v : loads[ii]) {
+                        out.printf(lo, " %-11.4g", v);
+                    }
+                    out.println();
+                }
+            }
+        }
+        out.println();
+    }
+
+    private static String positionName(int position) {
+        return position == CLT_Layer.POSITION_UPPER ? "upper" : "lower";
+    }
+}
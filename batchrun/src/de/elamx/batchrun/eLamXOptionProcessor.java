@@ -39,6 +39,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -46,6 +47,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -77,6 +79,12 @@ public class eLamXOptionProcessor extends OptionProcessor {
     private final Option outputTypeOption = Option.optionalArgument('t', "outputtype");
     private final Option reducedInputOption = Option.optionalArgument('b', "reducedinput");
     private final Option hdf5OutputOption = Option.optionalArgument('h', "hdf5output");
+    private final Option hdf5OutputTypeOption = Option.requiredArgument(Option.NO_SHORT_NAME, "hdf5outputtype");
+    private final Option threadsOption = Option.requiredArgument(Option.NO_SHORT_NAME, "threads");
+    private final Option manifestOption = Option.requiredArgument(Option.NO_SHORT_NAME, "manifest");
+    private final Option timingOption = Option.withoutArgument(Option.NO_SHORT_NAME, "timing");
+    private final Option screenOption = Option.requiredArgument(Option.NO_SHORT_NAME, "screen");
+    private final Option criticalOption = Option.requiredArgument(Option.NO_SHORT_NAME, "critical");
 
     @Override
     protected Set<Option> getOptions() {
@@ -86,6 +94,12 @@ public class eLamXOptionProcessor extends OptionProcessor {
         set.add(outputTypeOption);
         set.add(reducedInputOption);
         set.add(hdf5OutputOption);
+        set.add(hdf5OutputTypeOption);
+        set.add(threadsOption);
+        set.add(manifestOption);
+        set.add(timingOption);
+        set.add(screenOption);
+        set.add(criticalOption);
         return set;
     }
 
@@ -98,49 +112,29 @@ public class eLamXOptionProcessor extends OptionProcessor {
      */
     @Override
     protected void process(Env env, Map<Option, String[]> maps) throws CommandException {
-        /*
-        Öffnen der über die Option "-i" übergebenen *.elamx-Datei und Laden
-        in das globale Lookup.
-         */
-        File inputFile = null;
-        if (maps.containsKey(inputOption)) {
-            String fileName = maps.get(inputOption)[0];
-            inputFile = new File(fileName);
-            if (maps.containsKey(reducedInputOption)) {
-                // Neue eLamX-Datei anlegen
-                NewFileCreator.create();
+        // Zeit für das Starten der Plattform bis zum Beginn des Batch-Laufs
+        long startupTime = ManagementFactory.getRuntimeMXBean().getUptime();
 
-                // Einlesen der reduzierten Eingabedatei
-                SAXParserFactory factory = SAXParserFactory.newInstance();
-                try {
-                    SAXParser saxParser = factory.newSAXParser();
-                    ReducedInputHandler handler = new ReducedInputHandler();
-                    saxParser.parse(inputFile, handler);
-                } catch (ParserConfigurationException | SAXException | IOException ex) {
-                    Logger.getLogger(eLamXOptionProcessor.class.getName()).log(Level.SEVERE, null, ex);
-                }
-            } else {
-                if (inputFile.exists() && inputFile.isFile()) {
-                    FileObject fo = FileUtil.toFileObject(inputFile);
-                    eLamXLookup.getDefault().setFileObject(fo);
-                }
-            }
-        }
-
-        // Setzen des Output-Streams auf STD-Out
-        PrintStream out = System.out;
         /*
-        Wenn eine Ausgabedatei mit der Option "-o" übergeben wurde, dann
-        Öffnen des OutputStreams.
+        Bestimmen der Eingabedateien. Über die Option "-i" kann eine
+        *.elamx-Datei, eine reduzierte Eingabedatei, ein Verzeichnis oder ein
+        Glob-Muster übergeben werden, über die Option "--manifest" eine Datei
+        mit einer Liste von Eingaben. Alle Dateien werden nacheinander in
+        derselben JVM berechnet.
          */
-        if (maps.containsKey(outputOption)) {
-            String fileName = maps.get(outputOption)[0];
-            File outputFile = new File(fileName);
-            try {
-                out = new PrintStream(outputFile);
-            } catch (FileNotFoundException ex) {
-                Logger.getLogger(eLamXOptionProcessor.class.getName()).log(Level.SEVERE, null, ex);
+        List<File> inputFiles = new ArrayList<>();
+        boolean multipleInputs = maps.containsKey(manifestOption);
+        try {
+            if (maps.containsKey(inputOption)) {
+                String input = maps.get(inputOption)[0];
+                multipleInputs |= BatchInputFiles.isMultiple(input);
+                inputFiles.addAll(BatchInputFiles.resolve(input));
             }
+            if (maps.containsKey(manifestOption)) {
+                inputFiles.addAll(BatchInputFiles.readManifest(new File(maps.get(manifestOption)[0])));
+            }
+        } catch (IOException ex) {
+            throw new CommandException(1, ex.getLocalizedMessage());
         }
 
         int outputType = 0;
@@ -152,18 +146,186 @@ public class eLamXOptionProcessor extends OptionProcessor {
         GeneralOutputWriterService writerService = writerServices.get(Math.min(Math.max(outputType, 0), writerServices.size() - 1));
 
         /*
-        Wenn eine hdf5-Ausgabedatei mit der Option "-h" definiert wurde, dann
-        Öffnen des hdf5-Writers
+        Anzahl der Threads für die Berechnung der Laminate über die Option
+        "--threads". Ohne Option erfolgt die Berechnung seriell, bei 0 wird
+        die Anzahl der verfügbaren Prozessoren verwendet.
          */
-        IHDF5Writer hdf5out = null;
-        if (maps.containsKey(hdf5OutputOption)) {
-            String hdf5FileName = maps.get(hdf5OutputOption)[0];
-            hdf5out = HDF5Factory.configure(hdf5FileName).overwrite().writer();
+        int numberOfThreads = 1;
+        if (maps.containsKey(threadsOption)) {
+            numberOfThreads = Integer.parseInt(maps.get(threadsOption)[0]);
+            if (numberOfThreads <= 0) {
+                numberOfThreads = Runtime.getRuntime().availableProcessors();
+            }
         }
 
+        /*
+        Der Typ der hdf5-Ausgabe wird unabhängig vom Typ der Textausgabe über
+        die Option "--hdf5outputtype" gewählt. Mit 0 (Standard) wird der
+        bisherige Aufbau mit Gruppen und Compound-Datensätzen je Berechnung
+        geschrieben, mit 1 werden die Ergebnisse der Laminatberechnung
+        spaltenweise in einem Datensatz je Größe gespeichert. Module ohne
+        eigene Ausgabe für einen Typ verwenden ihre Standardausgabe.
+         */
         int hdf5OutputType = 0;
+        if (maps.containsKey(hdf5OutputTypeOption)) {
+            hdf5OutputType = Integer.parseInt(maps.get(hdf5OutputTypeOption)[0]);
+        }
         List<HDF5OutputWriterService> hdf5WriterServices = new ArrayList<>(Lookup.getDefault().lookupAll(HDF5OutputWriterService.class));
-        HDF5OutputWriterService hdf5WriterService = hdf5WriterServices.get(Math.min(Math.max(hdf5OutputType, 0), writerServices.size() - 1));
+        HDF5OutputWriterService hdf5WriterService = hdf5WriterServices.get(Math.min(Math.max(hdf5OutputType, 0), hdf5WriterServices.size() - 1));
+
+        BatchRunner runner = new BatchRunner(writerService, hdf5WriterService,
+                Lookup.getDefault().lookupAll(BatchRunService.class), outputType, hdf5OutputType, numberOfThreads);
+
+        /*
+        Über die Option "--screen" wird eine Datei mit Lastfällen (Text oder
+        hdf5) übergeben, mit der jedes Laminat zusätzlich untersucht wird.
+        Die Anzahl der ausgegebenen kritischen Lastfälle je Lage kann mit
+        "--critical" festgelegt werden.
+         */
+        LoadCaseScreeningRunner screeningRunner = null;
+        if (maps.containsKey(screenOption)) {
+            int numberOfCritical = 10;
+            if (maps.containsKey(criticalOption)) {
+                numberOfCritical = Integer.parseInt(maps.get(criticalOption)[0]);
+                if (numberOfCritical < 1) {
+                    throw new CommandException(1, "--critical must be at least 1");
+                }
+            }
+            screeningRunner = new LoadCaseScreeningRunner(new File(maps.get(screenOption)[0]), numberOfCritical, numberOfThreads);
+        }
+
+        long[] times = new long[Math.max(1, inputFiles.size())];
+        if (!multipleInputs) {
+            File inputFile = inputFiles.isEmpty() ? null : inputFiles.get(0);
+            boolean reducedInput = maps.containsKey(reducedInputOption) || (inputFile != null && BatchInputFiles.isReducedInput(inputFile));
+
+            // Setzen des Output-Streams auf STD-Out
+            PrintStream out = System.out;
+            /*
+            Wenn eine Ausgabedatei mit der Option "-o" übergeben wurde, dann
+            Öffnen des OutputStreams.
+             */
+            if (maps.containsKey(outputOption)) {
+                out = openOutput(new File(maps.get(outputOption)[0]));
+            }
+
+            /*
+            Wenn eine hdf5-Ausgabedatei mit der Option "-h" definiert wurde, dann
+            Öffnen des hdf5-Writers
+             */
+            IHDF5Writer hdf5out = null;
+            if (maps.containsKey(hdf5OutputOption)) {
+                hdf5out = HDF5Factory.configure(maps.get(hdf5OutputOption)[0]).overwrite().writer();
+            }
+
+            long time = System.nanoTime();
+            processFile(inputFile, reducedInput, out, hdf5out, writerService, hdf5WriterService, runner, screeningRunner);
+            times[0] = System.nanoTime() - time;
+        } else {
+            /*
+            Bei mehreren Eingabedateien sind die Optionen "-o" und "-h"
+            Verzeichnisse. Für jede Eingabedatei wird eine eigene Ausgabedatei
+            mit dem Namen der Eingabedatei erzeugt.
+             */
+            File outputDir = null;
+            if (maps.containsKey(outputOption)) {
+                outputDir = new File(maps.get(outputOption)[0]);
+                outputDir.mkdirs();
+            }
+            File hdf5OutputDir = null;
+            if (maps.containsKey(hdf5OutputOption)) {
+                hdf5OutputDir = new File(maps.get(hdf5OutputOption)[0]);
+                hdf5OutputDir.mkdirs();
+            }
+            Set<String> outputNames = new HashSet<>();
+            Set<String> hdf5OutputNames = new HashSet<>();
+
+            for (int ii = 0; ii < inputFiles.size(); ii++) {
+                File inputFile = inputFiles.get(ii);
+                long time = System.nanoTime();
+                PrintStream out = System.out;
+                IHDF5Writer hdf5out = null;
+                try {
+                    if (outputDir != null) {
+                        out = openOutput(new File(outputDir, BatchInputFiles.outputName(inputFile, ".txt", outputNames)));
+                    }
+                    if (hdf5OutputDir != null) {
+                        String hdf5FileName = new File(hdf5OutputDir, BatchInputFiles.outputName(inputFile, ".h5", hdf5OutputNames)).getPath();
+                        hdf5out = HDF5Factory.configure(hdf5FileName).overwrite().writer();
+                    }
+                    boolean reducedInput = maps.containsKey(reducedInputOption) || BatchInputFiles.isReducedInput(inputFile);
+                    processFile(inputFile, reducedInput, out, hdf5out, writerService, hdf5WriterService, runner, screeningRunner);
+                } catch (RuntimeException ex) {
+                    // Fehler in einer Datei sollen die übrigen Berechnungen nicht abbrechen
+                    Logger.getLogger(eLamXOptionProcessor.class.getName()).log(Level.SEVERE, inputFile.getPath(), ex);
+                    if (out != System.out) {
+                        out.close();
+                    }
+                    if (hdf5out != null) {
+                        hdf5out.close();
+                    }
+                }
+                times[ii] = System.nanoTime() - time;
+            }
+        }
+
+        if (maps.containsKey(timingOption)) {
+            writeTimingStatistics(System.err, inputFiles, times, startupTime);
+        }
+
+        /*
+        Falls sich Änderungen hinsichtlich des Inputs und somit in der 
+        eLamX-Datei ergeben haben sollten, diese ignorieren und des Änderungs-
+        status auf false setzen. Aktuell muss eine Änderung des Inputs ein
+        Fehler sein. Da die Datei nicht modifiziert werden sollte.
+         */
+        eLamXLookup.getDefault().setModified(false);
+
+        // Beenden von eLamX
+        LifecycleManager.getDefault().exit();
+    }
+
+    /**
+     * Lädt eine Eingabedatei in das globale Lookup, berechnet alle Laminate
+     * und schreibt die Ergebnisse. Die Ausgaben werden anschließend
+     * geschlossen, außer der Ausgabe auf STD-Out.
+     *
+     * @param inputFile Eingabedatei oder <CODE>null</CODE>, wenn der Inhalt
+     * des Lookups verwendet werden soll
+     * @param reducedInput <CODE>true</CODE> für reduzierte Eingabedateien
+     * @param out Textausgabe
+     * @param hdf5out hdf5-Ausgabe oder <CODE>null</CODE>
+     * @param screeningRunner Untersuchung externer Lastfälle oder
+     * <CODE>null</CODE>
+     */
+    private void processFile(File inputFile, boolean reducedInput, PrintStream out, IHDF5Writer hdf5out,
+            GeneralOutputWriterService writerService, HDF5OutputWriterService hdf5WriterService, BatchRunner runner,
+            LoadCaseScreeningRunner screeningRunner) {
+        /*
+        Öffnen der Eingabedatei und Laden in das globale Lookup. Der Inhalt
+        der vorherigen Datei wird dabei aus dem Lookup entfernt.
+         */
+        if (inputFile != null) {
+            if (reducedInput) {
+                // Neue eLamX-Datei anlegen
+                NewFileCreator.create();
+
+                // Einlesen der reduzierten Eingabedatei
+                SAXParserFactory factory = SAXParserFactory.newInstance();
+                try {
+                    SAXParser saxParser = factory.newSAXParser();
+                    ReducedInputHandler handler = new ReducedInputHandler();
+                    saxParser.parse(inputFile, handler);
+                } catch (ParserConfigurationException | SAXException | IOException ex) {
+                    Logger.getLogger(eLamXOptionProcessor.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            } else {
+                if (inputFile.exists() && inputFile.isFile()) {
+                    FileObject fo = FileUtil.toFileObject(FileUtil.normalizeFile(inputFile));
+                    eLamXLookup.getDefault().setFileObject(fo);
+                }
+            }
+        }
 
         // Schreiben des Headers
         Date date = new Date();
@@ -200,19 +362,18 @@ public class eLamXOptionProcessor extends OptionProcessor {
             }
         }
 
-        // Schleife über alle in der eLamX-Datei enthaltenen Laminate
-        for (Laminat lam : eLamXLookup.getDefault().lookupAll(Laminat.class)) {
-            // Schreiben der Laminatinformationen
-            writerService.writeLaminateInformation(out, lam);
-            if (hdf5out != null) {
-                hdf5WriterService.writeLaminateInformation(hdf5out, lam);
-            }
-            /*
-            Schleife über alle Module-Ausgabe-Service-Klasse, um die jeweiligen
-            Berechnungen und Ausgaben anzustoßen, z.B. das Berechnungsmodul.
-             */
-            for (BatchRunService tos : Lookup.getDefault().lookupAll(BatchRunService.class)) {
-                tos.performBatchTasksAndOutput(lam, out, hdf5out, outputType);
+        /*
+        Schleife über alle in der eLamX-Datei enthaltenen Laminate und alle
+        Module-Ausgabe-Service-Klasse, um die jeweiligen Berechnungen und
+        Ausgaben anzustoßen, z.B. das Berechnungsmodul.
+         */
+        runner.run(eLamXLookup.getDefault().lookupAll(Laminat.class), out, hdf5out);
+
+        if (screeningRunner != null) {
+            try {
+                screeningRunner.run(eLamXLookup.getDefault().lookupAll(Laminat.class), out);
+            } catch (IOException ex) {
+                Logger.getLogger(eLamXOptionProcessor.class.getName()).log(Level.SEVERE, null, ex);
             }
         }
 
@@ -225,16 +386,33 @@ public class eLamXOptionProcessor extends OptionProcessor {
         if (hdf5out != null) {
             hdf5out.close();
         }
+    }
 
-        /*
-        Falls sich Änderungen hinsichtlich des Inputs und somit in der 
-        eLamX-Datei ergeben haben sollten, diese ignorieren und des Änderungs-
-        status auf false setzen. Aktuell muss eine Änderung des Inputs ein
-        Fehler sein. Da die Datei nicht modifiziert werden sollte.
-         */
-        eLamXLookup.getDefault().setModified(false);
+    private static PrintStream openOutput(File outputFile) {
+        try {
+            return new PrintStream(outputFile);
+        } catch (FileNotFoundException ex) {
+            Logger.getLogger(eLamXOptionProcessor.class.getName()).log(Level.SEVERE, null, ex);
+            return System.out;
+        }
+    }
 
-        // Beenden von eLamX
-        LifecycleManager.getDefault().exit();
+    /**
+     * Ausgabe der Laufzeiten je Datei und der gegenüber einzelnen Aufrufen
+     * eingesparten Startzeit der Plattform.
+     */
+    private static void writeTimingStatistics(PrintStream out, List<File> inputFiles, long[] times, long startupTime) {
+        long total = 0;
+        for (int ii = 0; ii < times.length; ii++) {
+            total += times[ii];
+            String name = ii < inputFiles.size() ? inputFiles.get(ii).getPath() : "-";
+            out.printf(Locale.ENGLISH, "%10.1f ms  %s%n", times[ii] / 1.0e6, name);
+        }
+        int numberOfFiles = times.length;
+        double totalMs = total / 1.0e6;
+        out.printf(Locale.ENGLISH, "files: %d, platform startup: %d ms, processing: %.1f ms (%.1f ms per file)%n",
+                numberOfFiles, startupTime, totalMs, totalMs / numberOfFiles);
+        out.printf(Locale.ENGLISH, "estimated time with one JVM per file: %.1f ms, saved startup time: %d ms%n",
+                numberOfFiles * startupTime + totalMs, (numberOfFiles - 1) * startupTime);
     }
 }
@@ -0,0 +1,156 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.batchrun;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Test der Bestimmung der Eingabedateien und der Namen der Ausgabedateien
+ * eines Batch-Laufs.
+ *
+ * @author Andreas Hauffe
+ */
+public class BatchInputFilesTest {
+
+    public BatchInputFilesTest() {
+    }
+
+    private static File createTempDir(String prefix) throws IOException {
+        File dir = Files.createTempDirectory(prefix).toFile();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    private static File createDir(File parent, String name) {
+        File dir = new File(parent, name);
+        dir.mkdir();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    private static File createFile(File dir, String name, String... lines) throws IOException {
+        File file = new File(dir, name);
+        Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        file.deleteOnExit();
+        return file;
+    }
+
+    @Test
+    public void testResolve() throws IOException {
+        File dir = createTempDir("batchinput");
+        File b = createFile(dir, "b.elamx");
+        File a = createFile(dir, "a.elamxb");
+        File c = createFile(dir, "c.ELAMX");
+        createFile(dir, "d.txt");
+        createDir(dir, "e.elamx");
+
+        // Einzelne Datei, auch wenn sie nicht existiert
+        File single = new File(dir, "x.elamx");
+        assertEquals(Arrays.asList(single), BatchInputFiles.resolve(single.getPath()));
+        assertFalse(BatchInputFiles.isMultiple(single.getPath()));
+
+        // Verzeichnis: nur *.elamx- und *.elamxb-Dateien, alphabetisch
+        assertTrue(BatchInputFiles.isMultiple(dir.getPath()));
+        assertEquals(Arrays.asList(a, b, c), BatchInputFiles.resolve(dir.getPath()));
+
+        assertTrue(BatchInputFiles.isReducedInput(a));
+        assertTrue(BatchInputFiles.isReducedInput(new File("A.ELAMXB")));
+        assertFalse(BatchInputFiles.isReducedInput(b));
+    }
+
+    @Test
+    public void testResolveGlob() throws IOException {
+        File dir = createTempDir("batchglob");
+        File job1 = createFile(dir, "job1.elamx");
+        File job2 = createFile(dir, "job2.elamxb");
+        File job10 = createFile(dir, "job10.elamx");
+        createFile(dir, "other.elamx");
+        createFile(dir, "job3.txt");
+
+        String glob = new File(dir, "job*").getPath();
+        assertTrue(BatchInputFiles.isMultiple(glob));
+        assertEquals(Arrays.asList(job1, job10, job2), BatchInputFiles.resolve(glob));
+
+        assertEquals(Arrays.asList(job1, job2), BatchInputFiles.resolve(new File(dir, "job?.*").getPath()));
+        assertEquals(Arrays.asList(job1, job10), BatchInputFiles.resolve(new File(dir, "job*.elamx").getPath()));
+        assertTrue(BatchInputFiles.resolve(new File(dir, "none*").getPath()).isEmpty());
+    }
+
+    @Test
+    public void testReadManifest() throws IOException {
+        File dir = createTempDir("batchmanifest");
+        File sub = createDir(dir, "sub");
+        File x = createFile(sub, "x.elamx");
+        File y = createFile(sub, "y.elamxb");
+        File z = createFile(dir, "z.elamx");
+        File other = createTempDir("batchother");
+        File absolute = createFile(other, "abs.elamx");
+
+        File manifest = createFile(dir, "jobs.txt",
+                "# Kommentar",
+                "",
+                "  z.elamx  ",
+                "sub",
+                absolute.getAbsolutePath(),
+                "sub/y.*");
+
+        List<File> files = BatchInputFiles.readManifest(manifest);
+        assertEquals(5, files.size());
+        assertEquals(z.getCanonicalFile(), files.get(0).getCanonicalFile());
+        assertEquals(x.getCanonicalFile(), files.get(1).getCanonicalFile());
+        assertEquals(y.getCanonicalFile(), files.get(2).getCanonicalFile());
+        assertEquals(absolute.getCanonicalFile(), files.get(3).getCanonicalFile());
+        assertEquals(y.getCanonicalFile(), files.get(4).getCanonicalFile());
+    }
+
+    @Test
+    public void testOutputNameCollision() {
+        Set<String> usedNames = new HashSet<>();
+        assertEquals("job.txt", BatchInputFiles.outputName(new File("a", "job.elamx"), ".txt", usedNames));
+        assertEquals("job_2.txt", BatchInputFiles.outputName(new File("b", "job.elamx"), ".txt", usedNames));
+        assertEquals("job_3.txt", BatchInputFiles.outputName(new File("a", "job.elamxb"), ".txt", usedNames));
+        // Eine Eingabedatei, deren Name einem bereits vergebenen Zählernamen entspricht
+        assertEquals("job_2_2.txt", BatchInputFiles.outputName(new File("c", "job_2.elamx"), ".txt", usedNames));
+        assertEquals("noextension.txt", BatchInputFiles.outputName(new File("noextension"), ".txt", usedNames));
+        assertEquals(".hidden.txt", BatchInputFiles.outputName(new File(".hidden"), ".txt", usedNames));
+        assertEquals(6, usedNames.size());
+
+        // Die Namen je Endung werden getrennt verwaltet
+        Set<String> hdf5Names = new HashSet<>();
+        assertEquals("job.h5", BatchInputFiles.outputName(new File("b", "job.elamx"), ".h5", hdf5Names));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.batchrun;
+
+import ch.systemsx.cisd.hdf5.HDF5DataClass;
+import ch.systemsx.cisd.hdf5.HDF5Factory;
+import ch.systemsx.cisd.hdf5.IHDF5Reader;
+import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.clt.calculation.CalculationModuleData;
+import de.elamx.clt.calculation.lastplyfailureui.LastPlyFailureModuleData;
+import de.elamx.clt.plate.BucklingInput;
+import de.elamx.clt.plate.BucklingInteraction;
+import de.elamx.clt.plateui.buckling.BucklingModuleData;
+import de.elamx.core.BatchRunService;
+import de.elamx.core.HDF5OutputWriterService;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import de.elamx.laminate.failure.Puck;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.openide.util.Lookup;
+
+/**
+ * Vergleich der Text- und hdf5-Ausgaben des parallelen und des seriellen
+ * Batch-Laufs mit den registrierten Batch-Services der Module für die
+ * Laminatberechnung, das Plattenbeulen und das Letztlagenversagen sowie der
+ * hdf5-Ausgabe.
+ *
+ * @author Andreas Hauffe
+ */
+public class BatchRunnerModulesTest {
+
+    private static final int NUMBER_OF_LAMINATES = 12;
+
+    public BatchRunnerModulesTest() {
+    }
+
+    private static List<Laminat> createLaminates() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        mat.setRParTen(1800.0);
+        mat.setRParCom(1200.0);
+        mat.setRNorTen(60.0);
+        mat.setRNorCom(220.0);
+        mat.setRShear(90.0);
+        mat.putAdditionalValue(Puck.PSPD, 0.3);
+        mat.putAdditionalValue(Puck.PSPZ, 0.35);
+        mat.putAdditionalValue(Puck.A0, 0.5);
+        mat.putAdditionalValue(Puck.LAMBDA_MIN, 0.5);
+
+        List<Laminat> laminates = new ArrayList<>();
+        for (int ii = 0; ii < NUMBER_OF_LAMINATES; ii++) {
+            Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat" + ii, false);
+            double[] angles = {0.0, 5.0 * ii, -5.0 * ii, 90.0};
+            for (int jj = 0; jj < angles.length; jj++) {
+                lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + jj, mat, angles[jj], 0.125 * (1 + ii % 3)));
+            }
+            lam.setSymmetric(true);
+            new CLT_Laminate(lam);
+
+            CalculationModuleData calculation = new CalculationModuleData(lam);
+            calculation.getDataHolder().getLoad().setN_x(100.0 + 10.0 * ii);
+            calculation.getDataHolder().getLoad().setN_xy(20.0);
+            lam.getLookup().add(calculation);
+
+            BucklingInput bucklingInput = new BucklingInput();
+            bucklingInput.setNx(-1.0);
+            bucklingInput.setNxy(0.1 * ii);
+            bucklingInput.setM(6);
+            bucklingInput.setN(6);
+            bucklingInput.setInteractionPoints(8);
+            bucklingInput.setInteractionComponent1(BucklingInteraction.NX);
+            bucklingInput.setInteractionComponent2(BucklingInteraction.NXY);
+            lam.getLookup().add(new BucklingModuleData(lam, bucklingInput));
+
+            LastPlyFailureModuleData lastPlyFailure = new LastPlyFailureModuleData(lam);
+            lastPlyFailure.getLastPlyFailureInput().getLoad().setN_x(100.0);
+            lastPlyFailure.getLastPlyFailureInput().getLoad().setN_y(10.0 * ii);
+            lastPlyFailure.getLastPlyFailureInput().setEnvelopePoints(8);
+            lam.getLookup().add(lastPlyFailure);
+
+            laminates.add(lam);
+        }
+        return laminates;
+    }
+
+    private static byte[] run(List<Laminat> laminates, int numberOfThreads, File hdf5File) {
+        // Registrierte Services wie in eLamXOptionProcessor
+        List<BatchRunService> services = new ArrayList<>(Lookup.getDefault().lookupAll(BatchRunService.class));
+        HDF5OutputWriterService hdf5WriterService = Lookup.getDefault().lookupAll(HDF5OutputWriterService.class).iterator().next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IHDF5Writer hdf5out = HDF5Factory.configure(hdf5File).overwrite().writer();
+        try (PrintStream out = new PrintStream(bytes)) {
+            hdf5out.object().createGroup("materials");
+            hdf5out.object().createGroup("laminates");
+            new BatchRunner(new GeneralOutputWriterServiceImpl(), hdf5WriterService, services, 0, numberOfThreads).run(laminates, out, hdf5out);
+        } finally {
+            hdf5out.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testParallelOutputEqualsSerialOutput() throws IOException {
+        List<Laminat> laminates = createLaminates();
+
+        File serialFile = File.createTempFile("batchrun_serial", ".h5");
+        serialFile.deleteOnExit();
+        byte[] serial = run(laminates, 1, serialFile);
+
+        String text = new String(serial, StandardCharsets.UTF_8);
+        assertTrue(text.contains("CLASSICAL LAMINATED PLATE THEORY"));
+        assertTrue(text.contains("BUCKLING INTERACTION CURVE"));
+        assertTrue(text.contains("FIRST/LAST PLY FAILURE ENVELOPE"));
+
+        for (int numberOfThreads : new int[]{4, 2 * NUMBER_OF_LAMINATES}) {
+            File parallelFile = File.createTempFile("batchrun_parallel", ".h5");
+            parallelFile.deleteOnExit();
+            assertArrayEquals(serial, run(laminates, numberOfThreads, parallelFile));
+
+            IHDF5Reader expected = HDF5Factory.openForReading(serialFile);
+            IHDF5Reader actual = HDF5Factory.openForReading(parallelFile);
+            try {
+                assertSameContent(expected, actual, "/");
+            } finally {
+                expected.close();
+                actual.close();
+            }
+        }
+    }
+
+    /**
+     * Vergleicht die Gruppen, Datensätze und Attributnamen zweier hdf5-Dateien
+     * rekursiv ab der übergebenen Gruppe.
+     */
+    private static void assertSameContent(IHDF5Reader expected, IHDF5Reader actual, String group) {
+        List<String> paths = expected.object().getGroupMemberPaths(group);
+        assertEquals(paths, actual.object().getGroupMemberPaths(group));
+        for (String path : paths) {
+            assertEquals(path, expected.object().getAttributeNames(path), actual.object().getAttributeNames(path));
+            if (expected.object().isGroup(path)) {
+                assertTrue(path, actual.object().isGroup(path));
+                assertSameContent(expected, actual, path);
+            } else if (expected.object().getDataSetInformation(path).getTypeInformation().getDataClass() == HDF5DataClass.STRING) {
+                if (expected.object().getDataSetInformation(path).getRank() == 0) {
+                    assertEquals(path, expected.string().read(path), actual.string().read(path));
+                } else {
+                    assertEquals(path, Arrays.asList(expected.string().readArray(path)), Arrays.asList(actual.string().readArray(path)));
+                }
+            } else {
+                assertArrayEquals(expected.opaque().readArray(path), actual.opaque().readArray(path));
+            }
+        }
+    }
+}
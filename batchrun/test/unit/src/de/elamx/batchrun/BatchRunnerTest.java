@@ -0,0 +1,177 @@
+/*
+ *  This program developed in Java is based on the netbeans platform and is used
+ *  to design and to analyse composite structures by means of analytical and 
+ *  numerical methods.
+ * 
+ *  Further information can be found here:
+ *  http://www.elamx.de
+ *    
+ *  Copyright (C) 2021 Technische Universität Dresden - Andreas Hauffe
+ * 
+ *  This file is part of eLamX².
+ *
+ *  eLamX² is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  eLamX² is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with eLamX².  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.elamx.batchrun;
+
+import ch.systemsx.cisd.hdf5.IHDF5Writer;
+import de.elamx.clt.CLT_Laminate;
+import de.elamx.core.BatchRunOutput;
+import de.elamx.core.BatchRunService;
+import de.elamx.core.GeneralOutputWriterService;
+import de.elamx.laminate.DataLayer;
+import de.elamx.laminate.DefaultMaterial;
+import de.elamx.laminate.Laminat;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Vergleich der Ausgaben des parallelen und des seriellen Batch-Laufs.
+ *
+ * @author Andreas Hauffe
+ */
+public class BatchRunnerTest {
+
+    private static final int NUMBER_OF_LAMINATES = 60;
+
+    public BatchRunnerTest() {
+    }
+
+    private static List<Laminat> createLaminates() {
+        DefaultMaterial mat = new DefaultMaterial(UUID.randomUUID().toString(), "Mat1", 132700.0, 9300.0, 0.28, 4600.0, 1.5E-9, false);
+        List<Laminat> laminates = new ArrayList<>();
+        for (int ii = 0; ii < NUMBER_OF_LAMINATES; ii++) {
+            Laminat lam = new Laminat(UUID.randomUUID().toString(), "Laminat" + ii, false);
+            double[] angles = {0.0, 3.0 * ii, -3.0 * ii, 90.0};
+            for (int jj = 0; jj < angles.length; jj++) {
+                lam.addLayer(new DataLayer(UUID.randomUUID().toString(), "Layer" + jj, mat, angles[jj], 0.125 * (1 + ii % 3)));
+            }
+            lam.setSymmetric(ii % 2 == 0);
+            laminates.add(lam);
+        }
+        return laminates;
+    }
+
+    private static byte[] run(List<Laminat> laminates, int numberOfThreads) {
+        List<BatchRunService> services = Arrays.asList(new StiffnessService(), new SerialOnlyService());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(bytes)) {
+            new BatchRunner(new NameWriter(), null, services, 0, numberOfThreads).run(laminates, out, null);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testParallelOutputEqualsSerialOutput() {
+        List<Laminat> laminates = createLaminates();
+
+        byte[] serial = run(laminates, 1);
+        assertTrue(serial.length > 0);
+        for (int numberOfThreads : new int[]{2, 4, 8}) {
+            assertArrayEquals(serial, run(laminates, numberOfThreads));
+        }
+    }
+
+    /**
+     * Die Module erhalten nur die Threads, die nicht für die Laminate benötigt
+     * werden.
+     */
+    @Test
+    public void testThreadsPassedToServices() {
+        List<Laminat> laminates = createLaminates();
+        for (int[] c : new int[][]{{1, 1, 1}, {4, 1, 4}, {8, 2, 4}, {4, NUMBER_OF_LAMINATES, 1}}) {
+            ThreadCountService service = new ThreadCountService();
+            new BatchRunner(new NameWriter(), null, Arrays.asList(service), 0, c[0])
+                    .run(laminates.subList(0, c[1]), new PrintStream(new ByteArrayOutputStream()), null);
+            assertEquals(c[1], service.calls.get());
+            assertEquals(c[2], service.maxThreads.get());
+        }
+    }
+
+    private static class NameWriter implements GeneralOutputWriterService {
+
+        @Override
+        public void writeHeader(PrintStream out, File inputFile, String inputFileMD5, Date date) {
+        }
+
+        @Override
+        public void writeLaminateInformation(PrintStream out, Laminat laminate) {
+            out.println("laminate: " + laminate.getName());
+        }
+    }
+
+    /**
+     * Service mit getrennter Berechnung und Ausgabe.
+     */
+    private static class StiffnessService implements BatchRunService {
+
+        @Override
+        public void performBatchTasksAndOutput(Laminat laminate, PrintStream ps, IHDF5Writer hdf5writer, int outputType) {
+            performBatchTasks(laminate, outputType).write(ps, hdf5writer);
+        }
+
+        @Override
+        public BatchRunOutput performBatchTasks(Laminat laminate, int outputType) {
+            double[][] abd = CLT_Laminate.createDetached(laminate).getABDMatrix();
+            return (ps, hdf5writer) -> {
+                for (double[] row : abd) {
+                    ps.println(Arrays.toString(row));
+                }
+            };
+        }
+    }
+
+    /**
+     * Service, der die übergebene Anzahl der Threads protokolliert.
+     */
+    private static class ThreadCountService implements BatchRunService {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger maxThreads = new AtomicInteger();
+
+        @Override
+        public void performBatchTasksAndOutput(Laminat laminate, PrintStream ps, IHDF5Writer hdf5writer, int outputType) {
+            performBatchTasks(laminate, outputType).write(ps, hdf5writer);
+        }
+
+        @Override
+        public BatchRunOutput performBatchTasks(Laminat laminate, int outputType, int numberOfThreads) {
+            calls.incrementAndGet();
+            maxThreads.accumulateAndGet(numberOfThreads, Math::max);
+            return (ps, hdf5writer) -> {};
+        }
+    }
+
+    /**
+     * Service ohne getrennte Berechnung (Standardimplementierung).
+     */
+    private static class SerialOnlyService implements BatchRunService {
+
+        @Override
+        public void performBatchTasksAndOutput(Laminat laminate, PrintStream ps, IHDF5Writer hdf5writer, int outputType) {
+            ps.println("thickness: " + laminate.getThickness());
+        }
+    }
+}